@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.client.lookup;
+
+import org.apache.fluss.annotation.Internal;
+import org.apache.fluss.annotation.VisibleForTesting;
+import org.apache.fluss.config.ConfigOptions;
+import org.apache.fluss.config.Configuration;
+import org.apache.fluss.metadata.TableBucket;
+import org.apache.fluss.shaded.guava32.com.google.common.base.Ticker;
+import org.apache.fluss.shaded.guava32.com.google.common.cache.Cache;
+import org.apache.fluss.shaded.guava32.com.google.common.cache.CacheBuilder;
+import org.apache.fluss.utils.IOUtils;
+import org.apache.fluss.utils.clock.Clock;
+import org.apache.fluss.utils.clock.SystemClock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * A bounded cache of the primary key lookup results, keyed by the bucket and the encoded key. The
+ * least recently used results are evicted when the cache is full, and the results expire after
+ * {@link ConfigOptions#CLIENT_LOOKUP_CACHE_TTL} since they were fetched from the server.
+ *
+ * <p>If {@link ConfigOptions#CLIENT_LOOKUP_CACHE_CHANGELOG_INVALIDATION_ENABLED} is set, the
+ * results of a table are only cached while a {@link LookupCacheInvalidator} tails the changelog of
+ * the table and invalidates the changed keys.
+ *
+ * <p>A result fetched by a lookup request may be outdated by a change invalidated while the request
+ * is in flight. To not cache such results, the cache keeps a generation for each stripe of keys
+ * that is increased on invalidation, and a result is only cached if the generation of its key
+ * hasn't changed since the request was sent.
+ *
+ * <p>The results are held in a concurrent cache, so the lookups of different keys don't contend on
+ * a lock.
+ */
+@Internal
+@ThreadSafe
+public class LookupCache implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LookupCache.class);
+
+    private static final int NUM_GENERATION_STRIPES = 1024;
+
+    private final boolean changelogInvalidation;
+
+    private final Cache<CacheKey, CacheEntry> entries;
+
+    private final AtomicLongArray generations;
+
+    /** The invalidators of the tables, only used if changelog invalidation is enabled. */
+    private final Map<Long, LookupCacheInvalidator> invalidators = new ConcurrentHashMap<>();
+
+    @VisibleForTesting
+    LookupCache(long maxRows, long ttlMs, boolean changelogInvalidation, Clock clock) {
+        this.changelogInvalidation = changelogInvalidation;
+        this.entries =
+                CacheBuilder.newBuilder()
+                        .maximumSize(maxRows)
+                        .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+                        .ticker(
+                                new Ticker() {
+                                    @Override
+                                    public long read() {
+                                        return clock.nanoseconds();
+                                    }
+                                })
+                        .build();
+        this.generations = new AtomicLongArray(NUM_GENERATION_STRIPES);
+    }
+
+    /** Creates the lookup cache configured by the given configuration, null if it is disabled. */
+    @Nullable
+    static LookupCache create(Configuration conf) {
+        long maxRows = conf.get(ConfigOptions.CLIENT_LOOKUP_CACHE_MAX_ROWS);
+        if (maxRows <= 0) {
+            return null;
+        }
+        return new LookupCache(
+                maxRows,
+                conf.get(ConfigOptions.CLIENT_LOOKUP_CACHE_TTL).toMillis(),
+                conf.get(ConfigOptions.CLIENT_LOOKUP_CACHE_CHANGELOG_INVALIDATION_ENABLED),
+                SystemClock.getInstance());
+    }
+
+    public boolean isChangelogInvalidationEnabled() {
+        return changelogInvalidation;
+    }
+
+    /**
+     * Starts tailing the changelog of the given table to invalidate its cached results if it is not
+     * started yet. The results of the table are cached only once the invalidator is started.
+     */
+    public void startChangelogInvalidation(
+            long tableId, Supplier<LookupCacheInvalidator> invalidatorFactory) {
+        if (!changelogInvalidation) {
+            return;
+        }
+        try {
+            invalidators.computeIfAbsent(tableId, id -> invalidatorFactory.get());
+        } catch (Exception e) {
+            LOG.warn(
+                    "Failed to start the changelog invalidation of table {}, "
+                            + "its lookup results won't be cached.",
+                    tableId,
+                    e);
+        }
+    }
+
+    /** Returns true if the lookup results of the given table can be cached. */
+    boolean isCacheable(long tableId) {
+        if (!changelogInvalidation) {
+            return true;
+        }
+        LookupCacheInvalidator invalidator = invalidators.get(tableId);
+        return invalidator != null && invalidator.isRunning();
+    }
+
+    /**
+     * Returns the cached result of the given key, or null if the key isn't cached. Note that the
+     * value of the returned entry is null if the key is cached as not existing.
+     */
+    @Nullable
+    CacheEntry get(TableBucket tableBucket, byte[] key) {
+        return entries.getIfPresent(new CacheKey(tableBucket, key));
+    }
+
+    /** Returns the current generation of the given key, which must be passed to {@link #put}. */
+    long generation(TableBucket tableBucket, byte[] key) {
+        return generations.get(stripe(new CacheKey(tableBucket, key)));
+    }
+
+    /**
+     * Caches the result of the given key fetched by a request sent at the given generation of the
+     * key. The result is dropped if the key has been invalidated since.
+     */
+    void put(TableBucket tableBucket, byte[] key, @Nullable byte[] value, long generation) {
+        CacheKey cacheKey = new CacheKey(tableBucket, key);
+        int stripe = stripe(cacheKey);
+        if (generations.get(stripe) != generation) {
+            return;
+        }
+        CacheEntry entry = new CacheEntry(value);
+        entries.put(cacheKey, entry);
+        // the key may be invalidated between the check and the put, the invalidation increases
+        // the generation before removing the key, so check again to not keep an outdated result
+        if (generations.get(stripe) != generation) {
+            entries.asMap().remove(cacheKey, entry);
+        }
+    }
+
+    /** Invalidates the cached result of the given key. */
+    void invalidate(TableBucket tableBucket, byte[] key) {
+        CacheKey cacheKey = new CacheKey(tableBucket, key);
+        // increase the generation first, so that the in-flight lookups of the key are not cached
+        generations.incrementAndGet(stripe(cacheKey));
+        entries.invalidate(cacheKey);
+    }
+
+    /** Invalidates all the cached results of the given table. */
+    void invalidateTable(long tableId) {
+        for (int i = 0; i < NUM_GENERATION_STRIPES; i++) {
+            generations.incrementAndGet(i);
+        }
+        entries.asMap().keySet().removeIf(key -> key.tableBucket.getTableId() == tableId);
+    }
+
+    @VisibleForTesting
+    int size() {
+        entries.cleanUp();
+        return (int) entries.size();
+    }
+
+    @Override
+    public void close() {
+        LOG.info("Closing lookup cache.");
+        IOUtils.closeAllQuietly(new ArrayList<>(invalidators.values()));
+        invalidators.clear();
+        entries.invalidateAll();
+    }
+
+    private static int stripe(CacheKey cacheKey) {
+        return (cacheKey.hashCode() & Integer.MAX_VALUE) % NUM_GENERATION_STRIPES;
+    }
+
+    /** A cached lookup result. */
+    static final class CacheEntry {
+        @Nullable private final byte[] value;
+
+        private CacheEntry(@Nullable byte[] value) {
+            this.value = value;
+        }
+
+        /** The value of the key, null if the key doesn't exist. */
+        @Nullable
+        byte[] value() {
+            return value;
+        }
+    }
+
+    private static final class CacheKey {
+        private final TableBucket tableBucket;
+        private final byte[] key;
+        private final int hashCode;
+
+        private CacheKey(TableBucket tableBucket, byte[] key) {
+            this.tableBucket = tableBucket;
+            this.key = key;
+            this.hashCode = 31 * tableBucket.hashCode() + Arrays.hashCode(key);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey that = (CacheKey) o;
+            return Objects.equals(tableBucket, that.tableBucket) && Arrays.equals(key, that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
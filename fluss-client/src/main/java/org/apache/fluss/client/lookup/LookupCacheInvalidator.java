@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.client.lookup;
+
+import org.apache.fluss.annotation.Internal;
+import org.apache.fluss.client.admin.Admin;
+import org.apache.fluss.client.admin.OffsetSpec;
+import org.apache.fluss.client.table.Table;
+import org.apache.fluss.client.table.scanner.ScanRecord;
+import org.apache.fluss.client.table.scanner.log.LogScanner;
+import org.apache.fluss.client.table.scanner.log.ScanRecords;
+import org.apache.fluss.exception.FlussRuntimeException;
+import org.apache.fluss.metadata.TableBucket;
+import org.apache.fluss.metadata.TableInfo;
+import org.apache.fluss.row.encode.KeyEncoder;
+import org.apache.fluss.utils.IOUtils;
+import org.apache.fluss.utils.concurrent.ExecutorThreadFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.fluss.utils.Preconditions.checkArgument;
+
+/**
+ * Tails the changelog of a primary key table from its latest offsets and invalidates the changed
+ * keys in the {@link LookupCache}. If tailing the changelog fails, all the cached results of the
+ * table are invalidated and the table is no longer cached.
+ */
+@Internal
+public class LookupCacheInvalidator implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LookupCacheInvalidator.class);
+
+    private static final String INVALIDATOR_THREAD_PREFIX = "fluss-lookup-cache-invalidator";
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(100);
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(10);
+
+    private final TableInfo tableInfo;
+    private final Table table;
+    private final LookupCache lookupCache;
+    private final KeyEncoder primaryKeyEncoder;
+    private final LogScanner logScanner;
+    private final Thread thread;
+
+    private volatile boolean running;
+
+    public LookupCacheInvalidator(Table table, Admin admin, LookupCache lookupCache) {
+        this.table = table;
+        this.tableInfo = table.getTableInfo();
+        checkArgument(
+                tableInfo.hasPrimaryKey() && !tableInfo.isPartitioned(),
+                "Changelog invalidation of lookup cache only supports non-partitioned primary key table, but got %s.",
+                tableInfo.getTablePath());
+        this.lookupCache = lookupCache;
+        this.primaryKeyEncoder =
+                KeyEncoder.ofPrimaryKeyEncoder(
+                        tableInfo.getRowType(),
+                        tableInfo.getPhysicalPrimaryKeys(),
+                        tableInfo.getTableConfig(),
+                        tableInfo.isDefaultBucketKey());
+
+        List<Integer> buckets = new ArrayList<>();
+        for (int bucket = 0; bucket < tableInfo.getNumBuckets(); bucket++) {
+            buckets.add(bucket);
+        }
+        Map<Integer, Long> latestOffsets;
+        try {
+            latestOffsets =
+                    admin.listOffsets(
+                                    tableInfo.getTablePath(), buckets, new OffsetSpec.LatestSpec())
+                            .all()
+                            .get();
+        } catch (Exception e) {
+            throw new FlussRuntimeException(
+                    "Failed to list the latest offsets of table " + tableInfo.getTablePath(), e);
+        }
+        this.logScanner = table.newScan().createLogScanner();
+        latestOffsets.forEach(logScanner::subscribe);
+
+        this.running = true;
+        this.thread =
+                new ExecutorThreadFactory(INVALIDATOR_THREAD_PREFIX + "-" + tableInfo.getTableId())
+                        .newThread(this::run);
+        thread.start();
+    }
+
+    /** Returns true if the invalidator is tailing the changelog. */
+    boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                ScanRecords scanRecords = logScanner.poll(POLL_TIMEOUT);
+                for (TableBucket tableBucket : scanRecords.buckets()) {
+                    for (ScanRecord record : scanRecords.records(tableBucket)) {
+                        lookupCache.invalidate(
+                                tableBucket, primaryKeyEncoder.encodeKey(record.getRow()));
+                    }
+                }
+            }
+        } catch (Throwable t) {
+            if (running) {
+                LOG.error(
+                        "Failed to tail the changelog of table {}, stop caching its lookup results.",
+                        tableInfo.getTablePath(),
+                        t);
+                running = false;
+                lookupCache.invalidateTable(tableInfo.getTableId());
+            }
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        running = false;
+        logScanner.wakeup();
+        thread.join(CLOSE_TIMEOUT.toMillis());
+        if (thread.isAlive()) {
+            LOG.warn(
+                    "The lookup cache invalidator of table {} didn't stop within {}, interrupting it.",
+                    tableInfo.getTablePath(),
+                    CLOSE_TIMEOUT);
+            thread.interrupt();
+        }
+        IOUtils.closeQuietly(logScanner, "lookup cache invalidator log scanner");
+        IOUtils.closeQuietly(table, "lookup cache invalidator table");
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.fluss.client.lookup;
 
 import org.apache.fluss.annotation.Internal;
 import org.apache.fluss.client.metadata.MetadataUpdater;
+import org.apache.fluss.cluster.BucketLocation;
 import org.apache.fluss.config.ConfigOptions;
 import org.apache.fluss.config.Configuration;
 import org.apache.fluss.metadata.TableBucket;
@@ -28,6 +29,7 @@ import org.apache.fluss.utils.concurrent.ExecutorThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 import java.time.Duration;
@@ -48,6 +50,9 @@ import java.util.concurrent.TimeUnit;
  * called, it adds the lookup operation to a queue of pending lookup operations and immediately
  * returns. This allows the lookup operations to batch together individual lookup operations for
  * efficiency.
+ *
+ * <p>If {@link ConfigOptions#CLIENT_LOOKUP_CACHE_MAX_ROWS} is set, the results of primary key
+ * lookups are cached in a {@link LookupCache} shared by all the lookupers of the client.
  */
 @ThreadSafe
 @Internal
@@ -62,8 +67,17 @@ public class LookupClient {
     private final ExecutorService lookupSenderThreadPool;
     private final LookupSender lookupSender;
 
+    @Nullable private final LookupCache lookupCache;
+
     public LookupClient(Configuration conf, MetadataUpdater metadataUpdater) {
-        this.lookupQueue = new LookupQueue(conf);
+        this.lookupQueue =
+                new LookupQueue(
+                        conf,
+                        tableBucket ->
+                                metadataUpdater
+                                        .getBucketLocation(tableBucket)
+                                        .map(BucketLocation::getLeader));
+        this.lookupCache = LookupCache.create(conf);
         this.lookupSenderThreadPool = createThreadPool();
         short acks = configureAcks(conf);
         this.lookupSender =
@@ -100,6 +114,34 @@ public class LookupClient {
             TableBucket tableBucket,
             byte[] keyBytes,
             boolean insertIfNotExists) {
+        if (lookupCache == null || !lookupCache.isCacheable(tableBucket.getTableId())) {
+            return sendLookup(tablePath, tableBucket, keyBytes, insertIfNotExists);
+        }
+
+        if (insertIfNotExists) {
+            // the lookup may insert the key, which must not be served from the cache
+            return sendLookup(tablePath, tableBucket, keyBytes, true)
+                    .whenComplete((value, error) -> lookupCache.invalidate(tableBucket, keyBytes));
+        }
+
+        LookupCache.CacheEntry cacheEntry = lookupCache.get(tableBucket, keyBytes);
+        if (cacheEntry != null) {
+            return CompletableFuture.completedFuture(cacheEntry.value());
+        }
+        long generation = lookupCache.generation(tableBucket, keyBytes);
+        return sendLookup(tablePath, tableBucket, keyBytes, false)
+                .thenApply(
+                        value -> {
+                            lookupCache.put(tableBucket, keyBytes, value, generation);
+                            return value;
+                        });
+    }
+
+    private CompletableFuture<byte[]> sendLookup(
+            TablePath tablePath,
+            TableBucket tableBucket,
+            byte[] keyBytes,
+            boolean insertIfNotExists) {
         LookupQuery lookup = new LookupQuery(tablePath, tableBucket, keyBytes, insertIfNotExists);
         lookupQueue.appendLookup(lookup);
         return lookup.future();
@@ -112,6 +154,12 @@ public class LookupClient {
         return prefixLookup.future();
     }
 
+    /** Returns the cache of the lookup results, null if the cache is disabled. */
+    @Nullable
+    public LookupCache getLookupCache() {
+        return lookupCache;
+    }
+
     public void close(Duration timeout) {
         LOG.info("Closing lookup client and lookup sender.");
 
@@ -140,6 +188,10 @@ public class LookupClient {
         if (lookupSender != null) {
             lookupSender.forceClose();
         }
+
+        if (lookupCache != null) {
+            lookupCache.close();
+        }
         LOG.info("Lookup client closed.");
     }
 }
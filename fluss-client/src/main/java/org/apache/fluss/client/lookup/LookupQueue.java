@@ -21,40 +21,93 @@ import org.apache.fluss.annotation.Internal;
 import org.apache.fluss.annotation.VisibleForTesting;
 import org.apache.fluss.config.ConfigOptions;
 import org.apache.fluss.config.Configuration;
+import org.apache.fluss.metadata.TableBucket;
 
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
 
 /**
- * A queue that buffers the pending lookup operations and provides a list of {@link LookupQuery}
- * when call method {@link #drain()}.
+ * An accumulator that buffers the pending lookup operations into batches per destination, similar
+ * to the {@code RecordAccumulator} of the writer, and provides the ready lookups when call method
+ * {@link #drain(IntPredicate)}.
+ *
+ * <p>A destination is the leader tablet server and lookup type of the lookups, as the sender merges
+ * the lookups of the buckets led by the same tablet server into one request. The buckets whose
+ * leader is unknown are each their own destination. The destination of a lookup is resolved from
+ * the metadata when it is appended, outside the lock of the queue, and the sender resolves the
+ * leader again when sending, so a leader change only delays the lookups of the old destination.
+ *
+ * <p>A destination is ready when it has {@link ConfigOptions#CLIENT_LOOKUP_MAX_BATCH_SIZE} pending
+ * lookups or its oldest lookup has been waiting for {@link
+ * ConfigOptions#CLIENT_LOOKUP_BATCH_TIMEOUT}. The number of pending lookups is bounded by {@link
+ * ConfigOptions#CLIENT_LOOKUP_QUEUE_SIZE}, appending blocks when the bound is reached.
  */
 @ThreadSafe
 @Internal
 class LookupQueue {
 
-    private volatile boolean closed;
-    // buffering both the Lookup and PrefixLookup.
-    // TODO This queue could be refactored into a memory-managed queue similar to
-    // RecordAccumulator, which would significantly improve the efficiency of lookup batching. Trace
-    // by https://github.com/apache/fluss/issues/2124
-    private final ArrayBlockingQueue<AbstractLookupQuery<?>> lookupQueue;
-    private final BlockingQueue<AbstractLookupQuery<?>> reEnqueuedLookupQueue;
+    private final int maxPendingLookups;
     private final int maxBatchSize;
     private final long batchTimeoutNanos;
+    private final Function<TableBucket, Optional<Integer>> leaderResolver;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Condition readyOrChanged = lock.newCondition();
+
+    /**
+     * The batches of the pending lookups per destination, in the order of their creation, which is
+     * also the order they linger out.
+     */
+    @GuardedBy("lock")
+    private final LinkedHashMap<Destination, PendingBatch> pendingBatches = new LinkedHashMap<>();
+
+    /** The destinations with at least {@link #maxBatchSize} pending lookups. */
+    @GuardedBy("lock")
+    private final Set<Destination> fullDestinations = new LinkedHashSet<>();
+
+    /** The lookups to retry, they are not bounded and drained before the pending batches. */
+    @GuardedBy("lock")
+    private final ArrayDeque<ReEnqueuedLookup> reEnqueuedLookups = new ArrayDeque<>();
+
+    @GuardedBy("lock")
+    private int numPendingLookups;
+
+    private volatile boolean closed;
 
+    @VisibleForTesting
     LookupQueue(Configuration conf) {
-        this.lookupQueue =
-                new ArrayBlockingQueue<>(conf.get(ConfigOptions.CLIENT_LOOKUP_QUEUE_SIZE));
-        this.reEnqueuedLookupQueue = new LinkedBlockingQueue<>();
+        this(conf, tableBucket -> Optional.empty());
+    }
+
+    /**
+     * Creates a lookup queue.
+     *
+     * @param leaderResolver resolves the currently known leader tablet server of a bucket
+     */
+    LookupQueue(Configuration conf, Function<TableBucket, Optional<Integer>> leaderResolver) {
+        this.maxPendingLookups = conf.get(ConfigOptions.CLIENT_LOOKUP_QUEUE_SIZE);
         this.maxBatchSize = conf.get(ConfigOptions.CLIENT_LOOKUP_MAX_BATCH_SIZE);
         this.batchTimeoutNanos = conf.get(ConfigOptions.CLIENT_LOOKUP_BATCH_TIMEOUT).toNanos();
+        this.leaderResolver = leaderResolver;
         this.closed = false;
     }
 
@@ -64,10 +117,29 @@ class LookupQueue {
                     "Can not append lookup operation since the LookupQueue is closed.");
         }
 
+        Destination destination = destination(lookup);
+        lock.lock();
         try {
-            lookupQueue.put(lookup);
+            while (numPendingLookups >= maxPendingLookups) {
+                notFull.await();
+            }
+            PendingBatch batch = pendingBatches.get(destination);
+            if (batch == null) {
+                batch = new PendingBatch(System.nanoTime());
+                pendingBatches.put(destination, batch);
+                // wake up the drainer to wait for the linger time of the new batch
+                readyOrChanged.signalAll();
+            }
+            batch.lookups.add(lookup);
+            numPendingLookups++;
+            if (batch.lookups.size() == maxBatchSize) {
+                fullDestinations.add(destination);
+                readyOrChanged.signalAll();
+            }
         } catch (InterruptedException e) {
             lookup.future().completeExceptionally(e);
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -77,72 +149,271 @@ class LookupQueue {
                     "Can not re-enqueue lookup operation since the LookupQueue is closed.");
         }
 
+        ReEnqueuedLookup reEnqueued = new ReEnqueuedLookup(lookup, destination(lookup).serverId);
+        lock.lock();
         try {
-            reEnqueuedLookupQueue.put(lookup);
-        } catch (InterruptedException e) {
-            lookup.future().completeExceptionally(e);
+            reEnqueuedLookups.add(reEnqueued);
+            readyOrChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wakes up the waiting {@link #drain(IntPredicate)}, e.g., when a tablet server has capacity.
+     */
+    void wakeup() {
+        lock.lock();
+        try {
+            readyOrChanged.signalAll();
+        } finally {
+            lock.unlock();
         }
     }
 
     boolean hasUnDrained() {
-        return !lookupQueue.isEmpty() || !reEnqueuedLookupQueue.isEmpty();
+        lock.lock();
+        try {
+            return numPendingLookups > 0 || !reEnqueuedLookups.isEmpty();
+        } finally {
+            lock.unlock();
+        }
     }
 
-    /** Drain a batch of {@link LookupQuery}s from the lookup queue. */
+    /** Drain the ready lookups of all the destinations, see {@link #drain(IntPredicate)}. */
+    @VisibleForTesting
     List<AbstractLookupQuery<?>> drain() throws Exception {
-        final long startNanos = System.nanoTime();
-        List<AbstractLookupQuery<?>> lookupOperations = new ArrayList<>(maxBatchSize);
-        int count = 0;
-        while (true) {
-            long waitNanos = batchTimeoutNanos - (System.nanoTime() - startNanos);
-            if (waitNanos <= 0) {
-                break;
+        return drain(serverId -> true);
+    }
+
+    /**
+     * Drain the re-enqueued lookups and the lookups of the ready destinations, at most {@link
+     * ConfigOptions#CLIENT_LOOKUP_MAX_BATCH_SIZE} lookups per destination. Waits up to {@link
+     * ConfigOptions#CLIENT_LOOKUP_BATCH_TIMEOUT} for a destination to become ready, and returns an
+     * empty list if none does.
+     *
+     * @param sendable tests whether the lookups to the given leader tablet server can be sent now,
+     *     the lookups that can't be sent are kept in the queue. The lookups of buckets without
+     *     known leader are always drained.
+     */
+    List<AbstractLookupQuery<?>> drain(IntPredicate sendable) throws Exception {
+        final long deadlineNanos = System.nanoTime() + batchTimeoutNanos;
+        List<AbstractLookupQuery<?>> lookupOperations = new ArrayList<>();
+        lock.lock();
+        try {
+            while (true) {
+                long nowNanos = System.nanoTime();
+                long nextReadyNanos = drainReady(lookupOperations, sendable, nowNanos);
+                if (!lookupOperations.isEmpty()) {
+                    return lookupOperations;
+                }
+                long waitNanos = Math.min(nextReadyNanos, deadlineNanos) - nowNanos;
+                if (waitNanos <= 0) {
+                    return lookupOperations;
+                }
+                readyOrChanged.awaitNanos(waitNanos);
             }
+        } finally {
+            lock.unlock();
+        }
+    }
 
-            while (!reEnqueuedLookupQueue.isEmpty() && count < maxBatchSize) {
-                AbstractLookupQuery<?> lookup =
-                        reEnqueuedLookupQueue.poll(waitNanos, TimeUnit.NANOSECONDS);
-                if (lookup == null) {
-                    break;
+    /**
+     * Moves the sendable re-enqueued lookups and the lookups of the ready destinations to the given
+     * list. Only the full destinations and the lingered out destinations are visited.
+     *
+     * @return the time in nanos the next not-ready destination becomes ready, or {@link
+     *     Long#MAX_VALUE}
+     */
+    @GuardedBy("lock")
+    private long drainReady(
+            List<AbstractLookupQuery<?>> lookupOperations, IntPredicate sendable, long nowNanos) {
+        Iterator<ReEnqueuedLookup> reEnqueued = reEnqueuedLookups.iterator();
+        while (reEnqueued.hasNext()) {
+            ReEnqueuedLookup lookup = reEnqueued.next();
+            if (isSendable(lookup.serverId, sendable)) {
+                lookupOperations.add(lookup.lookup);
+                reEnqueued.remove();
+            }
+        }
+
+        int drained = 0;
+        Set<Destination> drainedDestinations =
+                fullDestinations.isEmpty() ? Collections.emptySet() : new HashSet<>();
+        Iterator<Destination> full = fullDestinations.iterator();
+        while (full.hasNext()) {
+            Destination destination = full.next();
+            PendingBatch batch = pendingBatches.get(destination);
+            if (isSendable(destination.serverId, sendable)) {
+                drained += drainBatch(batch, lookupOperations);
+                drainedDestinations.add(destination);
+                if (batch.lookups.size() < maxBatchSize) {
+                    full.remove();
+                }
+                if (batch.lookups.isEmpty()) {
+                    pendingBatches.remove(destination);
                 }
-                lookupOperations.add(lookup);
-                count++;
             }
+        }
 
-            AbstractLookupQuery<?> lookup = lookupQueue.poll(waitNanos, TimeUnit.NANOSECONDS);
-            if (lookup == null) {
+        // the batches linger out in the order of their creation
+        long nextReadyNanos = Long.MAX_VALUE;
+        Iterator<Map.Entry<Destination, PendingBatch>> batches =
+                pendingBatches.entrySet().iterator();
+        while (batches.hasNext()) {
+            Map.Entry<Destination, PendingBatch> entry = batches.next();
+            Destination destination = entry.getKey();
+            PendingBatch batch = entry.getValue();
+            long readyNanos = batch.createdNanos + batchTimeoutNanos;
+            if (!closed && readyNanos > nowNanos) {
+                nextReadyNanos = readyNanos;
                 break;
             }
-            lookupOperations.add(lookup);
-            count++;
-            int transferred = lookupQueue.drainTo(lookupOperations, maxBatchSize - count);
-            count += transferred;
-            if (count >= maxBatchSize) {
-                break;
+            if (!drainedDestinations.contains(destination)
+                    && isSendable(destination.serverId, sendable)) {
+                drained += drainBatch(batch, lookupOperations);
+                if (batch.lookups.size() < maxBatchSize) {
+                    fullDestinations.remove(destination);
+                }
+                if (batch.lookups.isEmpty()) {
+                    batches.remove();
+                }
             }
         }
-        return lookupOperations;
+
+        if (drained > 0) {
+            numPendingLookups -= drained;
+            notFull.signalAll();
+        }
+        return nextReadyNanos;
+    }
+
+    /** Moves at most {@link #maxBatchSize} lookups of the batch to the given list. */
+    @GuardedBy("lock")
+    private int drainBatch(PendingBatch batch, List<AbstractLookupQuery<?>> lookupOperations) {
+        int count = Math.min(maxBatchSize, batch.lookups.size());
+        for (int i = 0; i < count; i++) {
+            lookupOperations.add(batch.lookups.pollFirst());
+        }
+        return count;
+    }
+
+    private static boolean isSendable(int serverId, IntPredicate sendable) {
+        return serverId == Destination.UNKNOWN_LEADER || sendable.test(serverId);
     }
 
     /** Drain all the {@link LookupQuery}s from the lookup queue. */
     List<AbstractLookupQuery<?>> drainAll() {
-        List<AbstractLookupQuery<?>> lookupOperations = new ArrayList<>(lookupQueue.size());
-        lookupQueue.drainTo(lookupOperations);
-        reEnqueuedLookupQueue.drainTo(lookupOperations);
-        return lookupOperations;
+        lock.lock();
+        try {
+            List<AbstractLookupQuery<?>> lookupOperations =
+                    new ArrayList<>(numPendingLookups + reEnqueuedLookups.size());
+            for (ReEnqueuedLookup reEnqueued : reEnqueuedLookups) {
+                lookupOperations.add(reEnqueued.lookup);
+            }
+            reEnqueuedLookups.clear();
+            for (PendingBatch batch : pendingBatches.values()) {
+                lookupOperations.addAll(batch.lookups);
+            }
+            pendingBatches.clear();
+            fullDestinations.clear();
+            numPendingLookups = 0;
+            notFull.signalAll();
+            return lookupOperations;
+        } finally {
+            lock.unlock();
+        }
     }
 
     public void close() {
         closed = true;
+        wakeup();
     }
 
     @VisibleForTesting
-    ArrayBlockingQueue<AbstractLookupQuery<?>> getLookupQueue() {
-        return lookupQueue;
+    int numPendingLookups() {
+        lock.lock();
+        try {
+            return numPendingLookups;
+        } finally {
+            lock.unlock();
+        }
     }
 
     @VisibleForTesting
-    BlockingQueue<AbstractLookupQuery<?>> getReEnqueuedLookupQueue() {
-        return reEnqueuedLookupQueue;
+    int numReEnqueuedLookups() {
+        lock.lock();
+        try {
+            return reEnqueuedLookups.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Destination destination(AbstractLookupQuery<?> lookup) {
+        Optional<Integer> leader = leaderResolver.apply(lookup.tableBucket());
+        return leader.isPresent()
+                ? new Destination(leader.get(), null, lookup.lookupType())
+                : new Destination(
+                        Destination.UNKNOWN_LEADER, lookup.tableBucket(), lookup.lookupType());
+    }
+
+    /** The pending lookups of a destination. */
+    private static final class PendingBatch {
+        private final long createdNanos;
+        private final ArrayDeque<AbstractLookupQuery<?>> lookups = new ArrayDeque<>();
+
+        private PendingBatch(long createdNanos) {
+            this.createdNanos = createdNanos;
+        }
+    }
+
+    /** A lookup to retry with the leader tablet server resolved when it is re-enqueued. */
+    private static final class ReEnqueuedLookup {
+        private final AbstractLookupQuery<?> lookup;
+        private final int serverId;
+
+        private ReEnqueuedLookup(AbstractLookupQuery<?> lookup, int serverId) {
+            this.lookup = lookup;
+            this.serverId = serverId;
+        }
+    }
+
+    /**
+     * The leader tablet server and lookup type the lookups are sent with, or the bucket if its
+     * leader is unknown.
+     */
+    private static final class Destination {
+        private static final int UNKNOWN_LEADER = -1;
+
+        private final int serverId;
+        @Nullable private final TableBucket tableBucket;
+        private final LookupType lookupType;
+
+        private Destination(
+                int serverId, @Nullable TableBucket tableBucket, LookupType lookupType) {
+            this.serverId = serverId;
+            this.tableBucket = tableBucket;
+            this.lookupType = lookupType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Destination that = (Destination) o;
+            return serverId == that.serverId
+                    && Objects.equals(tableBucket, that.tableBucket)
+                    && lookupType == that.lookupType;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(serverId, tableBucket, lookupType);
+        }
     }
 }
@@ -50,6 +50,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
@@ -73,7 +74,11 @@ class LookupSender implements Runnable {
 
     private final LookupQueue lookupQueue;
 
-    private final Semaphore maxInFlightReuqestsSemaphore;
+    /** The max number of in-flight requests to each tablet server. */
+    private final int maxInFlightRequestsPerServer;
+
+    /** Tablet server id -> permits of the in-flight requests to the tablet server. */
+    private final Map<Integer, Semaphore> inFlightRequestsSemaphores = new ConcurrentHashMap<>();
 
     private final int maxRetries;
 
@@ -90,7 +95,7 @@ class LookupSender implements Runnable {
             int maxRequestTimeoutMs) {
         this.metadataUpdater = metadataUpdater;
         this.lookupQueue = lookupQueue;
-        this.maxInFlightReuqestsSemaphore = new Semaphore(maxFlightRequests);
+        this.maxInFlightRequestsPerServer = maxFlightRequests;
         this.maxRetries = maxRetries;
         this.running = true;
         this.acks = acks;
@@ -130,10 +135,39 @@ class LookupSender implements Runnable {
     /** Run a single iteration of sending. */
     private void runOnce(boolean drainAll) throws Exception {
         List<AbstractLookupQuery<?>> lookups =
-                drainAll ? lookupQueue.drainAll() : lookupQueue.drain();
+                drainAll ? lookupQueue.drainAll() : lookupQueue.drain(this::isSendable);
         sendLookups(lookups);
     }
 
+    /**
+     * Returns false if the tablet server has reached the max in-flight requests, so the lookups to
+     * it keep accumulating in the queue. The lookups of unknown leader are handled by {@link
+     * #groupByLeaderAndType}.
+     */
+    private boolean isSendable(int serverId) {
+        return inFlightRequestsSemaphore(serverId).availablePermits() > 0;
+    }
+
+    private Semaphore inFlightRequestsSemaphore(int destination) {
+        return inFlightRequestsSemaphores.computeIfAbsent(
+                destination, k -> new Semaphore(maxInFlightRequestsPerServer));
+    }
+
+    private void acquireInFlightRequest(Semaphore semaphore) {
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlussRuntimeException("interrupted:", e);
+        }
+    }
+
+    private void releaseInFlightRequest(Semaphore semaphore) {
+        semaphore.release();
+        // the lookups to the tablet server may be ready to drain now
+        lookupQueue.wakeup();
+    }
+
     private void sendLookups(List<AbstractLookupQuery<?>> lookups) throws Exception {
         if (lookups.isEmpty()) {
             return;
@@ -283,12 +317,8 @@ class LookupSender implements Runnable {
             LookupRequest lookupRequest,
             long tableId,
             Map<TableBucket, LookupBatch> lookupsByBucket) {
-        try {
-            maxInFlightReuqestsSemaphore.acquire();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new FlussRuntimeException("interrupted:", e);
-        }
+        Semaphore inFlightRequests = inFlightRequestsSemaphore(destination);
+        acquireInFlightRequest(inFlightRequests);
         gateway.lookup(lookupRequest)
                 .thenAccept(
                         lookupResponse -> {
@@ -296,7 +326,7 @@ class LookupSender implements Runnable {
                                 handleLookupResponse(
                                         tableId, destination, lookupResponse, lookupsByBucket);
                             } finally {
-                                maxInFlightReuqestsSemaphore.release();
+                                releaseInFlightRequest(inFlightRequests);
                             }
                         })
                 .exceptionally(
@@ -305,7 +335,7 @@ class LookupSender implements Runnable {
                                 handleLookupRequestException(e, destination, lookupsByBucket);
                                 return null;
                             } finally {
-                                maxInFlightReuqestsSemaphore.release();
+                                releaseInFlightRequest(inFlightRequests);
                             }
                         });
     }
@@ -316,12 +346,8 @@ class LookupSender implements Runnable {
             PrefixLookupRequest prefixLookupRequest,
             long tableId,
             Map<TableBucket, PrefixLookupBatch> lookupsByBucket) {
-        try {
-            maxInFlightReuqestsSemaphore.acquire();
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new FlussRuntimeException("interrupted:", e);
-        }
+        Semaphore inFlightRequests = inFlightRequestsSemaphore(destination);
+        acquireInFlightRequest(inFlightRequests);
         gateway.prefixLookup(prefixLookupRequest)
                 .thenAccept(
                         prefixLookupResponse -> {
@@ -332,7 +358,7 @@ class LookupSender implements Runnable {
                                         prefixLookupResponse,
                                         lookupsByBucket);
                             } finally {
-                                maxInFlightReuqestsSemaphore.release();
+                                releaseInFlightRequest(inFlightRequests);
                             }
                         })
                 .exceptionally(
@@ -341,7 +367,7 @@ class LookupSender implements Runnable {
                                 handlePrefixLookupException(e, destination, lookupsByBucket);
                                 return null;
                             } finally {
-                                maxInFlightReuqestsSemaphore.release();
+                                releaseInFlightRequest(inFlightRequests);
                             }
                         });
     }
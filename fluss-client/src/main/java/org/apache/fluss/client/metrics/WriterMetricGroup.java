@@ -27,6 +27,7 @@ import org.apache.fluss.metrics.MeterView;
 import org.apache.fluss.metrics.MetricNames;
 import org.apache.fluss.metrics.ThreadSafeSimpleCounter;
 import org.apache.fluss.metrics.groups.AbstractMetricGroup;
+import org.apache.fluss.metrics.groups.MetricGroup;
 import org.apache.fluss.rpc.metrics.ClientMetricGroup;
 
 import static org.apache.fluss.metrics.utils.MetricGroupUtils.makeScope;
@@ -97,6 +98,11 @@ public class WriterMetricGroup extends AbstractMetricGroup {
         return recordPerBatch;
     }
 
+    /** Returns the metric group of the given lane of the sender, see {@link WriterClient}. */
+    public MetricGroup senderLaneMetricGroup(int lane) {
+        return addGroup("sender", String.valueOf(lane));
+    }
+
     @Override
     protected String getGroupName(CharacterFilter filter) {
         return name;
@@ -20,6 +20,9 @@ package org.apache.fluss.client.table;
 import org.apache.fluss.annotation.PublicEvolving;
 import org.apache.fluss.client.FlussConnection;
 import org.apache.fluss.client.lookup.Lookup;
+import org.apache.fluss.client.lookup.LookupCache;
+import org.apache.fluss.client.lookup.LookupCacheInvalidator;
+import org.apache.fluss.client.lookup.LookupClient;
 import org.apache.fluss.client.lookup.TableLookup;
 import org.apache.fluss.client.metadata.ClientSchemaGetter;
 import org.apache.fluss.client.table.scanner.Scan;
@@ -69,8 +72,20 @@ public class FlussTable implements Table {
 
     @Override
     public Lookup newLookup() {
-        return new TableLookup(
-                tableInfo, schemaGetter, conn.getMetadataUpdater(), conn.getOrCreateLookupClient());
+        LookupClient lookupClient = conn.getOrCreateLookupClient();
+        LookupCache lookupCache = lookupClient.getLookupCache();
+        if (lookupCache != null
+                && lookupCache.isChangelogInvalidationEnabled()
+                && hasPrimaryKey
+                && !tableInfo.isPartitioned()) {
+            // the invalidator owns its own table instance, as it outlives this table
+            lookupCache.startChangelogInvalidation(
+                    tableInfo.getTableId(),
+                    () ->
+                            new LookupCacheInvalidator(
+                                    conn.getTable(tablePath), conn.getAdmin(), lookupCache));
+        }
+        return new TableLookup(tableInfo, schemaGetter, conn.getMetadataUpdater(), lookupClient);
     }
 
     @Override
@@ -30,6 +30,8 @@ import org.apache.fluss.utils.concurrent.ExecutorThreadFactory;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -39,12 +41,17 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
+import static org.apache.fluss.record.LogRecordBatchFormat.LENGTH_OFFSET;
+import static org.apache.fluss.record.LogRecordBatchFormat.LOG_OVERHEAD;
+
 /**
  * The downloader that has a IO thread pool to download the remote files (like kv snapshots files,
  * log segment files).
  */
 public class RemoteFileDownloader implements Closeable {
 
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     protected final ExecutorService downloadThreadPool;
 
     public RemoteFileDownloader(int threadNum) {
@@ -106,6 +113,88 @@ public class RemoteFileDownloader implements Closeable {
         }
     }
 
+    /**
+     * Downloads a range of the given remote log segment file to the target directory
+     * asynchronously, returns a Future object of the number of downloaded bytes. The range starts
+     * from the given start position and ends at the first record batch boundary after reading at
+     * least the given max bytes (or at the end of the file).
+     */
+    public CompletableFuture<Long> downloadLogRangeAsync(
+            FsPathAndFileName fsPathAndFileName,
+            Path targetDirectory,
+            long startPosition,
+            long maxBytes) {
+        CompletableFuture<Long> future = new CompletableFuture<>();
+        downloadThreadPool.submit(
+                () -> {
+                    try {
+                        Path targetFilePath =
+                                targetDirectory.resolve(fsPathAndFileName.getFileName());
+                        FsPath remoteFilePath = fsPathAndFileName.getPath();
+                        long downloadBytes =
+                                downloadLogRange(
+                                        targetFilePath, remoteFilePath, startPosition, maxBytes);
+                        future.complete(downloadBytes);
+                    } catch (Throwable t) {
+                        future.completeExceptionally(t);
+                    }
+                });
+        return future;
+    }
+
+    /**
+     * Copies a range of the remote log segment file to the given target file path batch by batch,
+     * returns the number of downloaded bytes. The remote file is read with a positioned stream, so
+     * the bytes before the start position are never transferred.
+     */
+    protected long downloadLogRange(
+            Path targetFilePath, FsPath remoteFilePath, long startPosition, long maxBytes)
+            throws IOException {
+        List<Closeable> closeableRegistry = new ArrayList<>(2);
+        try {
+            FileSystem fileSystem = remoteFilePath.getFileSystem();
+            FSDataInputStream inputStream = fileSystem.open(remoteFilePath);
+            closeableRegistry.add(inputStream);
+            if (startPosition > 0) {
+                inputStream.seek(startPosition);
+            }
+
+            Files.createDirectories(targetFilePath.getParent());
+            OutputStream outputStream = Files.newOutputStream(targetFilePath);
+            closeableRegistry.add(outputStream);
+
+            ByteBuffer header = ByteBuffer.allocate(LOG_OVERHEAD).order(ByteOrder.LITTLE_ENDIAN);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long downloadBytes = 0;
+            while (downloadBytes < maxBytes) {
+                header.clear();
+                if (IOUtils.readFully(inputStream, header) < LOG_OVERHEAD) {
+                    // reach the end of the segment file
+                    break;
+                }
+                outputStream.write(header.array());
+                downloadBytes += LOG_OVERHEAD;
+
+                int remaining = header.getInt(LENGTH_OFFSET);
+                while (remaining > 0) {
+                    int read = inputStream.read(buffer, 0, Math.min(buffer.length, remaining));
+                    if (read < 0) {
+                        // a partial batch at the end of file is skipped by the reader
+                        return downloadBytes;
+                    }
+                    outputStream.write(buffer, 0, read);
+                    remaining -= read;
+                    downloadBytes += read;
+                }
+            }
+            return downloadBytes;
+        } catch (Exception ex) {
+            throw new IOException(ex);
+        } finally {
+            closeableRegistry.forEach(IOUtils::closeQuietly);
+        }
+    }
+
     @Override
     public void close() throws IOException {
         downloadThreadPool.shutdownNow();
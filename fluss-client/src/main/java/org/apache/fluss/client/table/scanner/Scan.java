@@ -19,6 +19,7 @@ package org.apache.fluss.client.table.scanner;
 
 import org.apache.fluss.annotation.PublicEvolving;
 import org.apache.fluss.client.table.scanner.batch.BatchScanner;
+import org.apache.fluss.client.table.scanner.log.ColumnarLogScanner;
 import org.apache.fluss.client.table.scanner.log.LogScanner;
 import org.apache.fluss.client.table.scanner.log.TypedLogScanner;
 import org.apache.fluss.metadata.TableBucket;
@@ -79,6 +80,14 @@ public interface Scan {
      */
     LogScanner createLogScanner();
 
+    /**
+     * Creates a {@link ColumnarLogScanner} to continuously read log data for this scan, which can
+     * poll the data as columnar batches. Only supported for the tables of ARROW log format.
+     *
+     * <p>Note: this API doesn't support pre-configured with {@link #limit(int)}.
+     */
+    ColumnarLogScanner createColumnarLogScanner();
+
     /**
      * Creates a {@link TypedLogScanner} to continuously read log data as POJOs of the given class.
      *
@@ -89,7 +98,9 @@ public interface Scan {
     /**
      * Creates a {@link BatchScanner} to read current data in the given table bucket for this scan.
      *
-     * <p>Note: this API doesn't support pre-configured with {@link #project}.
+     * <p>For Primary Key Tables without {@link #limit(int)}, the returned scanner streams all the
+     * current data of the bucket from a consistent snapshot on the bucket leader. For Log Tables,
+     * {@link #limit(int)} is required.
      */
     BatchScanner createBatchScanner(TableBucket tableBucket);
 
@@ -22,8 +22,10 @@ import org.apache.fluss.client.admin.Admin;
 import org.apache.fluss.client.metadata.KvSnapshotMetadata;
 import org.apache.fluss.client.table.scanner.batch.BatchScanner;
 import org.apache.fluss.client.table.scanner.batch.CompositeBatchScanner;
+import org.apache.fluss.client.table.scanner.batch.KvBatchScanner;
 import org.apache.fluss.client.table.scanner.batch.KvSnapshotBatchScanner;
 import org.apache.fluss.client.table.scanner.batch.LimitBatchScanner;
+import org.apache.fluss.client.table.scanner.log.ColumnarLogScanner;
 import org.apache.fluss.client.table.scanner.log.LogScanner;
 import org.apache.fluss.client.table.scanner.log.LogScannerImpl;
 import org.apache.fluss.client.table.scanner.log.TypedLogScanner;
@@ -118,6 +120,15 @@ public class TableScan implements Scan {
 
     @Override
     public LogScanner createLogScanner() {
+        return createLogScannerImpl(false);
+    }
+
+    @Override
+    public ColumnarLogScanner createColumnarLogScanner() {
+        return createLogScannerImpl(true);
+    }
+
+    private LogScannerImpl createLogScannerImpl(boolean columnar) {
         if (limit != null) {
             throw new UnsupportedOperationException(
                     String.format(
@@ -125,6 +136,14 @@ public class TableScan implements Scan {
                             tableInfo.getTablePath(), limit));
         }
 
+        if (columnar && tableInfo.getTableConfig().getLogFormat() != LogFormat.ARROW) {
+            throw new UnsupportedOperationException(
+                    String.format(
+                            "ColumnarLogScanner is only supported for ARROW log format. "
+                                    + "Table: %s, current log format: %s",
+                            tableInfo.getTablePath(), tableInfo.getTableConfig().getLogFormat()));
+        }
+
         if (recordBatchFilter != null
                 && tableInfo.getTableConfig().getLogFormat() != LogFormat.ARROW) {
             throw new UnsupportedOperationException(
@@ -160,10 +179,23 @@ public class TableScan implements Scan {
                             tableInfo.getTablePath(), tableBucket));
         }
         if (limit == null) {
-            throw new UnsupportedOperationException(
-                    String.format(
-                            "Currently, BatchScanner is only available when limit is set. Table: %s, bucket: %s",
-                            tableInfo.getTablePath(), tableBucket));
+            if (!tableInfo.hasPrimaryKey()) {
+                throw new UnsupportedOperationException(
+                        String.format(
+                                "Currently, BatchScanner for log tables is only available when limit is set. Table: %s, bucket: %s",
+                                tableInfo.getTablePath(), tableBucket));
+            }
+            return new KvBatchScanner(
+                    tableInfo,
+                    tableBucket,
+                    schemaGetter,
+                    conn.getMetadataUpdater(),
+                    projectedColumns,
+                    null,
+                    (int)
+                            conn.getConfiguration()
+                                    .get(ConfigOptions.CLIENT_SCANNER_KV_FETCH_MAX_BYTES)
+                                    .getBytes());
         }
         return new LimitBatchScanner(
                 tableInfo,
@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.client.table.scanner.batch;
+
+import org.apache.fluss.client.metadata.MetadataUpdater;
+import org.apache.fluss.exception.LeaderNotAvailableException;
+import org.apache.fluss.metadata.KvFormat;
+import org.apache.fluss.metadata.SchemaGetter;
+import org.apache.fluss.metadata.TableBucket;
+import org.apache.fluss.metadata.TableInfo;
+import org.apache.fluss.record.DefaultValueRecordBatch;
+import org.apache.fluss.record.ValueRecord;
+import org.apache.fluss.record.ValueRecordReadContext;
+import org.apache.fluss.row.InternalRow;
+import org.apache.fluss.row.ProjectedRow;
+import org.apache.fluss.rpc.gateway.TabletServerGateway;
+import org.apache.fluss.rpc.messages.PbScanReqForBucket;
+import org.apache.fluss.rpc.messages.ScanKvRequest;
+import org.apache.fluss.rpc.messages.ScanKvResponse;
+import org.apache.fluss.rpc.protocol.ApiError;
+import org.apache.fluss.shaded.netty4.io.netty.buffer.ByteBuf;
+import org.apache.fluss.utils.CloseableIterator;
+import org.apache.fluss.utils.SchemaUtil;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * A {@link BatchScanner} implementation that scans all the current data of a bucket of a primary
+ * key table. The scanner opens a scanner session on the leader of the bucket, which pins a
+ * consistent snapshot of the kv data, and streams it back chunk by chunk. The next chunk is
+ * requested as soon as the previous one is received, so the network transfer overlaps with the
+ * processing of the previous chunk by the caller.
+ */
+public class KvBatchScanner implements BatchScanner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KvBatchScanner.class);
+
+    private final TableInfo tableInfo;
+    private final TableBucket tableBucket;
+    private final SchemaGetter schemaGetter;
+    private final MetadataUpdater metadataUpdater;
+    @Nullable private final int[] projectedFields;
+    @Nullable private final Long limit;
+    private final int batchSizeBytes;
+    private final KvFormat kvFormat;
+    private final int targetSchemaId;
+
+    /**
+     * A cache for schema projection mapping from source schema to target. Use HashMap here, because
+     * KvBatchScanner is used in single thread only.
+     */
+    private final Map<Short, int[]> schemaProjectionCache = new HashMap<>();
+
+    @Nullable private TabletServerGateway gateway;
+    @Nullable private CompletableFuture<ScanKvResponse> scanFuture;
+    @Nullable private byte[] scannerId;
+    private int callSeqId;
+    private boolean endOfInput;
+
+    public KvBatchScanner(
+            TableInfo tableInfo,
+            TableBucket tableBucket,
+            SchemaGetter schemaGetter,
+            MetadataUpdater metadataUpdater,
+            @Nullable int[] projectedFields,
+            @Nullable Long limit,
+            int batchSizeBytes) {
+        this.tableInfo = tableInfo;
+        this.tableBucket = tableBucket;
+        this.schemaGetter = schemaGetter;
+        this.metadataUpdater = metadataUpdater;
+        this.projectedFields = projectedFields;
+        this.limit = limit;
+        this.batchSizeBytes = batchSizeBytes;
+        this.kvFormat = tableInfo.getTableConfig().getKvFormat();
+        this.targetSchemaId = tableInfo.getSchemaId();
+        this.endOfInput = false;
+    }
+
+    @Nullable
+    @Override
+    public CloseableIterator<InternalRow> pollBatch(Duration timeout) throws IOException {
+        if (endOfInput) {
+            return null;
+        }
+        if (scanFuture == null) {
+            // open the scanner session lazily, so that a composite scanner doesn't pin the
+            // snapshots of all the buckets at once.
+            openScanner();
+        }
+
+        ScanKvResponse response;
+        try {
+            response = scanFuture.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // poll next time
+            return CloseableIterator.emptyIterator();
+        } catch (Exception e) {
+            endOfInput = true;
+            throw new IOException(
+                    String.format("Failed to scan kv of table bucket %s.", tableBucket), e);
+        }
+
+        ByteBuf parsedByteBuf = response.getParsedByteBuf();
+        try {
+            if (response.hasErrorCode()) {
+                endOfInput = true;
+                throw new IOException(
+                        String.format("Failed to scan kv of table bucket %s.", tableBucket),
+                        ApiError.fromErrorMessage(response).exception());
+            }
+
+            scannerId = response.getScannerId();
+            if (response.hasHasMoreResults() && response.isHasMoreResults()) {
+                // request the next chunk before parsing this one
+                sendScanRequest(
+                        new ScanKvRequest()
+                                .setScannerId(scannerId)
+                                .setCallSeqId(++callSeqId)
+                                .setBatchSizeBytes(batchSizeBytes));
+            } else {
+                endOfInput = true;
+            }
+            return CloseableIterator.wrap(parseScanKvResponse(response).iterator());
+        } finally {
+            if (parsedByteBuf != null) {
+                parsedByteBuf.release();
+            }
+        }
+    }
+
+    private void openScanner() {
+        PbScanReqForBucket bucketScanReq =
+                new PbScanReqForBucket()
+                        .setTableId(tableBucket.getTableId())
+                        .setBucketId(tableBucket.getBucket());
+        if (tableBucket.getPartitionId() != null) {
+            bucketScanReq.setPartitionId(tableBucket.getPartitionId());
+            metadataUpdater.checkAndUpdateMetadata(tableInfo.getTablePath(), tableBucket);
+        }
+        if (limit != null) {
+            bucketScanReq.setLimit(limit);
+        }
+
+        int leader = metadataUpdater.leaderFor(tableInfo.getTablePath(), tableBucket);
+        gateway = metadataUpdater.newTabletServerClientForNode(leader);
+        if (gateway == null) {
+            throw new LeaderNotAvailableException(
+                    "Server " + leader + " is not found in metadata cache.");
+        }
+        callSeqId = 0;
+        sendScanRequest(
+                new ScanKvRequest()
+                        .setBucketScanReq(bucketScanReq)
+                        .setCallSeqId(callSeqId)
+                        .setBatchSizeBytes(batchSizeBytes));
+    }
+
+    private void sendScanRequest(ScanKvRequest request) {
+        scanFuture = gateway.scanKv(request);
+    }
+
+    private List<InternalRow> parseScanKvResponse(ScanKvResponse response) {
+        List<InternalRow> scanRows = new ArrayList<>();
+        if (!response.hasRecords()) {
+            return scanRows;
+        }
+        DefaultValueRecordBatch valueRecords =
+                DefaultValueRecordBatch.pointToByteBuffer(ByteBuffer.wrap(response.getRecords()));
+        ValueRecordReadContext readContext =
+                ValueRecordReadContext.createReadContext(schemaGetter, kvFormat);
+        for (ValueRecord record : valueRecords.records(readContext)) {
+            InternalRow row = record.getRow();
+            if (targetSchemaId != record.schemaId()) {
+                int[] indexMapping =
+                        schemaProjectionCache.computeIfAbsent(
+                                record.schemaId(),
+                                sourceSchemaId ->
+                                        SchemaUtil.getIndexMapping(
+                                                schemaGetter.getSchema(sourceSchemaId),
+                                                schemaGetter.getSchema(targetSchemaId)));
+                row = ProjectedRow.from(indexMapping).replaceRow(row);
+            }
+            if (projectedFields != null) {
+                row = ProjectedRow.from(projectedFields).replaceRow(row);
+            }
+            scanRows.add(row);
+        }
+        return scanRows;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (scanFuture != null && !endOfInput && gateway != null) {
+            // release the snapshot pinned by the scanner session on server eagerly once the
+            // pending response tells the scanner id, which may be the first response of the
+            // session. The server expires the session anyway if the requests fail.
+            TabletServerGateway scanGateway = gateway;
+            int closeCallSeqId = callSeqId + 1;
+            scanFuture.whenComplete(
+                    (response, t) -> {
+                        if (t == null) {
+                            closeScanner(scanGateway, response, closeCallSeqId);
+                        }
+                    });
+        }
+        endOfInput = true;
+    }
+
+    private void closeScanner(
+            TabletServerGateway scanGateway, ScanKvResponse pendingResponse, int closeCallSeqId) {
+        ByteBuf parsedByteBuf = pendingResponse.getParsedByteBuf();
+        if (parsedByteBuf != null) {
+            parsedByteBuf.release();
+        }
+        if (pendingResponse.hasErrorCode()
+                || !pendingResponse.hasScannerId()
+                || !(pendingResponse.hasHasMoreResults() && pendingResponse.isHasMoreResults())) {
+            // the session failed or has been closed by the server already
+            return;
+        }
+        scanGateway
+                .scanKv(
+                        new ScanKvRequest()
+                                .setScannerId(pendingResponse.getScannerId())
+                                .setCallSeqId(closeCallSeqId)
+                                .setCloseScanner(true))
+                .whenComplete(
+                        (r, t) -> {
+                            if (t != null) {
+                                LOG.debug(
+                                        "Failed to close kv scanner of table bucket {}.",
+                                        tableBucket,
+                                        t);
+                            }
+                        });
+    }
+}
@@ -179,17 +179,19 @@ public class LimitBatchScanner implements BatchScanner {
                 scanRows.add(maybeProject(row));
             }
         } else {
-            LogRecordReadContext readContext =
+            // the rows are deep copied, so the read context is released once the batches are read
+            try (LogRecordReadContext readContext =
                     LogRecordReadContext.createReadContext(
-                            tableInfo, false, null, schemaGetter, chunkedFactory);
-            LogRecords records = MemoryLogRecords.pointToByteBuffer(recordsBuffer);
-            for (LogRecordBatch logRecordBatch : records.batches()) {
-                // A batch of log record maybe little more than limit, thus we need slice the
-                // last limit number.
-                try (CloseableIterator<LogRecord> logRecordIterator =
-                        logRecordBatch.records(readContext)) {
-                    while (logRecordIterator.hasNext()) {
-                        scanRows.add(maybeProject(logRecordIterator.next().getRow()));
+                            tableInfo, false, null, schemaGetter, chunkedFactory)) {
+                LogRecords records = MemoryLogRecords.pointToByteBuffer(recordsBuffer);
+                for (LogRecordBatch logRecordBatch : records.batches()) {
+                    // A batch of log record maybe little more than limit, thus we need slice the
+                    // last limit number.
+                    try (CloseableIterator<LogRecord> logRecordIterator =
+                            logRecordBatch.records(readContext)) {
+                        while (logRecordIterator.hasNext()) {
+                            scanRows.add(maybeProject(logRecordIterator.next().getRow()));
+                        }
                     }
                 }
             }
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.client.table.scanner.log;
+
+import org.apache.fluss.annotation.PublicEvolving;
+
+import java.time.Duration;
+
+/**
+ * A {@link LogScanner} which can also poll the log data in columns, for the tables of the ARROW log
+ * format. Polling the {@link ScanBatch batches} avoids assembling the rows from the arrow columns
+ * received from the tablet servers, which is preferable for the consumers processing the data in
+ * columns.
+ *
+ * @since 1.0
+ */
+@PublicEvolving
+public interface ColumnarLogScanner extends LogScanner {
+
+    /**
+     * Poll log data from tablet server as columnar batches.
+     *
+     * <p>The polled batches continue from the last consumed offset of each bucket like {@link
+     * #poll(Duration)}, so both methods can be called on the same scanner. The returned {@link
+     * ScanBatches} must be closed to release the arrow buffers of the batches, see {@link
+     * ScanBatch#retain()} to keep a batch after that.
+     *
+     * @param timeout the timeout to poll.
+     * @return the result of poll.
+     * @throws java.lang.IllegalStateException if the scanner is not subscribed to any buckets to
+     *     read from.
+     */
+    ScanBatches pollBatches(Duration timeout);
+}
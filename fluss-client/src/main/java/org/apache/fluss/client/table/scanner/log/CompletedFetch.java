@@ -22,6 +22,7 @@ import org.apache.fluss.client.table.scanner.ScanRecord;
 import org.apache.fluss.exception.CorruptRecordException;
 import org.apache.fluss.exception.FetchException;
 import org.apache.fluss.metadata.TableBucket;
+import org.apache.fluss.record.ArrowBatchData;
 import org.apache.fluss.record.ChangeType;
 import org.apache.fluss.record.CompactedLogRecord;
 import org.apache.fluss.record.IndexedLogRecord;
@@ -30,6 +31,8 @@ import org.apache.fluss.record.LogRecordBatch;
 import org.apache.fluss.record.LogRecordReadContext;
 import org.apache.fluss.row.GenericRow;
 import org.apache.fluss.row.InternalRow;
+import org.apache.fluss.row.ProjectedRow;
+import org.apache.fluss.row.columnar.ColumnVector;
 import org.apache.fluss.rpc.protocol.ApiError;
 import org.apache.fluss.utils.CloseableIterator;
 
@@ -53,6 +56,8 @@ import static org.apache.fluss.utils.Preconditions.checkArgument;
 abstract class CompletedFetch {
     static final Logger LOG = LoggerFactory.getLogger(CompletedFetch.class);
     static final long NO_FILTERED_END_OFFSET = -1L;
+    /** The column of a field which doesn't exist in the schema of a batch. */
+    private static final ColumnVector NULL_COLUMN = i -> true;
 
     final TableBucket tableBucket;
     final ApiError error;
@@ -268,19 +273,7 @@ abstract class CompletedFetch {
                 maybeCloseRecordStream();
 
                 if (!batches.hasNext()) {
-                    // In batch, we preserve the last offset in a batch. By using the next offset
-                    // computed from the last offset in the batch, we ensure that the offset of the
-                    // next fetch will point to the next batch, which avoids unnecessary re-fetching
-                    // of the same batch (in the worst case, the scanner could get stuck fetching
-                    // the same batch repeatedly).
-                    // When filteredEndOffset is set, use the max of the batch-derived offset and
-                    // filteredEndOffset to skip already-scanned-and-filtered trailing batches.
-                    if (currentBatch != null) {
-                        nextFetchOffset = Math.max(currentBatch.nextLogOffset(), filteredEndOffset);
-                    } else if (filteredEndOffset != NO_FILTERED_END_OFFSET) {
-                        nextFetchOffset = filteredEndOffset;
-                    }
-                    drain();
+                    finish();
                     return null;
                 }
 
@@ -299,6 +292,110 @@ abstract class CompletedFetch {
         }
     }
 
+    /**
+     * The following {@link LogRecordBatch batches} of ARROW format are loaded as {@link ScanBatch
+     * scan batches} and returned, without converting the records to rows. The batches are returned
+     * as a whole, so the number of returned records may exceed {@code maxRecords} by the records of
+     * the last batch.
+     *
+     * @param maxRecords The number of records to return at least if there are enough records
+     * @return {@link ScanBatch scan batches}, which must be closed by the caller
+     */
+    public List<ScanBatch> fetchBatches(int maxRecords) {
+        if (corruptLastRecord) {
+            throw new FetchException(
+                    "Received exception when fetching the next batch from "
+                            + tableBucket
+                            + ". If needed, please back to past the batch to continue scanning.",
+                    cachedRecordException);
+        }
+
+        if (isConsumed) {
+            return Collections.emptyList();
+        }
+
+        List<ScanBatch> scanBatches = new ArrayList<>();
+        int numRecords = 0;
+        try {
+            if (records != null) {
+                // the rest of the batch whose records are partially fetched by fetchRecords
+                maybeCloseRecordStream();
+                numRecords += fetchBatch(currentBatch, scanBatches);
+            }
+            while (numRecords < maxRecords) {
+                if (!batches.hasNext()) {
+                    finish();
+                    break;
+                }
+                currentBatch = batches.next();
+                maybeEnsureValid(currentBatch);
+                numRecords += fetchBatch(currentBatch, scanBatches);
+            }
+        } catch (Exception e) {
+            cachedRecordException = e;
+            corruptLastRecord = true;
+            if (scanBatches.isEmpty()) {
+                throw new FetchException(
+                        "Received exception when fetching the next batch from "
+                                + tableBucket
+                                + ". If needed, please back to past the batch to continue scanning.",
+                        e);
+            }
+        }
+        return scanBatches;
+    }
+
+    private int fetchBatch(LogRecordBatch batch, List<ScanBatch> scanBatches) {
+        // skip the records out of range, which are before the fetch offset
+        int startRowId = (int) Math.max(0, nextFetchOffset - batch.baseLogOffset());
+        int numRecords = batch.getRecordCount() - startRowId;
+        if (numRecords > 0) {
+            scanBatches.add(toScanBatch(batch, startRowId));
+            recordsRead += numRecords;
+        }
+        nextFetchOffset = Math.max(nextFetchOffset, batch.nextLogOffset());
+        return Math.max(numRecords, 0);
+    }
+
+    private ScanBatch toScanBatch(LogRecordBatch batch, int startRowId) {
+        ArrowBatchData data = batch.loadArrowBatch(readContext);
+        try {
+            ColumnVector[] columns = data.getColumns();
+            // map the columns of the batch schema to the columns of the target schema
+            int[] indexMapping = readContext.getOutputIndexMapping(data.getSchemaId());
+            int[] selectedFields = readContext.getSelectedFields();
+            ColumnVector[] selectedColumns = new ColumnVector[selectedFields.length];
+            for (int i = 0; i < selectedFields.length; i++) {
+                int index =
+                        indexMapping == null ? selectedFields[i] : indexMapping[selectedFields[i]];
+                selectedColumns[i] =
+                        index == ProjectedRow.UNEXIST_MAPPING ? NULL_COLUMN : columns[index];
+            }
+            return new ScanBatch(
+                    tableBucket, data, selectedColumns, startRowId, batch.sizeInBytes());
+        } catch (Throwable t) {
+            data.close();
+            throw t;
+        }
+    }
+
+    /**
+     * Finishes the fetch after all the batches are fetched. In batch, we preserve the last offset
+     * in a batch. By using the next offset computed from the last offset in the batch, we ensure
+     * that the offset of the next fetch will point to the next batch, which avoids unnecessary
+     * re-fetching of the same batch (in the worst case, the scanner could get stuck fetching the
+     * same batch repeatedly). When filteredEndOffset is set, use the max of the batch-derived
+     * offset and filteredEndOffset to skip already-scanned-and-filtered trailing batches.
+     */
+    private void finish() {
+        if (currentBatch != null) {
+            nextFetchOffset = Math.max(currentBatch.nextLogOffset(), filteredEndOffset);
+        } else if (filteredEndOffset != NO_FILTERED_END_OFFSET) {
+            nextFetchOffset = filteredEndOffset;
+        }
+        drain();
+    }
+
     private void maybeEnsureValid(LogRecordBatch batch) {
         if (isCheckCrcs) {
             if (readContext.isProjectionPushDowned()) {
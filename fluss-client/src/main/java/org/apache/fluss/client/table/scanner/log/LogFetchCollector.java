@@ -43,6 +43,8 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
 
 /* This file is based on source code of Apache Kafka Project (https://kafka.apache.org/), licensed by the Apache
  * Software Foundation (ASF) under the Apache License, Version 2.0. See the NOTICE file distributed with this work for
@@ -85,6 +87,42 @@ public class LogFetchCollector {
      */
     public ScanRecords collectFetch(final LogFetchBuffer logFetchBuffer) {
         Map<TableBucket, List<ScanRecord>> fetched = new HashMap<>();
+        collect(logFetchBuffer, fetched, CompletedFetch::fetchRecords, List::size);
+        return new ScanRecords(fetched);
+    }
+
+    /**
+     * Return the fetched log batches, empty the record buffer and update the consumed position. See
+     * {@link #collectFetch(LogFetchBuffer)}.
+     *
+     * @return The fetched batches per partition
+     */
+    public ScanBatches collectBatches(final LogFetchBuffer logFetchBuffer) {
+        Map<TableBucket, List<ScanBatch>> fetched = new HashMap<>();
+        try {
+            collect(
+                    logFetchBuffer,
+                    fetched,
+                    CompletedFetch::fetchBatches,
+                    batches -> {
+                        int count = 0;
+                        for (ScanBatch batch : batches) {
+                            count += batch.getRecordCount();
+                        }
+                        return count;
+                    });
+        } catch (RuntimeException e) {
+            new ScanBatches(fetched).close();
+            throw e;
+        }
+        return new ScanBatches(fetched);
+    }
+
+    private <T> void collect(
+            LogFetchBuffer logFetchBuffer,
+            Map<TableBucket, List<T>> fetched,
+            BiFunction<CompletedFetch, Integer, List<T>> fetchFunction,
+            ToIntFunction<List<T>> recordCounter) {
         int recordsRemaining = maxPollRecords;
 
         try {
@@ -115,10 +153,11 @@ public class LogFetchCollector {
 
                     logFetchBuffer.poll();
                 } else {
-                    List<ScanRecord> records = fetchRecords(nextInLineFetch, recordsRemaining);
+                    List<T> records =
+                            fetchRecords(nextInLineFetch, recordsRemaining, fetchFunction);
                     if (!records.isEmpty()) {
                         TableBucket tableBucket = nextInLineFetch.tableBucket;
-                        List<ScanRecord> currentRecords = fetched.get(tableBucket);
+                        List<T> currentRecords = fetched.get(tableBucket);
                         if (currentRecords == null) {
                             fetched.put(tableBucket, records);
                         } else {
@@ -126,14 +165,14 @@ public class LogFetchCollector {
                             // a time per bucket, but it might conceivably happen in some rare
                             // cases (such as bucket leader changes). we have to copy to a new list
                             // because the old one may be immutable
-                            List<ScanRecord> newScanRecords =
+                            List<T> newRecords =
                                     new ArrayList<>(records.size() + currentRecords.size());
-                            newScanRecords.addAll(currentRecords);
-                            newScanRecords.addAll(records);
-                            fetched.put(tableBucket, newScanRecords);
+                            newRecords.addAll(currentRecords);
+                            newRecords.addAll(records);
+                            fetched.put(tableBucket, newRecords);
                         }
 
-                        recordsRemaining -= records.size();
+                        recordsRemaining -= recordCounter.applyAsInt(records);
                     }
                 }
             }
@@ -142,11 +181,12 @@ public class LogFetchCollector {
                 throw e;
             }
         }
-
-        return new ScanRecords(fetched);
     }
 
-    private List<ScanRecord> fetchRecords(CompletedFetch nextInLineFetch, int maxRecords) {
+    private <T> List<T> fetchRecords(
+            CompletedFetch nextInLineFetch,
+            int maxRecords,
+            BiFunction<CompletedFetch, Integer, List<T>> fetchFunction) {
         TableBucket tb = nextInLineFetch.tableBucket;
         Long offset = logScannerStatus.getBucketOffset(tb);
         if (offset == null) {
@@ -157,7 +197,7 @@ public class LogFetchCollector {
                     nextInLineFetch.fetchOffset());
         } else {
             if (nextInLineFetch.nextFetchOffset() == offset) {
-                List<ScanRecord> records = nextInLineFetch.fetchRecords(maxRecords);
+                List<T> records = fetchFunction.apply(nextInLineFetch, maxRecords);
                 LOG.trace(
                         "Returning {} fetched records at offset {} for assigned bucket {}.",
                         records.size(),
@@ -181,6 +181,10 @@ public class LogFetcher implements Closeable {
         return logFetchCollector.collectFetch(logFetchBuffer);
     }
 
+    public ScanBatches collectBatches() {
+        return logFetchCollector.collectBatches(logFetchBuffer);
+    }
+
     /**
      * Set up a fetch request for any node that we have assigned buckets for which doesn't already
      * have an in-flight fetch or pending fetch data.
@@ -480,12 +484,12 @@ public class LogFetcher implements Closeable {
                 fetchOffset = segment.remoteLogStartOffset();
             }
             RemoteLogDownloadFuture downloadFuture =
-                    remoteLogDownloader.requestRemoteLog(remoteLogTabletDir, segment);
+                    remoteLogDownloader.requestRemoteLog(
+                            remoteLogTabletDir, segment, posInLogSegment);
             RemotePendingFetch pendingFetch =
                     new RemotePendingFetch(
                             segment,
                             downloadFuture,
-                            posInLogSegment,
                             fetchOffset,
                             highWatermark,
                             remoteReadContext,
@@ -493,6 +497,11 @@ public class LogFetcher implements Closeable {
                             isCheckCrcs);
             logFetchBuffer.pend(pendingFetch);
             downloadFuture.onComplete(() -> logFetchBuffer.tryComplete(segment.tableBucket()));
+            if (remoteLogDownloader.isPartialDownload(segment, posInLogSegment)) {
+                // the following segments would not be continuous with the downloaded range,
+                // the next fetch will locate the rest of this segment from the server again
+                break;
+            }
         }
     }
 
@@ -23,6 +23,7 @@ import org.apache.fluss.client.metrics.ScannerMetricGroup;
 import org.apache.fluss.client.table.scanner.RemoteFileDownloader;
 import org.apache.fluss.config.Configuration;
 import org.apache.fluss.exception.WakeupException;
+import org.apache.fluss.metadata.LogFormat;
 import org.apache.fluss.metadata.SchemaGetter;
 import org.apache.fluss.metadata.TableBucket;
 import org.apache.fluss.metadata.TableInfo;
@@ -43,9 +44,11 @@ import java.util.Collections;
 import java.util.ConcurrentModificationException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
- * The default impl of {@link LogScanner}.
+ * The default impl of {@link LogScanner} and {@link ColumnarLogScanner}.
  *
  * <p>The {@link LogScannerImpl} is NOT thread-safe. It is the responsibility of the user to ensure
  * that multithreaded access is properly synchronized. Un-synchronized access will result in {@link
@@ -54,7 +57,7 @@ import java.util.concurrent.atomic.AtomicLong;
  * @since 0.1
  */
 @PublicEvolving
-public class LogScannerImpl implements LogScanner {
+public class LogScannerImpl implements ColumnarLogScanner {
     private static final Logger LOG = LoggerFactory.getLogger(LogScannerImpl.class);
 
     private static final long NO_CURRENT_THREAD = -1L;
@@ -64,6 +67,7 @@ public class LogScannerImpl implements LogScanner {
     private final LogFetcher logFetcher;
     private final long tableId;
     private final boolean isPartitionedTable;
+    private final LogFormat logFormat;
 
     private volatile boolean closed = false;
 
@@ -87,6 +91,7 @@ public class LogScannerImpl implements LogScanner {
         this.tablePath = tableInfo.getTablePath();
         this.tableId = tableInfo.getTableId();
         this.isPartitionedTable = tableInfo.isPartitioned();
+        this.logFormat = tableInfo.getTableConfig().getLogFormat();
         // add this table to metadata updater.
         metadataUpdater.checkAndUpdateTableMetadata(Collections.singleton(tablePath));
         this.logScannerStatus = new LogScannerStatus();
@@ -131,6 +136,23 @@ public class LogScannerImpl implements LogScanner {
 
     @Override
     public ScanRecords poll(Duration timeout) {
+        return poll(timeout, logFetcher::collectFetch, ScanRecords::isEmpty, ScanRecords.EMPTY);
+    }
+
+    @Override
+    public ScanBatches pollBatches(Duration timeout) {
+        if (logFormat != LogFormat.ARROW) {
+            throw new UnsupportedOperationException(
+                    String.format(
+                            "Polling batches is only supported for ARROW log format. "
+                                    + "Table: %s, current log format: %s",
+                            tablePath, logFormat));
+        }
+        return poll(timeout, logFetcher::collectBatches, ScanBatches::isEmpty, ScanBatches.EMPTY);
+    }
+
+    private <T> T poll(
+            Duration timeout, Supplier<T> collector, Function<T, Boolean> isEmpty, T empty) {
         acquireAndEnsureOpen();
         try {
             if (!logScannerStatus.prepareToPoll()) {
@@ -141,17 +163,17 @@ public class LogScannerImpl implements LogScanner {
             long timeoutNanos = timeout.toNanos();
             long startNanos = System.nanoTime();
             do {
-                ScanRecords scanRecords = pollForFetches();
-                if (scanRecords.isEmpty()) {
+                T fetched = pollForFetches(collector, isEmpty);
+                if (isEmpty.apply(fetched)) {
                     try {
                         if (!logFetcher.awaitNotEmpty(startNanos + timeoutNanos)) {
                             // logFetcher waits for the timeout and no data in buffer,
                             // so we return empty
-                            return scanRecords;
+                            return fetched;
                         }
                     } catch (WakeupException e) {
                         // wakeup() is called, we need to return empty
-                        return scanRecords;
+                        return fetched;
                     }
                 } else {
                     // before returning the fetched records, we can send off the next round of
@@ -159,11 +181,11 @@ public class LogScannerImpl implements LogScanner {
                     // while the user is handling the fetched records.
                     logFetcher.sendFetches();
 
-                    return scanRecords;
+                    return fetched;
                 }
             } while (System.nanoTime() - startNanos < timeoutNanos);
 
-            return ScanRecords.EMPTY;
+            return empty;
         } finally {
             release();
             scannerMetricGroup.recordPollEnd(System.currentTimeMillis());
@@ -247,16 +269,16 @@ public class LogScannerImpl implements LogScanner {
         logFetcher.wakeup();
     }
 
-    private ScanRecords pollForFetches() {
-        ScanRecords scanRecords = logFetcher.collectFetch();
-        if (!scanRecords.isEmpty()) {
-            return scanRecords;
+    private <T> T pollForFetches(Supplier<T> collector, Function<T, Boolean> isEmpty) {
+        T fetched = collector.get();
+        if (!isEmpty.apply(fetched)) {
+            return fetched;
         }
 
         // send any new fetches (won't resend pending fetches).
         logFetcher.sendFetches();
 
-        return logFetcher.collectFetch();
+        return collector.get();
     }
 
     /**
@@ -40,14 +40,10 @@ public class RemoteLogDownloadFuture {
         return logFileFuture.isDone();
     }
 
-    public FileLogRecords getFileLogRecords(int startPosition) {
+    public FileLogRecords getFileLogRecords() {
         try {
-            FileLogRecords fileLogRecords = FileLogRecords.open(logFileFuture.join(), false);
-            if (startPosition > 0) {
-                return fileLogRecords.slice(startPosition, Integer.MAX_VALUE);
-            } else {
-                return fileLogRecords;
-            }
+            // the downloaded file only contains the requested range of the remote log segment
+            return FileLogRecords.open(logFileFuture.join(), false);
         } catch (IOException e) {
             throw new FlussRuntimeException(e);
         }
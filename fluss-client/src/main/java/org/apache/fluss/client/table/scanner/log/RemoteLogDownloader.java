@@ -56,7 +56,11 @@ import static org.apache.fluss.utils.FlussPaths.LOG_FILE_SUFFIX;
 import static org.apache.fluss.utils.FlussPaths.remoteLogSegmentDir;
 import static org.apache.fluss.utils.FlussPaths.remoteLogSegmentFile;
 
-/** Downloader to read remote log files to local disk. */
+/**
+ * Downloader to read remote log files to local disk. Only the byte range starting from the position
+ * of the fetch offset is downloaded, and the range is bounded by {@link
+ * ConfigOptions#CLIENT_SCANNER_REMOTE_LOG_FETCH_RANGE_SIZE}.
+ */
 @ThreadSafe
 @Internal
 public class RemoteLogDownloader implements Closeable {
@@ -85,6 +89,8 @@ public class RemoteLogDownloader implements Closeable {
 
     private final long pollTimeout;
 
+    private final long fetchRangeBytes;
+
     public RemoteLogDownloader(
             TablePath tablePath,
             Configuration conf,
@@ -106,6 +112,8 @@ public class RemoteLogDownloader implements Closeable {
         this.remoteFileDownloader = remoteFileDownloader;
         this.scannerMetricGroup = scannerMetricGroup;
         this.pollTimeout = pollTimeout;
+        this.fetchRangeBytes =
+                conf.get(ConfigOptions.CLIENT_SCANNER_REMOTE_LOG_FETCH_RANGE_SIZE).getBytes();
         this.prefetchSemaphore =
                 new Semaphore(conf.getInt(ConfigOptions.CLIENT_SCANNER_REMOTE_LOG_PREFETCH_NUM));
         // The local tmp dir to store the fetched log segment files,
@@ -121,13 +129,26 @@ public class RemoteLogDownloader implements Closeable {
         downloadThread.start();
     }
 
-    /** Request to fetch remote log segment to local. This method is non-blocking. */
-    public RemoteLogDownloadFuture requestRemoteLog(FsPath logTabletDir, RemoteLogSegment segment) {
-        RemoteLogDownloadRequest request = new RemoteLogDownloadRequest(segment, logTabletDir);
+    /**
+     * Request to fetch the remote log segment to local, starting from the given position in the
+     * segment. This method is non-blocking.
+     */
+    public RemoteLogDownloadFuture requestRemoteLog(
+            FsPath logTabletDir, RemoteLogSegment segment, int startPosition) {
+        RemoteLogDownloadRequest request =
+                new RemoteLogDownloadRequest(segment, logTabletDir, startPosition);
         segmentsToFetch.add(request);
         return new RemoteLogDownloadFuture(request.future, () -> recycleRemoteLog(segment));
     }
 
+    /**
+     * Whether the download of the given segment from the given position may stop before the end of
+     * the segment because of the fetch range size.
+     */
+    boolean isPartialDownload(RemoteLogSegment segment, int startPosition) {
+        return segment.segmentSizeInBytes() - startPosition > fetchRangeBytes;
+    }
+
     /**
      * Recycle the consumed remote log. The removal of the log file is async in the {@link
      * #downloadThread}.
@@ -162,9 +183,10 @@ public class RemoteLogDownloader implements Closeable {
             scannerMetricGroup.remoteFetchRequestCount().inc();
 
             long startTime = System.currentTimeMillis();
-            // download the remote file to local
+            // download the range of the remote file to local
             remoteFileDownloader
-                    .downloadFileAsync(fsPathAndFileName, localLogDir)
+                    .downloadLogRangeAsync(
+                            fsPathAndFileName, localLogDir, request.startPosition, fetchRangeBytes)
                     .whenComplete(
                             (bytes, throwable) -> {
                                 if (throwable != null) {
@@ -181,8 +203,10 @@ public class RemoteLogDownloader implements Closeable {
                                     scannerMetricGroup.remoteFetchErrorCount().inc();
                                 } else {
                                     LOG.info(
-                                            "Successfully downloaded remote log segment file {} to local for "
-                                                    + "table bucket {} cost {} ms.",
+                                            "Successfully downloaded {} bytes from position {} of remote log "
+                                                    + "segment file {} to local for table bucket {} cost {} ms.",
+                                            bytes,
+                                            request.startPosition,
                                             fsPathAndFileName.getFileName(),
                                             tableBucket,
                                             System.currentTimeMillis() - startTime);
@@ -295,11 +319,14 @@ public class RemoteLogDownloader implements Closeable {
     static class RemoteLogDownloadRequest implements Comparable<RemoteLogDownloadRequest> {
         final RemoteLogSegment segment;
         final FsPath remoteLogTabletDir;
+        final int startPosition;
         final CompletableFuture<File> future = new CompletableFuture<>();
 
-        public RemoteLogDownloadRequest(RemoteLogSegment segment, FsPath remoteLogTabletDir) {
+        public RemoteLogDownloadRequest(
+                RemoteLogSegment segment, FsPath remoteLogTabletDir, int startPosition) {
             this.segment = segment;
             this.remoteLogTabletDir = remoteLogTabletDir;
+            this.startPosition = startPosition;
         }
 
         public FsPathAndFileName getFsPathAndFileName() {
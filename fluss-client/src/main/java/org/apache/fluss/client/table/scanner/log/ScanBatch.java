@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.client.table.scanner.log;
+
+import org.apache.fluss.annotation.Internal;
+import org.apache.fluss.annotation.PublicEvolving;
+import org.apache.fluss.metadata.TableBucket;
+import org.apache.fluss.record.ArrowBatchData;
+import org.apache.fluss.record.ChangeType;
+import org.apache.fluss.row.InternalRow;
+import org.apache.fluss.row.columnar.ColumnVector;
+import org.apache.fluss.row.columnar.ColumnarRow;
+import org.apache.fluss.row.columnar.VectorizedColumnBatch;
+import org.apache.fluss.shaded.arrow.org.apache.arrow.vector.VectorSchemaRoot;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.apache.fluss.utils.Preconditions.checkState;
+
+/**
+ * A batch of the log records of a bucket organized in columns, which is returned by {@link
+ * ColumnarLogScanner#pollBatches(java.time.Duration)}. The columns are in the order of the
+ * projected fields of the scan, and are backed by the arrow buffers received from the tablet server
+ * without converting the records to rows.
+ *
+ * <p>The rows before {@link #getStartRowId()} have been returned by previous polls or are before
+ * the subscribed offset, they should be skipped by the caller.
+ *
+ * <p>The arrow buffers of the batch are reference counted, the batch holds a reference when it is
+ * returned and more references can be acquired by {@link #retain()}. The buffers are released when
+ * all the references are released by {@link #close()}, which must happen before the scanner is
+ * closed.
+ *
+ * @since 1.0
+ */
+@PublicEvolving
+public class ScanBatch implements AutoCloseable {
+
+    private final TableBucket tableBucket;
+    private final ArrowBatchData data;
+    private final VectorizedColumnBatch columns;
+    private final int startRowId;
+    private final int sizeInBytes;
+    private final AtomicInteger refCount = new AtomicInteger(1);
+
+    ScanBatch(
+            TableBucket tableBucket,
+            ArrowBatchData data,
+            ColumnVector[] columns,
+            int startRowId,
+            int sizeInBytes) {
+        this.tableBucket = tableBucket;
+        this.data = data;
+        this.columns = new VectorizedColumnBatch(columns);
+        this.startRowId = startRowId;
+        this.sizeInBytes = sizeInBytes;
+    }
+
+    public TableBucket getTableBucket() {
+        return tableBucket;
+    }
+
+    /** Returns the log offset of the row 0 of the batch. */
+    public long getBaseLogOffset() {
+        return data.getBaseLogOffset();
+    }
+
+    /** Returns the log offset of the given row. */
+    public long getLogOffset(int rowId) {
+        return data.getBaseLogOffset() + rowId;
+    }
+
+    /** Returns the id of the schema the batch is written in. */
+    public int getSchemaId() {
+        return data.getSchemaId();
+    }
+
+    /** Returns the size of the batch in the log, including the rows before the start row. */
+    public int getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    /** Returns the timestamp of all the rows of the batch. */
+    public long getTimestamp() {
+        return data.getCommitTimestamp();
+    }
+
+    /** Returns the number of rows of the batch, including the rows before the start row. */
+    public int getRowCount() {
+        return data.getRowCount();
+    }
+
+    /** Returns the first row of the batch to consume. */
+    public int getStartRowId() {
+        return startRowId;
+    }
+
+    /** Returns the number of rows to consume, which are the rows from the start row. */
+    public int getRecordCount() {
+        return data.getRowCount() - startRowId;
+    }
+
+    public int getFieldCount() {
+        return columns.getFieldCount();
+    }
+
+    /** Returns the column of the given projected field. */
+    public ColumnVector getColumn(int pos) {
+        return columns.columns[pos];
+    }
+
+    /** Returns the columns of the batch, which provide typed access to the values. */
+    public VectorizedColumnBatch getColumns() {
+        return columns;
+    }
+
+    public ChangeType getChangeType(int rowId) {
+        return data.getChangeType(rowId);
+    }
+
+    /**
+     * Returns the arrow vectors of the batch in the order of the fields of the schema the batch is
+     * written in, see {@link #getSchemaId()}, regardless of the projection of the scan.
+     */
+    @Internal
+    public VectorSchemaRoot getVectorSchemaRoot() {
+        return data.getVectorSchemaRoot();
+    }
+
+    /** Returns a view of the given row, which is only valid until the batch is closed. */
+    public InternalRow getRow(int rowId) {
+        return new ColumnarRow(columns, rowId);
+    }
+
+    /** Acquires a reference of the batch, which must be released by {@link #close()}. */
+    public ScanBatch retain() {
+        while (true) {
+            int count = refCount.get();
+            checkState(count > 0, "The scan batch of %s has been released.", tableBucket);
+            if (refCount.compareAndSet(count, count + 1)) {
+                return this;
+            }
+        }
+    }
+
+    /** Releases a reference of the batch, the arrow buffers are released with the last one. */
+    @Override
+    public void close() {
+        int count = refCount.decrementAndGet();
+        if (count == 0) {
+            data.close();
+        } else if (count < 0) {
+            refCount.incrementAndGet();
+            throw new IllegalStateException(
+                    "The scan batch of " + tableBucket + " has been released.");
+        }
+    }
+}
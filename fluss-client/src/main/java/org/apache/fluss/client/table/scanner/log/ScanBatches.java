@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.client.table.scanner.log;
+
+import org.apache.fluss.annotation.PublicEvolving;
+import org.apache.fluss.metadata.TableBucket;
+import org.apache.fluss.utils.IOUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A container that holds the list of {@link ScanBatch} per bucket for a particular table. There is
+ * one {@link ScanBatch} list for every bucket returned by a {@link
+ * ColumnarLogScanner#pollBatches(java.time.Duration)} operation.
+ *
+ * <p>Closing the container releases all the batches, the batches which should outlive it must be
+ * retained by {@link ScanBatch#retain()}.
+ *
+ * @since 1.0
+ */
+@PublicEvolving
+public class ScanBatches implements Iterable<ScanBatch>, AutoCloseable {
+    public static final ScanBatches EMPTY = new ScanBatches(Collections.emptyMap());
+
+    private final Map<TableBucket, List<ScanBatch>> batches;
+
+    public ScanBatches(Map<TableBucket, List<ScanBatch>> batches) {
+        this.batches = batches;
+    }
+
+    /**
+     * Get just the batches for the given bucket.
+     *
+     * @param scanBucket The bucket to get batches for
+     */
+    public List<ScanBatch> batches(TableBucket scanBucket) {
+        List<ScanBatch> bucketBatches = batches.get(scanBucket);
+        if (bucketBatches == null) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(bucketBatches);
+    }
+
+    /** Get the buckets which have batches contained in this container. */
+    public Set<TableBucket> buckets() {
+        return Collections.unmodifiableSet(batches.keySet());
+    }
+
+    /** The number of records to consume of all the batches. */
+    public int count() {
+        int count = 0;
+        for (List<ScanBatch> bucketBatches : batches.values()) {
+            for (ScanBatch batch : bucketBatches) {
+                count += batch.getRecordCount();
+            }
+        }
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return batches.isEmpty();
+    }
+
+    @Override
+    public Iterator<ScanBatch> iterator() {
+        List<ScanBatch> allBatches = new ArrayList<>();
+        for (List<ScanBatch> bucketBatches : batches.values()) {
+            allBatches.addAll(bucketBatches);
+        }
+        return allBatches.iterator();
+    }
+
+    /** Releases all the batches. */
+    @Override
+    public void close() {
+        for (List<ScanBatch> bucketBatches : batches.values()) {
+            for (ScanBatch batch : bucketBatches) {
+                IOUtils.closeQuietly(batch);
+            }
+        }
+    }
+}
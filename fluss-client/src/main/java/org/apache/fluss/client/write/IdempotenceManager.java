@@ -69,6 +69,9 @@ public class IdempotenceManager {
 
     private volatile long writerId;
 
+    /** The lock to initialize the writer id, which is not the lock of this manager. */
+    private final Object initWriterIdLock = new Object();
+
     public IdempotenceManager(
             boolean idempotenceEnabled,
             int maxInflightRequestsPerBucket,
@@ -316,6 +319,17 @@ public class IdempotenceManager {
             return;
         }
 
+        // the sender lanes wait for the writer id initialized by one of them, instead of each
+        // requesting a different writer id
+        synchronized (initWriterIdLock) {
+            if (isWriterIdValid()) {
+                return;
+            }
+            initWriterId(tablePaths);
+        }
+    }
+
+    private void initWriterId(Set<PhysicalTablePath> tablePaths) throws Throwable {
         int retryCount = 0;
         while (true) {
             try {
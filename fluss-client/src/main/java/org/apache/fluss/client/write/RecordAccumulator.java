@@ -22,6 +22,7 @@ import org.apache.fluss.annotation.VisibleForTesting;
 import org.apache.fluss.client.metrics.WriterMetricGroup;
 import org.apache.fluss.cluster.BucketLocation;
 import org.apache.fluss.cluster.Cluster;
+import org.apache.fluss.compression.ArrowCompressionInfo;
 import org.apache.fluss.config.ConfigOptions;
 import org.apache.fluss.config.Configuration;
 import org.apache.fluss.exception.FlussRuntimeException;
@@ -58,9 +59,11 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
 
 import static org.apache.fluss.record.LogRecordBatchFormat.NO_BATCH_SEQUENCE;
 import static org.apache.fluss.record.LogRecordBatchFormat.NO_WRITER_ID;
@@ -110,11 +113,21 @@ public final class RecordAccumulator {
     /** The pool of lazily created arrow {@link ArrowWriter}s for arrow log write batch. */
     private final ArrowWriterPool arrowWriterPool;
 
+    /**
+     * The arrow compression info of each table written as arrow log, resolved once per table as it
+     * owns the Zstd dictionary of the table (if any), and released with the arrow writer pool.
+     */
+    private final Map<Long, ArrowCompressionInfo> arrowCompressionInfos = new ConcurrentHashMap<>();
+
     private final ConcurrentMap<PhysicalTablePath, BucketAndWriteBatches> writeBatches =
             new CopyOnWriteMap<>();
 
     private final IncompleteBatches incomplete;
 
+    /**
+     * The drain index of each node, a node is only drained by the sender lane owning it, but the
+     * lanes drain concurrently.
+     */
     private final Map<Integer, Integer> nodesDrainIndex;
 
     private final IdempotenceManager idempotenceManager;
@@ -146,7 +159,7 @@ public final class RecordAccumulator {
         this.bufferAllocator = createBufferAllocator(chunkedFactory);
         this.arrowWriterPool = new ArrowWriterPool(bufferAllocator);
         this.incomplete = new IncompleteBatches();
-        this.nodesDrainIndex = new HashMap<>();
+        this.nodesDrainIndex = new ConcurrentHashMap<>();
         this.batchSizeEstimator =
                 new DynamicWriteBatchSizeEstimator(
                         conf.get(ConfigOptions.CLIENT_WRITER_DYNAMIC_BATCH_SIZE_ENABLED),
@@ -251,6 +264,15 @@ public final class RecordAccumulator {
      * </pre>
      */
     public ReadyCheckResult ready(Cluster cluster) {
+        return ready(cluster, node -> true);
+    }
+
+    /**
+     * Get a list of nodes whose buckets are ready to be sent, like {@link #ready(Cluster)}, but
+     * only considers the buckets whose leaders are accepted by the given node filter. The other
+     * buckets neither make their leaders ready nor shorten the next ready check delay.
+     */
+    public ReadyCheckResult ready(Cluster cluster, IntPredicate nodeFilter) {
         Set<Integer> readyNodes = new HashSet<>();
         long nextReadyCheckDelayMs = batchTimeoutMs;
         Set<PhysicalTablePath> unknownLeaderTables = new HashSet<>();
@@ -266,6 +288,7 @@ public final class RecordAccumulator {
                             readyNodes,
                             unknownLeaderTables,
                             cluster,
+                            nodeFilter,
                             nextReadyCheckDelayMs);
         }
 
@@ -463,6 +486,7 @@ public final class RecordAccumulator {
             Set<Integer> readyNodes,
             Set<PhysicalTablePath> unknownLeaderTables,
             Cluster cluster,
+            IntPredicate nodeFilter,
             long nextReadyCheckDelayMs) {
         // first check this table has partitionId.
         if (bucketAndWriteBatches.isPartitionedTable && bucketAndWriteBatches.partitionId == null) {
@@ -521,7 +545,7 @@ public final class RecordAccumulator {
                     // available to send. Note that entries are currently not removed from
                     // batches when deque is empty.
                     unknownLeaderTables.add(physicalTablePath);
-                } else {
+                } else if (nodeFilter.test(leader)) {
                     nextReadyCheckDelayMs =
                             batchReady(
                                     exhausted,
@@ -637,7 +661,9 @@ public final class RecordAccumulator {
                                 schemaId,
                                 outputView.getPreAllocatedSize(),
                                 tableInfo.getRowType(),
-                                tableInfo.getTableConfig().getArrowCompressionInfo());
+                                arrowCompressionInfos.computeIfAbsent(
+                                        tableInfo.getTableId(),
+                                        k -> tableInfo.getTableConfig().getArrowCompressionInfo()));
                 LogRecordBatchStatisticsCollector statisticsCollector = null;
                 if (tableInfo.isStatisticsEnabled()) {
                     statisticsCollector =
@@ -986,6 +1012,8 @@ public final class RecordAccumulator {
         }
         writerBufferPool.close();
         arrowWriterPool.close();
+        arrowCompressionInfos.values().forEach(ArrowCompressionInfo::close);
+        arrowCompressionInfos.clear();
         bufferAllocator.close();
         chunkedFactory.close();
     }
@@ -30,6 +30,8 @@ import org.apache.fluss.exception.RetriableException;
 import org.apache.fluss.exception.UnknownTableOrBucketException;
 import org.apache.fluss.metadata.PhysicalTablePath;
 import org.apache.fluss.metadata.TableBucket;
+import org.apache.fluss.metrics.MetricNames;
+import org.apache.fluss.metrics.groups.MetricGroup;
 import org.apache.fluss.rpc.gateway.TabletServerGateway;
 import org.apache.fluss.rpc.messages.PbProduceLogRespForBucket;
 import org.apache.fluss.rpc.messages.PbPutKvRespForBucket;
@@ -52,6 +54,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.apache.fluss.client.utils.ClientRpcMessageUtils.makeProduceLogRequest;
 import static org.apache.fluss.client.utils.ClientRpcMessageUtils.makePutKvRequest;
@@ -66,6 +69,12 @@ import static org.apache.fluss.utils.Preconditions.checkNotNull;
  * This background thread handles the sending of produce requests to the tablet server. This thread
  * makes metadata requests to renew its view of the cluster and then sends produce requests to the
  * appropriate nodes.
+ *
+ * <p>The writer may run multiple senders as lanes, each lane only drains the batches of the tablet
+ * servers it owns (see {@link #ownsNode(int)}) and tracks and handles the requests it sends. As the
+ * batches of a bucket are drained from the same deque of the accumulator and the batch sequences
+ * are assigned under the lock of the deque, the ordering of idempotent writes of a bucket is kept
+ * across lanes.
  */
 public class Sender implements Runnable {
     private static final Logger LOG = LoggerFactory.getLogger(Sender.class);
@@ -85,6 +94,14 @@ public class Sender implements Runnable {
     /** the number of times to retry a failed write batch before giving up. */
     private final int retries;
 
+    /** the lane of this sender and the number of lanes of the writer. */
+    private final int lane;
+
+    private final int numLanes;
+
+    /** the number of lanes still running, the last terminated lane destroys the resources. */
+    private final AtomicInteger runningLanes;
+
     /** true while the sender thread is still running. */
     private volatile boolean running;
 
@@ -107,6 +124,9 @@ public class Sender implements Runnable {
 
     private final WriterMetricGroup writerMetricGroup;
 
+    /** the time taken by the last ready check and drain of the lane. */
+    private volatile long drainTimeMs = -1;
+
     public Sender(
             RecordAccumulator accumulator,
             int maxRequestTimeoutMs,
@@ -116,6 +136,33 @@ public class Sender implements Runnable {
             MetadataUpdater metadataUpdater,
             IdempotenceManager idempotenceManager,
             WriterMetricGroup writerMetricGroup) {
+        this(
+                accumulator,
+                maxRequestTimeoutMs,
+                maxRequestSize,
+                acks,
+                retries,
+                metadataUpdater,
+                idempotenceManager,
+                writerMetricGroup,
+                0,
+                1,
+                new AtomicInteger(1));
+    }
+
+    Sender(
+            RecordAccumulator accumulator,
+            int maxRequestTimeoutMs,
+            int maxRequestSize,
+            short acks,
+            int retries,
+            MetadataUpdater metadataUpdater,
+            IdempotenceManager idempotenceManager,
+            WriterMetricGroup writerMetricGroup,
+            int lane,
+            int numLanes,
+            AtomicInteger runningLanes) {
+        checkArgument(lane >= 0 && lane < numLanes, "Invalid lane %s of %s lanes.", lane, numLanes);
         this.accumulator = accumulator;
         this.maxRequestSize = maxRequestSize;
         this.maxRequestTimeoutMs = maxRequestTimeoutMs;
@@ -129,10 +176,35 @@ public class Sender implements Runnable {
 
         this.idempotenceManager = idempotenceManager;
         this.writerMetricGroup = writerMetricGroup;
+        this.lane = lane;
+        this.numLanes = numLanes;
+        this.runningLanes = runningLanes;
+        registerLaneMetrics(writerMetricGroup.senderLaneMetricGroup(lane));
 
         // TODO add retry logic while send failed. See FLUSS-56364375
     }
 
+    private void registerLaneMetrics(MetricGroup laneMetricGroup) {
+        laneMetricGroup.gauge(MetricNames.WRITER_SENDER_DRAIN_TIME_MS, () -> drainTimeMs);
+        laneMetricGroup.gauge(
+                MetricNames.WRITER_SENDER_IN_FLIGHT_BATCHES, this::numOfInFlightBatches);
+    }
+
+    /** Returns true if the batches to the given tablet server are sent by this lane. */
+    boolean ownsNode(int node) {
+        return Math.floorMod(node, numLanes) == lane;
+    }
+
+    private int numOfInFlightBatches() {
+        synchronized (inFlightBatchesLock) {
+            int count = 0;
+            for (List<ReadyWriteBatch> batches : inFlightBatches.values()) {
+                count += batches.size();
+            }
+            return count;
+        }
+    }
+
     @VisibleForTesting
     int numOfInFlightBatches(TableBucket tb) {
         synchronized (inFlightBatchesLock) {
@@ -167,7 +239,10 @@ public class Sender implements Runnable {
             }
         }
 
-        destroyResources();
+        // the resources are shared by the lanes, destroy them after all the lanes terminated
+        if (runningLanes.decrementAndGet() == 0) {
+            destroyResources();
+        }
 
         // TODO if force close failed, add logic to abort incomplete batches.
         LOG.debug("Shutdown of Fluss write sender I/O thread has completed.");
@@ -207,13 +282,15 @@ public class Sender implements Runnable {
     }
 
     private void sendWriteData() throws Exception {
+        long drainStartTime = System.currentTimeMillis();
         Cluster clusterSnapshot = metadataUpdater.getCluster();
 
-        // get the list of buckets with data ready to send.
-        ReadyCheckResult readyCheckResult = accumulator.ready(clusterSnapshot);
+        // get the list of buckets with data ready to send to the nodes owned by this lane.
+        ReadyCheckResult readyCheckResult = accumulator.ready(clusterSnapshot, this::ownsNode);
 
-        // if there are any buckets whose leaders are not known yet, force metadata update
-        if (!readyCheckResult.unknownLeaderTables.isEmpty()) {
+        // if there are any buckets whose leaders are not known yet, force metadata update, which
+        // is only done by the first lane as the buckets don't belong to any lane yet
+        if (lane == 0 && !readyCheckResult.unknownLeaderTables.isEmpty()) {
             try {
                 metadataUpdater.updatePhysicalTableMetadata(readyCheckResult.unknownLeaderTables);
             } catch (Exception e) {
@@ -245,6 +322,7 @@ public class Sender implements Runnable {
                 accumulator.drain(clusterSnapshot, readyNodes, maxRequestSize);
 
         if (!batches.isEmpty()) {
+            drainTimeMs = System.currentTimeMillis() - drainStartTime;
             addToInflightBatches(batches);
 
             // TODO add logic for batch expire.
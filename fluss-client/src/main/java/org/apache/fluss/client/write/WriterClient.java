@@ -42,11 +42,13 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.concurrent.ThreadSafe;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.apache.fluss.config.ConfigOptions.NoKeyAssigner.ROUND_ROBIN;
 import static org.apache.fluss.config.ConfigOptions.NoKeyAssigner.STICKY;
@@ -56,9 +58,11 @@ import static org.apache.fluss.utils.ExceptionUtils.toException;
  * A client that write records to server.
  *
  * <p>The writer consists of a pool of buffer space that holds records that haven't yet been
- * transmitted to the tablet server as well as a background I/O thread that is responsible for
- * turning these records into requests and transmitting them to the cluster. Failure to close the
- * {@link WriterClient} after use will leak these resources.
+ * transmitted to the tablet server as well as background I/O threads that are responsible for
+ * turning these records into requests and transmitting them to the cluster. Each I/O thread runs a
+ * {@link Sender} lane owning a subset of the tablet servers, see {@link
+ * ConfigOptions#CLIENT_WRITER_SENDER_THREAD_NUM}. Failure to close the {@link WriterClient} after
+ * use will leak these resources.
  *
  * <p>The send method is asynchronous. When called, it adds the log record to a buffer of pending
  * record sends and immediately returns. This allows the wrote record to batch together individual
@@ -79,7 +83,7 @@ public class WriterClient {
     private final Configuration conf;
     private final int maxRequestSize;
     private final RecordAccumulator accumulator;
-    private final Sender sender;
+    private final List<Sender> senders;
     private final ExecutorService ioThreadPool;
     private final MetadataUpdater metadataUpdater;
     private final Map<PhysicalTablePath, BucketAssigner> bucketAssignerMap = new CopyOnWriteMap<>();
@@ -109,9 +113,12 @@ public class WriterClient {
             this.accumulator =
                     new RecordAccumulator(
                             conf, idempotenceManager, writerMetricGroup, SystemClock.getInstance());
-            this.sender = newSender(acks, retries);
-            this.ioThreadPool = createThreadPool();
-            ioThreadPool.submit(sender);
+            int numLanes = configureSenderThreadNum();
+            this.senders = newSenders(acks, retries, numLanes);
+            this.ioThreadPool = createThreadPool(numLanes);
+            for (Sender sender : senders) {
+                ioThreadPool.submit(sender);
+            }
 
             this.dynamicPartitionCreator =
                     new DynamicPartitionCreator(
@@ -218,8 +225,7 @@ public class WriterClient {
             throw new FlussRuntimeException(
                     String.format(
                             "Failed to send record to table %s. Writer state: %s",
-                            record.getPhysicalTablePath(),
-                            sender != null && sender.isRunning() ? "running" : "closed"),
+                            record.getPhysicalTablePath(), isRunning() ? "running" : "closed"),
                     e);
         }
     }
@@ -234,15 +240,26 @@ public class WriterClient {
     // Verify that writer instance has not been closed. This method throws IllegalStateException if
     // writer has already been closed.
     private void throwIfWriterClosed() {
-        if (sender == null || !sender.isRunning()) {
+        if (!isRunning()) {
             throw new IllegalStateException(
                     String.format(
                             "Cannot perform write operation after writer has been closed. Sender running: %b, Thread pool shutdown: %b",
-                            sender != null && sender.isRunning(),
-                            ioThreadPool == null || ioThreadPool.isShutdown()));
+                            isRunning(), ioThreadPool == null || ioThreadPool.isShutdown()));
         }
     }
 
+    private boolean isRunning() {
+        if (senders == null) {
+            return false;
+        }
+        for (Sender sender : senders) {
+            if (!sender.isRunning()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private IdempotenceManager buildIdempotenceManager() {
         boolean idempotenceEnabled =
                 conf.getBoolean(ConfigOptions.CLIENT_WRITER_ENABLE_IDEMPOTENCE);
@@ -297,16 +314,36 @@ public class WriterClient {
         return retries;
     }
 
-    private Sender newSender(short acks, int retries) {
-        return new Sender(
-                accumulator,
-                (int) conf.get(ConfigOptions.CLIENT_REQUEST_TIMEOUT).toMillis(),
-                maxRequestSize,
-                acks,
-                retries,
-                metadataUpdater,
-                idempotenceManager,
-                writerMetricGroup);
+    private int configureSenderThreadNum() {
+        int senderThreadNum = conf.getInt(ConfigOptions.CLIENT_WRITER_SENDER_THREAD_NUM);
+        if (senderThreadNum < 1) {
+            throw new IllegalConfigurationException(
+                    String.format(
+                            "Invalid configuration for %s, it must be greater than 0 (current value: %d)",
+                            ConfigOptions.CLIENT_WRITER_SENDER_THREAD_NUM.key(), senderThreadNum));
+        }
+        return senderThreadNum;
+    }
+
+    private List<Sender> newSenders(short acks, int retries, int numLanes) {
+        AtomicInteger runningLanes = new AtomicInteger(numLanes);
+        List<Sender> senders = new ArrayList<>(numLanes);
+        for (int lane = 0; lane < numLanes; lane++) {
+            senders.add(
+                    new Sender(
+                            accumulator,
+                            (int) conf.get(ConfigOptions.CLIENT_REQUEST_TIMEOUT).toMillis(),
+                            maxRequestSize,
+                            acks,
+                            retries,
+                            metadataUpdater,
+                            idempotenceManager,
+                            writerMetricGroup,
+                            lane,
+                            numLanes,
+                            runningLanes));
+        }
+        return senders;
     }
 
     public void close(Duration timeout) {
@@ -314,8 +351,8 @@ public class WriterClient {
 
         writerMetricGroup.close();
 
-        if (sender != null) {
-            sender.initiateClose();
+        if (senders != null) {
+            senders.forEach(Sender::initiateClose);
         }
 
         if (ioThreadPool != null) {
@@ -335,15 +372,16 @@ public class WriterClient {
             }
         }
 
-        if (sender != null) {
-            sender.forceClose();
+        if (senders != null) {
+            senders.forEach(Sender::forceClose);
         }
 
         LOG.info("Writer closed.");
     }
 
-    private ExecutorService createThreadPool() {
-        return Executors.newFixedThreadPool(1, new ExecutorThreadFactory(SENDER_THREAD_PREFIX));
+    private ExecutorService createThreadPool(int numLanes) {
+        return Executors.newFixedThreadPool(
+                numLanes, new ExecutorThreadFactory(SENDER_THREAD_PREFIX));
     }
 
     private BucketAssigner createBucketAssigner(
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.client.lookup;
+
+import org.apache.fluss.metadata.TableBucket;
+import org.apache.fluss.utils.clock.ManualClock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link LookupCache}. */
+class LookupCacheTest {
+
+    private static final TableBucket BUCKET = new TableBucket(1L, 0);
+    private static final TableBucket OTHER_TABLE_BUCKET = new TableBucket(2L, 0);
+
+    @Test
+    void testEvictLeastRecentlyUsed() {
+        LookupCache cache = new LookupCache(2, Long.MAX_VALUE, false, new ManualClock());
+        put(cache, BUCKET, new byte[] {1}, new byte[] {11});
+        put(cache, BUCKET, new byte[] {2}, null);
+        // access key 1, so key 2 becomes the least recently used one
+        assertThat(cache.get(BUCKET, new byte[] {1}).value()).isEqualTo(new byte[] {11});
+        put(cache, BUCKET, new byte[] {3}, new byte[] {33});
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(BUCKET, new byte[] {2})).isNull();
+        assertThat(cache.get(BUCKET, new byte[] {1})).isNotNull();
+        assertThat(cache.get(BUCKET, new byte[] {3})).isNotNull();
+    }
+
+    @Test
+    void testExpireAfterTtl() {
+        ManualClock clock = new ManualClock();
+        LookupCache cache = new LookupCache(10, 1000, false, clock);
+        put(cache, BUCKET, new byte[] {1}, null);
+        // a non-existing key is cached as well
+        assertThat(cache.get(BUCKET, new byte[] {1})).isNotNull();
+        assertThat(cache.get(BUCKET, new byte[] {1}).value()).isNull();
+
+        clock.advanceTime(1000, TimeUnit.MILLISECONDS);
+        assertThat(cache.get(BUCKET, new byte[] {1})).isNull();
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    void testInvalidate() {
+        LookupCache cache = new LookupCache(10, Long.MAX_VALUE, false, new ManualClock());
+        byte[] key = new byte[] {1};
+        put(cache, BUCKET, key, new byte[] {11});
+        put(cache, OTHER_TABLE_BUCKET, key, new byte[] {11});
+
+        // a lookup sent before the invalidation must not be cached
+        long generation = cache.generation(BUCKET, key);
+        cache.invalidate(BUCKET, key);
+        assertThat(cache.get(BUCKET, key)).isNull();
+        cache.put(BUCKET, key, new byte[] {11}, generation);
+        assertThat(cache.get(BUCKET, key)).isNull();
+
+        put(cache, BUCKET, key, new byte[] {12});
+        assertThat(cache.get(BUCKET, key).value()).isEqualTo(new byte[] {12});
+
+        cache.invalidateTable(BUCKET.getTableId());
+        assertThat(cache.get(BUCKET, key)).isNull();
+        assertThat(cache.get(OTHER_TABLE_BUCKET, key)).isNotNull();
+    }
+
+    @Test
+    void testNotCacheableWithoutInvalidator() {
+        LookupCache cache = new LookupCache(10, Long.MAX_VALUE, true, new ManualClock());
+        assertThat(cache.isCacheable(BUCKET.getTableId())).isFalse();
+
+        // failing to start the invalidator doesn't fail the caller
+        cache.startChangelogInvalidation(
+                BUCKET.getTableId(),
+                () -> {
+                    throw new RuntimeException("expected");
+                });
+        assertThat(cache.isCacheable(BUCKET.getTableId())).isFalse();
+
+        LookupCache cacheWithoutInvalidation =
+                new LookupCache(10, Long.MAX_VALUE, false, new ManualClock());
+        assertThat(cacheWithoutInvalidation.isCacheable(BUCKET.getTableId())).isTrue();
+    }
+
+    private static void put(LookupCache cache, TableBucket bucket, byte[] key, byte[] value) {
+        cache.put(bucket, key, value, cache.generation(bucket, key));
+    }
+}
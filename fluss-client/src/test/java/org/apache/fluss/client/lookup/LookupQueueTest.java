@@ -22,6 +22,8 @@ import org.apache.fluss.metadata.TableBucket;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -70,7 +72,7 @@ class LookupQueueTest {
         LookupQueue queue = new LookupQueue(conf);
 
         appendLookups(queue, 5);
-        assertThat(queue.getLookupQueue()).hasSize(5);
+        assertThat(queue.numPendingLookups()).isEqualTo(5);
 
         CompletableFuture<Void> future =
                 CompletableFuture.runAsync(
@@ -98,30 +100,156 @@ class LookupQueueTest {
         LookupQueue queue = new LookupQueue(conf);
 
         appendLookups(queue, 5);
-        assertThat(queue.getLookupQueue()).hasSize(5);
-        assertThat(queue.getReEnqueuedLookupQueue()).hasSize(0);
+        assertThat(queue.numPendingLookups()).isEqualTo(5);
+        assertThat(queue.numReEnqueuedLookups()).isEqualTo(0);
 
         queue.reEnqueue(
                 new LookupQuery(DATA1_TABLE_PATH_PK, new TableBucket(1, 1), new byte[] {0}));
-        assertThat(queue.getLookupQueue()).hasSize(5);
-        // This batch will be put into re-enqueued lookup queue.
-        assertThat(queue.getReEnqueuedLookupQueue()).hasSize(1);
+        assertThat(queue.numPendingLookups()).isEqualTo(5);
+        // This lookup will be put into re-enqueued lookups.
+        assertThat(queue.numReEnqueuedLookups()).isEqualTo(1);
         assertThat(queue.hasUnDrained()).isTrue();
 
-        assertThat(queue.drain()).hasSize(5);
-        // drain re-enqueued lookup first.
-        assertThat(queue.getReEnqueuedLookupQueue().isEmpty()).isTrue();
-        assertThat(queue.getLookupQueue()).hasSize(1);
-        assertThat(queue.hasUnDrained()).isTrue();
+        // drain re-enqueued lookup first, then the full batch.
+        assertThat(queue.drain()).hasSize(6);
+        assertThat(queue.numReEnqueuedLookups()).isEqualTo(0);
+        assertThat(queue.numPendingLookups()).isEqualTo(0);
+        assertThat(queue.hasUnDrained()).isFalse();
+    }
 
+    @Test
+    void testDrainBatchesPerBucket() throws Exception {
+        Configuration conf = new Configuration();
+        conf.set(CLIENT_LOOKUP_MAX_BATCH_SIZE, 3);
+        conf.setString(CLIENT_LOOKUP_BATCH_TIMEOUT.key(), "1h");
+        LookupQueue queue = new LookupQueue(conf);
+
+        TableBucket bucket0 = new TableBucket(1, 0);
+        TableBucket bucket1 = new TableBucket(1, 1);
+        appendLookups(queue, bucket0, 4);
+        appendLookups(queue, bucket1, 2);
+
+        // only the full batch of bucket0 is ready, the others are lingering.
+        List<AbstractLookupQuery<?>> drained = queue.drain();
+        assertThat(drained).hasSize(3);
+        assertThat(drained).allMatch(lookup -> lookup.tableBucket().equals(bucket0));
+        assertThat(queue.numPendingLookups()).isEqualTo(3);
+
+        // fill the batch of bucket1 to make it ready.
+        appendLookups(queue, bucket1, 1);
+        drained = queue.drain();
+        assertThat(drained).hasSize(3);
+        assertThat(drained).allMatch(lookup -> lookup.tableBucket().equals(bucket1));
+
+        // closing the queue makes all the batches ready.
+        queue.close();
         assertThat(queue.drain()).hasSize(1);
         assertThat(queue.hasUnDrained()).isFalse();
     }
 
+    @Test
+    void testDrainLingeringBatchAfterTimeout() throws Exception {
+        Configuration conf = new Configuration();
+        conf.set(CLIENT_LOOKUP_MAX_BATCH_SIZE, 10);
+        conf.setString(CLIENT_LOOKUP_BATCH_TIMEOUT.key(), "50ms");
+        LookupQueue queue = new LookupQueue(conf);
+
+        CompletableFuture<List<AbstractLookupQuery<?>>> future =
+                CompletableFuture.supplyAsync(
+                        () -> {
+                            try {
+                                return queue.drain();
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        // the drain waits for the lingering batch created after it starts.
+        appendLookups(queue, 1);
+        assertThat(future.get(1, TimeUnit.SECONDS)).hasSize(1);
+        assertThat(queue.hasUnDrained()).isFalse();
+    }
+
+    @Test
+    void testDrainSendableServers() throws Exception {
+        Configuration conf = new Configuration();
+        conf.set(CLIENT_LOOKUP_MAX_BATCH_SIZE, 2);
+        TableBucket bucket0 = new TableBucket(1, 0);
+        TableBucket bucket1 = new TableBucket(1, 1);
+        // bucket0 is led by server 0, bucket1 by server 1
+        LookupQueue queue =
+                new LookupQueue(conf, tableBucket -> Optional.of(tableBucket.getBucket()));
+
+        appendLookups(queue, bucket0, 2);
+        appendLookups(queue, bucket1, 2);
+
+        List<AbstractLookupQuery<?>> drained = queue.drain(serverId -> serverId == 1);
+        assertThat(drained).hasSize(2);
+        assertThat(drained).allMatch(lookup -> lookup.tableBucket().equals(bucket1));
+        // the lookups to the not sendable server stay in the queue.
+        assertThat(queue.numPendingLookups()).isEqualTo(2);
+        assertThat(queue.drain()).hasSize(2);
+    }
+
+    @Test
+    void testDrainReadyPerDestination() throws Exception {
+        Configuration conf = new Configuration();
+        conf.set(CLIENT_LOOKUP_MAX_BATCH_SIZE, 4);
+        conf.setString(CLIENT_LOOKUP_BATCH_TIMEOUT.key(), "1h");
+        TableBucket bucket0 = new TableBucket(1, 0);
+        TableBucket bucket1 = new TableBucket(1, 1);
+        TableBucket bucket2 = new TableBucket(1, 2);
+        // bucket0 and bucket1 are led by server 0, bucket2 by server 1
+        LookupQueue queue =
+                new LookupQueue(
+                        conf, tableBucket -> Optional.of(tableBucket.getBucket() == 2 ? 1 : 0));
+
+        appendLookups(queue, bucket0, 3);
+        appendLookups(queue, bucket2, 3);
+
+        // server 0 is ready with the lookups of two buckets, although no bucket is full.
+        appendLookups(queue, bucket1, 2);
+        List<AbstractLookupQuery<?>> drained = queue.drain();
+        assertThat(drained).hasSize(4);
+        assertThat(drained).noneMatch(lookup -> lookup.tableBucket().equals(bucket2));
+        assertThat(queue.numPendingLookups()).isEqualTo(4);
+
+        // server 1 is ready with one more lookup, the remaining lookup of server 0 lingers.
+        appendLookups(queue, bucket2, 1);
+        drained = queue.drain();
+        assertThat(drained).hasSize(4);
+        assertThat(drained).allMatch(lookup -> lookup.tableBucket().equals(bucket2));
+        assertThat(queue.numPendingLookups()).isEqualTo(1);
+    }
+
+    @Test
+    void testAppendWakesUpDrainWhenDestinationIsReady() throws Exception {
+        Configuration conf = new Configuration();
+        conf.set(CLIENT_LOOKUP_MAX_BATCH_SIZE, 2);
+        conf.setString(CLIENT_LOOKUP_BATCH_TIMEOUT.key(), "1h");
+        // all the buckets are led by server 0
+        LookupQueue queue = new LookupQueue(conf, tableBucket -> Optional.of(0));
+
+        appendLookups(queue, new TableBucket(1, 0), 1);
+        CompletableFuture<List<AbstractLookupQuery<?>>> future =
+                CompletableFuture.supplyAsync(
+                        () -> {
+                            try {
+                                return queue.drain();
+                            } catch (Exception e) {
+                                throw new RuntimeException(e);
+                            }
+                        });
+        appendLookups(queue, new TableBucket(1, 1), 1);
+        assertThat(future.get(10, TimeUnit.SECONDS)).hasSize(2);
+    }
+
     private static void appendLookups(LookupQueue queue, int count) {
+        appendLookups(queue, new TableBucket(1, 1), count);
+    }
+
+    private static void appendLookups(LookupQueue queue, TableBucket tableBucket, int count) {
         for (int i = 0; i < count; i++) {
-            queue.appendLookup(
-                    new LookupQuery(DATA1_TABLE_PATH_PK, new TableBucket(1, 1), new byte[] {0}));
+            queue.appendLookup(new LookupQuery(DATA1_TABLE_PATH_PK, tableBucket, new byte[] {0}));
         }
     }
 }
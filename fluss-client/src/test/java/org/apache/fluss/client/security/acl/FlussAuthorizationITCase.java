@@ -26,6 +26,7 @@ import org.apache.fluss.client.admin.KvSnapshotLease;
 import org.apache.fluss.client.table.Table;
 import org.apache.fluss.client.table.scanner.batch.BatchScanner;
 import org.apache.fluss.client.table.writer.AppendWriter;
+import org.apache.fluss.client.table.writer.UpsertWriter;
 import org.apache.fluss.client.utils.ClientRpcMessageUtils;
 import org.apache.fluss.cluster.rebalance.ServerTag;
 import org.apache.fluss.config.ConfigOptions;
@@ -57,6 +58,8 @@ import org.apache.fluss.rpc.messages.InitWriterRequest;
 import org.apache.fluss.rpc.messages.InitWriterResponse;
 import org.apache.fluss.rpc.messages.MetadataRequest;
 import org.apache.fluss.rpc.messages.ReleaseKvSnapshotLeaseRequest;
+import org.apache.fluss.rpc.messages.ScanKvRequest;
+import org.apache.fluss.rpc.messages.ScanKvResponse;
 import org.apache.fluss.rpc.metrics.TestingClientMetricGroup;
 import org.apache.fluss.security.acl.AccessControlEntry;
 import org.apache.fluss.security.acl.AccessControlEntryFilter;
@@ -674,6 +677,56 @@ public class FlussAuthorizationITCase {
         }
     }
 
+    @Test
+    void testScanKvAuthorization() throws Exception {
+        TablePath tablePath = TablePath.of("test_db_1", "scan_kv_acl_table");
+        TableDescriptor descriptor =
+                TableDescriptor.builder().schema(DATA1_SCHEMA_PK).distributedBy(1).build();
+        rootAdmin.createTable(tablePath, descriptor, false).get();
+        long tableId = rootAdmin.getTableInfo(tablePath).get().getTableId();
+        FLUSS_CLUSTER_EXTENSION.waitUntilTableReady(tableId);
+        try (Table table = rootConn.getTable(tablePath)) {
+            UpsertWriter upsertWriter = table.newUpsert().createWriter();
+            upsertWriter.upsert(row(1, "a"));
+            upsertWriter.upsert(row(2, "b"));
+            upsertWriter.flush();
+        }
+
+        int leader = FLUSS_CLUSTER_EXTENSION.waitAndGetLeader(new TableBucket(tableId, 0));
+        TabletServerGateway rootGateway =
+                ((FlussConnection) rootConn)
+                        .getMetadataUpdater()
+                        .newTabletServerClientForNode(leader);
+        TabletServerGateway guestGateway =
+                ((FlussConnection) guestConn)
+                        .getMetadataUpdater()
+                        .newTabletServerClientForNode(leader);
+
+        // 1. guest can't open a scanner without READ permission
+        ScanKvRequest openRequest = new ScanKvRequest().setCallSeqId(0).setBatchSizeBytes(1);
+        openRequest.setBucketScanReq().setTableId(tableId).setBucketId(0);
+        assertThatThrownBy(() -> guestGateway.scanKv(openRequest).get())
+                .cause()
+                .isInstanceOf(AuthorizationException.class);
+
+        // 2. guest can't continue a scanner opened by root either
+        ScanKvResponse response = rootGateway.scanKv(openRequest).get();
+        assertThat(response.isHasMoreResults()).isTrue();
+        ScanKvRequest continueRequest =
+                new ScanKvRequest()
+                        .setScannerId(response.getScannerId())
+                        .setCallSeqId(1)
+                        .setBatchSizeBytes(1);
+        assertThatThrownBy(() -> guestGateway.scanKv(continueRequest).get())
+                .cause()
+                .isInstanceOf(AuthorizationException.class);
+
+        // 3. the rejected request doesn't advance the scanner
+        response = rootGateway.scanKv(continueRequest).get();
+        assertThat(response.hasErrorCode()).isFalse();
+        assertThat(response.isHasMoreResults()).isFalse();
+    }
+
     @Test
     void testProduceAndConsumer() throws Exception {
         TableDescriptor descriptor =
@@ -89,6 +89,7 @@ import static org.apache.fluss.testutils.DataTestUtils.compactedRow;
 import static org.apache.fluss.testutils.DataTestUtils.keyRow;
 import static org.apache.fluss.testutils.DataTestUtils.row;
 import static org.apache.fluss.testutils.InternalRowAssert.assertThatRow;
+import static org.apache.fluss.testutils.common.CommonTestUtils.retry;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -243,6 +244,76 @@ class FlussTableITCase extends ClientToServerITCaseBase {
         }
     }
 
+    @Test
+    void testLookupWithCache() throws Exception {
+        TablePath tablePath = TablePath.of("test_db_1", "test_lookup_with_cache");
+        createTable(tablePath, DATA1_TABLE_DESCRIPTOR_PK, false);
+        Table table = conn.getTable(tablePath);
+        UpsertWriter upsertWriter = table.newUpsert().createWriter();
+        upsertWriter.upsert(row(1, "a"));
+        upsertWriter.flush();
+
+        Configuration cacheConf = new Configuration(clientConf);
+        cacheConf.set(ConfigOptions.CLIENT_LOOKUP_CACHE_MAX_ROWS, 100L);
+        cacheConf.set(ConfigOptions.CLIENT_LOOKUP_CACHE_TTL, Duration.ofHours(1));
+        try (Connection cacheConn = ConnectionFactory.createConnection(cacheConf);
+                Table cacheTable = cacheConn.getTable(tablePath)) {
+            Lookuper lookuper = cacheTable.newLookup().createLookuper();
+            assertThatRow(lookupRow(lookuper, row(1)))
+                    .withSchema(DATA1_ROW_TYPE)
+                    .isEqualTo(row(1, "a"));
+            assertThat(lookupRow(lookuper, row(2))).isNull();
+
+            upsertWriter.upsert(row(1, "b"));
+            upsertWriter.upsert(row(2, "c"));
+            upsertWriter.flush();
+            // the results are served from the cache until they expire
+            assertThatRow(lookupRow(lookuper, row(1)))
+                    .withSchema(DATA1_ROW_TYPE)
+                    .isEqualTo(row(1, "a"));
+            assertThat(lookupRow(lookuper, row(2))).isNull();
+        }
+    }
+
+    @Test
+    void testLookupWithCacheChangelogInvalidation() throws Exception {
+        TablePath tablePath =
+                TablePath.of("test_db_1", "test_lookup_with_cache_changelog_invalidation");
+        createTable(tablePath, DATA1_TABLE_DESCRIPTOR_PK, false);
+        Table table = conn.getTable(tablePath);
+        UpsertWriter upsertWriter = table.newUpsert().createWriter();
+        upsertWriter.upsert(row(1, "a"));
+        upsertWriter.flush();
+
+        Configuration cacheConf = new Configuration(clientConf);
+        cacheConf.set(ConfigOptions.CLIENT_LOOKUP_CACHE_MAX_ROWS, 100L);
+        cacheConf.set(ConfigOptions.CLIENT_LOOKUP_CACHE_TTL, Duration.ofHours(1));
+        cacheConf.set(ConfigOptions.CLIENT_LOOKUP_CACHE_CHANGELOG_INVALIDATION_ENABLED, true);
+        try (Connection cacheConn = ConnectionFactory.createConnection(cacheConf);
+                Table cacheTable = cacheConn.getTable(tablePath)) {
+            Lookuper lookuper = cacheTable.newLookup().createLookuper();
+            assertThatRow(lookupRow(lookuper, row(1)))
+                    .withSchema(DATA1_ROW_TYPE)
+                    .isEqualTo(row(1, "a"));
+            assertThat(lookupRow(lookuper, row(2))).isNull();
+
+            upsertWriter.upsert(row(1, "b"));
+            upsertWriter.upsert(row(2, "c"));
+            upsertWriter.flush();
+            // the changes invalidate the cached results
+            retry(
+                    Duration.ofMinutes(1),
+                    () -> {
+                        assertThatRow(lookupRow(lookuper, row(1)))
+                                .withSchema(DATA1_ROW_TYPE)
+                                .isEqualTo(row(1, "b"));
+                        assertThatRow(lookupRow(lookuper, row(2)))
+                                .withSchema(DATA1_ROW_TYPE)
+                                .isEqualTo(row(2, "c"));
+                    });
+        }
+    }
+
     @Test
     void testPutAndLookup() throws Exception {
         TablePath tablePath = TablePath.of("test_db_1", "test_put_and_lookup_table");
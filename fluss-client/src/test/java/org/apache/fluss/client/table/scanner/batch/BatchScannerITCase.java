@@ -342,6 +342,25 @@ class BatchScannerITCase extends ClientToServerITCaseBase {
         }
     }
 
+    @Test
+    void testScanKvWithoutLimit() throws Exception {
+        TablePath tablePath = TablePath.of(DEFAULT_DB, "test-table-kv-scan");
+        long tableId = createTable(tablePath, DEFAULT_TABLE_DESCRIPTOR, true);
+        Map<TableBucket, List<InternalRow>> expectedRowByBuckets = putRows(tableId, tablePath, 100);
+
+        try (Table table = conn.getTable(tablePath)) {
+            for (Map.Entry<TableBucket, List<InternalRow>> entry :
+                    expectedRowByBuckets.entrySet()) {
+                BatchScanner scanner = table.newScan().createBatchScanner(entry.getKey());
+                assertThat(collectRows(scanner))
+                        .containsExactlyInAnyOrderElementsOf(entry.getValue());
+            }
+
+            BatchScanner scanner = table.newScan().createBatchScanner();
+            assertThat(collectRows(scanner)).hasSize(100);
+        }
+    }
+
     // -------- Utils method
 
     private static int getBucketId(InternalRow row) {
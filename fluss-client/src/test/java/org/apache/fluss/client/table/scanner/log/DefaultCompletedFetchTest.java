@@ -50,6 +50,8 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import javax.annotation.Nullable;
+
 import java.io.File;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
@@ -62,6 +64,8 @@ import java.util.Map;
 import static org.apache.fluss.compression.ArrowCompressionInfo.DEFAULT_COMPRESSION;
 import static org.apache.fluss.record.LogRecordBatchFormat.LOG_MAGIC_VALUE_V0;
 import static org.apache.fluss.record.LogRecordBatchFormat.LOG_MAGIC_VALUE_V1;
+import static org.apache.fluss.record.LogRecordBatchFormat.NO_BATCH_SEQUENCE;
+import static org.apache.fluss.record.LogRecordBatchFormat.NO_WRITER_ID;
 import static org.apache.fluss.record.TestData.DATA2;
 import static org.apache.fluss.record.TestData.DATA2_ROW_TYPE;
 import static org.apache.fluss.record.TestData.DATA2_TABLE_ID;
@@ -71,8 +75,10 @@ import static org.apache.fluss.record.TestData.DEFAULT_REMOTE_DATA_DIR;
 import static org.apache.fluss.record.TestData.DEFAULT_SCHEMA_ID;
 import static org.apache.fluss.row.BinaryString.fromString;
 import static org.apache.fluss.rpc.util.CommonRpcMessageUtils.toByteBuffer;
+import static org.apache.fluss.testutils.DataTestUtils.createBasicMemoryLogRecords;
 import static org.apache.fluss.testutils.DataTestUtils.createRecordsWithoutBaseLogOffset;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Test for {@link org.apache.fluss.client.table.scanner.log.DefaultCompletedFetch}. */
 public class DefaultCompletedFetchTest {
@@ -226,6 +232,104 @@ public class DefaultCompletedFetchTest {
         }
     }
 
+    @ParameterizedTest
+    @ValueSource(bytes = {LOG_MAGIC_VALUE_V0, LOG_MAGIC_VALUE_V1})
+    void testFetchBatches(byte recordBatchMagic) throws Exception {
+        TableBucket tb = new TableBucket(DATA2_TABLE_ID, 0);
+        List<ChangeType> changeTypes = new ArrayList<>();
+        for (int i = 0; i < DATA2.size(); i++) {
+            changeTypes.add(i % 2 == 0 ? ChangeType.INSERT : ChangeType.DELETE);
+        }
+        MemoryLogRecords records =
+                createBasicMemoryLogRecords(
+                        rowType,
+                        DEFAULT_SCHEMA_ID,
+                        0L,
+                        1000L,
+                        recordBatchMagic,
+                        NO_WRITER_ID,
+                        NO_BATCH_SEQUENCE,
+                        changeTypes,
+                        DATA2,
+                        LogFormat.ARROW,
+                        DEFAULT_COMPRESSION);
+        LogRecordReadContext readContext = createReadContext(null);
+        // fetch from the middle of the batch
+        DefaultCompletedFetch completedFetch =
+                new DefaultCompletedFetch(
+                        tb,
+                        new FetchLogResultForBucket(tb, records, 10L),
+                        readContext,
+                        logScannerStatus,
+                        true,
+                        3L,
+                        null);
+        List<ScanBatch> scanBatches = completedFetch.fetchBatches(1);
+        assertThat(scanBatches).hasSize(1);
+        assertThat(completedFetch.nextFetchOffset()).isEqualTo(10L);
+        assertThat(completedFetch.fetchBatches(1)).isEmpty();
+        assertThat(completedFetch.isConsumed()).isTrue();
+
+        ScanBatch scanBatch = scanBatches.get(0);
+        assertThat(scanBatch.getTableBucket()).isEqualTo(tb);
+        assertThat(scanBatch.getBaseLogOffset()).isEqualTo(0L);
+        assertThat(scanBatch.getRowCount()).isEqualTo(10);
+        assertThat(scanBatch.getStartRowId()).isEqualTo(3);
+        assertThat(scanBatch.getRecordCount()).isEqualTo(7);
+        assertThat(scanBatch.getFieldCount()).isEqualTo(3);
+        for (int rowId = scanBatch.getStartRowId(); rowId < scanBatch.getRowCount(); rowId++) {
+            Object[] expected = DATA2.get(rowId);
+            assertThat(scanBatch.getLogOffset(rowId)).isEqualTo(rowId);
+            assertThat(scanBatch.getChangeType(rowId)).isEqualTo(changeTypes.get(rowId));
+            assertThat(scanBatch.getColumns().getInt(rowId, 0)).isEqualTo(expected[0]);
+            assertThat(scanBatch.getColumns().getString(rowId, 1)).isEqualTo(expected[1]);
+            assertThat(scanBatch.getRow(rowId).getString(2).toString()).isEqualTo(expected[2]);
+        }
+
+        // the batch is released with the last reference
+        scanBatch.retain();
+        scanBatch.close();
+        assertThat(scanBatch.getColumns().getInt(3, 0)).isEqualTo(DATA2.get(3)[0]);
+        scanBatch.close();
+        assertThatThrownBy(scanBatch::retain)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("has been released");
+        // no arrow buffer is leaked
+        readContext.close();
+    }
+
+    @Test
+    void testFetchBatchesWithProjection() throws Exception {
+        TableBucket tb = new TableBucket(DATA2_TABLE_ID, 0);
+        FetchLogResultForBucket resultForBucket =
+                new FetchLogResultForBucket(
+                        tb,
+                        genRecordsWithProjection(
+                                DATA2, Projection.of(new int[] {0, 2}), LOG_MAGIC_VALUE_V1),
+                        10L);
+        LogRecordReadContext readContext = createReadContext(Projection.of(new int[] {2, 0}));
+        DefaultCompletedFetch completedFetch =
+                new DefaultCompletedFetch(
+                        tb, resultForBucket, readContext, logScannerStatus, true, 0L, null);
+
+        // the records partially fetched as rows are followed by the rest of the batch
+        List<ScanRecord> scanRecords = completedFetch.fetchRecords(4);
+        assertThat(scanRecords).hasSize(4);
+        List<ScanBatch> scanBatches = completedFetch.fetchBatches(100);
+        assertThat(scanBatches).hasSize(1);
+        ScanBatch scanBatch = scanBatches.get(0);
+        assertThat(scanBatch.getStartRowId()).isEqualTo(4);
+        assertThat(scanBatch.getFieldCount()).isEqualTo(2);
+        for (int rowId = scanBatch.getStartRowId(); rowId < scanBatch.getRowCount(); rowId++) {
+            Object[] expected = DATA2.get(rowId);
+            assertThat(scanBatch.getChangeType(rowId)).isEqualTo(ChangeType.APPEND_ONLY);
+            assertThat(scanBatch.getColumns().getString(rowId, 0)).isEqualTo(expected[2]);
+            assertThat(scanBatch.getColumns().getInt(rowId, 1)).isEqualTo(expected[0]);
+        }
+        scanBatch.close();
+        readContext.close();
+    }
+
     @Test
     void testComplexTypeFetch() throws Exception {
         List<Object[]> complexData =
@@ -392,17 +496,21 @@ public class DefaultCompletedFetchTest {
         return new DefaultCompletedFetch(
                 tableBucket,
                 resultForBucket,
-                LogRecordReadContext.createReadContext(
-                        tableInfo,
-                        false,
-                        projection,
-                        new TestingSchemaGetter(tableInfo.getSchemaId(), tableInfo.getSchema())),
+                createReadContext(projection),
                 logScannerStatus,
                 true,
                 offset,
                 null);
     }
 
+    private LogRecordReadContext createReadContext(@Nullable Projection projection) {
+        return LogRecordReadContext.createReadContext(
+                tableInfo,
+                false,
+                projection,
+                new TestingSchemaGetter(tableInfo.getSchemaId(), tableInfo.getSchema()));
+    }
+
     private static Collection<Arguments> typeAndMagic() {
         List<Arguments> params = new ArrayList<>();
         params.add(Arguments.arguments(LogFormat.ARROW, LOG_MAGIC_VALUE_V1));
@@ -86,6 +86,45 @@ public class LogScannerITCase extends ClientToServerITCaseBase {
         }
     }
 
+    @Test
+    void testPollBatches() throws Exception {
+        createTable(DATA1_TABLE_PATH, DATA1_TABLE_DESCRIPTOR, false);
+
+        int recordSize = 10;
+        List<GenericRow> expectedRows = new ArrayList<>();
+        try (Table table = conn.getTable(DATA1_TABLE_PATH)) {
+            AppendWriter appendWriter = table.newAppend().createWriter();
+            for (int i = 0; i < recordSize; i++) {
+                appendWriter.append(row(i, "a" + i)).get();
+                expectedRows.add(row("a" + i, i));
+            }
+
+            try (ColumnarLogScanner logScanner =
+                    table.newScan().project(new int[] {1, 0}).createColumnarLogScanner()) {
+                subscribeFromBeginning(logScanner, table);
+                List<GenericRow> rowList = new ArrayList<>();
+                while (rowList.size() < recordSize) {
+                    try (ScanBatches scanBatches = logScanner.pollBatches(Duration.ofSeconds(1))) {
+                        for (ScanBatch scanBatch : scanBatches) {
+                            assertThat(scanBatch.getFieldCount()).isEqualTo(2);
+                            for (int rowId = scanBatch.getStartRowId();
+                                    rowId < scanBatch.getRowCount();
+                                    rowId++) {
+                                assertThat(scanBatch.getChangeType(rowId))
+                                        .isEqualTo(ChangeType.APPEND_ONLY);
+                                rowList.add(
+                                        row(
+                                                scanBatch.getColumns().getString(rowId, 0),
+                                                scanBatch.getColumns().getInt(rowId, 1)));
+                            }
+                        }
+                    }
+                }
+                assertThat(rowList).containsExactlyInAnyOrderElementsOf(expectedRows);
+            }
+        }
+    }
+
     @Test
     void testPollWhileCreateTableNotReady() throws Exception {
         // create one table with 30 buckets.
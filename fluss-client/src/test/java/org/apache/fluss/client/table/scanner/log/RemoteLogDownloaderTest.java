@@ -23,9 +23,14 @@ import org.apache.fluss.client.table.scanner.RemoteFileDownloader;
 import org.apache.fluss.client.table.scanner.log.RemoteLogDownloader.RemoteLogDownloadRequest;
 import org.apache.fluss.config.ConfigOptions;
 import org.apache.fluss.config.Configuration;
+import org.apache.fluss.config.MemorySize;
 import org.apache.fluss.fs.FsPath;
+import org.apache.fluss.fs.FsPathAndFileName;
 import org.apache.fluss.metadata.PhysicalTablePath;
 import org.apache.fluss.metadata.TableBucket;
+import org.apache.fluss.record.FileLogRecords;
+import org.apache.fluss.record.LogRecordBatch;
+import org.apache.fluss.record.MemoryLogRecords;
 import org.apache.fluss.remote.RemoteLogSegment;
 import org.apache.fluss.utils.FileUtils;
 import org.apache.fluss.utils.IOUtils;
@@ -50,9 +55,11 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import static org.apache.fluss.record.TestData.DATA1;
 import static org.apache.fluss.record.TestData.DATA1_PHYSICAL_TABLE_PATH;
 import static org.apache.fluss.record.TestData.DATA1_TABLE_ID;
 import static org.apache.fluss.record.TestData.DATA1_TABLE_PATH;
+import static org.apache.fluss.testutils.DataTestUtils.genMemoryLogRecordsWithBaseOffset;
 import static org.apache.fluss.testutils.DataTestUtils.genRemoteLogSegmentFile;
 import static org.apache.fluss.testutils.common.CommonTestUtils.retry;
 import static org.apache.fluss.testutils.common.CommonTestUtils.waitUntil;
@@ -151,10 +158,12 @@ class RemoteLogDownloaderTest {
             }
 
             @Override
-            protected long downloadFile(Path targetFilePath, FsPath remoteFilePath)
+            protected long downloadLogRange(
+                    Path targetFilePath, FsPath remoteFilePath, long startPosition, long maxBytes)
                     throws IOException {
                 threadNames.add(Thread.currentThread().getName());
-                return super.downloadFile(targetFilePath, remoteFilePath);
+                return super.downloadLogRange(
+                        targetFilePath, remoteFilePath, startPosition, maxBytes);
             }
         }
 
@@ -191,7 +200,7 @@ class RemoteLogDownloaderTest {
                         remoteLogTabletDir(
                                 remoteLogDir, DATA1_PHYSICAL_TABLE_PATH, segment.tableBucket());
                 RemoteLogDownloadFuture future =
-                        remoteLogDownloader.requestRemoteLog(remoteLogTabletDir, segment);
+                        remoteLogDownloader.requestRemoteLog(remoteLogTabletDir, segment, 0);
                 futures.put(segment.remoteLogSegmentId(), future);
             }
 
@@ -235,6 +244,83 @@ class RemoteLogDownloaderTest {
         }
     }
 
+    @Test
+    void testDownloadLogRange() throws Exception {
+        TableBucket tb = new TableBucket(DATA1_TABLE_ID, 0);
+        RemoteLogSegment segment =
+                RemoteLogSegment.Builder.builder()
+                        .tableBucket(tb)
+                        .physicalTablePath(DATA1_PHYSICAL_TABLE_PATH)
+                        .remoteLogSegmentId(UUID.randomUUID())
+                        .remoteLogStartOffset(0L)
+                        .remoteLogEndOffset(29L)
+                        .maxTimestamp(10L)
+                        .segmentSizeInBytes(Integer.MAX_VALUE)
+                        .build();
+        FsPath remoteLogTabletDir = remoteLogTabletDir(remoteLogDir, DATA1_PHYSICAL_TABLE_PATH, tb);
+        FsPathAndFileName fsPathAndFileName =
+                RemoteLogDownloader.getFsPathAndFileName(remoteLogTabletDir, segment);
+        File remoteFile = new File(fsPathAndFileName.getPath().getPath());
+        assertThat(remoteFile.getParentFile().mkdirs()).isTrue();
+
+        // a remote segment file with 3 record batches
+        List<Long> batchSizes = new ArrayList<>();
+        try (FileLogRecords fileLogRecords = FileLogRecords.open(remoteFile)) {
+            for (int i = 0; i < 3; i++) {
+                MemoryLogRecords records = genMemoryLogRecordsWithBaseOffset(i * 10L, DATA1);
+                batchSizes.add((long) records.sizeInBytes());
+                fileLogRecords.append(records);
+            }
+            fileLogRecords.flush();
+        }
+
+        Path targetDir = localDir.toPath();
+        Path targetFile = targetDir.resolve(fsPathAndFileName.getFileName());
+        try (RemoteFileDownloader fileDownloader = new RemoteFileDownloader(1)) {
+            // the range starts from the second batch and stops at the first batch boundary
+            long bytes =
+                    fileDownloader
+                            .downloadLogRangeAsync(
+                                    fsPathAndFileName, targetDir, batchSizes.get(0), 1)
+                            .get();
+            assertThat(bytes).isEqualTo(batchSizes.get(1));
+            assertThat(baseOffsetsOfBatches(targetFile)).containsExactly(10L);
+
+            // the range stops at the end of the remote file
+            bytes =
+                    fileDownloader
+                            .downloadLogRangeAsync(
+                                    fsPathAndFileName,
+                                    targetDir,
+                                    batchSizes.get(0),
+                                    Integer.MAX_VALUE)
+                            .get();
+            assertThat(bytes).isEqualTo(batchSizes.get(1) + batchSizes.get(2));
+            assertThat(baseOffsetsOfBatches(targetFile)).containsExactly(10L, 20L);
+        }
+
+        conf.set(ConfigOptions.CLIENT_SCANNER_REMOTE_LOG_FETCH_RANGE_SIZE, MemorySize.parse("1kb"));
+        RemoteFileDownloader fileDownloader = new RemoteFileDownloader(1);
+        RemoteLogDownloader remoteLogDownloader =
+                new RemoteLogDownloader(
+                        DATA1_TABLE_PATH, conf, fileDownloader, scannerMetricGroup, 10L);
+        // only the segments larger than the fetch range are downloaded partially
+        RemoteLogSegment largeSegment =
+                RemoteLogSegment.Builder.builder()
+                        .tableBucket(tb)
+                        .physicalTablePath(DATA1_PHYSICAL_TABLE_PATH)
+                        .remoteLogSegmentId(UUID.randomUUID())
+                        .remoteLogStartOffset(0L)
+                        .remoteLogEndOffset(29L)
+                        .maxTimestamp(10L)
+                        .segmentSizeInBytes(2048)
+                        .build();
+        assertThat(remoteLogDownloader.isPartialDownload(largeSegment, 0)).isTrue();
+        assertThat(remoteLogDownloader.isPartialDownload(largeSegment, 1024)).isFalse();
+        IOUtils.closeQuietly(remoteLogDownloader);
+        IOUtils.closeQuietly(fileDownloader);
+    }
+
     @Test
     void testOrderOfRemoteLogDownloadRequest() {
         TableBucket bucket1 = new TableBucket(DATA1_TABLE_ID, 1);
@@ -294,7 +380,7 @@ class RemoteLogDownloaderTest {
                         .maxTimestamp(maxTimestamp)
                         .segmentSizeInBytes(Integer.MAX_VALUE)
                         .build();
-        return new RemoteLogDownloadRequest(remoteLogSegment, remoteLogDir);
+        return new RemoteLogDownloadRequest(remoteLogSegment, remoteLogDir, 0);
     }
 
     private List<RemoteLogDownloadFuture> requestRemoteLogs(
@@ -304,7 +390,7 @@ class RemoteLogDownloaderTest {
         List<RemoteLogDownloadFuture> futures = new ArrayList<>();
         for (RemoteLogSegment segment : remoteLogSegments) {
             RemoteLogDownloadFuture future =
-                    remoteLogDownloader.requestRemoteLog(remoteLogTabletDir, segment);
+                    remoteLogDownloader.requestRemoteLog(remoteLogTabletDir, segment, 0);
             futures.add(future);
         }
         return futures;
@@ -338,6 +424,16 @@ class RemoteLogDownloaderTest {
         return remoteLogSegmentList;
     }
 
+    private static List<Long> baseOffsetsOfBatches(Path logFile) throws IOException {
+        List<Long> baseOffsets = new ArrayList<>();
+        try (FileLogRecords fileLogRecords = FileLogRecords.open(logFile.toFile(), false)) {
+            for (LogRecordBatch batch : fileLogRecords.batches()) {
+                baseOffsets.add(batch.baseLogOffset());
+            }
+        }
+        return baseOffsets;
+    }
+
     private static Long remoteLogSegmentFilesLength(
             List<RemoteLogSegment> remoteLogSegments, FsPath remoteLogTabletDir, int segmentNum) {
         return remoteLogSegments.stream()
@@ -532,6 +532,11 @@ class RecordAccumulatorTest {
         result = accum.ready(cluster);
         assertThat(result.readyNodes).hasSize(0);
         assertThat(result.nextReadyCheckDelayMs).isEqualTo(batchTimeout / 2);
+        // the delay only depends on the buckets of the accepted nodes
+        result = accum.ready(cluster, node -> node == node2.id());
+        assertThat(result.nextReadyCheckDelayMs).isEqualTo(batchTimeout);
+        result = accum.ready(cluster, node -> node == node1.id());
+        assertThat(result.nextReadyCheckDelayMs).isEqualTo(batchTimeout / 2);
 
         // Append one more data for bucket1 should make the batch full and sendable immediately
         accum.append(createRecord(row), writeCallback, cluster, bucket1.getBucketId(), false);
@@ -539,6 +544,7 @@ class RecordAccumulatorTest {
         result = accum.ready(cluster);
         // server for bucket1 should be ready now
         assertThat(result.readyNodes).hasSize(1).contains(node1.id());
+        assertThat(accum.ready(cluster, node -> node != node1.id()).readyNodes).isEmpty();
         // Note this can actually be < batchTimeout because it may use delays from bucket that
         // aren't sendable
         // but have leaders with other sendable data.
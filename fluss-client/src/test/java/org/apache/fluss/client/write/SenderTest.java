@@ -57,6 +57,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.apache.fluss.record.LogRecordBatchFormat.NO_WRITER_ID;
 import static org.apache.fluss.record.TestData.DATA1_PHYSICAL_TABLE_PATH;
@@ -177,6 +178,49 @@ final class SenderTest {
         assertThat(idempotenceManager.writerId()).isEqualTo(0L);
     }
 
+    @Test
+    void testSenderLanesOnlySendToOwnedNodes() throws Exception {
+        IdempotenceManager idempotenceManager = createIdempotenceManager(false);
+        // set up a fresh accumulator shared by the lanes.
+        setupWithIdempotenceState(idempotenceManager);
+        AtomicInteger runningLanes = new AtomicInteger(2);
+        Sender[] lanes = new Sender[2];
+        for (int lane = 0; lane < 2; lane++) {
+            lanes[lane] =
+                    new Sender(
+                            accumulator,
+                            REQUEST_TIMEOUT,
+                            MAX_REQUEST_SIZE,
+                            ACKS_ALL,
+                            Integer.MAX_VALUE,
+                            metadataUpdater,
+                            idempotenceManager,
+                            writerMetricGroup,
+                            lane,
+                            2,
+                            runningLanes);
+        }
+        int leaderNode = metadataUpdater.leaderFor(DATA1_TABLE_PATH, tb1);
+        Sender owner = lanes[Math.floorMod(leaderNode, 2)];
+        Sender other = lanes[Math.floorMod(leaderNode + 1, 2)];
+        assertThat(owner.ownsNode(leaderNode)).isTrue();
+        assertThat(other.ownsNode(leaderNode)).isFalse();
+
+        CompletableFuture<Exception> future = new CompletableFuture<>();
+        appendToAccumulator(tb1, row(1, "a"), (tb, leo, e) -> future.complete(e));
+        // the lane not owning the leader of the bucket leaves the batch in the accumulator.
+        other.runOnce();
+        assertThat(other.numOfInFlightBatches(tb1)).isEqualTo(0);
+        assertThat(accumulator.hasUnDrained()).isTrue();
+
+        owner.runOnce();
+        assertThat(owner.numOfInFlightBatches(tb1)).isEqualTo(1);
+        finishRequest(tb1, 0, createProduceLogResponse(tb1, 0, 1));
+        owner.runOnce();
+        assertThat(owner.numOfInFlightBatches(tb1)).isEqualTo(0);
+        assertThat(future.get()).isNull();
+    }
+
     /**
      * Verifies the two-phase close prevents the shutdown race condition. Previously,
      * initiateClose() destroyed the Arrow BufferAllocator while the sender's drain loop was still
@@ -22,6 +22,8 @@ import org.apache.fluss.shaded.arrow.org.apache.arrow.vector.compression.Compres
 import org.apache.fluss.shaded.arrow.org.apache.arrow.vector.compression.CompressionUtil;
 import org.apache.fluss.shaded.arrow.org.apache.arrow.vector.compression.NoCompressionCodec;
 
+import javax.annotation.Nullable;
+
 /* This file is based on source code of Apache Arrow-java Project (https://github.com/apache/arrow-java), licensed by
  * the Apache Software Foundation (ASF) under the Apache License, Version 2.0. See the NOTICE file distributed with
  * this work for additional information regarding copyright ownership. */
@@ -30,11 +32,20 @@ import org.apache.fluss.shaded.arrow.org.apache.arrow.vector.compression.NoCompr
  * A factory implementation based on Apache Arrow CompressionCodec.Factory interface. This maybe
  * removed as the arrow upgrade to v18.0, which provides a default implementation as
  * CommonsCompressionFactory.
+ *
+ * <p>The factory of a table compressed with {@link ArrowCompressionType#ZSTD_DICT} carries the Zstd
+ * dictionary of the table, which is given to the created Zstd codecs.
  */
 @Internal
 public class ArrowCompressionFactory implements CompressionCodec.Factory {
 
-    public static final ArrowCompressionFactory INSTANCE = new ArrowCompressionFactory();
+    public static final ArrowCompressionFactory INSTANCE = new ArrowCompressionFactory(null);
+
+    private final @Nullable ZstdCompressionDictionary dictionary;
+
+    public ArrowCompressionFactory(@Nullable ZstdCompressionDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
 
     @Override
     public CompressionCodec createCodec(CompressionUtil.CodecType codecType) {
@@ -42,7 +53,7 @@ public class ArrowCompressionFactory implements CompressionCodec.Factory {
             case LZ4_FRAME:
                 return new Lz4ArrowCompressionCodec();
             case ZSTD:
-                return new ZstdArrowCompressionCodec();
+                return new ZstdArrowCompressionCodec(dictionary);
             case NO_COMPRESSION:
                 return NoCompressionCodec.INSTANCE;
             default:
@@ -56,7 +67,7 @@ public class ArrowCompressionFactory implements CompressionCodec.Factory {
             case LZ4_FRAME:
                 return new Lz4ArrowCompressionCodec();
             case ZSTD:
-                return new ZstdArrowCompressionCodec(compressionLevel);
+                return new ZstdArrowCompressionCodec(compressionLevel, dictionary);
             case NO_COMPRESSION:
                 return NoCompressionCodec.INSTANCE;
             default:
@@ -72,6 +83,7 @@ public class ArrowCompressionFactory implements CompressionCodec.Factory {
             case LZ4_FRAME:
                 return CompressionUtil.CodecType.LZ4_FRAME;
             case ZSTD:
+            case ZSTD_DICT:
                 return CompressionUtil.CodecType.ZSTD;
             default:
                 throw new IllegalArgumentException(
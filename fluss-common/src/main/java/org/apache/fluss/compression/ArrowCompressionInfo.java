@@ -21,8 +21,18 @@ import org.apache.fluss.config.ConfigOptions;
 import org.apache.fluss.config.Configuration;
 import org.apache.fluss.shaded.arrow.org.apache.arrow.vector.compression.CompressionCodec;
 
-/** Compression information for Arrow record batches. */
-public class ArrowCompressionInfo {
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
+
+/**
+ * Compression information for Arrow record batches.
+ *
+ * <p>The compression info of the {@link ArrowCompressionType#ZSTD_DICT} compression type owns the
+ * Zstd dictionary of the table, and should be closed to release the dictionary once the table is
+ * not written or read with it anymore.
+ */
+public class ArrowCompressionInfo implements Closeable {
 
     public static final ArrowCompressionInfo DEFAULT_COMPRESSION =
             new ArrowCompressionInfo(ArrowCompressionType.ZSTD, 3);
@@ -31,10 +41,25 @@ public class ArrowCompressionInfo {
 
     private final ArrowCompressionType compressionType;
     private final int compressionLevel;
+    private final @Nullable ZstdCompressionDictionary dictionary;
 
     public ArrowCompressionInfo(ArrowCompressionType compressionType, int compressionLevel) {
+        this(compressionType, compressionLevel, null);
+    }
+
+    public ArrowCompressionInfo(
+            ArrowCompressionType compressionType,
+            int compressionLevel,
+            @Nullable ZstdCompressionDictionary dictionary) {
+        if (compressionType == ArrowCompressionType.ZSTD_DICT && dictionary == null) {
+            throw new IllegalArgumentException(
+                    "The Zstd dictionary is required for compression type "
+                            + ArrowCompressionType.ZSTD_DICT
+                            + ".");
+        }
         this.compressionType = compressionType;
         this.compressionLevel = compressionLevel;
+        this.dictionary = dictionary;
     }
 
     public ArrowCompressionType getCompressionType() {
@@ -49,24 +74,65 @@ public class ArrowCompressionInfo {
         return compressionLevel;
     }
 
+    /**
+     * Get the Zstd dictionary of the {@link ArrowCompressionType#ZSTD_DICT} compression type, null
+     * for the other compression types.
+     */
+    @Nullable
+    public ZstdCompressionDictionary getDictionary() {
+        return dictionary;
+    }
+
     /** Create an Arrow compression codec based on the compression type and level. */
     public CompressionCodec createCompressionCodec() {
+        if (compressionType == ArrowCompressionType.ZSTD_DICT) {
+            return new ZstdArrowCompressionCodec(compressionLevel, dictionary);
+        }
         return ArrowCompressionFactory.INSTANCE.createCodec(
                 ArrowCompressionFactory.toArrowCompressionCodecType(compressionType),
                 compressionLevel);
     }
 
+    /**
+     * Creates the factory of the codecs to decompress the Arrow record batches compressed with this
+     * compression info.
+     */
+    public ArrowCompressionFactory createCompressionFactory() {
+        return dictionary == null
+                ? ArrowCompressionFactory.INSTANCE
+                : new ArrowCompressionFactory(dictionary);
+    }
+
+    /** Releases the Zstd dictionary of the compression info, if any. */
+    @Override
+    public void close() {
+        if (dictionary != null) {
+            dictionary.close();
+        }
+    }
+
     @Override
     public String toString() {
+        // the dictionary id distinguishes the writers (and their compression ratio estimations)
+        // of the tables compressed with different dictionaries
+        if (dictionary != null) {
+            return compressionType + "-" + compressionLevel + "-" + dictionary.getId();
+        }
         return compressionLevel == -1
                 ? compressionType.toString()
                 : compressionType + "-" + compressionLevel;
     }
 
+    /**
+     * Resolves the compression info of the table options. The Zstd dictionary of the {@link
+     * ArrowCompressionType#ZSTD_DICT} compression type is decoded into a new dictionary owned by
+     * the returned compression info.
+     */
     public static ArrowCompressionInfo fromConf(Configuration conf) {
         ArrowCompressionType compressionType =
                 conf.get(ConfigOptions.TABLE_LOG_ARROW_COMPRESSION_TYPE);
-        if (compressionType == ArrowCompressionType.ZSTD) {
+        if (compressionType == ArrowCompressionType.ZSTD
+                || compressionType == ArrowCompressionType.ZSTD_DICT) {
             int compressionLevel = conf.get(ConfigOptions.TABLE_LOG_ARROW_COMPRESSION_ZSTD_LEVEL);
             if (compressionLevel < 1 || compressionLevel > 22) {
                 throw new IllegalArgumentException(
@@ -74,7 +140,22 @@ public class ArrowCompressionInfo {
                                 + compressionLevel
                                 + ". Expected a value between 1 and 22.");
             }
-            return new ArrowCompressionInfo(compressionType, compressionLevel);
+            if (compressionType == ArrowCompressionType.ZSTD) {
+                return new ArrowCompressionInfo(compressionType, compressionLevel);
+            }
+            String dictionary = conf.get(ConfigOptions.TABLE_LOG_ARROW_COMPRESSION_ZSTD_DICTIONARY);
+            if (dictionary == null) {
+                throw new IllegalArgumentException(
+                        "The option '"
+                                + ConfigOptions.TABLE_LOG_ARROW_COMPRESSION_ZSTD_DICTIONARY.key()
+                                + "' is required for compression type "
+                                + ArrowCompressionType.ZSTD_DICT
+                                + ".");
+            }
+            return new ArrowCompressionInfo(
+                    compressionType,
+                    compressionLevel,
+                    ZstdCompressionDictionary.decode(dictionary));
         } else {
             return new ArrowCompressionInfo(compressionType, -1);
         }
@@ -29,5 +29,13 @@ import org.apache.fluss.metadata.LogFormat;
 public enum ArrowCompressionType {
     NONE,
     LZ4_FRAME,
-    ZSTD
+    ZSTD,
+    /**
+     * ZSTD with a dictionary trained from the sampled data of the table, which gets better
+     * compression ratio than {@link #ZSTD} for small batches with many repeated values. The batches
+     * are still standard ZSTD compressed Arrow batches.
+     *
+     * @since 1.0
+     */
+    ZSTD_DICT
 }
@@ -24,23 +24,43 @@ import org.apache.fluss.shaded.arrow.org.apache.arrow.vector.compression.Compres
 
 import com.github.luben.zstd.Zstd;
 
+import javax.annotation.Nullable;
+
 import java.nio.ByteBuffer;
 
 /* This file is based on source code of Apache Arrow-java Project (https://github.com/apache/arrow-java), licensed by
  * the Apache Software Foundation (ASF) under the Apache License, Version 2.0. See the NOTICE file distributed with
  * this work for additional information regarding copyright ownership. */
 
-/** Arrow Compression codec for the Zstd algorithm. */
+/**
+ * Arrow Compression codec for the Zstd algorithm.
+ *
+ * <p>If a {@link ZstdCompressionDictionary} is given, the buffers are compressed and decompressed
+ * with the dictionary. The buffers compressed with a dictionary can only be decompressed by a codec
+ * given the same dictionary, which is verified by the dictionary id in the header of the compressed
+ * frame.
+ */
 public class ZstdArrowCompressionCodec extends AbstractCompressionCodec {
     private static final int DEFAULT_COMPRESSION_LEVEL = 3;
     private final int compressionLevel;
+    private final @Nullable ZstdCompressionDictionary dictionary;
 
     public ZstdArrowCompressionCodec() {
         this(DEFAULT_COMPRESSION_LEVEL);
     }
 
     public ZstdArrowCompressionCodec(int compressionLevel) {
+        this(compressionLevel, null);
+    }
+
+    public ZstdArrowCompressionCodec(@Nullable ZstdCompressionDictionary dictionary) {
+        this(DEFAULT_COMPRESSION_LEVEL, dictionary);
+    }
+
+    public ZstdArrowCompressionCodec(
+            int compressionLevel, @Nullable ZstdCompressionDictionary dictionary) {
         this.compressionLevel = compressionLevel;
+        this.dictionary = dictionary;
     }
 
     @Override
@@ -59,14 +79,23 @@ public class ZstdArrowCompressionCodec extends AbstractCompressionCodec {
         // issues when dealing with large volumes of data, and the cause has not yet been
         // determined.
         long bytesWritten =
-                Zstd.compressDirectByteBuffer(
-                        compressedDirectBuffer,
-                        0,
-                        (int) maxSize,
-                        uncompressedDirectBuffer,
-                        0,
-                        (int) uncompressedBuffer.writerIndex(),
-                        compressionLevel);
+                dictionary == null
+                        ? Zstd.compressDirectByteBuffer(
+                                compressedDirectBuffer,
+                                0,
+                                (int) maxSize,
+                                uncompressedDirectBuffer,
+                                0,
+                                (int) uncompressedBuffer.writerIndex(),
+                                compressionLevel)
+                        : Zstd.compressDirectByteBufferFastDict(
+                                compressedDirectBuffer,
+                                0,
+                                (int) maxSize,
+                                uncompressedDirectBuffer,
+                                0,
+                                (int) uncompressedBuffer.writerIndex(),
+                                dictionary.getCompressDictionary(compressionLevel));
 
         if (Zstd.isError(bytesWritten)) {
             compressedBuffer.close();
@@ -80,6 +109,12 @@ public class ZstdArrowCompressionCodec extends AbstractCompressionCodec {
     @Override
     protected ArrowBuf doDecompress(BufferAllocator allocator, ArrowBuf compressedBuffer) {
         long decompressedLength = readUncompressedLength(compressedBuffer);
+        int compressedLength =
+                (int)
+                        (compressedBuffer.writerIndex()
+                                - CompressionUtil.SIZE_OF_UNCOMPRESSED_LENGTH);
+        ZstdCompressionDictionary frameDictionary =
+                getFrameDictionary(compressedBuffer, compressedLength, dictionary);
 
         ByteBuffer compressedDirectBuffer = compressedBuffer.nioBuffer();
         ArrowBuf uncompressedBuffer = allocator.buffer(decompressedLength);
@@ -87,15 +122,22 @@ public class ZstdArrowCompressionCodec extends AbstractCompressionCodec {
                 uncompressedBuffer.nioBuffer(0, (int) decompressedLength);
 
         long decompressedSize =
-                Zstd.decompressDirectByteBuffer(
-                        uncompressedDirectBuffer,
-                        0,
-                        (int) decompressedLength,
-                        compressedDirectBuffer,
-                        (int) CompressionUtil.SIZE_OF_UNCOMPRESSED_LENGTH,
-                        (int)
-                                (compressedBuffer.writerIndex()
-                                        - CompressionUtil.SIZE_OF_UNCOMPRESSED_LENGTH));
+                frameDictionary == null
+                        ? Zstd.decompressDirectByteBuffer(
+                                uncompressedDirectBuffer,
+                                0,
+                                (int) decompressedLength,
+                                compressedDirectBuffer,
+                                (int) CompressionUtil.SIZE_OF_UNCOMPRESSED_LENGTH,
+                                compressedLength)
+                        : Zstd.decompressDirectByteBufferFastDict(
+                                uncompressedDirectBuffer,
+                                0,
+                                (int) decompressedLength,
+                                compressedDirectBuffer,
+                                (int) CompressionUtil.SIZE_OF_UNCOMPRESSED_LENGTH,
+                                compressedLength,
+                                frameDictionary.getDecompressDictionary());
         if (Zstd.isError(decompressedSize)) {
             uncompressedBuffer.close();
             throw new RuntimeException(
@@ -114,6 +156,33 @@ public class ZstdArrowCompressionCodec extends AbstractCompressionCodec {
         return uncompressedBuffer;
     }
 
+    /**
+     * Gets the dictionary the frame is compressed with, or null if no dictionary is used. Throws if
+     * the frame is compressed with a dictionary other than the given one.
+     */
+    @Nullable
+    private static ZstdCompressionDictionary getFrameDictionary(
+            ArrowBuf compressedBuffer,
+            int compressedLength,
+            @Nullable ZstdCompressionDictionary dictionary) {
+        long dictionaryId =
+                Zstd.getDictIdFromFrameBuffer(
+                        compressedBuffer.nioBuffer(
+                                CompressionUtil.SIZE_OF_UNCOMPRESSED_LENGTH, compressedLength));
+        if (dictionaryId == 0) {
+            return null;
+        }
+        if (dictionary == null || dictionary.getId() != dictionaryId) {
+            throw new RuntimeException(
+                    "Error decompressing: the buffer is compressed with the Zstd dictionary "
+                            + dictionaryId
+                            + ", but the dictionary of the table is "
+                            + (dictionary == null ? "not given" : dictionary.getId())
+                            + ".");
+        }
+        return dictionary;
+    }
+
     @Override
     public CompressionUtil.CodecType getCodecType() {
         return CompressionUtil.CodecType.ZSTD;
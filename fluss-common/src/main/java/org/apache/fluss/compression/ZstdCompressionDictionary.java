@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.compression;
+
+import org.apache.fluss.annotation.Internal;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.io.Closeable;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.apache.fluss.utils.Preconditions.checkArgument;
+import static org.apache.fluss.utils.Preconditions.checkState;
+
+/**
+ * A trained Zstd dictionary used by the {@link ArrowCompressionType#ZSTD_DICT} compression type.
+ *
+ * <p>Every Zstd frame compressed with a dictionary carries the id of the dictionary in its header,
+ * so the batches don't need to reference the dictionary by themselves. The dictionary is resolved
+ * per table from the table options, and is handed to the {@link ZstdArrowCompressionCodec} through
+ * the {@link ArrowCompressionInfo} of the writers and the read context of the readers, which checks
+ * the id in the frame header against the table's dictionary when decompressing.
+ *
+ * <p>The dictionary is digested lazily into native structures the first time it is used for
+ * compressing or decompressing. The owner of the dictionary, e.g., the replicas of the table on a
+ * tablet server or a log scanner, should close it to release the native structures once the table
+ * is not read or written anymore.
+ */
+@Internal
+@ThreadSafe
+public final class ZstdCompressionDictionary implements Closeable {
+
+    private final long id;
+    private final byte[] dictionary;
+    private final Map<Integer, ZstdDictCompress> compressDictionaries = new ConcurrentHashMap<>();
+    private volatile @Nullable ZstdDictDecompress decompressDictionary;
+
+    @GuardedBy("this")
+    private boolean closed;
+
+    private ZstdCompressionDictionary(long id, byte[] dictionary) {
+        this.id = id;
+        this.dictionary = dictionary;
+    }
+
+    /** Gets the id of the dictionary, which is written in the header of the compressed frames. */
+    public long getId() {
+        return id;
+    }
+
+    /** Gets the digested dictionary for compressing with the given compression level. */
+    ZstdDictCompress getCompressDictionary(int compressionLevel) {
+        ZstdDictCompress compressDictionary = compressDictionaries.get(compressionLevel);
+        return compressDictionary != null
+                ? compressDictionary
+                : createCompressDictionary(compressionLevel);
+    }
+
+    private synchronized ZstdDictCompress createCompressDictionary(int compressionLevel) {
+        checkState(!closed, "The Zstd dictionary %s has been closed.", id);
+        return compressDictionaries.computeIfAbsent(
+                compressionLevel, level -> new ZstdDictCompress(dictionary, level));
+    }
+
+    /** Gets the digested dictionary for decompressing. */
+    ZstdDictDecompress getDecompressDictionary() {
+        ZstdDictDecompress digested = decompressDictionary;
+        return digested != null ? digested : createDecompressDictionary();
+    }
+
+    private synchronized ZstdDictDecompress createDecompressDictionary() {
+        checkState(!closed, "The Zstd dictionary %s has been closed.", id);
+        if (decompressDictionary == null) {
+            decompressDictionary = new ZstdDictDecompress(dictionary);
+        }
+        return decompressDictionary;
+    }
+
+    /**
+     * Releases the native structures of the digested dictionaries. A digested dictionary still in
+     * use by an in-flight compression or decompression is left to be released by the garbage
+     * collector, and the following usages of the dictionary fail.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        compressDictionaries.values().forEach(ZstdCompressionDictionary::closeDigested);
+        compressDictionaries.clear();
+        if (decompressDictionary != null) {
+            closeDigested(decompressDictionary);
+            decompressDictionary = null;
+        }
+    }
+
+    private static void closeDigested(Closeable digested) {
+        try {
+            digested.close();
+        } catch (Exception e) {
+            // the digested dictionary is in use, it is released once it is garbage collected
+        }
+    }
+
+    /**
+     * Decodes the Base64 encoded dictionary of the table option.
+     *
+     * @throws IllegalArgumentException if the value is not a trained Zstd dictionary.
+     */
+    public static ZstdCompressionDictionary decode(String encodedDictionary) {
+        byte[] dictionary;
+        try {
+            dictionary = Base64.getDecoder().decode(encodedDictionary.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    "The Zstd dictionary is not a valid Base64 encoded string.", e);
+        }
+        long id = Zstd.getDictIdFromDict(dictionary);
+        checkArgument(
+                id != 0,
+                "The Zstd dictionary is not a trained dictionary, "
+                        + "please train it with ZstdDictionaryTrainer.");
+        return new ZstdCompressionDictionary(id, dictionary);
+    }
+
+    /** Encodes the dictionary as the value of the table option. */
+    public static String encode(byte[] dictionary) {
+        return Base64.getEncoder().encodeToString(dictionary);
+    }
+}
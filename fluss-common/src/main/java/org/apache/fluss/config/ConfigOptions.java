@@ -496,7 +496,23 @@ public class ConfigOptions {
                     .defaultValue("/tmp/fluss-data")
                     .withDescription(
                             "This configuration controls the directory where fluss will store its data. "
-                                    + "The default value is /tmp/fluss-data");
+                                    + "The default value is /tmp/fluss-data. "
+                                    + "If `data.dirs` is configured, this value will be ignored.");
+
+    public static final ConfigOption<List<String>> DATA_DIRS =
+            key("data.dirs")
+                    .stringType()
+                    .asList()
+                    .defaultValues()
+                    .withDescription(
+                            "A comma-separated list of local directories where fluss will store its data, "
+                                    + "usually one directory per disk. The log tablet of a new replica is placed on "
+                                    + "the directory which takes the longest time to fill up its free space at its "
+                                    + "current write throughput, and the kv tablet of the replica is placed on the "
+                                    + "directory of its log tablet. When a disk fails, only the replicas on its "
+                                    + "directory are taken offline. If not configured, the system uses `"
+                                    + DATA_DIR.key()
+                                    + "` as the sole data directory.");
 
     public static final ConfigOption<Duration> WRITER_ID_EXPIRATION_TIME =
             key("server.writer-id.expiration-time")
@@ -821,6 +837,28 @@ public class ConfigOptions {
                                     + LOG_REPLICA_FETCH_WAIT_MAX_TIME.key()
                                     + " time to return.");
 
+    public static final ConfigOption<Boolean> LOG_FETCH_ROW_FILTER_ENABLED =
+            key("log.fetch.row-filter.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to evaluate the filter pushed down by a fetch log request on every row "
+                                    + "of the arrow log batches which pass the batch-level statistics filter. "
+                                    + "The matching rows are rebuilt into compacted batches, so that selective "
+                                    + "scans don't transfer the rows filtered out. The default value is false, "
+                                    + "which means only whole batches are filtered.");
+
+    public static final ConfigOption<Duration> LOG_FETCH_ROW_FILTER_CPU_BUDGET =
+            key("log.fetch.row-filter.cpu-budget")
+                    .durationType()
+                    .defaultValue(Duration.ofMillis(20))
+                    .withDescription(
+                            "The maximum time spent on the row-level filtering of a fetch log request. Once "
+                                    + "the budget is used up, the remaining batches of the fetch fall back to "
+                                    + "the batch-level filtering. This only takes effect when '"
+                                    + LOG_FETCH_ROW_FILTER_ENABLED.key()
+                                    + "' is true.");
+
     public static final ConfigOption<Integer> LOG_REPLICA_MIN_IN_SYNC_REPLICAS_NUMBER =
             key("log.replica.min-in-sync-replicas-number")
                     .intType()
@@ -859,6 +897,41 @@ public class ConfigOptions {
                                     + "prevent overwhelming the remote storage when there is a large "
                                     + "backlog of segments to upload.");
 
+    public static final ConfigOption<Integer> REMOTE_LOG_TASK_MAX_INFLIGHT_UPLOAD_SEGMENTS =
+            key("remote.log.task-max-inflight-upload-segments")
+                    .intType()
+                    .defaultValue(2)
+                    .withDescription(
+                            "The maximum number of log segments of a bucket being uploaded to "
+                                    + "remote storage at the same time in a tiering task execution. "
+                                    + "The next segment starts uploading once the earliest one in flight "
+                                    + "is copied, which prevents a bucket with a large backlog from "
+                                    + "occupying all the upload threads.");
+
+    public static final ConfigOption<Integer> REMOTE_LOG_UPLOAD_THREAD_NUM =
+            key("remote.log.upload-thread-num")
+                    .intType()
+                    .defaultValue(4)
+                    .withDescription(
+                            "The number of threads the TabletServer uses to upload log segments and "
+                                    + "their indexes to remote storage. The uploads run on their own "
+                                    + "thread pool, as they may be blocked by the upload rate limiter "
+                                    + "(see 'remote.log.upload-rate-limiter.bytes-per-sec') and shouldn't "
+                                    + "block the other tasks of the io thread pool.");
+
+    public static final ConfigOption<MemorySize> REMOTE_LOG_UPLOAD_RATE_LIMITER_BYTES_PER_SEC =
+            key("remote.log.upload-rate-limiter.bytes-per-sec")
+                    .memoryType()
+                    .defaultValue(new MemorySize(Long.MAX_VALUE))
+                    .withDescription(
+                            "The shared rate limit in bytes per second for uploading log segments "
+                                    + "and their indexes to remote storage across all the buckets of "
+                                    + "the TabletServer. The uploads run concurrently on the upload thread "
+                                    + "pool (see 'remote.log.upload-thread-num'), this option prevents them "
+                                    + "from saturating the network when the tiering of many buckets has "
+                                    + "fallen behind. The default value is Long.MAX_VALUE (effectively "
+                                    + "unlimited).");
+
     public static final ConfigOption<MemorySize> REMOTE_LOG_INDEX_FILE_CACHE_SIZE =
             key("remote.log.index-file-cache-size")
                     .memoryType()
@@ -867,6 +940,32 @@ public class ConfigOptions {
                             "The total size of the space allocated to store index files fetched "
                                     + "from remote storage in the local storage.");
 
+    public static final ConfigOption<MemorySize> REMOTE_LOG_SEGMENT_CACHE_SIZE =
+            key("remote.log.segment-cache-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.ZERO)
+                    .withDescription(
+                            "The total size of the space allocated to store log segments fetched "
+                                    + "from remote storage in the local storage. When it is positive, the "
+                                    + "tablet server reads the remote log segments for the client fetches "
+                                    + "with column projection or filter, and only returns the projected and "
+                                    + "filtered records to the clients like a local fetch. The segments are "
+                                    + "downloaded in background, the fetches falling into a segment which is "
+                                    + "not cached yet are still served by the clients reading the remote log "
+                                    + "segment themselves. The default value 0 disables the cache.");
+
+    public static final ConfigOption<Integer> REMOTE_LOG_SEGMENT_CACHE_DOWNLOAD_THREAD_NUM =
+            key("remote.log.segment-cache-download-thread-num")
+                    .intType()
+                    .defaultValue(2)
+                    .withDescription(
+                            "The number of threads the TabletServer uses to download remote log "
+                                    + "segments to the segment cache (see 'remote.log.segment-cache-size'). "
+                                    + "The downloads run on their own thread pool with a bounded queue, so "
+                                    + "that they don't block the other tasks of the io thread pool. The "
+                                    + "downloads beyond the queue are dropped and triggered again by the "
+                                    + "next fetch of the segment.");
+
     public static final ConfigOption<Integer> REMOTE_LOG_MANAGER_THREAD_POOL_SIZE =
             key("remote.log-manager.thread-pool-size")
                     .intType()
@@ -941,6 +1040,25 @@ public class ConfigOptions {
                             "The number of threads that the client uses for sending requests to the "
                                     + "network and receiving responses from network. The default value is 4");
 
+    public static final ConfigOption<Integer> NETTY_CLIENT_MAX_INFLIGHT_REQUESTS_PER_CONNECTION =
+            key("netty.client.max-inflight-requests-per-connection")
+                    .intType()
+                    .defaultValue(1000)
+                    .withDescription(
+                            "The maximum number of unacknowledged requests the client sends on a single connection. "
+                                    + "When the limit is reached, further requests are queued without blocking the "
+                                    + "caller and sent once a response is received. A queued request fails with a "
+                                    + "retriable TimeoutException if it is not sent within the request timeout.");
+
+    public static final ConfigOption<Duration> NETTY_CLIENT_REQUEST_TIMEOUT =
+            key("netty.client.request-timeout")
+                    .durationType()
+                    .defaultValue(Duration.ofMinutes(2))
+                    .withDescription(
+                            "The maximum time the client waits for the response of a request sent to a server. "
+                                    + "The request fails with a retriable TimeoutException if the response is not "
+                                    + "received in time. It should be larger than 'client.request-timeout'.");
+
     public static final ConfigOption<Boolean> NETTY_CLIENT_ALLOCATOR_HEAP_BUFFER_FIRST =
             key("netty.client.allocator.heap-buffer-first")
                     .booleanType()
@@ -1145,6 +1263,17 @@ public class ConfigOptions {
                                     + "requests per bucket exceeds this setting, the writer will wait for the inflight "
                                     + "requests to complete before sending out new requests.");
 
+    public static final ConfigOption<Integer> CLIENT_WRITER_SENDER_THREAD_NUM =
+            key("client.writer.sender-thread-num")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of sender threads of the writer. Each sender thread owns a "
+                                    + "subset of the destination tablet servers and drains, sends and "
+                                    + "handles the responses of the batches to them independently. "
+                                    + "Increasing it helps a writer sending to many tablet servers "
+                                    + "whose single sender thread is the bottleneck.");
+
     public static final ConfigOption<Boolean> CLIENT_WRITER_DYNAMIC_CREATE_PARTITION_ENABLED =
             key("client.writer.dynamic-create-partition.enabled")
                     .booleanType()
@@ -1182,6 +1311,19 @@ public class ConfigOptions {
                                     + "The Scanner will cache the records from each fetch request and returns "
                                     + "them incrementally from each poll.");
 
+    public static final ConfigOption<Boolean> CLIENT_SCANNER_LOG_VECTORIZED_READ_ENABLED =
+            key("client.scanner.log.vectorized-read.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to read the log of append-only tables in ARROW log format as columnar "
+                                    + "batches in the Flink source. The rows are emitted as views of the arrow "
+                                    + "batches instead of being converted field by field, which are only valid "
+                                    + "until the next fetch of the source, so that the downstream operators "
+                                    + "must not keep references to the rows when object reuse is enabled. "
+                                    + "It only takes effect for the RowData deserialization schema and the "
+                                    + "tables without nested row columns.");
+
     public static final ConfigOption<String> CLIENT_SECURITY_PROTOCOL =
             key("client.security.protocol")
                     .stringType()
@@ -1238,21 +1380,23 @@ public class ConfigOptions {
                     .intType()
                     .defaultValue(128)
                     .withDescription(
-                            "The maximum batch size of merging lookup operations to one lookup request.");
+                            "The maximum number of lookup operations of a bucket merged into one lookup request. "
+                                    + "The lookups of the buckets led by the same tablet server are sent in the same request.");
 
     public static final ConfigOption<Integer> CLIENT_LOOKUP_MAX_INFLIGHT_SIZE =
             key("client.lookup.max-inflight-requests")
                     .intType()
                     .defaultValue(128)
                     .withDescription(
-                            "The maximum number of unacknowledged lookup requests for lookup operations.");
+                            "The maximum number of unacknowledged lookup requests to each tablet server. "
+                                    + "The lookups to a tablet server keep accumulating in the lookup queue when the limit is reached.");
 
     public static final ConfigOption<Duration> CLIENT_LOOKUP_BATCH_TIMEOUT =
             key("client.lookup.batch-timeout")
                     .durationType()
                     .defaultValue(Duration.ofMillis(100))
                     .withDescription(
-                            "The maximum time to wait for the lookup batch to full, if this timeout is reached, "
+                            "The maximum time to wait for the lookup batch of a bucket to full, if this timeout is reached, "
                                     + "the lookup batch will be closed to send.");
 
     public static final ConfigOption<Integer> CLIENT_LOOKUP_MAX_RETRIES =
@@ -1263,6 +1407,41 @@ public class ConfigOptions {
                             "Setting a value greater than zero will cause the client to resend any lookup request "
                                     + "that fails with a potentially transient error.");
 
+    public static final ConfigOption<Long> CLIENT_LOOKUP_CACHE_MAX_ROWS =
+            key("client.lookup.cache.max-rows")
+                    .longType()
+                    .defaultValue(0L)
+                    .withDescription(
+                            "The maximum number of primary key lookup results cached by the client. "
+                                    + "The least recently used results are evicted when the cache is full. "
+                                    + "The cache is shared by all the lookupers of a connection, 0 disables the cache.");
+
+    public static final ConfigOption<Duration> CLIENT_LOOKUP_CACHE_TTL =
+            key("client.lookup.cache.ttl")
+                    .durationType()
+                    .defaultValue(Duration.ofMinutes(1))
+                    .withDescription(
+                            "The time after which a cached lookup result expires since it was fetched "
+                                    + "from the server. It bounds the staleness of the cached results.");
+
+    public static final ConfigOption<Boolean> CLIENT_LOOKUP_CACHE_CHANGELOG_INVALIDATION_ENABLED =
+            key("client.lookup.cache.changelog-invalidation.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to invalidate the cached lookup results by tailing the changelog of the "
+                                    + "looked up tables, so that the cached results are refreshed shortly after "
+                                    + "the keys are changed. Only non-partitioned tables are cached when it is enabled.");
+
+    public static final ConfigOption<MemorySize> CLIENT_SCANNER_KV_FETCH_MAX_BYTES =
+            key("client.scanner.kv.fetch.max-bytes")
+                    .memoryType()
+                    .defaultValue(MemorySize.parse("4mb"))
+                    .withDescription(
+                            "The maximum amount of record data the server returns for each scan request "
+                                    + "of a full kv bucket scan. The server returns at least one record "
+                                    + "per request even if it is larger than this value.");
+
     public static final ConfigOption<Integer> CLIENT_SCANNER_REMOTE_LOG_PREFETCH_NUM =
             key("client.scanner.remote-log.prefetch-num")
                     .intType()
@@ -1271,6 +1450,18 @@ public class ConfigOptions {
                             "The number of remote log segments to keep in local temp file for LogScanner, "
                                     + "which download from remote storage. The default setting is 4.");
 
+    public static final ConfigOption<MemorySize> CLIENT_SCANNER_REMOTE_LOG_FETCH_RANGE_SIZE =
+            key("client.scanner.remote-log.fetch-range-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.parse("64mb"))
+                    .withDescription(
+                            "The maximum amount of data the LogScanner reads from a remote log segment for "
+                                    + "one remote fetch. The read starts from the position of the fetch offset "
+                                    + "returned by the server instead of the beginning of the segment, and the "
+                                    + "downloaded range always ends at a record batch boundary. So the local temp "
+                                    + "files of remote logs are bounded by about 'client.scanner.remote-log.prefetch-num' "
+                                    + "times this value. The default setting is 64mb.");
+
     public static final ConfigOption<String> CLIENT_SCANNER_IO_TMP_DIR =
             key("client.scanner.io.tmpdir")
                     .stringType()
@@ -1380,7 +1571,18 @@ public class ConfigOptions {
                     .defaultValue(3)
                     .withDescription(
                             "The compression level of ZSTD for the log records if the log format is set to `ARROW` "
-                                    + "and the compression type is set to `ZSTD`. The valid range is 1 to 22.");
+                                    + "and the compression type is set to `ZSTD` or `ZSTD_DICT`. The valid range is 1 to 22.");
+
+    public static final ConfigOption<String> TABLE_LOG_ARROW_COMPRESSION_ZSTD_DICTIONARY =
+            key("table.log.arrow.compression.zstd.dictionary")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The Base64 encoded ZSTD dictionary for the log records if the log format is set to "
+                                    + "`ARROW` and the compression type is set to `ZSTD_DICT`. The dictionary should be "
+                                    + "trained by `ZstdDictionaryTrainer` from the sampled records of the table, it "
+                                    + "improves the compression ratio of small batches with many repeated values "
+                                    + "significantly. This option is required for the `ZSTD_DICT` compression type.");
 
     public static final ConfigOption<KvFormat> TABLE_KV_FORMAT =
             key("table.kv.format")
@@ -1661,6 +1863,38 @@ public class ConfigOptions {
                             "The interval to check the expiration of kv snapshot lease. "
                                     + "The default setting is 10 minutes.");
 
+    public static final ConfigOption<Duration> KV_SCANNER_TTL =
+            key("kv.scanner.ttl")
+                    .durationType()
+                    .defaultValue(Duration.ofMinutes(1))
+                    .withDescription(
+                            "The maximum time a kv scanner session may stay idle between two scan requests. "
+                                    + "Idle scanner sessions are closed by the tablet server to release the "
+                                    + "RocksDB snapshot they pin. The default setting is 1 minute.");
+
+    public static final ConfigOption<Integer> KV_SCANNER_MAX_PER_SERVER =
+            key("kv.scanner.max-per-server")
+                    .intType()
+                    .defaultValue(128)
+                    .withDescription(
+                            "The maximum number of concurrently open kv scanner sessions on a tablet server. "
+                                    + "Each session pins a RocksDB snapshot, so new scans are rejected once "
+                                    + "this limit is reached. The default value is `128`.");
+
+    public static final ConfigOption<MemorySize> KV_ROW_CACHE_SIZE =
+            key("kv.row-cache.size")
+                    .memoryType()
+                    .defaultValue(MemorySize.ZERO)
+                    .withDescription(
+                            "The memory size of the row cache shared by all kv tablets of a tablet server, "
+                                    + "which caches the rows returned by lookups in front of RocksDB. "
+                                    + "Frequently looked up keys are admitted and kept by the W-TinyLFU "
+                                    + "policy, which suits lookup workloads with skewed keys. A cached row "
+                                    + "is invalidated when a newer value of the key is flushed to RocksDB, "
+                                    + "and all the rows of a bucket are invalidated when the kv tablet of "
+                                    + "the bucket is closed, e.g. on leader change. "
+                                    + "The row cache is disabled if the value is 0, which is the default.");
+
     public static final ConfigOption<Integer> KV_MAX_BACKGROUND_THREADS =
             key("kv.rocksdb.thread.num")
                     .intType()
@@ -1940,6 +2174,30 @@ public class ConfigOptions {
                     .withDescription(
                             "The max fetch size for fetching log to apply to kv during recovering kv.");
 
+    public static final ConfigOption<Boolean> KV_RECOVER_BULK_LOAD_ENABLED =
+            key("kv.recover.bulk-load.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to bulk load the acknowledged log into kv during recovering kv. "
+                                    + "If enabled, the log is prefetched from the local log and the remote "
+                                    + "log storage while the fetched log is being applied, and the applied "
+                                    + "key-value pairs are deduplicated in a sorted buffer and ingested "
+                                    + "into RocksDB as SST files instead of being written to the memtables. "
+                                    + "The default value is false.");
+
+    public static final ConfigOption<MemorySize> KV_RECOVER_BULK_LOAD_BUFFER_SIZE =
+            key("kv.recover.bulk-load.buffer-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.parse("64mb"))
+                    .withDescription(
+                            "The size of the buffer to sort and deduplicate the key-value pairs of an "
+                                    + "SST file when '"
+                                    + KV_RECOVER_BULK_LOAD_ENABLED.key()
+                                    + "' is true. The buffer size is estimated from the key-value pairs "
+                                    + "and their heap overhead. A larger buffer deduplicates more updates "
+                                    + "of the same keys and results in fewer SST files.");
+
     // ------------------------------------------------------------------------
     //  ConfigOptions for metrics
     // ------------------------------------------------------------------------
@@ -2097,6 +2355,24 @@ public class ConfigOptions {
                     .withDescription(
                             "Close kafka idle connections after the given time specified by this config.");
 
+    public static final ConfigOption<Integer> KAFKA_GROUP_OFFSETS_TABLE_BUCKET_NUM =
+            key("kafka.group.offsets-table.bucket.num")
+                    .intType()
+                    .defaultValue(16)
+                    .withDescription(
+                            "The number of buckets of the internal table storing the committed offsets of "
+                                    + "the Kafka consumer groups. The coordinator of a group is the leader of "
+                                    + "the bucket the group is hashed to. It only takes effect when the table is "
+                                    + "created, which happens on the first request of a consumer group.");
+
+    public static final ConfigOption<Duration> KAFKA_GROUP_OFFSETS_COMMIT_TIMEOUT =
+            key("kafka.group.offsets-commit.timeout")
+                    .durationType()
+                    .defaultValue(Duration.ofSeconds(5))
+                    .withDescription(
+                            "The maximum time to wait for the committed offsets of a Kafka consumer group "
+                                    + "to be replicated to all the in-sync replicas of the offsets table.");
+
     /**
      * Compaction style for Fluss's kv, which is same to rocksdb's, but help use avoid including
      * rocksdb dependency when only need include this common module.
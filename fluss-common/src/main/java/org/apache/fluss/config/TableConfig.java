@@ -143,7 +143,11 @@ public class TableConfig {
         return config.get(ConfigOptions.TABLE_CHANGELOG_IMAGE);
     }
 
-    /** Gets the Arrow compression type and compression level of the table. */
+    /**
+     * Gets the Arrow compression type and compression level of the table. A new compression info is
+     * resolved on each call, which owns the Zstd dictionary of the table (if any), see {@link
+     * ArrowCompressionInfo#fromConf(Configuration)}.
+     */
     public ArrowCompressionInfo getArrowCompressionInfo() {
         return ArrowCompressionInfo.fromConf(config);
     }
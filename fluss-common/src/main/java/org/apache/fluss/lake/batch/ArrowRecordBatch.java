@@ -18,11 +18,128 @@
 package org.apache.fluss.lake.batch;
 
 import org.apache.fluss.annotation.PublicEvolving;
+import org.apache.fluss.record.ChangeType;
+import org.apache.fluss.record.GenericRecord;
+import org.apache.fluss.record.LogRecord;
+import org.apache.fluss.row.InternalRow;
+import org.apache.fluss.row.columnar.ColumnVector;
+import org.apache.fluss.row.columnar.ColumnarRow;
+import org.apache.fluss.row.columnar.VectorizedColumnBatch;
+import org.apache.fluss.shaded.arrow.org.apache.arrow.vector.VectorSchemaRoot;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.apache.fluss.utils.Preconditions.checkArgument;
 
 /**
- * The Arrow implementation of the RecordBatch interface.
+ * The Arrow implementation of the RecordBatch interface. It is an append-only log record batch of a
+ * bucket, whose rows in the range of [{@link #getStartRowId()}, {@link #getEndRowId()}) are to be
+ * written. The columns of the batch are in the order of the fields of the table schema.
+ *
+ * <p>The batch is backed by the arrow buffers received from the tablet servers, which are only
+ * valid until the write of the batch returns. The writer must copy the data it keeps after that.
  *
  * @since 0.7
  */
 @PublicEvolving
-public class ArrowRecordBatch implements RecordBatch {}
+public class ArrowRecordBatch implements RecordBatch {
+
+    private final VectorSchemaRoot root;
+    private final VectorizedColumnBatch columns;
+    private final long baseLogOffset;
+    private final long timestamp;
+    private final int startRowId;
+    private final int endRowId;
+
+    public ArrowRecordBatch(
+            VectorSchemaRoot root,
+            ColumnVector[] columns,
+            long baseLogOffset,
+            long timestamp,
+            int startRowId,
+            int endRowId) {
+        checkArgument(
+                0 <= startRowId && startRowId <= endRowId && endRowId <= root.getRowCount(),
+                "Invalid row range [%s, %s) of the arrow batch with %s rows.",
+                startRowId,
+                endRowId,
+                root.getRowCount());
+        this.root = root;
+        this.columns = new VectorizedColumnBatch(columns);
+        this.baseLogOffset = baseLogOffset;
+        this.timestamp = timestamp;
+        this.startRowId = startRowId;
+        this.endRowId = endRowId;
+    }
+
+    /**
+     * Returns the arrow vectors of all the rows of the batch, including the rows out of the range
+     * to write, see {@link VectorSchemaRoot#slice(int, int)} to get the rows to write.
+     */
+    public VectorSchemaRoot getVectorSchemaRoot() {
+        return root;
+    }
+
+    /** Returns the columns of the batch, which provide typed access to the values. */
+    public VectorizedColumnBatch getColumns() {
+        return columns;
+    }
+
+    /** Returns the first row of the batch to write. */
+    public int getStartRowId() {
+        return startRowId;
+    }
+
+    /** Returns the row after the last row of the batch to write. */
+    public int getEndRowId() {
+        return endRowId;
+    }
+
+    /** Returns the number of rows to write. */
+    public int getRecordCount() {
+        return endRowId - startRowId;
+    }
+
+    /** Returns the log offset of the given row. */
+    public long getLogOffset(int rowId) {
+        return baseLogOffset + rowId;
+    }
+
+    /** Returns the commit timestamp of all the rows of the batch. */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /** Returns a view of the given row. */
+    public InternalRow getRow(int rowId) {
+        return new ColumnarRow(columns, rowId);
+    }
+
+    /** Returns the rows to write as {@link LogRecord}s, which are views of the columns. */
+    public Iterator<LogRecord> records() {
+        return new Iterator<LogRecord>() {
+            private int rowId = startRowId;
+
+            @Override
+            public boolean hasNext() {
+                return rowId < endRowId;
+            }
+
+            @Override
+            public LogRecord next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                LogRecord record =
+                        new GenericRecord(
+                                getLogOffset(rowId),
+                                timestamp,
+                                ChangeType.APPEND_ONLY,
+                                getRow(rowId));
+                rowId++;
+                return record;
+            }
+        };
+    }
+}
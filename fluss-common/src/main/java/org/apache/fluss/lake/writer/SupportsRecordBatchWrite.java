@@ -26,6 +26,11 @@ import java.io.IOException;
  * The SupportsRecordBatchWrite interface for writing batches of records. It provides a method to
  * write a batch of records to the underlying storage.
  *
+ * <p>A {@link LakeWriter} implementing this interface receives the log of the append-only tables in
+ * the ARROW log format as {@link org.apache.fluss.lake.batch.ArrowRecordBatch}es, instead of
+ * receiving the records one by one by {@link LakeWriter#write(org.apache.fluss.record.LogRecord)}.
+ * The records of other tables are still written one by one.
+ *
  * @since 0.7
  */
 @PublicEvolving
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.metrics;
+
+import org.apache.fluss.annotation.VisibleForTesting;
+import org.apache.fluss.utils.clock.Clock;
+import org.apache.fluss.utils.clock.SystemClock;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.apache.fluss.utils.Preconditions.checkArgument;
+
+/**
+ * A lock-free {@link Histogram} recording the values into log-linear buckets like the HdrHistogram,
+ * which is cheap to update from many threads concurrently.
+ *
+ * <p>The values smaller than {@link #SUB_BUCKET_COUNT} are recorded exactly, each power of two
+ * above is split into {@link #SUB_BUCKET_COUNT} / 2 linear buckets, so that a recorded value is off
+ * by at most 1 / 32 of itself. Values larger than {@link #MAX_TRACKABLE_VALUE} are recorded as the
+ * max trackable value and the negative values as 0.
+ *
+ * <p>An update only increments the counter of the value's bucket in one of the stripes of the
+ * buckets. All the threads share the first stripe until an update fails to increment its counter
+ * due to a concurrent update, like {@link LongAdder}, the thread then updates a stripe of its own
+ * from then on. So a histogram only updated by one thread at a time keeps a single stripe of about
+ * 9 KB, and the memory is bounded by the number of stripes regardless of how many values are
+ * recorded.
+ *
+ * <p>The counters are never reset, the histogram keeps the snapshots of the counters at the start
+ * of the current and the previous interval instead. The statistics cover the values recorded since
+ * the start of the previous interval, and are computed in O(buckets) without sorting.
+ */
+@ThreadSafe
+public class LogLinearHistogram implements Histogram {
+
+    @VisibleForTesting static final int SUB_BUCKET_BITS = 6;
+    @VisibleForTesting static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+    private static final int MAX_MAGNITUDE = 40;
+
+    /** The max value the histogram tracks, larger values are recorded as it. */
+    @VisibleForTesting static final long MAX_TRACKABLE_VALUE = (1L << MAX_MAGNITUDE) - 1;
+
+    @VisibleForTesting
+    static final int NUM_BUCKETS =
+            SUB_BUCKET_COUNT + (MAX_MAGNITUDE - SUB_BUCKET_BITS) * SUB_BUCKET_HALF_COUNT;
+
+    private static final int MAX_STRIPES = 8;
+    private static final Duration DEFAULT_INTERVAL = Duration.ofSeconds(30);
+
+    /**
+     * The snapshot before the first interval, shared by all the histograms as it is not updated.
+     */
+    private static final long[] NO_COUNTS = new long[NUM_BUCKETS];
+
+    private final AtomicReferenceArray<AtomicLongArray> stripes;
+    private final int stripeMask;
+    private final LongAdder count = new LongAdder();
+
+    private final Clock clock;
+    private final long intervalMs;
+
+    // the snapshots of the counters at the start of the previous and the current interval, only
+    // accessed by the readers holding the lock of the histogram
+    private long[] previousIntervalCounts = NO_COUNTS;
+    private long[] currentIntervalCounts = NO_COUNTS;
+    private long currentIntervalStartMs;
+
+    public LogLinearHistogram() {
+        this(DEFAULT_INTERVAL);
+    }
+
+    public LogLinearHistogram(Duration interval) {
+        this(interval, defaultNumStripes(), SystemClock.getInstance());
+    }
+
+    @VisibleForTesting
+    LogLinearHistogram(Duration interval, int numStripes, Clock clock) {
+        checkArgument(interval.toMillis() > 0, "The interval must be positive.");
+        checkArgument(
+                numStripes > 0 && Integer.bitCount(numStripes) == 1,
+                "The number of stripes must be a power of 2.");
+        this.stripes = new AtomicReferenceArray<>(numStripes);
+        this.stripes.set(0, new AtomicLongArray(NUM_BUCKETS));
+        this.stripeMask = numStripes - 1;
+        this.clock = clock;
+        this.intervalMs = interval.toMillis();
+        this.currentIntervalStartMs = clock.milliseconds();
+    }
+
+    @Override
+    public void update(long value) {
+        int bucket = bucketIndex(value);
+        int index = (int) Thread.currentThread().getId() & stripeMask;
+        AtomicLongArray stripe = stripes.get(index);
+        if (stripe == null) {
+            // share the first stripe until the updates contend on it
+            stripe = stripes.get(0);
+            long current = stripe.get(bucket);
+            if (!stripe.compareAndSet(bucket, current, current + 1)) {
+                contendedStripe(index).incrementAndGet(bucket);
+            }
+        } else {
+            stripe.incrementAndGet(bucket);
+        }
+        count.increment();
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public synchronized HistogramStatistics getStatistics() {
+        long[] counts = new long[NUM_BUCKETS];
+        for (int i = 0; i < stripes.length(); i++) {
+            AtomicLongArray stripe = stripes.get(i);
+            if (stripe != null) {
+                for (int bucket = 0; bucket < NUM_BUCKETS; bucket++) {
+                    counts[bucket] += stripe.get(bucket);
+                }
+            }
+        }
+
+        long now = clock.milliseconds();
+        if (now - currentIntervalStartMs >= intervalMs) {
+            previousIntervalCounts = currentIntervalCounts;
+            currentIntervalCounts = counts.clone();
+            currentIntervalStartMs = now;
+        }
+        for (int bucket = 0; bucket < NUM_BUCKETS; bucket++) {
+            counts[bucket] -= previousIntervalCounts[bucket];
+        }
+        return new LogLinearHistogramStatistics(counts);
+    }
+
+    /** Returns the stripe of the given index, which is allocated on the first contention. */
+    private AtomicLongArray contendedStripe(int index) {
+        AtomicLongArray stripe = stripes.get(index);
+        if (stripe == null) {
+            stripe = new AtomicLongArray(NUM_BUCKETS);
+            if (!stripes.compareAndSet(index, null, stripe)) {
+                stripe = stripes.get(index);
+            }
+        }
+        return stripe;
+    }
+
+    @VisibleForTesting
+    int numAllocatedStripes() {
+        int allocated = 0;
+        for (int i = 0; i < stripes.length(); i++) {
+            if (stripes.get(i) != null) {
+                allocated++;
+            }
+        }
+        return allocated;
+    }
+
+    private static int defaultNumStripes() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        return Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, processors)));
+    }
+
+    /** Returns the index of the bucket the given value is recorded into. */
+    @VisibleForTesting
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return value < 0 ? 0 : (int) value;
+        }
+        long trackedValue = Math.min(value, MAX_TRACKABLE_VALUE);
+        int magnitude = 63 - Long.numberOfLeadingZeros(trackedValue);
+        int subBucket = (int) (trackedValue >>> (magnitude - SUB_BUCKET_BITS + 1));
+        return SUB_BUCKET_COUNT
+                + (magnitude - SUB_BUCKET_BITS) * SUB_BUCKET_HALF_COUNT
+                + (subBucket - SUB_BUCKET_HALF_COUNT);
+    }
+
+    /** Returns the lowest value recorded into the bucket of the given index. */
+    @VisibleForTesting
+    static long lowestValue(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int offset = bucketIndex - SUB_BUCKET_COUNT;
+        int magnitude = SUB_BUCKET_BITS + offset / SUB_BUCKET_HALF_COUNT;
+        long subBucket = SUB_BUCKET_HALF_COUNT + offset % SUB_BUCKET_HALF_COUNT;
+        return subBucket << (magnitude - SUB_BUCKET_BITS + 1);
+    }
+
+    /** Returns the width of the value range recorded into the bucket of the given index. */
+    @VisibleForTesting
+    static long bucketWidth(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return 1;
+        }
+        int magnitude = SUB_BUCKET_BITS + (bucketIndex - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF_COUNT;
+        return 1L << (magnitude - SUB_BUCKET_BITS + 1);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.metrics;
+
+import static org.apache.fluss.metrics.LogLinearHistogram.bucketWidth;
+import static org.apache.fluss.metrics.LogLinearHistogram.lowestValue;
+
+/**
+ * Histogram statistics implementation returned by {@link LogLinearHistogram}, computed from the
+ * counts of the buckets of a point-in-time snapshot. A value is represented by the median of the
+ * values of its bucket.
+ */
+public class LogLinearHistogramStatistics extends HistogramStatistics {
+
+    /** The max number of values returned by {@link #getValues()}. */
+    private static final int MAX_VALUES = 1024;
+
+    private final long[] counts;
+    private final long totalCount;
+    private final int minBucket;
+    private final int maxBucket;
+
+    LogLinearHistogramStatistics(long[] counts) {
+        this.counts = counts;
+        long total = 0;
+        int min = -1;
+        int max = -1;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            if (counts[bucket] > 0) {
+                total += counts[bucket];
+                if (min < 0) {
+                    min = bucket;
+                }
+                max = bucket;
+            }
+        }
+        this.totalCount = total;
+        this.minBucket = min;
+        this.maxBucket = max;
+    }
+
+    @Override
+    public double getQuantile(double quantile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * totalCount));
+        long seen = 0;
+        for (int bucket = minBucket; bucket <= maxBucket; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return medianValue(bucket);
+            }
+        }
+        return medianValue(maxBucket);
+    }
+
+    /**
+     * Returns the values of the snapshot in ascending order. If there are more than {@link
+     * #MAX_VALUES} values, the values are sampled evenly by rank.
+     */
+    @Override
+    public long[] getValues() {
+        int numValues = (int) Math.min(totalCount, MAX_VALUES);
+        long[] values = new long[numValues];
+        long seen = 0;
+        int bucket = minBucket;
+        for (int i = 0; i < numValues; i++) {
+            long rank = numValues == totalCount ? i + 1 : (i + 1) * totalCount / numValues;
+            while (seen + counts[bucket] < rank) {
+                seen += counts[bucket];
+                bucket++;
+            }
+            values[i] = medianValue(bucket);
+        }
+        return values;
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(totalCount, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public double getMean() {
+        if (totalCount == 0) {
+            return Double.NaN;
+        }
+        double sum = 0;
+        for (int bucket = minBucket; bucket <= maxBucket; bucket++) {
+            sum += (double) medianValue(bucket) * counts[bucket];
+        }
+        return sum / totalCount;
+    }
+
+    @Override
+    public double getStdDev() {
+        if (totalCount == 0) {
+            return Double.NaN;
+        }
+        if (totalCount == 1) {
+            return 0;
+        }
+        double mean = getMean();
+        double squaredDeviations = 0;
+        for (int bucket = minBucket; bucket <= maxBucket; bucket++) {
+            double deviation = medianValue(bucket) - mean;
+            squaredDeviations += deviation * deviation * counts[bucket];
+        }
+        return Math.sqrt(squaredDeviations / (totalCount - 1));
+    }
+
+    @Override
+    public long getMax() {
+        return totalCount == 0 ? 0 : lowestValue(maxBucket) + bucketWidth(maxBucket) - 1;
+    }
+
+    @Override
+    public long getMin() {
+        return totalCount == 0 ? 0 : lowestValue(minBucket);
+    }
+
+    private static long medianValue(int bucket) {
+        return lowestValue(bucket) + (bucketWidth(bucket) >> 1);
+    }
+}
@@ -80,6 +80,8 @@ public class MetricNames {
     public static final String REPLICATION_OUT_RATE = "replicationBytesOutPerSecond";
     public static final String REPLICA_LEADER_COUNT = "leaderCount";
     public static final String REPLICA_COUNT = "replicaCount";
+    public static final String OFFLINE_REPLICA_COUNT = "offlineReplicaCount";
+    public static final String OFFLINE_DATA_DIR_COUNT = "offlineDataDirCount";
     public static final String WRITE_ID_COUNT = "writerIdCount";
     public static final String DELAYED_WRITE_COUNT = "delayedWriteCount";
     public static final String DELAYED_WRITE_EXPIRES_RATE = "delayedWriteExpiresPerSecond";
@@ -150,6 +152,8 @@ public class MetricNames {
             "preWriteBufferTruncateAsDuplicatedPerSecond";
     public static final String KV_PRE_WRITE_BUFFER_TRUNCATE_AS_ERROR_RATE =
             "preWriteBufferTruncateAsErrorPerSecond";
+    public static final String KV_RECOVER_RECORDS_RATE = "kvRecoverRecordsPerSecond";
+    public static final String KV_RECOVER_BYTES_RATE = "kvRecoverBytesPerSecond";
 
     // --------------------------------------------------------------------------------------------
     // RocksDB metrics
@@ -251,6 +255,7 @@ public class MetricNames {
     public static final String CLIENT_REQUEST_LATENCY_MS_AVG = "requestLatencyMs_avg";
     public static final String CLIENT_REQUEST_LATENCY_MS_MAX = "requestLatencyMs_max";
     public static final String CLIENT_REQUESTS_IN_FLIGHT_TOTAL = "requestsInFlight_total";
+    public static final String CLIENT_REQUESTS_TIMEOUT_TOTAL = "requestsTimeout_total";
 
     // --------------------------------------------------------------------------------------------
     // metrics for client
@@ -267,6 +272,8 @@ public class MetricNames {
     public static final String WRITER_BYTES_PER_BATCH = "bytesPerBatch";
     public static final String WRITER_RECORDS_PER_BATCH = "recordsPerBatch";
     public static final String WRITER_SEND_LATENCY_MS = "sendLatencyMs";
+    public static final String WRITER_SENDER_DRAIN_TIME_MS = "drainTimeMs";
+    public static final String WRITER_SENDER_IN_FLIGHT_BATCHES = "inFlightBatches";
 
     // for scanner
     public static final String SCANNER_TIME_MS_BETWEEN_POLL = "timeMsBetweenPoll";
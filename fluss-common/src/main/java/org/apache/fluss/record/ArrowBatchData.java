@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.record;
+
+import org.apache.fluss.annotation.Internal;
+import org.apache.fluss.row.columnar.ColumnVector;
+import org.apache.fluss.shaded.arrow.org.apache.arrow.vector.VectorSchemaRoot;
+
+import javax.annotation.Nullable;
+
+/**
+ * The columns of an ARROW {@link LogRecordBatch} loaded into its own {@link VectorSchemaRoot}. In
+ * contrast to {@link LogRecordBatch#records(LogRecordBatch.ReadContext)}, which reuses the vector
+ * schema root of the read context for every batch, the data stays valid until {@link #close()} is
+ * called, regardless of the batches read after it.
+ */
+@Internal
+public class ArrowBatchData implements AutoCloseable {
+
+    private final VectorSchemaRoot root;
+    private final ColumnVector[] columns;
+    /** The change types of the rows, null if the batch is append only. */
+    @Nullable private final byte[] changeTypes;
+
+    private final int schemaId;
+    private final long baseLogOffset;
+    private final long commitTimestamp;
+
+    ArrowBatchData(
+            VectorSchemaRoot root,
+            ColumnVector[] columns,
+            @Nullable byte[] changeTypes,
+            int schemaId,
+            long baseLogOffset,
+            long commitTimestamp) {
+        this.root = root;
+        this.columns = columns;
+        this.changeTypes = changeTypes;
+        this.schemaId = schemaId;
+        this.baseLogOffset = baseLogOffset;
+        this.commitTimestamp = commitTimestamp;
+    }
+
+    /** Returns the arrow vectors of the batch in the order of the fields of its schema. */
+    public VectorSchemaRoot getVectorSchemaRoot() {
+        return root;
+    }
+
+    /** Returns the columns of the batch in the order of the fields of its schema. */
+    public ColumnVector[] getColumns() {
+        return columns;
+    }
+
+    public int getRowCount() {
+        return root.getRowCount();
+    }
+
+    public ChangeType getChangeType(int rowId) {
+        return changeTypes == null
+                ? ChangeType.APPEND_ONLY
+                : ChangeType.fromByteValue(changeTypes[rowId]);
+    }
+
+    public int getSchemaId() {
+        return schemaId;
+    }
+
+    /** Returns the log offset of the first row of the batch. */
+    public long getBaseLogOffset() {
+        return baseLogOffset;
+    }
+
+    public long getCommitTimestamp() {
+        return commitTimestamp;
+    }
+
+    /** Releases the arrow buffers of the batch. */
+    @Override
+    public void close() {
+        root.close();
+    }
+}
@@ -19,11 +19,13 @@ package org.apache.fluss.record;
 
 import org.apache.fluss.annotation.PublicEvolving;
 import org.apache.fluss.annotation.VisibleForTesting;
+import org.apache.fluss.compression.ArrowCompressionFactory;
 import org.apache.fluss.exception.CorruptMessageException;
 import org.apache.fluss.memory.MemorySegment;
 import org.apache.fluss.metadata.LogFormat;
 import org.apache.fluss.row.ProjectedRow;
 import org.apache.fluss.row.arrow.ArrowReader;
+import org.apache.fluss.row.columnar.ColumnVector;
 import org.apache.fluss.row.columnar.ColumnarRow;
 import org.apache.fluss.shaded.arrow.org.apache.arrow.memory.BufferAllocator;
 import org.apache.fluss.shaded.arrow.org.apache.arrow.vector.VectorSchemaRoot;
@@ -251,6 +253,7 @@ public class DefaultLogRecordBatch implements LogRecordBatch {
                         context.getOutputProjectedRow(schemaId),
                         context.getVectorSchemaRoot(schemaId),
                         context.getBufferAllocator(),
+                        context.getCompressionFactory(),
                         timestamp);
             case INDEXED:
                 return rowRecordIterator(
@@ -262,6 +265,60 @@ public class DefaultLogRecordBatch implements LogRecordBatch {
         }
     }
 
+    @Override
+    public ArrowBatchData loadArrowBatch(ReadContext context) {
+        if (context.getLogFormat() != LogFormat.ARROW) {
+            throw new IllegalArgumentException(
+                    "Only Arrow log format can be loaded as arrow batch, but is "
+                            + context.getLogFormat());
+        }
+        int schemaId = schemaId();
+        RowType rowType = context.getRowType(schemaId);
+        VectorSchemaRoot root =
+                VectorSchemaRoot.create(
+                        ArrowUtils.toArrowSchema(rowType), context.getBufferAllocator());
+        try {
+            int recordCount = getRecordCount();
+            ColumnVector[] columns;
+            byte[] changeTypes = null;
+            if (recordCount == 0) {
+                // an empty batch has no arrow data
+                columns = new ColumnVector[rowType.getFieldCount()];
+                for (int i = 0; i < columns.length; i++) {
+                    columns[i] =
+                            ArrowUtils.createArrowColumnVector(
+                                    root.getVector(i), rowType.getTypeAt(i));
+                }
+            } else {
+                int recordsDataOffset = recordsDataOffset();
+                int arrowOffset = position + recordsDataOffset;
+                int arrowLength = sizeInBytes() - recordsDataOffset;
+                if ((attributes() & APPEND_ONLY_FLAG_MASK) == 0) {
+                    // copy the change type vector, as the batch may be released before the data
+                    changeTypes = new byte[recordCount];
+                    segment.get(arrowOffset, changeTypes, 0, recordCount);
+                    arrowOffset += recordCount;
+                    arrowLength -= recordCount;
+                }
+                columns =
+                        ArrowUtils.createArrowReader(
+                                        segment,
+                                        arrowOffset,
+                                        arrowLength,
+                                        root,
+                                        context.getBufferAllocator(),
+                                        rowType,
+                                        context.getCompressionFactory())
+                                .getColumnVectors();
+            }
+            return new ArrowBatchData(
+                    root, columns, changeTypes, schemaId, baseLogOffset(), commitTimestamp());
+        } catch (Throwable t) {
+            root.close();
+            throw t;
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -351,6 +408,7 @@ public class DefaultLogRecordBatch implements LogRecordBatch {
             @Nullable ProjectedRow outputProjection,
             VectorSchemaRoot root,
             BufferAllocator allocator,
+            ArrowCompressionFactory compressionFactory,
             long timestamp) {
         boolean isAppendOnly = (attributes() & APPEND_ONLY_FLAG_MASK) > 0;
         int recordsDataOffset = recordsDataOffset();
@@ -361,7 +419,13 @@ public class DefaultLogRecordBatch implements LogRecordBatch {
             int arrowLength = sizeInBytes() - recordsDataOffset;
             ArrowReader reader =
                     ArrowUtils.createArrowReader(
-                            segment, arrowOffset, arrowLength, root, allocator, rowType);
+                            segment,
+                            arrowOffset,
+                            arrowLength,
+                            root,
+                            allocator,
+                            rowType,
+                            compressionFactory);
             return new ArrowLogRecordIterator(root, reader, timestamp, outputProjection) {
                 @Override
                 protected ChangeType getChangeType(int rowId) {
@@ -378,7 +442,13 @@ public class DefaultLogRecordBatch implements LogRecordBatch {
             int arrowLength = sizeInBytes() - recordsDataOffset - changeTypeVector.sizeInBytes();
             ArrowReader reader =
                     ArrowUtils.createArrowReader(
-                            segment, arrowOffset, arrowLength, root, allocator, rowType);
+                            segment,
+                            arrowOffset,
+                            arrowLength,
+                            root,
+                            allocator,
+                            rowType,
+                            compressionFactory);
             return new ArrowLogRecordIterator(root, reader, timestamp, outputProjection) {
                 @Override
                 protected ChangeType getChangeType(int rowId) {
@@ -179,6 +179,11 @@ public class FileLogInputStream
             return loadFullBatch().records(context);
         }
 
+        @Override
+        public ArrowBatchData loadArrowBatch(ReadContext context) {
+            return loadFullBatch().loadArrowBatch(context);
+        }
+
         @Override
         public boolean isValid() {
             return loadFullBatch().isValid();
@@ -127,6 +127,11 @@ public class FileLogProjection {
         this.selectedFieldPositions = selectedFieldPositions;
     }
 
+    /** Returns the positions of the selected fields of the current projection. */
+    public int[] getSelectedFieldPositions() {
+        return selectedFieldPositions;
+    }
+
     /**
      * Project a single record batch to a subset of fields. This is used by the filter path where
      * batches are iterated individually rather than as a contiguous file region.
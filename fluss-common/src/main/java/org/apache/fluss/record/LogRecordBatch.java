@@ -18,6 +18,8 @@
 package org.apache.fluss.record;
 
 import org.apache.fluss.annotation.PublicEvolving;
+import org.apache.fluss.compression.ArrowCompressionFactory;
+import org.apache.fluss.compression.ArrowCompressionType;
 import org.apache.fluss.metadata.LogFormat;
 import org.apache.fluss.row.ProjectedRow;
 import org.apache.fluss.shaded.arrow.org.apache.arrow.memory.BufferAllocator;
@@ -173,6 +175,16 @@ public interface LogRecordBatch {
      */
     CloseableIterator<LogRecord> records(ReadContext context);
 
+    /**
+     * Loads the columns of this ARROW batch into a new {@link ArrowBatchData}, which is independent
+     * of this batch and the vector schema root of the read context. Callers should ensure that the
+     * returned data is closed to release the arrow buffers.
+     *
+     * @param context The context to read the record batch, which must be of the ARROW log format.
+     * @return The columns of the records in this batch
+     */
+    ArrowBatchData loadArrowBatch(ReadContext context);
+
     /** The read context of a {@link LogRecordBatch} to read records. */
     interface ReadContext {
 
@@ -211,6 +223,13 @@ public interface LogRecordBatch {
         /** Gets the buffer allocator. */
         BufferAllocator getBufferAllocator();
 
+        /**
+         * Gets the factory of the codecs to decompress the Arrow record batches, which carries the
+         * Zstd dictionary of the table if it is compressed with {@link
+         * ArrowCompressionType#ZSTD_DICT}.
+         */
+        ArrowCompressionFactory getCompressionFactory();
+
         /**
          * If the read context defines an output projection (for example, log records may add new
          * columns or reorder columns, but reader need a static schema for the output rows), return
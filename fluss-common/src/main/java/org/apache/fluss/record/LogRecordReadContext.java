@@ -18,6 +18,8 @@
 package org.apache.fluss.record;
 
 import org.apache.fluss.annotation.VisibleForTesting;
+import org.apache.fluss.compression.ArrowCompressionFactory;
+import org.apache.fluss.compression.ArrowCompressionInfo;
 import org.apache.fluss.metadata.LogFormat;
 import org.apache.fluss.metadata.Schema;
 import org.apache.fluss.metadata.SchemaGetter;
@@ -34,6 +36,7 @@ import org.apache.fluss.types.DataType;
 import org.apache.fluss.types.RowType;
 import org.apache.fluss.utils.ArrowUtils;
 import org.apache.fluss.utils.Projection;
+import org.apache.fluss.utils.SchemaUtil;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
@@ -57,10 +60,16 @@ public class LogRecordReadContext implements LogRecordBatch.ReadContext, AutoClo
     // the Arrow memory buffer allocator for the table, should be null if not ARROW log format
     @Nullable private final BufferAllocator bufferAllocator;
     // the final selected fields of the read data
+    // the indexes of the fields of the read data to output, in the order of output
+    private final int[] selectedFields;
     private final FieldGetter[] selectedFieldGetters;
     // whether the projection is push downed to the server side and the returned data is pruned.
     private final boolean projectionPushDowned;
     private final SchemaGetter schemaGetter;
+    // the factory of the codecs to decompress the arrow batches
+    private final ArrowCompressionFactory compressionFactory;
+    // the compression info resolved for and closed with this read context, null if borrowed
+    @Nullable private final ArrowCompressionInfo ownedCompressionInfo;
     private final ConcurrentHashMap<Integer, VectorSchemaRoot> vectorSchemaRootMap =
             new ConcurrentHashMap<>();
 
@@ -103,6 +112,10 @@ public class LogRecordReadContext implements LogRecordBatch.ReadContext, AutoClo
         }
 
         if (logFormat == LogFormat.ARROW) {
+            // the compression info carries the zstd dictionary of the table (if any), which is
+            // required to decompress the batches and is released when the context is closed
+            ArrowCompressionInfo compressionInfo =
+                    tableInfo.getTableConfig().getArrowCompressionInfo();
             if (readFromRemote) {
                 // currently, for remote read, arrow log doesn't support projection pushdown,
                 // so set the rowType as is.
@@ -113,7 +126,9 @@ public class LogRecordReadContext implements LogRecordBatch.ReadContext, AutoClo
                         selectedFields,
                         false,
                         schemaGetter,
-                        allocationManagerFactory);
+                        allocationManagerFactory,
+                        compressionInfo.createCompressionFactory(),
+                        compressionInfo);
             } else {
                 // arrow data that returned from server has been projected (in order)
                 RowType projectedRowType = projection.projectInOrder(rowType);
@@ -125,7 +140,9 @@ public class LogRecordReadContext implements LogRecordBatch.ReadContext, AutoClo
                         selectedFields,
                         projectionPushDowned,
                         schemaGetter,
-                        allocationManagerFactory);
+                        allocationManagerFactory,
+                        compressionInfo.createCompressionFactory(),
+                        compressionInfo);
             }
         } else if (logFormat == LogFormat.INDEXED) {
             int[] selectedFields = projection.getProjection();
@@ -144,19 +161,48 @@ public class LogRecordReadContext implements LogRecordBatch.ReadContext, AutoClo
             int[] selectedFields,
             boolean projectionPushDowned,
             SchemaGetter schemaGetter,
-            AllocationManager.Factory allocationManagerFactory) {
+            AllocationManager.Factory allocationManagerFactory,
+            ArrowCompressionFactory compressionFactory,
+            @Nullable ArrowCompressionInfo ownedCompressionInfo) {
         // TODO: use a more reasonable memory limit
         BufferAllocator allocator =
                 BufferAllocatorUtil.createBufferAllocator(allocationManagerFactory);
-        FieldGetter[] fieldGetters = buildProjectedFieldGetters(dataRowType, selectedFields);
         return new LogRecordReadContext(
                 LogFormat.ARROW,
                 dataRowType,
                 schemaId,
                 allocator,
-                fieldGetters,
+                selectedFields,
                 projectionPushDowned,
-                schemaGetter);
+                schemaGetter,
+                compressionFactory,
+                ownedCompressionInfo);
+    }
+
+    /**
+     * Creates a LogRecordReadContext for ARROW log format to read the batches compressed with the
+     * given compression info, which is not closed with the read context.
+     *
+     * @param rowType the schema of the table
+     * @param schemaId the schemaId of the table
+     * @param schemaGetter the schema getter of to get schema by schemaId
+     * @param compressionInfo the compression info of the table
+     */
+    public static LogRecordReadContext createArrowReadContext(
+            RowType rowType,
+            int schemaId,
+            SchemaGetter schemaGetter,
+            ArrowCompressionInfo compressionInfo) {
+        int[] selectedFields = IntStream.range(0, rowType.getFieldCount()).toArray();
+        return createArrowReadContext(
+                rowType,
+                schemaId,
+                selectedFields,
+                false,
+                schemaGetter,
+                new ChunkedAllocationManager.ChunkedFactory(),
+                compressionInfo.createCompressionFactory(),
+                null);
     }
 
     /**
@@ -177,7 +223,9 @@ public class LogRecordReadContext implements LogRecordBatch.ReadContext, AutoClo
                 selectedFields,
                 false,
                 schemaGetter,
-                new ChunkedAllocationManager.ChunkedFactory());
+                new ChunkedAllocationManager.ChunkedFactory(),
+                ArrowCompressionFactory.INSTANCE,
+                null);
     }
 
     @VisibleForTesting
@@ -193,7 +241,9 @@ public class LogRecordReadContext implements LogRecordBatch.ReadContext, AutoClo
                 selectedFields,
                 projectionPushDowned,
                 schemaGetter,
-                new ChunkedAllocationManager.ChunkedFactory());
+                new ChunkedAllocationManager.ChunkedFactory(),
+                ArrowCompressionFactory.INSTANCE,
+                null);
     }
 
     /**
@@ -234,10 +284,17 @@ public class LogRecordReadContext implements LogRecordBatch.ReadContext, AutoClo
      */
     public static LogRecordReadContext createIndexedReadContext(
             RowType rowType, int schemaId, int[] selectedFields, SchemaGetter schemaGetter) {
-        FieldGetter[] fieldGetters = buildProjectedFieldGetters(rowType, selectedFields);
         // for INDEXED log format, the projection is NEVER push downed to the server side
         return new LogRecordReadContext(
-                LogFormat.INDEXED, rowType, schemaId, null, fieldGetters, false, schemaGetter);
+                LogFormat.INDEXED,
+                rowType,
+                schemaId,
+                null,
+                selectedFields,
+                false,
+                schemaGetter,
+                ArrowCompressionFactory.INSTANCE,
+                null);
     }
 
     /**
@@ -265,10 +322,17 @@ public class LogRecordReadContext implements LogRecordBatch.ReadContext, AutoClo
             int schemaId,
             int[] selectedFields,
             @Nullable SchemaGetter schemaGetter) {
-        FieldGetter[] fieldGetters = buildProjectedFieldGetters(rowType, selectedFields);
         // for COMPACTED log format, the projection is NEVER push downed to the server side
         return new LogRecordReadContext(
-                LogFormat.COMPACTED, rowType, schemaId, null, fieldGetters, false, schemaGetter);
+                LogFormat.COMPACTED,
+                rowType,
+                schemaId,
+                null,
+                selectedFields,
+                false,
+                schemaGetter,
+                ArrowCompressionFactory.INSTANCE,
+                null);
     }
 
     private LogRecordReadContext(
@@ -276,16 +340,21 @@ public class LogRecordReadContext implements LogRecordBatch.ReadContext, AutoClo
             RowType targetDataRowType,
             int targetSchemaId,
             BufferAllocator bufferAllocator,
-            FieldGetter[] selectedFieldGetters,
+            int[] selectedFields,
             boolean projectionPushDowned,
-            SchemaGetter schemaGetter) {
+            SchemaGetter schemaGetter,
+            ArrowCompressionFactory compressionFactory,
+            @Nullable ArrowCompressionInfo ownedCompressionInfo) {
         this.logFormat = logFormat;
         this.dataRowType = targetDataRowType;
         this.targetSchemaId = targetSchemaId;
         this.bufferAllocator = bufferAllocator;
-        this.selectedFieldGetters = selectedFieldGetters;
+        this.selectedFields = selectedFields;
+        this.selectedFieldGetters = buildProjectedFieldGetters(targetDataRowType, selectedFields);
         this.projectionPushDowned = projectionPushDowned;
         this.schemaGetter = schemaGetter;
+        this.compressionFactory = compressionFactory;
+        this.ownedCompressionInfo = ownedCompressionInfo;
     }
 
     @Override
@@ -308,6 +377,13 @@ public class LogRecordReadContext implements LogRecordBatch.ReadContext, AutoClo
         return selectedFieldGetters;
     }
 
+    /**
+     * Get the indexes of the selected fields in the read data, in the order of the output fields.
+     */
+    public int[] getSelectedFields() {
+        return selectedFields;
+    }
+
     /** Whether the projection is push downed to the server side and the returned data is pruned. */
     public boolean isProjectionPushDowned() {
         return projectionPushDowned;
@@ -342,6 +418,11 @@ public class LogRecordReadContext implements LogRecordBatch.ReadContext, AutoClo
         return bufferAllocator;
     }
 
+    @Override
+    public ArrowCompressionFactory getCompressionFactory() {
+        return compressionFactory;
+    }
+
     @Nullable
     @Override
     public ProjectedRow getOutputProjectedRow(int schemaId) {
@@ -357,11 +438,28 @@ public class LogRecordReadContext implements LogRecordBatch.ReadContext, AutoClo
         return ProjectedRow.from(originSchema, expectedSchema);
     }
 
+    /**
+     * Get the index of each field of the target schema in the given schema, see {@link
+     * #getOutputProjectedRow(int)}. Returns null if the data of the given schema is in the target
+     * schema already.
+     */
+    @Nullable
+    public int[] getOutputIndexMapping(int schemaId) {
+        if (isSameRowType(schemaId) || schemaGetter == null) {
+            return null;
+        }
+        return SchemaUtil.getIndexMapping(
+                schemaGetter.getSchema(schemaId), schemaGetter.getSchema(targetSchemaId));
+    }
+
     public void close() {
         vectorSchemaRootMap.values().forEach(VectorSchemaRoot::close);
         if (bufferAllocator != null) {
             bufferAllocator.close();
         }
+        if (ownedCompressionInfo != null) {
+            ownedCompressionInfo.close();
+        }
     }
 
     private boolean isSameRowType(int schemaId) {
@@ -45,6 +45,11 @@ public class ArrowReader {
         return rowCount;
     }
 
+    /** Returns the column vectors of the underlying Arrow format data. */
+    public ColumnVector[] getColumnVectors() {
+        return columnVectors;
+    }
+
     /** Read the {@link InternalRow} from underlying Arrow format data. */
     public ColumnarRow read(int rowId) {
         return new ColumnarRow(new VectorizedColumnBatch(columnVectors), rowId);
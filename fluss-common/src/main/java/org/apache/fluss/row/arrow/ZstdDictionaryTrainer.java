@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.row.arrow;
+
+import org.apache.fluss.annotation.PublicEvolving;
+import org.apache.fluss.compression.ArrowCompressionInfo;
+import org.apache.fluss.compression.ArrowCompressionType;
+import org.apache.fluss.compression.ZstdCompressionDictionary;
+import org.apache.fluss.config.ConfigOptions;
+import org.apache.fluss.record.ArrowBatchData;
+import org.apache.fluss.record.LogRecordBatch;
+import org.apache.fluss.row.InternalRow;
+import org.apache.fluss.shaded.arrow.org.apache.arrow.memory.ArrowBuf;
+import org.apache.fluss.shaded.arrow.org.apache.arrow.memory.BufferAllocator;
+import org.apache.fluss.shaded.arrow.org.apache.arrow.memory.RootAllocator;
+import org.apache.fluss.shaded.arrow.org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.fluss.shaded.arrow.org.apache.arrow.vector.VectorUnloader;
+import org.apache.fluss.shaded.arrow.org.apache.arrow.vector.compression.NoCompressionCodec;
+import org.apache.fluss.shaded.arrow.org.apache.arrow.vector.ipc.message.ArrowRecordBatch;
+import org.apache.fluss.types.RowType;
+
+import com.github.luben.zstd.ZstdDictTrainer;
+import com.github.luben.zstd.ZstdException;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import static org.apache.fluss.utils.Preconditions.checkArgument;
+
+/**
+ * Trains a Zstd dictionary for the {@link ArrowCompressionType#ZSTD_DICT} compression type from the
+ * sampled records of a table. The trained dictionary is set as the value of {@link
+ * ConfigOptions#TABLE_LOG_ARROW_COMPRESSION_ZSTD_DICTIONARY} when creating the table.
+ *
+ * <p>Arrow batches are compressed buffer by buffer, so the samples are the Arrow buffers of the
+ * sampled records instead of the records themselves.
+ *
+ * @since 1.0
+ */
+@PublicEvolving
+@NotThreadSafe
+public class ZstdDictionaryTrainer implements AutoCloseable {
+
+    /** The default max size of the trained dictionary. */
+    public static final int DEFAULT_DICTIONARY_SIZE = 64 * 1024;
+
+    /**
+     * The size of the Arrow batches the sampled rows are written into. The dictionary is trained
+     * better from many small samples, which are closer to the buffers of small batches that benefit
+     * from the dictionary most.
+     */
+    private static final int SAMPLE_BATCH_SIZE = 16 * 1024;
+
+    /** Zstd recommends about 100 times of the dictionary size for the total size of samples. */
+    private static final int SAMPLES_SIZE_FACTOR = 100;
+
+    private final BufferAllocator allocator;
+    private final ArrowWriterPool writerPool;
+    private final ArrowWriter writer;
+    private final ZstdDictTrainer trainer;
+
+    private boolean samplesFull;
+
+    public ZstdDictionaryTrainer(RowType rowType) {
+        this(rowType, DEFAULT_DICTIONARY_SIZE);
+    }
+
+    public ZstdDictionaryTrainer(RowType rowType, int dictionarySize) {
+        checkArgument(dictionarySize > 0, "The dictionary size must be positive.");
+        this.allocator = new RootAllocator(Long.MAX_VALUE);
+        this.writerPool = new ArrowWriterPool(allocator);
+        this.writer =
+                writerPool.getOrCreateWriter(
+                        -1L, -1, SAMPLE_BATCH_SIZE, rowType, ArrowCompressionInfo.NO_COMPRESSION);
+        this.trainer =
+                new ZstdDictTrainer(
+                        (int)
+                                Math.min(
+                                        Integer.MAX_VALUE,
+                                        (long) dictionarySize * SAMPLES_SIZE_FACTOR),
+                        dictionarySize);
+        this.samplesFull = false;
+    }
+
+    /**
+     * Adds a sampled row of the table.
+     *
+     * @return false if the samples are enough and the row is ignored.
+     */
+    public boolean addSample(InternalRow row) {
+        if (samplesFull) {
+            return false;
+        }
+        if (writer.isFull()) {
+            flushSampleRows();
+            if (samplesFull) {
+                return false;
+            }
+        }
+        writer.writeRow(row);
+        return true;
+    }
+
+    /**
+     * Adds the records of a sampled ARROW log record batch of the table.
+     *
+     * @return false if the samples are enough and the batch is ignored partly or entirely.
+     */
+    public boolean addSamples(LogRecordBatch batch, LogRecordBatch.ReadContext context) {
+        if (samplesFull) {
+            return false;
+        }
+        try (ArrowBatchData batchData = batch.loadArrowBatch(context)) {
+            addBufferSamples(batchData.getVectorSchemaRoot());
+        }
+        return !samplesFull;
+    }
+
+    /**
+     * Trains the dictionary from the added samples.
+     *
+     * @return the Base64 encoded dictionary, which is the value of {@link
+     *     ConfigOptions#TABLE_LOG_ARROW_COMPRESSION_ZSTD_DICTIONARY}.
+     */
+    public String train() {
+        flushSampleRows();
+        try {
+            return ZstdCompressionDictionary.encode(trainer.trainSamples());
+        } catch (ZstdException e) {
+            throw new IllegalStateException(
+                    "Failed to train the Zstd dictionary, please add more samples.", e);
+        }
+    }
+
+    private void flushSampleRows() {
+        if (writer.getRecordsCount() > 0) {
+            writer.root.setRowCount(writer.getRecordsCount());
+            addBufferSamples(writer.root);
+            writer.reset(SAMPLE_BATCH_SIZE);
+        }
+    }
+
+    private void addBufferSamples(VectorSchemaRoot root) {
+        try (ArrowRecordBatch recordBatch =
+                new VectorUnloader(root, true, NoCompressionCodec.INSTANCE, true)
+                        .getRecordBatch()) {
+            for (ArrowBuf buffer : recordBatch.getBuffers()) {
+                int length = (int) buffer.writerIndex();
+                if (length == 0) {
+                    continue;
+                }
+                byte[] sample = new byte[length];
+                buffer.getBytes(0, sample);
+                if (!trainer.addSample(sample)) {
+                    samplesFull = true;
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        writer.close();
+        writerPool.close();
+        allocator.close();
+    }
+}
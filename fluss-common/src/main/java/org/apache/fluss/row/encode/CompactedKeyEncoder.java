@@ -24,6 +24,7 @@ import org.apache.fluss.types.DataType;
 import org.apache.fluss.types.RowType;
 
 import java.util.List;
+import java.util.OptionalInt;
 import java.util.stream.IntStream;
 
 /** An encoder to encode {@link InternalRow} using {@link CompactedKeyWriter}. */
@@ -53,6 +54,39 @@ public class CompactedKeyEncoder implements KeyEncoder {
         return new CompactedKeyEncoder(rowType, encodeColIndexes);
     }
 
+    /**
+     * Returns the length of the encoded keys if all the keys of the given fields are encoded to the
+     * same length, or empty if the length depends on the values, like the variable-length integers
+     * and the length-prefixed strings.
+     *
+     * @param rowType the row type of the input row
+     * @param keys the key fields to encode
+     */
+    public static OptionalInt getFixedEncodedLength(RowType rowType, List<String> keys) {
+        int length = 0;
+        for (String key : keys) {
+            DataType fieldType = rowType.getTypeAt(rowType.getFieldIndex(key));
+            switch (fieldType.getTypeRoot()) {
+                case BOOLEAN:
+                case TINYINT:
+                    length += 1;
+                    break;
+                case SMALLINT:
+                    length += 2;
+                    break;
+                case FLOAT:
+                    length += 4;
+                    break;
+                case DOUBLE:
+                    length += 8;
+                    break;
+                default:
+                    return OptionalInt.empty();
+            }
+        }
+        return keys.isEmpty() ? OptionalInt.empty() : OptionalInt.of(length);
+    }
+
     public CompactedKeyEncoder(RowType rowType) {
         this(rowType, IntStream.range(0, rowType.getFieldCount()).toArray());
     }
@@ -18,7 +18,6 @@
 package org.apache.fluss.utils;
 
 import org.apache.fluss.annotation.Internal;
-import org.apache.fluss.compression.ArrowCompressionFactory;
 import org.apache.fluss.exception.FlussRuntimeException;
 import org.apache.fluss.memory.MemorySegment;
 import org.apache.fluss.record.FlussVectorLoader;
@@ -91,6 +90,7 @@ import org.apache.fluss.shaded.arrow.org.apache.arrow.vector.VectorSchemaRoot;
 import org.apache.fluss.shaded.arrow.org.apache.arrow.vector.complex.ListVector;
 import org.apache.fluss.shaded.arrow.org.apache.arrow.vector.complex.MapVector;
 import org.apache.fluss.shaded.arrow.org.apache.arrow.vector.complex.StructVector;
+import org.apache.fluss.shaded.arrow.org.apache.arrow.vector.compression.CompressionCodec;
 import org.apache.fluss.shaded.arrow.org.apache.arrow.vector.compression.NoCompressionCodec;
 import org.apache.fluss.shaded.arrow.org.apache.arrow.vector.ipc.ReadChannel;
 import org.apache.fluss.shaded.arrow.org.apache.arrow.vector.ipc.WriteChannel;
@@ -159,7 +159,8 @@ public class ArrowUtils {
     }
 
     /**
-     * Creates an {@link ArrowReader} for the specified memory segment and {@link VectorSchemaRoot}.
+     * Creates an {@link ArrowReader} for the specified memory segment and {@link VectorSchemaRoot},
+     * the compressed buffers are decompressed by the codecs of the given compression factory.
      */
     public static ArrowReader createArrowReader(
             MemorySegment segment,
@@ -167,13 +168,13 @@ public class ArrowUtils {
             int arrowLength,
             VectorSchemaRoot schemaRoot,
             BufferAllocator allocator,
-            RowType rowType) {
+            RowType rowType,
+            CompressionCodec.Factory compressionFactory) {
         ByteBuffer arrowBatchBuffer = segment.wrap(arrowOffset, arrowLength);
         try (ReadChannel channel =
                         new ReadChannel(new ByteBufferReadableChannel(arrowBatchBuffer));
                 ArrowRecordBatch batch = deserializeRecordBatch(channel, allocator)) {
-            FlussVectorLoader vectorLoader =
-                    new FlussVectorLoader(schemaRoot, ArrowCompressionFactory.INSTANCE);
+            FlussVectorLoader vectorLoader = new FlussVectorLoader(schemaRoot, compressionFactory);
             vectorLoader.load(batch);
             List<ColumnVector> columnVectors = new ArrayList<>();
             List<FieldVector> fieldVectors = schemaRoot.getFieldVectors();
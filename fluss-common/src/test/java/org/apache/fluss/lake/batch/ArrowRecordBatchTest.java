@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.lake.batch;
+
+import org.apache.fluss.record.ChangeType;
+import org.apache.fluss.record.LogRecord;
+import org.apache.fluss.row.columnar.ColumnVector;
+import org.apache.fluss.shaded.arrow.org.apache.arrow.memory.BufferAllocator;
+import org.apache.fluss.shaded.arrow.org.apache.arrow.memory.RootAllocator;
+import org.apache.fluss.shaded.arrow.org.apache.arrow.vector.IntVector;
+import org.apache.fluss.shaded.arrow.org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.fluss.types.DataTypes;
+import org.apache.fluss.types.RowType;
+import org.apache.fluss.utils.ArrowUtils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Test for {@link ArrowRecordBatch}. */
+class ArrowRecordBatchTest {
+
+    private static final RowType ROW_TYPE = RowType.of(DataTypes.INT());
+
+    @Test
+    void testRecords() {
+        try (BufferAllocator allocator = new RootAllocator();
+                VectorSchemaRoot root =
+                        VectorSchemaRoot.create(ArrowUtils.toArrowSchema(ROW_TYPE), allocator)) {
+            IntVector vector = (IntVector) root.getVector(0);
+            vector.allocateNew(5);
+            for (int i = 0; i < 5; i++) {
+                vector.set(i, i * 10);
+            }
+            root.setRowCount(5);
+            ColumnVector[] columns =
+                    new ColumnVector[] {
+                        ArrowUtils.createArrowColumnVector(vector, ROW_TYPE.getTypeAt(0))
+                    };
+
+            ArrowRecordBatch recordBatch = new ArrowRecordBatch(root, columns, 100L, 1000L, 1, 4);
+            assertThat(recordBatch.getRecordCount()).isEqualTo(3);
+            assertThat(recordBatch.getVectorSchemaRoot()).isSameAs(root);
+            assertThat(recordBatch.getRow(0).getInt(0)).isEqualTo(0);
+
+            List<Long> offsets = new ArrayList<>();
+            List<Integer> values = new ArrayList<>();
+            Iterator<LogRecord> records = recordBatch.records();
+            while (records.hasNext()) {
+                LogRecord record = records.next();
+                assertThat(record.timestamp()).isEqualTo(1000L);
+                assertThat(record.getChangeType()).isEqualTo(ChangeType.APPEND_ONLY);
+                offsets.add(record.logOffset());
+                values.add(record.getRow().getInt(0));
+            }
+            assertThat(offsets).containsExactly(101L, 102L, 103L);
+            assertThat(values).containsExactly(10, 20, 30);
+
+            assertThatThrownBy(() -> new ArrowRecordBatch(root, columns, 100L, 1000L, 3, 6))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("Invalid row range [3, 6)");
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.metrics;
+
+import org.apache.fluss.utils.clock.ManualClock;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.fluss.metrics.LogLinearHistogram.MAX_TRACKABLE_VALUE;
+import static org.apache.fluss.metrics.LogLinearHistogram.NUM_BUCKETS;
+import static org.apache.fluss.metrics.LogLinearHistogram.SUB_BUCKET_COUNT;
+import static org.apache.fluss.metrics.LogLinearHistogram.bucketIndex;
+import static org.apache.fluss.metrics.LogLinearHistogram.bucketWidth;
+import static org.apache.fluss.metrics.LogLinearHistogram.lowestValue;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+/** Tests for {@link LogLinearHistogram} and {@link LogLinearHistogramStatistics}. */
+class LogLinearHistogramTest {
+
+    private static final Duration INTERVAL = Duration.ofSeconds(10);
+
+    @Test
+    void testBuckets() {
+        assertThat(bucketIndex(-1)).isEqualTo(0);
+        for (long value = 0; value < SUB_BUCKET_COUNT; value++) {
+            assertThat(lowestValue(bucketIndex(value))).isEqualTo(value);
+        }
+        assertThat(bucketIndex(MAX_TRACKABLE_VALUE)).isEqualTo(NUM_BUCKETS - 1);
+        assertThat(bucketIndex(Long.MAX_VALUE)).isEqualTo(NUM_BUCKETS - 1);
+
+        int previousBucket = 0;
+        for (long value = 1; value < MAX_TRACKABLE_VALUE; value = value * 3 / 2 + 1) {
+            int bucket = bucketIndex(value);
+            assertThat(bucket).isGreaterThanOrEqualTo(previousBucket);
+            long lowest = lowestValue(bucket);
+            assertThat(value).isBetween(lowest, lowest + bucketWidth(bucket) - 1);
+            // a recorded value is off by at most 1 / 32 of itself
+            assertThat((double) bucketWidth(bucket) - 1).isLessThanOrEqualTo(value / 32.0);
+            previousBucket = bucket;
+        }
+    }
+
+    @Test
+    void testStatistics() {
+        LogLinearHistogram histogram = new LogLinearHistogram(INTERVAL, 1, new ManualClock());
+        HistogramStatistics statistics = histogram.getStatistics();
+        assertThat(statistics.size()).isEqualTo(0);
+        assertThat(statistics.getValues()).isEmpty();
+        assertThat(statistics.getMin()).isEqualTo(0);
+        assertThat(statistics.getMax()).isEqualTo(0);
+        assertThat(statistics.getQuantile(0.5)).isEqualTo(0);
+
+        for (int i = 1; i <= 9; i++) {
+            histogram.update(i);
+        }
+        statistics = histogram.getStatistics();
+        assertThat(histogram.getCount()).isEqualTo(9);
+        assertThat(statistics.size()).isEqualTo(9);
+        assertThat(statistics.getValues()).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(statistics.getMin()).isEqualTo(1);
+        assertThat(statistics.getMax()).isEqualTo(9);
+        assertThat(statistics.getMean()).isEqualTo(5);
+        assertThat(statistics.getStdDev()).isCloseTo(2.74, offset(0.01));
+        assertThat(statistics.getQuantile(0.5)).isEqualTo(5);
+        assertThat(statistics.getQuantile(0.99)).isEqualTo(9);
+
+        histogram.update(10_000);
+        statistics = histogram.getStatistics();
+        assertThat(statistics.getMax()).isBetween(10_000L, 10_000L + 10_000 / 32);
+        assertThat(statistics.getQuantile(1.0)).isCloseTo(10_000, offset(10_000 / 32.0));
+    }
+
+    @Test
+    void testValuesAreSampled() {
+        LogLinearHistogram histogram = new LogLinearHistogram(INTERVAL, 1, new ManualClock());
+        for (int i = 0; i < 10_000; i++) {
+            histogram.update(i % 10);
+        }
+        long[] values = histogram.getStatistics().getValues();
+        assertThat(values).hasSize(1024);
+        assertThat(values[0]).isEqualTo(0);
+        assertThat(values[values.length - 1]).isEqualTo(9);
+        assertThat(values).isSorted();
+    }
+
+    @Test
+    void testIntervals() {
+        ManualClock clock = new ManualClock();
+        LogLinearHistogram histogram = new LogLinearHistogram(INTERVAL, 1, clock);
+        for (int i = 1; i <= 5; i++) {
+            histogram.update(i);
+        }
+        assertThat(histogram.getStatistics().size()).isEqualTo(5);
+
+        // the values of the previous interval are still covered
+        clock.advanceTime(INTERVAL);
+        assertThat(histogram.getStatistics().size()).isEqualTo(5);
+        histogram.update(100);
+        histogram.update(100);
+        HistogramStatistics statistics = histogram.getStatistics();
+        assertThat(statistics.size()).isEqualTo(7);
+        assertThat(statistics.getMin()).isEqualTo(1);
+
+        clock.advanceTime(INTERVAL);
+        statistics = histogram.getStatistics();
+        assertThat(statistics.size()).isEqualTo(2);
+        assertThat(statistics.getMin()).isEqualTo(100);
+
+        clock.advanceTime(INTERVAL);
+        assertThat(histogram.getStatistics().size()).isEqualTo(0);
+        assertThat(histogram.getCount()).isEqualTo(7);
+    }
+
+    @Test
+    void testStripesAreAllocatedOnContention() throws Exception {
+        LogLinearHistogram histogram = new LogLinearHistogram(INTERVAL, 8, new ManualClock());
+        // updates of different threads one after another share the first stripe
+        for (int t = 0; t < 8; t++) {
+            Thread thread =
+                    new Thread(
+                            () -> {
+                                for (int i = 0; i < 1_000; i++) {
+                                    histogram.update(i);
+                                }
+                            });
+            thread.start();
+            thread.join();
+        }
+        assertThat(histogram.numAllocatedStripes()).isEqualTo(1);
+        assertThat(histogram.getStatistics().size()).isEqualTo(8_000);
+    }
+
+    @Test
+    void testConcurrentUpdates() throws Exception {
+        LogLinearHistogram histogram = new LogLinearHistogram(INTERVAL, 4, new ManualClock());
+        int numThreads = 8;
+        int numValues = 10_000;
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < numThreads; t++) {
+            Thread thread =
+                    new Thread(
+                            () -> {
+                                for (int i = 0; i < numValues; i++) {
+                                    histogram.update(i % 100);
+                                }
+                            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        HistogramStatistics statistics = histogram.getStatistics();
+        assertThat(histogram.getCount()).isEqualTo(numThreads * numValues);
+        assertThat(statistics.size()).isEqualTo(numThreads * numValues);
+        assertThat(statistics.getMin()).isEqualTo(0);
+        assertThat(statistics.getMax()).isEqualTo(99);
+        assertThat(histogram.numAllocatedStripes()).isBetween(1, 4);
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.fluss.row.arrow;
 
+import org.apache.fluss.compression.ArrowCompressionFactory;
 import org.apache.fluss.memory.AbstractPagedOutputView;
 import org.apache.fluss.memory.ManagedPagedOutputView;
 import org.apache.fluss.memory.MemorySegment;
@@ -209,7 +210,14 @@ class ArrowReaderWriterTest {
             firstSegment.copyTo(recordBatchHeaderSize(CURRENT_LOG_MAGIC_VALUE), segment, 0, size);
 
             ArrowReader reader =
-                    ArrowUtils.createArrowReader(segment, 0, size, root, allocator, rowType);
+                    ArrowUtils.createArrowReader(
+                            segment,
+                            0,
+                            size,
+                            root,
+                            allocator,
+                            rowType,
+                            ArrowCompressionFactory.INSTANCE);
             int rowCount = reader.getRowCount();
             for (int i = 0; i < rowCount; i++) {
                 ColumnarRow row = reader.read(i);
@@ -323,7 +331,14 @@ class ArrowReaderWriterTest {
             firstSegment.copyTo(recordBatchHeaderSize(CURRENT_LOG_MAGIC_VALUE), segment, 0, size);
 
             ArrowReader reader =
-                    ArrowUtils.createArrowReader(segment, 0, size, root, allocator, rowType);
+                    ArrowUtils.createArrowReader(
+                            segment,
+                            0,
+                            size,
+                            root,
+                            allocator,
+                            rowType,
+                            ArrowCompressionFactory.INSTANCE);
             assertThat(reader.getRowCount()).isEqualTo(numRows);
 
             for (int i = 0; i < numRows; i++) {
@@ -391,7 +406,14 @@ class ArrowReaderWriterTest {
             firstSegment.copyTo(recordBatchHeaderSize(CURRENT_LOG_MAGIC_VALUE), segment, 0, size);
 
             ArrowReader reader =
-                    ArrowUtils.createArrowReader(segment, 0, size, root, allocator, rowType);
+                    ArrowUtils.createArrowReader(
+                            segment,
+                            0,
+                            size,
+                            root,
+                            allocator,
+                            rowType,
+                            ArrowCompressionFactory.INSTANCE);
             assertThat(reader.getRowCount()).isEqualTo(numRows);
 
             for (int i = 0; i < numRows; i++) {
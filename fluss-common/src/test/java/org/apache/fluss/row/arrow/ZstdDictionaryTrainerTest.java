@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.row.arrow;
+
+import org.apache.fluss.compression.ArrowCompressionInfo;
+import org.apache.fluss.compression.ArrowCompressionType;
+import org.apache.fluss.compression.ZstdCompressionDictionary;
+import org.apache.fluss.config.ConfigOptions;
+import org.apache.fluss.config.Configuration;
+import org.apache.fluss.metadata.LogFormat;
+import org.apache.fluss.record.ChangeType;
+import org.apache.fluss.record.LogRecord;
+import org.apache.fluss.record.LogRecordBatch;
+import org.apache.fluss.record.LogRecordReadContext;
+import org.apache.fluss.record.MemoryLogRecords;
+import org.apache.fluss.record.TestingSchemaGetter;
+import org.apache.fluss.row.InternalRow;
+import org.apache.fluss.utils.CloseableIterator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.apache.fluss.record.LogRecordBatchFormat.NO_BATCH_SEQUENCE;
+import static org.apache.fluss.record.LogRecordBatchFormat.NO_WRITER_ID;
+import static org.apache.fluss.record.TestData.DATA1_ROW_TYPE;
+import static org.apache.fluss.record.TestData.DATA1_SCHEMA;
+import static org.apache.fluss.record.TestData.DEFAULT_MAGIC;
+import static org.apache.fluss.record.TestData.DEFAULT_SCHEMA_ID;
+import static org.apache.fluss.testutils.DataTestUtils.createMemoryLogRecords;
+import static org.apache.fluss.testutils.DataTestUtils.row;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Test for {@link ZstdDictionaryTrainer} and the {@link ArrowCompressionType#ZSTD_DICT}. */
+class ZstdDictionaryTrainerTest {
+
+    private static final String[] CATEGORIES = {
+        "electronics", "home-appliances", "books", "clothing", "sports-outdoors", "toys-games"
+    };
+
+    @Test
+    void testCompressWithTrainedDictionary() throws Exception {
+        Random random = new Random(42);
+        String dictionary;
+        try (ZstdDictionaryTrainer trainer = new ZstdDictionaryTrainer(DATA1_ROW_TYPE, 16 * 1024)) {
+            for (int i = 0; i < 50_000; i++) {
+                trainer.addSample(row(DATA1_ROW_TYPE, randomRecord(random)));
+            }
+            dictionary = trainer.train();
+        }
+
+        Configuration tableConf = new Configuration();
+        tableConf.set(
+                ConfigOptions.TABLE_LOG_ARROW_COMPRESSION_TYPE, ArrowCompressionType.ZSTD_DICT);
+        tableConf.set(ConfigOptions.TABLE_LOG_ARROW_COMPRESSION_ZSTD_DICTIONARY, dictionary);
+        ArrowCompressionInfo dictCompression = ArrowCompressionInfo.fromConf(tableConf);
+        assertThat(dictCompression.getDictionary()).isNotNull();
+        assertThat(dictCompression.toString())
+                .isEqualTo("ZSTD_DICT-3-" + dictCompression.getDictionary().getId());
+
+        // a small batch is compressed better with the dictionary
+        List<Object[]> records = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            records.add(randomRecord(random));
+        }
+        MemoryLogRecords zstdRecords =
+                createRecords(records, ArrowCompressionInfo.DEFAULT_COMPRESSION);
+        MemoryLogRecords dictRecords = createRecords(records, dictCompression);
+        assertThat(dictRecords.sizeInBytes()).isLessThan(zstdRecords.sizeInBytes());
+
+        // the batches compressed with dictionary are read with the dictionary of the table
+        TestingSchemaGetter schemaGetter = new TestingSchemaGetter(DEFAULT_SCHEMA_ID, DATA1_SCHEMA);
+        try (LogRecordReadContext readContext =
+                LogRecordReadContext.createArrowReadContext(
+                        DATA1_ROW_TYPE, DEFAULT_SCHEMA_ID, schemaGetter, dictCompression)) {
+            assertThat(readRecords(dictRecords, readContext)).containsExactlyElementsOf(records);
+        }
+        try (LogRecordReadContext readContext =
+                LogRecordReadContext.createArrowReadContext(
+                        DATA1_ROW_TYPE, DEFAULT_SCHEMA_ID, schemaGetter)) {
+            assertThatThrownBy(() -> readRecords(dictRecords, readContext))
+                    .hasMessageContaining(
+                            "the buffer is compressed with the Zstd dictionary "
+                                    + dictCompression.getDictionary().getId());
+        }
+
+        // the dictionary can't be used anymore once the table releases it
+        dictCompression.close();
+        assertThatThrownBy(() -> createRecords(records, dictCompression))
+                .hasStackTraceContaining("has been closed");
+    }
+
+    @Test
+    void testInvalidDictionary() {
+        Configuration tableConf = new Configuration();
+        tableConf.set(
+                ConfigOptions.TABLE_LOG_ARROW_COMPRESSION_TYPE, ArrowCompressionType.ZSTD_DICT);
+        assertThatThrownBy(() -> ArrowCompressionInfo.fromConf(tableConf))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("table.log.arrow.compression.zstd.dictionary");
+
+        tableConf.set(
+                ConfigOptions.TABLE_LOG_ARROW_COMPRESSION_ZSTD_DICTIONARY,
+                ZstdCompressionDictionary.encode(new byte[] {1, 2, 3, 4, 5, 6, 7, 8}));
+        assertThatThrownBy(() -> ArrowCompressionInfo.fromConf(tableConf))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("is not a trained dictionary");
+    }
+
+    private static Object[] randomRecord(Random random) {
+        String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+        return new Object[] {
+            random.nextInt(1000),
+            "https://shop.example.com/" + category + "/item?id=" + random.nextInt(100)
+        };
+    }
+
+    private static List<Object[]> readRecords(
+            MemoryLogRecords logRecords, LogRecordReadContext readContext) {
+        List<Object[]> values = new ArrayList<>();
+        for (LogRecordBatch batch : logRecords.batches()) {
+            try (CloseableIterator<LogRecord> iterator = batch.records(readContext)) {
+                while (iterator.hasNext()) {
+                    InternalRow row = iterator.next().getRow();
+                    values.add(new Object[] {row.getInt(0), row.getString(1).toString()});
+                }
+            }
+        }
+        return values;
+    }
+
+    private static MemoryLogRecords createRecords(
+            List<Object[]> records, ArrowCompressionInfo compressionInfo) throws Exception {
+        return createMemoryLogRecords(
+                DATA1_ROW_TYPE,
+                DEFAULT_SCHEMA_ID,
+                0L,
+                System.currentTimeMillis(),
+                DEFAULT_MAGIC,
+                NO_WRITER_ID,
+                NO_BATCH_SEQUENCE,
+                Collections.nCopies(records.size(), ChangeType.APPEND_ONLY),
+                records,
+                LogFormat.ARROW,
+                compressionInfo);
+    }
+}
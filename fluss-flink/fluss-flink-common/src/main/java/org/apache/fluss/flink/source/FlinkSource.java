@@ -21,6 +21,7 @@ import org.apache.fluss.client.initializer.OffsetsInitializer;
 import org.apache.fluss.config.Configuration;
 import org.apache.fluss.flink.source.deserializer.DeserializerInitContextImpl;
 import org.apache.fluss.flink.source.deserializer.FlussDeserializationSchema;
+import org.apache.fluss.flink.source.deserializer.RowDataDeserializationSchema;
 import org.apache.fluss.flink.source.emitter.FlinkRecordEmitter;
 import org.apache.fluss.flink.source.enumerator.FlinkSourceEnumerator;
 import org.apache.fluss.flink.source.metrics.FlinkSourceReaderMetrics;
@@ -222,7 +223,8 @@ public class FlinkSource<OUT>
                 logRecordBatchFilter,
                 flinkSourceReaderMetrics,
                 recordEmitter,
-                lakeSource);
+                lakeSource,
+                deserializationSchema instanceof RowDataDeserializationSchema);
     }
 
     @Override
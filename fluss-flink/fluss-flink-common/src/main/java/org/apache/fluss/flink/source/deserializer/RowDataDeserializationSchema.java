@@ -19,6 +19,7 @@ package org.apache.fluss.flink.source.deserializer;
 
 import org.apache.fluss.annotation.PublicEvolving;
 import org.apache.fluss.client.table.scanner.ScanRecord;
+import org.apache.fluss.flink.source.reader.ColumnarScanRecord;
 import org.apache.fluss.flink.utils.FlussRowToFlinkRowConverter;
 import org.apache.fluss.record.LogRecord;
 import org.apache.fluss.types.RowType;
@@ -74,6 +75,9 @@ public class RowDataDeserializationSchema implements FlussDeserializationSchema<
     /**
      * Deserializes a {@link LogRecord} into a Flink {@link RowData} object.
      *
+     * <p>The record read by the vectorized read of the source is returned as the {@link RowData}
+     * view of the columnar batch, without converting the fields.
+     *
      * @param record The Fluss LogRecord to deserialize
      * @return The deserialized RowData
      * @throws Exception If deserialization fails or if the record is not a valid {@link ScanRecord}
@@ -84,6 +88,9 @@ public class RowDataDeserializationSchema implements FlussDeserializationSchema<
             throw new IllegalStateException(
                     "Converter not initialized. The open() method must be called before deserializing records.");
         }
+        if (record instanceof ColumnarScanRecord) {
+            return ((ColumnarScanRecord) record).getRowData();
+        }
         return converter.toFlinkRowData(record);
     }
 
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.flink.source.reader;
+
+import org.apache.fluss.annotation.Internal;
+import org.apache.fluss.client.table.scanner.ScanRecord;
+import org.apache.fluss.client.table.scanner.log.ScanBatch;
+import org.apache.fluss.record.ChangeType;
+import org.apache.fluss.row.columnar.ColumnarRow;
+import org.apache.fluss.row.columnar.VectorizedColumnBatch;
+
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.columnar.ColumnarRowData;
+
+/**
+ * A {@link ScanRecord} of a row of a {@link ScanBatch} read by the vectorized read of append-only
+ * log, which also provides the row as a Flink {@link RowData} backed by the column vectors of the
+ * batch. Both rows are only valid until the batch is released.
+ *
+ * <p>One instance is reused for all the rows of a batch, it is moved to the next row by {@link
+ * #setRowId(int, long)}, so it must not be held after the next row is read.
+ */
+@Internal
+public class ColumnarScanRecord extends ScanRecord {
+
+    private final ColumnarRow row;
+    private final ColumnarRowData rowData;
+    private final long timestamp;
+    private long offset;
+
+    public ColumnarScanRecord(
+            VectorizedColumnBatch columns,
+            org.apache.flink.table.data.columnar.vector.VectorizedColumnBatch flinkColumns,
+            long timestamp) {
+        this(new ColumnarRow(columns), new ColumnarRowData(flinkColumns), timestamp);
+    }
+
+    private ColumnarScanRecord(ColumnarRow row, ColumnarRowData rowData, long timestamp) {
+        super(-1L, timestamp, ChangeType.APPEND_ONLY, row);
+        this.row = row;
+        this.rowData = rowData;
+        this.timestamp = timestamp;
+    }
+
+    /** Moves this record to the row of the given id in the batch. */
+    public void setRowId(int rowId, long offset) {
+        row.setRowId(rowId);
+        rowData.setRowId(rowId);
+        this.offset = offset;
+    }
+
+    @Override
+    public long logOffset() {
+        return offset;
+    }
+
+    @Override
+    public long timestamp() {
+        return timestamp;
+    }
+
+    /** Returns the row as a Flink {@link RowData} without converting the fields. */
+    public RowData getRowData() {
+        return rowData;
+    }
+
+    @Override
+    public String toString() {
+        return ChangeType.APPEND_ONLY.shortString() + "@" + offset;
+    }
+}
@@ -74,6 +74,32 @@ public class FlinkSourceReader<OUT>
             FlinkSourceReaderMetrics flinkSourceReaderMetrics,
             FlinkRecordEmitter<OUT> recordEmitter,
             LakeSource<LakeSplit> lakeSource) {
+        this(
+                elementsQueue,
+                flussConfig,
+                tablePath,
+                sourceOutputType,
+                context,
+                projectedFields,
+                logRecordBatchFilter,
+                flinkSourceReaderMetrics,
+                recordEmitter,
+                lakeSource,
+                false);
+    }
+
+    public FlinkSourceReader(
+            FutureCompletingBlockingQueue<RecordsWithSplitIds<RecordAndPos>> elementsQueue,
+            Configuration flussConfig,
+            TablePath tablePath,
+            RowType sourceOutputType,
+            SourceReaderContext context,
+            @Nullable int[] projectedFields,
+            @Nullable Predicate logRecordBatchFilter,
+            FlinkSourceReaderMetrics flinkSourceReaderMetrics,
+            FlinkRecordEmitter<OUT> recordEmitter,
+            LakeSource<LakeSplit> lakeSource,
+            boolean emitRowData) {
         super(
                 elementsQueue,
                 new FlinkSourceFetcherManager(
@@ -86,7 +112,8 @@ public class FlinkSourceReader<OUT>
                                         projectedFields,
                                         logRecordBatchFilter,
                                         lakeSource,
-                                        flinkSourceReaderMetrics),
+                                        flinkSourceReaderMetrics,
+                                        emitRowData),
                         (ignore) -> {}),
                 recordEmitter,
                 context.getConfiguration(),
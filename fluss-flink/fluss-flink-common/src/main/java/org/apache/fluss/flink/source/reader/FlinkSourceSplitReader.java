@@ -21,10 +21,15 @@ import org.apache.fluss.annotation.VisibleForTesting;
 import org.apache.fluss.client.Connection;
 import org.apache.fluss.client.ConnectionFactory;
 import org.apache.fluss.client.table.Table;
+import org.apache.fluss.client.table.scanner.Scan;
 import org.apache.fluss.client.table.scanner.ScanRecord;
 import org.apache.fluss.client.table.scanner.batch.BatchScanner;
+import org.apache.fluss.client.table.scanner.log.ColumnarLogScanner;
 import org.apache.fluss.client.table.scanner.log.LogScanner;
+import org.apache.fluss.client.table.scanner.log.ScanBatch;
+import org.apache.fluss.client.table.scanner.log.ScanBatches;
 import org.apache.fluss.client.table.scanner.log.ScanRecords;
+import org.apache.fluss.config.ConfigOptions;
 import org.apache.fluss.config.Configuration;
 import org.apache.fluss.exception.PartitionNotExistException;
 import org.apache.fluss.flink.lake.LakeSplitReaderGenerator;
@@ -35,14 +40,18 @@ import org.apache.fluss.flink.source.split.HybridSnapshotLogSplit;
 import org.apache.fluss.flink.source.split.LogSplit;
 import org.apache.fluss.flink.source.split.SnapshotSplit;
 import org.apache.fluss.flink.source.split.SourceSplitBase;
+import org.apache.fluss.flink.utils.FlussVectorToFlinkVectorConverter;
 import org.apache.fluss.lake.source.LakeSource;
 import org.apache.fluss.lake.source.LakeSplit;
+import org.apache.fluss.metadata.LogFormat;
 import org.apache.fluss.metadata.TableBucket;
+import org.apache.fluss.metadata.TableInfo;
 import org.apache.fluss.metadata.TablePath;
 import org.apache.fluss.predicate.Predicate;
 import org.apache.fluss.types.RowType;
 import org.apache.fluss.utils.CloseableIterator;
 import org.apache.fluss.utils.ExceptionUtils;
+import org.apache.fluss.utils.IOUtils;
 
 import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
 import org.apache.flink.connector.base.source.reader.splitreader.SplitReader;
@@ -66,9 +75,11 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.apache.fluss.utils.Preconditions.checkArgument;
 import static org.apache.fluss.utils.Preconditions.checkNotNull;
@@ -100,6 +111,13 @@ public class FlinkSourceSplitReader implements SplitReader<RecordAndPos, SourceS
 
     private final LogScanner logScanner;
 
+    // the log scanner and the vector converter for the vectorized read, null if disabled
+    @Nullable private final ColumnarLogScanner columnarLogScanner;
+    @Nullable private final FlussVectorToFlinkVectorConverter vectorConverter;
+    // the batches fetched by the vectorized read but not released by the emitted records yet,
+    // which are released by the source reader thread once the records are emitted
+    private final Set<ScanBatch> inFlightBatches = ConcurrentHashMap.newKeySet();
+
     private final Connection connection;
     private final Table table;
     private final FlinkMetricRegistry flinkMetricRegistry;
@@ -125,6 +143,34 @@ public class FlinkSourceSplitReader implements SplitReader<RecordAndPos, SourceS
             @Nullable Predicate logRecordBatchFilter,
             @Nullable LakeSource<LakeSplit> lakeSource,
             FlinkSourceReaderMetrics flinkSourceReaderMetrics) {
+        this(
+                flussConf,
+                tablePath,
+                sourceOutputType,
+                projectedFields,
+                logRecordBatchFilter,
+                lakeSource,
+                flinkSourceReaderMetrics,
+                false);
+    }
+
+    /**
+     * Creates the split reader.
+     *
+     * @param emitRowData whether the records are deserialized to Flink {@link
+     *     org.apache.flink.table.data.RowData}, which enables the vectorized read of the log if
+     *     {@link ConfigOptions#CLIENT_SCANNER_LOG_VECTORIZED_READ_ENABLED} is set and the table
+     *     supports it
+     */
+    public FlinkSourceSplitReader(
+            Configuration flussConf,
+            TablePath tablePath,
+            RowType sourceOutputType,
+            @Nullable int[] projectedFields,
+            @Nullable Predicate logRecordBatchFilter,
+            @Nullable LakeSource<LakeSplit> lakeSource,
+            FlinkSourceReaderMetrics flinkSourceReaderMetrics,
+            boolean emitRowData) {
         this.flinkMetricRegistry =
                 new FlinkMetricRegistry(flinkSourceReaderMetrics.getSourceReaderMetricGroup());
         this.connection = ConnectionFactory.createConnection(flussConf, flinkMetricRegistry);
@@ -137,11 +183,19 @@ public class FlinkSourceSplitReader implements SplitReader<RecordAndPos, SourceS
 
         this.flinkSourceReaderMetrics = flinkSourceReaderMetrics;
         sanityCheck(table.getTableInfo().getRowType(), projectedFields);
-        this.logScanner =
-                table.newScan()
-                        .project(projectedFields)
-                        .filter(logRecordBatchFilter)
-                        .createLogScanner();
+        Scan logScan = table.newScan().project(projectedFields).filter(logRecordBatchFilter);
+        if (emitRowData
+                && flussConf.get(ConfigOptions.CLIENT_SCANNER_LOG_VECTORIZED_READ_ENABLED)
+                && supportsVectorizedRead(table.getTableInfo(), sourceOutputType)) {
+            LOG.info("Read the log of table {} with vectorized read.", tablePath);
+            this.columnarLogScanner = logScan.createColumnarLogScanner();
+            this.vectorConverter = new FlussVectorToFlinkVectorConverter(sourceOutputType);
+            this.logScanner = columnarLogScanner;
+        } else {
+            this.columnarLogScanner = null;
+            this.vectorConverter = null;
+            this.logScanner = logScan.createLogScanner();
+        }
         this.stoppingOffsets = new HashMap<>();
         this.emptyLogSplits = new HashSet<>();
         this.lakeSource = lakeSource;
@@ -178,6 +232,9 @@ public class FlinkSourceSplitReader implements SplitReader<RecordAndPos, SourceS
                 if (subscribedBuckets.isEmpty()) {
                     return FlinkRecordsWithSplitIds.emptyRecords(flinkSourceReaderMetrics);
                 }
+                if (columnarLogScanner != null) {
+                    return forLogBatches(columnarLogScanner.pollBatches(POLL_TIMEOUT));
+                }
                 ScanRecords scanRecords = logScanner.poll(POLL_TIMEOUT);
                 return forLogRecords(scanRecords);
             }
@@ -514,6 +571,119 @@ public class FlinkSourceSplitReader implements SplitReader<RecordAndPos, SourceS
         };
     }
 
+    private FlinkRecordsWithSplitIds forLogBatches(ScanBatches scanBatches) {
+        long fetchTimestamp = System.currentTimeMillis();
+        long maxConsumerRecordTimestampInFetch = -1;
+
+        Map<String, CloseableIterator<RecordAndPos>> splitRecords = new HashMap<>();
+        Map<TableBucket, Long> stoppingOffsets = new HashMap<>();
+        Set<String> finishedSplits = new HashSet<>();
+        List<String> splitIds = new ArrayList<>(scanBatches.buckets().size());
+        List<TableBucket> tableScanBuckets = new ArrayList<>(scanBatches.buckets().size());
+        for (TableBucket scanBucket : scanBatches.buckets()) {
+            List<ScanBatch> bucketScanBatches = scanBatches.batches(scanBucket);
+            String splitId = subscribedBuckets.get(scanBucket);
+            // can't find the split id for the bucket, the bucket should be unsubscribed
+            if (splitId == null) {
+                bucketScanBatches.forEach(IOUtils::closeQuietly);
+                continue;
+            }
+            splitIds.add(splitId);
+            tableScanBuckets.add(scanBucket);
+            inFlightBatches.addAll(bucketScanBatches);
+            if (!bucketScanBatches.isEmpty()) {
+                ScanBatch lastBatch = bucketScanBatches.get(bucketScanBatches.size() - 1);
+                maxConsumerRecordTimestampInFetch =
+                        Math.max(maxConsumerRecordTimestampInFetch, lastBatch.getTimestamp());
+
+                // see forLogRecords, stop fetching the bucket after the record of
+                // "stoppingOffset - 1" is read
+                long stoppingOffset = getStoppingOffset(scanBucket);
+                if (lastBatch.getLogOffset(lastBatch.getRowCount() - 1) >= stoppingOffset - 1) {
+                    stoppingOffsets.put(scanBucket, stoppingOffset);
+                    finishedSplits.add(splitId);
+                }
+            }
+            splitRecords.put(splitId, toRecordAndPos(bucketScanBatches));
+        }
+
+        if (maxConsumerRecordTimestampInFetch > 0) {
+            flinkSourceReaderMetrics.reportRecordEventTime(
+                    fetchTimestamp - maxConsumerRecordTimestampInFetch);
+        }
+
+        FlinkRecordsWithSplitIds recordsWithSplitIds =
+                new FlinkRecordsWithSplitIds(
+                        splitRecords,
+                        splitIds.iterator(),
+                        tableScanBuckets.iterator(),
+                        finishedSplits,
+                        flinkSourceReaderMetrics);
+        stoppingOffsets.forEach(recordsWithSplitIds::setTableBucketStoppingOffset);
+        return recordsWithSplitIds;
+    }
+
+    /**
+     * Returns the records of the rows of the given batches, which are views of the batches. The
+     * record of a batch and the returned {@link RecordAndPos} are reused for the next row. The
+     * batches are released when the iterator is closed, i.e., the records have been emitted.
+     */
+    private CloseableIterator<RecordAndPos> toRecordAndPos(List<ScanBatch> scanBatches) {
+        FlussVectorToFlinkVectorConverter converter = checkNotNull(vectorConverter);
+        return new CloseableIterator<RecordAndPos>() {
+
+            private final MutableRecordAndPos recordAndPos = new MutableRecordAndPos();
+            private int batchIndex = -1;
+            @Nullable private ScanBatch currentBatch;
+            @Nullable private ColumnarScanRecord currentRecord;
+            private int nextRowId;
+
+            @Override
+            public boolean hasNext() {
+                while (currentBatch == null || nextRowId >= currentBatch.getRowCount()) {
+                    if (batchIndex + 1 >= scanBatches.size()) {
+                        return false;
+                    }
+                    currentBatch = scanBatches.get(++batchIndex);
+                    currentRecord =
+                            new ColumnarScanRecord(
+                                    currentBatch.getColumns(),
+                                    converter.toFlinkColumnBatch(
+                                            currentBatch.getColumns().columns,
+                                            currentBatch.getRowCount()),
+                                    currentBatch.getTimestamp());
+                    nextRowId = currentBatch.getStartRowId();
+                }
+                return true;
+            }
+
+            @Override
+            public RecordAndPos next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                ScanBatch batch = checkNotNull(currentBatch);
+                ColumnarScanRecord record = checkNotNull(currentRecord);
+                int rowId = nextRowId++;
+                record.setRowId(rowId, batch.getLogOffset(rowId));
+                recordAndPos.setRecord(record, RecordAndPos.NO_READ_RECORDS_COUNT);
+                return recordAndPos;
+            }
+
+            @Override
+            public void close() {
+                scanBatches.forEach(FlinkSourceSplitReader.this::releaseBatch);
+            }
+        };
+    }
+
+    private void releaseBatch(ScanBatch batch) {
+        // the batch may be released by the source reader thread and the closing of this reader
+        if (inFlightBatches.remove(batch)) {
+            IOUtils.closeQuietly(batch);
+        }
+    }
+
     private FlinkRecordsWithSplitIds forBoundedSplitRecords(
             final SourceSplitBase snapshotSplit,
             final CloseableIterator<RecordAndPos> recordsForSplit) {
@@ -568,6 +738,8 @@ public class FlinkSourceSplitReader implements SplitReader<RecordAndPos, SourceS
         if (currentBoundedSplitReader != null) {
             currentBoundedSplitReader.close();
         }
+        // the arrow buffers must be released before closing the scanner
+        inFlightBatches.forEach(this::releaseBatch);
         if (logScanner != null) {
             logScanner.close();
         }
@@ -576,6 +748,12 @@ public class FlinkSourceSplitReader implements SplitReader<RecordAndPos, SourceS
         flinkMetricRegistry.close();
     }
 
+    private static boolean supportsVectorizedRead(TableInfo tableInfo, RowType sourceOutputType) {
+        return !tableInfo.hasPrimaryKey()
+                && tableInfo.getTableConfig().getLogFormat() == LogFormat.ARROW
+                && FlussVectorToFlinkVectorConverter.isSupported(sourceOutputType);
+    }
+
     private void sanityCheck(RowType flussTableRowType, @Nullable int[] projectedFields) {
         RowType tableRowType =
                 projectedFields != null
@@ -36,6 +36,7 @@ import org.apache.flink.streaming.api.functions.sink.v2.DiscardingSink;
 
 import static org.apache.fluss.flink.tiering.source.TieringSource.TIERING_SOURCE_TRANSFORMATION_UID;
 import static org.apache.fluss.flink.tiering.source.TieringSourceOptions.POLL_TIERING_TABLE_INTERVAL;
+import static org.apache.fluss.flink.tiering.source.TieringSourceOptions.TIERING_READER_MAX_CONCURRENT_SPLITS;
 import static org.apache.fluss.utils.Preconditions.checkNotNull;
 
 /** The builder to build Flink lake tiering job. */
@@ -89,6 +90,8 @@ public class LakeTieringJobBuilder {
             tieringSourceBuilder.withPollTieringTableIntervalMs(
                     flussConfig.get(POLL_TIERING_TABLE_INTERVAL).toMillis());
         }
+        tieringSourceBuilder.withMaxConcurrentSplitsPerReader(
+                flussConfig.get(TIERING_READER_MAX_CONCURRENT_SPLITS));
 
         TieringSource<?> tieringSource = tieringSourceBuilder.build();
         DataStreamSource<?> source =
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.flink.tiering.event;
+
+import org.apache.flink.api.connector.source.SourceEvent;
+
+import java.util.Objects;
+
+/**
+ * SourceEvent used to notify TieringSourceReader the freshness deadline of a tiering table, which
+ * is the time by which the table is expected to have been tiered. The reader tiers tables with
+ * earlier freshness deadline first.
+ */
+public class TieringFreshnessDeadlineEvent implements SourceEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long tableId;
+    private final long freshnessDeadline;
+
+    public TieringFreshnessDeadlineEvent(long tableId, long freshnessDeadline) {
+        this.tableId = tableId;
+        this.freshnessDeadline = freshnessDeadline;
+    }
+
+    public long getTableId() {
+        return tableId;
+    }
+
+    public long getFreshnessDeadline() {
+        return freshnessDeadline;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TieringFreshnessDeadlineEvent)) {
+            return false;
+        }
+        TieringFreshnessDeadlineEvent that = (TieringFreshnessDeadlineEvent) o;
+        return tableId == that.tableId && freshnessDeadline == that.freshnessDeadline;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tableId, freshnessDeadline);
+    }
+
+    @Override
+    public String toString() {
+        return "TieringFreshnessDeadlineEvent{"
+                + "tableId="
+                + tableId
+                + ", freshnessDeadline="
+                + freshnessDeadline
+                + '}';
+    }
+}
@@ -46,6 +46,7 @@ import java.nio.charset.StandardCharsets;
 
 import static org.apache.fluss.config.ConfigOptions.CLIENT_SCANNER_IO_TMP_DIR;
 import static org.apache.fluss.flink.tiering.source.TieringSourceOptions.POLL_TIERING_TABLE_INTERVAL;
+import static org.apache.fluss.flink.tiering.source.TieringSourceOptions.TIERING_READER_MAX_CONCURRENT_SPLITS;
 import static org.apache.fluss.flink.utils.FlinkConnectorOptionsUtils.getClientScannerIoTmpDir;
 
 /**
@@ -65,14 +66,17 @@ public class TieringSource<WriteResult>
     private final Configuration flussConf;
     private final LakeTieringFactory<WriteResult, ?> lakeTieringFactory;
     private final long pollTieringTableIntervalMs;
+    private final int maxConcurrentSplitsPerReader;
 
     public TieringSource(
             Configuration flussConf,
             LakeTieringFactory<WriteResult, ?> lakeTieringFactory,
-            long pollTieringTableIntervalMs) {
+            long pollTieringTableIntervalMs,
+            int maxConcurrentSplitsPerReader) {
         this.flussConf = flussConf;
         this.lakeTieringFactory = lakeTieringFactory;
         this.pollTieringTableIntervalMs = pollTieringTableIntervalMs;
+        this.maxConcurrentSplitsPerReader = maxConcurrentSplitsPerReader;
     }
 
     @Override
@@ -117,7 +121,11 @@ public class TieringSource<WriteResult>
                 getClientScannerIoTmpDir(flussConf, sourceReaderContext.getConfiguration()));
         Connection connection = ConnectionFactory.createConnection(flussConf);
         return new TieringSourceReader<>(
-                elementsQueue, sourceReaderContext, connection, lakeTieringFactory);
+                elementsQueue,
+                sourceReaderContext,
+                connection,
+                lakeTieringFactory,
+                maxConcurrentSplitsPerReader);
     }
 
     /** This follows the operator uid hash generation logic of flink {@link StreamGraphHasherV2}. */
@@ -135,6 +143,8 @@ public class TieringSource<WriteResult>
         private final LakeTieringFactory<WriteResult, ?> lakeTieringFactory;
         private long pollTieringTableIntervalMs =
                 POLL_TIERING_TABLE_INTERVAL.defaultValue().toMillis();
+        private int maxConcurrentSplitsPerReader =
+                TIERING_READER_MAX_CONCURRENT_SPLITS.defaultValue();
 
         public Builder(
                 Configuration flussConf, LakeTieringFactory<WriteResult, ?> lakeTieringFactory) {
@@ -147,8 +157,18 @@ public class TieringSource<WriteResult>
             return this;
         }
 
+        public Builder<WriteResult> withMaxConcurrentSplitsPerReader(
+                int maxConcurrentSplitsPerReader) {
+            this.maxConcurrentSplitsPerReader = maxConcurrentSplitsPerReader;
+            return this;
+        }
+
         public TieringSource<WriteResult> build() {
-            return new TieringSource<>(flussConf, lakeTieringFactory, pollTieringTableIntervalMs);
+            return new TieringSource<>(
+                    flussConf,
+                    lakeTieringFactory,
+                    pollTieringTableIntervalMs,
+                    maxConcurrentSplitsPerReader);
         }
     }
 }
@@ -34,4 +34,16 @@ public class TieringSourceOptions {
                     .defaultValue(Duration.ofSeconds(30))
                     .withDescription(
                             "The fixed interval to request tiering table from Fluss cluster, by default 30 seconds.");
+
+    public static final ConfigOption<Integer> TIERING_READER_MAX_CONCURRENT_SPLITS =
+            key("tiering.reader.max-concurrent-splits")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The maximum number of splits a tiering source reader tiers at the same time. "
+                                    + "The splits may belong to different tables, which are tiered "
+                                    + "concurrently in the order of their freshness deadline. Since a "
+                                    + "lake writer is held for each split being tiered, the option "
+                                    + "bounds the memory used by the lake writers of a reader. "
+                                    + "By default, a reader tiers one split at a time.");
 }
@@ -21,6 +21,7 @@ import org.apache.fluss.annotation.Internal;
 import org.apache.fluss.annotation.VisibleForTesting;
 import org.apache.fluss.client.Connection;
 import org.apache.fluss.flink.adapter.SingleThreadMultiplexSourceReaderBaseAdapter;
+import org.apache.fluss.flink.tiering.event.TieringFreshnessDeadlineEvent;
 import org.apache.fluss.flink.tiering.event.TieringReachMaxDurationEvent;
 import org.apache.fluss.flink.tiering.source.metrics.TieringMetrics;
 import org.apache.fluss.flink.tiering.source.split.TieringSplit;
@@ -39,10 +40,17 @@ import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static org.apache.fluss.flink.tiering.source.TieringSourceOptions.TIERING_READER_MAX_CONCURRENT_SPLITS;
 import static org.apache.fluss.flink.tiering.source.TieringSplitReader.DEFAULT_POLL_TIMEOUT;
 
-/** A {@link SourceReader} that read records from Fluss and write to lake. */
+/**
+ * A {@link SourceReader} that read records from Fluss and write to lake.
+ *
+ * <p>The reader keeps requesting splits until it holds {@code maxConcurrentSplits} splits, so that
+ * the splits of several tables can be tiered concurrently by the {@link TieringSplitReader}.
+ */
 @Internal
 public final class TieringSourceReader<WriteResult>
         extends SingleThreadMultiplexSourceReaderBaseAdapter<
@@ -54,14 +62,25 @@ public final class TieringSourceReader<WriteResult>
     private static final Logger LOG = LoggerFactory.getLogger(TieringSourceReader.class);
 
     private final Connection connection;
+    private final int maxConcurrentSplits;
+    // the table_id to the freshness deadline of the table, shared with the TieringSplitReader
+    private final Map<Long, Long> tableFreshnessDeadlines;
 
     public TieringSourceReader(
             FutureCompletingBlockingQueue<RecordsWithSplitIds<TableBucketWriteResult<WriteResult>>>
                     elementsQueue,
             SourceReaderContext context,
             Connection connection,
-            LakeTieringFactory<WriteResult, ?> lakeTieringFactory) {
-        this(elementsQueue, context, connection, lakeTieringFactory, DEFAULT_POLL_TIMEOUT);
+            LakeTieringFactory<WriteResult, ?> lakeTieringFactory,
+            int maxConcurrentSplits) {
+        this(
+                elementsQueue,
+                context,
+                connection,
+                lakeTieringFactory,
+                DEFAULT_POLL_TIMEOUT,
+                maxConcurrentSplits,
+                new ConcurrentHashMap<>());
     }
 
     @VisibleForTesting
@@ -72,14 +91,41 @@ public final class TieringSourceReader<WriteResult>
             Connection connection,
             LakeTieringFactory<WriteResult, ?> lakeTieringFactory,
             Duration pollTimeout) {
+        this(
+                elementsQueue,
+                context,
+                connection,
+                lakeTieringFactory,
+                pollTimeout,
+                TIERING_READER_MAX_CONCURRENT_SPLITS.defaultValue(),
+                new ConcurrentHashMap<>());
+    }
+
+    private TieringSourceReader(
+            FutureCompletingBlockingQueue<RecordsWithSplitIds<TableBucketWriteResult<WriteResult>>>
+                    elementsQueue,
+            SourceReaderContext context,
+            Connection connection,
+            LakeTieringFactory<WriteResult, ?> lakeTieringFactory,
+            Duration pollTimeout,
+            int maxConcurrentSplits,
+            Map<Long, Long> tableFreshnessDeadlines) {
         super(
                 elementsQueue,
                 createFetcherManager(
-                        elementsQueue, context, connection, lakeTieringFactory, pollTimeout),
+                        elementsQueue,
+                        context,
+                        connection,
+                        lakeTieringFactory,
+                        pollTimeout,
+                        maxConcurrentSplits,
+                        tableFreshnessDeadlines),
                 new TableBucketWriteResultEmitter<>(),
                 context.getConfiguration(),
                 context);
         this.connection = connection;
+        this.maxConcurrentSplits = maxConcurrentSplits;
+        this.tableFreshnessDeadlines = tableFreshnessDeadlines;
     }
 
     private static <WriteResult> TieringSourceFetcherManager<WriteResult> createFetcherManager(
@@ -88,13 +134,22 @@ public final class TieringSourceReader<WriteResult>
             SourceReaderContext context,
             Connection connection,
             LakeTieringFactory<WriteResult, ?> lakeTieringFactory,
-            Duration pollTimeout) {
+            Duration pollTimeout,
+            int maxConcurrentSplits,
+            Map<Long, Long> tableFreshnessDeadlines) {
         TieringMetrics tieringMetrics = new TieringMetrics(context.metricGroup());
         return new TieringSourceFetcherManager<>(
                 elementsQueue,
+                // a reader holds at most max concurrent splits, so no more tables than that are
+                // tiered at the same time
                 () ->
                         new TieringSplitReader<>(
-                                connection, lakeTieringFactory, pollTimeout, tieringMetrics),
+                                connection,
+                                lakeTieringFactory,
+                                pollTimeout,
+                                maxConcurrentSplits,
+                                tableFreshnessDeadlines,
+                                tieringMetrics),
                 context.getConfiguration(),
                 (ignore) -> {});
     }
@@ -107,6 +162,15 @@ public final class TieringSourceReader<WriteResult>
         }
     }
 
+    @Override
+    public void addSplits(List<TieringSplit> splits) {
+        super.addSplits(splits);
+        // request more splits to tier concurrently
+        if (getNumberOfCurrentlyAssignedSplits() < maxConcurrentSplits) {
+            context.sendSplitRequest();
+        }
+    }
+
     @Override
     protected void onSplitFinished(Map<String, TieringSplitState> finishedSplitIds) {
         context.sendSplitRequest();
@@ -143,6 +207,14 @@ public final class TieringSourceReader<WriteResult>
             LOG.info("Received reach max duration for table {}", tableId);
             ((TieringSourceFetcherManager<WriteResult>) splitFetcherManager)
                     .markTableReachTieringMaxDuration(tableId);
+        } else if (sourceEvent instanceof TieringFreshnessDeadlineEvent) {
+            TieringFreshnessDeadlineEvent freshnessDeadlineEvent =
+                    (TieringFreshnessDeadlineEvent) sourceEvent;
+            // the event is sent before the splits of the table, so the deadline is known when
+            // the split reader picks the next table to tier
+            tableFreshnessDeadlines.put(
+                    freshnessDeadlineEvent.getTableId(),
+                    freshnessDeadlineEvent.getFreshnessDeadline());
         }
     }
 
@@ -21,7 +21,10 @@ import org.apache.fluss.annotation.VisibleForTesting;
 import org.apache.fluss.client.Connection;
 import org.apache.fluss.client.table.Table;
 import org.apache.fluss.client.table.scanner.ScanRecord;
+import org.apache.fluss.client.table.scanner.log.ColumnarLogScanner;
 import org.apache.fluss.client.table.scanner.log.LogScanner;
+import org.apache.fluss.client.table.scanner.log.ScanBatch;
+import org.apache.fluss.client.table.scanner.log.ScanBatches;
 import org.apache.fluss.client.table.scanner.log.ScanRecords;
 import org.apache.fluss.flink.source.reader.BoundedSplitReader;
 import org.apache.fluss.flink.source.reader.RecordAndPos;
@@ -29,11 +32,15 @@ import org.apache.fluss.flink.tiering.source.metrics.TieringMetrics;
 import org.apache.fluss.flink.tiering.source.split.TieringLogSplit;
 import org.apache.fluss.flink.tiering.source.split.TieringSnapshotSplit;
 import org.apache.fluss.flink.tiering.source.split.TieringSplit;
+import org.apache.fluss.lake.batch.ArrowRecordBatch;
 import org.apache.fluss.lake.writer.LakeTieringFactory;
 import org.apache.fluss.lake.writer.LakeWriter;
+import org.apache.fluss.lake.writer.SupportsRecordBatchWrite;
+import org.apache.fluss.metadata.LogFormat;
 import org.apache.fluss.metadata.TableBucket;
 import org.apache.fluss.metadata.TableInfo;
 import org.apache.fluss.metadata.TablePath;
+import org.apache.fluss.record.GenericRecord;
 import org.apache.fluss.utils.CloseableIterator;
 
 import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
@@ -52,16 +59,25 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.apache.fluss.utils.Preconditions.checkArgument;
 import static org.apache.fluss.utils.Preconditions.checkNotNull;
 import static org.apache.fluss.utils.Preconditions.checkState;
 
-/** The {@link SplitReader} implementation which will read Fluss and write to lake. */
+/**
+ * The {@link SplitReader} implementation which will read Fluss and write to lake.
+ *
+ * <p>The reader tiers at most {@code maxConcurrentTables} tables at the same time, each of them
+ * with its own log scanner and a lake writer per bucket. When more tables are pending, the table
+ * with the earliest freshness deadline is started first. The tables being tiered are fetched in a
+ * round-robin manner, so that a big table won't block the tiering of the other tables.
+ */
 public class TieringSplitReader<WriteResult>
         implements SplitReader<TableBucketWriteResult<WriteResult>, TieringSplit> {
 
@@ -69,46 +85,47 @@ public class TieringSplitReader<WriteResult>
 
     public static final Duration DEFAULT_POLL_TIMEOUT = Duration.ofMillis(10_000L);
 
+    // the max time to block on polling a table when other tables are waiting to be fetched
+    private static final Duration MULTI_TABLE_POLL_TIMEOUT = Duration.ofMillis(100L);
+
     // unknown bucket timestamp for empty split or snapshot split
     private static final long UNKNOWN_BUCKET_TIMESTAMP = -1;
 
     // unknown bucket offset for empty split or snapshot split
     private static final long UNKNOWN_BUCKET_OFFSET = -1;
 
+    // the freshness deadline of a table which isn't notified, tiered after the notified tables
+    private static final long UNKNOWN_FRESHNESS_DEADLINE = Long.MAX_VALUE;
+
     private final LakeTieringFactory<WriteResult, ?> lakeTieringFactory;
 
     private final Duration pollTimeout;
 
-    // the id for the pending tables to be tiered
-    private final Queue<Long> pendingTieringTables;
-    // the table_id to the pending splits
+    private final int maxConcurrentTables;
+
+    // the table_id to the pending splits, in the order of the tables arrived
     private final Map<Long, Set<TieringSplit>> pendingTieringSplits;
 
+    // the table_id to the freshness deadline of the table, may be updated by other threads
+    private final Map<Long, Long> tableFreshnessDeadlines;
+
     private final Set<Long> reachTieringMaxDurationTables;
 
+    // the table_id to the tables being tiered
+    private final Map<Long, TableTieringState> tieringTables;
+    // the tables being tiered, in the order to be fetched
+    private final Queue<TableTieringState> tieringTablesToFetch;
+
     private final Map<TableBucket, LakeWriter<WriteResult>> lakeWriters;
     private final Connection connection;
 
-    @Nullable private Long currentTableId;
-    @Nullable private TablePath currentTablePath;
-    @Nullable private LogScanner currentLogScanner;
-    @Nullable private Table currentTable;
-
-    private final Queue<TieringSnapshotSplit> currentPendingSnapshotSplits;
-    @Nullable private BoundedSplitReader currentSnapshotSplitReader;
-    @Nullable private TieringSnapshotSplit currentSnapshotSplit;
-    @Nullable private Integer currentTableNumberOfSplits;
-
-    // map from table bucket to split id
-    private final Map<TableBucket, TieringSplit> currentTableSplitsByBucket;
-    private final Map<TableBucket, Long> currentTableStoppingOffsets;
-
-    private final Map<TableBucket, LogOffsetAndTimestamp> currentTableTieredOffsetAndTimestamp;
-
     private final Set<TieringSplit> currentEmptySplits;
 
     private final TieringMetrics tieringMetrics;
 
+    // the log scanner being polled, which is woken up by other threads
+    @Nullable private volatile LogScanner pollingLogScanner;
+
     public TieringSplitReader(
             Connection connection,
             LakeTieringFactory<WriteResult, ?> lakeTieringFactory,
@@ -122,19 +139,39 @@ public class TieringSplitReader<WriteResult>
             LakeTieringFactory<WriteResult, ?> lakeTieringFactory,
             Duration pollTimeout,
             TieringMetrics tieringMetrics) {
+        this(
+                connection,
+                lakeTieringFactory,
+                pollTimeout,
+                1,
+                new ConcurrentHashMap<>(),
+                tieringMetrics);
+    }
+
+    public TieringSplitReader(
+            Connection connection,
+            LakeTieringFactory<WriteResult, ?> lakeTieringFactory,
+            Duration pollTimeout,
+            int maxConcurrentTables,
+            Map<Long, Long> tableFreshnessDeadlines,
+            TieringMetrics tieringMetrics) {
+        checkArgument(
+                maxConcurrentTables > 0,
+                "The max concurrent tables must be positive, but is %s.",
+                maxConcurrentTables);
         this.lakeTieringFactory = lakeTieringFactory;
         // owned by TieringSourceReader
         this.connection = connection;
-        this.pendingTieringTables = new ArrayDeque<>();
-        this.pendingTieringSplits = new HashMap<>();
-        this.currentTableStoppingOffsets = new HashMap<>();
-        this.currentTableTieredOffsetAndTimestamp = new HashMap<>();
+        this.pendingTieringSplits = new LinkedHashMap<>();
+        // updated by TieringSourceReader
+        this.tableFreshnessDeadlines = tableFreshnessDeadlines;
+        this.tieringTables = new HashMap<>();
+        this.tieringTablesToFetch = new ArrayDeque<>();
         this.currentEmptySplits = new HashSet<>();
-        this.currentTableSplitsByBucket = new HashMap<>();
         this.lakeWriters = new HashMap<>();
-        this.currentPendingSnapshotSplits = new ArrayDeque<>();
         this.reachTieringMaxDurationTables = new HashSet<>();
         this.pollTimeout = pollTimeout;
+        this.maxConcurrentTables = maxConcurrentTables;
         this.tieringMetrics = tieringMetrics;
     }
 
@@ -144,35 +181,86 @@ public class TieringSplitReader<WriteResult>
         if (!currentEmptySplits.isEmpty()) {
             LOG.info("Empty split(s) {} finished.", currentEmptySplits);
             TableBucketWriteResultWithSplitIds records = forEmptySplits(currentEmptySplits);
-            currentEmptySplits.forEach(
-                    split -> currentTableSplitsByBucket.remove(split.getTableBucket()));
-            mayFinishCurrentTable();
+            for (TieringSplit split : currentEmptySplits) {
+                long tableId = split.getTableBucket().getTableId();
+                TableTieringState table = tieringTables.get(tableId);
+                if (table != null) {
+                    table.splitsByBucket.remove(split.getTableBucket());
+                    mayFinishTable(table);
+                } else if (!pendingTieringSplits.containsKey(tableId)) {
+                    tableFreshnessDeadlines.remove(tableId);
+                }
+            }
             currentEmptySplits.clear();
             return records;
         }
-        checkSplitOrStartNext();
+        if (mayStartNextTables()) {
+            // the tables just started will be fetched in the next round
+            return emptyTableBucketWriteResultWithSplitIds();
+        }
+
+        TableTieringState table = tieringTablesToFetch.poll();
+        if (table == null) {
+            return emptyTableBucketWriteResultWithSplitIds();
+        }
+        try {
+            return fetch(table);
+        } finally {
+            // fetch the other tables before fetching the table again
+            if (tieringTables.get(table.tableId) == table) {
+                tieringTablesToFetch.add(table);
+            }
+        }
+    }
+
+    private RecordsWithSplitIds<TableBucketWriteResult<WriteResult>> fetch(TableTieringState table)
+            throws IOException {
+        table.mayStartNextSnapshotSplit();
 
         // may read snapshot firstly
-        if (currentSnapshotSplitReader != null) {
+        if (table.snapshotSplitReader != null) {
             // for snapshot split, we don't force to complete it
             // since we rely on the log offset for the snapshot to
             // do next tiering, if force to complete, we can't get the log offset
-            CloseableIterator<RecordAndPos> recordIterator = currentSnapshotSplitReader.readBatch();
+            CloseableIterator<RecordAndPos> recordIterator = table.snapshotSplitReader.readBatch();
             if (recordIterator == null) {
-                LOG.info("Split {} is finished", currentSnapshotSplit.splitId());
-                return finishCurrentSnapshotSplit();
+                LOG.info("Split {} is finished", checkNotNull(table.snapshotSplit).splitId());
+                return finishSnapshotSplit(table);
             } else {
-                return forSnapshotSplitRecords(
-                        currentSnapshotSplit.getTableBucket(), recordIterator);
+                return forSnapshotSplitRecords(table, recordIterator);
             }
         } else {
-            if (currentLogScanner != null) {
+            LogScanner logScanner = table.logScanner;
+            if (logScanner != null) {
                 // force to complete records
-                if (reachTieringMaxDurationTables.contains(currentTableId)) {
-                    return forceCompleteTieringLogRecords();
+                if (reachTieringMaxDurationTables.contains(table.tableId)) {
+                    return forceCompleteTieringLogRecords(table);
+                }
+                // don't block on the table for long if other tables are waiting to be fetched
+                Duration timeout =
+                        tieringTables.size() > 1
+                                        && pollTimeout.compareTo(MULTI_TABLE_POLL_TIMEOUT) > 0
+                                ? MULTI_TABLE_POLL_TIMEOUT
+                                : pollTimeout;
+                pollingLogScanner = logScanner;
+                try {
+                    if (table.logScannerColumnar) {
+                        RecordsWithSplitIds<TableBucketWriteResult<WriteResult>> records;
+                        try (ScanBatches scanBatches =
+                                ((ColumnarLogScanner) logScanner).pollBatches(timeout)) {
+                            records = forLogBatches(table, scanBatches);
+                        }
+                        // the polled batches must be released before closing the log scanner
+                        if (!records.finishedSplits().isEmpty()) {
+                            mayFinishTable(table);
+                        }
+                        return records;
+                    }
+                    ScanRecords scanRecords = logScanner.poll(timeout);
+                    return forLogRecords(table, scanRecords);
+                } finally {
+                    pollingLogScanner = null;
                 }
-                ScanRecords scanRecords = currentLogScanner.poll(pollTimeout);
-                return forLogRecords(scanRecords);
             } else {
                 return emptyTableBucketWriteResultWithSplitIds();
             }
@@ -199,117 +287,86 @@ public class TieringSplitReader<WriteResult>
                 continue;
             }
             long tableId = split.getTableBucket().getTableId();
-            // the split belongs to the current table
-            if (currentTableId != null && currentTableId == tableId) {
-                addSplitToCurrentTable(split);
+            TableTieringState table = tieringTables.get(tableId);
+            // the split belongs to a table being tiered
+            if (table != null) {
+                table.addSplit(split);
             } else {
-                Set<TieringSplit> alreadyPendingSplits = pendingTieringSplits.get(tableId);
-                if (alreadyPendingSplits != null) {
-                    // add to the already pending splits
-                    alreadyPendingSplits.add(split);
-                } else {
-                    Set<TieringSplit> pendingSplits = new HashSet<>();
-                    pendingSplits.add(split);
-                    pendingTieringSplits.put(tableId, pendingSplits);
-                    pendingTieringTables.add(tableId);
-                }
+                pendingTieringSplits.computeIfAbsent(tableId, k -> new HashSet<>()).add(split);
             }
         }
     }
 
-    private void addSplitToCurrentTable(TieringSplit split) {
-        this.currentTableSplitsByBucket.put(split.getTableBucket(), split);
-        if (split.isTieringSnapshotSplit()) {
-            this.currentPendingSnapshotSplits.add((TieringSnapshotSplit) split);
-        } else if (split.isTieringLogSplit()) {
-            subscribeLog((TieringLogSplit) split);
-        }
-    }
-
-    private void checkSplitOrStartNext() {
-        if (currentSnapshotSplitReader != null) {
-            return;
-        }
-
-        // may poll next snapshot split to read
-        TieringSnapshotSplit nextSnapshotSplit = currentPendingSnapshotSplits.poll();
-        if (nextSnapshotSplit != null) {
-            Table table = getOrMoveToTable(nextSnapshotSplit);
-            currentSnapshotSplit = nextSnapshotSplit;
-            currentSnapshotSplitReader =
-                    new BoundedSplitReader(
-                            table.newScan()
-                                    .createBatchScanner(
-                                            currentSnapshotSplit.getTableBucket(),
-                                            currentSnapshotSplit.getSnapshotId()),
-                            0);
-            return;
-        }
-
-        // use current log scanner to read
-        if (currentLogScanner != null) {
-            return;
-        }
-
-        // may poll next table to read
-        Long pendingTableId = pendingTieringTables.poll();
-        if (pendingTableId == null) {
-            return;
-        }
+    /**
+     * Starts to tier the pending tables until the max concurrent tables is reached, the table with
+     * the earliest freshness deadline is started first.
+     *
+     * @return whether any table is started
+     */
+    private boolean mayStartNextTables() {
+        boolean started = false;
+        while (tieringTables.size() < maxConcurrentTables && !pendingTieringSplits.isEmpty()) {
+            Long nextTableId = null;
+            long nextFreshnessDeadline = UNKNOWN_FRESHNESS_DEADLINE;
+            for (Long tableId : pendingTieringSplits.keySet()) {
+                long freshnessDeadline =
+                        tableFreshnessDeadlines.getOrDefault(tableId, UNKNOWN_FRESHNESS_DEADLINE);
+                if (nextTableId == null || freshnessDeadline < nextFreshnessDeadline) {
+                    nextTableId = tableId;
+                    nextFreshnessDeadline = freshnessDeadline;
+                }
+            }
 
-        Set<TieringSplit> pendingSplits = pendingTieringSplits.remove(pendingTableId);
-        for (TieringSplit split : pendingSplits) {
-            getOrMoveToTable(split);
-            addSplitToCurrentTable(split);
+            Set<TieringSplit> pendingSplits = pendingTieringSplits.remove(nextTableId);
+            TableTieringState table = startTable(pendingSplits.iterator().next());
+            for (TieringSplit split : pendingSplits) {
+                table.addSplit(split);
+            }
+            started = true;
         }
+        return started;
     }
 
-    private Table getOrMoveToTable(TieringSplit split) {
-        if (currentTable == null) {
-            TablePath tablePath = split.getTablePath();
-            currentTable = connection.getTable(tablePath);
-            currentTablePath = tablePath;
-            currentTableId = split.getTableBucket().getTableId();
-            currentTableNumberOfSplits = split.getNumberOfSplits();
-            TableInfo currentTableInfo = checkNotNull(currentTable).getTableInfo();
-            // check currentTable's id for the table path is same with table id of the tiering
-            // split, if not, it means the tiering split is for a previous dropped table. let's fail
-            // directly
-            // todo: we should skip and notify enumerator that the table id is not tiering now
-            // instead of fail directly
-            checkArgument(
-                    currentTableInfo.getTableId() == split.getTableBucket().getTableId(),
-                    "The current table id %s for table path %s is different from the table id %s in TieringSplit split.",
-                    currentTableInfo.getTableId(),
-                    tablePath,
-                    split.getTableBucket().getTableId());
-            LOG.info("Start to tier table {} with table id {}.", currentTablePath, currentTableId);
-        }
-        return currentTable;
-    }
-
-    private void mayCreateLogScanner() {
-        if (currentLogScanner == null) {
-            currentLogScanner = checkNotNull(currentTable).newScan().createLogScanner();
-        }
+    private TableTieringState startTable(TieringSplit split) {
+        TablePath tablePath = split.getTablePath();
+        long tableId = split.getTableBucket().getTableId();
+        Table table = connection.getTable(tablePath);
+        TableInfo tableInfo = table.getTableInfo();
+        // check table's id for the table path is same with table id of the tiering
+        // split, if not, it means the tiering split is for a previous dropped table. let's fail
+        // directly
+        // todo: we should skip and notify enumerator that the table id is not tiering now
+        // instead of fail directly
+        checkArgument(
+                tableInfo.getTableId() == tableId,
+                "The current table id %s for table path %s is different from the table id %s in TieringSplit split.",
+                tableInfo.getTableId(),
+                tablePath,
+                tableId);
+        TableTieringState tableTieringState =
+                new TableTieringState(tableId, tablePath, table, split.getNumberOfSplits());
+        tieringTables.put(tableId, tableTieringState);
+        tieringTablesToFetch.add(tableTieringState);
+        LOG.info("Start to tier table {} with table id {}.", tablePath, tableId);
+        return tableTieringState;
     }
 
-    private RecordsWithSplitIds<TableBucketWriteResult<WriteResult>>
-            forceCompleteTieringLogRecords() throws IOException {
+    private RecordsWithSplitIds<TableBucketWriteResult<WriteResult>> forceCompleteTieringLogRecords(
+            TableTieringState table) throws IOException {
         Map<TableBucket, TableBucketWriteResult<WriteResult>> writeResults = new HashMap<>();
         Map<TableBucket, String> finishedSplitIds = new HashMap<>();
 
         // force finish all splits
-        Iterator<Map.Entry<TableBucket, TieringSplit>> currentTieringSplitsIterator =
-                currentTableSplitsByBucket.entrySet().iterator();
-        while (currentTieringSplitsIterator.hasNext()) {
-            Map.Entry<TableBucket, TieringSplit> entry = currentTieringSplitsIterator.next();
+        Iterator<Map.Entry<TableBucket, TieringSplit>> tieringSplitsIterator =
+                table.splitsByBucket.entrySet().iterator();
+        while (tieringSplitsIterator.hasNext()) {
+            Map.Entry<TableBucket, TieringSplit> entry = tieringSplitsIterator.next();
             TableBucket bucket = entry.getKey();
             TieringSplit split = entry.getValue();
             if (split != null && split.isTieringLogSplit()) {
                 // get the current offset, timestamp that tiered so far
                 LogOffsetAndTimestamp logOffsetAndTimestamp =
-                        currentTableTieredOffsetAndTimestamp.get(bucket);
+                        table.tieredOffsetAndTimestamp.get(bucket);
                 long logEndOffset =
                         logOffsetAndTimestamp == null
                                 ? UNKNOWN_BUCKET_OFFSET
@@ -321,7 +378,7 @@ public class TieringSplitReader<WriteResult>
                                 : logOffsetAndTimestamp.timestamp;
                 TableBucketWriteResult<WriteResult> bucketWriteResult =
                         completeLakeWriter(
-                                bucket, split.getPartitionName(), logEndOffset, timestamp);
+                                table, bucket, split.getPartitionName(), logEndOffset, timestamp);
 
                 if (logEndOffset == UNKNOWN_BUCKET_OFFSET) {
                     // when the log end offset is unknown, the write result must be
@@ -342,19 +399,19 @@ public class TieringSplitReader<WriteResult>
                         bucketWriteResult,
                         logEndOffset,
                         timestamp);
-                currentTieringSplitsIterator.remove();
+                tieringSplitsIterator.remove();
             }
         }
-        reachTieringMaxDurationTables.remove(this.currentTableId);
-        mayFinishCurrentTable();
+        reachTieringMaxDurationTables.remove(table.tableId);
+        mayFinishTable(table);
         return new TableBucketWriteResultWithSplitIds(writeResults, finishedSplitIds);
     }
 
     private RecordsWithSplitIds<TableBucketWriteResult<WriteResult>> forLogRecords(
-            ScanRecords scanRecords) throws IOException {
+            TableTieringState table, ScanRecords scanRecords) throws IOException {
         Map<TableBucket, TableBucketWriteResult<WriteResult>> writeResults = new HashMap<>();
         Map<TableBucket, String> finishedSplitIds = new HashMap<>();
-        LOG.info("for log records to tier table {}.", currentTableId);
+        LOG.info("for log records to tier table {}.", table.tableId);
 
         for (TableBucket bucket : scanRecords.buckets()) {
             LOG.info("tiering table bucket {}.", bucket);
@@ -364,14 +421,14 @@ public class TieringSplitReader<WriteResult>
             }
             LOG.info("tiering table bucket is not empty {}.", bucket);
             // no any stopping offset, just skip handle the records for the bucket
-            Long stoppingOffset = currentTableStoppingOffsets.get(bucket);
+            Long stoppingOffset = table.stoppingOffsets.get(bucket);
             if (stoppingOffset == null) {
                 continue;
             }
             LOG.info("tiering table bucket stoppingOffset is not empty {}.", bucket);
             LakeWriter<WriteResult> lakeWriter =
                     getOrCreateLakeWriter(
-                            bucket, currentTableSplitsByBucket.get(bucket).getPartitionName());
+                            table, bucket, table.splitsByBucket.get(bucket).getPartitionName());
             for (ScanRecord record : bucketScanRecords) {
                 // if record is less than stopping offset
                 if (record.logOffset() < stoppingOffset) {
@@ -382,62 +439,165 @@ public class TieringSplitReader<WriteResult>
                 }
             }
             ScanRecord lastRecord = bucketScanRecords.get(bucketScanRecords.size() - 1);
-            currentTableTieredOffsetAndTimestamp.put(
+            table.tieredOffsetAndTimestamp.put(
                     bucket,
                     new LogOffsetAndTimestamp(lastRecord.logOffset(), lastRecord.timestamp()));
             // has arrived into the end of the split,
             if (lastRecord.logOffset() >= stoppingOffset - 1) {
-                currentTableStoppingOffsets.remove(bucket);
+                table.stoppingOffsets.remove(bucket);
                 if (bucket.getPartitionId() != null) {
-                    currentLogScanner.unsubscribe(bucket.getPartitionId(), bucket.getBucket());
+                    checkNotNull(table.logScanner)
+                            .unsubscribe(bucket.getPartitionId(), bucket.getBucket());
                 } else {
                     // todo: should unsubscribe the log split if unsubscribe bucket for
                     // un-partitioned table is supported
                 }
-                TieringSplit currentTieringSplit = currentTableSplitsByBucket.remove(bucket);
-                String currentSplitId = currentTieringSplit.splitId();
+                TieringSplit tieringSplit = table.splitsByBucket.remove(bucket);
+                String splitId = tieringSplit.splitId();
                 // put write result of the bucket
                 writeResults.put(
                         bucket,
                         completeLakeWriter(
+                                table,
                                 bucket,
-                                currentTieringSplit.getPartitionName(),
+                                tieringSplit.getPartitionName(),
                                 stoppingOffset,
                                 lastRecord.timestamp()));
                 // put split of the bucket
-                finishedSplitIds.put(bucket, currentSplitId);
+                finishedSplitIds.put(bucket, splitId);
                 LOG.info(
                         "Finish tier bucket {} for table {}, split: {}.",
                         bucket,
-                        currentTablePath,
-                        currentSplitId);
+                        table.tablePath,
+                        splitId);
             }
         }
 
         if (!finishedSplitIds.isEmpty()) {
-            mayFinishCurrentTable();
+            mayFinishTable(table);
+        }
+
+        return new TableBucketWriteResultWithSplitIds(writeResults, finishedSplitIds);
+    }
+
+    private RecordsWithSplitIds<TableBucketWriteResult<WriteResult>> forLogBatches(
+            TableTieringState table, ScanBatches scanBatches) throws IOException {
+        Map<TableBucket, TableBucketWriteResult<WriteResult>> writeResults = new HashMap<>();
+        Map<TableBucket, String> finishedSplitIds = new HashMap<>();
+
+        for (TableBucket bucket : scanBatches.buckets()) {
+            List<ScanBatch> bucketScanBatches = scanBatches.batches(bucket);
+            if (bucketScanBatches.isEmpty()) {
+                continue;
+            }
+            // no any stopping offset, just skip handle the batches for the bucket
+            Long stoppingOffset = table.stoppingOffsets.get(bucket);
+            if (stoppingOffset == null) {
+                continue;
+            }
+            LakeWriter<WriteResult> lakeWriter =
+                    getOrCreateLakeWriter(
+                            table, bucket, table.splitsByBucket.get(bucket).getPartitionName());
+            for (ScanBatch scanBatch : bucketScanBatches) {
+                // only write the rows less than stopping offset
+                int endRowId =
+                        (int)
+                                Math.min(
+                                        scanBatch.getRowCount(),
+                                        stoppingOffset - scanBatch.getBaseLogOffset());
+                if (endRowId > scanBatch.getStartRowId()) {
+                    writeLogBatch(table, lakeWriter, scanBatch, endRowId);
+                    tieringMetrics.recordBytesRead(
+                            (long) scanBatch.getSizeInBytes()
+                                    * (endRowId - scanBatch.getStartRowId())
+                                    / scanBatch.getRowCount());
+                }
+            }
+            ScanBatch lastBatch = bucketScanBatches.get(bucketScanBatches.size() - 1);
+            long lastLogOffset = lastBatch.getLogOffset(lastBatch.getRowCount() - 1);
+            table.tieredOffsetAndTimestamp.put(
+                    bucket, new LogOffsetAndTimestamp(lastLogOffset, lastBatch.getTimestamp()));
+            // has arrived into the end of the split,
+            if (lastLogOffset >= stoppingOffset - 1) {
+                table.stoppingOffsets.remove(bucket);
+                if (bucket.getPartitionId() != null) {
+                    checkNotNull(table.logScanner)
+                            .unsubscribe(bucket.getPartitionId(), bucket.getBucket());
+                }
+                TieringSplit tieringSplit = table.splitsByBucket.remove(bucket);
+                String splitId = tieringSplit.splitId();
+                writeResults.put(
+                        bucket,
+                        completeLakeWriter(
+                                table,
+                                bucket,
+                                tieringSplit.getPartitionName(),
+                                stoppingOffset,
+                                lastBatch.getTimestamp()));
+                finishedSplitIds.put(bucket, splitId);
+                LOG.info(
+                        "Finish tier bucket {} for table {}, split: {}.",
+                        bucket,
+                        table.tablePath,
+                        splitId);
+            }
         }
 
         return new TableBucketWriteResultWithSplitIds(writeResults, finishedSplitIds);
     }
 
+    /** Writes the rows of the batch from the start row until the given end row (exclusive). */
+    private void writeLogBatch(
+            TableTieringState table,
+            LakeWriter<WriteResult> lakeWriter,
+            ScanBatch scanBatch,
+            int endRowId)
+            throws IOException {
+        // the arrow vectors of the batch can only be passed to the lake writer when the batch is
+        // written in the current schema of the table, otherwise, write the rows which are
+        // evolved to the current schema
+        if (lakeWriter instanceof SupportsRecordBatchWrite
+                && scanBatch.getSchemaId() == table.table.getTableInfo().getSchemaId()) {
+            ((SupportsRecordBatchWrite) lakeWriter)
+                    .write(
+                            new ArrowRecordBatch(
+                                    scanBatch.getVectorSchemaRoot(),
+                                    scanBatch.getColumns().columns,
+                                    scanBatch.getBaseLogOffset(),
+                                    scanBatch.getTimestamp(),
+                                    scanBatch.getStartRowId(),
+                                    endRowId));
+        } else {
+            for (int rowId = scanBatch.getStartRowId(); rowId < endRowId; rowId++) {
+                lakeWriter.write(
+                        new GenericRecord(
+                                scanBatch.getLogOffset(rowId),
+                                scanBatch.getTimestamp(),
+                                scanBatch.getChangeType(rowId),
+                                scanBatch.getRow(rowId)));
+            }
+        }
+    }
+
     private LakeWriter<WriteResult> getOrCreateLakeWriter(
-            TableBucket bucket, @Nullable String partitionName) throws IOException {
+            TableTieringState table, TableBucket bucket, @Nullable String partitionName)
+            throws IOException {
         LakeWriter<WriteResult> lakeWriter = lakeWriters.get(bucket);
         if (lakeWriter == null) {
             lakeWriter =
                     lakeTieringFactory.createLakeWriter(
                             new TieringWriterInitContext(
-                                    currentTablePath,
+                                    table.tablePath,
                                     bucket,
                                     partitionName,
-                                    currentTable.getTableInfo()));
+                                    table.table.getTableInfo()));
             lakeWriters.put(bucket, lakeWriter);
         }
         return lakeWriter;
     }
 
     private TableBucketWriteResult<WriteResult> completeLakeWriter(
+            TableTieringState table,
             TableBucket bucket,
             @Nullable String partitionName,
             long logEndOffset,
@@ -450,13 +610,13 @@ public class TieringSplitReader<WriteResult>
             lakeWriter.close();
         }
         return toTableBucketWriteResult(
-                currentTablePath,
+                table.tablePath,
                 bucket,
                 partitionName,
                 writeResult,
                 logEndOffset,
                 maxTimestamp,
-                checkNotNull(currentTableNumberOfSplits));
+                table.numberOfSplits);
     }
 
     private TableBucketWriteResultWithSplitIds forEmptySplits(Set<TieringSplit> emptySplits) {
@@ -479,40 +639,45 @@ public class TieringSplitReader<WriteResult>
         return new TableBucketWriteResultWithSplitIds(writeResults, finishedSplitIds);
     }
 
-    private void mayFinishCurrentTable() throws IOException {
+    private void mayFinishTable(TableTieringState table) throws IOException {
         // no any pending splits for the table, just finish the table
-        if (currentTableSplitsByBucket.isEmpty()) {
-            finishCurrentTable();
+        if (table.splitsByBucket.isEmpty()) {
+            finishTable(table);
         }
     }
 
-    private TableBucketWriteResultWithSplitIds finishCurrentSnapshotSplit() throws IOException {
-        TableBucket tableBucket = currentSnapshotSplit.getTableBucket();
-        long logEndOffset = currentSnapshotSplit.getLogOffsetOfSnapshot();
-        String splitId = currentTableSplitsByBucket.remove(tableBucket).splitId();
+    private TableBucketWriteResultWithSplitIds finishSnapshotSplit(TableTieringState table)
+            throws IOException {
+        TieringSnapshotSplit snapshotSplit = checkNotNull(table.snapshotSplit);
+        TableBucket tableBucket = snapshotSplit.getTableBucket();
+        long logEndOffset = snapshotSplit.getLogOffsetOfSnapshot();
+        String splitId = table.splitsByBucket.remove(tableBucket).splitId();
         TableBucketWriteResult<WriteResult> writeResult =
                 completeLakeWriter(
+                        table,
                         tableBucket,
-                        currentSnapshotSplit.getPartitionName(),
+                        snapshotSplit.getPartitionName(),
                         logEndOffset,
                         UNKNOWN_BUCKET_TIMESTAMP);
         LOG.info(
                 "Finish tier bucket {} for table {}, split: {}.",
                 tableBucket,
-                currentTablePath,
+                table.tablePath,
                 splitId);
-        closeCurrentSnapshotSplit();
-        mayFinishCurrentTable();
+        table.closeSnapshotSplit();
+        mayFinishTable(table);
         return new TableBucketWriteResultWithSplitIds(
                 Collections.singletonMap(tableBucket, writeResult),
                 Collections.singletonMap(tableBucket, splitId));
     }
 
     private TableBucketWriteResultWithSplitIds forSnapshotSplitRecords(
-            TableBucket bucket, CloseableIterator<RecordAndPos> recordIterator) throws IOException {
+            TableTieringState table, CloseableIterator<RecordAndPos> recordIterator)
+            throws IOException {
+        TieringSnapshotSplit snapshotSplit = checkNotNull(table.snapshotSplit);
         LakeWriter<WriteResult> lakeWriter =
                 getOrCreateLakeWriter(
-                        bucket, checkNotNull(currentSnapshotSplit).getPartitionName());
+                        table, snapshotSplit.getTableBucket(), snapshotSplit.getPartitionName());
         while (recordIterator.hasNext()) {
             ScanRecord scanRecord = recordIterator.next().record();
             lakeWriter.write(scanRecord);
@@ -528,57 +693,28 @@ public class TieringSplitReader<WriteResult>
         return new TableBucketWriteResultWithSplitIds();
     }
 
-    private void closeCurrentSnapshotSplit() throws IOException {
+    private void finishTable(TableTieringState table) throws IOException {
         try {
-            currentSnapshotSplitReader.close();
+            table.close();
         } catch (Exception e) {
-            throw new IOException("Fail to close current snapshot split reader.", e);
+            throw new IOException("Fail to finish table " + table.tablePath + ".", e);
         }
-        currentSnapshotSplitReader = null;
-        currentSnapshotSplit = null;
-    }
-
-    private void finishCurrentTable() throws IOException {
-        try {
-            if (currentLogScanner != null) {
-                currentLogScanner.close();
-                currentLogScanner = null;
-            }
-
-            if (currentSnapshotSplitReader != null) {
-                currentSnapshotSplitReader.close();
-                currentSnapshotSplitReader = null;
-            }
-
-            if (currentTable != null) {
-                currentTable.close();
-                currentTable = null;
-            }
-        } catch (Exception e) {
-            throw new IOException("Fail to finish current table.", e);
-        }
-        reachTieringMaxDurationTables.remove(currentTableId);
-        // before switch to a new table, mark all as empty or null
-        currentTableId = null;
-        currentTablePath = null;
-        currentTableNumberOfSplits = null;
-        currentPendingSnapshotSplits.clear();
-        currentTableStoppingOffsets.clear();
-        currentTableTieredOffsetAndTimestamp.clear();
-        currentTableSplitsByBucket.clear();
+        tieringTables.remove(table.tableId);
+        tieringTablesToFetch.remove(table);
+        reachTieringMaxDurationTables.remove(table.tableId);
+        tableFreshnessDeadlines.remove(table.tableId);
     }
 
     /**
-     * Handle a table reach max tiering duration. This will mark the current table as reaching max
-     * duration, and it will be force completed in the next fetch cycle.
+     * Handle a table reach max tiering duration. This will mark the table as reaching max duration,
+     * and it will be force completed in the next fetch cycle of the table.
      */
     public void handleTableReachTieringMaxDuration(long tableId) {
         LOG.info(
-                "handleTableReachTieringMaxDuration, currentTableId: {}, pendingTieringSplits: {}",
-                currentTableId,
+                "handleTableReachTieringMaxDuration, tieringTables: {}, pendingTieringSplits: {}",
+                tieringTables.keySet(),
                 pendingTieringSplits);
-        if ((currentTableId != null && currentTableId.equals(tableId))
-                || pendingTieringSplits.containsKey(tableId)) {
+        if (tieringTables.containsKey(tableId) || pendingTieringSplits.containsKey(tableId)) {
             LOG.info("Table {} reach tiering max duration, will force to complete.", tableId);
             reachTieringMaxDurationTables.add(tableId);
         }
@@ -586,52 +722,23 @@ public class TieringSplitReader<WriteResult>
 
     @Override
     public void wakeUp() {
-        if (currentLogScanner != null) {
-            currentLogScanner.wakeup();
+        LogScanner logScanner = pollingLogScanner;
+        if (logScanner != null) {
+            logScanner.wakeup();
         }
     }
 
     @Override
     public void close() throws Exception {
-        if (currentLogScanner != null) {
-            currentLogScanner.close();
-        }
-        if (currentTable != null) {
-            currentTable.close();
+        for (TableTieringState table : tieringTables.values()) {
+            table.close();
         }
+        tieringTables.clear();
+        tieringTablesToFetch.clear();
 
         // don't need to close connection, will be closed by TieringSourceReader
     }
 
-    private void subscribeLog(TieringLogSplit logSplit) {
-        // assign bucket offset dynamically
-        TableBucket tableBucket = logSplit.getTableBucket();
-        long stoppingOffset = logSplit.getStoppingOffset();
-        long startingOffset = logSplit.getStartingOffset();
-        if (startingOffset >= stoppingOffset || stoppingOffset <= 0) {
-            currentEmptySplits.add(logSplit);
-            return;
-        } else {
-            currentTableStoppingOffsets.put(tableBucket, stoppingOffset);
-        }
-
-        mayCreateLogScanner();
-        Long partitionId = tableBucket.getPartitionId();
-        int bucket = tableBucket.getBucket();
-        checkNotNull(currentLogScanner, "current log scanner shouldn't be null.");
-        if (partitionId != null) {
-            currentLogScanner.subscribe(partitionId, bucket, startingOffset);
-        } else {
-            // If no partition id, subscribe by bucket only.
-            currentLogScanner.subscribe(bucket, startingOffset);
-        }
-        LOG.info(
-                "Subscribe to read log for split {} from starting offset {} to end offset {}.",
-                logSplit.splitId(),
-                startingOffset,
-                stoppingOffset);
-    }
-
     private TableBucketWriteResult<WriteResult> toTableBucketWriteResult(
             TablePath tablePath,
             TableBucket tableBucket,
@@ -703,6 +810,135 @@ public class TieringSplitReader<WriteResult>
         }
     }
 
+    /** The state of a table being tiered. */
+    private final class TableTieringState {
+
+        private final long tableId;
+        private final TablePath tablePath;
+        private final Table table;
+        private final int numberOfSplits;
+
+        @Nullable private LogScanner logScanner;
+        // whether the log of the table is polled as columnar batches
+        private boolean logScannerColumnar;
+
+        private final Queue<TieringSnapshotSplit> pendingSnapshotSplits;
+        @Nullable private BoundedSplitReader snapshotSplitReader;
+        @Nullable private TieringSnapshotSplit snapshotSplit;
+
+        // map from table bucket to split
+        private final Map<TableBucket, TieringSplit> splitsByBucket;
+        private final Map<TableBucket, Long> stoppingOffsets;
+
+        private final Map<TableBucket, LogOffsetAndTimestamp> tieredOffsetAndTimestamp;
+
+        private TableTieringState(
+                long tableId, TablePath tablePath, Table table, int numberOfSplits) {
+            this.tableId = tableId;
+            this.tablePath = tablePath;
+            this.table = table;
+            this.numberOfSplits = numberOfSplits;
+            this.pendingSnapshotSplits = new ArrayDeque<>();
+            this.splitsByBucket = new HashMap<>();
+            this.stoppingOffsets = new HashMap<>();
+            this.tieredOffsetAndTimestamp = new HashMap<>();
+        }
+
+        private void addSplit(TieringSplit split) {
+            splitsByBucket.put(split.getTableBucket(), split);
+            if (split.isTieringSnapshotSplit()) {
+                pendingSnapshotSplits.add((TieringSnapshotSplit) split);
+            } else if (split.isTieringLogSplit()) {
+                subscribeLog((TieringLogSplit) split);
+            }
+        }
+
+        private void mayStartNextSnapshotSplit() {
+            if (snapshotSplitReader != null) {
+                return;
+            }
+            // may poll next snapshot split to read
+            TieringSnapshotSplit nextSnapshotSplit = pendingSnapshotSplits.poll();
+            if (nextSnapshotSplit != null) {
+                snapshotSplit = nextSnapshotSplit;
+                snapshotSplitReader =
+                        new BoundedSplitReader(
+                                table.newScan()
+                                        .createBatchScanner(
+                                                nextSnapshotSplit.getTableBucket(),
+                                                nextSnapshotSplit.getSnapshotId()),
+                                0);
+            }
+        }
+
+        private void closeSnapshotSplit() throws IOException {
+            try {
+                checkNotNull(snapshotSplitReader).close();
+            } catch (Exception e) {
+                throw new IOException("Fail to close current snapshot split reader.", e);
+            }
+            snapshotSplitReader = null;
+            snapshotSplit = null;
+        }
+
+        private void subscribeLog(TieringLogSplit logSplit) {
+            // assign bucket offset dynamically
+            TableBucket tableBucket = logSplit.getTableBucket();
+            long stoppingOffset = logSplit.getStoppingOffset();
+            long startingOffset = logSplit.getStartingOffset();
+            if (startingOffset >= stoppingOffset || stoppingOffset <= 0) {
+                currentEmptySplits.add(logSplit);
+                return;
+            } else {
+                stoppingOffsets.put(tableBucket, stoppingOffset);
+            }
+
+            LogScanner logScanner = getOrCreateLogScanner();
+            Long partitionId = tableBucket.getPartitionId();
+            int bucket = tableBucket.getBucket();
+            if (partitionId != null) {
+                logScanner.subscribe(partitionId, bucket, startingOffset);
+            } else {
+                // If no partition id, subscribe by bucket only.
+                logScanner.subscribe(bucket, startingOffset);
+            }
+            LOG.info(
+                    "Subscribe to read log for split {} from starting offset {} to end offset {}.",
+                    logSplit.splitId(),
+                    startingOffset,
+                    stoppingOffset);
+        }
+
+        private LogScanner getOrCreateLogScanner() {
+            if (logScanner == null) {
+                TableInfo tableInfo = table.getTableInfo();
+                // poll the log of append-only arrow tables as batches, so that the batches can be
+                // written to the lake writers supporting record batch write without assembling
+                // rows
+                logScannerColumnar =
+                        !tableInfo.hasPrimaryKey()
+                                && tableInfo.getTableConfig().getLogFormat() == LogFormat.ARROW;
+                logScanner =
+                        logScannerColumnar
+                                ? table.newScan().createColumnarLogScanner()
+                                : table.newScan().createLogScanner();
+            }
+            return logScanner;
+        }
+
+        private void close() throws Exception {
+            if (logScanner != null) {
+                logScanner.close();
+                logScanner = null;
+            }
+            if (snapshotSplitReader != null) {
+                snapshotSplitReader.close();
+                snapshotSplitReader = null;
+            }
+            table.close();
+        }
+    }
+
     private static final class LogOffsetAndTimestamp {
 
         private final long logOffset;
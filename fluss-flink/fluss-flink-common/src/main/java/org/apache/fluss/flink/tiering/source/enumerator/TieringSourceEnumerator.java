@@ -26,6 +26,7 @@ import org.apache.fluss.config.Configuration;
 import org.apache.fluss.flink.metrics.FlinkMetricRegistry;
 import org.apache.fluss.flink.tiering.event.FailedTieringEvent;
 import org.apache.fluss.flink.tiering.event.FinishedTieringEvent;
+import org.apache.fluss.flink.tiering.event.TieringFreshnessDeadlineEvent;
 import org.apache.fluss.flink.tiering.event.TieringReachMaxDurationEvent;
 import org.apache.fluss.flink.tiering.source.split.TieringSplit;
 import org.apache.fluss.flink.tiering.source.split.TieringSplitGenerator;
@@ -47,7 +48,7 @@ import org.apache.flink.api.connector.source.ReaderInfo;
 import org.apache.flink.api.connector.source.SourceEvent;
 import org.apache.flink.api.connector.source.SplitEnumerator;
 import org.apache.flink.api.connector.source.SplitEnumeratorContext;
-import org.apache.flink.api.java.tuple.Tuple3;
+import org.apache.flink.api.java.tuple.Tuple4;
 import org.apache.flink.metrics.groups.SplitEnumeratorMetricGroup;
 import org.apache.flink.util.FlinkRuntimeException;
 import org.slf4j.Logger;
@@ -105,6 +106,7 @@ public class TieringSourceEnumerator
     private final Set<Integer> readersAwaitingSplit;
 
     private final Map<Long, Long> tieringTableEpochs;
+    private final Map<Long, Long> tieringTableFreshnessDeadlines;
     private final Map<Long, Long> failedTableEpochs;
     private final Map<Long, TieringFinishInfo> finishedTables;
     private final Set<Long> tieringReachMaxDurationsTables;
@@ -135,6 +137,7 @@ public class TieringSourceEnumerator
         this.pendingSplits = Collections.synchronizedList(new ArrayList<>());
         this.readersAwaitingSplit = Collections.synchronizedSet(new TreeSet<>());
         this.tieringTableEpochs = new ConcurrentHashMap<>();
+        this.tieringTableFreshnessDeadlines = new ConcurrentHashMap<>();
         this.finishedTables = new ConcurrentHashMap<>();
         this.failedTableEpochs = new ConcurrentHashMap<>();
         this.tieringReachMaxDurationsTables = Collections.synchronizedSet(new TreeSet<>());
@@ -192,7 +195,7 @@ public class TieringSourceEnumerator
             // Here we block to request a tiering table synchronously to avoid multiple threads
             // requesting tiering tables concurrently, which would cause the enumerator to contain
             // multiple tiering tables simultaneously. This is not optimal for tiering performance.
-            Tuple3<Long, Long, TablePath> tieringTable = null;
+            Tuple4<Long, Long, TablePath, Long> tieringTable = null;
             Throwable throwable = null;
             try {
                 tieringTable = this.requestTieringTableSplitsViaHeartBeat();
@@ -266,6 +269,7 @@ public class TieringSourceEnumerator
             FinishedTieringEvent finishedTieringEvent = (FinishedTieringEvent) sourceEvent;
             long finishedTableId = finishedTieringEvent.getTableId();
             Long tieringEpoch = tieringTableEpochs.remove(finishedTableId);
+            tieringTableFreshnessDeadlines.remove(finishedTableId);
             LOG.info("Got FinishedTieringEvent for tiering table {}. ", finishedTableId);
             if (tieringEpoch == null) {
                 // shouldn't happen, warn it
@@ -285,6 +289,7 @@ public class TieringSourceEnumerator
             FailedTieringEvent failedEvent = (FailedTieringEvent) sourceEvent;
             long failedTableId = failedEvent.getTableId();
             Long tieringEpoch = tieringTableEpochs.remove(failedTableId);
+            tieringTableFreshnessDeadlines.remove(failedTableId);
             LOG.info(
                     "Tiering table {} is failed, fail reason is {}.",
                     failedTableId,
@@ -314,6 +319,7 @@ public class TieringSourceEnumerator
         // we need to make all as failed
         failedTableEpochs.putAll(new HashMap<>(tieringTableEpochs));
         tieringTableEpochs.clear();
+        tieringTableFreshnessDeadlines.clear();
         tieringReachMaxDurationsTables.clear();
         // also clean all pending splits since we mark all as failed
         pendingSplits.clear();
@@ -353,7 +359,7 @@ public class TieringSourceEnumerator
     }
 
     private void generateAndAssignSplits(
-            @Nullable Tuple3<Long, Long, TablePath> tieringTable, Throwable throwable) {
+            @Nullable Tuple4<Long, Long, TablePath, Long> tieringTable, Throwable throwable) {
         if (throwable != null) {
             LOG.warn("Failed to request tiering table, will retry later.", throwable);
         }
@@ -377,6 +383,15 @@ public class TieringSourceEnumerator
                 }
                 if (!pendingSplits.isEmpty()) {
                     TieringSplit tieringSplit = pendingSplits.remove(0);
+                    // let the reader know the freshness deadline of the table before the split
+                    // arrives, so that it can prioritize the tables it is tiering
+                    long tableId = tieringSplit.getTableBucket().getTableId();
+                    Long freshnessDeadline = tieringTableFreshnessDeadlines.get(tableId);
+                    if (freshnessDeadline != null) {
+                        context.sendEventToSourceReader(
+                                nextAwaitingReader,
+                                new TieringFreshnessDeadlineEvent(tableId, freshnessDeadline));
+                    }
                     context.assignSplit(tieringSplit, nextAwaitingReader);
                     LOG.info("Assigning split {} to readers {}", tieringSplit, nextAwaitingReader);
                     readersAwaitingSplit.remove(nextAwaitingReader);
@@ -385,7 +400,7 @@ public class TieringSourceEnumerator
         }
     }
 
-    private @Nullable Tuple3<Long, Long, TablePath> requestTieringTableSplitsViaHeartBeat() {
+    private @Nullable Tuple4<Long, Long, TablePath, Long> requestTieringTableSplitsViaHeartBeat() {
         if (closed) {
             return null;
         }
@@ -399,7 +414,7 @@ public class TieringSourceEnumerator
                         currentFailedTableEpochs,
                         this.flussCoordinatorEpoch);
 
-        Tuple3<Long, Long, TablePath> lakeTieringInfo = null;
+        Tuple4<Long, Long, TablePath, Long> lakeTieringInfo = null;
         // report heartbeat with request table to fluss coordinator
         LOG.info(
                 "currentFinishedTables: {}, currentFailedTableEpochs: {}, tieringTableEpochs: {}",
@@ -415,12 +430,15 @@ public class TieringSourceEnumerator
             if (heartbeatResponse.hasTieringTable()) {
                 PbLakeTieringTableInfo tieringTable = heartbeatResponse.getTieringTable();
                 lakeTieringInfo =
-                        Tuple3.of(
+                        Tuple4.of(
                                 tieringTable.getTableId(),
                                 tieringTable.getTieringEpoch(),
                                 TablePath.of(
                                         tieringTable.getTablePath().getDatabaseName(),
-                                        tieringTable.getTablePath().getTableName()));
+                                        tieringTable.getTablePath().getTableName()),
+                                tieringTable.hasFreshnessDeadline()
+                                        ? tieringTable.getFreshnessDeadline()
+                                        : null);
                 LOG.info("Tiering table {} has been requested.", lakeTieringInfo);
             } else {
                 LOG.info("No available Tiering table found, will poll later.");
@@ -437,7 +455,7 @@ public class TieringSourceEnumerator
         return lakeTieringInfo;
     }
 
-    private void generateTieringSplits(Tuple3<Long, Long, TablePath> tieringTable)
+    private void generateTieringSplits(Tuple4<Long, Long, TablePath, Long> tieringTable)
             throws FlinkRuntimeException {
         if (tieringTable == null) {
             return;
@@ -464,6 +482,9 @@ public class TieringSourceEnumerator
                 finishedTables.put(tieringTable.f0, TieringFinishInfo.from(tieringTable.f1));
             } else {
                 tieringTableEpochs.put(tieringTable.f0, tieringTable.f1);
+                if (tieringTable.f3 != null) {
+                    tieringTableFreshnessDeadlines.put(tieringTable.f0, tieringTable.f3);
+                }
                 pendingSplits.addAll(tieringSplits);
 
                 timerService.schedule(
@@ -0,0 +1,474 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.flink.utils;
+
+import org.apache.fluss.flink.utils.FlussRowToFlinkRowConverter.FlussDeserializationConverter;
+import org.apache.fluss.row.Decimal;
+import org.apache.fluss.row.TimestampLtz;
+import org.apache.fluss.row.TimestampNtz;
+import org.apache.fluss.row.columnar.ArrayColumnVector;
+import org.apache.fluss.row.columnar.BooleanColumnVector;
+import org.apache.fluss.row.columnar.ByteColumnVector;
+import org.apache.fluss.row.columnar.BytesColumnVector;
+import org.apache.fluss.row.columnar.ColumnVector;
+import org.apache.fluss.row.columnar.DecimalColumnVector;
+import org.apache.fluss.row.columnar.DoubleColumnVector;
+import org.apache.fluss.row.columnar.FloatColumnVector;
+import org.apache.fluss.row.columnar.IntColumnVector;
+import org.apache.fluss.row.columnar.LongColumnVector;
+import org.apache.fluss.row.columnar.MapColumnVector;
+import org.apache.fluss.row.columnar.ShortColumnVector;
+import org.apache.fluss.row.columnar.TimestampLtzColumnVector;
+import org.apache.fluss.row.columnar.TimestampNtzColumnVector;
+import org.apache.fluss.types.DataType;
+import org.apache.fluss.types.RowType;
+
+import org.apache.flink.table.data.ArrayData;
+import org.apache.flink.table.data.DecimalData;
+import org.apache.flink.table.data.MapData;
+import org.apache.flink.table.data.TimestampData;
+import org.apache.flink.table.data.columnar.vector.VectorizedColumnBatch;
+
+import static org.apache.fluss.flink.utils.FlussRowToFlinkRowConverter.createNullableInternalConverter;
+
+/**
+ * A converter to wrap the {@link ColumnVector}s of Fluss as the column vectors of Flink, the values
+ * are read from the Fluss vectors on access without copying the vectors.
+ *
+ * <p>The primitive, string, binary, decimal and timestamp values are converted one by one on
+ * access, the values of array and map columns are converted by {@link FlussRowToFlinkRowConverter}.
+ * Nested row columns are not supported as Flink requires a columnar row of a nested row column, see
+ * {@link #isSupported(RowType)}.
+ */
+public class FlussVectorToFlinkVectorConverter {
+
+    private final DataType[] fieldTypes;
+    private final FlussDeserializationConverter[] nestedConverters;
+
+    public FlussVectorToFlinkVectorConverter(RowType rowType) {
+        if (!isSupported(rowType)) {
+            throw new UnsupportedOperationException(
+                    "Unsupported row type for vectorized read: " + rowType);
+        }
+        this.fieldTypes = rowType.getChildren().toArray(new DataType[0]);
+        this.nestedConverters = new FlussDeserializationConverter[fieldTypes.length];
+        for (int i = 0; i < fieldTypes.length; i++) {
+            switch (fieldTypes[i].getTypeRoot()) {
+                case ARRAY:
+                case MAP:
+                    nestedConverters[i] = createNullableInternalConverter(fieldTypes[i]);
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /** Returns true if the columns of the given row type can be wrapped as Flink vectors. */
+    public static boolean isSupported(RowType rowType) {
+        for (DataType fieldType : rowType.getChildren()) {
+            switch (fieldType.getTypeRoot()) {
+                case BOOLEAN:
+                case TINYINT:
+                case SMALLINT:
+                case INTEGER:
+                case DATE:
+                case TIME_WITHOUT_TIME_ZONE:
+                case BIGINT:
+                case FLOAT:
+                case DOUBLE:
+                case CHAR:
+                case STRING:
+                case BINARY:
+                case BYTES:
+                case DECIMAL:
+                case TIMESTAMP_WITHOUT_TIME_ZONE:
+                case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                case ARRAY:
+                case MAP:
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Wraps the given Fluss columns of the row type as a Flink {@link VectorizedColumnBatch} of the
+     * given number of rows.
+     */
+    public VectorizedColumnBatch toFlinkColumnBatch(ColumnVector[] columns, int numRows) {
+        org.apache.flink.table.data.columnar.vector.ColumnVector[] flinkColumns =
+                new org.apache.flink.table.data.columnar.vector.ColumnVector[fieldTypes.length];
+        for (int i = 0; i < fieldTypes.length; i++) {
+            flinkColumns[i] = toFlinkColumnVector(i, columns[i]);
+        }
+        VectorizedColumnBatch batch = new VectorizedColumnBatch(flinkColumns);
+        batch.setNumRows(numRows);
+        return batch;
+    }
+
+    private org.apache.flink.table.data.columnar.vector.ColumnVector toFlinkColumnVector(
+            int pos, ColumnVector vector) {
+        DataType fieldType = fieldTypes[pos];
+        switch (fieldType.getTypeRoot()) {
+            case BOOLEAN:
+                if (vector instanceof BooleanColumnVector) {
+                    return new FlinkBooleanColumnVector((BooleanColumnVector) vector);
+                }
+                break;
+            case TINYINT:
+                if (vector instanceof ByteColumnVector) {
+                    return new FlinkByteColumnVector((ByteColumnVector) vector);
+                }
+                break;
+            case SMALLINT:
+                if (vector instanceof ShortColumnVector) {
+                    return new FlinkShortColumnVector((ShortColumnVector) vector);
+                }
+                break;
+            case INTEGER:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+                if (vector instanceof IntColumnVector) {
+                    return new FlinkIntColumnVector((IntColumnVector) vector);
+                }
+                break;
+            case BIGINT:
+                if (vector instanceof LongColumnVector) {
+                    return new FlinkLongColumnVector((LongColumnVector) vector);
+                }
+                break;
+            case FLOAT:
+                if (vector instanceof FloatColumnVector) {
+                    return new FlinkFloatColumnVector((FloatColumnVector) vector);
+                }
+                break;
+            case DOUBLE:
+                if (vector instanceof DoubleColumnVector) {
+                    return new FlinkDoubleColumnVector((DoubleColumnVector) vector);
+                }
+                break;
+            case CHAR:
+            case STRING:
+            case BINARY:
+            case BYTES:
+                if (vector instanceof BytesColumnVector) {
+                    return new FlinkBytesColumnVector((BytesColumnVector) vector);
+                }
+                break;
+            case DECIMAL:
+                if (vector instanceof DecimalColumnVector) {
+                    return new FlinkDecimalColumnVector((DecimalColumnVector) vector);
+                }
+                break;
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                if (vector instanceof TimestampNtzColumnVector) {
+                    return new FlinkTimestampNtzColumnVector((TimestampNtzColumnVector) vector);
+                }
+                break;
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                if (vector instanceof TimestampLtzColumnVector) {
+                    return new FlinkTimestampLtzColumnVector((TimestampLtzColumnVector) vector);
+                }
+                break;
+            case ARRAY:
+                if (vector instanceof ArrayColumnVector) {
+                    return new FlinkArrayColumnVector(
+                            (ArrayColumnVector) vector, nestedConverters[pos]);
+                }
+                break;
+            case MAP:
+                if (vector instanceof MapColumnVector) {
+                    return new FlinkMapColumnVector(
+                            (MapColumnVector) vector, nestedConverters[pos]);
+                }
+                break;
+            default:
+                throw new UnsupportedOperationException("Unsupported data type: " + fieldType);
+        }
+        // the column doesn't exist in the schema of the batch (e.g., added by schema evolution),
+        // it is a vector of nulls
+        return vector::isNullAt;
+    }
+
+    // --------------------------------------------------------------------------------------------
+
+    private static class FlinkBooleanColumnVector
+            implements org.apache.flink.table.data.columnar.vector.BooleanColumnVector {
+        private final BooleanColumnVector vector;
+
+        private FlinkBooleanColumnVector(BooleanColumnVector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        public boolean getBoolean(int i) {
+            return vector.getBoolean(i);
+        }
+
+        @Override
+        public boolean isNullAt(int i) {
+            return vector.isNullAt(i);
+        }
+    }
+
+    private static class FlinkByteColumnVector
+            implements org.apache.flink.table.data.columnar.vector.ByteColumnVector {
+        private final ByteColumnVector vector;
+
+        private FlinkByteColumnVector(ByteColumnVector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        public byte getByte(int i) {
+            return vector.getByte(i);
+        }
+
+        @Override
+        public boolean isNullAt(int i) {
+            return vector.isNullAt(i);
+        }
+    }
+
+    private static class FlinkShortColumnVector
+            implements org.apache.flink.table.data.columnar.vector.ShortColumnVector {
+        private final ShortColumnVector vector;
+
+        private FlinkShortColumnVector(ShortColumnVector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        public short getShort(int i) {
+            return vector.getShort(i);
+        }
+
+        @Override
+        public boolean isNullAt(int i) {
+            return vector.isNullAt(i);
+        }
+    }
+
+    private static class FlinkIntColumnVector
+            implements org.apache.flink.table.data.columnar.vector.IntColumnVector {
+        private final IntColumnVector vector;
+
+        private FlinkIntColumnVector(IntColumnVector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        public int getInt(int i) {
+            return vector.getInt(i);
+        }
+
+        @Override
+        public boolean isNullAt(int i) {
+            return vector.isNullAt(i);
+        }
+    }
+
+    private static class FlinkLongColumnVector
+            implements org.apache.flink.table.data.columnar.vector.LongColumnVector {
+        private final LongColumnVector vector;
+
+        private FlinkLongColumnVector(LongColumnVector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        public long getLong(int i) {
+            return vector.getLong(i);
+        }
+
+        @Override
+        public boolean isNullAt(int i) {
+            return vector.isNullAt(i);
+        }
+    }
+
+    private static class FlinkFloatColumnVector
+            implements org.apache.flink.table.data.columnar.vector.FloatColumnVector {
+        private final FloatColumnVector vector;
+
+        private FlinkFloatColumnVector(FloatColumnVector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        public float getFloat(int i) {
+            return vector.getFloat(i);
+        }
+
+        @Override
+        public boolean isNullAt(int i) {
+            return vector.isNullAt(i);
+        }
+    }
+
+    private static class FlinkDoubleColumnVector
+            implements org.apache.flink.table.data.columnar.vector.DoubleColumnVector {
+        private final DoubleColumnVector vector;
+
+        private FlinkDoubleColumnVector(DoubleColumnVector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        public double getDouble(int i) {
+            return vector.getDouble(i);
+        }
+
+        @Override
+        public boolean isNullAt(int i) {
+            return vector.isNullAt(i);
+        }
+    }
+
+    private static class FlinkBytesColumnVector
+            implements org.apache.flink.table.data.columnar.vector.BytesColumnVector {
+        private final BytesColumnVector vector;
+
+        private FlinkBytesColumnVector(BytesColumnVector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        public Bytes getBytes(int i) {
+            BytesColumnVector.Bytes bytes = vector.getBytes(i);
+            return new Bytes(bytes.data, bytes.offset, bytes.len);
+        }
+
+        @Override
+        public boolean isNullAt(int i) {
+            return vector.isNullAt(i);
+        }
+    }
+
+    private static class FlinkDecimalColumnVector
+            implements org.apache.flink.table.data.columnar.vector.DecimalColumnVector {
+        private final DecimalColumnVector vector;
+
+        private FlinkDecimalColumnVector(DecimalColumnVector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        public DecimalData getDecimal(int i, int precision, int scale) {
+            Decimal decimal = vector.getDecimal(i, precision, scale);
+            if (decimal.isCompact()) {
+                return DecimalData.fromUnscaledLong(decimal.toUnscaledLong(), precision, scale);
+            }
+            return DecimalData.fromBigDecimal(decimal.toBigDecimal(), precision, scale);
+        }
+
+        @Override
+        public boolean isNullAt(int i) {
+            return vector.isNullAt(i);
+        }
+    }
+
+    private static class FlinkTimestampNtzColumnVector
+            implements org.apache.flink.table.data.columnar.vector.TimestampColumnVector {
+        private final TimestampNtzColumnVector vector;
+
+        private FlinkTimestampNtzColumnVector(TimestampNtzColumnVector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        public TimestampData getTimestamp(int i, int precision) {
+            TimestampNtz timestampNtz = vector.getTimestampNtz(i, precision);
+            return TimestampData.fromEpochMillis(
+                    timestampNtz.getMillisecond(), timestampNtz.getNanoOfMillisecond());
+        }
+
+        @Override
+        public boolean isNullAt(int i) {
+            return vector.isNullAt(i);
+        }
+    }
+
+    private static class FlinkTimestampLtzColumnVector
+            implements org.apache.flink.table.data.columnar.vector.TimestampColumnVector {
+        private final TimestampLtzColumnVector vector;
+
+        private FlinkTimestampLtzColumnVector(TimestampLtzColumnVector vector) {
+            this.vector = vector;
+        }
+
+        @Override
+        public TimestampData getTimestamp(int i, int precision) {
+            TimestampLtz timestampLtz = vector.getTimestampLtz(i, precision);
+            return TimestampData.fromEpochMillis(
+                    timestampLtz.getEpochMillisecond(), timestampLtz.getNanoOfMillisecond());
+        }
+
+        @Override
+        public boolean isNullAt(int i) {
+            return vector.isNullAt(i);
+        }
+    }
+
+    private static class FlinkArrayColumnVector
+            implements org.apache.flink.table.data.columnar.vector.ArrayColumnVector {
+        private final ArrayColumnVector vector;
+        private final FlussDeserializationConverter converter;
+
+        private FlinkArrayColumnVector(
+                ArrayColumnVector vector, FlussDeserializationConverter converter) {
+            this.vector = vector;
+            this.converter = converter;
+        }
+
+        @Override
+        public ArrayData getArray(int i) {
+            return (ArrayData) converter.deserialize(vector.getArray(i));
+        }
+
+        @Override
+        public boolean isNullAt(int i) {
+            return vector.isNullAt(i);
+        }
+    }
+
+    private static class FlinkMapColumnVector
+            implements org.apache.flink.table.data.columnar.vector.MapColumnVector {
+        private final MapColumnVector vector;
+        private final FlussDeserializationConverter converter;
+
+        private FlinkMapColumnVector(
+                MapColumnVector vector, FlussDeserializationConverter converter) {
+            this.vector = vector;
+            this.converter = converter;
+        }
+
+        @Override
+        public MapData getMap(int i) {
+            return (MapData) converter.deserialize(vector.getMap(i));
+        }
+
+        @Override
+        public boolean isNullAt(int i) {
+            return vector.isNullAt(i);
+        }
+    }
+}
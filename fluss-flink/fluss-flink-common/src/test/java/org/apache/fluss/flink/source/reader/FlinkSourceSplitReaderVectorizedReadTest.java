@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.flink.source.reader;
+
+import org.apache.fluss.client.table.Table;
+import org.apache.fluss.client.table.scanner.ScanRecord;
+import org.apache.fluss.client.table.writer.AppendWriter;
+import org.apache.fluss.config.ConfigOptions;
+import org.apache.fluss.config.Configuration;
+import org.apache.fluss.flink.source.metrics.FlinkSourceReaderMetrics;
+import org.apache.fluss.flink.source.split.LogSplit;
+import org.apache.fluss.flink.source.split.SourceSplitBase;
+import org.apache.fluss.flink.utils.FlinkTestBase;
+import org.apache.fluss.metadata.Schema;
+import org.apache.fluss.metadata.TableBucket;
+import org.apache.fluss.metadata.TableDescriptor;
+import org.apache.fluss.metadata.TablePath;
+import org.apache.fluss.record.ChangeType;
+import org.apache.fluss.types.DataTypes;
+
+import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitsAddition;
+import org.apache.flink.metrics.testutils.MetricListener;
+import org.apache.flink.runtime.metrics.groups.InternalSourceReaderMetricGroup;
+import org.apache.flink.table.data.RowData;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.apache.fluss.testutils.DataTestUtils.row;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the vectorized read of {@link FlinkSourceSplitReader}, in a cluster of its own so that
+ * the table ids of {@link FlinkSourceSplitReaderTest} are not affected.
+ */
+class FlinkSourceSplitReaderVectorizedReadTest extends FlinkTestBase {
+
+    @Test
+    void testVectorizedReadLogSplit() throws Exception {
+        final Schema schema =
+                Schema.newBuilder()
+                        .column("id", DataTypes.INT())
+                        .column("name", DataTypes.STRING())
+                        .build();
+        final TableDescriptor tableDescriptor =
+                TableDescriptor.builder().schema(schema).distributedBy(1).build();
+        TablePath tablePath = TablePath.of(DEFAULT_DB, "test-vectorized-read-log-table");
+        long tableId = createTable(tablePath, tableDescriptor);
+        appendRows(tablePath, 10);
+
+        Configuration conf = new Configuration(clientConf);
+        conf.set(ConfigOptions.CLIENT_SCANNER_LOG_VECTORIZED_READ_ENABLED, true);
+        TableBucket tableBucket = new TableBucket(tableId, 0);
+        try (FlinkSourceSplitReader splitReader =
+                new FlinkSourceSplitReader(
+                        conf,
+                        tablePath,
+                        schema.getRowType(),
+                        null,
+                        null,
+                        null,
+                        createMockSourceReaderMetrics(),
+                        true)) {
+            // read from the offset 3 to the stopping offset 8
+            List<SourceSplitBase> splits =
+                    Collections.singletonList(new LogSplit(tableBucket, null, 3, 8));
+            splitReader.handleSplitsChanges(new SplitsAddition<>(splits));
+
+            List<Integer> ids = new ArrayList<>();
+            List<String> names = new ArrayList<>();
+            List<Long> offsets = new ArrayList<>();
+            Set<String> finishedSplits = new HashSet<>();
+            while (finishedSplits.isEmpty()) {
+                RecordsWithSplitIds<RecordAndPos> records = splitReader.fetch();
+                while (records.nextSplit() != null) {
+                    RecordAndPos recordAndPos;
+                    while ((recordAndPos = records.nextRecordFromSplit()) != null) {
+                        ScanRecord record = recordAndPos.record();
+                        assertThat(record).isInstanceOf(ColumnarScanRecord.class);
+                        assertThat(record.getChangeType()).isEqualTo(ChangeType.APPEND_ONLY);
+                        RowData rowData = ((ColumnarScanRecord) record).getRowData();
+                        ids.add(rowData.getInt(0));
+                        names.add(rowData.getString(1).toString());
+                        offsets.add(record.logOffset());
+                    }
+                }
+                finishedSplits.addAll(records.finishedSplits());
+                // release the batches of the emitted records
+                records.recycle();
+            }
+
+            assertThat(offsets).containsExactly(3L, 4L, 5L, 6L, 7L);
+            assertThat(ids).containsExactly(3, 4, 5, 6, 7);
+            assertThat(names).containsExactly("v3", "v4", "v5", "v6", "v7");
+        }
+    }
+
+    private void appendRows(TablePath tablePath, int rows) throws Exception {
+        try (Table table = conn.getTable(tablePath)) {
+            AppendWriter appendWriter = table.newAppend().createWriter();
+            for (int i = 0; i < rows; i++) {
+                appendWriter.append(row(i, "v" + i));
+            }
+            appendWriter.flush();
+        }
+    }
+
+    private FlinkSourceReaderMetrics createMockSourceReaderMetrics() {
+        MetricListener metricListener = new MetricListener();
+        return new FlinkSourceReaderMetrics(
+                InternalSourceReaderMetricGroup.mock(metricListener.getMetricGroup()));
+    }
+}
@@ -180,8 +180,17 @@ class FlinkTieringTestBase {
 
     protected JobClient buildTieringJob(
             StreamExecutionEnvironment execEnv, Configuration lakeTieringConfig) throws Exception {
+        return buildTieringJob(execEnv, new Configuration(), lakeTieringConfig);
+    }
+
+    protected JobClient buildTieringJob(
+            StreamExecutionEnvironment execEnv,
+            Configuration tieringConfig,
+            Configuration lakeTieringConfig)
+            throws Exception {
         Configuration flussConfig = new Configuration(clientConf);
         flussConfig.set(POLL_TIERING_TABLE_INTERVAL, Duration.ofMillis(500L));
+        flussConfig.addAll(tieringConfig);
 
         return LakeTieringJobBuilder.newBuilder(
                         execEnv,
@@ -19,6 +19,8 @@ package org.apache.fluss.flink.tiering;
 
 import org.apache.fluss.flink.tiering.committer.TestingCommittable;
 import org.apache.fluss.flink.tiering.source.TestingWriteResultSerializer;
+import org.apache.fluss.lake.batch.ArrowRecordBatch;
+import org.apache.fluss.lake.batch.RecordBatch;
 import org.apache.fluss.lake.committer.CommittedLakeSnapshot;
 import org.apache.fluss.lake.committer.CommitterInitContext;
 import org.apache.fluss.lake.committer.LakeCommitResult;
@@ -26,6 +28,7 @@ import org.apache.fluss.lake.committer.LakeCommitter;
 import org.apache.fluss.lake.serializer.SimpleVersionedSerializer;
 import org.apache.fluss.lake.writer.LakeTieringFactory;
 import org.apache.fluss.lake.writer.LakeWriter;
+import org.apache.fluss.lake.writer.SupportsRecordBatchWrite;
 import org.apache.fluss.lake.writer.WriterInitContext;
 import org.apache.fluss.record.LogRecord;
 
@@ -76,7 +79,8 @@ public class TestingLakeTieringFactory
                 "method getCommittableSerializer is not supported.");
     }
 
-    private static final class TestingLakeWriter implements LakeWriter<TestingWriteResult> {
+    private static final class TestingLakeWriter
+            implements LakeWriter<TestingWriteResult>, SupportsRecordBatchWrite {
 
         private int writtenRecords;
 
@@ -85,6 +89,11 @@ public class TestingLakeTieringFactory
             writtenRecords += 1;
         }
 
+        @Override
+        public void write(RecordBatch recordBatch) throws IOException {
+            writtenRecords += ((ArrowRecordBatch) recordBatch).getRecordCount();
+        }
+
         @Override
         public TestingWriteResult complete() throws IOException {
             return new TestingWriteResult(writtenRecords);
@@ -22,6 +22,7 @@ import org.apache.fluss.client.metadata.LakeSnapshot;
 import org.apache.fluss.config.Configuration;
 import org.apache.fluss.exception.LakeTableSnapshotNotExistException;
 import org.apache.fluss.metadata.Schema;
+import org.apache.fluss.metadata.TableBucket;
 import org.apache.fluss.metadata.TablePath;
 import org.apache.fluss.row.BinaryString;
 import org.apache.fluss.row.GenericRow;
@@ -40,10 +41,12 @@ import org.junit.jupiter.api.Test;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import static org.apache.fluss.flink.tiering.source.TieringSourceOptions.TIERING_READER_MAX_CONCURRENT_SPLITS;
 import static org.apache.fluss.testutils.common.CommonTestUtils.waitValue;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -114,6 +117,49 @@ abstract class TieringITCase extends FlinkTieringTestBase {
         }
     }
 
+    @Test
+    void testTieringTablesConcurrently() throws Exception {
+        // a log table and a primary key table, each with a single bucket
+        Map<TablePath, Long> tableIds = new LinkedHashMap<>();
+        List<InternalRow> rows = new ArrayList<>();
+        int recordCount = 6;
+        for (int i = 0; i < recordCount; i++) {
+            rows.add(GenericRow.of(i, BinaryString.fromString("v" + i)));
+        }
+        for (boolean isPrimaryKeyTable : new boolean[] {false, true}) {
+            TablePath tablePath =
+                    TablePath.of(
+                            "fluss",
+                            isPrimaryKeyTable ? "concurrent_pktable" : "concurrent_logtable");
+            long tableId =
+                    createTable(
+                            tablePath,
+                            1,
+                            Collections.emptyList(),
+                            createSchema(isPrimaryKeyTable),
+                            Collections.emptyMap());
+            writeRows(tablePath, rows, !isPrimaryKeyTable);
+            if (isPrimaryKeyTable) {
+                FLUSS_CLUSTER_EXTENSION.triggerAndWaitSnapshot(tablePath);
+            }
+            tableIds.put(tablePath, tableId);
+        }
+
+        // the single tiering source reader tiers the splits of both tables at the same time
+        Configuration tieringConfig = new Configuration();
+        tieringConfig.set(TIERING_READER_MAX_CONCURRENT_SPLITS, 2);
+        JobClient jobClient = buildTieringJob(execEnv, tieringConfig, new Configuration());
+
+        try {
+            for (Map.Entry<TablePath, Long> entry : tableIds.entrySet()) {
+                assertReplicaStatus(new TableBucket(entry.getValue(), 0), recordCount);
+                assertThat(getValuesRecords(entry.getKey())).hasSize(recordCount);
+            }
+        } finally {
+            jobClient.cancel().get();
+        }
+    }
+
     private long countTieredRecords(LakeSnapshot lakeSnapshot) {
         return lakeSnapshot.getTableBucketsOffset().values().stream()
                 .mapToLong(Long::longValue)
@@ -138,12 +184,6 @@ abstract class TieringITCase extends FlinkTieringTestBase {
     }
 
     private void createTable(TablePath tablePath, boolean isPrimaryKeyTable) throws Exception {
-        Schema.Builder schemaBuilder =
-                Schema.newBuilder().column("a", DataTypes.INT()).column("b", DataTypes.STRING());
-        if (isPrimaryKeyTable) {
-            schemaBuilder.primaryKey("a");
-        }
-
         // see TestingPaimonStoragePlugin#TestingPaimonWriter, we set write-pause
         // to 1s to make it easy to mock tiering reach max duration
         Map<String, String> customProperties = Collections.singletonMap("write-pause", "1s");
@@ -151,7 +191,16 @@ abstract class TieringITCase extends FlinkTieringTestBase {
                 tablePath,
                 3,
                 Collections.singletonList("a"),
-                schemaBuilder.build(),
+                createSchema(isPrimaryKeyTable),
                 customProperties);
     }
+
+    private static Schema createSchema(boolean isPrimaryKeyTable) {
+        Schema.Builder schemaBuilder =
+                Schema.newBuilder().column("a", DataTypes.INT()).column("b", DataTypes.STRING());
+        if (isPrimaryKeyTable) {
+            schemaBuilder.primaryKey("a");
+        }
+        return schemaBuilder.build();
+    }
 }
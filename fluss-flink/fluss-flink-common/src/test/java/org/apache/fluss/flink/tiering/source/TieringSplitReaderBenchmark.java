@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.flink.tiering.source;
+
+import org.apache.fluss.client.Connection;
+import org.apache.fluss.client.ConnectionFactory;
+import org.apache.fluss.client.admin.Admin;
+import org.apache.fluss.client.table.Table;
+import org.apache.fluss.client.table.writer.AppendWriter;
+import org.apache.fluss.config.Configuration;
+import org.apache.fluss.flink.tiering.TestingLakeTieringFactory;
+import org.apache.fluss.flink.tiering.TestingWriteResult;
+import org.apache.fluss.flink.tiering.source.metrics.TieringMetrics;
+import org.apache.fluss.flink.tiering.source.split.TieringLogSplit;
+import org.apache.fluss.flink.tiering.source.split.TieringSplit;
+import org.apache.fluss.metadata.DatabaseDescriptor;
+import org.apache.fluss.metadata.Schema;
+import org.apache.fluss.metadata.TableBucket;
+import org.apache.fluss.metadata.TableDescriptor;
+import org.apache.fluss.metadata.TablePath;
+import org.apache.fluss.server.testutils.FlussClusterExtension;
+import org.apache.fluss.types.DataTypes;
+
+import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
+import org.apache.flink.connector.base.source.reader.splitreader.SplitsAddition;
+import org.apache.flink.metrics.groups.UnregisteredMetricsGroup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.VerboseMode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.commons.lang3.RandomStringUtils.randomAlphanumeric;
+import static org.apache.fluss.testutils.DataTestUtils.row;
+
+/**
+ * Benchmark for tiering many small tables in a single tiering slot, the throughput is the number of
+ * tiering rounds (all the tables are tiered) per second.
+ *
+ * <p>Compares tiering the tables one after another with tiering several tables concurrently by the
+ * {@link TieringSplitReader}.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Measurement(iterations = 3)
+@Fork(value = 0)
+public class TieringSplitReaderBenchmark {
+
+    private static final int NUM_TABLES = 16;
+
+    private static final long RECORDS_PER_TABLE = 1_000;
+
+    @Param({"1", "4", "16"})
+    private int maxConcurrentTables;
+
+    private final FlussClusterExtension flussCluster =
+            FlussClusterExtension.builder().setNumOfTabletServers(1).build();
+    private Connection conn;
+    private final List<TieringSplit> tieringSplits = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        flussCluster.start();
+
+        Configuration clientConf = flussCluster.getClientConfig();
+        this.conn = ConnectionFactory.createConnection(clientConf);
+        Admin admin = conn.getAdmin();
+
+        TableDescriptor descriptor =
+                TableDescriptor.builder()
+                        .schema(
+                                Schema.newBuilder()
+                                        .column("small_str", DataTypes.STRING())
+                                        .column("bi", DataTypes.BIGINT())
+                                        .column("long_str", DataTypes.STRING())
+                                        .build())
+                        .distributedBy(1) // 1 bucket for benchmark
+                        .build();
+        admin.createDatabase("benchmark_db", DatabaseDescriptor.EMPTY, false).get();
+        for (int i = 0; i < NUM_TABLES; i++) {
+            // create table and produce logs
+            TablePath tablePath = TablePath.of("benchmark_db", "benchmark_table_" + i);
+            admin.createTable(tablePath, descriptor, false).get();
+            try (Table table = conn.getTable(tablePath)) {
+                AppendWriter appendWriter = table.newAppend().createWriter();
+                for (long j = 0; j < RECORDS_PER_TABLE; j++) {
+                    appendWriter.append(row(randomAlphanumeric(10), j, randomAlphanumeric(100)));
+                }
+                appendWriter.flush();
+                tieringSplits.add(
+                        new TieringLogSplit(
+                                tablePath,
+                                new TableBucket(table.getTableInfo().getTableId(), 0),
+                                null,
+                                0,
+                                RECORDS_PER_TABLE,
+                                1));
+            }
+        }
+    }
+
+    @TearDown
+    public void teardown() throws Exception {
+        conn.close();
+        flussCluster.close();
+    }
+
+    @Benchmark
+    public void tierTables() throws Exception {
+        try (TieringSplitReader<TestingWriteResult> tieringSplitReader =
+                new TieringSplitReader<>(
+                        conn,
+                        new TestingLakeTieringFactory(),
+                        TieringSplitReader.DEFAULT_POLL_TIMEOUT,
+                        maxConcurrentTables,
+                        new ConcurrentHashMap<>(),
+                        new TieringMetrics(
+                                UnregisteredMetricsGroup.createSourceReaderMetricGroup()))) {
+            tieringSplitReader.handleSplitsChanges(new SplitsAddition<>(tieringSplits));
+            int finishedSplits = 0;
+            while (finishedSplits < tieringSplits.size()) {
+                RecordsWithSplitIds<TableBucketWriteResult<TestingWriteResult>> fetchResult =
+                        tieringSplitReader.fetch();
+                finishedSplits += fetchResult.finishedSplits().size();
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt =
+                new OptionsBuilder()
+                        .verbosity(VerboseMode.NORMAL)
+                        .include(".*" + TieringSplitReaderBenchmark.class.getCanonicalName() + ".*")
+                        .build();
+
+        new Runner(opt).run();
+    }
+}
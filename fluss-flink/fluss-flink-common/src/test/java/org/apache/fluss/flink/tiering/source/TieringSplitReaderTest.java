@@ -53,6 +53,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static org.apache.fluss.client.table.scanner.log.LogScanner.EARLIEST_OFFSET;
@@ -279,6 +280,68 @@ class TieringSplitReaderTest extends FlinkTestBase {
         }
     }
 
+    @Test
+    void testTieringTablesConcurrently() throws Exception {
+        // a log table which won't be finished since no data is written
+        TablePath tablePath0 = TablePath.of("fluss", "tiering_concurrent_table0");
+        long tableId0 = createTable(tablePath0, DEFAULT_LOG_TABLE_DESCRIPTOR);
+        TablePath tablePath1 = TablePath.of("fluss", "tiering_concurrent_table1");
+        long tableId1 = createTable(tablePath1, DEFAULT_PK_TABLE_DESCRIPTOR);
+        TablePath tablePath2 = TablePath.of("fluss", "tiering_concurrent_table2");
+        long tableId2 = createTable(tablePath2, DEFAULT_PK_TABLE_DESCRIPTOR);
+
+        Map<Long, Long> freshnessDeadlines = new ConcurrentHashMap<>();
+        freshnessDeadlines.put(tableId0, 1000L);
+        freshnessDeadlines.put(tableId1, 3000L);
+        freshnessDeadlines.put(tableId2, 2000L);
+
+        try (Connection connection =
+                        ConnectionFactory.createConnection(
+                                FLUSS_CLUSTER_EXTENSION.getClientConfig());
+                TieringSplitReader<TestingWriteResult> tieringSplitReader =
+                        createTieringReader(connection, 2, freshnessDeadlines)) {
+            Map<TableBucket, List<InternalRow>> table1Rows = putRows(tableId1, tablePath1, 10);
+            Map<TableBucket, List<InternalRow>> table2Rows = putRows(tableId2, tablePath2, 10);
+            FLUSS_CLUSTER_EXTENSION.triggerAndWaitSnapshot(tablePath1);
+            FLUSS_CLUSTER_EXTENSION.triggerAndWaitSnapshot(tablePath2);
+
+            tieringSplitReader.handleSplitsChanges(
+                    new SplitsAddition<>(
+                            Arrays.asList(
+                                    createLogSplit(tablePath0, tableId0, 0, EARLIEST_OFFSET, 100),
+                                    createSnapshotSplit(tablePath1, tableId1, 0, 0),
+                                    createSnapshotSplit(tablePath2, tableId2, 0, 0))));
+
+            // table0 and table2 with earlier freshness deadline are tiered firstly, table1 is
+            // tiered once table2 is finished, although table0 is still being tiered
+            List<TableBucket> finishedBuckets = new ArrayList<>();
+            Map<TableBucket, Integer> actualRows = new HashMap<>();
+            for (int i = 0; i < 1000 && finishedBuckets.size() < 2; i++) {
+                RecordsWithSplitIds<TableBucketWriteResult<TestingWriteResult>> fetchResult =
+                        tieringSplitReader.fetch();
+                while (fetchResult.nextSplit() != null) {
+                    TableBucketWriteResult<TestingWriteResult> tableBucketWriteResult =
+                            fetchResult.nextRecordFromSplit();
+                    assertThat(tableBucketWriteResult).isNotNull();
+                    TestingWriteResult testingWriteResult = tableBucketWriteResult.writeResult();
+                    assertThat(testingWriteResult).isNotNull();
+                    finishedBuckets.add(tableBucketWriteResult.tableBucket());
+                    actualRows.put(
+                            tableBucketWriteResult.tableBucket(),
+                            testingWriteResult.getWriteResult());
+                }
+            }
+
+            TableBucket table1Bucket = new TableBucket(tableId1, 0);
+            TableBucket table2Bucket = new TableBucket(tableId2, 0);
+            assertThat(finishedBuckets).containsExactly(table2Bucket, table1Bucket);
+            Map<TableBucket, Integer> expectedRows = new HashMap<>();
+            expectedRows.put(table1Bucket, table1Rows.get(table1Bucket).size());
+            expectedRows.put(table2Bucket, table2Rows.get(table2Bucket).size());
+            assertThat(actualRows).isEqualTo(expectedRows);
+        }
+    }
+
     private TieringSplitReader<TestingWriteResult> createTieringReader(Connection connection) {
         final TieringMetrics tieringMetrics =
                 new TieringMetrics(
@@ -288,6 +351,21 @@ class TieringSplitReaderTest extends FlinkTestBase {
                 connection, new TestingLakeTieringFactory(), tieringMetrics);
     }
 
+    private TieringSplitReader<TestingWriteResult> createTieringReader(
+            Connection connection, int maxConcurrentTables, Map<Long, Long> freshnessDeadlines) {
+        final TieringMetrics tieringMetrics =
+                new TieringMetrics(
+                        InternalSourceReaderMetricGroup.mock(
+                                new MetricListener().getMetricGroup()));
+        return new TieringSplitReader<>(
+                connection,
+                new TestingLakeTieringFactory(),
+                TieringSplitReader.DEFAULT_POLL_TIMEOUT,
+                maxConcurrentTables,
+                freshnessDeadlines,
+                tieringMetrics);
+    }
+
     private void verifyTieringRows(
             TieringSplitReader<TestingWriteResult> tieringSplitReader,
             long tableId,
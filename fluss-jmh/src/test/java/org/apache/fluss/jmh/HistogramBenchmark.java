@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.jmh;
+
+import org.apache.fluss.metrics.DescriptiveStatisticsHistogram;
+import org.apache.fluss.metrics.Histogram;
+import org.apache.fluss.metrics.HistogramStatistics;
+import org.apache.fluss.metrics.LogLinearHistogram;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.VerboseMode;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the {@link Histogram} implementations of the metrics, updated by 32 threads
+ * concurrently like the request metrics of a busy server, and read by a reporter.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Measurement(iterations = 3)
+@Fork(value = 0)
+public class HistogramBenchmark {
+
+    private static final int WINDOW_SIZE = 1024;
+
+    @Param({"descriptive", "log-linear"})
+    public String histogramType;
+
+    private Histogram histogram;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        histogram =
+                "descriptive".equals(histogramType)
+                        ? new DescriptiveStatisticsHistogram(WINDOW_SIZE)
+                        : new LogLinearHistogram();
+        for (int i = 0; i < WINDOW_SIZE; i++) {
+            histogram.update(nextLatency());
+        }
+    }
+
+    @Benchmark
+    @Threads(32)
+    public void testUpdate() {
+        histogram.update(nextLatency());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public double testStatistics() {
+        HistogramStatistics statistics = histogram.getStatistics();
+        return statistics.getQuantile(0.5)
+                + statistics.getQuantile(0.99)
+                + statistics.getMean()
+                + statistics.getMax();
+    }
+
+    private static long nextLatency() {
+        // mostly fast requests with a long tail
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return random.nextInt(100) < 95 ? random.nextInt(10) : random.nextInt(10_000);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options opt =
+                new OptionsBuilder()
+                        .verbosity(VerboseMode.NORMAL)
+                        .include(".*" + HistogramBenchmark.class.getCanonicalName() + ".*")
+                        .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -20,10 +20,10 @@ package org.apache.fluss.kafka;
 import org.apache.fluss.config.ConfigOptions;
 import org.apache.fluss.config.Configuration;
 import org.apache.fluss.rpc.RpcGatewayService;
-import org.apache.fluss.rpc.gateway.TabletServerGateway;
 import org.apache.fluss.rpc.netty.server.RequestChannel;
 import org.apache.fluss.rpc.netty.server.RequestHandler;
 import org.apache.fluss.rpc.protocol.NetworkProtocolPlugin;
+import org.apache.fluss.server.tablet.TabletServerContext;
 import org.apache.fluss.shaded.netty4.io.netty.channel.ChannelHandler;
 
 import java.util.List;
@@ -53,6 +53,7 @@ public class KafkaProtocolPlugin implements NetworkProtocolPlugin {
             RequestChannel[] requestChannels, String listenerName) {
         return new KafkaChannelInitializer(
                 requestChannels,
+                listenerName,
                 conf.get(ConfigOptions.KAFKA_CONNECTION_MAX_IDLE_TIME).getSeconds(),
                 (int) conf.get(ConfigOptions.NETTY_SERVER_MAX_REQUEST_SIZE).getBytes(),
                 conf.getBoolean(ConfigOptions.NETTY_CLIENT_ALLOCATOR_HEAP_BUFFER_FIRST));
@@ -60,12 +61,11 @@ public class KafkaProtocolPlugin implements NetworkProtocolPlugin {
 
     @Override
     public RequestHandler<?> createRequestHandler(RpcGatewayService service) {
-        if (!(service instanceof TabletServerGateway)) {
+        if (!(service instanceof TabletServerContext)) {
             throw new IllegalArgumentException(
                     "Kafka protocol endpoints can only be enabled on TabletServers, but the service is "
                             + service.getClass().getSimpleName());
         }
-        TabletServerGateway gateway = (TabletServerGateway) service;
-        return new KafkaRequestHandler(gateway);
+        return new KafkaRequestHandler((TabletServerContext) service, conf);
     }
 }
@@ -0,0 +1,501 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.kafka;
+
+import org.apache.fluss.compression.ArrowCompressionInfo;
+import org.apache.fluss.exception.InvalidRecordException;
+import org.apache.fluss.exception.InvalidTableException;
+import org.apache.fluss.memory.UnmanagedPagedOutputView;
+import org.apache.fluss.metadata.KvFormat;
+import org.apache.fluss.metadata.LogFormat;
+import org.apache.fluss.metadata.SchemaGetter;
+import org.apache.fluss.metadata.TableInfo;
+import org.apache.fluss.record.ChangeType;
+import org.apache.fluss.record.LogRecord;
+import org.apache.fluss.record.LogRecordBatch;
+import org.apache.fluss.record.LogRecordReadContext;
+import org.apache.fluss.record.LogRecords;
+import org.apache.fluss.record.MemoryLogRecords;
+import org.apache.fluss.record.MemoryLogRecordsArrowBuilder;
+import org.apache.fluss.record.MemoryLogRecordsCompactedBuilder;
+import org.apache.fluss.record.MemoryLogRecordsIndexedBuilder;
+import org.apache.fluss.record.bytesview.BytesView;
+import org.apache.fluss.row.BinaryRow;
+import org.apache.fluss.row.GenericRow;
+import org.apache.fluss.row.InternalRow;
+import org.apache.fluss.row.TimestampLtz;
+import org.apache.fluss.row.arrow.ArrowWriter;
+import org.apache.fluss.row.arrow.ArrowWriterPool;
+import org.apache.fluss.row.compacted.CompactedRow;
+import org.apache.fluss.row.encode.RowEncoder;
+import org.apache.fluss.row.indexed.IndexedRow;
+import org.apache.fluss.shaded.arrow.org.apache.arrow.memory.BufferAllocator;
+import org.apache.fluss.shaded.netty4.io.netty.buffer.ByteBuf;
+import org.apache.fluss.types.DataField;
+import org.apache.fluss.types.DataType;
+import org.apache.fluss.types.DataTypeChecks;
+import org.apache.fluss.types.DataTypeRoot;
+import org.apache.fluss.types.RowType;
+import org.apache.fluss.utils.CloseableIterator;
+
+import org.apache.kafka.common.compress.Compression;
+import org.apache.kafka.common.record.MemoryRecords;
+import org.apache.kafka.common.record.MemoryRecordsBuilder;
+import org.apache.kafka.common.record.MutableRecordBatch;
+import org.apache.kafka.common.record.Record;
+import org.apache.kafka.common.record.TimestampType;
+import org.apache.kafka.common.utils.Utils;
+
+import javax.annotation.Nullable;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converts the records between Kafka record batches and Fluss log record batches.
+ *
+ * <p>A Kafka topic is backed by a non-partitioned log table whose records are mapped to the columns
+ * named {@code key}, {@code value} and {@code timestamp}. The {@code value} column is required and
+ * must be of BYTES type, the {@code key} column is optional and must be of BYTES type, and the
+ * {@code timestamp} column is optional and must be of TIMESTAMP_LTZ type. All the other columns
+ * must be nullable and are always null for the records produced by Kafka clients. The headers of
+ * the Kafka records are dropped.
+ */
+class KafkaRecordsConverter implements AutoCloseable {
+
+    static final String KEY_COLUMN = "key";
+    static final String VALUE_COLUMN = "value";
+    static final String TIMESTAMP_COLUMN = "timestamp";
+
+    /** The size of the Fluss record batches converted from Kafka records. */
+    private static final int BATCH_SIZE_IN_BYTES = 2 * 1024 * 1024;
+
+    private static final int PAGE_SIZE_IN_BYTES = 64 * 1024;
+
+    private final BufferAllocator bufferAllocator;
+    private final ArrowWriterPool arrowWriterPool;
+
+    /**
+     * The arrow compression info of each converted table, resolved once per table as it owns the
+     * Zstd dictionary of the table (if any), and released with the converter.
+     */
+    private final Map<Long, ArrowCompressionInfo> arrowCompressionInfos = new ConcurrentHashMap<>();
+
+    /** Creates a converter owning the given allocator, which is closed with the converter. */
+    KafkaRecordsConverter(BufferAllocator bufferAllocator) {
+        this.bufferAllocator = bufferAllocator;
+        this.arrowWriterPool = new ArrowWriterPool(bufferAllocator);
+    }
+
+    /** Converts the records of a Kafka produce request to the Fluss log records of the table. */
+    MemoryLogRecords toFlussRecords(TableInfo tableInfo, MemoryRecords records) throws Exception {
+        TableColumns columns = TableColumns.of(tableInfo);
+        LogFormat logFormat = tableInfo.getTableConfig().getLogFormat();
+        List<BytesView> batches = new ArrayList<>();
+        if (logFormat == LogFormat.ARROW) {
+            writeArrowBatches(tableInfo, columns, records, batches);
+        } else if (logFormat == LogFormat.INDEXED || logFormat == LogFormat.COMPACTED) {
+            writeRowBatches(tableInfo, columns, records, batches);
+        } else {
+            throw new InvalidTableException("Unsupported log format: " + logFormat);
+        }
+
+        int sizeInBytes = 0;
+        for (BytesView batch : batches) {
+            sizeInBytes += batch.getBytesLength();
+        }
+        byte[] bytes = new byte[sizeInBytes];
+        int position = 0;
+        for (BytesView batch : batches) {
+            ByteBuf byteBuf = batch.getByteBuf();
+            int length = batch.getBytesLength();
+            byteBuf.getBytes(byteBuf.readerIndex(), bytes, position, length);
+            position += length;
+        }
+        return MemoryLogRecords.pointToBytes(bytes);
+    }
+
+    private void writeArrowBatches(
+            TableInfo tableInfo,
+            TableColumns columns,
+            MemoryRecords records,
+            List<BytesView> batches)
+            throws Exception {
+        MemoryLogRecordsArrowBuilder builder = null;
+        GenericRow row = new GenericRow(tableInfo.getRowType().getFieldCount());
+        try {
+            for (MutableRecordBatch kafkaBatch : records.batches()) {
+                if (kafkaBatch.isControlBatch()) {
+                    continue;
+                }
+                for (Record kafkaRecord : kafkaBatch) {
+                    if (builder != null && builder.isFull()) {
+                        builder.close();
+                        batches.add(builder.build());
+                        builder = null;
+                    }
+                    if (builder == null) {
+                        builder = newArrowBuilder(tableInfo);
+                    }
+                    columns.fill(row, kafkaRecord);
+                    builder.append(ChangeType.APPEND_ONLY, row);
+                }
+            }
+            if (builder != null) {
+                builder.close();
+                batches.add(builder.build());
+                builder = null;
+            }
+        } finally {
+            if (builder != null) {
+                builder.abort();
+            }
+        }
+    }
+
+    private MemoryLogRecordsArrowBuilder newArrowBuilder(TableInfo tableInfo) {
+        ArrowWriter arrowWriter =
+                arrowWriterPool.getOrCreateWriter(
+                        tableInfo.getTableId(),
+                        tableInfo.getSchemaId(),
+                        BATCH_SIZE_IN_BYTES,
+                        tableInfo.getRowType(),
+                        arrowCompressionInfos.computeIfAbsent(
+                                tableInfo.getTableId(),
+                                k -> tableInfo.getTableConfig().getArrowCompressionInfo()));
+        return MemoryLogRecordsArrowBuilder.builder(
+                tableInfo.getSchemaId(),
+                arrowWriter,
+                new UnmanagedPagedOutputView(PAGE_SIZE_IN_BYTES),
+                true,
+                null);
+    }
+
+    private void writeRowBatches(
+            TableInfo tableInfo,
+            TableColumns columns,
+            MemoryRecords records,
+            List<BytesView> batches)
+            throws Exception {
+        LogFormat logFormat = tableInfo.getTableConfig().getLogFormat();
+        RowType rowType = tableInfo.getRowType();
+        try (RowEncoder encoder =
+                RowEncoder.create(
+                        logFormat == LogFormat.INDEXED ? KvFormat.INDEXED : KvFormat.COMPACTED,
+                        rowType)) {
+            RowBatchBuilder builder = null;
+            for (MutableRecordBatch kafkaBatch : records.batches()) {
+                if (kafkaBatch.isControlBatch()) {
+                    continue;
+                }
+                for (Record kafkaRecord : kafkaBatch) {
+                    BinaryRow row = columns.encode(encoder, rowType.getFieldCount(), kafkaRecord);
+                    if (builder != null && !builder.hasRoomFor(row)) {
+                        batches.add(builder.build());
+                        builder = null;
+                    }
+                    if (builder == null) {
+                        builder = new RowBatchBuilder(logFormat, tableInfo.getSchemaId());
+                    }
+                    builder.append(row);
+                }
+            }
+            if (builder != null) {
+                batches.add(builder.build());
+            }
+        }
+    }
+
+    /**
+     * Converts the Fluss log records fetched from a bucket to Kafka record batches. The records
+     * before the fetch offset are skipped, every non-empty Fluss batch is converted to a Kafka
+     * batch with the same offsets.
+     */
+    static MemoryRecords toKafkaRecords(
+            TableInfo tableInfo, SchemaGetter schemaGetter, LogRecords records, long fetchOffset)
+            throws Exception {
+        TableColumns columns = TableColumns.of(tableInfo);
+        List<ByteBuffer> kafkaBatches = new ArrayList<>();
+        int sizeInBytes = 0;
+        try (LogRecordReadContext readContext =
+                LogRecordReadContext.createReadContext(tableInfo, false, null, schemaGetter)) {
+            for (LogRecordBatch batch : records.batches()) {
+                if (batch.nextLogOffset() <= fetchOffset) {
+                    continue;
+                }
+                MemoryRecordsBuilder kafkaBuilder = null;
+                try (CloseableIterator<LogRecord> iterator = batch.records(readContext)) {
+                    while (iterator.hasNext()) {
+                        LogRecord record = iterator.next();
+                        if (record.logOffset() < fetchOffset) {
+                            continue;
+                        }
+                        if (kafkaBuilder == null) {
+                            kafkaBuilder =
+                                    MemoryRecords.builder(
+                                            ByteBuffer.allocate(batch.sizeInBytes()),
+                                            Compression.NONE,
+                                            TimestampType.CREATE_TIME,
+                                            record.logOffset());
+                        }
+                        // for arrow batches, the row is a columnar view over the vectors, so
+                        // only the mapped columns are read from it
+                        InternalRow row = record.getRow();
+                        kafkaBuilder.appendWithOffset(
+                                record.logOffset(),
+                                columns.timestamp(row, record.timestamp()),
+                                columns.key(row),
+                                columns.value(row));
+                    }
+                }
+                if (kafkaBuilder != null) {
+                    ByteBuffer kafkaBatch = kafkaBuilder.build().buffer();
+                    kafkaBatches.add(kafkaBatch);
+                    sizeInBytes += kafkaBatch.remaining();
+                }
+            }
+        }
+
+        if (kafkaBatches.isEmpty()) {
+            return MemoryRecords.EMPTY;
+        } else if (kafkaBatches.size() == 1) {
+            return MemoryRecords.readableRecords(kafkaBatches.get(0));
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(sizeInBytes);
+        for (ByteBuffer kafkaBatch : kafkaBatches) {
+            buffer.put(kafkaBatch);
+        }
+        buffer.flip();
+        return MemoryRecords.readableRecords(buffer);
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    /** The positions of the columns the Kafka records are mapped to. */
+    @Override
+    public void close() {
+        arrowWriterPool.close();
+        arrowCompressionInfos.values().forEach(ArrowCompressionInfo::close);
+        arrowCompressionInfos.clear();
+        bufferAllocator.close();
+    }
+
+    private static final class TableColumns {
+        private final RowType rowType;
+        private final int keyIndex;
+        private final int valueIndex;
+        private final int timestampIndex;
+        private final int timestampPrecision;
+
+        private TableColumns(
+                RowType rowType,
+                int keyIndex,
+                int valueIndex,
+                int timestampIndex,
+                int timestampPrecision) {
+            this.rowType = rowType;
+            this.keyIndex = keyIndex;
+            this.valueIndex = valueIndex;
+            this.timestampIndex = timestampIndex;
+            this.timestampPrecision = timestampPrecision;
+        }
+
+        static TableColumns of(TableInfo tableInfo) {
+            if (tableInfo.hasPrimaryKey() || tableInfo.isPartitioned()) {
+                throw new InvalidTableException(
+                        String.format(
+                                "Table %s can't be accessed as a Kafka topic, "
+                                        + "only non-partitioned log tables are supported.",
+                                tableInfo.getTablePath()));
+            }
+            RowType rowType = tableInfo.getRowType();
+            int keyIndex = -1;
+            int valueIndex = -1;
+            int timestampIndex = -1;
+            int timestampPrecision = 0;
+            List<DataField> fields = rowType.getFields();
+            for (int i = 0; i < fields.size(); i++) {
+                DataField field = fields.get(i);
+                DataType type = field.getType();
+                if (field.getName().equals(KEY_COLUMN)) {
+                    checkColumnType(tableInfo, field, DataTypeRoot.BYTES);
+                    keyIndex = i;
+                } else if (field.getName().equals(VALUE_COLUMN)) {
+                    checkColumnType(tableInfo, field, DataTypeRoot.BYTES);
+                    valueIndex = i;
+                } else if (field.getName().equals(TIMESTAMP_COLUMN)) {
+                    checkColumnType(tableInfo, field, DataTypeRoot.TIMESTAMP_WITH_LOCAL_TIME_ZONE);
+                    timestampIndex = i;
+                    timestampPrecision = DataTypeChecks.getPrecision(type);
+                } else if (!type.isNullable()) {
+                    throw new InvalidTableException(
+                            String.format(
+                                    "Table %s can't be accessed as a Kafka topic, "
+                                            + "column '%s' must be nullable.",
+                                    tableInfo.getTablePath(), field.getName()));
+                }
+            }
+            if (valueIndex < 0) {
+                throw new InvalidTableException(
+                        String.format(
+                                "Table %s can't be accessed as a Kafka topic, "
+                                        + "it has no '%s' column.",
+                                tableInfo.getTablePath(), VALUE_COLUMN));
+            }
+            return new TableColumns(
+                    rowType, keyIndex, valueIndex, timestampIndex, timestampPrecision);
+        }
+
+        private static void checkColumnType(
+                TableInfo tableInfo, DataField field, DataTypeRoot expectedType) {
+            if (field.getType().getTypeRoot() != expectedType) {
+                throw new InvalidTableException(
+                        String.format(
+                                "Table %s can't be accessed as a Kafka topic, "
+                                        + "column '%s' must be of type %s, but is %s.",
+                                tableInfo.getTablePath(),
+                                field.getName(),
+                                expectedType,
+                                field.getType()));
+            }
+        }
+
+        /** Fills the mapped columns of the given row from the Kafka record. */
+        void fill(GenericRow row, Record kafkaRecord) {
+            if (keyIndex >= 0) {
+                row.setField(keyIndex, keyBytes(kafkaRecord));
+            }
+            row.setField(valueIndex, valueBytes(kafkaRecord));
+            if (timestampIndex >= 0) {
+                row.setField(timestampIndex, TimestampLtz.fromEpochMillis(kafkaRecord.timestamp()));
+            }
+        }
+
+        /** Encodes the Kafka record to a binary row, the columns not mapped are null. */
+        BinaryRow encode(RowEncoder encoder, int fieldCount, Record kafkaRecord) {
+            encoder.startNewRow();
+            for (int i = 0; i < fieldCount; i++) {
+                Object field;
+                if (i == keyIndex) {
+                    field = keyBytes(kafkaRecord);
+                } else if (i == valueIndex) {
+                    field = valueBytes(kafkaRecord);
+                } else if (i == timestampIndex) {
+                    field = TimestampLtz.fromEpochMillis(kafkaRecord.timestamp());
+                } else {
+                    field = null;
+                }
+                encoder.encodeField(i, field);
+            }
+            return encoder.finishRow();
+        }
+
+        @Nullable
+        private byte[] keyBytes(Record kafkaRecord) {
+            return kafkaRecord.hasKey()
+                    ? Utils.toArray(kafkaRecord.key())
+                    : checkNullable(keyIndex, kafkaRecord);
+        }
+
+        @Nullable
+        private byte[] valueBytes(Record kafkaRecord) {
+            return kafkaRecord.hasValue()
+                    ? Utils.toArray(kafkaRecord.value())
+                    : checkNullable(valueIndex, kafkaRecord);
+        }
+
+        @Nullable
+        private byte[] checkNullable(int index, Record kafkaRecord) {
+            DataField field = rowType.getFields().get(index);
+            if (!field.getType().isNullable()) {
+                throw new InvalidRecordException(
+                        String.format(
+                                "The record at offset %d has a null %s, "
+                                        + "but the column '%s' is not nullable.",
+                                kafkaRecord.offset(), field.getName(), field.getName()));
+            }
+            return null;
+        }
+
+        @Nullable
+        ByteBuffer key(InternalRow row) {
+            return keyIndex < 0 || row.isNullAt(keyIndex)
+                    ? null
+                    : ByteBuffer.wrap(row.getBytes(keyIndex));
+        }
+
+        @Nullable
+        ByteBuffer value(InternalRow row) {
+            return row.isNullAt(valueIndex) ? null : ByteBuffer.wrap(row.getBytes(valueIndex));
+        }
+
+        long timestamp(InternalRow row, long commitTimestamp) {
+            return timestampIndex < 0 || row.isNullAt(timestampIndex)
+                    ? commitTimestamp
+                    : row.getTimestampLtz(timestampIndex, timestampPrecision).getEpochMillisecond();
+        }
+    }
+
+    /** Builds an INDEXED or COMPACTED log record batch. */
+    private static final class RowBatchBuilder {
+        @Nullable private final MemoryLogRecordsIndexedBuilder indexedBuilder;
+        @Nullable private final MemoryLogRecordsCompactedBuilder compactedBuilder;
+
+        private RowBatchBuilder(LogFormat logFormat, int schemaId) {
+            UnmanagedPagedOutputView outputView = new UnmanagedPagedOutputView(PAGE_SIZE_IN_BYTES);
+            if (logFormat == LogFormat.INDEXED) {
+                this.indexedBuilder =
+                        MemoryLogRecordsIndexedBuilder.builder(
+                                schemaId, BATCH_SIZE_IN_BYTES, outputView, true);
+                this.compactedBuilder = null;
+            } else {
+                this.indexedBuilder = null;
+                this.compactedBuilder =
+                        MemoryLogRecordsCompactedBuilder.builder(
+                                schemaId, BATCH_SIZE_IN_BYTES, outputView, true);
+            }
+        }
+
+        boolean hasRoomFor(BinaryRow row) {
+            return indexedBuilder != null
+                    ? indexedBuilder.hasRoomFor((IndexedRow) row)
+                    : compactedBuilder.hasRoomFor((CompactedRow) row);
+        }
+
+        void append(BinaryRow row) throws Exception {
+            if (indexedBuilder != null) {
+                indexedBuilder.append(ChangeType.APPEND_ONLY, (IndexedRow) row);
+            } else {
+                compactedBuilder.append(ChangeType.APPEND_ONLY, (CompactedRow) row);
+            }
+        }
+
+        BytesView build() throws Exception {
+            if (indexedBuilder != null) {
+                indexedBuilder.close();
+                return indexedBuilder.build();
+            } else {
+                compactedBuilder.close();
+                return compactedBuilder.build();
+            }
+        }
+    }
+}
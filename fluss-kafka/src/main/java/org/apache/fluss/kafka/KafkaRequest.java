@@ -48,6 +48,7 @@ public class KafkaRequest implements RpcRequest {
     private final AbstractRequest request;
     private final ByteBuf buffer;
     private final ChannelHandlerContext ctx;
+    private final String listenerName;
     private final long startTimeMs;
     private final CompletableFuture<AbstractResponse> future;
     private volatile boolean cancelled = false;
@@ -59,6 +60,7 @@ public class KafkaRequest implements RpcRequest {
             AbstractRequest request,
             ByteBuf buffer,
             ChannelHandlerContext ctx,
+            String listenerName,
             CompletableFuture<AbstractResponse> future) {
         this.apiKey = apiKey;
         this.apiVersion = apiVersion;
@@ -66,6 +68,7 @@ public class KafkaRequest implements RpcRequest {
         this.request = request;
         this.buffer = buffer.retain();
         this.ctx = ctx;
+        this.listenerName = listenerName;
         this.startTimeMs = System.currentTimeMillis();
         this.future = future;
     }
@@ -104,6 +107,11 @@ public class KafkaRequest implements RpcRequest {
         return ctx;
     }
 
+    /** Returns the name of the listener the request is received from. */
+    public String listenerName() {
+        return listenerName;
+    }
+
     public long startTimeMs() {
         return startTimeMs;
     }
@@ -17,27 +17,155 @@
 
 package org.apache.fluss.kafka;
 
-import org.apache.fluss.rpc.gateway.TabletServerGateway;
+import org.apache.fluss.cluster.ServerNode;
+import org.apache.fluss.config.ConfigOptions;
+import org.apache.fluss.config.Configuration;
+import org.apache.fluss.exception.InvalidRecordException;
+import org.apache.fluss.exception.NotLeaderOrFollowerException;
+import org.apache.fluss.exception.UnknownTableOrBucketException;
+import org.apache.fluss.kafka.group.GroupCoordinator;
+import org.apache.fluss.metadata.TableBucket;
+import org.apache.fluss.metadata.TableInfo;
+import org.apache.fluss.metadata.TablePath;
+import org.apache.fluss.record.MemoryLogRecords;
+import org.apache.fluss.rpc.entity.FetchLogResultForBucket;
+import org.apache.fluss.rpc.entity.ListOffsetsResultForBucket;
+import org.apache.fluss.rpc.entity.ProduceLogResultForBucket;
 import org.apache.fluss.rpc.netty.server.RequestHandler;
+import org.apache.fluss.rpc.netty.server.Session;
+import org.apache.fluss.rpc.protocol.ApiError;
 import org.apache.fluss.rpc.protocol.RequestType;
+import org.apache.fluss.security.acl.FlussPrincipal;
+import org.apache.fluss.security.acl.OperationType;
+import org.apache.fluss.server.entity.FetchReqInfo;
+import org.apache.fluss.server.entity.UserContext;
+import org.apache.fluss.server.log.FetchParams;
+import org.apache.fluss.server.log.FetchParamsBuilder;
+import org.apache.fluss.server.log.ListOffsetsParam;
+import org.apache.fluss.server.metadata.BucketMetadata;
+import org.apache.fluss.server.metadata.TableMetadata;
+import org.apache.fluss.server.metadata.TabletServerMetadataCache;
+import org.apache.fluss.server.replica.Replica;
+import org.apache.fluss.server.replica.ReplicaManager;
+import org.apache.fluss.server.tablet.TabletServerContext;
+import org.apache.fluss.shaded.arrow.org.apache.arrow.memory.BufferAllocatorUtil;
+import org.apache.fluss.utils.ExceptionUtils;
 
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.ApiException;
 import org.apache.kafka.common.message.ApiVersionsResponseData;
+import org.apache.kafka.common.message.FetchRequestData;
+import org.apache.kafka.common.message.FetchResponseData;
+import org.apache.kafka.common.message.FindCoordinatorRequestData;
+import org.apache.kafka.common.message.FindCoordinatorResponseData;
+import org.apache.kafka.common.message.HeartbeatRequestData;
+import org.apache.kafka.common.message.HeartbeatResponseData;
+import org.apache.kafka.common.message.JoinGroupRequestData;
+import org.apache.kafka.common.message.LeaveGroupRequestData;
+import org.apache.kafka.common.message.LeaveGroupResponseData;
+import org.apache.kafka.common.message.ListOffsetsRequestData;
+import org.apache.kafka.common.message.ListOffsetsResponseData;
+import org.apache.kafka.common.message.MetadataRequestData;
+import org.apache.kafka.common.message.MetadataResponseData;
+import org.apache.kafka.common.message.OffsetCommitRequestData;
+import org.apache.kafka.common.message.ProduceRequestData;
+import org.apache.kafka.common.message.ProduceResponseData;
+import org.apache.kafka.common.message.SyncGroupRequestData;
 import org.apache.kafka.common.protocol.ApiKeys;
 import org.apache.kafka.common.protocol.Errors;
+import org.apache.kafka.common.record.MemoryRecords;
 import org.apache.kafka.common.record.RecordBatch;
 import org.apache.kafka.common.requests.AbstractRequest;
 import org.apache.kafka.common.requests.AbstractResponse;
 import org.apache.kafka.common.requests.ApiVersionsResponse;
+import org.apache.kafka.common.requests.FetchMetadata;
+import org.apache.kafka.common.requests.FetchRequest;
+import org.apache.kafka.common.requests.FetchResponse;
+import org.apache.kafka.common.requests.FindCoordinatorRequest;
+import org.apache.kafka.common.requests.FindCoordinatorResponse;
+import org.apache.kafka.common.requests.HeartbeatRequest;
+import org.apache.kafka.common.requests.HeartbeatResponse;
+import org.apache.kafka.common.requests.JoinGroupRequest;
+import org.apache.kafka.common.requests.JoinGroupResponse;
+import org.apache.kafka.common.requests.LeaveGroupRequest;
+import org.apache.kafka.common.requests.LeaveGroupResponse;
+import org.apache.kafka.common.requests.ListOffsetsRequest;
+import org.apache.kafka.common.requests.ListOffsetsResponse;
+import org.apache.kafka.common.requests.MetadataRequest;
+import org.apache.kafka.common.requests.MetadataResponse;
+import org.apache.kafka.common.requests.OffsetCommitRequest;
+import org.apache.kafka.common.requests.OffsetCommitResponse;
+import org.apache.kafka.common.requests.OffsetFetchRequest;
+import org.apache.kafka.common.requests.OffsetFetchResponse;
+import org.apache.kafka.common.requests.ProduceRequest;
+import org.apache.kafka.common.requests.ProduceResponse;
+import org.apache.kafka.common.requests.SyncGroupRequest;
+import org.apache.kafka.common.requests.SyncGroupResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-/** Kafka protocol implementation for request handler. */
+import javax.annotation.Nullable;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * Kafka protocol implementation for request handler.
+ *
+ * <p>A Kafka topic is served by the non-partitioned log table of the same name in the Kafka
+ * database, and the partitions of the topic are the buckets of the table. The data requests are
+ * served by the {@link ReplicaManager} of the tablet server directly, see {@link
+ * KafkaRecordsConverter} for how the Kafka records are mapped to the rows of the table.
+ *
+ * <p>The requests are authorized on the tables of their topics like the Fluss requests, i.e.,
+ * produce requires WRITE, fetch requires READ and list offsets requires DESCRIBE permission. The
+ * offset commit and fetch requests of the consumer groups require WRITE and READ permission on the
+ * table storing the committed offsets. SASL isn't supported yet, so the Kafka clients are
+ * authorized as the anonymous principal.
+ */
 public class KafkaRequestHandler implements RequestHandler<KafkaRequest> {
 
-    // TODO: we may need a new abstraction between TabletService and ReplicaManager to avoid
-    //  affecting Fluss protocol when supporting compatibility with Kafka.
-    private final TabletServerGateway gateway;
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaRequestHandler.class);
+
+    /** The replica id of the fetch and list offsets requests sent by clients. */
+    private static final int CLIENT_REPLICA_ID = -1;
 
-    public KafkaRequestHandler(TabletServerGateway gateway) {
-        this.gateway = gateway;
+    private final String database;
+    private final TabletServerContext context;
+    private final ReplicaManager replicaManager;
+    private final TabletServerMetadataCache metadataCache;
+    private final KafkaRecordsConverter recordsConverter;
+    private final GroupCoordinator groupCoordinator;
+
+    public KafkaRequestHandler(TabletServerContext context, Configuration conf) {
+        this.database = conf.get(ConfigOptions.KAFKA_DATABASE);
+        this.context = context;
+        this.replicaManager = context.getReplicaManager();
+        this.metadataCache = context.getMetadataCache();
+        this.recordsConverter =
+                new KafkaRecordsConverter(BufferAllocatorUtil.createBufferAllocator(null));
+        this.groupCoordinator =
+                new GroupCoordinator(
+                        database,
+                        conf.get(ConfigOptions.KAFKA_GROUP_OFFSETS_TABLE_BUCKET_NUM),
+                        conf.get(ConfigOptions.DEFAULT_REPLICATION_FACTOR),
+                        (int) conf.get(ConfigOptions.KAFKA_GROUP_OFFSETS_COMMIT_TIMEOUT).toMillis(),
+                        replicaManager,
+                        metadataCache,
+                        context.getCoordinatorGateway());
     }
 
     @Override
@@ -45,6 +173,12 @@ public class KafkaRequestHandler implements RequestHandler<KafkaRequest> {
         return RequestType.KAFKA;
     }
 
+    @Override
+    public void close() {
+        groupCoordinator.close();
+        recordsConverter.close();
+    }
+
     @Override
     public void processRequest(KafkaRequest request) {
         // See kafka.server.KafkaApis#handle
@@ -184,27 +318,594 @@ public class KafkaRequestHandler implements RequestHandler<KafkaRequest> {
         request.complete(new ApiVersionsResponse(data));
     }
 
-    void handleProducerRequest(KafkaRequest request) {}
+    void handleProducerRequest(KafkaRequest request) {
+        ProduceRequest produceRequest = request.request();
+        Session session = toSession(request);
+        Map<TableBucket, MemoryLogRecords> entriesPerBucket = new HashMap<>();
+        Map<TableBucket, TopicPartition> partitionsByBucket = new HashMap<>();
+        Map<TopicPartition, ProduceResponseData.PartitionProduceResponse> responses =
+                new LinkedHashMap<>();
+        for (ProduceRequestData.TopicProduceData topicData : produceRequest.data().topicData()) {
+            ApiError topicError = authorizeTopic(session, OperationType.WRITE, topicData.name());
+            for (ProduceRequestData.PartitionProduceData partitionData :
+                    topicData.partitionData()) {
+                TopicPartition tp = new TopicPartition(topicData.name(), partitionData.index());
+                if (topicError.isFailure()) {
+                    responses.put(tp, makePartitionProduceResponse(tp, topicError, -1L));
+                    continue;
+                }
+                try {
+                    TableBucket tb = toTableBucket(tp);
+                    TableInfo tableInfo = replicaManager.getReplicaOrException(tb).getTableInfo();
+                    entriesPerBucket.put(
+                            tb,
+                            recordsConverter.toFlussRecords(
+                                    tableInfo, (MemoryRecords) partitionData.records()));
+                    partitionsByBucket.put(tb, tp);
+                    responses.put(tp, null);
+                } catch (InvalidRecordException e) {
+                    responses.put(
+                            tp,
+                            makePartitionProduceResponse(
+                                    tp, Errors.INVALID_RECORD, e.getMessage(), -1L));
+                } catch (Exception e) {
+                    LOG.debug("Failed to convert the produced records of {}.", tp, e);
+                    responses.put(
+                            tp, makePartitionProduceResponse(tp, ApiError.fromThrowable(e), -1L));
+                }
+            }
+        }
+        if (entriesPerBucket.isEmpty()) {
+            request.complete(makeProduceResponse(responses));
+            return;
+        }
+
+        try {
+            replicaManager.appendRecordsToLog(
+                    produceRequest.timeout(),
+                    produceRequest.acks(),
+                    entriesPerBucket,
+                    new UserContext(session.getPrincipal()),
+                    results -> {
+                        for (ProduceLogResultForBucket result : results) {
+                            TopicPartition tp = partitionsByBucket.get(result.getTableBucket());
+                            responses.put(
+                                    tp,
+                                    makePartitionProduceResponse(
+                                            tp, result.getError(), result.getBaseOffset()));
+                        }
+                        request.complete(makeProduceResponse(responses));
+                    });
+        } catch (Exception e) {
+            request.fail(e);
+        }
+    }
+
+    void handleMetadataRequest(KafkaRequest request) {
+        MetadataRequest metadataRequest = request.request();
+        List<String> topics;
+        if (metadataRequest.isAllTopics()) {
+            topics =
+                    metadataCache.getTablePaths(database).stream()
+                            .map(TablePath::getTableName)
+                            .collect(Collectors.toList());
+        } else {
+            topics =
+                    metadataRequest.data().topics().stream()
+                            .map(MetadataRequestData.MetadataRequestTopic::name)
+                            .collect(Collectors.toList());
+        }
+
+        MetadataResponseData data =
+                new MetadataResponseData().setControllerId(MetadataResponse.NO_CONTROLLER_ID);
+        metadataCache
+                .getAllAliveTabletServers(request.listenerName())
+                .values()
+                .forEach(
+                        node ->
+                                data.brokers()
+                                        .add(
+                                                new MetadataResponseData.MetadataResponseBroker()
+                                                        .setNodeId(node.id())
+                                                        .setHost(node.host())
+                                                        .setPort(node.port())));
+        for (String topic : topics) {
+            MetadataResponseData.MetadataResponseTopic topicMetadata = makeTopicMetadata(topic);
+            // the tables which can't be served as topics are not listed to the clients
+            if (metadataRequest.isAllTopics()
+                    && topicMetadata.errorCode() == Errors.INVALID_TOPIC_EXCEPTION.code()) {
+                continue;
+            }
+            data.topics().add(topicMetadata);
+        }
+        request.complete(new MetadataResponse(data, request.apiVersion()));
+    }
+
+    private MetadataResponseData.MetadataResponseTopic makeTopicMetadata(String topic) {
+        MetadataResponseData.MetadataResponseTopic topicMetadata =
+                new MetadataResponseData.MetadataResponseTopic()
+                        .setName(topic)
+                        .setIsInternal(false);
+        Optional<TableMetadata> tableMetadata =
+                metadataCache.getTableMetadata(new TablePath(database, topic));
+        if (!tableMetadata.isPresent()) {
+            return topicMetadata.setErrorCode(Errors.UNKNOWN_TOPIC_OR_PARTITION.code());
+        }
+        TableInfo tableInfo = tableMetadata.get().getTableInfo();
+        if (tableInfo.hasPrimaryKey() || tableInfo.isPartitioned()) {
+            return topicMetadata.setErrorCode(Errors.INVALID_TOPIC_EXCEPTION.code());
+        }
+        List<BucketMetadata> buckets = tableMetadata.get().getBucketMetadataList();
+        if (buckets.isEmpty()) {
+            // the buckets of a newly created table are not propagated yet
+            return topicMetadata.setErrorCode(Errors.LEADER_NOT_AVAILABLE.code());
+        }
+        for (BucketMetadata bucket : buckets) {
+            // Fluss doesn't propagate the isr of the buckets, report the replicas instead, and
+            // the leader epoch is unknown to skip the offset validation of Kafka consumers.
+            topicMetadata
+                    .partitions()
+                    .add(
+                            new MetadataResponseData.MetadataResponsePartition()
+                                    .setPartitionIndex(bucket.getBucketId())
+                                    .setErrorCode(
+                                            bucket.getLeaderId().isPresent()
+                                                    ? Errors.NONE.code()
+                                                    : Errors.LEADER_NOT_AVAILABLE.code())
+                                    .setLeaderId(bucket.getLeaderId().orElse(-1))
+                                    .setLeaderEpoch(RecordBatch.NO_PARTITION_LEADER_EPOCH)
+                                    .setReplicaNodes(bucket.getReplicas())
+                                    .setIsrNodes(bucket.getReplicas()));
+        }
+        topicMetadata
+                .partitions()
+                .sort((p1, p2) -> Integer.compare(p1.partitionIndex(), p2.partitionIndex()));
+        return topicMetadata;
+    }
 
-    void handleMetadataRequest(KafkaRequest request) {}
+    void handleListOffsetRequest(KafkaRequest request) {
+        ListOffsetsRequest listOffsetsRequest = request.request();
+        Session session = toSession(request);
+        Map<TopicPartition, CompletableFuture<ListOffsetsResponseData.ListOffsetsPartitionResponse>>
+                responses = new LinkedHashMap<>();
+        for (ListOffsetsRequestData.ListOffsetsTopic topic : listOffsetsRequest.data().topics()) {
+            ApiError topicError = authorizeTopic(session, OperationType.DESCRIBE, topic.name());
+            for (ListOffsetsRequestData.ListOffsetsPartition partition : topic.partitions()) {
+                TopicPartition tp = new TopicPartition(topic.name(), partition.partitionIndex());
+                responses.put(
+                        tp,
+                        topicError.isFailure()
+                                ? CompletableFuture.completedFuture(
+                                        makeListOffsetsPartitionResponse(tp, topicError, -1L))
+                                : listOffset(tp, partition.timestamp()));
+            }
+        }
+        CompletableFuture.allOf(responses.values().toArray(new CompletableFuture[0]))
+                .thenAccept(
+                        ignored -> {
+                            Map<String, ListOffsetsResponseData.ListOffsetsTopicResponse>
+                                    topicResponses = new LinkedHashMap<>();
+                            responses.forEach(
+                                    (tp, response) ->
+                                            topicResponses
+                                                    .computeIfAbsent(
+                                                            tp.topic(),
+                                                            topic ->
+                                                                    new ListOffsetsResponseData
+                                                                                    .ListOffsetsTopicResponse()
+                                                                            .setName(topic))
+                                                    .partitions()
+                                                    .add(response.join()));
+                            request.complete(
+                                    new ListOffsetsResponse(
+                                            new ListOffsetsResponseData()
+                                                    .setTopics(
+                                                            new ArrayList<>(
+                                                                    topicResponses.values()))));
+                        });
+    }
+
+    private CompletableFuture<ListOffsetsResponseData.ListOffsetsPartitionResponse> listOffset(
+            TopicPartition tp, long timestamp) {
+        CompletableFuture<ListOffsetsResponseData.ListOffsetsPartitionResponse> response =
+                new CompletableFuture<>();
+        try {
+            TableBucket tb = toTableBucket(tp);
+            if (timestamp == ListOffsetsRequest.EARLIEST_TIMESTAMP
+                    || timestamp == ListOffsetsRequest.EARLIEST_LOCAL_TIMESTAMP) {
+                // Kafka clients can only fetch the local log, so the earliest offset of the
+                // Kafka protocol is the local log start offset
+                Replica replica = getLeaderReplica(tb);
+                response.complete(
+                        makeListOffsetsPartitionResponse(
+                                tp, ApiError.NONE, replica.getLogTablet().localLogStartOffset()));
+                return response;
+            }
+
+            ListOffsetsParam listOffsetsParam;
+            if (timestamp == ListOffsetsRequest.LATEST_TIMESTAMP) {
+                listOffsetsParam =
+                        new ListOffsetsParam(
+                                CLIENT_REPLICA_ID, ListOffsetsParam.LATEST_OFFSET_TYPE, null);
+            } else if (timestamp >= 0) {
+                listOffsetsParam =
+                        new ListOffsetsParam(
+                                CLIENT_REPLICA_ID,
+                                ListOffsetsParam.TIMESTAMP_OFFSET_TYPE,
+                                timestamp);
+            } else {
+                response.complete(
+                        makeListOffsetsPartitionResponse(
+                                tp,
+                                new ApiError(
+                                        org.apache.fluss.rpc.protocol.Errors.UNKNOWN_SERVER_ERROR,
+                                        "Unsupported list offsets timestamp " + timestamp),
+                                -1L));
+                return response;
+            }
+            replicaManager.listOffsets(
+                    listOffsetsParam,
+                    Collections.singleton(tb),
+                    results -> {
+                        ListOffsetsResultForBucket result = results.get(0);
+                        response.complete(
+                                makeListOffsetsPartitionResponse(
+                                        tp,
+                                        result.getError(),
+                                        result.failed() ? -1L : result.getOffset()));
+                    });
+        } catch (Exception e) {
+            response.complete(makeListOffsetsPartitionResponse(tp, ApiError.fromThrowable(e), -1L));
+        }
+        return response;
+    }
+
+    void handleFetchRequest(KafkaRequest request) {
+        FetchRequestData fetchRequestData = ((FetchRequest) request.request()).data();
+        Session session = toSession(request);
+        Map<TableBucket, FetchReqInfo> fetchInfos = new HashMap<>();
+        Map<TableBucket, TopicPartition> partitionsByBucket = new HashMap<>();
+        Map<TopicPartition, FetchResponseData.PartitionData> responses = new LinkedHashMap<>();
+        for (FetchRequestData.FetchTopic topic : fetchRequestData.topics()) {
+            ApiError topicError = authorizeTopic(session, OperationType.READ, topic.topic());
+            for (FetchRequestData.FetchPartition partition : topic.partitions()) {
+                TopicPartition tp = new TopicPartition(topic.topic(), partition.partition());
+                if (topicError.isFailure()) {
+                    responses.put(tp, makeFetchPartitionData(tp, topicError));
+                    continue;
+                }
+                try {
+                    TableBucket tb = toTableBucket(tp);
+                    fetchInfos.put(
+                            tb,
+                            new FetchReqInfo(
+                                    tb.getTableId(),
+                                    partition.fetchOffset(),
+                                    partition.partitionMaxBytes()));
+                    partitionsByBucket.put(tb, tp);
+                    responses.put(tp, null);
+                } catch (Exception e) {
+                    responses.put(tp, makeFetchPartitionData(tp, ApiError.fromThrowable(e)));
+                }
+            }
+        }
+        if (fetchInfos.isEmpty()) {
+            request.complete(makeFetchResponse(responses));
+            return;
+        }
+
+        // the fetch is delayed until min bytes are available or the max wait time elapses
+        FetchParams fetchParams =
+                new FetchParamsBuilder(CLIENT_REPLICA_ID, fetchRequestData.maxBytes())
+                        .withMinFetchBytes(fetchRequestData.minBytes())
+                        .withMaxWaitMs(fetchRequestData.maxWaitMs())
+                        .build();
+        try {
+            replicaManager.fetchLogRecords(
+                    fetchParams,
+                    fetchInfos,
+                    new UserContext(session.getPrincipal()),
+                    results -> {
+                        results.forEach(
+                                (tb, result) -> {
+                                    TopicPartition tp = partitionsByBucket.get(tb);
+                                    responses.put(
+                                            tp,
+                                            makeFetchPartitionData(
+                                                    tp,
+                                                    tb,
+                                                    fetchInfos.get(tb).getFetchOffset(),
+                                                    result));
+                                });
+                        request.complete(makeFetchResponse(responses));
+                    });
+        } catch (Exception e) {
+            request.fail(e);
+        }
+    }
+
+    private FetchResponseData.PartitionData makeFetchPartitionData(
+            TopicPartition tp, TableBucket tb, long fetchOffset, FetchLogResultForBucket result) {
+        if (result.failed()) {
+            return makeFetchPartitionData(tp, result.getError());
+        }
+        if (result.fetchFromRemote()) {
+            // only the local log can be served to Kafka clients, the consumers reset the
+            // offset to the local log start offset which is the earliest offset listed to them
+            return makeFetchPartitionData(
+                    tp,
+                    new ApiError(
+                            org.apache.fluss.rpc.protocol.Errors.LOG_OFFSET_OUT_OF_RANGE_EXCEPTION,
+                            "The fetch offset "
+                                    + fetchOffset
+                                    + " is only available in the remote log."));
+        }
+        try {
+            Replica replica = replicaManager.getReplicaOrException(tb);
+            MemoryRecords records =
+                    KafkaRecordsConverter.toKafkaRecords(
+                            replica.getTableInfo(),
+                            replica.getSchemaGetter(),
+                            result.recordsOrEmpty(),
+                            fetchOffset);
+            return new FetchResponseData.PartitionData()
+                    .setPartitionIndex(tp.partition())
+                    .setErrorCode(Errors.NONE.code())
+                    .setHighWatermark(result.getHighWatermark())
+                    .setLastStableOffset(result.getHighWatermark())
+                    .setLogStartOffset(replica.getLogTablet().localLogStartOffset())
+                    .setRecords(records);
+        } catch (Exception e) {
+            LOG.warn("Failed to convert the fetched records of {}.", tp, e);
+            return makeFetchPartitionData(tp, ApiError.fromThrowable(e));
+        }
+    }
+
+    void handleFindCoordinatorRequest(KafkaRequest request) {
+        FindCoordinatorRequestData data = ((FindCoordinatorRequest) request.request()).data();
+        if (request.apiVersion() < FindCoordinatorRequest.MIN_BATCHED_VERSION) {
+            try {
+                request.complete(
+                        FindCoordinatorResponse.prepareOldResponse(
+                                Errors.NONE,
+                                findCoordinator(
+                                        data.keyType(), data.key(), request.listenerName())));
+            } catch (ApiException e) {
+                request.complete(
+                        FindCoordinatorResponse.prepareOldResponse(
+                                Errors.forException(e), Node.noNode()));
+            }
+            return;
+        }
+        List<FindCoordinatorResponseData.Coordinator> coordinators = new ArrayList<>();
+        for (String key : data.coordinatorKeys()) {
+            try {
+                coordinators.add(
+                        FindCoordinatorResponse.prepareCoordinatorResponse(
+                                Errors.NONE,
+                                key,
+                                findCoordinator(data.keyType(), key, request.listenerName())));
+            } catch (ApiException e) {
+                coordinators.add(
+                        FindCoordinatorResponse.prepareCoordinatorResponse(
+                                Errors.forException(e), key, Node.noNode()));
+            }
+        }
+        request.complete(
+                new FindCoordinatorResponse(
+                        new FindCoordinatorResponseData().setCoordinators(coordinators)));
+    }
 
-    void handleFindCoordinatorRequest(KafkaRequest request) {}
+    private Node findCoordinator(byte keyType, String key, String listenerName) {
+        // transactions are not supported yet, only the coordinators of groups can be found
+        if (keyType != FindCoordinatorRequest.CoordinatorType.GROUP.id()) {
+            throw Errors.INVALID_REQUEST.exception();
+        }
+        ServerNode node = groupCoordinator.findCoordinator(key, listenerName);
+        return new Node(node.id(), node.host(), node.port());
+    }
 
-    void handleListOffsetRequest(KafkaRequest request) {}
+    void handleOffsetFetchRequest(KafkaRequest request) {
+        if (!authorizeOffsetsTable(request, OperationType.READ)) {
+            return;
+        }
+        OffsetFetchRequest offsetFetchRequest = request.request();
+        if (request.apiVersion() < 8) {
+            fetchOffsets(offsetFetchRequest.groupId(), offsetFetchRequest.partitions())
+                    .whenComplete(
+                            (offsets, t) -> {
+                                if (t != null) {
+                                    completeWithError(request, t);
+                                } else {
+                                    request.complete(new OffsetFetchResponse(Errors.NONE, offsets));
+                                }
+                            });
+            return;
+        }
 
-    void handleOffsetFetchRequest(KafkaRequest request) {}
+        // the requests of version 8+ fetch the offsets of multiple groups
+        Map<String, CompletableFuture<Map<TopicPartition, OffsetFetchResponse.PartitionData>>>
+                futures = new LinkedHashMap<>();
+        offsetFetchRequest
+                .groupIdsToPartitions()
+                .forEach(
+                        (groupId, partitions) ->
+                                futures.put(groupId, fetchOffsets(groupId, partitions)));
+        CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+                .whenComplete(
+                        (ignored, ignoredError) -> {
+                            Map<String, Errors> errors = new HashMap<>();
+                            Map<String, Map<TopicPartition, OffsetFetchResponse.PartitionData>>
+                                    responses = new HashMap<>();
+                            futures.forEach(
+                                    (groupId, future) -> {
+                                        try {
+                                            responses.put(groupId, future.join());
+                                            errors.put(groupId, Errors.NONE);
+                                        } catch (Exception e) {
+                                            responses.put(groupId, Collections.emptyMap());
+                                            errors.put(groupId, toGroupError(e));
+                                        }
+                                    });
+                            request.complete(new OffsetFetchResponse(0, errors, responses));
+                        });
+    }
 
-    void handleOffsetCommitRequest(KafkaRequest request) {}
+    private CompletableFuture<Map<TopicPartition, OffsetFetchResponse.PartitionData>> fetchOffsets(
+            String groupId, @Nullable List<TopicPartition> partitions) {
+        return groupCoordinator
+                .fetchOffsets(groupId, partitions)
+                .thenApply(
+                        offsets -> {
+                            Map<TopicPartition, OffsetFetchResponse.PartitionData> result =
+                                    new HashMap<>();
+                            offsets.forEach(
+                                    (tp, offset) ->
+                                            result.put(
+                                                    tp,
+                                                    new OffsetFetchResponse.PartitionData(
+                                                            offset.offset(),
+                                                            offset.leaderEpoch(),
+                                                            offset.metadata(),
+                                                            Errors.NONE)));
+                            if (partitions != null) {
+                                // the partitions without committed offsets are responded
+                                // with the invalid offset
+                                for (TopicPartition tp : partitions) {
+                                    result.putIfAbsent(
+                                            tp,
+                                            new OffsetFetchResponse.PartitionData(
+                                                    OffsetFetchResponse.INVALID_OFFSET,
+                                                    Optional.empty(),
+                                                    OffsetFetchResponse.NO_METADATA,
+                                                    Errors.NONE));
+                                }
+                            }
+                            return result;
+                        });
+    }
 
-    void handleFetchRequest(KafkaRequest request) {}
+    void handleOffsetCommitRequest(KafkaRequest request) {
+        if (!authorizeOffsetsTable(request, OperationType.WRITE)) {
+            return;
+        }
+        OffsetCommitRequestData data = ((OffsetCommitRequest) request.request()).data();
+        Map<TopicPartition, OffsetAndMetadata> offsets = new LinkedHashMap<>();
+        for (OffsetCommitRequestData.OffsetCommitRequestTopic topic : data.topics()) {
+            for (OffsetCommitRequestData.OffsetCommitRequestPartition partition :
+                    topic.partitions()) {
+                offsets.put(
+                        new TopicPartition(topic.name(), partition.partitionIndex()),
+                        new OffsetAndMetadata(
+                                partition.committedOffset(),
+                                partition.committedLeaderEpoch()
+                                                == RecordBatch.NO_PARTITION_LEADER_EPOCH
+                                        ? Optional.empty()
+                                        : Optional.of(partition.committedLeaderEpoch()),
+                                partition.committedMetadata()));
+            }
+        }
+        groupCoordinator
+                .commitOffsets(
+                        data.groupId(), data.memberId(), data.generationIdOrMemberEpoch(), offsets)
+                .whenComplete(
+                        (ignored, t) -> {
+                            if (t != null) {
+                                completeWithError(request, t);
+                            } else {
+                                Map<TopicPartition, Errors> errors = new LinkedHashMap<>();
+                                offsets.keySet().forEach(tp -> errors.put(tp, Errors.NONE));
+                                request.complete(new OffsetCommitResponse(errors));
+                            }
+                        });
+    }
 
-    void handleJoinGroupRequest(KafkaRequest request) {}
+    void handleJoinGroupRequest(KafkaRequest request) {
+        JoinGroupRequestData data = ((JoinGroupRequest) request.request()).data();
+        LinkedHashMap<String, byte[]> protocols = new LinkedHashMap<>();
+        for (JoinGroupRequestData.JoinGroupRequestProtocol protocol : data.protocols()) {
+            protocols.put(protocol.name(), protocol.metadata());
+        }
+        groupCoordinator
+                .joinGroup(
+                        data.groupId(),
+                        data.memberId(),
+                        request.header().clientId(),
+                        data.protocolType(),
+                        protocols,
+                        data.sessionTimeoutMs(),
+                        // the requests of version 0 have no rebalance timeout
+                        data.rebalanceTimeoutMs() < 0
+                                ? data.sessionTimeoutMs()
+                                : data.rebalanceTimeoutMs())
+                .whenComplete(
+                        (response, t) -> {
+                            if (t != null) {
+                                completeWithError(request, t);
+                            } else {
+                                request.complete(
+                                        new JoinGroupResponse(response, request.apiVersion()));
+                            }
+                        });
+    }
 
-    void handleSyncGroupRequest(KafkaRequest request) {}
+    void handleSyncGroupRequest(KafkaRequest request) {
+        SyncGroupRequestData data = ((SyncGroupRequest) request.request()).data();
+        Map<String, byte[]> assignments = new HashMap<>();
+        for (SyncGroupRequestData.SyncGroupRequestAssignment assignment : data.assignments()) {
+            assignments.put(assignment.memberId(), assignment.assignment());
+        }
+        groupCoordinator
+                .syncGroup(data.groupId(), data.generationId(), data.memberId(), assignments)
+                .whenComplete(
+                        (response, t) -> {
+                            if (t != null) {
+                                completeWithError(request, t);
+                            } else {
+                                request.complete(new SyncGroupResponse(response));
+                            }
+                        });
+    }
 
-    void handleHeartbeatRequest(KafkaRequest request) {}
+    void handleHeartbeatRequest(KafkaRequest request) {
+        HeartbeatRequestData data = ((HeartbeatRequest) request.request()).data();
+        Errors error;
+        try {
+            groupCoordinator.heartbeat(data.groupId(), data.memberId(), data.generationId());
+            error = Errors.NONE;
+        } catch (Exception e) {
+            error = toGroupError(e);
+        }
+        request.complete(
+                new HeartbeatResponse(new HeartbeatResponseData().setErrorCode(error.code())));
+    }
 
-    void handleLeaveGroupRequest(KafkaRequest request) {}
+    void handleLeaveGroupRequest(KafkaRequest request) {
+        LeaveGroupRequest leaveGroupRequest = request.request();
+        List<LeaveGroupRequestData.MemberIdentity> members = leaveGroupRequest.members();
+        Map<String, Errors> errors;
+        try {
+            errors =
+                    groupCoordinator.leaveGroup(
+                            leaveGroupRequest.data().groupId(),
+                            members.stream()
+                                    .map(LeaveGroupRequestData.MemberIdentity::memberId)
+                                    .collect(Collectors.toList()));
+        } catch (Exception e) {
+            completeWithError(request, e);
+            return;
+        }
+        List<LeaveGroupResponseData.MemberResponse> memberResponses = new ArrayList<>();
+        for (LeaveGroupRequestData.MemberIdentity member : members) {
+            memberResponses.add(
+                    new LeaveGroupResponseData.MemberResponse()
+                            .setMemberId(member.memberId())
+                            .setGroupInstanceId(member.groupInstanceId())
+                            .setErrorCode(errors.get(member.memberId()).code()));
+        }
+        request.complete(
+                new LeaveGroupResponse(memberResponses, Errors.NONE, 0, request.apiVersion()));
+    }
 
     void handleDescribeGroupsRequest(KafkaRequest request) {}
 
@@ -218,7 +919,10 @@ public class KafkaRequestHandler implements RequestHandler<KafkaRequest> {
 
     void handleCreateTopicsRequest(KafkaRequest request) {}
 
-    void handleInitProducerIdRequest(KafkaRequest request) {}
+    void handleInitProducerIdRequest(KafkaRequest request) {
+        // idempotent and transactional producers are not supported yet
+        handleUnsupportedRequest(request);
+    }
 
     void handleAddPartitionsToTxnRequest(KafkaRequest request) {}
 
@@ -243,4 +947,193 @@ public class KafkaRequestHandler implements RequestHandler<KafkaRequest> {
     void handleCreatePartitionsRequest(KafkaRequest request) {}
 
     void handleDescribeClusterRequest(KafkaRequest request) {}
+
+    // ------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the session of the request. SASL isn't supported yet, so the Kafka clients are
+     * anonymous.
+     */
+    private static Session toSession(KafkaRequest request) {
+        SocketAddress address = request.ctx().channel().remoteAddress();
+        InetAddress inetAddress =
+                address instanceof InetSocketAddress
+                        ? ((InetSocketAddress) address).getAddress()
+                        : null;
+        return new Session(
+                request.apiVersion(),
+                request.listenerName(),
+                false,
+                inetAddress,
+                FlussPrincipal.ANONYMOUS);
+    }
+
+    /** Authorizes the operation on the table of the given topic, returns the error if denied. */
+    private ApiError authorizeTopic(Session session, OperationType operationType, String topic) {
+        try {
+            context.authorizeTable(session, operationType, new TablePath(database, topic));
+            return ApiError.NONE;
+        } catch (Exception e) {
+            return ApiError.fromThrowable(e);
+        }
+    }
+
+    /**
+     * Authorizes the operation on the table storing the committed offsets of the groups, and
+     * completes the request with the group authorization error if denied.
+     */
+    private boolean authorizeOffsetsTable(KafkaRequest request, OperationType operationType) {
+        try {
+            context.authorizeTable(
+                    toSession(request), operationType, groupCoordinator.getOffsetsTablePath());
+            return true;
+        } catch (Exception e) {
+            AbstractRequest abstractRequest = request.request();
+            request.complete(
+                    abstractRequest.getErrorResponse(
+                            Errors.GROUP_AUTHORIZATION_FAILED.exception()));
+            return false;
+        }
+    }
+
+    /** Returns the bucket of the table backing the given topic partition. */
+    private TableBucket toTableBucket(TopicPartition tp) {
+        OptionalLong tableId = metadataCache.getTableId(new TablePath(database, tp.topic()));
+        if (!tableId.isPresent()) {
+            throw new UnknownTableOrBucketException(
+                    String.format("Topic %s doesn't exist in database %s.", tp.topic(), database));
+        }
+        return new TableBucket(tableId.getAsLong(), tp.partition());
+    }
+
+    /** Completes the group request with the error response of the group coordinator error. */
+    private static void completeWithError(KafkaRequest request, Throwable t) {
+        AbstractRequest abstractRequest = request.request();
+        request.complete(abstractRequest.getErrorResponse(toGroupError(t).exception()));
+    }
+
+    private static Errors toGroupError(Throwable t) {
+        return Errors.forException(ExceptionUtils.stripCompletionException(t));
+    }
+
+    private Replica getLeaderReplica(TableBucket tb) {
+        Replica replica = replicaManager.getReplicaOrException(tb);
+        if (!replica.isLeader()) {
+            throw new NotLeaderOrFollowerException(
+                    String.format("Leader not local for bucket %s on this server.", tb));
+        }
+        return replica;
+    }
+
+    private static ProduceResponseData.PartitionProduceResponse makePartitionProduceResponse(
+            TopicPartition tp, ApiError error, long baseOffset) {
+        return makePartitionProduceResponse(tp, toKafkaError(error), error.message(), baseOffset);
+    }
+
+    private static ProduceResponseData.PartitionProduceResponse makePartitionProduceResponse(
+            TopicPartition tp, Errors error, @Nullable String errorMessage, long baseOffset) {
+        return new ProduceResponseData.PartitionProduceResponse()
+                .setIndex(tp.partition())
+                .setErrorCode(error.code())
+                .setErrorMessage(error == Errors.NONE ? null : errorMessage)
+                .setBaseOffset(error == Errors.NONE ? baseOffset : -1L);
+    }
+
+    private static ProduceResponse makeProduceResponse(
+            Map<TopicPartition, ProduceResponseData.PartitionProduceResponse> responses) {
+        ProduceResponseData data = new ProduceResponseData();
+        responses.forEach(
+                (tp, response) -> {
+                    ProduceResponseData.TopicProduceResponse topicResponse =
+                            data.responses().find(tp.topic());
+                    if (topicResponse == null) {
+                        topicResponse =
+                                new ProduceResponseData.TopicProduceResponse().setName(tp.topic());
+                        data.responses().add(topicResponse);
+                    }
+                    topicResponse.partitionResponses().add(response);
+                });
+        return new ProduceResponse(data);
+    }
+
+    private static FetchResponseData.PartitionData makeFetchPartitionData(
+            TopicPartition tp, ApiError error) {
+        return new FetchResponseData.PartitionData()
+                .setPartitionIndex(tp.partition())
+                .setErrorCode(toKafkaError(error).code())
+                .setHighWatermark(FetchResponse.INVALID_HIGH_WATERMARK)
+                .setRecords(MemoryRecords.EMPTY);
+    }
+
+    private static FetchResponse makeFetchResponse(
+            Map<TopicPartition, FetchResponseData.PartitionData> responses) {
+        Map<String, FetchResponseData.FetchableTopicResponse> topicResponses =
+                new LinkedHashMap<>();
+        responses.forEach(
+                (tp, response) ->
+                        topicResponses
+                                .computeIfAbsent(
+                                        tp.topic(),
+                                        topic ->
+                                                new FetchResponseData.FetchableTopicResponse()
+                                                        .setTopic(topic))
+                                .partitions()
+                                .add(response));
+        // fetch sessions are not supported, the clients send full fetch requests if the
+        // session id of the response is invalid
+        return new FetchResponse(
+                new FetchResponseData()
+                        .setErrorCode(Errors.NONE.code())
+                        .setSessionId(FetchMetadata.INVALID_SESSION_ID)
+                        .setResponses(new ArrayList<>(topicResponses.values())));
+    }
+
+    private static ListOffsetsResponseData.ListOffsetsPartitionResponse
+            makeListOffsetsPartitionResponse(TopicPartition tp, ApiError error, long offset) {
+        return new ListOffsetsResponseData.ListOffsetsPartitionResponse()
+                .setPartitionIndex(tp.partition())
+                .setErrorCode(toKafkaError(error).code())
+                .setTimestamp(ListOffsetsResponse.UNKNOWN_TIMESTAMP)
+                .setOffset(error.isFailure() ? ListOffsetsResponse.UNKNOWN_OFFSET : offset);
+    }
+
+    /** Converts the Fluss error to the closest Kafka error. */
+    static Errors toKafkaError(ApiError error) {
+        switch (error.error()) {
+            case NONE:
+                return Errors.NONE;
+            case NOT_LEADER_OR_FOLLOWER:
+            case LEADER_NOT_AVAILABLE_EXCEPTION:
+                return Errors.NOT_LEADER_OR_FOLLOWER;
+            case UNKNOWN_TABLE_OR_BUCKET_EXCEPTION:
+            case TABLE_NOT_EXIST:
+                return Errors.UNKNOWN_TOPIC_OR_PARTITION;
+            case INVALID_TABLE_EXCEPTION:
+            case NON_PRIMARY_KEY_TABLE_EXCEPTION:
+                return Errors.INVALID_TOPIC_EXCEPTION;
+            case LOG_OFFSET_OUT_OF_RANGE_EXCEPTION:
+                return Errors.OFFSET_OUT_OF_RANGE;
+            case FENCED_LEADER_EPOCH_EXCEPTION:
+                return Errors.FENCED_LEADER_EPOCH;
+            case REQUEST_TIME_OUT:
+                return Errors.REQUEST_TIMED_OUT;
+            case NOT_ENOUGH_REPLICAS_EXCEPTION:
+                return Errors.NOT_ENOUGH_REPLICAS;
+            case NOT_ENOUGH_REPLICAS_AFTER_APPEND_EXCEPTION:
+                return Errors.NOT_ENOUGH_REPLICAS_AFTER_APPEND;
+            case RECORD_TOO_LARGE_EXCEPTION:
+                return Errors.MESSAGE_TOO_LARGE;
+            case CORRUPT_MESSAGE:
+            case CORRUPT_RECORD_EXCEPTION:
+                return Errors.CORRUPT_MESSAGE;
+            case INVALID_REQUIRED_ACKS:
+                return Errors.INVALID_REQUIRED_ACKS;
+            case INVALID_TIMESTAMP_EXCEPTION:
+                return Errors.INVALID_TIMESTAMP;
+            case AUTHORIZATION_EXCEPTION:
+                return Errors.TOPIC_AUTHORIZATION_FAILED;
+            default:
+                return Errors.UNKNOWN_SERVER_ERROR;
+        }
+    }
 }
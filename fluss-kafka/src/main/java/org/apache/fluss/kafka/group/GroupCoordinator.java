@@ -0,0 +1,599 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.kafka.group;
+
+import org.apache.fluss.cluster.ServerNode;
+import org.apache.fluss.kafka.group.GroupOffsetsStore.OffsetsTable;
+import org.apache.fluss.metadata.TableBucket;
+import org.apache.fluss.metadata.TablePath;
+import org.apache.fluss.rpc.gateway.CoordinatorGateway;
+import org.apache.fluss.rpc.protocol.ApiError;
+import org.apache.fluss.server.metadata.TabletServerMetadataCache;
+import org.apache.fluss.server.replica.Replica;
+import org.apache.fluss.server.replica.ReplicaManager;
+import org.apache.fluss.utils.ExceptionUtils;
+import org.apache.fluss.utils.clock.Clock;
+import org.apache.fluss.utils.clock.SystemClock;
+import org.apache.fluss.utils.concurrent.ExecutorThreadFactory;
+import org.apache.fluss.utils.concurrent.FutureUtils;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.ApiException;
+import org.apache.kafka.common.message.JoinGroupResponseData;
+import org.apache.kafka.common.message.SyncGroupResponseData;
+import org.apache.kafka.common.protocol.Errors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The coordinator of the Kafka consumer groups of the classic group protocol, see Kafka's {@code
+ * GroupCoordinator}.
+ *
+ * <p>The coordinator of a group is the tablet server leading the bucket of the group in the
+ * internal offsets table, see {@link GroupOffsetsStore}. The membership of the groups is kept in
+ * memory only, the members rejoin the group if the leadership of the bucket moves to another
+ * server. The committed offsets are written to the offsets table and are cached in memory once
+ * loaded from the table.
+ *
+ * <p>The methods of the coordinator fail with the Kafka {@link ApiException} of the error to
+ * respond to the clients.
+ */
+@ThreadSafe
+public class GroupCoordinator implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GroupCoordinator.class);
+
+    private static final long EXPIRATION_CHECK_INTERVAL_MS = 500L;
+
+    private final GroupOffsetsStore offsetsStore;
+    private final ReplicaManager replicaManager;
+    private final TabletServerMetadataCache metadataCache;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler;
+
+    private final Map<String, GroupMetadata> groups = new ConcurrentHashMap<>();
+
+    public GroupCoordinator(
+            String database,
+            int offsetsTableBuckets,
+            int offsetsTableReplicationFactor,
+            int offsetsCommitTimeoutMs,
+            ReplicaManager replicaManager,
+            TabletServerMetadataCache metadataCache,
+            CoordinatorGateway coordinatorGateway) {
+        this.offsetsStore =
+                new GroupOffsetsStore(
+                        database,
+                        offsetsTableBuckets,
+                        offsetsTableReplicationFactor,
+                        offsetsCommitTimeoutMs,
+                        replicaManager,
+                        metadataCache,
+                        coordinatorGateway);
+        this.replicaManager = replicaManager;
+        this.metadataCache = metadataCache;
+        this.clock = SystemClock.getInstance();
+        this.scheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        new ExecutorThreadFactory("kafka-group-coordinator"));
+        scheduler.scheduleWithFixedDelay(
+                this::expireMembers,
+                EXPIRATION_CHECK_INTERVAL_MS,
+                EXPIRATION_CHECK_INTERVAL_MS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /** Returns the path of the table storing the committed offsets of the groups. */
+    public TablePath getOffsetsTablePath() {
+        return offsetsStore.getTablePath();
+    }
+
+    /** Returns the server coordinating the given group, reachable by the given listener. */
+    public ServerNode findCoordinator(String groupId, String listenerName) {
+        OffsetsTable table =
+                offsetsStore
+                        .getOffsetsTable()
+                        .orElseThrow(Errors.COORDINATOR_NOT_AVAILABLE::exception);
+        TableBucket bucket = table.bucketOf(groupId);
+        return metadataCache
+                .getBucketMetadata(bucket)
+                .flatMap(
+                        bucketMetadata ->
+                                bucketMetadata.getLeaderId().isPresent()
+                                        ? metadataCache.getTabletServer(
+                                                bucketMetadata.getLeaderId().getAsInt(),
+                                                listenerName)
+                                        : Optional.empty())
+                .orElseThrow(Errors.COORDINATOR_NOT_AVAILABLE::exception);
+    }
+
+    public CompletableFuture<JoinGroupResponseData> joinGroup(
+            String groupId,
+            String memberId,
+            String clientId,
+            String protocolType,
+            LinkedHashMap<String, byte[]> protocols,
+            int sessionTimeoutMs,
+            int rebalanceTimeoutMs) {
+        CompletableFuture<JoinGroupResponseData> future = new CompletableFuture<>();
+        try {
+            if (sessionTimeoutMs <= 0) {
+                throw Errors.INVALID_SESSION_TIMEOUT.exception();
+            }
+            GroupMetadata group = getGroup(groupId);
+            synchronized (group) {
+                if (!group.supportsProtocols(protocolType, protocols.keySet())) {
+                    throw Errors.INCONSISTENT_GROUP_PROTOCOL.exception();
+                }
+                MemberMetadata member;
+                if (memberId.isEmpty()) {
+                    member =
+                            new MemberMetadata(
+                                    clientId + "-" + UUID.randomUUID(),
+                                    protocolType,
+                                    sessionTimeoutMs,
+                                    rebalanceTimeoutMs,
+                                    protocols);
+                    group.add(member);
+                } else {
+                    member = group.member(memberId);
+                    if (member == null) {
+                        throw Errors.UNKNOWN_MEMBER_ID.exception();
+                    }
+                    member.update(sessionTimeoutMs, rebalanceTimeoutMs, protocols);
+                }
+                member.heartbeat(clock.milliseconds());
+                member.setAwaitingJoin(future);
+                if (group.state() != GroupMetadata.State.PREPARING_REBALANCE) {
+                    prepareRebalance(group);
+                }
+                maybeCompleteJoin(group);
+            }
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    public CompletableFuture<SyncGroupResponseData> syncGroup(
+            String groupId, int generationId, String memberId, Map<String, byte[]> assignments) {
+        CompletableFuture<SyncGroupResponseData> future = new CompletableFuture<>();
+        try {
+            GroupMetadata group = getGroup(groupId);
+            synchronized (group) {
+                MemberMetadata member = getMember(group, memberId, generationId);
+                switch (group.state()) {
+                    case PREPARING_REBALANCE:
+                        throw Errors.REBALANCE_IN_PROGRESS.exception();
+                    case COMPLETING_REBALANCE:
+                        member.setAwaitingSync(future);
+                        if (group.isLeader(memberId)) {
+                            for (MemberMetadata groupMember : group.members()) {
+                                groupMember.setAssignment(assignments.get(groupMember.memberId()));
+                            }
+                            group.transitionTo(GroupMetadata.State.STABLE);
+                            for (MemberMetadata groupMember : group.members()) {
+                                groupMember.completeSync(makeSyncResponse(group, groupMember));
+                            }
+                        }
+                        break;
+                    case STABLE:
+                        future.complete(makeSyncResponse(group, member));
+                        break;
+                    default:
+                        throw Errors.UNKNOWN_MEMBER_ID.exception();
+                }
+            }
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    public void heartbeat(String groupId, String memberId, int generationId) {
+        GroupMetadata group = getGroup(groupId);
+        synchronized (group) {
+            MemberMetadata member = group.member(memberId);
+            if (member == null) {
+                throw Errors.UNKNOWN_MEMBER_ID.exception();
+            }
+            member.heartbeat(clock.milliseconds());
+            if (generationId != group.generationId()) {
+                throw Errors.ILLEGAL_GENERATION.exception();
+            }
+            if (group.state() == GroupMetadata.State.PREPARING_REBALANCE) {
+                throw Errors.REBALANCE_IN_PROGRESS.exception();
+            }
+        }
+    }
+
+    /** Removes the given members from the group, and returns the error of each member. */
+    public Map<String, Errors> leaveGroup(String groupId, List<String> memberIds) {
+        GroupMetadata group = getGroup(groupId);
+        Map<String, Errors> errors = new LinkedHashMap<>();
+        synchronized (group) {
+            for (String memberId : memberIds) {
+                MemberMetadata member = group.member(memberId);
+                if (member == null) {
+                    errors.put(memberId, Errors.UNKNOWN_MEMBER_ID);
+                } else {
+                    removeMember(group, member);
+                    errors.put(memberId, Errors.NONE);
+                }
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * Commits the offsets of the given group. A negative generation id commits the offsets of a
+     * group without members, which is what the consumers of manually assigned partitions do.
+     */
+    public CompletableFuture<Void> commitOffsets(
+            String groupId,
+            String memberId,
+            int generationId,
+            Map<TopicPartition, OffsetAndMetadata> offsets) {
+        GroupMetadata group;
+        try {
+            group = getGroup(groupId);
+            synchronized (group) {
+                if (generationId >= 0 || group.hasMembers()) {
+                    getMember(group, memberId, generationId);
+                    if (group.state() == GroupMetadata.State.COMPLETING_REBALANCE) {
+                        throw Errors.REBALANCE_IN_PROGRESS.exception();
+                    }
+                }
+            }
+        } catch (Exception e) {
+            return FutureUtils.completedExceptionally(e);
+        }
+
+        long commitTimestamp = clock.milliseconds();
+        return ensureOffsetsLoaded(group)
+                .thenCompose(
+                        ignored ->
+                                offsetsStore.commit(
+                                        group.offsetsTable(),
+                                        group.bucket(),
+                                        groupId,
+                                        offsets,
+                                        commitTimestamp))
+                .handle(
+                        (ignored, t) -> {
+                            if (t != null) {
+                                throw toCoordinatorError(t);
+                            }
+                            synchronized (group) {
+                                group.offsets().putAll(offsets);
+                            }
+                            return null;
+                        });
+    }
+
+    /**
+     * Fetches the committed offsets of the given group, of all the partitions if the given
+     * partitions are null. The partitions without committed offsets are absent in the result.
+     */
+    public CompletableFuture<Map<TopicPartition, OffsetAndMetadata>> fetchOffsets(
+            String groupId, @Nullable Collection<TopicPartition> partitions) {
+        GroupMetadata group;
+        try {
+            group = getGroup(groupId);
+        } catch (Exception e) {
+            return FutureUtils.completedExceptionally(e);
+        }
+        return ensureOffsetsLoaded(group)
+                .handle(
+                        (ignored, t) -> {
+                            if (t != null) {
+                                throw toCoordinatorError(t);
+                            }
+                            synchronized (group) {
+                                if (partitions == null) {
+                                    return new HashMap<>(group.offsets());
+                                }
+                                Map<TopicPartition, OffsetAndMetadata> result = new HashMap<>();
+                                for (TopicPartition tp : partitions) {
+                                    OffsetAndMetadata offset = group.offsets().get(tp);
+                                    if (offset != null) {
+                                        result.put(tp, offset);
+                                    }
+                                }
+                                return result;
+                            }
+                        });
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        for (GroupMetadata group : groups.values()) {
+            unloadGroup(group);
+        }
+        groups.clear();
+    }
+
+    // ------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the group coordinated by this server, the group is reloaded if the leadership of its
+     * bucket changed since it was loaded.
+     */
+    private GroupMetadata getGroup(String groupId) {
+        if (groupId == null || groupId.isEmpty()) {
+            throw Errors.INVALID_GROUP_ID.exception();
+        }
+        OffsetsTable table =
+                offsetsStore
+                        .getOffsetsTable()
+                        .orElseThrow(Errors.COORDINATOR_NOT_AVAILABLE::exception);
+        TableBucket bucket = table.bucketOf(groupId);
+        int leaderEpoch = getLeaderEpoch(bucket);
+        while (true) {
+            GroupMetadata group = groups.get(groupId);
+            if (group != null
+                    && group.bucket().equals(bucket)
+                    && group.leaderEpoch() == leaderEpoch) {
+                return group;
+            }
+            GroupMetadata newGroup = new GroupMetadata(groupId, table, bucket, leaderEpoch);
+            if (group == null) {
+                if (groups.putIfAbsent(groupId, newGroup) == null) {
+                    return newGroup;
+                }
+            } else if (groups.replace(groupId, group, newGroup)) {
+                unloadGroup(group);
+                return newGroup;
+            }
+        }
+    }
+
+    /** Returns the leader epoch of the given bucket if this server is the leader of the bucket. */
+    private int getLeaderEpoch(TableBucket bucket) {
+        Replica replica;
+        try {
+            replica = replicaManager.getReplicaOrException(bucket);
+        } catch (Exception e) {
+            throw Errors.NOT_COORDINATOR.exception();
+        }
+        if (!replica.isLeader()) {
+            throw Errors.NOT_COORDINATOR.exception();
+        }
+        return replica.getLeaderEpoch();
+    }
+
+    private static MemberMetadata getMember(
+            GroupMetadata group, String memberId, int generationId) {
+        MemberMetadata member = group.member(memberId);
+        if (member == null) {
+            throw Errors.UNKNOWN_MEMBER_ID.exception();
+        }
+        if (generationId != group.generationId()) {
+            throw Errors.ILLEGAL_GENERATION.exception();
+        }
+        return member;
+    }
+
+    private void prepareRebalance(GroupMetadata group) {
+        if (group.state() == GroupMetadata.State.COMPLETING_REBALANCE) {
+            // the assignments of the generation are never synced
+            for (MemberMetadata member : group.members()) {
+                member.failSync(Errors.REBALANCE_IN_PROGRESS.exception());
+            }
+        }
+        group.transitionTo(GroupMetadata.State.PREPARING_REBALANCE);
+        int generationId = group.generationId();
+        group.setRebalanceTimeout(
+                scheduler.schedule(
+                        () -> onRebalanceTimeout(group, generationId),
+                        group.rebalanceTimeoutMs(),
+                        TimeUnit.MILLISECONDS));
+    }
+
+    private void maybeCompleteJoin(GroupMetadata group) {
+        if (group.state() == GroupMetadata.State.PREPARING_REBALANCE
+                && group.allMembersAwaitingJoin()) {
+            completeJoin(group);
+        }
+    }
+
+    private void onRebalanceTimeout(GroupMetadata group, int generationId) {
+        synchronized (group) {
+            if (group.state() != GroupMetadata.State.PREPARING_REBALANCE
+                    || group.generationId() != generationId) {
+                return;
+            }
+            // the members not rejoining in time are removed from the group
+            for (MemberMetadata member : new ArrayList<>(group.members())) {
+                if (!member.isAwaitingJoin()) {
+                    LOG.info(
+                            "Member {} of group {} failed to rejoin before the rebalance timeout.",
+                            member.memberId(),
+                            group.groupId());
+                    group.remove(member.memberId());
+                }
+            }
+            completeJoin(group);
+        }
+    }
+
+    private void completeJoin(GroupMetadata group) {
+        group.setRebalanceTimeout(null);
+        group.initNextGeneration();
+        if (group.state() == GroupMetadata.State.EMPTY) {
+            return;
+        }
+        LOG.info(
+                "Group {} stabilized with generation {} of {} members.",
+                group.groupId(),
+                group.generationId(),
+                group.members().size());
+        long now = clock.milliseconds();
+        for (MemberMetadata member : group.members()) {
+            member.heartbeat(now);
+            member.completeJoin(
+                    new JoinGroupResponseData()
+                            .setErrorCode(Errors.NONE.code())
+                            .setGenerationId(group.generationId())
+                            .setProtocolType(group.protocolType())
+                            .setProtocolName(group.protocolName())
+                            .setLeader(group.leaderId())
+                            .setMemberId(member.memberId())
+                            .setMembers(
+                                    group.isLeader(member.memberId())
+                                            ? group.memberMetadata()
+                                            : new ArrayList<>()));
+        }
+    }
+
+    private void removeMember(GroupMetadata group, MemberMetadata member) {
+        member.failJoin(Errors.UNKNOWN_MEMBER_ID.exception());
+        member.failSync(Errors.UNKNOWN_MEMBER_ID.exception());
+        group.remove(member.memberId());
+        switch (group.state()) {
+            case STABLE:
+            case COMPLETING_REBALANCE:
+                prepareRebalance(group);
+                maybeCompleteJoin(group);
+                break;
+            case PREPARING_REBALANCE:
+                maybeCompleteJoin(group);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void expireMembers() {
+        long now = clock.milliseconds();
+        for (GroupMetadata group : groups.values()) {
+            try {
+                if (getLeaderEpoch(group.bucket()) != group.leaderEpoch()) {
+                    throw Errors.NOT_COORDINATOR.exception();
+                }
+            } catch (ApiException e) {
+                // the group is loaded again by the next request if this server leads it again
+                if (groups.remove(group.groupId(), group)) {
+                    unloadGroup(group);
+                }
+                continue;
+            }
+            synchronized (group) {
+                for (MemberMetadata member : new ArrayList<>(group.members())) {
+                    if (!member.isAwaitingJoin() && member.isSessionExpired(now)) {
+                        LOG.info(
+                                "Member {} of group {} has failed, removing it from the group.",
+                                member.memberId(),
+                                group.groupId());
+                        removeMember(group, member);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void unloadGroup(GroupMetadata group) {
+        synchronized (group) {
+            group.setRebalanceTimeout(null);
+            for (MemberMetadata member : group.members()) {
+                member.failJoin(Errors.NOT_COORDINATOR.exception());
+                member.failSync(Errors.NOT_COORDINATOR.exception());
+            }
+        }
+    }
+
+    /** Loads the committed offsets of the group from the offsets table if not loaded yet. */
+    private CompletableFuture<Void> ensureOffsetsLoaded(GroupMetadata group) {
+        CompletableFuture<Void> offsetsLoad;
+        synchronized (group) {
+            offsetsLoad = group.offsetsLoad();
+            if (offsetsLoad != null && !offsetsLoad.isCompletedExceptionally()) {
+                return offsetsLoad;
+            }
+            offsetsLoad = new CompletableFuture<>();
+            group.setOffsetsLoad(offsetsLoad);
+        }
+        // the offsets store is called without holding the lock of the group, as its callbacks
+        // may be invoked by the threads holding the locks of the replicas
+        CompletableFuture<Void> result = offsetsLoad;
+        offsetsStore
+                .load(group.offsetsTable(), group.bucket(), group.groupId())
+                .whenComplete(
+                        (offsets, t) -> {
+                            if (t != null) {
+                                result.completeExceptionally(t);
+                                return;
+                            }
+                            synchronized (group) {
+                                group.offsets().putAll(offsets);
+                            }
+                            result.complete(null);
+                        });
+        return result;
+    }
+
+    private static SyncGroupResponseData makeSyncResponse(
+            GroupMetadata group, MemberMetadata member) {
+        return new SyncGroupResponseData()
+                .setErrorCode(Errors.NONE.code())
+                .setProtocolType(group.protocolType())
+                .setProtocolName(group.protocolName())
+                .setAssignment(member.assignment());
+    }
+
+    /** Converts the failure of the offsets store to the error of the group coordinator. */
+    private static ApiException toCoordinatorError(Throwable t) {
+        Throwable cause = ExceptionUtils.stripCompletionException(t);
+        if (cause instanceof ApiException) {
+            return (ApiException) cause;
+        }
+        switch (ApiError.fromThrowable(cause).error()) {
+            case NOT_LEADER_OR_FOLLOWER:
+            case UNKNOWN_TABLE_OR_BUCKET_EXCEPTION:
+            case FENCED_LEADER_EPOCH_EXCEPTION:
+                return Errors.NOT_COORDINATOR.exception();
+            case REQUEST_TIME_OUT:
+            case LEADER_NOT_AVAILABLE_EXCEPTION:
+            case NOT_ENOUGH_REPLICAS_EXCEPTION:
+            case NOT_ENOUGH_REPLICAS_AFTER_APPEND_EXCEPTION:
+                return Errors.COORDINATOR_NOT_AVAILABLE.exception();
+            default:
+                LOG.warn("Failed to access the Kafka consumer offsets table.", cause);
+                return Errors.UNKNOWN_SERVER_ERROR.exception();
+        }
+    }
+}
@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.kafka.group;
+
+import org.apache.fluss.kafka.group.GroupOffsetsStore.OffsetsTable;
+import org.apache.fluss.metadata.TableBucket;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.message.JoinGroupResponseData;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * The membership and the committed offsets of a Kafka consumer group, which are only accessed while
+ * holding the lock of the group.
+ *
+ * <p>The group is bound to the leader epoch of the offsets table bucket it is loaded from, a group
+ * of a stale epoch is discarded and loaded again.
+ */
+@NotThreadSafe
+final class GroupMetadata {
+
+    /** The state of a group, see Kafka's {@code GroupState} of the classic group protocol. */
+    enum State {
+        /** The group has no members. */
+        EMPTY,
+        /** The group is waiting for the members to join the next generation. */
+        PREPARING_REBALANCE,
+        /** The group is waiting for the leader to sync the assignments of the generation. */
+        COMPLETING_REBALANCE,
+        /** The assignments of the generation are synced to the members. */
+        STABLE
+    }
+
+    private final String groupId;
+    private final OffsetsTable offsetsTable;
+    private final TableBucket bucket;
+    private final int leaderEpoch;
+
+    private final LinkedHashMap<String, MemberMetadata> members = new LinkedHashMap<>();
+    private final Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+
+    private State state = State.EMPTY;
+    private int generationId = 0;
+    @Nullable private String protocolType;
+    @Nullable private String protocolName;
+    @Nullable private String leaderId;
+    @Nullable private ScheduledFuture<?> rebalanceTimeout;
+    @Nullable private CompletableFuture<Void> offsetsLoad;
+
+    GroupMetadata(String groupId, OffsetsTable offsetsTable, TableBucket bucket, int leaderEpoch) {
+        this.groupId = groupId;
+        this.offsetsTable = offsetsTable;
+        this.bucket = bucket;
+        this.leaderEpoch = leaderEpoch;
+    }
+
+    String groupId() {
+        return groupId;
+    }
+
+    OffsetsTable offsetsTable() {
+        return offsetsTable;
+    }
+
+    TableBucket bucket() {
+        return bucket;
+    }
+
+    int leaderEpoch() {
+        return leaderEpoch;
+    }
+
+    State state() {
+        return state;
+    }
+
+    void transitionTo(State state) {
+        this.state = state;
+    }
+
+    int generationId() {
+        return generationId;
+    }
+
+    @Nullable
+    String protocolType() {
+        return protocolType;
+    }
+
+    @Nullable
+    String protocolName() {
+        return protocolName;
+    }
+
+    @Nullable
+    String leaderId() {
+        return leaderId;
+    }
+
+    boolean isLeader(String memberId) {
+        return memberId.equals(leaderId);
+    }
+
+    @Nullable
+    MemberMetadata member(String memberId) {
+        return members.get(memberId);
+    }
+
+    Collection<MemberMetadata> members() {
+        return members.values();
+    }
+
+    boolean hasMembers() {
+        return !members.isEmpty();
+    }
+
+    void add(MemberMetadata member) {
+        if (members.isEmpty()) {
+            protocolType = member.protocolType();
+        }
+        members.put(member.memberId(), member);
+    }
+
+    void remove(String memberId) {
+        members.remove(memberId);
+        if (memberId.equals(leaderId)) {
+            leaderId = members.isEmpty() ? null : members.keySet().iterator().next();
+        }
+    }
+
+    /** Returns true if a member of the given protocols can join the group. */
+    boolean supportsProtocols(String memberProtocolType, Set<String> memberProtocols) {
+        if (memberProtocolType == null
+                || memberProtocolType.isEmpty()
+                || memberProtocols.isEmpty()) {
+            return false;
+        }
+        if (members.isEmpty()) {
+            return true;
+        }
+        if (!memberProtocolType.equals(protocolType)) {
+            return false;
+        }
+        Set<String> candidates = candidateProtocols();
+        candidates.retainAll(memberProtocols);
+        return !candidates.isEmpty();
+    }
+
+    /** Returns true if all the members are waiting for the next generation. */
+    boolean allMembersAwaitingJoin() {
+        for (MemberMetadata member : members.values()) {
+            if (!member.isAwaitingJoin()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Returns the maximum rebalance timeout of the members. */
+    int rebalanceTimeoutMs() {
+        int timeoutMs = 0;
+        for (MemberMetadata member : members.values()) {
+            timeoutMs = Math.max(timeoutMs, member.rebalanceTimeoutMs());
+        }
+        return timeoutMs;
+    }
+
+    /**
+     * Starts the next generation with the current members. The protocol of the generation is the
+     * first protocol of the leader supported by all the members.
+     */
+    void initNextGeneration() {
+        generationId++;
+        if (members.isEmpty()) {
+            protocolName = null;
+            leaderId = null;
+            state = State.EMPTY;
+            return;
+        }
+        if (leaderId == null || !members.containsKey(leaderId)) {
+            leaderId = members.keySet().iterator().next();
+        }
+        Set<String> candidates = candidateProtocols();
+        protocolName = null;
+        for (String protocol : members.get(leaderId).protocolNames()) {
+            if (candidates.contains(protocol)) {
+                protocolName = protocol;
+                break;
+            }
+        }
+        state = State.COMPLETING_REBALANCE;
+    }
+
+    /** Returns the members with their metadata of the current protocol, sent to the leader. */
+    List<JoinGroupResponseData.JoinGroupResponseMember> memberMetadata() {
+        List<JoinGroupResponseData.JoinGroupResponseMember> result =
+                new ArrayList<>(members.size());
+        for (MemberMetadata member : members.values()) {
+            result.add(
+                    new JoinGroupResponseData.JoinGroupResponseMember()
+                            .setMemberId(member.memberId())
+                            .setMetadata(member.metadata(protocolName)));
+        }
+        return result;
+    }
+
+    private Set<String> candidateProtocols() {
+        Set<String> candidates = null;
+        for (MemberMetadata member : members.values()) {
+            if (candidates == null) {
+                candidates = new LinkedHashSet<>(member.protocolNames());
+            } else {
+                candidates.retainAll(member.protocolNames());
+            }
+        }
+        return candidates == null ? new LinkedHashSet<>() : candidates;
+    }
+
+    void setRebalanceTimeout(@Nullable ScheduledFuture<?> rebalanceTimeout) {
+        if (this.rebalanceTimeout != null) {
+            this.rebalanceTimeout.cancel(false);
+        }
+        this.rebalanceTimeout = rebalanceTimeout;
+    }
+
+    @Nullable
+    CompletableFuture<Void> offsetsLoad() {
+        return offsetsLoad;
+    }
+
+    void setOffsetsLoad(@Nullable CompletableFuture<Void> offsetsLoad) {
+        this.offsetsLoad = offsetsLoad;
+    }
+
+    Map<TopicPartition, OffsetAndMetadata> offsets() {
+        return offsets;
+    }
+}
@@ -0,0 +1,423 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.kafka.group;
+
+import org.apache.fluss.bucketing.BucketingFunction;
+import org.apache.fluss.memory.UnmanagedPagedOutputView;
+import org.apache.fluss.metadata.KvFormat;
+import org.apache.fluss.metadata.Schema;
+import org.apache.fluss.metadata.TableBucket;
+import org.apache.fluss.metadata.TableDescriptor;
+import org.apache.fluss.metadata.TableInfo;
+import org.apache.fluss.metadata.TablePath;
+import org.apache.fluss.record.DefaultKvRecordBatch;
+import org.apache.fluss.record.KvRecordBatch;
+import org.apache.fluss.record.KvRecordBatchBuilder;
+import org.apache.fluss.record.bytesview.BytesView;
+import org.apache.fluss.row.BinaryRow;
+import org.apache.fluss.row.BinaryString;
+import org.apache.fluss.row.GenericRow;
+import org.apache.fluss.row.TimestampLtz;
+import org.apache.fluss.row.encode.KeyEncoder;
+import org.apache.fluss.row.encode.RowEncoder;
+import org.apache.fluss.row.encode.ValueDecoder;
+import org.apache.fluss.rpc.entity.PrefixLookupResultForBucket;
+import org.apache.fluss.rpc.entity.PutKvResultForBucket;
+import org.apache.fluss.rpc.gateway.CoordinatorGateway;
+import org.apache.fluss.rpc.messages.CreateDatabaseRequest;
+import org.apache.fluss.rpc.messages.CreateTableRequest;
+import org.apache.fluss.rpc.protocol.ApiKeys;
+import org.apache.fluss.rpc.protocol.MergeMode;
+import org.apache.fluss.server.metadata.TableMetadata;
+import org.apache.fluss.server.metadata.TabletServerMetadataCache;
+import org.apache.fluss.server.replica.ReplicaManager;
+import org.apache.fluss.shaded.netty4.io.netty.buffer.ByteBuf;
+import org.apache.fluss.types.DataTypes;
+import org.apache.fluss.types.RowType;
+
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Stores the committed offsets of the Kafka consumer groups in the internal primary key table
+ * {@link #OFFSETS_TABLE_NAME} of the Kafka database. The table is bucketed by the group id, so the
+ * offsets of a group are stored in a single bucket and can be loaded by a prefix lookup. The table
+ * is created by the coordinator server on the first request of a group.
+ *
+ * <p>The offsets committed to a bucket while a write to the bucket is in flight are accumulated and
+ * written in one batch once the in-flight write completes, so that the commits of many consumers
+ * share the replication round trips instead of being written one by one.
+ */
+@ThreadSafe
+class GroupOffsetsStore {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GroupOffsetsStore.class);
+
+    static final String OFFSETS_TABLE_NAME = "__consumer_offsets";
+
+    private static final String GROUP_ID_COLUMN = "group_id";
+    private static final Schema OFFSETS_TABLE_SCHEMA =
+            Schema.newBuilder()
+                    .column(GROUP_ID_COLUMN, DataTypes.STRING())
+                    .column("topic", DataTypes.STRING())
+                    .column("partition", DataTypes.INT())
+                    .column("offset", DataTypes.BIGINT())
+                    .column("leader_epoch", DataTypes.INT())
+                    .column("metadata", DataTypes.STRING())
+                    .column("commit_timestamp", DataTypes.TIMESTAMP_LTZ(3))
+                    .primaryKey(GROUP_ID_COLUMN, "topic", "partition")
+                    .build();
+
+    private static final int PAGE_SIZE_IN_BYTES = 64 * 1024;
+
+    private final TablePath tablePath;
+    private final int numBuckets;
+    private final int replicationFactor;
+    private final int commitTimeoutMs;
+    private final ReplicaManager replicaManager;
+    private final TabletServerMetadataCache metadataCache;
+    private final CoordinatorGateway coordinatorGateway;
+
+    private final AtomicBoolean creatingTable = new AtomicBoolean(false);
+
+    private final Object lock = new Object();
+
+    /** The commits waiting for the in-flight write of their bucket to complete. */
+    @GuardedBy("lock")
+    private final Map<TableBucket, List<PendingCommit>> pendingCommits = new HashMap<>();
+
+    @GuardedBy("lock")
+    private final Set<TableBucket> inflightBuckets = new HashSet<>();
+
+    @Nullable private volatile OffsetsTable offsetsTable;
+
+    GroupOffsetsStore(
+            String database,
+            int numBuckets,
+            int replicationFactor,
+            int commitTimeoutMs,
+            ReplicaManager replicaManager,
+            TabletServerMetadataCache metadataCache,
+            CoordinatorGateway coordinatorGateway) {
+        this.tablePath = TablePath.of(database, OFFSETS_TABLE_NAME);
+        this.numBuckets = numBuckets;
+        this.replicationFactor = replicationFactor;
+        this.commitTimeoutMs = commitTimeoutMs;
+        this.replicaManager = replicaManager;
+        this.metadataCache = metadataCache;
+        this.coordinatorGateway = coordinatorGateway;
+    }
+
+    TablePath getTablePath() {
+        return tablePath;
+    }
+
+    /**
+     * Returns the offsets table, or empty if the table isn't created yet, in which case the
+     * creation of the table is triggered.
+     */
+    Optional<OffsetsTable> getOffsetsTable() {
+        OptionalLong tableId = metadataCache.getTableId(tablePath);
+        Optional<TableMetadata> tableMetadata = metadataCache.getTableMetadata(tablePath);
+        if (!tableId.isPresent() || !tableMetadata.isPresent()) {
+            maybeCreateTable();
+            return Optional.empty();
+        }
+        OffsetsTable table = offsetsTable;
+        if (table == null || table.tableId != tableId.getAsLong()) {
+            table = new OffsetsTable(tableMetadata.get().getTableInfo());
+            offsetsTable = table;
+        }
+        return Optional.of(table);
+    }
+
+    private void maybeCreateTable() {
+        if (!creatingTable.compareAndSet(false, true)) {
+            return;
+        }
+        // the table is created by the coordinator server, which ignores the table if it is
+        // created concurrently by another tablet server
+        TableDescriptor tableDescriptor =
+                TableDescriptor.builder()
+                        .schema(OFFSETS_TABLE_SCHEMA)
+                        .distributedBy(numBuckets, GROUP_ID_COLUMN)
+                        .comment("The committed offsets of the Kafka consumer groups.")
+                        .build()
+                        .withReplicationFactor(replicationFactor);
+        CreateDatabaseRequest createDatabaseRequest =
+                new CreateDatabaseRequest()
+                        .setDatabaseName(tablePath.getDatabaseName())
+                        .setIgnoreIfExists(true);
+        CreateTableRequest createTableRequest =
+                new CreateTableRequest()
+                        .setTableJson(tableDescriptor.toJsonBytes())
+                        .setIgnoreIfExists(true);
+        createTableRequest
+                .setTablePath()
+                .setDatabaseName(tablePath.getDatabaseName())
+                .setTableName(tablePath.getTableName());
+        coordinatorGateway
+                .createDatabase(createDatabaseRequest)
+                .thenCompose(response -> coordinatorGateway.createTable(createTableRequest))
+                .whenComplete(
+                        (response, e) -> {
+                            creatingTable.set(false);
+                            if (e != null) {
+                                LOG.warn(
+                                        "Failed to create the Kafka consumer offsets table {}.",
+                                        tablePath,
+                                        e);
+                            } else {
+                                LOG.info("Created the Kafka consumer offsets table {}.", tablePath);
+                            }
+                        });
+    }
+
+    /**
+     * Writes the committed offsets of the given group to the bucket of the group. The returned
+     * future completes once the offsets are replicated to all the in-sync replicas.
+     */
+    CompletableFuture<Void> commit(
+            OffsetsTable table,
+            TableBucket bucket,
+            String groupId,
+            Map<TopicPartition, OffsetAndMetadata> offsets,
+            long commitTimestamp) {
+        PendingCommit commit = new PendingCommit(table.encode(groupId, offsets, commitTimestamp));
+        boolean writeNow;
+        synchronized (lock) {
+            writeNow = inflightBuckets.add(bucket);
+            if (!writeNow) {
+                pendingCommits.computeIfAbsent(bucket, b -> new ArrayList<>()).add(commit);
+            }
+        }
+        if (writeNow) {
+            write(table, bucket, Collections.singletonList(commit));
+        }
+        return commit.future;
+    }
+
+    private void write(OffsetsTable table, TableBucket bucket, List<PendingCommit> commits) {
+        try {
+            replicaManager.putRecordsToKv(
+                    commitTimeoutMs,
+                    -1,
+                    Collections.singletonMap(bucket, table.toKvRecordBatch(commits)),
+                    null,
+                    MergeMode.DEFAULT,
+                    ApiKeys.PUT_KV.highestSupportedVersion,
+                    results -> {
+                        PutKvResultForBucket result = results.get(0);
+                        for (PendingCommit commit : commits) {
+                            if (result.failed()) {
+                                commit.future.completeExceptionally(result.getError().exception());
+                            } else {
+                                commit.future.complete(null);
+                            }
+                        }
+                        writeNext(table, bucket);
+                    });
+        } catch (Exception e) {
+            commits.forEach(commit -> commit.future.completeExceptionally(e));
+            writeNext(table, bucket);
+        }
+    }
+
+    private void writeNext(OffsetsTable table, TableBucket bucket) {
+        List<PendingCommit> commits;
+        synchronized (lock) {
+            commits = pendingCommits.remove(bucket);
+            if (commits == null) {
+                inflightBuckets.remove(bucket);
+                return;
+            }
+        }
+        write(table, bucket, commits);
+    }
+
+    /** Loads all the committed offsets of the given group from the bucket of the group. */
+    CompletableFuture<Map<TopicPartition, OffsetAndMetadata>> load(
+            OffsetsTable table, TableBucket bucket, String groupId) {
+        CompletableFuture<Map<TopicPartition, OffsetAndMetadata>> future =
+                new CompletableFuture<>();
+        try {
+            ValueDecoder valueDecoder =
+                    new ValueDecoder(
+                            replicaManager.getReplicaOrException(bucket).getSchemaGetter(),
+                            table.kvFormat);
+            replicaManager.prefixLookups(
+                    Collections.singletonMap(
+                            bucket, Collections.singletonList(table.encodeGroupKey(groupId))),
+                    ApiKeys.PREFIX_LOOKUP.highestSupportedVersion,
+                    results -> {
+                        PrefixLookupResultForBucket result = results.get(bucket);
+                        if (result.failed()) {
+                            future.completeExceptionally(result.getError().exception());
+                            return;
+                        }
+                        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+                        for (byte[] value : result.prefixLookupValues().get(0)) {
+                            BinaryRow row = valueDecoder.decodeValue(value).row;
+                            offsets.put(
+                                    new TopicPartition(row.getString(1).toString(), row.getInt(2)),
+                                    new OffsetAndMetadata(
+                                            row.getLong(3),
+                                            row.isNullAt(4)
+                                                    ? Optional.empty()
+                                                    : Optional.of(row.getInt(4)),
+                                            row.isNullAt(5) ? "" : row.getString(5).toString()));
+                        }
+                        future.complete(offsets);
+                    });
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /** The offsets table of a table id, with the encoders of its keys and rows. */
+    static final class OffsetsTable {
+        private final long tableId;
+        private final int schemaId;
+        private final int numBuckets;
+        private final KvFormat kvFormat;
+        private final RowType rowType;
+        private final BucketingFunction bucketingFunction;
+
+        @GuardedBy("this")
+        private final KeyEncoder primaryKeyEncoder;
+
+        @GuardedBy("this")
+        private final KeyEncoder groupKeyEncoder;
+
+        private OffsetsTable(TableInfo tableInfo) {
+            this.tableId = tableInfo.getTableId();
+            this.schemaId = tableInfo.getSchemaId();
+            this.numBuckets = tableInfo.getNumBuckets();
+            this.kvFormat = tableInfo.getTableConfig().getKvFormat();
+            this.rowType = tableInfo.getRowType();
+            this.bucketingFunction = BucketingFunction.of(null);
+            this.primaryKeyEncoder =
+                    KeyEncoder.ofPrimaryKeyEncoder(
+                            rowType,
+                            tableInfo.getPhysicalPrimaryKeys(),
+                            tableInfo.getTableConfig(),
+                            tableInfo.isDefaultBucketKey());
+            // the group id is the bucket key and the prefix of the primary key, so the encoded
+            // group id is both the bucket key and the prefix lookup key
+            this.groupKeyEncoder =
+                    KeyEncoder.ofPrimaryKeyEncoder(
+                            rowType.project(Collections.singletonList(GROUP_ID_COLUMN)),
+                            tableInfo.getBucketKeys(),
+                            tableInfo.getTableConfig(),
+                            tableInfo.isDefaultBucketKey());
+        }
+
+        /** Returns the bucket storing the offsets of the given group. */
+        TableBucket bucketOf(String groupId) {
+            return new TableBucket(
+                    tableId, bucketingFunction.bucketing(encodeGroupKey(groupId), numBuckets));
+        }
+
+        private synchronized byte[] encodeGroupKey(String groupId) {
+            return groupKeyEncoder.encodeKey(GenericRow.of(BinaryString.fromString(groupId)));
+        }
+
+        private synchronized List<KvEntry> encode(
+                String groupId, Map<TopicPartition, OffsetAndMetadata> offsets, long timestamp) {
+            List<KvEntry> entries = new ArrayList<>(offsets.size());
+            for (Map.Entry<TopicPartition, OffsetAndMetadata> entry : offsets.entrySet()) {
+                TopicPartition tp = entry.getKey();
+                OffsetAndMetadata offset = entry.getValue();
+                GenericRow row =
+                        GenericRow.of(
+                                BinaryString.fromString(groupId),
+                                BinaryString.fromString(tp.topic()),
+                                tp.partition(),
+                                offset.offset(),
+                                offset.leaderEpoch().orElse(null),
+                                BinaryString.fromString(offset.metadata()),
+                                TimestampLtz.fromEpochMillis(timestamp));
+                entries.add(new KvEntry(primaryKeyEncoder.encodeKey(row), row));
+            }
+            return entries;
+        }
+
+        private KvRecordBatch toKvRecordBatch(List<PendingCommit> commits) throws Exception {
+            try (RowEncoder rowEncoder = RowEncoder.create(kvFormat, rowType);
+                    KvRecordBatchBuilder builder =
+                            KvRecordBatchBuilder.builder(
+                                    schemaId,
+                                    Integer.MAX_VALUE,
+                                    new UnmanagedPagedOutputView(PAGE_SIZE_IN_BYTES),
+                                    kvFormat)) {
+                for (PendingCommit commit : commits) {
+                    for (KvEntry entry : commit.entries) {
+                        rowEncoder.startNewRow();
+                        for (int i = 0; i < rowType.getFieldCount(); i++) {
+                            rowEncoder.encodeField(i, entry.row.getField(i));
+                        }
+                        builder.append(entry.key, rowEncoder.finishRow());
+                    }
+                }
+                BytesView batch = builder.build();
+                byte[] bytes = new byte[batch.getBytesLength()];
+                ByteBuf byteBuf = batch.getByteBuf();
+                byteBuf.getBytes(byteBuf.readerIndex(), bytes);
+                return DefaultKvRecordBatch.pointToBytes(bytes);
+            }
+        }
+    }
+
+    private static final class KvEntry {
+        private final byte[] key;
+        private final GenericRow row;
+
+        private KvEntry(byte[] key, GenericRow row) {
+            this.key = key;
+            this.row = row;
+        }
+    }
+
+    private static final class PendingCommit {
+        private final List<KvEntry> entries;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        private PendingCommit(List<KvEntry> entries) {
+            this.entries = entries;
+        }
+    }
+}
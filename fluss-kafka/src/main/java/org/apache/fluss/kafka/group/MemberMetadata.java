@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.kafka.group;
+
+import org.apache.kafka.common.message.JoinGroupResponseData;
+import org.apache.kafka.common.message.SyncGroupResponseData;
+import org.apache.kafka.common.protocol.Errors;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/** A member of a Kafka consumer group, only accessed while holding the lock of its group. */
+@NotThreadSafe
+final class MemberMetadata {
+
+    private static final byte[] EMPTY_ASSIGNMENT = new byte[0];
+
+    private final String memberId;
+    private final String protocolType;
+
+    private int sessionTimeoutMs;
+    private int rebalanceTimeoutMs;
+    /** The metadata of the supported protocols by name, in the order of preference. */
+    private LinkedHashMap<String, byte[]> protocols;
+
+    private byte[] assignment = EMPTY_ASSIGNMENT;
+    private long lastHeartbeatMs;
+    @Nullable private CompletableFuture<JoinGroupResponseData> awaitingJoin;
+    @Nullable private CompletableFuture<SyncGroupResponseData> awaitingSync;
+
+    MemberMetadata(
+            String memberId,
+            String protocolType,
+            int sessionTimeoutMs,
+            int rebalanceTimeoutMs,
+            LinkedHashMap<String, byte[]> protocols) {
+        this.memberId = memberId;
+        this.protocolType = protocolType;
+        this.sessionTimeoutMs = sessionTimeoutMs;
+        this.rebalanceTimeoutMs = rebalanceTimeoutMs;
+        this.protocols = protocols;
+    }
+
+    String memberId() {
+        return memberId;
+    }
+
+    String protocolType() {
+        return protocolType;
+    }
+
+    int sessionTimeoutMs() {
+        return sessionTimeoutMs;
+    }
+
+    int rebalanceTimeoutMs() {
+        return rebalanceTimeoutMs;
+    }
+
+    Set<String> protocolNames() {
+        return protocols.keySet();
+    }
+
+    byte[] metadata(String protocolName) {
+        byte[] metadata = protocols.get(protocolName);
+        return metadata == null ? EMPTY_ASSIGNMENT : metadata;
+    }
+
+    /** Updates the member with the metadata of a rejoin. */
+    void update(
+            int sessionTimeoutMs, int rebalanceTimeoutMs, LinkedHashMap<String, byte[]> protocols) {
+        this.sessionTimeoutMs = sessionTimeoutMs;
+        this.rebalanceTimeoutMs = rebalanceTimeoutMs;
+        this.protocols = protocols;
+    }
+
+    byte[] assignment() {
+        return assignment;
+    }
+
+    void setAssignment(@Nullable byte[] assignment) {
+        this.assignment = assignment == null ? EMPTY_ASSIGNMENT : assignment;
+    }
+
+    void heartbeat(long nowMs) {
+        this.lastHeartbeatMs = nowMs;
+    }
+
+    boolean isSessionExpired(long nowMs) {
+        return nowMs - lastHeartbeatMs > sessionTimeoutMs;
+    }
+
+    boolean isAwaitingJoin() {
+        return awaitingJoin != null;
+    }
+
+    void setAwaitingJoin(CompletableFuture<JoinGroupResponseData> awaitingJoin) {
+        // the previous join of the member is superseded by the new one
+        failJoin(Errors.UNKNOWN_MEMBER_ID.exception());
+        this.awaitingJoin = awaitingJoin;
+    }
+
+    void completeJoin(JoinGroupResponseData response) {
+        if (awaitingJoin != null) {
+            awaitingJoin.complete(response);
+            awaitingJoin = null;
+        }
+    }
+
+    void failJoin(Exception error) {
+        if (awaitingJoin != null) {
+            awaitingJoin.completeExceptionally(error);
+            awaitingJoin = null;
+        }
+    }
+
+    boolean isAwaitingSync() {
+        return awaitingSync != null;
+    }
+
+    void setAwaitingSync(CompletableFuture<SyncGroupResponseData> awaitingSync) {
+        this.awaitingSync = awaitingSync;
+    }
+
+    void completeSync(SyncGroupResponseData response) {
+        if (awaitingSync != null) {
+            awaitingSync.complete(response);
+            awaitingSync = null;
+        }
+    }
+
+    void failSync(Exception error) {
+        if (awaitingSync != null) {
+            awaitingSync.completeExceptionally(error);
+            awaitingSync = null;
+        }
+    }
+}
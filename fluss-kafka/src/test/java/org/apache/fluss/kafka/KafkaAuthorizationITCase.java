@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.kafka;
+
+import org.apache.fluss.cluster.ServerNode;
+import org.apache.fluss.config.ConfigOptions;
+import org.apache.fluss.config.Configuration;
+import org.apache.fluss.metadata.Schema;
+import org.apache.fluss.metadata.TableDescriptor;
+import org.apache.fluss.metadata.TablePath;
+import org.apache.fluss.rpc.netty.server.Session;
+import org.apache.fluss.security.acl.AccessControlEntry;
+import org.apache.fluss.security.acl.AclBinding;
+import org.apache.fluss.security.acl.FlussPrincipal;
+import org.apache.fluss.security.acl.OperationType;
+import org.apache.fluss.security.acl.PermissionType;
+import org.apache.fluss.security.acl.Resource;
+import org.apache.fluss.server.authorizer.Authorizer;
+import org.apache.fluss.server.testutils.FlussClusterExtension;
+import org.apache.fluss.types.DataTypes;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.GroupAuthorizationException;
+import org.apache.kafka.common.errors.TopicAuthorizationException;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import javax.annotation.Nullable;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.apache.fluss.security.acl.AccessControlEntry.WILD_CARD_HOST;
+import static org.apache.fluss.server.testutils.RpcMessageTestUtils.createTable;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** ITCase for the authorization of the Kafka requests served by the tablet servers. */
+class KafkaAuthorizationITCase {
+
+    private static final String KAFKA_LISTENER = "KAFKA";
+
+    @RegisterExtension
+    public static final FlussClusterExtension FLUSS_CLUSTER_EXTENSION =
+            FlussClusterExtension.builder()
+                    .setNumOfTabletServers(1)
+                    .setTabletServerListeners("FLUSS://localhost:0, KAFKA://localhost:0")
+                    .setClusterConf(initConfig())
+                    .build();
+
+    @BeforeAll
+    static void beforeAll() throws Exception {
+        Configuration conf = initConfig();
+        conf.set(ConfigOptions.KAFKA_ENABLED, true);
+        FLUSS_CLUSTER_EXTENSION.restartTabletServer(0, conf);
+        FLUSS_CLUSTER_EXTENSION.assertHasTabletServerNumber(1);
+    }
+
+    @Test
+    void testProduceAndFetchAuthorization() throws Exception {
+        String topic = "authorized_topic";
+        TablePath tablePath = TablePath.of(ConfigOptions.KAFKA_DATABASE.defaultValue(), topic);
+        long tableId = createTable(FLUSS_CLUSTER_EXTENSION, tablePath, topicDescriptor());
+        FLUSS_CLUSTER_EXTENSION.waitUntilTableReady(tableId);
+
+        // the Kafka clients are anonymous, which have no permission on the topic yet
+        try (KafkaProducer<String, String> producer = createProducer()) {
+            assertThatThrownBy(() -> producer.send(new ProducerRecord<>(topic, 0, "k", "v")).get())
+                    .hasCauseInstanceOf(TopicAuthorizationException.class);
+        }
+
+        grant(tablePath, OperationType.WRITE);
+        try (KafkaProducer<String, String> producer = createProducer()) {
+            assertThat(producer.send(new ProducerRecord<>(topic, 0, "k", "v")).get().offset())
+                    .isEqualTo(0L);
+        }
+
+        TopicPartition tp = new TopicPartition(topic, 0);
+        try (KafkaConsumer<String, String> consumer = createConsumer()) {
+            consumer.assign(Collections.singletonList(tp));
+            consumer.seekToBeginning(Collections.singletonList(tp));
+            // the offsets can be listed with the WRITE permission, but fetching requires READ
+            assertThatThrownBy(() -> consumer.poll(Duration.ofSeconds(10)))
+                    .isInstanceOf(TopicAuthorizationException.class);
+        }
+
+        grant(tablePath, OperationType.READ);
+        try (KafkaConsumer<String, String> consumer = createConsumer()) {
+            consumer.assign(Collections.singletonList(tp));
+            consumer.seekToBeginning(Collections.singletonList(tp));
+            List<ConsumerRecord<String, String>> records = new ArrayList<>();
+            long deadline = System.currentTimeMillis() + Duration.ofMinutes(1).toMillis();
+            while (records.isEmpty() && System.currentTimeMillis() < deadline) {
+                consumer.poll(Duration.ofMillis(500)).forEach(records::add);
+            }
+            assertThat(records).hasSize(1);
+            assertThat(records.get(0).value()).isEqualTo("v");
+        }
+    }
+
+    @Test
+    void testOffsetCommitAndFetchAuthorization() {
+        // the offsets of the groups are authorized on the internal offsets table, which is created
+        // by the coordinator server on the first request of a group
+        TablePath offsetsTablePath =
+                TablePath.of(ConfigOptions.KAFKA_DATABASE.defaultValue(), "__consumer_offsets");
+        TopicPartition tp = new TopicPartition("group_topic", 0);
+        Map<TopicPartition, OffsetAndMetadata> offsets =
+                Collections.singletonMap(tp, new OffsetAndMetadata(10L));
+        try (KafkaConsumer<String, String> consumer = createConsumer("authorized_group")) {
+            assertThatThrownBy(() -> consumer.commitSync(offsets, Duration.ofMinutes(1)))
+                    .isInstanceOf(GroupAuthorizationException.class);
+
+            grant(offsetsTablePath, OperationType.WRITE);
+            consumer.commitSync(offsets, Duration.ofMinutes(1));
+            assertThatThrownBy(
+                            () ->
+                                    consumer.committed(
+                                            Collections.singleton(tp), Duration.ofMinutes(1)))
+                    .isInstanceOf(GroupAuthorizationException.class);
+
+            grant(offsetsTablePath, OperationType.READ);
+            assertThat(consumer.committed(Collections.singleton(tp), Duration.ofMinutes(1)))
+                    .isEqualTo(offsets);
+        }
+    }
+
+    private static void grant(TablePath tablePath, OperationType operationType) {
+        List<AclBinding> aclBindings =
+                Collections.singletonList(
+                        new AclBinding(
+                                Resource.table(tablePath),
+                                new AccessControlEntry(
+                                        FlussPrincipal.ANONYMOUS,
+                                        WILD_CARD_HOST,
+                                        operationType,
+                                        PermissionType.ALLOW)));
+        Authorizer authorizer = FLUSS_CLUSTER_EXTENSION.getCoordinatorServer().getAuthorizer();
+        // the internal sessions are allowed to alter the acls
+        authorizer.addAcls(
+                new Session(
+                        (short) 0,
+                        "FLUSS",
+                        true,
+                        InetAddress.getLoopbackAddress(),
+                        FlussPrincipal.ANONYMOUS),
+                aclBindings);
+        FLUSS_CLUSTER_EXTENSION.waitUntilAuthenticationSync(aclBindings, true);
+    }
+
+    private static TableDescriptor topicDescriptor() {
+        return TableDescriptor.builder()
+                .schema(
+                        Schema.newBuilder()
+                                .column(KafkaRecordsConverter.KEY_COLUMN, DataTypes.BYTES())
+                                .column(KafkaRecordsConverter.VALUE_COLUMN, DataTypes.BYTES())
+                                .build())
+                .distributedBy(1)
+                .build();
+    }
+
+    private static String bootstrapServers() {
+        ServerNode node = FLUSS_CLUSTER_EXTENSION.getTabletServerNodes(KAFKA_LISTENER).get(0);
+        return node.host() + ":" + node.port();
+    }
+
+    private static KafkaProducer<String, String> createProducer() {
+        Properties props = new Properties();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers());
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, false);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
+        return new KafkaProducer<>(props);
+    }
+
+    private static KafkaConsumer<String, String> createConsumer() {
+        return createConsumer(null);
+    }
+
+    private static KafkaConsumer<String, String> createConsumer(@Nullable String groupId) {
+        Properties props = new Properties();
+        if (groupId != null) {
+            props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        }
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers());
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+        props.put(
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+        return new KafkaConsumer<>(props);
+    }
+
+    private static Configuration initConfig() {
+        Configuration conf = new Configuration();
+        conf.set(ConfigOptions.AUTHORIZER_ENABLED, true);
+        return conf;
+    }
+}
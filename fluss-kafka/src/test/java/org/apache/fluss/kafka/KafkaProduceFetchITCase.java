@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.kafka;
+
+import org.apache.fluss.cluster.ServerNode;
+import org.apache.fluss.config.ConfigOptions;
+import org.apache.fluss.config.Configuration;
+import org.apache.fluss.metadata.Schema;
+import org.apache.fluss.metadata.TableDescriptor;
+import org.apache.fluss.metadata.TablePath;
+import org.apache.fluss.server.testutils.FlussClusterExtension;
+import org.apache.fluss.types.DataTypes;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import javax.annotation.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.apache.fluss.server.testutils.RpcMessageTestUtils.createTable;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** ITCase for serving Kafka produce, fetch and consumer group requests by the tablet servers. */
+class KafkaProduceFetchITCase {
+
+    private static final String KAFKA_LISTENER = "KAFKA";
+
+    @RegisterExtension
+    public static final FlussClusterExtension FLUSS_CLUSTER_EXTENSION =
+            FlussClusterExtension.builder()
+                    .setNumOfTabletServers(1)
+                    .setTabletServerListeners("FLUSS://localhost:0, KAFKA://localhost:0")
+                    .build();
+
+    @BeforeAll
+    static void beforeAll() throws Exception {
+        // only enable Kafka on the tablet server, the coordinator can't serve Kafka requests
+        Configuration conf = new Configuration();
+        conf.set(ConfigOptions.KAFKA_ENABLED, true);
+        conf.set(ConfigOptions.KAFKA_GROUP_OFFSETS_TABLE_BUCKET_NUM, 2);
+        FLUSS_CLUSTER_EXTENSION.restartTabletServer(0, conf);
+        FLUSS_CLUSTER_EXTENSION.assertHasTabletServerNumber(1);
+    }
+
+    @Test
+    void testProduceAndFetch() throws Exception {
+        String topic = "produce_fetch";
+        long tableId = createTopic(topic, 2);
+        FLUSS_CLUSTER_EXTENSION.waitUntilTableReady(tableId);
+
+        List<RecordMetadata> metadataList = new ArrayList<>();
+        try (KafkaProducer<String, String> producer = createProducer()) {
+            for (int i = 0; i < 10; i++) {
+                metadataList.add(
+                        producer.send(new ProducerRecord<>(topic, 0, 1000L + i, "k" + i, "v" + i))
+                                .get());
+            }
+        }
+        for (int i = 0; i < metadataList.size(); i++) {
+            assertThat(metadataList.get(i).offset()).isEqualTo(i);
+        }
+
+        TopicPartition tp = new TopicPartition(topic, 0);
+        try (KafkaConsumer<String, String> consumer = createConsumer(null)) {
+            consumer.assign(Collections.singletonList(tp));
+            consumer.seekToBeginning(Collections.singletonList(tp));
+            List<ConsumerRecord<String, String>> records = new ArrayList<>();
+            long deadline = System.currentTimeMillis() + Duration.ofMinutes(1).toMillis();
+            while (records.size() < 10 && System.currentTimeMillis() < deadline) {
+                ConsumerRecords<String, String> polled = consumer.poll(Duration.ofMillis(500));
+                polled.forEach(records::add);
+            }
+
+            assertThat(records).hasSize(10);
+            for (int i = 0; i < records.size(); i++) {
+                ConsumerRecord<String, String> record = records.get(i);
+                assertThat(record.offset()).isEqualTo(i);
+                assertThat(record.key()).isEqualTo("k" + i);
+                assertThat(record.value()).isEqualTo("v" + i);
+                assertThat(record.timestamp()).isEqualTo(1000L + i);
+            }
+            assertThat(consumer.endOffsets(Collections.singletonList(tp))).containsEntry(tp, 10L);
+            // the other partition is empty
+            TopicPartition emptyTp = new TopicPartition(topic, 1);
+            assertThat(consumer.endOffsets(Collections.singletonList(emptyTp)))
+                    .containsEntry(emptyTp, 0L);
+        }
+    }
+
+    @Test
+    void testProduceToInvalidTopic() throws Exception {
+        String topic = "primary_key_table";
+        TableDescriptor descriptor =
+                TableDescriptor.builder()
+                        .schema(
+                                Schema.newBuilder()
+                                        .column("key", DataTypes.BYTES())
+                                        .column("value", DataTypes.BYTES())
+                                        .primaryKey("key")
+                                        .build())
+                        .distributedBy(1)
+                        .build();
+        long tableId = createTable(FLUSS_CLUSTER_EXTENSION, topicPath(topic), descriptor);
+        FLUSS_CLUSTER_EXTENSION.waitUntilTableReady(tableId);
+
+        try (KafkaConsumer<String, String> consumer = createConsumer(null)) {
+            // the topic of a primary key table is invalid, so it's not listed to the clients
+            assertThat(consumer.listTopics()).doesNotContainKey(topic);
+        }
+    }
+
+    @Test
+    void testConsumerGroupResumesFromCommittedOffset() throws Exception {
+        String topic = "consumer_group";
+        String groupId = "test-group";
+        long tableId = createTopic(topic, 1);
+        FLUSS_CLUSTER_EXTENSION.waitUntilTableReady(tableId);
+        try (KafkaProducer<String, String> producer = createProducer()) {
+            for (int i = 0; i < 10; i++) {
+                producer.send(new ProducerRecord<>(topic, 0, "k" + i, "v" + i)).get();
+            }
+        }
+
+        TopicPartition tp = new TopicPartition(topic, 0);
+        try (KafkaConsumer<String, String> consumer = createConsumer(groupId)) {
+            consumer.subscribe(Collections.singletonList(topic));
+            assertThat(poll(consumer, 10)).hasSize(10);
+            consumer.commitSync(Collections.singletonMap(tp, new OffsetAndMetadata(6L, "m")));
+            assertThat(consumer.committed(Collections.singleton(tp)))
+                    .containsEntry(tp, new OffsetAndMetadata(6L, "m"));
+        }
+
+        // a new member of the group resumes from the committed offset
+        try (KafkaConsumer<String, String> consumer = createConsumer(groupId)) {
+            consumer.subscribe(Collections.singletonList(topic));
+            List<ConsumerRecord<String, String>> records = poll(consumer, 4);
+            assertThat(records).hasSize(4);
+            assertThat(records.get(0).offset()).isEqualTo(6L);
+            assertThat(records.get(0).value()).isEqualTo("v6");
+        }
+    }
+
+    private static List<ConsumerRecord<String, String>> poll(
+            KafkaConsumer<String, String> consumer, int expectedRecords) {
+        List<ConsumerRecord<String, String>> records = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + Duration.ofMinutes(1).toMillis();
+        while (records.size() < expectedRecords && System.currentTimeMillis() < deadline) {
+            consumer.poll(Duration.ofMillis(500)).forEach(records::add);
+        }
+        return records;
+    }
+
+    private static long createTopic(String topic, int numPartitions) throws Exception {
+        TableDescriptor descriptor =
+                TableDescriptor.builder()
+                        .schema(
+                                Schema.newBuilder()
+                                        .column(KafkaRecordsConverter.KEY_COLUMN, DataTypes.BYTES())
+                                        .column(
+                                                KafkaRecordsConverter.VALUE_COLUMN,
+                                                DataTypes.BYTES())
+                                        .column(
+                                                KafkaRecordsConverter.TIMESTAMP_COLUMN,
+                                                DataTypes.TIMESTAMP_LTZ(3))
+                                        .build())
+                        .distributedBy(numPartitions)
+                        .build();
+        return createTable(FLUSS_CLUSTER_EXTENSION, topicPath(topic), descriptor);
+    }
+
+    private static TablePath topicPath(String topic) {
+        return TablePath.of(ConfigOptions.KAFKA_DATABASE.defaultValue(), topic);
+    }
+
+    private static String bootstrapServers() {
+        ServerNode node = FLUSS_CLUSTER_EXTENSION.getTabletServerNodes(KAFKA_LISTENER).get(0);
+        return node.host() + ":" + node.port();
+    }
+
+    private static KafkaProducer<String, String> createProducer() {
+        Properties props = new Properties();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers());
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, false);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
+        return new KafkaProducer<>(props);
+    }
+
+    private static KafkaConsumer<String, String> createConsumer(@Nullable String groupId) {
+        Properties props = new Properties();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers());
+        if (groupId != null) {
+            props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+            props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        }
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+        props.put(
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+        return new KafkaConsumer<>(props);
+    }
+}
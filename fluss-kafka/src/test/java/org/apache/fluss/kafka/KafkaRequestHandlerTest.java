@@ -17,7 +17,7 @@
 
 package org.apache.fluss.kafka;
 
-import org.apache.fluss.rpc.TestingTabletGatewayService;
+import org.apache.fluss.config.Configuration;
 import org.apache.fluss.shaded.netty4.io.netty.buffer.ByteBuf;
 import org.apache.fluss.shaded.netty4.io.netty.buffer.ByteBufAllocator;
 import org.apache.fluss.shaded.netty4.io.netty.channel.ChannelHandlerContext;
@@ -53,8 +53,10 @@ public class KafkaRequestHandlerTest {
                         apiVersionsRequest,
                         ByteBufAllocator.DEFAULT.buffer(),
                         ctx,
+                        "KAFKA",
                         new CompletableFuture<>());
         handler.handleApiVersionsRequest(request);
+        handler.close();
 
         ByteBuf responseBuffer = request.responseBuffer();
         ApiVersionsResponse response =
@@ -81,8 +83,10 @@ public class KafkaRequestHandlerTest {
                         apiVersionsRequest,
                         ByteBufAllocator.DEFAULT.buffer(),
                         ctx,
+                        "KAFKA",
                         new CompletableFuture<>());
         handler.handleApiVersionsRequest(request);
+        handler.close();
 
         ByteBuf responseBuffer = request.responseBuffer();
         ApiVersionsResponse response =
@@ -113,6 +117,6 @@ public class KafkaRequestHandlerTest {
     }
 
     private static KafkaRequestHandler createKafkaRequestHandler() {
-        return new KafkaRequestHandler(new TestingTabletGatewayService());
+        return new KafkaRequestHandler(new TestingTabletServerContext(), new Configuration());
     }
 }
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.kafka;
+
+import org.apache.fluss.metadata.TablePath;
+import org.apache.fluss.rpc.TestingTabletGatewayService;
+import org.apache.fluss.rpc.gateway.CoordinatorGateway;
+import org.apache.fluss.rpc.netty.server.Session;
+import org.apache.fluss.security.acl.OperationType;
+import org.apache.fluss.server.metadata.TabletServerMetadataCache;
+import org.apache.fluss.server.replica.ReplicaManager;
+import org.apache.fluss.server.tablet.TabletServerContext;
+
+/**
+ * A testing {@link TabletServerContext} without replicas, for the Kafka requests which don't access
+ * the tablet server, e.g., the api versions requests.
+ */
+public class TestingTabletServerContext extends TestingTabletGatewayService
+        implements TabletServerContext {
+
+    @Override
+    public void authorizeTable(Session session, OperationType operationType, TablePath tablePath) {}
+
+    @Override
+    public ReplicaManager getReplicaManager() {
+        return null;
+    }
+
+    @Override
+    public TabletServerMetadataCache getMetadataCache() {
+        return null;
+    }
+
+    @Override
+    public CoordinatorGateway getCoordinatorGateway() {
+        return null;
+    }
+}
@@ -17,12 +17,15 @@
 
 package org.apache.fluss.lake.iceberg.tiering;
 
+import org.apache.fluss.lake.batch.ArrowRecordBatch;
+import org.apache.fluss.lake.batch.RecordBatch;
 import org.apache.fluss.lake.iceberg.maintenance.IcebergRewriteDataFiles;
 import org.apache.fluss.lake.iceberg.maintenance.RewriteDataFileResult;
 import org.apache.fluss.lake.iceberg.tiering.writer.AppendOnlyTaskWriter;
 import org.apache.fluss.lake.iceberg.tiering.writer.DeltaTaskWriter;
 import org.apache.fluss.lake.iceberg.tiering.writer.TaskWriterFactory;
 import org.apache.fluss.lake.writer.LakeWriter;
+import org.apache.fluss.lake.writer.SupportsRecordBatchWrite;
 import org.apache.fluss.lake.writer.WriterInitContext;
 import org.apache.fluss.metadata.TablePath;
 import org.apache.fluss.record.LogRecord;
@@ -50,9 +53,10 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import static org.apache.fluss.lake.iceberg.utils.IcebergConversions.toIceberg;
+import static org.apache.fluss.utils.Preconditions.checkArgument;
 
 /** Implementation of {@link LakeWriter} for Iceberg. */
-public class IcebergLakeWriter implements LakeWriter<IcebergWriteResult> {
+public class IcebergLakeWriter implements LakeWriter<IcebergWriteResult>, SupportsRecordBatchWrite {
 
     protected static final Logger LOG = LoggerFactory.getLogger(IcebergLakeWriter.class);
 
@@ -107,6 +111,19 @@ public class IcebergLakeWriter implements LakeWriter<IcebergWriteResult> {
         }
     }
 
+    @Override
+    public void write(RecordBatch recordBatch) throws IOException {
+        checkArgument(
+                recordBatch instanceof ArrowRecordBatch,
+                "Unsupported record batch %s.",
+                recordBatch.getClass().getName());
+        try {
+            recordWriter.write((ArrowRecordBatch) recordBatch);
+        } catch (Exception e) {
+            throw new IOException("Failed to write Fluss record batch to Iceberg.", e);
+        }
+    }
+
     @Override
     public IcebergWriteResult complete() throws IOException {
         try {
@@ -17,6 +17,7 @@
 
 package org.apache.fluss.lake.iceberg.tiering;
 
+import org.apache.fluss.lake.batch.ArrowRecordBatch;
 import org.apache.fluss.metadata.TableBucket;
 import org.apache.fluss.record.LogRecord;
 import org.apache.fluss.types.RowType;
@@ -26,6 +27,8 @@ import org.apache.iceberg.data.Record;
 import org.apache.iceberg.io.TaskWriter;
 import org.apache.iceberg.io.WriteResult;
 
+import java.util.Iterator;
+
 /** A base interface to write {@link LogRecord} to Iceberg. */
 public abstract class RecordWriter implements AutoCloseable {
 
@@ -49,6 +52,17 @@ public abstract class RecordWriter implements AutoCloseable {
 
     public abstract void write(LogRecord record) throws Exception;
 
+    /**
+     * Writes the records of the batch. Iceberg can't write the arrow columns directly, so the
+     * records are written one by one as views of the columns.
+     */
+    public void write(ArrowRecordBatch recordBatch) throws Exception {
+        Iterator<LogRecord> records = recordBatch.records();
+        while (records.hasNext()) {
+            write(records.next());
+        }
+    }
+
     public WriteResult complete() throws Exception {
         // Complete the task writer and get write result
         return taskWriter.complete();
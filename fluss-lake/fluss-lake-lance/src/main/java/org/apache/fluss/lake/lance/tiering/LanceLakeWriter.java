@@ -18,10 +18,13 @@
 package org.apache.fluss.lake.lance.tiering;
 
 import org.apache.fluss.config.Configuration;
+import org.apache.fluss.lake.batch.ArrowRecordBatch;
+import org.apache.fluss.lake.batch.RecordBatch;
 import org.apache.fluss.lake.lance.LanceConfig;
 import org.apache.fluss.lake.lance.utils.ArrowDataConverter;
 import org.apache.fluss.lake.lance.utils.LanceDatasetAdapter;
 import org.apache.fluss.lake.writer.LakeWriter;
+import org.apache.fluss.lake.writer.SupportsRecordBatchWrite;
 import org.apache.fluss.lake.writer.WriterInitContext;
 import org.apache.fluss.record.LogRecord;
 import org.apache.fluss.types.RowType;
@@ -33,14 +36,17 @@ import org.apache.arrow.memory.BufferAllocator;
 import org.apache.arrow.memory.RootAllocator;
 import org.apache.arrow.vector.VectorSchemaRoot;
 import org.apache.arrow.vector.types.pojo.Schema;
+import org.apache.arrow.vector.util.VectorSchemaRootAppender;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import static org.apache.fluss.utils.Preconditions.checkArgument;
+
 /** Implementation of {@link LakeWriter} for Lance using batch processing. */
-public class LanceLakeWriter implements LakeWriter<LanceWriteResult> {
+public class LanceLakeWriter implements LakeWriter<LanceWriteResult>, SupportsRecordBatchWrite {
     private final BufferAllocator nonShadedAllocator;
     private final org.apache.fluss.shaded.arrow.org.apache.arrow.memory.BufferAllocator
             shadedAllocator;
@@ -52,6 +58,9 @@ public class LanceLakeWriter implements LakeWriter<LanceWriteResult> {
 
     private final ShadedArrowBatchWriter arrowWriter;
     private final List<FragmentMetadata> allFragments;
+    // the converted slices of the record batches not written as fragments yet
+    private final List<VectorSchemaRoot> pendingRoots;
+    private int pendingRowCount;
 
     public LanceLakeWriter(Configuration options, WriterInitContext writerInitContext)
             throws IOException {
@@ -71,6 +80,7 @@ public class LanceLakeWriter implements LakeWriter<LanceWriteResult> {
                 new org.apache.fluss.shaded.arrow.org.apache.arrow.memory.RootAllocator();
         this.arrowWriter = new ShadedArrowBatchWriter(shadedAllocator, rowType);
         this.allFragments = new ArrayList<>();
+        this.pendingRoots = new ArrayList<>();
 
         Optional<Schema> schema = LanceDatasetAdapter.getSchema(config);
         if (!schema.isPresent()) {
@@ -81,6 +91,8 @@ public class LanceLakeWriter implements LakeWriter<LanceWriteResult> {
 
     @Override
     public void write(LogRecord record) throws IOException {
+        // the rows of the record batches written before are flushed first to keep the order
+        flushPendingBatches();
         arrowWriter.writeRow(record.getRow());
 
         if (arrowWriter.getRecordsCount() >= batchSize) {
@@ -89,25 +101,93 @@ public class LanceLakeWriter implements LakeWriter<LanceWriteResult> {
         }
     }
 
+    @Override
+    public void write(RecordBatch recordBatch) throws IOException {
+        checkArgument(
+                recordBatch instanceof ArrowRecordBatch,
+                "Unsupported record batch %s.",
+                recordBatch.getClass().getName());
+        ArrowRecordBatch arrowRecordBatch = (ArrowRecordBatch) recordBatch;
+        // the rows written one by one before are flushed first to keep the order of the rows
+        allFragments.addAll(flush());
+
+        // the arrow vectors of the batch are converted in slices without writing the rows to the
+        // arrow writer, and accumulated across the record batches until the batch size is reached,
+        // so that small record batches don't create small fragments
+        org.apache.fluss.shaded.arrow.org.apache.arrow.vector.VectorSchemaRoot shadedRoot =
+                arrowRecordBatch.getVectorSchemaRoot();
+        int rowId = arrowRecordBatch.getStartRowId();
+        while (rowId < arrowRecordBatch.getEndRowId()) {
+            int length =
+                    Math.min(batchSize - pendingRowCount, arrowRecordBatch.getEndRowId() - rowId);
+            try (org.apache.fluss.shaded.arrow.org.apache.arrow.vector.VectorSchemaRoot slice =
+                    shadedRoot.slice(rowId, length)) {
+                pendingRoots.add(
+                        ArrowDataConverter.convertToNonShaded(
+                                slice, nonShadedAllocator, nonShadedSchema));
+            }
+            pendingRowCount += length;
+            rowId += length;
+            if (pendingRowCount >= batchSize) {
+                flushPendingBatches();
+            }
+        }
+    }
+
+    /** Writes the pending slices of the record batches as fragments. */
+    private void flushPendingBatches() throws IOException {
+        if (pendingRoots.isEmpty()) {
+            return;
+        }
+        try {
+            // the slices are appended to the first one to write them as a single fragment
+            VectorSchemaRoot root = pendingRoots.get(0);
+            if (pendingRoots.size() > 1) {
+                VectorSchemaRootAppender.append(
+                        false,
+                        root,
+                        pendingRoots
+                                .subList(1, pendingRoots.size())
+                                .toArray(new VectorSchemaRoot[0]));
+            }
+            allFragments.addAll(Fragment.create(datasetUri, nonShadedAllocator, root, writeParams));
+        } catch (Exception e) {
+            throw new IOException("Failed to write Lance fragment", e);
+        } finally {
+            closePendingRoots();
+        }
+    }
+
+    private void closePendingRoots() {
+        for (VectorSchemaRoot root : pendingRoots) {
+            root.close();
+        }
+        pendingRoots.clear();
+        pendingRowCount = 0;
+    }
+
     private List<FragmentMetadata> flush() throws IOException {
         if (arrowWriter.getRecordsCount() == 0) {
             return new ArrayList<>();
         }
 
+        arrowWriter.finish();
+        List<FragmentMetadata> fragments = createFragments(arrowWriter.getShadedRoot());
+        arrowWriter.reset();
+        return fragments;
+    }
+
+    private List<FragmentMetadata> createFragments(
+            org.apache.fluss.shaded.arrow.org.apache.arrow.vector.VectorSchemaRoot shadedRoot)
+            throws IOException {
         VectorSchemaRoot nonShadedRoot = null;
 
         try {
-            arrowWriter.finish();
-
             nonShadedRoot =
                     ArrowDataConverter.convertToNonShaded(
-                            arrowWriter.getShadedRoot(), nonShadedAllocator, nonShadedSchema);
-
-            List<FragmentMetadata> fragments =
-                    Fragment.create(datasetUri, nonShadedAllocator, nonShadedRoot, writeParams);
+                            shadedRoot, nonShadedAllocator, nonShadedSchema);
 
-            arrowWriter.reset();
-            return fragments;
+            return Fragment.create(datasetUri, nonShadedAllocator, nonShadedRoot, writeParams);
         } catch (Exception e) {
             throw new IOException("Failed to write Lance fragment", e);
         } finally {
@@ -121,11 +201,13 @@ public class LanceLakeWriter implements LakeWriter<LanceWriteResult> {
     public LanceWriteResult complete() throws IOException {
         List<FragmentMetadata> fragments = flush();
         allFragments.addAll(fragments);
+        flushPendingBatches();
         return new LanceWriteResult(allFragments);
     }
 
     @Override
     public void close() throws IOException {
+        closePendingRoots();
         if (arrowWriter != null) {
             arrowWriter.close();
         }
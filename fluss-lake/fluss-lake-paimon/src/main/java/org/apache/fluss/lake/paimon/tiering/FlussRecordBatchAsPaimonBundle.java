@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.lake.paimon.tiering;
+
+import org.apache.fluss.lake.batch.ArrowRecordBatch;
+import org.apache.fluss.record.LogRecord;
+
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.io.BundleRecords;
+import org.apache.paimon.types.RowType;
+
+import java.util.Iterator;
+
+/**
+ * To wrap Fluss {@link ArrowRecordBatch} as paimon {@link BundleRecords}. The rows are views of the
+ * arrow columns of the batch, and the returned row is reused across the iteration.
+ */
+public class FlussRecordBatchAsPaimonBundle implements BundleRecords {
+
+    private final ArrowRecordBatch recordBatch;
+    private final int bucket;
+    private final RowType tableRowType;
+
+    public FlussRecordBatchAsPaimonBundle(
+            ArrowRecordBatch recordBatch, int bucket, RowType tableRowType) {
+        this.recordBatch = recordBatch;
+        this.bucket = bucket;
+        this.tableRowType = tableRowType;
+    }
+
+    @Override
+    public long rowCount() {
+        return recordBatch.getRecordCount();
+    }
+
+    @Override
+    public Iterator<InternalRow> iterator() {
+        Iterator<LogRecord> records = recordBatch.records();
+        FlussRecordAsPaimonRow row = new FlussRecordAsPaimonRow(bucket, tableRowType);
+        return new Iterator<InternalRow>() {
+            @Override
+            public boolean hasNext() {
+                return records.hasNext();
+            }
+
+            @Override
+            public InternalRow next() {
+                row.setFlussRecord(records.next());
+                return row;
+            }
+        };
+    }
+}
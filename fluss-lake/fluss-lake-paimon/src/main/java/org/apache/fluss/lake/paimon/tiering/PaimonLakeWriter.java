@@ -17,9 +17,12 @@
 
 package org.apache.fluss.lake.paimon.tiering;
 
+import org.apache.fluss.lake.batch.ArrowRecordBatch;
+import org.apache.fluss.lake.batch.RecordBatch;
 import org.apache.fluss.lake.paimon.tiering.append.AppendOnlyWriter;
 import org.apache.fluss.lake.paimon.tiering.mergetree.MergeTreeWriter;
 import org.apache.fluss.lake.writer.LakeWriter;
+import org.apache.fluss.lake.writer.SupportsRecordBatchWrite;
 import org.apache.fluss.lake.writer.WriterInitContext;
 import org.apache.fluss.metadata.TablePath;
 import org.apache.fluss.record.LogRecord;
@@ -36,9 +39,10 @@ import java.util.List;
 import java.util.Map;
 
 import static org.apache.fluss.lake.paimon.utils.PaimonConversions.toPaimon;
+import static org.apache.fluss.utils.Preconditions.checkArgument;
 
 /** Implementation of {@link LakeWriter} for Paimon. */
-public class PaimonLakeWriter implements LakeWriter<PaimonWriteResult> {
+public class PaimonLakeWriter implements LakeWriter<PaimonWriteResult>, SupportsRecordBatchWrite {
 
     private final Catalog paimonCatalog;
     private final RecordWriter<?> recordWriter;
@@ -80,6 +84,19 @@ public class PaimonLakeWriter implements LakeWriter<PaimonWriteResult> {
         }
     }
 
+    @Override
+    public void write(RecordBatch recordBatch) throws IOException {
+        checkArgument(
+                recordBatch instanceof ArrowRecordBatch,
+                "Unsupported record batch %s.",
+                recordBatch.getClass().getName());
+        try {
+            recordWriter.write((ArrowRecordBatch) recordBatch);
+        } catch (Exception e) {
+            throw new IOException("Failed to write Fluss record batch to Paimon.", e);
+        }
+    }
+
     @Override
     public PaimonWriteResult complete() throws IOException {
         CommitMessage commitMessage;
@@ -17,6 +17,7 @@
 
 package org.apache.fluss.lake.paimon.tiering;
 
+import org.apache.fluss.lake.batch.ArrowRecordBatch;
 import org.apache.fluss.lake.paimon.source.FlussRowAsPaimonRow;
 import org.apache.fluss.metadata.ResolvedPartitionSpec;
 import org.apache.fluss.metadata.TableBucket;
@@ -32,6 +33,7 @@ import org.apache.paimon.types.RowType;
 
 import javax.annotation.Nullable;
 
+import java.util.Iterator;
 import java.util.List;
 
 import static org.apache.fluss.utils.Preconditions.checkState;
@@ -70,6 +72,14 @@ public abstract class RecordWriter<T> implements AutoCloseable {
 
     public abstract void write(LogRecord record) throws Exception;
 
+    /** Writes the records of the batch, which writes the records one by one by default. */
+    public void write(ArrowRecordBatch recordBatch) throws Exception {
+        Iterator<LogRecord> records = recordBatch.records();
+        while (records.hasNext()) {
+            write(records.next());
+        }
+    }
+
     CommitMessage complete() throws Exception {
         List<CommitMessage> commitMessages = tableWrite.prepareCommit();
         checkState(
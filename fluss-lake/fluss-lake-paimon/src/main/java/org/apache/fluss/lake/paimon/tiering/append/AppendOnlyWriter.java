@@ -17,6 +17,8 @@
 
 package org.apache.fluss.lake.paimon.tiering.append;
 
+import org.apache.fluss.lake.batch.ArrowRecordBatch;
+import org.apache.fluss.lake.paimon.tiering.FlussRecordBatchAsPaimonBundle;
 import org.apache.fluss.lake.paimon.tiering.RecordWriter;
 import org.apache.fluss.metadata.TableBucket;
 import org.apache.fluss.record.LogRecord;
@@ -64,11 +66,24 @@ public class AppendOnlyWriter extends RecordWriter<InternalRow> {
         // hacky, call internal method tableWrite.getWrite() to support
         // to write to given partition, otherwise, it'll always extract a partition from Paimon row
         // which may be costly
-        int writtenBucket = bucket;
+        tableWrite.getWrite().write(partition, writtenBucket(), flussRecordAsPaimonRow);
+    }
+
+    @Override
+    public void write(ArrowRecordBatch recordBatch) throws Exception {
+        // write the batch as a bundle, the file writers of the formats supporting bundle write
+        // the arrow columns directly, the others iterate the rows of the bundle
+        tableWrite.writeBundle(
+                partition,
+                writtenBucket(),
+                new FlussRecordBatchAsPaimonBundle(recordBatch, bucket, tableRowType));
+    }
+
+    private int writtenBucket() {
         // if bucket-unaware mode, we have to use bucket = 0 to write to follow paimon best practice
         if (fileStoreTable.store().bucketMode() == BucketMode.BUCKET_UNAWARE) {
-            writtenBucket = 0;
+            return 0;
         }
-        tableWrite.getWrite().write(partition, writtenBucket, flussRecordAsPaimonRow);
+        return bucket;
     }
 }
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.rpc.entity;
+
+import org.apache.fluss.metadata.TableBucket;
+import org.apache.fluss.record.DefaultValueRecordBatch;
+import org.apache.fluss.rpc.protocol.ApiError;
+
+import javax.annotation.Nullable;
+
+/** Result of {@link org.apache.fluss.rpc.messages.ScanKvRequest} for the scanned table bucket. */
+public class ScanKvResultForBucket extends ResultForBucket {
+
+    @Nullable private final byte[] scannerId;
+    @Nullable private final DefaultValueRecordBatch values;
+    private final boolean hasMoreResults;
+    @Nullable private final Long logOffset;
+
+    public ScanKvResultForBucket(
+            TableBucket tableBucket,
+            byte[] scannerId,
+            @Nullable DefaultValueRecordBatch values,
+            boolean hasMoreResults,
+            @Nullable Long logOffset) {
+        super(tableBucket, ApiError.NONE);
+        this.scannerId = scannerId;
+        this.values = values;
+        this.hasMoreResults = hasMoreResults;
+        this.logOffset = logOffset;
+    }
+
+    public ScanKvResultForBucket(TableBucket tableBucket, ApiError error) {
+        super(tableBucket, error);
+        this.scannerId = null;
+        this.values = null;
+        this.hasMoreResults = false;
+        this.logOffset = null;
+    }
+
+    @Nullable
+    public byte[] getScannerId() {
+        return scannerId;
+    }
+
+    @Nullable
+    public DefaultValueRecordBatch getValues() {
+        return values;
+    }
+
+    public boolean hasMoreResults() {
+        return hasMoreResults;
+    }
+
+    /** The log offset the scan is consistent with, only set on the first result of a scan. */
+    @Nullable
+    public Long getLogOffset() {
+        return logOffset;
+    }
+}
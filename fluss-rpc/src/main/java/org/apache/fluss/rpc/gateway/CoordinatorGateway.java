@@ -32,6 +32,8 @@ import org.apache.fluss.rpc.messages.LakeTieringHeartbeatRequest;
 import org.apache.fluss.rpc.messages.LakeTieringHeartbeatResponse;
 import org.apache.fluss.rpc.messages.PrepareLakeTableSnapshotRequest;
 import org.apache.fluss.rpc.messages.PrepareLakeTableSnapshotResponse;
+import org.apache.fluss.rpc.messages.ReportOfflineReplicasRequest;
+import org.apache.fluss.rpc.messages.ReportOfflineReplicasResponse;
 import org.apache.fluss.rpc.protocol.ApiKeys;
 import org.apache.fluss.rpc.protocol.RPC;
 
@@ -116,4 +118,12 @@ public interface CoordinatorGateway extends RpcGateway, AdminGateway {
     @RPC(api = ApiKeys.CONTROLLED_SHUTDOWN)
     CompletableFuture<ControlledShutdownResponse> controlledShutdown(
             ControlledShutdownRequest request);
+
+    /**
+     * Reports the replicas of the tabletServer which are offline because their data directory
+     * failed, so that the leaders of the buckets are re-elected on the other replicas.
+     */
+    @RPC(api = ApiKeys.REPORT_OFFLINE_REPLICAS)
+    CompletableFuture<ReportOfflineReplicasResponse> reportOfflineReplicas(
+            ReportOfflineReplicasRequest request);
 }
@@ -71,6 +71,12 @@ public class ClientMetricGroup extends AbstractMetricGroup {
         this.gauge(
                 MetricNames.CLIENT_REQUESTS_IN_FLIGHT_TOTAL,
                 () -> getMetricsSum(ConnectionMetrics.Metrics::requestsInFlight));
+        this.gauge(
+                MetricNames.CLIENT_REQUESTS_TIMEOUT_TOTAL,
+                () ->
+                        nodeToConnectionMetrics.values().stream()
+                                .mapToLong(metrics -> metrics.requestTimeouts.getCount())
+                                .sum());
     }
 
     @Override
@@ -40,6 +40,9 @@ public class ConnectionMetrics {
     /** Metrics for different request/response metrics with specify {@link ApiKeys}. */
     final Map<String, Metrics> metricsByRequestName = new ConcurrentHashMap<>();
 
+    /** The number of requests of all the {@link ApiKeys} that failed for the request timeout. */
+    final Counter requestTimeouts = new ThreadSafeSimpleCounter();
+
     public ConnectionMetrics(String serverId, ClientMetricGroup clientMetricGroup) {
         this.serverId = serverId;
         this.clientMetricGroup = clientMetricGroup;
@@ -72,6 +75,11 @@ public class ConnectionMetrics {
         }
     }
 
+    public void updateMetricsAfterRequestTimeout(ApiKeys apikey, long requestStartTime) {
+        updateMetricsAfterGetResponse(apikey, requestStartTime, 0);
+        requestTimeouts.inc();
+    }
+
     @Nullable
     Metrics getOrCreateRequestMetrics(ApiKeys apikey) {
         if (!REPORT_API_KEYS.contains(apikey)) {
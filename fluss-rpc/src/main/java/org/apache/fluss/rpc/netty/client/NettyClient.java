@@ -33,6 +33,8 @@ import org.apache.fluss.shaded.netty4.io.netty.bootstrap.Bootstrap;
 import org.apache.fluss.shaded.netty4.io.netty.buffer.PooledByteBufAllocator;
 import org.apache.fluss.shaded.netty4.io.netty.channel.ChannelOption;
 import org.apache.fluss.shaded.netty4.io.netty.channel.EventLoopGroup;
+import org.apache.fluss.shaded.netty4.io.netty.util.HashedWheelTimer;
+import org.apache.fluss.shaded.netty4.io.netty.util.concurrent.DefaultThreadFactory;
 import org.apache.fluss.utils.concurrent.FutureUtils;
 
 import org.slf4j.Logger;
@@ -71,6 +73,13 @@ public final class NettyClient implements RpcClient {
      */
     private final Map<String, ServerConnection> connections;
 
+    /** The timer to time out the in-flight requests of all the connections. */
+    private final HashedWheelTimer requestTimer;
+
+    private final int maxInflightRequestsPerConnection;
+
+    private final long requestTimeoutMs;
+
     /** Metric groups for client. */
     private final ClientMetricGroup clientMetricGroup;
 
@@ -101,6 +110,12 @@ public final class NettyClient implements RpcClient {
                         .option(ChannelOption.TCP_NODELAY, true)
                         .option(ChannelOption.SO_KEEPALIVE, true)
                         .handler(new ClientChannelInitializer(connectionMaxIdle, preferHeap));
+        this.requestTimer =
+                new HashedWheelTimer(
+                        new DefaultThreadFactory("fluss-netty-client-request-timer", true));
+        this.maxInflightRequestsPerConnection =
+                conf.getInt(ConfigOptions.NETTY_CLIENT_MAX_INFLIGHT_REQUESTS_PER_CONNECTION);
+        this.requestTimeoutMs = conf.get(ConfigOptions.NETTY_CLIENT_REQUEST_TIMEOUT).toMillis();
         this.clientMetricGroup = clientMetricGroup;
         this.authenticatorSupplier = AuthenticationFactory.loadClientAuthenticatorSupplier(conf);
         NettyMetrics.registerNettyMetrics(clientMetricGroup, allocator);
@@ -171,6 +186,8 @@ public final class NettyClient implements RpcClient {
                     shutdownFutures.add(conn.getValue().close());
                 }
             }
+            // the in-flight requests have been failed by closing the connections
+            requestTimer.stop();
             shutdownFutures.add(NettyUtils.shutdownGroup(eventGroup));
             CompletableFuture.allOf(shutdownFutures.toArray(new CompletableFuture<?>[0]))
                     .get(10, TimeUnit.SECONDS);
@@ -191,6 +208,9 @@ public final class NettyClient implements RpcClient {
                             node,
                             clientMetricGroup,
                             authenticatorSupplier.get(),
+                            requestTimer,
+                            maxInflightRequestsPerConnection,
+                            requestTimeoutMs,
                             (con, ignore) -> connections.remove(serverId, con));
                 });
     }
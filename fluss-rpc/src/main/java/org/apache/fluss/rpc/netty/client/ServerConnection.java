@@ -25,6 +25,7 @@ import org.apache.fluss.exception.FlussRuntimeException;
 import org.apache.fluss.exception.InvalidServerTypeException;
 import org.apache.fluss.exception.NetworkException;
 import org.apache.fluss.exception.RetriableAuthenticationException;
+import org.apache.fluss.exception.TimeoutException;
 import org.apache.fluss.rpc.messages.ApiMessage;
 import org.apache.fluss.rpc.messages.ApiVersionsRequest;
 import org.apache.fluss.rpc.messages.ApiVersionsResponse;
@@ -43,6 +44,8 @@ import org.apache.fluss.shaded.netty4.io.netty.buffer.ByteBufAllocator;
 import org.apache.fluss.shaded.netty4.io.netty.channel.Channel;
 import org.apache.fluss.shaded.netty4.io.netty.channel.ChannelFuture;
 import org.apache.fluss.shaded.netty4.io.netty.channel.ChannelFutureListener;
+import org.apache.fluss.shaded.netty4.io.netty.util.Timeout;
+import org.apache.fluss.shaded.netty4.io.netty.util.Timer;
 import org.apache.fluss.utils.ExponentialBackoff;
 
 import org.slf4j.Logger;
@@ -71,8 +74,19 @@ final class ServerConnection {
 
     private final ServerNode node;
 
-    // TODO: add max inflight requests limit like Kafka's "max.in.flight.requests.per.connection"
     private final Map<Integer, InflightRequest> inflightRequests = new ConcurrentHashMap<>();
+
+    /**
+     * The max number of requests sent by the callers and not completed yet, including the pending
+     * requests waiting for the connection to be ready, like Kafka's
+     * "max.in.flight.requests.per.connection".
+     */
+    private final int maxInflightRequests;
+
+    /** The timer to fail the in-flight requests which are not responded in time. */
+    private final Timer requestTimer;
+
+    private final long requestTimeoutMs;
     private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
     private final ConnectionMetrics connectionMetrics;
     private final ClientAuthenticator authenticator;
@@ -82,6 +96,14 @@ final class ServerConnection {
     @GuardedBy("lock")
     private final ArrayDeque<PendingRequest> pendingRequests = new ArrayDeque<>();
 
+    /** The requests waiting for an in-flight request to complete, as the limit is reached. */
+    @GuardedBy("lock")
+    private final ArrayDeque<PendingRequest> throttledRequests = new ArrayDeque<>();
+
+    /** The number of requests counted against {@link #maxInflightRequests}. */
+    @GuardedBy("lock")
+    private int inflightPermits = 0;
+
     @GuardedBy("lock")
     private Channel channel;
 
@@ -105,8 +127,14 @@ final class ServerConnection {
             ServerNode node,
             ClientMetricGroup clientMetricGroup,
             ClientAuthenticator authenticator,
+            Timer requestTimer,
+            int maxInflightRequests,
+            long requestTimeoutMs,
             BiConsumer<ServerConnection, Throwable> closeCallback) {
         this.node = node;
+        this.maxInflightRequests = maxInflightRequests;
+        this.requestTimer = requestTimer;
+        this.requestTimeoutMs = requestTimeoutMs;
         this.state = ConnectionState.CONNECTING;
         this.connectionMetrics = clientMetricGroup.createConnectionMetricGroup(node.uid());
         this.authenticator = authenticator;
@@ -130,9 +158,59 @@ final class ServerConnection {
         }
     }
 
-    /** Send an RPC request to the server and return a future for the response. */
+    /**
+     * Send an RPC request to the server and return a future for the response. The caller is never
+     * blocked: if the max in-flight requests of the connection is reached, the request is queued
+     * and sent once an in-flight request completes.
+     */
     public CompletableFuture<ApiMessage> send(ApiKeys apikey, ApiMessage request) {
-        return doSend(apikey, request, new CompletableFuture<>(), false);
+        CompletableFuture<ApiMessage> responseFuture = new CompletableFuture<>();
+        synchronized (lock) {
+            if (!state.isDisconnected()
+                    && (inflightPermits >= maxInflightRequests || !throttledRequests.isEmpty())) {
+                throttledRequests.add(new PendingRequest(apikey, request, false, responseFuture));
+                Timeout timeout =
+                        requestTimer.newTimeout(
+                                ignore -> onThrottledRequestTimeout(apikey, responseFuture),
+                                requestTimeoutMs,
+                                TimeUnit.MILLISECONDS);
+                responseFuture.whenComplete((response, throwable) -> timeout.cancel());
+                return responseFuture;
+            }
+            inflightPermits++;
+        }
+        responseFuture.whenComplete((response, throwable) -> releaseInflightPermit());
+        return doSend(apikey, request, responseFuture, false);
+    }
+
+    /**
+     * Releases the permit of a completed request, or hands it over to the earliest throttled
+     * request which is still waiting.
+     */
+    private void releaseInflightPermit() {
+        PendingRequest next;
+        synchronized (lock) {
+            do {
+                next = throttledRequests.pollFirst();
+            } while (next != null && next.responseFuture.isDone());
+            if (next == null) {
+                inflightPermits--;
+                return;
+            }
+        }
+        next.responseFuture.whenComplete((response, throwable) -> releaseInflightPermit());
+        doSend(next.apikey, next.request, next.responseFuture, false);
+    }
+
+    private void onThrottledRequestTimeout(
+            ApiKeys apiKey, CompletableFuture<ApiMessage> responseFuture) {
+        // the timed out request is skipped when the next permit is released
+        responseFuture.completeExceptionally(
+                new TimeoutException(
+                        String.format(
+                                "Request %s to server %s timed out after %d ms waiting "
+                                        + "for the in-flight requests to complete.",
+                                apiKey, node, requestTimeoutMs)));
     }
 
     /** Register a callback to be called when the connection is closed. */
@@ -171,11 +249,14 @@ final class ServerConnection {
                 }
             }
 
-            // notify all the pending requests
+            // notify all the pending and throttled requests
             PendingRequest pending;
             while ((pending = pendingRequests.pollFirst()) != null) {
                 pending.responseFuture.completeExceptionally(requestCause);
             }
+            while ((pending = throttledRequests.pollFirst()) != null) {
+                pending.responseFuture.completeExceptionally(requestCause);
+            }
 
             if (channel != null) {
                 // Close the channel directly, without waiting for the channel to close properly.
@@ -319,8 +400,13 @@ final class ServerConnection {
                     new InflightRequest(
                             apiKey.id, version, requestCount++, rawRequest, responseFuture);
             inflightRequests.put(inflight.requestId, inflight);
+            Timeout timeout =
+                    requestTimer.newTimeout(
+                            ignore -> onRequestTimeout(inflight),
+                            requestTimeoutMs,
+                            TimeUnit.MILLISECONDS);
+            responseFuture.whenComplete((response, throwable) -> timeout.cancel());
 
-            // TODO: maybe we need to add timeout for the inflight requests
             ByteBuf byteBuf;
             try {
                 byteBuf = inflight.toByteBuf(channel.alloc());
@@ -361,6 +447,23 @@ final class ServerConnection {
         }
     }
 
+    private void onRequestTimeout(InflightRequest request) {
+        if (inflightRequests.remove(request.requestId, request)) {
+            ApiKeys apiKey = ApiKeys.forId(request.apiKey);
+            LOG.debug(
+                    "Request {} with id {} to server {} timed out.",
+                    apiKey,
+                    request.requestId,
+                    node);
+            connectionMetrics.updateMetricsAfterRequestTimeout(apiKey, request.requestStartTime);
+            request.responseFuture.completeExceptionally(
+                    new TimeoutException(
+                            String.format(
+                                    "Request %s to server %s timed out after %d ms.",
+                                    apiKey, node, requestTimeoutMs)));
+        }
+    }
+
     private void handleApiVersionsResponse(ApiMessage response, Throwable cause) {
         if (cause != null) {
             close(cause);
@@ -31,4 +31,7 @@ public interface RequestHandler<T extends RpcRequest> {
 
     /** Processes the RPC request. */
     void processRequest(T request);
+
+    /** Releases the resources of the handler when the server is shut down. */
+    default void close() {}
 }
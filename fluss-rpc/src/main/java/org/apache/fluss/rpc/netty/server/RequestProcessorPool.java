@@ -40,6 +40,7 @@ final class RequestProcessorPool {
 
     private final RequestChannel[] requestChannels;
     private final RequestProcessor[] processors;
+    private final RequestHandler<?>[] requestHandlers;
 
     private ExecutorService workerPool;
 
@@ -52,7 +53,7 @@ final class RequestProcessorPool {
         this.processors = new RequestProcessor[numProcessors];
         this.requestChannels = new RequestChannel[numProcessors];
 
-        RequestHandler<?>[] requestHandlers = initializeRequestHandlers(protocols, service);
+        this.requestHandlers = initializeRequestHandlers(protocols, service);
         for (int i = 0; i < numProcessors; i++) {
             requestChannels[i] = new RequestChannel(totalQueueCapacity / numProcessors);
             // bind processor to a single channel to make requests from the
@@ -87,6 +88,7 @@ final class RequestProcessorPool {
     public synchronized CompletableFuture<Void> closeAsync() {
         if (workerPool == null) {
             // the processor poll is not started yet.
+            closeRequestHandlers();
             return CompletableFuture.completedFuture(null);
         }
         LOG.info("Shutting down Fluss request processor pool.");
@@ -103,10 +105,23 @@ final class RequestProcessorPool {
                     if (workerPool != null) {
                         workerPool.shutdown();
                     }
+                    closeRequestHandlers();
                 });
         // service and requestChannel shutdown is handled outside.
     }
 
+    private void closeRequestHandlers() {
+        for (RequestHandler<?> requestHandler : requestHandlers) {
+            if (requestHandler != null) {
+                try {
+                    requestHandler.close();
+                } catch (Exception e) {
+                    LOG.warn("Failed to close request handler {}.", requestHandler, e);
+                }
+            }
+        }
+    }
+
     private RequestHandler<?>[] initializeRequestHandlers(
             List<NetworkProtocolPlugin> protocolPlugins, RpcGatewayService service) {
         int maxRequestTypeId =
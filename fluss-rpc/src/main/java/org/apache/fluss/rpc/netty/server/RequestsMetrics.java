@@ -18,9 +18,9 @@
 package org.apache.fluss.rpc.netty.server;
 
 import org.apache.fluss.metrics.Counter;
-import org.apache.fluss.metrics.DescriptiveStatisticsHistogram;
 import org.apache.fluss.metrics.Gauge;
 import org.apache.fluss.metrics.Histogram;
+import org.apache.fluss.metrics.LogLinearHistogram;
 import org.apache.fluss.metrics.MeterView;
 import org.apache.fluss.metrics.MetricNames;
 import org.apache.fluss.metrics.ThreadSafeSimpleCounter;
@@ -117,7 +117,6 @@ public class RequestsMetrics {
 
     /** A class wrapping all registered metrics for a given request type. */
     public static final class Metrics {
-        private static final int WINDOW_SIZE = 1024;
         private final Counter requestsCount;
         private final Counter errorsCount;
 
@@ -135,25 +134,19 @@ public class RequestsMetrics {
             metricGroup.meter(MetricNames.ERRORS_RATE, new MeterView(errorsCount));
 
             requestBytes =
-                    metricGroup.histogram(
-                            MetricNames.REQUEST_BYTES,
-                            new DescriptiveStatisticsHistogram(WINDOW_SIZE));
+                    metricGroup.histogram(MetricNames.REQUEST_BYTES, new LogLinearHistogram());
             requestQueueTimeMs =
                     metricGroup.histogram(
-                            MetricNames.REQUEST_QUEUE_TIME_MS,
-                            new DescriptiveStatisticsHistogram(WINDOW_SIZE));
+                            MetricNames.REQUEST_QUEUE_TIME_MS, new LogLinearHistogram());
             requestProcessTimeMs =
                     metricGroup.histogram(
-                            MetricNames.REQUEST_PROCESS_TIME_MS,
-                            new DescriptiveStatisticsHistogram(WINDOW_SIZE));
+                            MetricNames.REQUEST_PROCESS_TIME_MS, new LogLinearHistogram());
             responseSendTimeMs =
                     metricGroup.histogram(
-                            MetricNames.RESPONSE_SEND_TIME_MS,
-                            new DescriptiveStatisticsHistogram(WINDOW_SIZE));
+                            MetricNames.RESPONSE_SEND_TIME_MS, new LogLinearHistogram());
             totalTimeMs =
                     metricGroup.histogram(
-                            MetricNames.REQUEST_TOTAL_TIME_MS,
-                            new DescriptiveStatisticsHistogram(WINDOW_SIZE));
+                            MetricNames.REQUEST_TOTAL_TIME_MS, new LogLinearHistogram());
         }
 
         public Counter getRequestsCount() {
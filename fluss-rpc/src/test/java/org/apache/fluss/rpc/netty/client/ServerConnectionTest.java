@@ -23,6 +23,7 @@ import org.apache.fluss.cluster.ServerType;
 import org.apache.fluss.config.Configuration;
 import org.apache.fluss.exception.DisconnectException;
 import org.apache.fluss.exception.InvalidServerTypeException;
+import org.apache.fluss.exception.TimeoutException;
 import org.apache.fluss.metrics.Gauge;
 import org.apache.fluss.metrics.Metric;
 import org.apache.fluss.metrics.MetricType;
@@ -38,6 +39,8 @@ import org.apache.fluss.rpc.messages.ListDatabasesRequest;
 import org.apache.fluss.rpc.messages.LookupRequest;
 import org.apache.fluss.rpc.messages.PbLookupReqForBucket;
 import org.apache.fluss.rpc.messages.PbTablePath;
+import org.apache.fluss.rpc.messages.PrefixLookupRequest;
+import org.apache.fluss.rpc.messages.PrefixLookupResponse;
 import org.apache.fluss.rpc.metrics.ClientMetricGroup;
 import org.apache.fluss.rpc.metrics.TestingClientMetricGroup;
 import org.apache.fluss.rpc.netty.client.ServerConnection.ConnectionState;
@@ -49,16 +52,20 @@ import org.apache.fluss.security.auth.ClientAuthenticator;
 import org.apache.fluss.shaded.netty4.io.netty.bootstrap.Bootstrap;
 import org.apache.fluss.shaded.netty4.io.netty.channel.ChannelFuture;
 import org.apache.fluss.shaded.netty4.io.netty.channel.EventLoopGroup;
+import org.apache.fluss.shaded.netty4.io.netty.util.HashedWheelTimer;
 import org.apache.fluss.utils.NetUtils;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -70,12 +77,14 @@ import static org.apache.fluss.metrics.MetricNames.CLIENT_BYTES_OUT_RATE_TOTAL;
 import static org.apache.fluss.metrics.MetricNames.CLIENT_REQUESTS_IN_FLIGHT_TOTAL;
 import static org.apache.fluss.metrics.MetricNames.CLIENT_REQUESTS_RATE_AVG;
 import static org.apache.fluss.metrics.MetricNames.CLIENT_REQUESTS_RATE_TOTAL;
+import static org.apache.fluss.metrics.MetricNames.CLIENT_REQUESTS_TIMEOUT_TOTAL;
 import static org.apache.fluss.metrics.MetricNames.CLIENT_REQUEST_LATENCY_MS_AVG;
 import static org.apache.fluss.metrics.MetricNames.CLIENT_REQUEST_LATENCY_MS_MAX;
 import static org.apache.fluss.metrics.MetricNames.CLIENT_RESPONSES_RATE_AVG;
 import static org.apache.fluss.metrics.MetricNames.CLIENT_RESPONSES_RATE_TOTAL;
 import static org.apache.fluss.rpc.netty.NettyUtils.getClientSocketChannelClass;
 import static org.apache.fluss.rpc.netty.NettyUtils.newEventLoopGroup;
+import static org.apache.fluss.testutils.common.CommonTestUtils.retry;
 import static org.apache.fluss.utils.NetUtils.getAvailablePort;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -83,6 +92,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 /** Test for {@link ServerConnection}. */
 public class ServerConnectionTest {
 
+    private static final int MAX_INFLIGHT_REQUESTS = 100;
+    private static final long REQUEST_TIMEOUT_MS = 30_000L;
+
     private EventLoopGroup eventLoopGroup;
     private Bootstrap bootstrap;
     private ClientAuthenticator clientAuthenticator;
@@ -91,6 +103,11 @@ public class ServerConnectionTest {
     private ServerNode serverNode;
     private ServerNode serverNode2;
     private TestingGatewayService service;
+    private HashedWheelTimer requestTimer;
+
+    /** The prefix lookups received by the server, which are never responded unless completed. */
+    private final Queue<CompletableFuture<PrefixLookupResponse>> pendingPrefixLookups =
+            new ConcurrentLinkedQueue<>();
 
     @BeforeEach
     void setUp() throws Exception {
@@ -105,6 +122,7 @@ public class ServerConnectionTest {
                         .handler(new ClientChannelInitializer(5000, false));
         clientAuthenticator =
                 AuthenticationFactory.loadClientAuthenticatorSupplier(new Configuration()).get();
+        requestTimer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS);
     }
 
     @AfterEach
@@ -116,6 +134,10 @@ public class ServerConnectionTest {
         if (eventLoopGroup != null) {
             eventLoopGroup.shutdownGracefully();
         }
+
+        if (requestTimer != null) {
+            requestTimer.stop();
+        }
     }
 
     @Test
@@ -126,6 +148,9 @@ public class ServerConnectionTest {
                         serverNode,
                         TestingClientMetricGroup.newInstance(),
                         clientAuthenticator,
+                        requestTimer,
+                        MAX_INFLIGHT_REQUESTS,
+                        REQUEST_TIMEOUT_MS,
                         (con, ignore) -> {});
         ConnectionState connectionState = connection.getConnectionState();
         assertThat(connectionState).isEqualTo(ConnectionState.CONNECTING);
@@ -155,20 +180,18 @@ public class ServerConnectionTest {
         MockMetricRegistry metricRegistry = new MockMetricRegistry();
         ClientMetricGroup client = new ClientMetricGroup(metricRegistry, "client");
         ServerConnection connection =
-                new ServerConnection(
-                        bootstrap, serverNode, client, clientAuthenticator, (con, ignore) -> {});
+                newConnection(serverNode, client, MAX_INFLIGHT_REQUESTS, REQUEST_TIMEOUT_MS);
         ServerConnection connection2 =
-                new ServerConnection(
-                        bootstrap, serverNode2, client, clientAuthenticator, (con, ignore) -> {});
+                newConnection(serverNode2, client, MAX_INFLIGHT_REQUESTS, REQUEST_TIMEOUT_MS);
         LookupRequest request = new LookupRequest().setTableId(1);
         PbLookupReqForBucket pbLookupReqForBucket = request.addBucketsReq();
         pbLookupReqForBucket.setBucketId(1);
-        assertThat(metricRegistry.registeredMetrics).hasSize(11);
+        assertThat(metricRegistry.registeredMetrics).hasSize(12);
 
         connection.send(ApiKeys.LOOKUP, request).get();
         connection2.send(ApiKeys.LOOKUP, request).get();
 
-        assertThat(metricRegistry.registeredMetrics).hasSize(11);
+        assertThat(metricRegistry.registeredMetrics).hasSize(12);
         assertThat(metricRegistry.registeredMetrics.keySet())
                 .containsExactlyInAnyOrder(
                         CLIENT_REQUESTS_RATE_AVG,
@@ -181,7 +204,8 @@ public class ServerConnectionTest {
                         CLIENT_BYTES_OUT_RATE_TOTAL,
                         CLIENT_REQUEST_LATENCY_MS_AVG,
                         CLIENT_REQUEST_LATENCY_MS_MAX,
-                        CLIENT_REQUESTS_IN_FLIGHT_TOTAL);
+                        CLIENT_REQUESTS_IN_FLIGHT_TOTAL,
+                        CLIENT_REQUESTS_TIMEOUT_TOTAL);
         Metric metric = metricRegistry.registeredMetrics.get(CLIENT_REQUESTS_RATE_AVG);
         assertThat(metric.getMetricType()).isEqualTo(MetricType.GAUGE);
         assertThat(((Gauge<?>) metric).getValue()).isEqualTo(1.0);
@@ -215,6 +239,9 @@ public class ServerConnectionTest {
                         wrongServerTypeNode,
                         TestingClientMetricGroup.newInstance(),
                         clientAuthenticator,
+                        requestTimer,
+                        MAX_INFLIGHT_REQUESTS,
+                        REQUEST_TIMEOUT_MS,
                         (con, ignore) -> {});
 
         // Pending request will be rejected with InvalidServerTypeException which is
@@ -239,6 +266,107 @@ public class ServerConnectionTest {
                 .isInstanceOf(DisconnectException.class);
     }
 
+    @Test
+    void testRequestTimeout() throws Exception {
+        MockMetricRegistry metricRegistry = new MockMetricRegistry();
+        ServerConnection connection =
+                newConnection(
+                        serverNode,
+                        new ClientMetricGroup(metricRegistry, "client"),
+                        MAX_INFLIGHT_REQUESTS,
+                        200L);
+
+        // the server never responds to the prefix lookup requests
+        assertThatThrownBy(
+                        () ->
+                                connection
+                                        .send(
+                                                ApiKeys.PREFIX_LOOKUP,
+                                                new PrefixLookupRequest().setTableId(1))
+                                        .get())
+                .rootCause()
+                .isInstanceOf(TimeoutException.class)
+                .hasMessageContaining("timed out after 200 ms");
+        assertThat(
+                        ((Gauge<?>)
+                                        metricRegistry.registeredMetrics.get(
+                                                CLIENT_REQUESTS_TIMEOUT_TOTAL))
+                                .getValue())
+                .isEqualTo(1L);
+
+        // the connection is still available after the request timed out
+        assertThat(connection.isReady()).isTrue();
+        LookupRequest request = new LookupRequest().setTableId(1);
+        request.addBucketsReq().setBucketId(1);
+        connection.send(ApiKeys.LOOKUP, request).get();
+        connection.close().get();
+    }
+
+    @Test
+    void testMaxInflightRequests() throws Exception {
+        ServerConnection connection =
+                newConnection(
+                        serverNode, TestingClientMetricGroup.newInstance(), 2, REQUEST_TIMEOUT_MS);
+        CompletableFuture<ApiMessage> future1 =
+                connection.send(ApiKeys.PREFIX_LOOKUP, new PrefixLookupRequest().setTableId(1));
+        CompletableFuture<ApiMessage> future2 =
+                connection.send(ApiKeys.PREFIX_LOOKUP, new PrefixLookupRequest().setTableId(1));
+        retry(Duration.ofMinutes(1), () -> assertThat(pendingPrefixLookups).hasSize(2));
+
+        // the third request is queued without blocking the caller until an in-flight request
+        // completes
+        CompletableFuture<ApiMessage> future3 =
+                connection.send(ApiKeys.PREFIX_LOOKUP, new PrefixLookupRequest().setTableId(1));
+        Thread.sleep(100);
+        assertThat(pendingPrefixLookups).hasSize(2);
+
+        pendingPrefixLookups.poll().complete(new PrefixLookupResponse());
+        future1.get();
+        retry(Duration.ofMinutes(1), () -> assertThat(pendingPrefixLookups).hasSize(2));
+        assertThat(future2).isNotDone();
+        assertThat(future3).isNotDone();
+        connection.close().get();
+    }
+
+    @Test
+    void testThrottledRequestTimeout() throws Exception {
+        ServerConnection connection =
+                newConnection(serverNode, TestingClientMetricGroup.newInstance(), 1, 200L);
+        CompletableFuture<ApiMessage> future1 =
+                connection.send(ApiKeys.PREFIX_LOOKUP, new PrefixLookupRequest().setTableId(1));
+        CompletableFuture<ApiMessage> future2 =
+                connection.send(ApiKeys.PREFIX_LOOKUP, new PrefixLookupRequest().setTableId(1));
+
+        // the queued request times out waiting for the in-flight request
+        assertThatThrownBy(future2::get)
+                .rootCause()
+                .isInstanceOf(TimeoutException.class)
+                .hasMessageContaining("waiting for the in-flight requests to complete");
+        assertThatThrownBy(future1::get).rootCause().isInstanceOf(TimeoutException.class);
+
+        // the permits are released, so that the connection is still available
+        LookupRequest request = new LookupRequest().setTableId(1);
+        request.addBucketsReq().setBucketId(1);
+        connection.send(ApiKeys.LOOKUP, request).get();
+        connection.close().get();
+    }
+
+    private ServerConnection newConnection(
+            ServerNode node,
+            ClientMetricGroup clientMetricGroup,
+            int maxInflightRequests,
+            long requestTimeoutMs) {
+        return new ServerConnection(
+                bootstrap,
+                node,
+                clientMetricGroup,
+                clientAuthenticator,
+                requestTimer,
+                maxInflightRequests,
+                requestTimeoutMs,
+                (con, ignore) -> {});
+    }
+
     private void buildNettyServer() throws Exception {
         try (NetUtils.Port availablePort = getAvailablePort();
                 NetUtils.Port availablePort2 = getAvailablePort()) {
@@ -248,7 +376,17 @@ public class ServerConnectionTest {
             serverNode2 =
                     new ServerNode(
                             2, "localhost", availablePort2.getPort(), ServerType.TABLET_SERVER);
-            service = new TestingTabletGatewayService();
+            service =
+                    new TestingTabletGatewayService() {
+                        @Override
+                        public CompletableFuture<PrefixLookupResponse> prefixLookup(
+                                PrefixLookupRequest request) {
+                            CompletableFuture<PrefixLookupResponse> future =
+                                    new CompletableFuture<>();
+                            pendingPrefixLookups.add(future);
+                            return future;
+                        }
+                    };
             MetricGroup metricGroup = NOPMetricsGroup.newInstance();
             nettyServer =
                     new NettyServer(
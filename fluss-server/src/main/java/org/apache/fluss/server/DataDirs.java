@@ -0,0 +1,338 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.server;
+
+import org.apache.fluss.annotation.VisibleForTesting;
+import org.apache.fluss.config.ConfigOptions;
+import org.apache.fluss.config.Configuration;
+import org.apache.fluss.exception.FlussRuntimeException;
+import org.apache.fluss.exception.StorageException;
+import org.apache.fluss.utils.FileUtils;
+import org.apache.fluss.utils.clock.Clock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * The local data directories of a tablet server, see {@link ConfigOptions#DATA_DIRS}. The
+ * directories are usually on different disks, each tablet is placed on one of them and the kv
+ * tablet of a bucket is placed on the directory of its log tablet.
+ *
+ * <p>A directory goes offline when its disk fails, the tablets on it are not accessible anymore
+ * while the tablets on the other directories stay online.
+ */
+@ThreadSafe
+public final class DataDirs {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DataDirs.class);
+
+    /** The file created and deleted to check whether a directory is still accessible. */
+    @VisibleForTesting static final String PROBE_FILE = ".fluss_probe";
+
+    /** The min interval to sample the write rate of a directory. */
+    private static final long RATE_SAMPLE_INTERVAL_MS = 1000L;
+
+    private final List<DataDir> dirs;
+    private final Clock clock;
+    private final List<Consumer<File>> failureListeners = new CopyOnWriteArrayList<>();
+
+    @VisibleForTesting
+    DataDirs(List<File> dataDirs, Set<File> offlineDirs, Clock clock) {
+        List<DataDir> dirs = new ArrayList<>(dataDirs.size());
+        for (File dataDir : dataDirs) {
+            dirs.add(new DataDir(dataDir, !offlineDirs.contains(dataDir), clock.milliseconds()));
+        }
+        this.dirs = Collections.unmodifiableList(dirs);
+        this.clock = clock;
+    }
+
+    /**
+     * Creates the configured data directories if missing. A directory which can't be created or
+     * read is offline, unless it's the only directory.
+     */
+    public static DataDirs create(Configuration conf, Clock clock) {
+        List<File> dataDirs = resolve(conf);
+        Set<File> offlineDirs = new LinkedHashSet<>();
+        for (File dataDir : dataDirs) {
+            try {
+                createAndValidate(dataDir);
+            } catch (IOException e) {
+                if (dataDirs.size() == 1) {
+                    throw new FlussRuntimeException(
+                            "Failed to create or validate data directory "
+                                    + dataDir.getAbsolutePath(),
+                            e);
+                }
+                LOG.error(
+                        "Failed to create or validate data directory {}, the directory is offline.",
+                        dataDir.getAbsolutePath(),
+                        e);
+                offlineDirs.add(dataDir);
+            }
+        }
+        if (offlineDirs.size() == dataDirs.size()) {
+            throw new FlussRuntimeException(
+                    "All the data directories " + dataDirs + " are offline.");
+        }
+        return new DataDirs(dataDirs, offlineDirs, clock);
+    }
+
+    /**
+     * Returns the configured data directories, which are {@link ConfigOptions#DATA_DIRS} or {@link
+     * ConfigOptions#DATA_DIR} if the former is not configured.
+     */
+    public static List<File> resolve(Configuration conf) {
+        List<String> paths = conf.get(ConfigOptions.DATA_DIRS);
+        if (paths.isEmpty()) {
+            paths = Collections.singletonList(conf.get(ConfigOptions.DATA_DIR));
+        }
+        Set<File> dataDirs = new LinkedHashSet<>();
+        for (String path : paths) {
+            dataDirs.add(new File(path.trim()).toPath().toAbsolutePath().normalize().toFile());
+        }
+        return new ArrayList<>(dataDirs);
+    }
+
+    private static void createAndValidate(File dataDir) throws IOException {
+        if (!dataDir.exists()) {
+            LOG.info("Data directory {} not found, creating it.", dataDir.getAbsolutePath());
+            if (!dataDir.mkdirs()) {
+                throw new IOException(
+                        "Failed to create data directory " + dataDir.getAbsolutePath());
+            }
+            FileUtils.flushDir(dataDir.toPath().getParent());
+        }
+        if (!dataDir.isDirectory() || !dataDir.canRead()) {
+            throw new IOException(dataDir.getAbsolutePath() + " is not a readable data directory.");
+        }
+    }
+
+    /** Returns all the data directories, including the offline ones. */
+    public List<File> getDirs() {
+        List<File> result = new ArrayList<>(dirs.size());
+        for (DataDir dir : dirs) {
+            result.add(dir.dir);
+        }
+        return result;
+    }
+
+    /** Returns the online data directories. */
+    public List<File> getOnlineDirs() {
+        List<File> result = new ArrayList<>(dirs.size());
+        for (DataDir dir : dirs) {
+            if (dir.online) {
+                result.add(dir.dir);
+            }
+        }
+        return result;
+    }
+
+    public int getOfflineDirCount() {
+        int count = 0;
+        for (DataDir dir : dirs) {
+            if (!dir.online) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public boolean isOnline(File dataDir) {
+        return get(dataDir).online;
+    }
+
+    /**
+     * Returns the data directory the given tablet directory is in, which is the nearest ancestor of
+     * the tablet directory among the data directories.
+     */
+    public File getDataDir(File tabletDir) {
+        Path tabletPath = tabletDir.toPath().toAbsolutePath().normalize();
+        for (Path path = tabletPath.getParent(); path != null; path = path.getParent()) {
+            for (DataDir dir : dirs) {
+                if (path.equals(dir.dir.toPath())) {
+                    return dir.dir;
+                }
+            }
+        }
+        throw new IllegalArgumentException(
+                "The tablet directory " + tabletDir + " is not in any data directory " + getDirs());
+    }
+
+    /**
+     * Selects the online data directory to place a new tablet on, which is the directory taking the
+     * longest time to fill up its free space at the expected write rate.
+     *
+     * <p>The expected write rate of a directory is its recent write rate, but at least the average
+     * write rate of a tablet for each tablet on it, as the tablets placed recently may not have
+     * been written yet, plus the average write rate of a tablet for the new tablet.
+     *
+     * @param tabletCount the number of tablets on the given data directory
+     */
+    public File select(ToIntFunction<File> tabletCount) {
+        long nowMs = clock.milliseconds();
+        double totalRate = 0;
+        int totalTablets = 0;
+        for (DataDir dir : dirs) {
+            if (dir.online) {
+                totalRate += dir.sampleRate(nowMs);
+                totalTablets += tabletCount.applyAsInt(dir.dir);
+            }
+        }
+        // at least 1 byte per second to balance the number of tablets when nothing is written
+        double tabletRate = Math.max(1d, totalTablets == 0 ? 0d : totalRate / totalTablets);
+
+        DataDir selected = null;
+        double selectedTimeToFill = -1d;
+        for (DataDir dir : dirs) {
+            if (!dir.online) {
+                continue;
+            }
+            double expectedRate =
+                    Math.max(dir.sampleRate(nowMs), tabletCount.applyAsInt(dir.dir) * tabletRate)
+                            + tabletRate;
+            double timeToFill = dir.dir.getUsableSpace() / expectedRate;
+            if (timeToFill > selectedTimeToFill) {
+                selected = dir;
+                selectedTimeToFill = timeToFill;
+            }
+        }
+        if (selected == null) {
+            throw new StorageException("No online data directory in " + getDirs());
+        }
+        return selected.dir;
+    }
+
+    /** Records the bytes written to the tablets on the given data directory. */
+    public void recordWrite(File dataDir, long bytes) {
+        get(dataDir).bytesWritten.add(bytes);
+    }
+
+    /**
+     * Handles an I/O error of a tablet on the given data directory. The directory is marked offline
+     * if it is not accessible anymore.
+     *
+     * @return true if the directory is offline while other directories are still online, which
+     *     means the error only takes the tablets on the directory offline; false if the directory
+     *     is still accessible or there is no online directory anymore
+     */
+    public boolean handleIOError(File dataDir, Throwable cause) {
+        if (isAccessible(dataDir)) {
+            return false;
+        }
+        markOffline(dataDir, cause);
+        return !getOnlineDirs().isEmpty();
+    }
+
+    /** Marks the data directory offline and notifies the failure listeners. */
+    public void markOffline(File dataDir, Throwable cause) {
+        DataDir dir = get(dataDir);
+        synchronized (dir) {
+            if (!dir.online) {
+                return;
+            }
+            dir.online = false;
+        }
+        LOG.error("Data directory {} is offline.", dataDir.getAbsolutePath(), cause);
+        for (Consumer<File> listener : failureListeners) {
+            listener.accept(dataDir);
+        }
+    }
+
+    /**
+     * Registers a listener to be called with the data directory which goes offline. The listener
+     * may be called by the thread hitting the I/O error while holding locks, so it shouldn't block.
+     */
+    public void registerFailureListener(Consumer<File> listener) {
+        failureListeners.add(listener);
+    }
+
+    private static boolean isAccessible(File dataDir) {
+        Path probe = dataDir.toPath().resolve(PROBE_FILE);
+        try {
+            Files.deleteIfExists(probe);
+            Files.createFile(probe);
+            Files.delete(probe);
+            return dataDir.canRead();
+        } catch (IOException | SecurityException e) {
+            LOG.warn("Data directory {} is not accessible.", dataDir.getAbsolutePath(), e);
+            return false;
+        }
+    }
+
+    private DataDir get(File dataDir) {
+        for (DataDir dir : dirs) {
+            if (dir.dir.equals(dataDir)) {
+                return dir;
+            }
+        }
+        throw new IllegalArgumentException(
+                "Unknown data directory " + dataDir + ", the data directories are " + getDirs());
+    }
+
+    /** A data directory and the rate of the bytes written to it. */
+    private static final class DataDir {
+        private final File dir;
+        private final LongAdder bytesWritten = new LongAdder();
+
+        private volatile boolean online;
+
+        @GuardedBy("this")
+        private long lastSampleMs;
+
+        @GuardedBy("this")
+        private long lastSampleBytes;
+
+        @GuardedBy("this")
+        private double rate;
+
+        private DataDir(File dir, boolean online, long nowMs) {
+            this.dir = dir;
+            this.online = online;
+            this.lastSampleMs = nowMs;
+        }
+
+        /** Returns the write rate in bytes per second, which is sampled at most once a second. */
+        private synchronized double sampleRate(long nowMs) {
+            long elapsedMs = nowMs - lastSampleMs;
+            if (elapsedMs >= RATE_SAMPLE_INTERVAL_MS) {
+                long bytes = bytesWritten.sum();
+                rate = (bytes - lastSampleBytes) * 1000d / elapsedMs;
+                lastSampleBytes = bytes;
+                lastSampleMs = nowMs;
+            }
+            return rate;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.apache.fluss.config.Configuration;
 import org.apache.fluss.exception.KvStorageException;
 import org.apache.fluss.exception.LogStorageException;
 import org.apache.fluss.exception.SchemaNotExistException;
+import org.apache.fluss.exception.StorageException;
 import org.apache.fluss.metadata.PhysicalTablePath;
 import org.apache.fluss.metadata.SchemaInfo;
 import org.apache.fluss.metadata.TableBucket;
@@ -30,6 +31,7 @@ import org.apache.fluss.server.kv.KvManager;
 import org.apache.fluss.server.log.LogManager;
 import org.apache.fluss.server.zk.ZooKeeperClient;
 import org.apache.fluss.server.zk.data.TableRegistration;
+import org.apache.fluss.utils.ExceptionUtils;
 import org.apache.fluss.utils.FileUtils;
 import org.apache.fluss.utils.FlussPaths;
 import org.apache.fluss.utils.concurrent.ExecutorThreadFactory;
@@ -43,7 +45,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -71,7 +76,7 @@ public abstract class TabletManagerBase {
         KV
     }
 
-    protected final File dataDir;
+    protected final DataDirs dataDirs;
 
     protected final Configuration conf;
 
@@ -83,22 +88,26 @@ public abstract class TabletManagerBase {
     private final String tabletDirPrefix;
 
     public TabletManagerBase(
-            TabletType tabletType, File dataDir, Configuration conf, int recoveryThreads) {
+            TabletType tabletType, DataDirs dataDirs, Configuration conf, int recoveryThreads) {
         this.tabletType = tabletType;
         this.tabletDirPrefix = getTabletDirPrefix(tabletType);
-        this.dataDir = dataDir;
+        this.dataDirs = dataDirs;
         this.conf = conf;
         this.recoveryThreads = recoveryThreads;
     }
 
+    public DataDirs getDataDirs() {
+        return dataDirs;
+    }
+
     /**
-     * Return the directories of the tablets to be loaded.
+     * Return the directories of the tablets to be loaded in the given data directory.
      *
      * <p>See more about the local directory contracts: {@link FlussPaths#logTabletDir(File,
      * PhysicalTablePath, TableBucket)} and {@link FlussPaths#kvTabletDir(File, PhysicalTablePath,
      * TableBucket)}.
      */
-    protected List<File> listTabletsToLoad() {
+    protected List<File> listTabletsToLoad(File dataDir) {
         List<File> tabletsToLoad = new ArrayList<>();
         // Get all database directory.
         File[] dbDirs = FileUtils.listDirectories(dataDir);
@@ -141,7 +150,7 @@ public abstract class TabletManagerBase {
     }
 
     /** Running a series of jobs in a thread pool, and return the count of the successful job. */
-    protected int runInThreadPool(Runnable[] runnableJobs, String poolName) throws Throwable {
+    protected int runInThreadPool(Runnable[] runnableJobs, String poolName) throws Exception {
         List<Future<?>> jobsForTabletDir = new ArrayList<>();
         ExecutorService pool = createThreadPool(poolName);
         for (Runnable runnable : runnableJobs) {
@@ -153,8 +162,8 @@ public abstract class TabletManagerBase {
                 try {
                     future.get();
                     successCount++;
-                } catch (InterruptedException | ExecutionException e) {
-                    throw e.getCause();
+                } catch (ExecutionException e) {
+                    ExceptionUtils.rethrowException(e.getCause(), e.getMessage());
                 }
             }
         } finally {
@@ -174,7 +183,19 @@ public abstract class TabletManagerBase {
      * @return the tablet directory
      */
     protected File getOrCreateTabletDir(PhysicalTablePath tablePath, TableBucket tableBucket) {
-        File tabletDir = getTabletDir(tablePath, tableBucket);
+        return getOrCreateTabletDir(tablePath, tableBucket, true);
+    }
+
+    /**
+     * Get the tablet directory for the given table path and table bucket, see {@link
+     * #getTabletDir(PhysicalTablePath, TableBucket, boolean)}.
+     *
+     * <p>When the parent directory of the tablet directory is missing, it will create the
+     * directory.
+     */
+    protected File getOrCreateTabletDir(
+            PhysicalTablePath tablePath, TableBucket tableBucket, boolean isNewTablet) {
+        File tabletDir = getTabletDir(tablePath, tableBucket, isNewTablet);
         if (tabletDir.exists()) {
             return tabletDir;
         }
@@ -186,7 +207,60 @@ public abstract class TabletManagerBase {
         return getTabletDir(tablePath, tableBucket).toPath().getParent();
     }
 
+    /**
+     * Get the tablet directory for the given table path and table bucket, which is the existing
+     * tablet directory in an online data directory, or the tablet directory in the data directory
+     * selected by {@link #selectDataDir(PhysicalTablePath, TableBucket)} if there is none.
+     */
     protected File getTabletDir(PhysicalTablePath tablePath, TableBucket tableBucket) {
+        return getTabletDir(tablePath, tableBucket, true);
+    }
+
+    /**
+     * Get the tablet directory for the given table path and table bucket, which is the existing
+     * tablet directory in an online data directory, or the tablet directory in the data directory
+     * selected by {@link #selectDataDir(PhysicalTablePath, TableBucket)} if there is none.
+     *
+     * @param isNewTablet whether the tablet is known to have no data on this server, otherwise a
+     *     tablet not found in the online data directories may be on an offline data directory and
+     *     is refused instead of being created empty elsewhere
+     * @throws StorageException if the tablet isn't new, isn't found in the online data directories
+     *     and some data directory is offline
+     */
+    protected File getTabletDir(
+            PhysicalTablePath tablePath, TableBucket tableBucket, boolean isNewTablet) {
+        for (File dataDir : dataDirs.getOnlineDirs()) {
+            File tabletDir = getTabletDir(dataDir, tablePath, tableBucket);
+            if (tabletDir.exists()) {
+                return tabletDir;
+            }
+        }
+        if (!isNewTablet && dataDirs.getOfflineDirCount() > 0) {
+            throw new StorageException(
+                    String.format(
+                            "The %s tablet of %s is not found in the online data directories %s, "
+                                    + "it may be on an offline data directory.",
+                            tabletType.name().toLowerCase(),
+                            tableBucket,
+                            dataDirs.getOnlineDirs()));
+        }
+        return getTabletDir(selectDataDir(tablePath, tableBucket), tablePath, tableBucket);
+    }
+
+    /** Selects the data directory to place a new tablet of the given table bucket on. */
+    protected abstract File selectDataDir(PhysicalTablePath tablePath, TableBucket tableBucket);
+
+    /** Returns the number of the given tablet directories in each data directory. */
+    protected Map<File, Integer> countTabletsPerDataDir(Collection<File> tabletDirs) {
+        Map<File, Integer> tabletsPerDataDir = new HashMap<>();
+        for (File tabletDir : tabletDirs) {
+            tabletsPerDataDir.merge(dataDirs.getDataDir(tabletDir), 1, Integer::sum);
+        }
+        return tabletsPerDataDir;
+    }
+
+    protected File getTabletDir(
+            File dataDir, PhysicalTablePath tablePath, TableBucket tableBucket) {
         switch (tabletType) {
             case LOG:
                 return FlussPaths.logTabletDir(dataDir, tablePath, tableBucket);
@@ -58,6 +58,7 @@ import org.apache.fluss.rpc.messages.ListRebalanceProgressResponse;
 import org.apache.fluss.rpc.messages.PbCommitLakeTableSnapshotRespForTable;
 import org.apache.fluss.rpc.messages.RebalanceResponse;
 import org.apache.fluss.rpc.messages.RemoveServerTagResponse;
+import org.apache.fluss.rpc.messages.ReportOfflineReplicasResponse;
 import org.apache.fluss.rpc.protocol.ApiError;
 import org.apache.fluss.server.coordinator.event.AccessContextEvent;
 import org.apache.fluss.server.coordinator.event.AddServerTagEvent;
@@ -86,6 +87,7 @@ import org.apache.fluss.server.coordinator.event.NotifyLakeTableOffsetEvent;
 import org.apache.fluss.server.coordinator.event.NotifyLeaderAndIsrResponseReceivedEvent;
 import org.apache.fluss.server.coordinator.event.RebalanceEvent;
 import org.apache.fluss.server.coordinator.event.RemoveServerTagEvent;
+import org.apache.fluss.server.coordinator.event.ReportOfflineReplicasEvent;
 import org.apache.fluss.server.coordinator.event.SchemaChangeEvent;
 import org.apache.fluss.server.coordinator.event.TableRegistrationChangeEvent;
 import org.apache.fluss.server.coordinator.event.watcher.CoordinatorChangeWatcher;
@@ -626,6 +628,12 @@ public class CoordinatorEventProcessor implements EventProcessor {
             completeFromCallable(
                     controlledShutdownEvent.getRespCallback(),
                     () -> tryProcessControlledShutdown(controlledShutdownEvent));
+        } else if (event instanceof ReportOfflineReplicasEvent) {
+            ReportOfflineReplicasEvent reportOfflineReplicasEvent =
+                    (ReportOfflineReplicasEvent) event;
+            completeFromCallable(
+                    reportOfflineReplicasEvent.getRespCallback(),
+                    () -> processReportOfflineReplicas(reportOfflineReplicasEvent));
         } else if (event instanceof AddServerTagEvent) {
             AddServerTagEvent addServerTagEvent = (AddServerTagEvent) event;
             completeFromCallable(
@@ -990,6 +998,23 @@ public class CoordinatorEventProcessor implements EventProcessor {
         }
     }
 
+    private ReportOfflineReplicasResponse processReportOfflineReplicas(
+            ReportOfflineReplicasEvent reportOfflineReplicasEvent) {
+        Set<TableBucketReplica> offlineReplicas = new HashSet<>();
+        for (TableBucketReplica replica : reportOfflineReplicasEvent.getOfflineReplicas()) {
+            // ignore the replicas of the deleted buckets and the reassigned replicas
+            if (coordinatorContext
+                    .getAssignment(replica.getTableBucket())
+                    .contains(replica.getReplica())) {
+                offlineReplicas.add(replica);
+            }
+        }
+        if (!offlineReplicas.isEmpty()) {
+            onReplicaBecomeOffline(offlineReplicas);
+        }
+        return new ReportOfflineReplicasResponse();
+    }
+
     private void onReplicaBecomeOffline(Set<TableBucketReplica> offlineReplicas) {
         LOG.info("The replica {} become offline.", offlineReplicas);
         for (TableBucketReplica offlineReplica : offlineReplicas) {
@@ -1691,32 +1716,31 @@ public class CoordinatorEventProcessor implements EventProcessor {
             newLeaderAndIsrList.put(tableBucket, newLeaderAndIsr);
         }
 
+        Map<TableBucket, Exception> failures;
         try {
-            zooKeeperClient.batchUpdateLeaderAndIsr(
-                    newLeaderAndIsrList, coordinatorContext.getCoordinatorZkVersion());
-            newLeaderAndIsrList.forEach(
-                    (tableBucket, newLeaderAndIsr) ->
-                            result.add(new AdjustIsrResultForBucket(tableBucket, newLeaderAndIsr)));
-        } catch (Exception batchException) {
-            LOG.error("Error when batch update leader and isr. Try one by one.", batchException);
-
-            for (Map.Entry<TableBucket, LeaderAndIsr> entry : newLeaderAndIsrList.entrySet()) {
-                TableBucket tableBucket = entry.getKey();
-                LeaderAndIsr newLeaderAndIsr = entry.getValue();
-                try {
-                    zooKeeperClient.updateLeaderAndIsr(
-                            tableBucket,
-                            newLeaderAndIsr,
-                            coordinatorContext.getCoordinatorZkVersion());
-                } catch (Exception e) {
-                    LOG.error("Error when register leader and isr.", e);
-                    result.add(
-                            new AdjustIsrResultForBucket(tableBucket, ApiError.fromThrowable(e)));
-                }
-                // Successful return.
-                result.add(new AdjustIsrResultForBucket(tableBucket, newLeaderAndIsr));
+            failures =
+                    zooKeeperClient.batchUpdateLeaderAndIsrInBackground(
+                            newLeaderAndIsrList, coordinatorContext.getCoordinatorZkVersion());
+        } catch (Exception e) {
+            LOG.error("Error when batch update leader and isr.", e);
+            failures = new HashMap<>();
+            for (TableBucket tableBucket : newLeaderAndIsrList.keySet()) {
+                failures.put(tableBucket, e);
             }
         }
+        for (Map.Entry<TableBucket, Exception> failure : failures.entrySet()) {
+            LOG.error(
+                    "Error when update leader and isr for bucket {}.",
+                    failure.getKey(),
+                    failure.getValue());
+            result.add(
+                    new AdjustIsrResultForBucket(
+                            failure.getKey(), ApiError.fromThrowable(failure.getValue())));
+            newLeaderAndIsrList.remove(failure.getKey());
+        }
+        newLeaderAndIsrList.forEach(
+                (tableBucket, newLeaderAndIsr) ->
+                        result.add(new AdjustIsrResultForBucket(tableBucket, newLeaderAndIsr)));
 
         // update coordinator leader and isr cache.
         newLeaderAndIsrList.forEach(coordinatorContext::putBucketLeaderAndIsr);
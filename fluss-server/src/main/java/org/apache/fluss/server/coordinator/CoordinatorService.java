@@ -51,6 +51,7 @@ import org.apache.fluss.metadata.MergeEngineType;
 import org.apache.fluss.metadata.PartitionSpec;
 import org.apache.fluss.metadata.ResolvedPartitionSpec;
 import org.apache.fluss.metadata.TableBucket;
+import org.apache.fluss.metadata.TableBucketReplica;
 import org.apache.fluss.metadata.TableChange;
 import org.apache.fluss.metadata.TableDescriptor;
 import org.apache.fluss.metadata.TableInfo;
@@ -125,6 +126,8 @@ import org.apache.fluss.rpc.messages.ReleaseKvSnapshotLeaseRequest;
 import org.apache.fluss.rpc.messages.ReleaseKvSnapshotLeaseResponse;
 import org.apache.fluss.rpc.messages.RemoveServerTagRequest;
 import org.apache.fluss.rpc.messages.RemoveServerTagResponse;
+import org.apache.fluss.rpc.messages.ReportOfflineReplicasRequest;
+import org.apache.fluss.rpc.messages.ReportOfflineReplicasResponse;
 import org.apache.fluss.rpc.netty.server.Session;
 import org.apache.fluss.rpc.protocol.ApiError;
 import org.apache.fluss.rpc.protocol.Errors;
@@ -150,6 +153,7 @@ import org.apache.fluss.server.coordinator.event.EventManager;
 import org.apache.fluss.server.coordinator.event.ListRebalanceProgressEvent;
 import org.apache.fluss.server.coordinator.event.RebalanceEvent;
 import org.apache.fluss.server.coordinator.event.RemoveServerTagEvent;
+import org.apache.fluss.server.coordinator.event.ReportOfflineReplicasEvent;
 import org.apache.fluss.server.coordinator.lease.KvSnapshotLeaseHandler;
 import org.apache.fluss.server.coordinator.lease.KvSnapshotLeaseManager;
 import org.apache.fluss.server.coordinator.producer.ProducerOffsetsManager;
@@ -214,6 +218,7 @@ import static org.apache.fluss.server.utils.ServerRpcMessageUtils.makeDropAclsRe
 import static org.apache.fluss.server.utils.ServerRpcMessageUtils.toAlterTableConfigChanges;
 import static org.apache.fluss.server.utils.ServerRpcMessageUtils.toAlterTableSchemaChanges;
 import static org.apache.fluss.server.utils.ServerRpcMessageUtils.toDatabaseChanges;
+import static org.apache.fluss.server.utils.ServerRpcMessageUtils.toTableBucket;
 import static org.apache.fluss.server.utils.ServerRpcMessageUtils.toTableBucketOffsets;
 import static org.apache.fluss.server.utils.ServerRpcMessageUtils.toTablePath;
 import static org.apache.fluss.server.utils.TableAssignmentUtils.generateAssignment;
@@ -433,7 +438,14 @@ public final class CoordinatorService extends RpcServiceBase implements Coordina
     @Override
     public CompletableFuture<CreateTableResponse> createTable(CreateTableRequest request) {
         TablePath tablePath = toTablePath(request.getTablePath());
-        tablePath.validate();
+        // the tablet servers may create the tables of the reserved internal prefix, e.g., the table
+        // storing the offsets of the Kafka consumer groups
+        boolean internalTable =
+                TablePath.validatePrefix(tablePath.getDatabaseName()) != null
+                        || TablePath.validatePrefix(tablePath.getTableName()) != null;
+        if (!(internalTable && tablePath.isValid() && currentSession().isInternal())) {
+            tablePath.validate();
+        }
         authorizeDatabase(OperationType.CREATE, tablePath.getDatabaseName());
 
         TableDescriptor tableDescriptor;
@@ -949,7 +961,8 @@ public final class CoordinatorService extends RpcServiceBase implements Coordina
                         .setTieringTable()
                         .setTableId(lakeTieringTableInfo.tableId())
                         .setTablePath(fromTablePath(lakeTieringTableInfo.tablePath()))
-                        .setTieringEpoch(lakeTieringTableInfo.tieringEpoch());
+                        .setTieringEpoch(lakeTieringTableInfo.tieringEpoch())
+                        .setFreshnessDeadline(lakeTieringTableInfo.freshnessDeadline());
             }
         }
         return CompletableFuture.completedFuture(heartbeatResponse);
@@ -973,6 +986,24 @@ public final class CoordinatorService extends RpcServiceBase implements Coordina
         return response;
     }
 
+    @Override
+    public CompletableFuture<ReportOfflineReplicasResponse> reportOfflineReplicas(
+            ReportOfflineReplicasRequest request) {
+        if (authorizer != null) {
+            authorizer.authorize(currentSession(), OperationType.ALTER, Resource.cluster());
+        }
+
+        Set<TableBucketReplica> offlineReplicas = new HashSet<>();
+        for (PbTableBucket offlineBucket : request.getOfflineBucketsList()) {
+            offlineReplicas.add(
+                    new TableBucketReplica(
+                            toTableBucket(offlineBucket), request.getTabletServerId()));
+        }
+        CompletableFuture<ReportOfflineReplicasResponse> response = new CompletableFuture<>();
+        eventManagerSupplier.get().put(new ReportOfflineReplicasEvent(offlineReplicas, response));
+        return response;
+    }
+
     @Override
     public CompletableFuture<AcquireKvSnapshotLeaseResponse> acquireKvSnapshotLease(
             AcquireKvSnapshotLeaseRequest request) {
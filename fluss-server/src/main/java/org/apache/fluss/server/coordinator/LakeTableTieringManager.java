@@ -430,7 +430,13 @@ public class LakeTableTieringManager implements AutoCloseable {
                     }
                     doHandleStateChange(tableId, TieringState.Tiering);
                     long tieringEpoch = tableTierEpoch.get(tableId);
-                    return new LakeTieringTableInfo(tableId, tablePath, tieringEpoch);
+                    // the table is due to be tiered once its freshness interval has elapsed
+                    // since the last tiering, the tiering service uses it to prioritize tables
+                    long freshnessDeadline =
+                            lastTieringResult.get(tableId).tieredTime
+                                    + tableLakeFreshness.get(tableId);
+                    return new LakeTieringTableInfo(
+                            tableId, tablePath, tieringEpoch, freshnessDeadline);
                 });
     }
 
@@ -20,8 +20,8 @@ package org.apache.fluss.server.coordinator.event;
 import org.apache.fluss.annotation.Internal;
 import org.apache.fluss.metadata.TableBucketReplica;
 import org.apache.fluss.metadata.TablePartition;
-import org.apache.fluss.metrics.DescriptiveStatisticsHistogram;
 import org.apache.fluss.metrics.Histogram;
+import org.apache.fluss.metrics.LogLinearHistogram;
 import org.apache.fluss.metrics.MetricNames;
 import org.apache.fluss.server.coordinator.CoordinatorContext;
 import org.apache.fluss.server.coordinator.statemachine.ReplicaState;
@@ -72,7 +72,6 @@ public final class CoordinatorEventManager implements EventManager {
     private volatile int partitionCount;
     private volatile int replicasToDeleteCount;
 
-    private static final int WINDOW_SIZE = 100;
     private static final long METRICS_UPDATE_INTERVAL_MS = 5000; // 5 seconds
 
     public CoordinatorEventManager(
@@ -85,8 +84,7 @@ public final class CoordinatorEventManager implements EventManager {
     private void registerMetrics() {
         eventQueueTime =
                 coordinatorMetricGroup.histogram(
-                        MetricNames.EVENT_QUEUE_TIME_MS,
-                        new DescriptiveStatisticsHistogram(WINDOW_SIZE));
+                        MetricNames.EVENT_QUEUE_TIME_MS, new LogLinearHistogram());
 
         // Register coordinator metrics
         coordinatorMetricGroup.gauge(MetricNames.ACTIVE_COORDINATOR_COUNT, () -> 1);
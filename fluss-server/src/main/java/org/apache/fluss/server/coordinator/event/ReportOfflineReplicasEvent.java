@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.server.coordinator.event;
+
+import org.apache.fluss.metadata.TableBucketReplica;
+import org.apache.fluss.rpc.messages.ReportOfflineReplicasResponse;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/** An event for the replicas reported offline by a TabletServer, e.g., on a data dir failure. */
+public class ReportOfflineReplicasEvent implements CoordinatorEvent {
+
+    private final Set<TableBucketReplica> offlineReplicas;
+    private final CompletableFuture<ReportOfflineReplicasResponse> respCallback;
+
+    public ReportOfflineReplicasEvent(
+            Set<TableBucketReplica> offlineReplicas,
+            CompletableFuture<ReportOfflineReplicasResponse> respCallback) {
+        this.offlineReplicas = offlineReplicas;
+        this.respCallback = respCallback;
+    }
+
+    public Set<TableBucketReplica> getOfflineReplicas() {
+        return offlineReplicas;
+    }
+
+    public CompletableFuture<ReportOfflineReplicasResponse> getRespCallback() {
+        return respCallback;
+    }
+}
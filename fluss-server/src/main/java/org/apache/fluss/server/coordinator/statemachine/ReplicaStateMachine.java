@@ -487,12 +487,26 @@ public class ReplicaStateMachine {
             toUpdateLeaderAndIsrList.put(tableBucket, adjustLeaderAndIsr);
         }
         try {
-            zooKeeperClient.batchUpdateLeaderAndIsr(
-                    toUpdateLeaderAndIsrList, coordinatorContext.getCoordinatorZkVersion());
+            Map<TableBucket, Exception> failures =
+                    zooKeeperClient.batchUpdateLeaderAndIsrInBackground(
+                            toUpdateLeaderAndIsrList, coordinatorContext.getCoordinatorZkVersion());
+            failures.forEach(
+                    (tableBucket, e) -> {
+                        LOG.error(
+                                "Fail to update bucket LeaderAndIsr for table bucket {}.",
+                                tableBucket,
+                                e);
+                        toUpdateLeaderAndIsrList.remove(tableBucket);
+                    });
+            adjustedLeaderAndIsr
+                    .keySet()
+                    .removeIf(replica -> failures.containsKey(replica.getTableBucket()));
             toUpdateLeaderAndIsrList.forEach(coordinatorContext::putBucketLeaderAndIsr);
-            return adjustedLeaderAndIsr;
         } catch (Exception e) {
+            // it's unknown which of the batches have been written, so none of the adjusted
+            // LeaderAndIsr is applied or notified, as if all of them failed
             LOG.error("Fail to batch update bucket LeaderAndIsr.", e);
+            return Collections.emptyMap();
         }
         return adjustedLeaderAndIsr;
     }
@@ -37,8 +37,11 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -133,9 +136,16 @@ public class TableBucketStateMachine {
                 // batch register table bucket lead and isr
                 batchHandleOnlineChangeAndInitLeader(tableBuckets);
             } else {
+                Set<TableBucket> bucketsToReelect = new HashSet<>();
                 for (TableBucket tableBucket : tableBuckets) {
-                    doHandleStateChange(tableBucket, targetState, replicaLeaderElection);
+                    if (isLeaderReelection(tableBucket, targetState)) {
+                        // the new leaders of these buckets are written to zk in batches
+                        bucketsToReelect.add(tableBucket);
+                    } else {
+                        doHandleStateChange(tableBucket, targetState, replicaLeaderElection);
+                    }
                 }
+                batchElectNewLeaderForTableBuckets(bucketsToReelect, replicaLeaderElection);
             }
             coordinatorRequestBatch.sendRequestToTabletServers(
                     coordinatorContext.getCoordinatorEpoch());
@@ -242,26 +252,8 @@ public class TableBucketStateMachine {
                 } else {
                     // current state is Online or Offline
                     // not new bucket, we then need to update leader/epoch for the bucket
-                    Optional<ElectionResult> optionalElectionResult =
-                            electNewLeaderForTableBuckets(tableBucket, replicaLeaderElection);
-                    if (!optionalElectionResult.isPresent()) {
-                        logFailedStateChange(
-                                tableBucket, currentState, targetState, "Elect result is empty.");
-                    } else {
-                        // transmit state
-                        doStateChange(tableBucket, targetState);
-                        ElectionResult electionResult = optionalElectionResult.get();
-                        // then send request to the tablet servers
-                        coordinatorRequestBatch.addNotifyLeaderRequestForTabletServers(
-                                new HashSet<>(electionResult.liveReplicas),
-                                PhysicalTablePath.of(
-                                        coordinatorContext.getTablePathById(
-                                                tableBucket.getTableId()),
-                                        partitionName),
-                                tableBucket,
-                                coordinatorContext.getAssignment(tableBucket),
-                                electionResult.leaderAndIsr);
-                    }
+                    batchElectNewLeaderForTableBuckets(
+                            Collections.singleton(tableBucket), replicaLeaderElection);
                 }
                 break;
             case OfflineBucket:
@@ -470,13 +462,124 @@ public class TableBucketStateMachine {
         return registerSuccessList;
     }
 
-    private Optional<ElectionResult> electNewLeaderForTableBuckets(
-            TableBucket tableBucket, ReplicaLeaderElection electionStrategy) {
-        LeaderAndIsr leaderAndIsr;
+    private boolean isLeaderReelection(TableBucket tableBucket, BucketState targetState) {
+        BucketState currentState = coordinatorContext.getBucketState(tableBucket);
+        return targetState == BucketState.OnlineBucket
+                && (currentState == BucketState.OnlineBucket
+                        || currentState == BucketState.OfflineBucket);
+    }
+
+    /**
+     * Elects new leaders for the given Online or Offline buckets and moves them to OnlineBucket.
+     * The current LeaderAndIsr of the buckets are read and the new ones are written in pipelined
+     * batches, so that a rolling restart moving the leaders of many buckets doesn't pay a zk round
+     * trip per bucket. A bucket failed to be updated in zk stays in its current state.
+     */
+    private void batchElectNewLeaderForTableBuckets(
+            Set<TableBucket> tableBuckets, ReplicaLeaderElection electionStrategy) {
+        if (tableBuckets.isEmpty()) {
+            return;
+        }
+
+        Map<TableBucket, LeaderAndIsr> currentLeaderAndIsrs;
+        try {
+            currentLeaderAndIsrs = zooKeeperClient.getLeaderAndIsrs(tableBuckets);
+        } catch (Exception e) {
+            LOG.error("Can't get state for table buckets {}.", tableBuckets, e);
+            currentLeaderAndIsrs = Collections.emptyMap();
+        }
+
+        Map<TableBucket, ElectionResult> electionResults = new HashMap<>();
+        Map<TableBucket, String> partitionNames = new HashMap<>();
+        for (TableBucket tableBucket : tableBuckets) {
+            BucketState currentState = coordinatorContext.getBucketState(tableBucket);
+            String partitionName = null;
+            if (tableBucket.getPartitionId() != null) {
+                partitionName = coordinatorContext.getPartitionName(tableBucket.getPartitionId());
+                if (partitionName == null) {
+                    logFailedStateChange(
+                            tableBucket,
+                            currentState,
+                            BucketState.OnlineBucket,
+                            String.format(
+                                    "Can't find partition name for partition: %s.",
+                                    tableBucket.getBucket()));
+                    continue;
+                }
+            }
+
+            Optional<ElectionResult> optionalElectionResult =
+                    electNewLeaderForTableBucket(
+                            tableBucket, currentLeaderAndIsrs.get(tableBucket), electionStrategy);
+            if (!optionalElectionResult.isPresent()) {
+                logFailedStateChange(
+                        tableBucket,
+                        currentState,
+                        BucketState.OnlineBucket,
+                        "Elect result is empty.");
+                continue;
+            }
+            electionResults.put(tableBucket, optionalElectionResult.get());
+            partitionNames.put(tableBucket, partitionName);
+        }
+        if (electionResults.isEmpty()) {
+            return;
+        }
+
+        Map<TableBucket, LeaderAndIsr> newLeaderAndIsrs = new HashMap<>();
+        electionResults.forEach(
+                (tableBucket, electionResult) ->
+                        newLeaderAndIsrs.put(tableBucket, electionResult.leaderAndIsr));
+        Map<TableBucket, Exception> failures;
         try {
-            leaderAndIsr = zooKeeperClient.getLeaderAndIsr(tableBucket).get();
+            failures =
+                    zooKeeperClient.batchUpdateLeaderAndIsrInBackground(
+                            newLeaderAndIsrs, coordinatorContext.getCoordinatorZkVersion());
         } catch (Exception e) {
-            LOG.error("Can't get state for table bucket {}.", stringifyBucket(tableBucket), e);
+            LOG.error("Fail to batch update bucket LeaderAndIsr.", e);
+            failures = new HashMap<>();
+            for (TableBucket tableBucket : newLeaderAndIsrs.keySet()) {
+                failures.put(tableBucket, e);
+            }
+        }
+
+        for (Map.Entry<TableBucket, ElectionResult> entry : electionResults.entrySet()) {
+            TableBucket tableBucket = entry.getKey();
+            ElectionResult electionResult = entry.getValue();
+            Exception failure = failures.get(tableBucket);
+            if (failure != null) {
+                LOG.error(
+                        "Fail to update bucket LeaderAndIsr for table bucket {}.",
+                        stringifyBucket(tableBucket),
+                        failure);
+                logFailedStateChange(
+                        tableBucket,
+                        coordinatorContext.getBucketState(tableBucket),
+                        BucketState.OnlineBucket,
+                        "Fail to update LeaderAndIsr in zookeeper.");
+                continue;
+            }
+            coordinatorContext.putBucketLeaderAndIsr(tableBucket, electionResult.leaderAndIsr);
+            // transmit state
+            doStateChange(tableBucket, BucketState.OnlineBucket);
+            // then send request to the tablet servers
+            coordinatorRequestBatch.addNotifyLeaderRequestForTabletServers(
+                    new HashSet<>(electionResult.liveReplicas),
+                    PhysicalTablePath.of(
+                            coordinatorContext.getTablePathById(tableBucket.getTableId()),
+                            partitionNames.get(tableBucket)),
+                    tableBucket,
+                    coordinatorContext.getAssignment(tableBucket),
+                    electionResult.leaderAndIsr);
+        }
+    }
+
+    private Optional<ElectionResult> electNewLeaderForTableBucket(
+            TableBucket tableBucket,
+            @Nullable LeaderAndIsr leaderAndIsr,
+            ReplicaLeaderElection electionStrategy) {
+        if (leaderAndIsr == null) {
+            LOG.error("Can't get state for table bucket {}.", stringifyBucket(tableBucket));
             return Optional.empty();
         }
         if (leaderAndIsr.coordinatorEpoch() > coordinatorContext.getCoordinatorEpoch()) {
@@ -496,23 +599,8 @@ public class TableBucketStateMachine {
             LOG.error(
                     "The result of elect leader for table bucket {} is empty.",
                     stringifyBucket(tableBucket));
-            return Optional.empty();
         }
-        ElectionResult electionResult = optionalElectionResult.get();
-        try {
-            zooKeeperClient.updateLeaderAndIsr(
-                    tableBucket,
-                    electionResult.leaderAndIsr,
-                    coordinatorContext.getCoordinatorZkVersion());
-        } catch (Exception e) {
-            LOG.error(
-                    "Fail to update bucket LeaderAndIsr for table bucket {}.",
-                    stringifyBucket(tableBucket),
-                    e);
-            return Optional.empty();
-        }
-        coordinatorContext.putBucketLeaderAndIsr(tableBucket, electionResult.leaderAndIsr);
-        return Optional.of(electionResult);
+        return optionalElectionResult;
     }
 
     private boolean checkValidTableBucketStateChange(
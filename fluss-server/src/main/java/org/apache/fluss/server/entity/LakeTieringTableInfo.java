@@ -27,11 +27,15 @@ public class LakeTieringTableInfo {
     private final long tableId;
     private final TablePath tablePath;
     private final long tieringEpoch;
+    // the time (in ms) by which the table is expected to have been tiered to keep its freshness
+    private final long freshnessDeadline;
 
-    public LakeTieringTableInfo(long tableId, TablePath tablePath, long tieringEpoch) {
+    public LakeTieringTableInfo(
+            long tableId, TablePath tablePath, long tieringEpoch, long freshnessDeadline) {
         this.tableId = tableId;
         this.tablePath = tablePath;
         this.tieringEpoch = tieringEpoch;
+        this.freshnessDeadline = freshnessDeadline;
     }
 
     public long tableId() {
@@ -46,6 +50,10 @@ public class LakeTieringTableInfo {
         return tieringEpoch;
     }
 
+    public long freshnessDeadline() {
+        return freshnessDeadline;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass()) {
@@ -54,12 +62,13 @@ public class LakeTieringTableInfo {
         LakeTieringTableInfo that = (LakeTieringTableInfo) o;
         return tableId == that.tableId
                 && tieringEpoch == that.tieringEpoch
+                && freshnessDeadline == that.freshnessDeadline
                 && Objects.equals(tablePath, that.tablePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(tableId, tablePath, tieringEpoch);
+        return Objects.hash(tableId, tablePath, tieringEpoch, freshnessDeadline);
     }
 
     @Override
@@ -71,6 +80,8 @@ public class LakeTieringTableInfo {
                 + tablePath
                 + ", tieringEpoch="
                 + tieringEpoch
+                + ", freshnessDeadline="
+                + freshnessDeadline
                 + '}';
     }
 }
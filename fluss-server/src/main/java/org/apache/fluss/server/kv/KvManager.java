@@ -35,6 +35,8 @@ import org.apache.fluss.metadata.SchemaGetter;
 import org.apache.fluss.metadata.TableBucket;
 import org.apache.fluss.metadata.TableInfo;
 import org.apache.fluss.metadata.TablePath;
+import org.apache.fluss.row.encode.CompactedKeyEncoder;
+import org.apache.fluss.server.DataDirs;
 import org.apache.fluss.server.TabletManagerBase;
 import org.apache.fluss.server.kv.autoinc.AutoIncrementManager;
 import org.apache.fluss.server.kv.autoinc.ZkSequenceGeneratorFactory;
@@ -55,6 +57,7 @@ import org.rocksdb.RocksDB;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 import java.io.File;
@@ -63,6 +66,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.concurrent.ConcurrentHashMap;
 
 import static org.apache.fluss.utils.concurrent.LockUtils.inLock;
@@ -109,6 +113,38 @@ public final class KvManager extends TabletManagerBase implements ServerReconfig
         return DEFAULT_RATE_LIMITER;
     }
 
+    /**
+     * Returns the length of the encoded prefix keys of the given table, or null if the table
+     * doesn't support prefix lookups or the length of its prefix keys isn't fixed.
+     *
+     * <p>The prefix keys are the encoded bucket keys, which are prefixes of the primary keys
+     * encoded by the {@link CompactedKeyEncoder} if the bucket key is a prefix of the primary key.
+     * The kv of such a table extracts the prefixes of the keys for prefix seeks and prefix bloom
+     * filters.
+     */
+    @Nullable
+    public static Integer getPrefixKeyLength(TableInfo tableInfo) {
+        if (!tableInfo.hasPrimaryKey() || tableInfo.isDefaultBucketKey()) {
+            return null;
+        }
+        TableConfig tableConfig = tableInfo.getTableConfig();
+        // the primary keys are only encoded by the compacted encoder in kv format version 2, or
+        // in version 1 if the table has no data lake format, see KeyEncoder#ofPrimaryKeyEncoder
+        if (tableConfig.getKvFormatVersion().orElse(1) == 1
+                && tableConfig.getDataLakeFormat().isPresent()) {
+            return null;
+        }
+        List<String> bucketKeys = tableInfo.getBucketKeys();
+        List<String> primaryKeys = tableInfo.getPhysicalPrimaryKeys();
+        if (bucketKeys.size() > primaryKeys.size()
+                || !primaryKeys.subList(0, bucketKeys.size()).equals(bucketKeys)) {
+            return null;
+        }
+        OptionalInt length =
+                CompactedKeyEncoder.getFixedEncodedLength(tableInfo.getRowType(), bucketKeys);
+        return length.isPresent() ? length.getAsInt() : null;
+    }
+
     private final LogManager logManager;
 
     private final TabletServerMetricGroup serverMetricGroup;
@@ -138,17 +174,20 @@ public final class KvManager extends TabletManagerBase implements ServerReconfig
     /** Current shared rate limiter configuration in bytes per second. */
     private volatile long currentSharedRateLimitBytesPerSec;
 
+    /** The row cache shared by all kv tablets, null if the row cache is disabled. */
+    @Nullable private final KvRowCache rowCache;
+
     private volatile boolean isShutdown = false;
 
     private KvManager(
-            File dataDir,
+            DataDirs dataDirs,
             Configuration conf,
             ZooKeeperClient zkClient,
             int recoveryThreadsPerDataDir,
             LogManager logManager,
             TabletServerMetricGroup tabletServerMetricGroup)
             throws IOException {
-        super(TabletType.KV, dataDir, conf, recoveryThreadsPerDataDir);
+        super(TabletType.KV, dataDirs, conf, recoveryThreadsPerDataDir);
         this.logManager = logManager;
         this.arrowBufferAllocator = BufferAllocatorUtil.createBufferAllocator(null);
         this.memorySegmentPool = LazyMemorySegmentPool.createServerBufferPool(conf);
@@ -159,6 +198,8 @@ public final class KvManager extends TabletManagerBase implements ServerReconfig
         this.sharedRocksDBRateLimiter = createSharedRateLimiter(conf);
         this.currentSharedRateLimitBytesPerSec =
                 conf.get(ConfigOptions.KV_SHARED_RATE_LIMITER_BYTES_PER_SEC).getBytes();
+        long rowCacheSize = conf.get(ConfigOptions.KV_ROW_CACHE_SIZE).getBytes();
+        this.rowCache = rowCacheSize > 0 ? new KvRowCache(rowCacheSize) : null;
     }
 
     private static RateLimiter createSharedRateLimiter(Configuration conf) {
@@ -185,10 +226,8 @@ public final class KvManager extends TabletManagerBase implements ServerReconfig
             LogManager logManager,
             TabletServerMetricGroup tabletServerMetricGroup)
             throws IOException {
-        String dataDirString = conf.getString(ConfigOptions.DATA_DIR);
-        File dataDir = new File(dataDirString).getAbsoluteFile();
         return new KvManager(
-                dataDir,
+                logManager.getDataDirs(),
                 conf,
                 zkClient,
                 conf.getInt(ConfigOptions.NETTY_SERVER_NUM_WORKER_THREADS),
@@ -231,6 +270,8 @@ public final class KvManager extends TabletManagerBase implements ServerReconfig
      * @param tableBucket the table bucket
      * @param logTablet the cdc log tablet of the kv tablet
      * @param kvFormat the kv format
+     * @param prefixKeyLength the length of the encoded prefix keys of the table, null if the prefix
+     *     keys have no fixed length, see {@link #getPrefixKeyLength(TableInfo)}
      */
     public KvTablet getOrCreateKv(
             PhysicalTablePath tablePath,
@@ -239,7 +280,8 @@ public final class KvManager extends TabletManagerBase implements ServerReconfig
             KvFormat kvFormat,
             SchemaGetter schemaGetter,
             TableConfig tableConfig,
-            ArrowCompressionInfo arrowCompressionInfo)
+            ArrowCompressionInfo arrowCompressionInfo,
+            @Nullable Integer prefixKeyLength)
             throws Exception {
         return inLock(
                 tabletCreationOrDeletionLock,
@@ -273,7 +315,9 @@ public final class KvManager extends TabletManagerBase implements ServerReconfig
                                     schemaGetter,
                                     tableConfig.getChangelogImage(),
                                     sharedRocksDBRateLimiter,
-                                    autoIncrementManager);
+                                    autoIncrementManager,
+                                    prefixKeyLength,
+                                    rowCache);
                     currentKvs.put(tableBucket, tablet);
 
                     LOG.info(
@@ -343,7 +387,52 @@ public final class KvManager extends TabletManagerBase implements ServerReconfig
         }
     }
 
-    public KvTablet loadKv(File tabletDir, SchemaGetter schemaGetter) throws Exception {
+    /**
+     * Close the kvs in the given data directory which is offline, the kvs are removed from the kv
+     * manager without being deleted.
+     */
+    public void closeKvs(File dataDir) {
+        for (KvTablet kvTablet : new ArrayList<>(currentKvs.values())) {
+            if (dataDirs.getDataDir(kvTablet.getKvTabletDir()).equals(dataDir)) {
+                closeKv(kvTablet.getTableBucket());
+            }
+        }
+    }
+
+    /** Close the kv of the given bucket without deleting it, e.g., its data directory failed. */
+    public void closeKv(TableBucket tableBucket) {
+        KvTablet kvTablet =
+                inLock(tabletCreationOrDeletionLock, () -> currentKvs.remove(tableBucket));
+        if (kvTablet != null) {
+            try {
+                kvTablet.close();
+            } catch (Exception e) {
+                LOG.warn("Failed to close the kv of bucket {}.", tableBucket, e);
+            }
+        }
+    }
+
+    /**
+     * The kv tablet is placed on the data directory of its log tablet, so that the failure of a
+     * data directory only takes the replicas on it offline.
+     */
+    @Override
+    protected File selectDataDir(PhysicalTablePath tablePath, TableBucket tableBucket) {
+        Optional<LogTablet> logTablet = logManager.getLog(tableBucket);
+        if (logTablet.isPresent()) {
+            return dataDirs.getDataDir(logTablet.get().getLogDir());
+        }
+        List<File> kvDirs = new ArrayList<>(currentKvs.size());
+        for (KvTablet kvTablet : currentKvs.values()) {
+            kvDirs.add(kvTablet.getKvTabletDir());
+        }
+        Map<File, Integer> tabletsPerDataDir = countTabletsPerDataDir(kvDirs);
+        return dataDirs.select(dataDir -> tabletsPerDataDir.getOrDefault(dataDir, 0));
+    }
+
+    public KvTablet loadKv(
+            File tabletDir, SchemaGetter schemaGetter, ArrowCompressionInfo arrowCompressionInfo)
+            throws Exception {
         Tuple2<PhysicalTablePath, TableBucket> pathAndBucket = FlussPaths.parseTabletDir(tabletDir);
         PhysicalTablePath physicalTablePath = pathAndBucket.f0;
         TableBucket tableBucket = pathAndBucket.f1;
@@ -386,11 +475,13 @@ public final class KvManager extends TabletManagerBase implements ServerReconfig
                         memorySegmentPool,
                         tableConfig.getKvFormat(),
                         rowMerger,
-                        tableConfig.getArrowCompressionInfo(),
+                        arrowCompressionInfo,
                         schemaGetter,
                         tableConfig.getChangelogImage(),
                         sharedRocksDBRateLimiter,
-                        autoIncrementManager);
+                        autoIncrementManager,
+                        getPrefixKeyLength(tableInfo),
+                        rowCache);
         if (this.currentKvs.containsKey(tableBucket)) {
             throw new IllegalStateException(
                     String.format(
@@ -17,13 +17,16 @@
 
 package org.apache.fluss.server.kv;
 
+import org.apache.fluss.compression.ArrowCompressionInfo;
 import org.apache.fluss.metadata.KvFormat;
 import org.apache.fluss.metadata.LogFormat;
 import org.apache.fluss.metadata.Schema;
 import org.apache.fluss.metadata.SchemaGetter;
 import org.apache.fluss.metadata.TableInfo;
 import org.apache.fluss.metadata.TablePath;
+import org.apache.fluss.metrics.Counter;
 import org.apache.fluss.record.ChangeType;
+import org.apache.fluss.record.FileLogRecords;
 import org.apache.fluss.record.LogRecord;
 import org.apache.fluss.record.LogRecordBatch;
 import org.apache.fluss.record.LogRecordReadContext;
@@ -43,6 +46,8 @@ import org.apache.fluss.types.DataType;
 import org.apache.fluss.types.DataTypeRoot;
 import org.apache.fluss.types.RowType;
 import org.apache.fluss.utils.CloseableIterator;
+import org.apache.fluss.utils.ExceptionUtils;
+import org.apache.fluss.utils.concurrent.ExecutorThreadFactory;
 import org.apache.fluss.utils.function.ThrowingConsumer;
 
 import org.slf4j.Logger;
@@ -50,7 +55,15 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 
+import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.apache.fluss.server.TabletManagerBase.getTableInfo;
 
@@ -58,6 +71,9 @@ import static org.apache.fluss.server.TabletManagerBase.getTableInfo;
 public class KvRecoverHelper {
     private static final Logger LOG = LoggerFactory.getLogger(KvRecoverHelper.class);
 
+    /** The max number of local log chunks read ahead of the records being applied. */
+    private static final int MAX_PREFETCHED_CHUNKS = 2;
+
     private final KvTablet kvTablet;
     private final LogTablet logTablet;
     private final long recoverPointOffset;
@@ -66,6 +82,7 @@ public class KvRecoverHelper {
     private final KvRecoverContext recoverContext;
     private final KvFormat kvFormat;
     private final LogFormat logFormat;
+    private final ArrowCompressionInfo arrowCompressionInfo;
     private final RemoteLogFetcher remoteLogFetcher;
 
     // will be initialized when first encounter a log record during recovering from log
@@ -78,6 +95,10 @@ public class KvRecoverHelper {
 
     private InternalRow.FieldGetter[] currentFieldGetters;
 
+    // the records and bytes of log replayed by this recovery
+    private long recoveredRecords;
+    private long recoveredBytes;
+
     public KvRecoverHelper(
             KvTablet kvTablet,
             LogTablet logTablet,
@@ -87,6 +108,7 @@ public class KvRecoverHelper {
             KvRecoverContext recoverContext,
             KvFormat kvFormat,
             LogFormat logFormat,
+            ArrowCompressionInfo arrowCompressionInfo,
             SchemaGetter schemaGetter,
             RemoteLogFetcher remoteLogFetcher) {
         this.kvTablet = kvTablet;
@@ -97,6 +119,7 @@ public class KvRecoverHelper {
         this.recoverContext = recoverContext;
         this.kvFormat = kvFormat;
         this.logFormat = logFormat;
+        this.arrowCompressionInfo = arrowCompressionInfo;
         this.schemaGetter = schemaGetter;
         this.remoteLogFetcher = remoteLogFetcher;
     }
@@ -126,11 +149,27 @@ public class KvRecoverHelper {
                         : new NoOpAutoIncIDRangeUpdater();
 
         long localLogStartOffset = logTablet.localLogStartOffset();
+        long recoverStartNanos = System.nanoTime();
+
+        // in bulk load mode, the acked records are written into sst files which are ingested into
+        // the kv, and the log is read ahead of the records being applied on a background thread
+        boolean bulkLoad = recoverContext.bulkLoadBufferSize > 0;
+        ExecutorService prefetchExecutor =
+                bulkLoad
+                        ? Executors.newFixedThreadPool(
+                                2,
+                                new ExecutorThreadFactory(
+                                        "kv-recover-prefetch-" + kvTablet.getTableBucket()))
+                        : null;
+        remoteLogFetcher.setPrefetchExecutor(prefetchExecutor);
 
         // Read to high watermark. If the recover point offset is before localLogStartOffset,
         // remote log records are fetched first, then local log records are read — both share
         // the same KvBatchWriter and LogRecordReadContext.
-        try (KvBatchWriter kvBatchWriter = kvTablet.createKvBatchWriter()) {
+        try (KvBatchWriter kvBatchWriter =
+                bulkLoad
+                        ? kvTablet.createSstKvBatchWriter(recoverContext.bulkLoadBufferSize)
+                        : kvTablet.createKvBatchWriter()) {
             ThrowingConsumer<KeyValueAndLogOffset, Exception> resumeRecordApplier =
                     (resumeRecord) -> {
                         if (resumeRecord.value == null) {
@@ -147,7 +186,15 @@ public class KvRecoverHelper {
                             rowCountUpdater,
                             autoIncIdRangeUpdater,
                             FetchIsolation.HIGH_WATERMARK,
-                            resumeRecordApplier);
+                            resumeRecordApplier,
+                            prefetchExecutor);
+        } finally {
+            remoteLogFetcher.setPrefetchExecutor(null);
+            if (prefetchExecutor != null) {
+                // the pending reads are not interrupted, as an interrupt closes the file channel
+                // of the log segment being read
+                prefetchExecutor.shutdown();
+            }
         }
 
         // the all data up to nextLogOffset has been flush into kv
@@ -183,7 +230,8 @@ public class KvRecoverHelper {
                 // we should update auto-inc-id for pre-write-buffer, because id has been used.
                 autoIncIdRangeUpdater,
                 FetchIsolation.LOG_END,
-                resumeRecordApplier);
+                resumeRecordApplier,
+                null);
 
         if (autoIncRange != null) {
             AutoIncIDRange newRange = autoIncIdRangeUpdater.getNewRange();
@@ -194,6 +242,17 @@ public class KvRecoverHelper {
                     newRange.getEnd(),
                     kvTablet.getTableBucket());
         }
+
+        long elapsedMs =
+                Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - recoverStartNanos));
+        LOG.info(
+                "Replayed {} records ({} bytes) of log for tablet '{}' in {} ms ({} records/s){}.",
+                recoveredRecords,
+                recoveredBytes,
+                kvTablet.getTableBucket(),
+                elapsedMs,
+                recoveredRecords * 1000 / elapsedMs,
+                bulkLoad ? " with bulk load" : "");
     }
 
     private long readLogRecordsAndApply(
@@ -202,8 +261,10 @@ public class KvRecoverHelper {
             RowCountUpdater rowCountUpdater,
             AutoIncIDRangeUpdater autoIncIdRangeUpdater,
             FetchIsolation fetchIsolation,
-            ThrowingConsumer<KeyValueAndLogOffset, Exception> resumeRecordConsumer)
+            ThrowingConsumer<KeyValueAndLogOffset, Exception> resumeRecordConsumer,
+            @Nullable ExecutorService prefetchExecutor)
             throws Exception {
+        LocalLogPrefetcher prefetcher = null;
         try (LogRecordReadContext readContext = createLogRecordReadContext()) {
             long nextFetchOffset = startFetchOffset;
             while (true) {
@@ -211,16 +272,17 @@ public class KvRecoverHelper {
                 if (nextFetchOffset < localLogStartOffset) {
                     batches = remoteLogFetcher.fetch(nextFetchOffset, localLogStartOffset);
                 } else {
-                    LogRecords logRecords =
-                            logTablet
-                                    .read(
-                                            nextFetchOffset,
-                                            recoverContext.maxFetchLogSizeInRecoverKv,
-                                            fetchIsolation,
-                                            true,
-                                            null,
-                                            null)
-                                    .getRecords();
+                    LogRecords logRecords;
+                    if (prefetchExecutor == null) {
+                        logRecords = readLocalLog(nextFetchOffset, fetchIsolation);
+                    } else {
+                        if (prefetcher == null) {
+                            prefetcher =
+                                    new LocalLogPrefetcher(
+                                            nextFetchOffset, fetchIsolation, prefetchExecutor);
+                        }
+                        logRecords = prefetcher.next();
+                    }
                     if (logRecords == MemoryLogRecords.EMPTY) {
                         break;
                     }
@@ -235,12 +297,33 @@ public class KvRecoverHelper {
                                     rowCountUpdater,
                                     autoIncIdRangeUpdater,
                                     resumeRecordConsumer);
+                    recoveredRecords += logRecordBatch.getRecordCount();
+                    recoveredBytes += logRecordBatch.sizeInBytes();
+                    recoverContext.recoveredRecords.inc(logRecordBatch.getRecordCount());
+                    recoverContext.recoveredBytes.inc(logRecordBatch.sizeInBytes());
                 }
             }
             return nextFetchOffset;
+        } finally {
+            if (prefetcher != null) {
+                prefetcher.close();
+            }
         }
     }
 
+    private LogRecords readLocalLog(long fetchOffset, FetchIsolation fetchIsolation)
+            throws Exception {
+        return logTablet
+                .read(
+                        fetchOffset,
+                        recoverContext.maxFetchLogSizeInRecoverKv,
+                        fetchIsolation,
+                        true,
+                        null,
+                        null)
+                .getRecords();
+    }
+
     /**
      * Apply a single log record batch: iterate through each record, update row count and auto-inc
      * id, encode key/value, and call the consumer.
@@ -286,7 +369,7 @@ public class KvRecoverHelper {
     private LogRecordReadContext createLogRecordReadContext() {
         if (logFormat == LogFormat.ARROW) {
             return LogRecordReadContext.createArrowReadContext(
-                    currentRowType, currentSchemaId, schemaGetter);
+                    currentRowType, currentSchemaId, schemaGetter, arrowCompressionInfo);
         } else if (logFormat == LogFormat.COMPACTED) {
             return LogRecordReadContext.createCompactedRowReadContext(
                     currentRowType, currentSchemaId);
@@ -353,6 +436,90 @@ public class KvRecoverHelper {
         }
     }
 
+    /**
+     * Reads the local log ahead of the records being applied. A task of the prefetch executor
+     * copies the chunks of the log into memory one after another, holding at most {@link
+     * #MAX_PREFETCHED_CHUNKS} chunks which are not yet taken. The end of the log is marked by
+     * {@link MemoryLogRecords#EMPTY}.
+     */
+    private final class LocalLogPrefetcher implements AutoCloseable {
+
+        private final BlockingQueue<LogRecords> chunks =
+                new ArrayBlockingQueue<>(MAX_PREFETCHED_CHUNKS);
+        private final Future<?> task;
+
+        private volatile boolean closed;
+
+        private LocalLogPrefetcher(
+                long startOffset, FetchIsolation fetchIsolation, ExecutorService executor) {
+            this.task =
+                    executor.submit(
+                            () -> {
+                                prefetch(startOffset, fetchIsolation);
+                                return null;
+                            });
+        }
+
+        private void prefetch(long startOffset, FetchIsolation fetchIsolation) throws Exception {
+            long fetchOffset = startOffset;
+            while (!closed) {
+                LogRecords logRecords = readLocalLog(fetchOffset, fetchIsolation);
+                if (logRecords == MemoryLogRecords.EMPTY) {
+                    offer(MemoryLogRecords.EMPTY);
+                    return;
+                }
+                LogRecords chunk = copyToMemory(logRecords);
+                for (LogRecordBatch batch : chunk.batches()) {
+                    fetchOffset = batch.nextLogOffset();
+                }
+                offer(chunk);
+            }
+        }
+
+        private void offer(LogRecords chunk) throws InterruptedException {
+            while (!closed) {
+                if (chunks.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+        }
+
+        private LogRecords next() throws Exception {
+            while (true) {
+                LogRecords chunk = chunks.poll(100, TimeUnit.MILLISECONDS);
+                if (chunk != null) {
+                    return chunk;
+                }
+                if (task.isDone()) {
+                    try {
+                        task.get();
+                    } catch (ExecutionException e) {
+                        Throwable cause = ExceptionUtils.stripExecutionException(e);
+                        throw cause instanceof Exception ? (Exception) cause : e;
+                    }
+                    // the end marker is queued before the task completes
+                    chunk = chunks.poll();
+                    return chunk != null ? chunk : MemoryLogRecords.EMPTY;
+                }
+            }
+        }
+
+        private LogRecords copyToMemory(LogRecords logRecords) throws Exception {
+            if (!(logRecords instanceof FileLogRecords)) {
+                return logRecords;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(logRecords.sizeInBytes());
+            ((FileLogRecords) logRecords).readInto(buffer, 0);
+            return MemoryLogRecords.pointToByteBuffer(buffer);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            chunks.clear();
+        }
+    }
+
     /** A context to provide necessary objects for kv recovering. */
     public static class KvRecoverContext {
 
@@ -360,12 +527,24 @@ public class KvRecoverHelper {
 
         private final ZooKeeperClient zkClient;
         private final int maxFetchLogSizeInRecoverKv;
+        // the size of the sorted buffer of a sst file to bulk load, -1 if bulk load is disabled
+        private final long bulkLoadBufferSize;
+        private final Counter recoveredRecords;
+        private final Counter recoveredBytes;
 
         public KvRecoverContext(
-                TablePath tablePath, ZooKeeperClient zkClient, int maxFetchLogSizeInRecoverKv) {
+                TablePath tablePath,
+                ZooKeeperClient zkClient,
+                int maxFetchLogSizeInRecoverKv,
+                long bulkLoadBufferSize,
+                Counter recoveredRecords,
+                Counter recoveredBytes) {
             this.tablePath = tablePath;
             this.zkClient = zkClient;
             this.maxFetchLogSizeInRecoverKv = maxFetchLogSizeInRecoverKv;
+            this.bulkLoadBufferSize = bulkLoadBufferSize;
+            this.recoveredRecords = recoveredRecords;
+            this.recoveredBytes = recoveredBytes;
         }
     }
 
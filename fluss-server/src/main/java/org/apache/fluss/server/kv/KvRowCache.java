@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.server.kv;
+
+import org.apache.fluss.annotation.VisibleForTesting;
+import org.apache.fluss.metadata.TableBucket;
+import org.apache.fluss.utils.function.FunctionWithException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A cache of the rows looked up from the RocksDB of the kv tablets, shared by all the kv tablets of
+ * a tablet server. It serves hot keys of point lookups without searching the RocksDB block cache
+ * and decoding the blocks. The cache is bounded by the memory of the cached keys and values, and
+ * admits and evicts entries by the W-TinyLFU policy of Caffeine, so that a skewed lookup workload
+ * keeps its frequently looked up keys in the cache.
+ *
+ * <p>The cache only reflects the rows flushed to RocksDB, the same as the lookups. Callers must
+ * invalidate the keys written to RocksDB with {@link #invalidatingWriter} and the keys of a bucket
+ * whose RocksDB is closed with {@link #invalidateAll(TableBucket)}, while holding the lock which
+ * excludes the lookups of the bucket.
+ */
+@ThreadSafe
+public class KvRowCache {
+
+    // the estimated memory of a cache entry besides the key and value bytes
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    // the value cached for a key which doesn't exist in the kv
+    private static final byte[] ABSENT = new byte[0];
+
+    private final Cache<RowKey, byte[]> cache;
+
+    public KvRowCache(long maxMemoryBytes) {
+        this.cache =
+                Caffeine.newBuilder()
+                        .maximumWeight(maxMemoryBytes)
+                        .weigher(
+                                (RowKey key, byte[] value) ->
+                                        ENTRY_OVERHEAD_BYTES + key.key.length + value.length)
+                        .build();
+    }
+
+    /**
+     * Looks up the values of the given keys of the bucket, the keys missed in the cache are looked
+     * up by a single call of the given kv multiGet function and are then cached.
+     *
+     * @return the values of the keys in the same order, null for the keys which don't exist
+     */
+    public List<byte[]> multiGet(
+            TableBucket tableBucket,
+            List<byte[]> keys,
+            FunctionWithException<List<byte[]>, List<byte[]>, IOException> kvMultiGet)
+            throws IOException {
+        List<byte[]> values = new ArrayList<>(keys.size());
+        List<Integer> missedIndexes = new ArrayList<>();
+        List<byte[]> missedKeys = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] value = cache.getIfPresent(new RowKey(tableBucket, keys.get(i)));
+            if (value == null) {
+                missedIndexes.add(i);
+                missedKeys.add(keys.get(i));
+            }
+            values.add(value == ABSENT ? null : value);
+        }
+
+        if (!missedKeys.isEmpty()) {
+            List<byte[]> missedValues = kvMultiGet.apply(missedKeys);
+            for (int i = 0; i < missedKeys.size(); i++) {
+                byte[] value = missedValues.get(i);
+                cache.put(
+                        new RowKey(tableBucket, missedKeys.get(i)), value == null ? ABSENT : value);
+                values.set(missedIndexes.get(i), value);
+            }
+        }
+        return values;
+    }
+
+    /** Invalidates the cached keys of the given bucket. */
+    public void invalidateAll(TableBucket tableBucket) {
+        cache.asMap().keySet().removeIf(key -> key.tableBucket.equals(tableBucket));
+    }
+
+    /**
+     * Returns a {@link KvBatchWriter} which invalidates the cached keys of the given bucket written
+     * by the given writer.
+     */
+    public KvBatchWriter invalidatingWriter(TableBucket tableBucket, KvBatchWriter writer) {
+        return new InvalidatingKvBatchWriter(tableBucket, writer);
+    }
+
+    @VisibleForTesting
+    @Nullable
+    byte[] getIfPresent(TableBucket tableBucket, byte[] key) {
+        return cache.getIfPresent(new RowKey(tableBucket, key));
+    }
+
+    private final class InvalidatingKvBatchWriter implements KvBatchWriter {
+
+        private final TableBucket tableBucket;
+        private final KvBatchWriter writer;
+
+        private InvalidatingKvBatchWriter(TableBucket tableBucket, KvBatchWriter writer) {
+            this.tableBucket = tableBucket;
+            this.writer = writer;
+        }
+
+        @Override
+        public void put(@Nonnull byte[] key, @Nonnull byte[] value) throws IOException {
+            cache.invalidate(new RowKey(tableBucket, key));
+            writer.put(key, value);
+        }
+
+        @Override
+        public void delete(@Nonnull byte[] key) throws IOException {
+            cache.invalidate(new RowKey(tableBucket, key));
+            writer.delete(key);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws Exception {
+            writer.close();
+        }
+    }
+
+    /** The key of a row in the cache. */
+    private static final class RowKey {
+        private final TableBucket tableBucket;
+        private final byte[] key;
+        private final int hashCode;
+
+        private RowKey(TableBucket tableBucket, byte[] key) {
+            this.tableBucket = tableBucket;
+            this.key = key;
+            this.hashCode = 31 * tableBucket.hashCode() + Arrays.hashCode(key);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            RowKey that = (RowKey) o;
+            return hashCode == that.hashCode
+                    && Objects.equals(tableBucket, that.tableBucket)
+                    && Arrays.equals(key, that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -58,6 +58,7 @@ import org.apache.fluss.server.kv.rocksdb.RocksDBResourceContainer;
 import org.apache.fluss.server.kv.rocksdb.RocksDBStatistics;
 import org.apache.fluss.server.kv.rowmerger.DefaultRowMerger;
 import org.apache.fluss.server.kv.rowmerger.RowMerger;
+import org.apache.fluss.server.kv.scan.KvScanner;
 import org.apache.fluss.server.kv.snapshot.KvFileHandleAndLocalPath;
 import org.apache.fluss.server.kv.snapshot.KvSnapshotDataUploader;
 import org.apache.fluss.server.kv.snapshot.RocksIncrementalSnapshot;
@@ -74,6 +75,7 @@ import org.apache.fluss.shaded.arrow.org.apache.arrow.memory.BufferAllocator;
 import org.apache.fluss.types.RowType;
 import org.apache.fluss.utils.BytesUtils;
 import org.apache.fluss.utils.FileUtils;
+import org.apache.fluss.utils.IOUtils;
 
 import org.rocksdb.RateLimiter;
 import org.slf4j.Logger;
@@ -85,9 +87,15 @@ import javax.annotation.concurrent.ThreadSafe;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -100,6 +108,8 @@ import static org.apache.fluss.utils.concurrent.LockUtils.inWriteLock;
 public final class KvTablet {
     private static final Logger LOG = LoggerFactory.getLogger(KvTablet.class);
     private static final long ROW_COUNT_DISABLED = -1;
+    // the directory of the SST files written during recovering kv, relative to the kv tablet dir
+    private static final String RECOVER_SST_DIR = "recover-sst";
 
     private final PhysicalTablePath physicalPath;
     private final TableBucket tableBucket;
@@ -116,6 +126,12 @@ public final class KvTablet {
 
     // A lock that guards all modifications to the kv.
     private final ReadWriteLock kvLock = new ReentrantReadWriteLock();
+
+    // A lock that guards the data visible in RocksDB. The modifications to RocksDB (flushing the
+    // pre-write buffer and closing) hold its write lock in addition to the kvLock, while the reads
+    // from RocksDB only hold its read lock. As putAsLeader only modifies the pre-write buffer, the
+    // reads are not blocked by the writes of large batches.
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
     private final LogFormat logFormat;
     private final KvFormat kvFormat;
     // defines how to merge rows on the same primary key
@@ -134,6 +150,9 @@ public final class KvTablet {
     // RocksDB statistics accessor for this tablet
     @Nullable private final RocksDBStatistics rocksDBStatistics;
 
+    // the row cache shared by the kv tablets of the server, null if the row cache is disabled
+    @Nullable private final KvRowCache rowCache;
+
     /**
      * The kv data in pre-write buffer whose log offset is less than the flushedLogOffset has been
      * flushed into kv.
@@ -145,6 +164,9 @@ public final class KvTablet {
     @GuardedBy("kvLock")
     private volatile boolean isClosed = false;
 
+    // the scanners opened on this tablet and not closed yet
+    private final Set<KvScanner> openScanners = ConcurrentHashMap.newKeySet();
+
     private KvTablet(
             PhysicalTablePath physicalPath,
             TableBucket tableBucket,
@@ -162,7 +184,8 @@ public final class KvTablet {
             SchemaGetter schemaGetter,
             ChangelogImage changelogImage,
             @Nullable RocksDBStatistics rocksDBStatistics,
-            AutoIncrementManager autoIncrementManager) {
+            AutoIncrementManager autoIncrementManager,
+            @Nullable KvRowCache rowCache) {
         this.physicalPath = physicalPath;
         this.tableBucket = tableBucket;
         this.logTablet = logTablet;
@@ -170,7 +193,14 @@ public final class KvTablet {
         this.rocksDBKv = rocksDBKv;
         this.writeBatchSize = writeBatchSize;
         this.serverMetricGroup = serverMetricGroup;
-        this.kvPreWriteBuffer = new KvPreWriteBuffer(createKvBatchWriter(), serverMetricGroup);
+        this.rowCache = rowCache;
+        // the rows flushed to rocksdb are invalidated from the row cache
+        this.kvPreWriteBuffer =
+                new KvPreWriteBuffer(
+                        rowCache == null
+                                ? createKvBatchWriter()
+                                : rowCache.invalidatingWriter(tableBucket, createKvBatchWriter()),
+                        serverMetricGroup);
         this.logFormat = logFormat;
         this.arrowWriterProvider = new ArrowWriterPool(arrowBufferAllocator);
         this.memorySegmentPool = memorySegmentPool;
@@ -203,9 +233,11 @@ public final class KvTablet {
             SchemaGetter schemaGetter,
             ChangelogImage changelogImage,
             RateLimiter sharedRateLimiter,
-            AutoIncrementManager autoIncrementManager)
+            AutoIncrementManager autoIncrementManager,
+            @Nullable Integer prefixKeyLength,
+            @Nullable KvRowCache rowCache)
             throws IOException {
-        RocksDBKv kv = buildRocksDBKv(serverConf, kvTabletDir, sharedRateLimiter);
+        RocksDBKv kv = buildRocksDBKv(serverConf, kvTabletDir, sharedRateLimiter, prefixKeyLength);
 
         // Create RocksDB statistics accessor (will be registered to TableMetricGroup by Replica)
         // Pass ResourceGuard to ensure thread-safe access during concurrent close operations
@@ -236,15 +268,20 @@ public final class KvTablet {
                 schemaGetter,
                 changelogImage,
                 rocksDBStatistics,
-                autoIncrementManager);
+                autoIncrementManager,
+                rowCache);
     }
 
     private static RocksDBKv buildRocksDBKv(
-            Configuration configuration, File kvDir, RateLimiter sharedRateLimiter)
+            Configuration configuration,
+            File kvDir,
+            RateLimiter sharedRateLimiter,
+            @Nullable Integer prefixKeyLength)
             throws IOException {
         // Enable statistics to support RocksDB statistics collection
         RocksDBResourceContainer rocksDBResourceContainer =
-                new RocksDBResourceContainer(configuration, kvDir, true, sharedRateLimiter);
+                new RocksDBResourceContainer(
+                        configuration, kvDir, true, sharedRateLimiter, prefixKeyLength);
         RocksDBKvBuilder rocksDBKvBuilder =
                 new RocksDBKvBuilder(
                         kvDir,
@@ -473,9 +510,25 @@ public final class KvTablet {
                 KvRecordReadContext.createReadContext(kvFormat, schemaGetter);
         ValueDecoder valueDecoder = new ValueDecoder(schemaGetter, kvFormat);
 
+        // phase 1: resolve the old values of the keys of all the records in one pass, so that
+        // the keys missing in the pre-write buffer are fetched by a single rocksdb multiGet
+        // instead of a point get per record. Only the keys are kept, as the rows of the records
+        // may be reused by the iterator of the batch.
+        List<KvPreWriteBuffer.Key> keys = new ArrayList<>(kvRecords.getRecordCount());
+        List<Boolean> deletions = new ArrayList<>(kvRecords.getRecordCount());
+        for (KvRecord kvRecord : kvRecords.records(readContext)) {
+            keys.add(KvPreWriteBuffer.Key.of(BytesUtils.toArray(kvRecord.getKey())));
+            deletions.add(kvRecord.getRow() == null);
+        }
+        Map<KvPreWriteBuffer.Key, byte[]> prefetchedValues =
+                prefetchOldValues(keys, deletions, currentMerger, autoIncrementUpdater);
+
+        // phase 2: iterate the records again and merge them in order. The writes of the former
+        // records of the batch go to the pre-write buffer, so the latter records of the same key
+        // still see them.
+        int i = 0;
         for (KvRecord kvRecord : kvRecords.records(readContext)) {
-            byte[] keyBytes = BytesUtils.toArray(kvRecord.getKey());
-            KvPreWriteBuffer.Key key = KvPreWriteBuffer.Key.of(keyBytes);
+            KvPreWriteBuffer.Key key = keys.get(i++);
             BinaryRow row = kvRecord.getRow();
             BinaryValue currentValue = row == null ? null : new BinaryValue(schemaIdOfNewData, row);
 
@@ -487,6 +540,7 @@ public final class KvTablet {
                                 valueDecoder,
                                 walBuilder,
                                 latestSchemaRow,
+                                prefetchedValues,
                                 logOffset);
             } else {
                 logOffset =
@@ -498,17 +552,71 @@ public final class KvTablet {
                                 valueDecoder,
                                 walBuilder,
                                 latestSchemaRow,
+                                prefetchedValues,
                                 logOffset);
             }
         }
     }
 
+    /**
+     * Fetches the old values of the given keys which are absent from the pre-write buffer from
+     * RocksDB with a single multiGet. The keys whose old value won't be read by the merge (e.g.
+     * full-row upserts in WAL changelog mode) are skipped.
+     *
+     * @return the old values fetched from RocksDB, a key is mapped to null if it doesn't exist
+     */
+    private Map<KvPreWriteBuffer.Key, byte[]> prefetchOldValues(
+            List<KvPreWriteBuffer.Key> keys,
+            List<Boolean> deletions,
+            RowMerger currentMerger,
+            AutoIncrementUpdater autoIncrementUpdater)
+            throws IOException {
+        boolean skipUpsertLookup = canSkipOldValueLookup(currentMerger, autoIncrementUpdater);
+        boolean skipDeletionLookup = currentMerger.deleteBehavior() != DeleteBehavior.ALLOW;
+        Set<KvPreWriteBuffer.Key> missingKeys = new LinkedHashSet<>();
+        for (int i = 0; i < keys.size(); i++) {
+            boolean skipLookup = deletions.get(i) ? skipDeletionLookup : skipUpsertLookup;
+            KvPreWriteBuffer.Key key = keys.get(i);
+            if (!skipLookup && kvPreWriteBuffer.get(key) == null) {
+                missingKeys.add(key);
+            }
+        }
+        if (missingKeys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<byte[]> keyBytes = new ArrayList<>(missingKeys.size());
+        for (KvPreWriteBuffer.Key key : missingKeys) {
+            keyBytes.add(key.get());
+        }
+        List<byte[]> values = rocksDBKv.multiGet(keyBytes);
+        Map<KvPreWriteBuffer.Key, byte[]> prefetchedValues = new HashMap<>(missingKeys.size());
+        int i = 0;
+        for (KvPreWriteBuffer.Key key : missingKeys) {
+            prefetchedValues.put(key, values.get(i++));
+        }
+        return prefetchedValues;
+    }
+
+    /**
+     * In WAL mode, when using DefaultRowMerger (full update, not partial update) and there is no
+     * auto-increment column, we can skip fetching old value for better performance since the result
+     * always reflects the new value.
+     */
+    private boolean canSkipOldValueLookup(
+            RowMerger currentMerger, AutoIncrementUpdater autoIncrementUpdater) {
+        return changelogImage == ChangelogImage.WAL
+                && !autoIncrementUpdater.hasAutoIncrement()
+                && currentMerger instanceof DefaultRowMerger;
+    }
+
     private long processDeletion(
             KvPreWriteBuffer.Key key,
             RowMerger currentMerger,
             ValueDecoder valueDecoder,
             WalBuilder walBuilder,
             PaddingRow latestSchemaRow,
+            Map<KvPreWriteBuffer.Key, byte[]> prefetchedValues,
             long logOffset)
             throws Exception {
         DeleteBehavior deleteBehavior = currentMerger.deleteBehavior();
@@ -521,7 +629,7 @@ public final class KvTablet {
                             + "The table.delete.behavior is set to 'disable'.");
         }
 
-        byte[] oldValueBytes = getFromBufferOrKv(key);
+        byte[] oldValueBytes = getFromBufferOrKv(key, prefetchedValues);
         if (oldValueBytes == null) {
             LOG.debug(
                     "The specific key can't be found in kv tablet although the kv record is for deletion, "
@@ -548,19 +656,16 @@ public final class KvTablet {
             ValueDecoder valueDecoder,
             WalBuilder walBuilder,
             PaddingRow latestSchemaRow,
+            Map<KvPreWriteBuffer.Key, byte[]> prefetchedValues,
             long logOffset)
             throws Exception {
-        // Optimization: IN WAL mode，when using DefaultRowMerger (full update, not partial update)
-        // and there is no auto-increment column, we can skip fetching old value for better
-        // performance since the result always reflects the new value. In this case, both INSERT and
-        // UPDATE will produce UPDATE_AFTER.
-        if (changelogImage == ChangelogImage.WAL
-                && !autoIncrementUpdater.hasAutoIncrement()
-                && currentMerger instanceof DefaultRowMerger) {
+        // Optimization: see canSkipOldValueLookup. In this case, both INSERT and UPDATE will
+        // produce UPDATE_AFTER.
+        if (canSkipOldValueLookup(currentMerger, autoIncrementUpdater)) {
             return applyUpdate(key, null, currentValue, walBuilder, latestSchemaRow, logOffset);
         }
 
-        byte[] oldValueBytes = getFromBufferOrKv(key);
+        byte[] oldValueBytes = getFromBufferOrKv(key, prefetchedValues);
         if (oldValueBytes == null) {
             BinaryValue valueToInsert = currentMerger.merge(null, currentValue);
             return applyInsert(
@@ -679,13 +784,8 @@ public final class KvTablet {
                                 tableBucket);
                     } else {
                         try {
-                            int rowCountDiff = kvPreWriteBuffer.flush(exclusiveUpToLogOffset);
-                            flushedLogOffset = exclusiveUpToLogOffset;
-                            if (rowCount != ROW_COUNT_DISABLED) {
-                                // row count is enabled, we update the row count after flush.
-                                long currentRowCount = rowCount;
-                                rowCount = currentRowCount + rowCountDiff;
-                            }
+                            inWriteLock(
+                                    flushLock, () -> flushPreWriteBuffer(exclusiveUpToLogOffset));
                         } catch (Throwable t) {
                             fatalErrorHandler.onFatalError(
                                     new KvStorageException("Failed to flush kv pre-write buffer."));
@@ -694,6 +794,17 @@ public final class KvTablet {
                 });
     }
 
+    @GuardedBy("flushLock")
+    private void flushPreWriteBuffer(long exclusiveUpToLogOffset) throws IOException {
+        int rowCountDiff = kvPreWriteBuffer.flush(exclusiveUpToLogOffset);
+        flushedLogOffset = exclusiveUpToLogOffset;
+        if (rowCount != ROW_COUNT_DISABLED) {
+            // row count is enabled, we update the row count after flush.
+            long currentRowCount = rowCount;
+            rowCount = currentRowCount + rowCountDiff;
+        }
+    }
+
     /** put key,value,logOffset into pre-write buffer directly. */
     void putToPreWriteBuffer(
             ChangeType changeType, byte[] key, @Nullable byte[] value, long logOffset) {
@@ -721,10 +832,16 @@ public final class KvTablet {
         return runnable -> inWriteLock(kvLock, runnable::run);
     }
 
-    // get from kv pre-write buffer first, if can't find, get from rocksdb
-    private byte[] getFromBufferOrKv(KvPreWriteBuffer.Key key) throws IOException {
+    // get from kv pre-write buffer first, if can't find, get from the values prefetched from
+    // rocksdb, and fall back to rocksdb for the keys not prefetched
+    private byte[] getFromBufferOrKv(
+            KvPreWriteBuffer.Key key, Map<KvPreWriteBuffer.Key, byte[]> prefetchedValues)
+            throws IOException {
         KvPreWriteBuffer.Value value = kvPreWriteBuffer.get(key);
         if (value == null) {
+            if (prefetchedValues.containsKey(key)) {
+                return prefetchedValues.get(key);
+            }
             return rocksDBKv.get(key.get());
         }
         return value.get();
@@ -732,31 +849,58 @@ public final class KvTablet {
 
     public List<byte[]> multiGet(List<byte[]> keys) throws IOException {
         return inReadLock(
-                kvLock,
+                flushLock,
                 () -> {
                     rocksDBKv.checkIfRocksDBClosed();
+                    if (rowCache != null) {
+                        return rowCache.multiGet(tableBucket, keys, rocksDBKv::multiGet);
+                    }
                     return rocksDBKv.multiGet(keys);
                 });
     }
 
-    public List<byte[]> prefixLookup(byte[] prefixKey) throws IOException {
+    public List<List<byte[]>> prefixLookups(List<byte[]> prefixKeys) throws IOException {
         return inReadLock(
-                kvLock,
+                flushLock,
                 () -> {
                     rocksDBKv.checkIfRocksDBClosed();
-                    return rocksDBKv.prefixLookup(prefixKey);
+                    return rocksDBKv.prefixLookups(prefixKeys);
                 });
     }
 
     public List<byte[]> limitScan(int limit) throws IOException {
         return inReadLock(
-                kvLock,
+                flushLock,
                 () -> {
                     rocksDBKv.checkIfRocksDBClosed();
                     return rocksDBKv.limitScan(limit);
                 });
     }
 
+    /**
+     * Opens a {@link KvScanner} over a point-in-time snapshot of this tablet. The snapshot is taken
+     * under the flush lock, so it is consistent with the returned {@link KvScanner#getLogOffset()}.
+     * The scanner is closed at the latest when this tablet is closed.
+     *
+     * @param limit the maximum number of records to scan, null if no limit
+     */
+    public KvScanner openScanner(@Nullable Long limit) throws IOException {
+        return inReadLock(
+                flushLock,
+                () -> {
+                    rocksDBKv.checkIfRocksDBClosed();
+                    KvScanner scanner =
+                            new KvScanner(
+                                    tableBucket,
+                                    rocksDBKv.newSnapshotIterator(),
+                                    flushedLogOffset,
+                                    limit,
+                                    openScanners::remove);
+                    openScanners.add(scanner);
+                    return scanner;
+                });
+    }
+
     public KvBatchWriter createKvBatchWriter() {
         return rocksDBKv.newWriteBatch(
                 writeBatchSize,
@@ -764,6 +908,14 @@ public final class KvTablet {
                 serverMetricGroup.kvFlushLatencyHistogram());
     }
 
+    /**
+     * Creates a writer which bulk loads the written key-value pairs into the kv by SST files, used
+     * to replay the log during recovering kv.
+     */
+    public KvBatchWriter createSstKvBatchWriter(long bufferSize) throws IOException {
+        return rocksDBKv.newSstBatchWriter(new File(kvTabletDir, RECOVER_SST_DIR), bufferSize);
+    }
+
     public void close() throws Exception {
         LOG.info("close kv tablet {} for table {}.", tableBucket, physicalPath);
         inWriteLock(
@@ -772,11 +924,23 @@ public final class KvTablet {
                     if (isClosed) {
                         return;
                     }
-                    // Note: RocksDB metrics lifecycle is managed by TableMetricGroup
-                    // No need to close it here
-                    if (rocksDBKv != null) {
-                        rocksDBKv.close();
-                    }
+                    inWriteLock(
+                            flushLock,
+                            () -> {
+                                // close the open scanners first, as they hold leases of the
+                                // RocksDB resource guard which blocks closing the RocksDB.
+                                IOUtils.closeAllQuietly(new ArrayList<>(openScanners));
+                                // Note: RocksDB metrics lifecycle is managed by TableMetricGroup
+                                // No need to close it here
+                                if (rocksDBKv != null) {
+                                    rocksDBKv.close();
+                                }
+                                // the rows of a later kv tablet of the bucket may be different,
+                                // e.g. the kv is restored from a snapshot on becoming leader
+                                if (rowCache != null) {
+                                    rowCache.invalidateAll(tableBucket);
+                                }
+                            });
                     isClosed = true;
                 });
     }
@@ -25,12 +25,14 @@ import org.apache.fluss.record.LogRecordBatch;
 import org.apache.fluss.remote.RemoteLogSegment;
 import org.apache.fluss.server.log.remote.RemoteLogManager;
 import org.apache.fluss.server.log.remote.RemoteLogStorage;
+import org.apache.fluss.utils.ExceptionUtils;
 import org.apache.fluss.utils.FlussPaths;
 import org.apache.fluss.utils.IOUtils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 
 import java.io.Closeable;
@@ -44,6 +46,10 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 
 import static org.apache.fluss.utils.FileUtils.deleteDirectoryQuietly;
 
@@ -80,6 +86,9 @@ public class RemoteLogFetcher implements Closeable {
     /** Tracks the currently active iterator to ensure proper cleanup on close. */
     private volatile RemoteLogBatchIterator activeIterator;
 
+    /** The executor to download the next remote log segment in advance, null if disabled. */
+    @Nullable private Executor prefetchExecutor;
+
     public RemoteLogFetcher(
             RemoteLogManager remoteLogManager, TableBucket tableBucket, File logTabletDir) {
         this(
@@ -98,6 +107,14 @@ public class RemoteLogFetcher implements Closeable {
         this.tempDir = tempDir;
     }
 
+    /**
+     * Downloads the next remote log segment by the given executor while the batches of the current
+     * segment are iterated, so that the iteration doesn't wait for the downloads.
+     */
+    void setPrefetchExecutor(@Nullable Executor prefetchExecutor) {
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
     /**
      * Fetches all relevant remote log segments that cover the range from {@code startOffset} up to
      * {@code localLogStartOffset}, and iterates over the log record batches in order.
@@ -218,6 +235,11 @@ public class RemoteLogFetcher implements Closeable {
         private boolean finished = false;
         private volatile boolean closed = false;
 
+        /** The download of the next segment in advance, see {@link #setPrefetchExecutor}. */
+        @Nullable private CompletableFuture<File> nextDownload;
+
+        private int nextDownloadIndex = -1;
+
         RemoteLogBatchIterator(
                 List<RemoteLogSegment> segments, long startOffset, long localLogStartOffset) {
             this.segments = segments;
@@ -230,6 +252,15 @@ public class RemoteLogFetcher implements Closeable {
             if (!closed) {
                 closed = true;
                 closeCurrentFileLogRecords();
+                if (nextDownload != null) {
+                    // wait for the download to finish, so that its file is cleaned up on close
+                    try {
+                        nextDownload.join();
+                    } catch (Exception e) {
+                        LOG.debug("Failed to download remote log segment in advance.", e);
+                    }
+                    nextDownload = null;
+                }
             }
         }
 
@@ -297,11 +328,7 @@ public class RemoteLogFetcher implements Closeable {
                 }
 
                 try {
-                    // TODO optimize to async downloading the next segment while processing the
-                    // current one. Otherwise, the recovery process may be significantly slowed down
-                    // by the download time of remote segments, especially when there are many
-                    // segments to fetch. trace by: https://github.com/apache/fluss/issues/3091
-                    File localFile = downloadSegment(segment);
+                    File localFile = download(currentSegmentIndex - 1);
                     currentFileLogRecords = FileLogRecords.open(localFile, false);
                     int startPosition = 0;
                     // if this segment contains data before currentOffset, find the right position
@@ -333,6 +360,46 @@ public class RemoteLogFetcher implements Closeable {
             }
         }
 
+        /**
+         * Downloads the segment of the given index, or waits for its download in advance, and
+         * starts downloading the next segment in advance.
+         */
+        private File download(int segmentIndex) throws Exception {
+            File localFile;
+            if (nextDownload != null && nextDownloadIndex == segmentIndex) {
+                CompletableFuture<File> download = nextDownload;
+                nextDownload = null;
+                try {
+                    localFile = download.get();
+                } catch (ExecutionException e) {
+                    Throwable cause = ExceptionUtils.stripExecutionException(e);
+                    throw cause instanceof Exception ? (Exception) cause : e;
+                }
+            } else {
+                localFile = downloadSegment(segments.get(segmentIndex));
+            }
+
+            int nextIndex = segmentIndex + 1;
+            Executor executor = prefetchExecutor;
+            if (executor != null
+                    && nextIndex < segments.size()
+                    && segments.get(nextIndex).remoteLogStartOffset() < localLogStartOffset) {
+                RemoteLogSegment nextSegment = segments.get(nextIndex);
+                nextDownloadIndex = nextIndex;
+                nextDownload =
+                        CompletableFuture.supplyAsync(
+                                () -> {
+                                    try {
+                                        return downloadSegment(nextSegment);
+                                    } catch (IOException e) {
+                                        throw new CompletionException(e);
+                                    }
+                                },
+                                executor);
+            }
+            return localFile;
+        }
+
         private void closeCurrentFileLogRecords() {
             if (currentFileLogRecords != null) {
                 IOUtils.closeQuietly(currentFileLogRecords, "FileLogRecords");
@@ -37,6 +37,7 @@ import org.rocksdb.WriteOptions;
 
 import javax.annotation.Nullable;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -96,6 +97,23 @@ public class RocksDBKv implements AutoCloseable {
         return new RocksDBWriteBatchWrapper(db, writeBatchSize, flushCount, flushLatencyHistogram);
     }
 
+    /**
+     * Creates a writer which bulk loads the written key-value pairs by SST files, see {@link
+     * RocksDBSstBatchWriter}.
+     *
+     * @param sstDir the directory to write the SST files to, which is removed on close
+     * @param bufferSize the size of the buffer to sort the key-value pairs of an SST file
+     */
+    public RocksDBSstBatchWriter newSstBatchWriter(File sstDir, long bufferSize)
+            throws IOException {
+        try (ColumnFamilyOptions columnFamilyOptions =
+                defaultColumnFamilyHandle.getDescriptor().getOptions()) {
+            return new RocksDBSstBatchWriter(db, columnFamilyOptions, sstDir, bufferSize);
+        } catch (RocksDBException e) {
+            throw new IOException("Fail to get the options of the column family.", e);
+        }
+    }
+
     public @Nullable byte[] get(byte[] key) throws IOException {
         try {
             return db.get(key);
@@ -112,27 +130,43 @@ public class RocksDBKv implements AutoCloseable {
         }
     }
 
-    public List<byte[]> prefixLookup(byte[] prefixKey) {
-        List<byte[]> pkList = new ArrayList<>();
-        ReadOptions readOptions = new ReadOptions();
+    /**
+     * Looks up the values of the keys starting with each of the given prefixes. A single iterator
+     * is reused to seek all the prefixes. If a fixed-length prefix extractor is configured, the
+     * seeks are prefix seeks which skip the memtables and SST files by the prefix bloom filters.
+     */
+    public List<List<byte[]>> prefixLookups(List<byte[]> prefixKeys) {
+        List<List<byte[]>> result = new ArrayList<>(prefixKeys.size());
+        Integer prefixKeyLength = optionsContainer.getPrefixKeyLength();
+        boolean prefixSeek = prefixKeyLength != null;
+        for (byte[] prefixKey : prefixKeys) {
+            // a prefix shorter than the extracted prefix isn't in the domain of the extractor
+            prefixSeek &= prefixKeyLength != null && prefixKey.length >= prefixKeyLength;
+        }
+        ReadOptions readOptions =
+                new ReadOptions().setPrefixSameAsStart(prefixSeek).setTotalOrderSeek(!prefixSeek);
         RocksIterator iterator = db.newIterator(defaultColumnFamilyHandle, readOptions);
         try {
-            iterator.seek(prefixKey);
-            while (iterator.isValid() && BytesUtils.prefixEquals(prefixKey, iterator.key())) {
-                pkList.add(iterator.value());
-                iterator.next();
+            for (byte[] prefixKey : prefixKeys) {
+                List<byte[]> values = new ArrayList<>();
+                iterator.seek(prefixKey);
+                while (iterator.isValid() && BytesUtils.prefixEquals(prefixKey, iterator.key())) {
+                    values.add(iterator.value());
+                    iterator.next();
+                }
+                result.add(values);
             }
         } finally {
             readOptions.close();
             iterator.close();
         }
 
-        return pkList;
+        return result;
     }
 
     public List<byte[]> limitScan(Integer limit) {
         List<byte[]> pkList = new ArrayList<>();
-        ReadOptions readOptions = new ReadOptions();
+        ReadOptions readOptions = new ReadOptions().setTotalOrderSeek(true);
         RocksIterator iterator = db.newIterator(defaultColumnFamilyHandle, readOptions);
 
         int count = 0;
@@ -151,6 +185,20 @@ public class RocksDBKv implements AutoCloseable {
         return pkList;
     }
 
+    /**
+     * Opens an iterator over a point-in-time snapshot of the kv, positioned at the first key. The
+     * returned iterator keeps the RocksDB instance alive until it is closed.
+     */
+    public RocksDBSnapshotIterator newSnapshotIterator() throws IOException {
+        ResourceGuard.Lease lease = rocksDBResourceGuard.acquireResource();
+        try {
+            return new RocksDBSnapshotIterator(db, defaultColumnFamilyHandle, lease);
+        } catch (Throwable t) {
+            lease.close();
+            throw t;
+        }
+    }
+
     public void put(byte[] key, byte[] value) throws IOException {
         try {
             db.put(writeOptions, key, value);
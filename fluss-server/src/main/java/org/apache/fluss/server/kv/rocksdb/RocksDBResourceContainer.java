@@ -72,6 +72,9 @@ public class RocksDBResourceContainer implements AutoCloseable {
     // the filename length limit is 255 on most operating systems
     private static final int INSTANCE_PATH_LENGTH_LIMIT = 255 - "_LOG".length();
 
+    // the ratio of the write buffer size used by the prefix bloom filter of the memtables
+    private static final double MEMTABLE_PREFIX_BLOOM_SIZE_RATIO = 0.1;
+
     @Nullable private final File instanceRocksDBPath;
 
     /** The configurations from file. */
@@ -79,6 +82,12 @@ public class RocksDBResourceContainer implements AutoCloseable {
 
     private final boolean enableStatistics;
 
+    /**
+     * The length of the prefix of the keys to extract for prefix seeks and prefix bloom filters,
+     * null if the keys have no fixed-length prefix.
+     */
+    @Nullable private final Integer prefixKeyLength;
+
     /** The shared rate limiter for all RocksDB instances. */
     private final RateLimiter sharedRateLimiter;
 
@@ -112,6 +121,15 @@ public class RocksDBResourceContainer implements AutoCloseable {
             @Nullable File instanceBasePath,
             boolean enableStatistics,
             RateLimiter sharedRateLimiter) {
+        this(configuration, instanceBasePath, enableStatistics, sharedRateLimiter, null);
+    }
+
+    public RocksDBResourceContainer(
+            ReadableConfig configuration,
+            @Nullable File instanceBasePath,
+            boolean enableStatistics,
+            RateLimiter sharedRateLimiter,
+            @Nullable Integer prefixKeyLength) {
         this.configuration = configuration;
 
         this.instanceRocksDBPath =
@@ -121,6 +139,7 @@ public class RocksDBResourceContainer implements AutoCloseable {
         this.enableStatistics = enableStatistics;
         this.sharedRateLimiter =
                 checkNotNull(sharedRateLimiter, "sharedRateLimiter must not be null");
+        this.prefixKeyLength = prefixKeyLength;
 
         this.handlesToClose = new ArrayList<>();
     }
@@ -175,9 +194,25 @@ public class RocksDBResourceContainer implements AutoCloseable {
         // load configurable options on top of pre-defined profile
         setColumnFamilyOptionsFromConfigurableOptions(opt, handlesToClose);
 
+        if (prefixKeyLength != null) {
+            // the bloom filters of the memtables and the SST files contain the prefixes as well,
+            // so that the prefix seeks skip the memtables and files without the prefix
+            opt.useFixedLengthPrefixExtractor(prefixKeyLength);
+            opt.setMemtablePrefixBloomSizeRatio(MEMTABLE_PREFIX_BLOOM_SIZE_RATIO);
+        }
+
         return opt;
     }
 
+    /**
+     * Gets the length of the fixed-length key prefix extracted for prefix seeks, null if no prefix
+     * extractor is configured.
+     */
+    @Nullable
+    public Integer getPrefixKeyLength() {
+        return prefixKeyLength;
+    }
+
     /** Gets the RocksDB {@link WriteOptions} to be used for write operations. */
     public WriteOptions getWriteOptions() {
         // Disable WAL by default
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.server.kv.rocksdb;
+
+import org.apache.fluss.rocksdb.RocksIteratorWrapper;
+import org.apache.fluss.server.utils.ResourceGuard;
+import org.apache.fluss.utils.IOUtils;
+
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.Snapshot;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * An iterator over a point-in-time {@link Snapshot} of a {@link RocksDBKv}. The iterator holds a
+ * lease of the RocksDB {@link ResourceGuard} until it is closed, so the RocksDB instance can't be
+ * disposed while the iterator is still open. Callers must always close the iterator.
+ */
+@NotThreadSafe
+public class RocksDBSnapshotIterator implements AutoCloseable {
+
+    private final RocksDB db;
+    private final ResourceGuard.Lease lease;
+    private final Snapshot snapshot;
+    private final ReadOptions readOptions;
+    private final RocksIteratorWrapper iterator;
+
+    private boolean closed = false;
+
+    RocksDBSnapshotIterator(
+            RocksDB db, ColumnFamilyHandle columnFamilyHandle, ResourceGuard.Lease lease) {
+        this.db = db;
+        this.lease = lease;
+        this.snapshot = db.getSnapshot();
+        // the scan reads every key exactly once, don't pollute the block cache with it
+        this.readOptions =
+                new ReadOptions().setSnapshot(snapshot).setFillCache(false).setTotalOrderSeek(true);
+        this.iterator = new RocksIteratorWrapper(db.newIterator(columnFamilyHandle, readOptions));
+        this.iterator.seekToFirst();
+    }
+
+    public boolean isValid() {
+        return iterator.isValid();
+    }
+
+    public byte[] key() {
+        return iterator.key();
+    }
+
+    public byte[] value() {
+        return iterator.value();
+    }
+
+    public void next() {
+        iterator.next();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        IOUtils.closeQuietly(iterator);
+        IOUtils.closeQuietly(readOptions);
+        db.releaseSnapshot(snapshot);
+        lease.close();
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.server.kv.rocksdb;
+
+import org.apache.fluss.server.kv.KvBatchWriter;
+import org.apache.fluss.utils.FileUtils;
+import org.apache.fluss.utils.IOUtils;
+
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.DBOptions;
+import org.rocksdb.EnvOptions;
+import org.rocksdb.IngestExternalFileOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.SstFileWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.apache.fluss.utils.Preconditions.checkArgument;
+
+/**
+ * A {@link KvBatchWriter} which bulk loads the written key-value pairs into RocksDB by SST files,
+ * instead of writing them to the memtables.
+ *
+ * <p>The written pairs are buffered sorted by key, and a later write of a key overrides the earlier
+ * one. Once the buffer is full, or on {@link #flush()}, the buffer is written to an SST file by
+ * {@link SstFileWriter} and the file is ingested into RocksDB. Every file is ingested on its own,
+ * so that the keys of a later file override the ones of the earlier files and of the existing data.
+ * The deletions are written as tombstones.
+ */
+@NotThreadSafe
+public class RocksDBSstBatchWriter implements KvBatchWriter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RocksDBSstBatchWriter.class);
+
+    /**
+     * The estimated heap overhead of a buffered pair besides the bytes of its key and value: a
+     * {@link TreeMap} entry of 40 bytes and the headers of the key and value arrays of 16 bytes
+     * each. Without it, a buffer of many small pairs takes several times its configured size.
+     */
+    private static final int ENTRY_OVERHEAD = 72;
+
+    /** Marks a deleted key in the buffer, compared by identity. */
+    private static final byte[] TOMBSTONE = new byte[0];
+
+    /** The order of the keys of RocksDB's default bytewise comparator. */
+    private static final Comparator<byte[]> BYTEWISE_COMPARATOR =
+            (left, right) -> {
+                int length = Math.min(left.length, right.length);
+                for (int i = 0; i < length; i++) {
+                    int cmp = Integer.compare(left[i] & 0xff, right[i] & 0xff);
+                    if (cmp != 0) {
+                        return cmp;
+                    }
+                }
+                return Integer.compare(left.length, right.length);
+            };
+
+    private final RocksDB db;
+    private final File sstDir;
+    private final long bufferSize;
+    private final EnvOptions envOptions;
+    private final Options options;
+    private final IngestExternalFileOptions ingestOptions;
+
+    private final TreeMap<byte[], byte[]> buffer = new TreeMap<>(BYTEWISE_COMPARATOR);
+    private long bufferedBytes;
+    private int sstFileCount;
+
+    public RocksDBSstBatchWriter(
+            RocksDB db, ColumnFamilyOptions columnFamilyOptions, File sstDir, long bufferSize)
+            throws IOException {
+        checkArgument(bufferSize > 0, "The buffer size must be positive.");
+        this.db = db;
+        this.sstDir = sstDir;
+        this.bufferSize = bufferSize;
+        // remove the files left by a previous failed recovery
+        FileUtils.deleteDirectoryQuietly(sstDir);
+        Files.createDirectories(sstDir.toPath());
+        this.envOptions = new EnvOptions();
+        // the files are written with the options of the column family they are ingested into
+        try (DBOptions dbOptions = new DBOptions()) {
+            this.options = new Options(dbOptions, columnFamilyOptions);
+        }
+        // the files are not needed after the ingestion, move them instead of copying them
+        this.ingestOptions = new IngestExternalFileOptions().setMoveFiles(true);
+    }
+
+    @Override
+    public void put(@Nonnull byte[] key, @Nonnull byte[] value) throws IOException {
+        buffer(key, value);
+    }
+
+    @Override
+    public void delete(@Nonnull byte[] key) throws IOException {
+        buffer(key, TOMBSTONE);
+    }
+
+    private void buffer(byte[] key, byte[] value) throws IOException {
+        byte[] previous = buffer.put(key, value);
+        if (previous == null) {
+            bufferedBytes += ENTRY_OVERHEAD + key.length + value.length;
+        } else {
+            bufferedBytes += value.length - previous.length;
+        }
+        if (bufferedBytes >= bufferSize) {
+            flush();
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        File sstFile = new File(sstDir, "recover-" + sstFileCount++ + ".sst");
+        try (SstFileWriter writer = new SstFileWriter(envOptions, options)) {
+            writer.open(sstFile.getAbsolutePath());
+            for (Map.Entry<byte[], byte[]> entry : buffer.entrySet()) {
+                if (entry.getValue() == TOMBSTONE) {
+                    writer.delete(entry.getKey());
+                } else {
+                    writer.put(entry.getKey(), entry.getValue());
+                }
+            }
+            writer.finish();
+            db.ingestExternalFile(
+                    Collections.singletonList(sstFile.getAbsolutePath()), ingestOptions);
+        } catch (RocksDBException e) {
+            throw new IOException("Failed to ingest SST file " + sstFile + " into RocksDB.", e);
+        }
+        LOG.debug(
+                "Ingested {} keys of {} bytes into RocksDB by SST file {}.",
+                buffer.size(),
+                bufferedBytes,
+                sstFile);
+        buffer.clear();
+        bufferedBytes = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            IOUtils.closeQuietly(ingestOptions);
+            IOUtils.closeQuietly(options);
+            IOUtils.closeQuietly(envOptions);
+            FileUtils.deleteDirectoryQuietly(sstDir);
+        }
+    }
+}
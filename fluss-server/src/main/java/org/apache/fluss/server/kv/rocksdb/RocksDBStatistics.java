@@ -139,10 +139,15 @@ public class RocksDBStatistics implements AutoCloseable {
      * is used instead of average because it better reflects tail latency issues, which are more
      * critical for monitoring database performance.
      *
+     * <p>Both point gets and batched multi-gets are taken into account, as the lookups and the
+     * read-before-write of the kv tablet are served by multi-gets.
+     *
      * @return P99 get latency in microseconds, or 0 if not available
      */
     public long getGetLatencyMicros() {
-        return getHistogramValue(HistogramType.DB_GET);
+        return Math.max(
+                getHistogramValue(HistogramType.DB_GET),
+                getHistogramValue(HistogramType.DB_MULTIGET));
     }
 
     /**
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.server.kv.scan;
+
+import org.apache.fluss.exception.ScannerExpiredException;
+import org.apache.fluss.metadata.TableBucket;
+import org.apache.fluss.record.DefaultValueRecordBatch;
+import org.apache.fluss.server.kv.rocksdb.RocksDBSnapshotIterator;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * A scanner that reads all the values of a kv tablet from a pinned RocksDB snapshot, chunk by
+ * chunk. Each chunk is returned as a {@link DefaultValueRecordBatch} bounded by a size in bytes.
+ *
+ * <p>The scanner can be closed concurrently by the owner of the session (when the session is
+ * finished or expired) and by the kv tablet (when the tablet is closed, e.g. on leader change).
+ */
+@ThreadSafe
+public final class KvScanner implements AutoCloseable {
+
+    private final TableBucket tableBucket;
+    private final long logOffset;
+    private final Consumer<KvScanner> closeListener;
+
+    @GuardedBy("this")
+    private final RocksDBSnapshotIterator iterator;
+
+    /** The remaining number of records to return, negative means no limit. */
+    @GuardedBy("this")
+    private long remaining;
+
+    @GuardedBy("this")
+    private boolean closed = false;
+
+    public KvScanner(
+            TableBucket tableBucket,
+            RocksDBSnapshotIterator iterator,
+            long logOffset,
+            @Nullable Long limit,
+            Consumer<KvScanner> closeListener) {
+        this.tableBucket = tableBucket;
+        this.iterator = iterator;
+        this.logOffset = logOffset;
+        this.remaining = limit == null ? -1 : limit;
+        this.closeListener = closeListener;
+    }
+
+    public TableBucket getTableBucket() {
+        return tableBucket;
+    }
+
+    /**
+     * The log offset the snapshot of this scanner is consistent with, i.e., all the changes before
+     * this offset are visible to the scanner, and none of the changes at or after it are.
+     */
+    public long getLogOffset() {
+        return logOffset;
+    }
+
+    /**
+     * Reads the next chunk of values. The returned batch contains at least one record if there are
+     * more records, and stops at the first record that makes it reach {@code maxBytes}.
+     */
+    public synchronized DefaultValueRecordBatch nextBatch(int maxBytes) throws IOException {
+        if (closed) {
+            throw new ScannerExpiredException(
+                    String.format(
+                            "The scanner of bucket %s has been closed, "
+                                    + "this may happen when the leader of the bucket has changed.",
+                            tableBucket));
+        }
+        DefaultValueRecordBatch.Builder builder = DefaultValueRecordBatch.builder();
+        int bytes = 0;
+        while (remaining != 0 && bytes < maxBytes && iterator.isValid()) {
+            byte[] value = iterator.value();
+            builder.append(value);
+            bytes += value.length;
+            iterator.next();
+            if (remaining > 0) {
+                remaining--;
+            }
+        }
+        return builder.build();
+    }
+
+    /** Returns true if there may be more records to read. */
+    public synchronized boolean hasMoreRecords() {
+        return !closed && remaining != 0 && iterator.isValid();
+    }
+
+    public synchronized boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            iterator.close();
+        }
+        closeListener.accept(this);
+    }
+}
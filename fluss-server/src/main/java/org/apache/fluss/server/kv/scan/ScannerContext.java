@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.server.kv.scan;
+
+import org.apache.fluss.exception.InvalidScanRequestException;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.util.UUID;
+
+/** The server side state of a kv scanner session registered in {@link ScannerManager}. */
+@ThreadSafe
+public final class ScannerContext {
+
+    private final UUID scannerId;
+    private final KvScanner scanner;
+
+    private int lastCallSeqId;
+    private volatile long lastAccessTimeMs;
+
+    ScannerContext(UUID scannerId, KvScanner scanner, long createTimeMs) {
+        this.scannerId = scannerId;
+        this.scanner = scanner;
+        // the request opening the scanner is the call 0
+        this.lastCallSeqId = 0;
+        this.lastAccessTimeMs = createTimeMs;
+    }
+
+    UUID getId() {
+        return scannerId;
+    }
+
+    public byte[] getScannerId() {
+        return ScannerManager.toBytes(scannerId);
+    }
+
+    public KvScanner getScanner() {
+        return scanner;
+    }
+
+    long getLastAccessTimeMs() {
+        return lastAccessTimeMs;
+    }
+
+    /**
+     * Validates that the given call sequence id directly follows the last one of this scanner and
+     * marks the scanner as accessed.
+     */
+    synchronized void advance(int callSeqId, long nowMs) {
+        if (callSeqId != lastCallSeqId + 1) {
+            throw new InvalidScanRequestException(
+                    String.format(
+                            "Out of order scan request for scanner %s, expected call_seq_id %d but got %d.",
+                            scannerId, lastCallSeqId + 1, callSeqId));
+        }
+        lastCallSeqId = callSeqId;
+        lastAccessTimeMs = nowMs;
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.server.kv.scan;
+
+import org.apache.fluss.annotation.VisibleForTesting;
+import org.apache.fluss.config.ConfigOptions;
+import org.apache.fluss.config.Configuration;
+import org.apache.fluss.exception.ScannerExpiredException;
+import org.apache.fluss.exception.TooManyScannersException;
+import org.apache.fluss.exception.UnknownScannerIdException;
+import org.apache.fluss.metadata.TableBucket;
+import org.apache.fluss.utils.clock.Clock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * The registry of the kv scanner sessions opened on a tablet server. Each session pins a RocksDB
+ * snapshot of a kv tablet, so the number of sessions is capped by {@link
+ * ConfigOptions#KV_SCANNER_MAX_PER_SERVER} and the sessions idle for longer than {@link
+ * ConfigOptions#KV_SCANNER_TTL} are expired by {@link #expireIdleScanners()}.
+ */
+@ThreadSafe
+public final class ScannerManager implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScannerManager.class);
+
+    /** The number of recently expired scanner ids to remember to report expiration to clients. */
+    private static final int MAX_REMEMBERED_EXPIRED_SCANNERS = 1024;
+
+    private final Clock clock;
+    private final long scannerTtlMs;
+    private final int maxScanners;
+
+    private final Map<UUID, ScannerContext> scanners = new ConcurrentHashMap<>();
+
+    /** The number of registered scanners plus the scanners being opened. */
+    private final AtomicInteger scannerSlots = new AtomicInteger();
+
+    @GuardedBy("expiredScanners")
+    private final Map<UUID, Boolean> expiredScanners =
+            new LinkedHashMap<UUID, Boolean>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<UUID, Boolean> eldest) {
+                    return size() > MAX_REMEMBERED_EXPIRED_SCANNERS;
+                }
+            };
+
+    public ScannerManager(Configuration conf, Clock clock) {
+        this(
+                conf.get(ConfigOptions.KV_SCANNER_TTL).toMillis(),
+                conf.get(ConfigOptions.KV_SCANNER_MAX_PER_SERVER),
+                clock);
+    }
+
+    @VisibleForTesting
+    ScannerManager(long scannerTtlMs, int maxScanners, Clock clock) {
+        this.scannerTtlMs = scannerTtlMs;
+        this.maxScanners = maxScanners;
+        this.clock = clock;
+    }
+
+    public long getScannerTtlMs() {
+        return scannerTtlMs;
+    }
+
+    /**
+     * Opens a new scanner with the given factory and registers it. A slot is reserved before the
+     * scanner is opened, so the scanners of different buckets are opened concurrently.
+     *
+     * @throws TooManyScannersException if the server already holds the maximum number of scanners
+     */
+    public ScannerContext createScanner(Supplier<KvScanner> scannerFactory) {
+        if (scannerSlots.incrementAndGet() > maxScanners) {
+            scannerSlots.decrementAndGet();
+            throw new TooManyScannersException(
+                    String.format(
+                            "The tablet server already holds %d open kv scanners, which reaches the limit '%s'.",
+                            maxScanners, ConfigOptions.KV_SCANNER_MAX_PER_SERVER.key()));
+        }
+        KvScanner scanner;
+        try {
+            scanner = scannerFactory.get();
+        } catch (Throwable t) {
+            scannerSlots.decrementAndGet();
+            throw t;
+        }
+        UUID scannerId = UUID.randomUUID();
+        ScannerContext context = new ScannerContext(scannerId, scanner, clock.milliseconds());
+        scanners.put(scannerId, context);
+        return context;
+    }
+
+    /**
+     * Gets the scanner of the given id for the next call of the scanner session.
+     *
+     * @throws UnknownScannerIdException if the scanner is not registered
+     * @throws ScannerExpiredException if the scanner has been expired
+     */
+    public ScannerContext getScanner(byte[] scannerId, int callSeqId) {
+        ScannerContext context = lookupScanner(scannerId);
+        context.advance(callSeqId, clock.milliseconds());
+        return context;
+    }
+
+    /**
+     * Gets the bucket scanned by the scanner of the given id without accessing the scanner, e.g.,
+     * to authorize the next call of the scanner session.
+     *
+     * @throws UnknownScannerIdException if the scanner is not registered
+     * @throws ScannerExpiredException if the scanner has been expired
+     */
+    public TableBucket getScannerBucket(byte[] scannerId) {
+        return lookupScanner(scannerId).getScanner().getTableBucket();
+    }
+
+    private ScannerContext lookupScanner(byte[] scannerId) {
+        UUID id = fromBytes(scannerId);
+        ScannerContext context = id == null ? null : scanners.get(id);
+        if (context == null) {
+            boolean expired;
+            synchronized (expiredScanners) {
+                expired = id != null && expiredScanners.containsKey(id);
+            }
+            if (expired) {
+                throw new ScannerExpiredException(
+                        String.format(
+                                "The scanner %s has expired as it was idle for more than %d ms.",
+                                id, scannerTtlMs));
+            }
+            throw new UnknownScannerIdException(
+                    String.format("The scanner %s is unknown to the server.", id));
+        }
+        return context;
+    }
+
+    /** Unregisters and closes the given scanner. */
+    public void closeScanner(ScannerContext context) {
+        if (scanners.remove(context.getId(), context)) {
+            scannerSlots.decrementAndGet();
+            context.getScanner().close();
+        }
+    }
+
+    /** Closes the scanners that have been idle for too long or closed by their kv tablet. */
+    public void expireIdleScanners() {
+        long now = clock.milliseconds();
+        List<ScannerContext> expired = new ArrayList<>();
+        for (ScannerContext context : scanners.values()) {
+            if (now - context.getLastAccessTimeMs() > scannerTtlMs
+                    || context.getScanner().isClosed()) {
+                expired.add(context);
+            }
+        }
+
+        for (ScannerContext context : expired) {
+            if (scanners.remove(context.getId(), context)) {
+                scannerSlots.decrementAndGet();
+                synchronized (expiredScanners) {
+                    expiredScanners.put(context.getId(), Boolean.TRUE);
+                }
+                context.getScanner().close();
+            }
+        }
+        if (!expired.isEmpty()) {
+            LOG.info("Expired {} idle kv scanners.", expired.size());
+        }
+    }
+
+    @VisibleForTesting
+    public int getScannerCount() {
+        return scanners.size();
+    }
+
+    @Override
+    public void close() {
+        for (ScannerContext context : new ArrayList<>(scanners.values())) {
+            closeScanner(context);
+        }
+    }
+
+    static byte[] toBytes(UUID uuid) {
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+        buffer.putLong(uuid.getMostSignificantBits());
+        buffer.putLong(uuid.getLeastSignificantBits());
+        return buffer.array();
+    }
+
+    private static UUID fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != 16) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
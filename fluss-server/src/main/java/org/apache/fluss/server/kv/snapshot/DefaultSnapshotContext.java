@@ -56,6 +56,7 @@ public class DefaultSnapshotContext implements SnapshotContext, ServerReconfigur
     private final CompletedSnapshotHandleStore completedSnapshotHandleStore;
 
     private final int maxFetchLogSizeInRecoverKv;
+    private final long bulkLoadBufferSizeInRecoverKv;
 
     private final FsPath remoteKvDir;
 
@@ -70,7 +71,8 @@ public class DefaultSnapshotContext implements SnapshotContext, ServerReconfigur
             int writeBufferSizeInBytes,
             FsPath remoteKvDir,
             CompletedSnapshotHandleStore completedSnapshotHandleStore,
-            int maxFetchLogSizeInRecoverKv) {
+            int maxFetchLogSizeInRecoverKv,
+            long bulkLoadBufferSizeInRecoverKv) {
         this.zooKeeperClient = zooKeeperClient;
         this.completedKvSnapshotCommitter = completedKvSnapshotCommitter;
         this.snapshotScheduler = snapshotScheduler;
@@ -83,6 +85,7 @@ public class DefaultSnapshotContext implements SnapshotContext, ServerReconfigur
 
         this.completedSnapshotHandleStore = completedSnapshotHandleStore;
         this.maxFetchLogSizeInRecoverKv = maxFetchLogSizeInRecoverKv;
+        this.bulkLoadBufferSizeInRecoverKv = bulkLoadBufferSizeInRecoverKv;
     }
 
     public static DefaultSnapshotContext create(
@@ -101,7 +104,10 @@ public class DefaultSnapshotContext implements SnapshotContext, ServerReconfigur
                 (int) conf.get(ConfigOptions.REMOTE_FS_WRITE_BUFFER_SIZE).getBytes(),
                 FlussPaths.remoteKvDir(conf),
                 new ZooKeeperCompletedSnapshotHandleStore(zkClient),
-                (int) conf.get(ConfigOptions.KV_RECOVER_LOG_RECORD_BATCH_MAX_SIZE).getBytes());
+                (int) conf.get(ConfigOptions.KV_RECOVER_LOG_RECORD_BATCH_MAX_SIZE).getBytes(),
+                conf.get(ConfigOptions.KV_RECOVER_BULK_LOAD_ENABLED)
+                        ? conf.get(ConfigOptions.KV_RECOVER_BULK_LOAD_BUFFER_SIZE).getBytes()
+                        : -1L);
     }
 
     public ZooKeeperClient getZooKeeperClient() {
@@ -163,6 +169,11 @@ public class DefaultSnapshotContext implements SnapshotContext, ServerReconfigur
         return maxFetchLogSizeInRecoverKv;
     }
 
+    @Override
+    public long bulkLoadBufferSizeInRecoverKv() {
+        return bulkLoadBufferSizeInRecoverKv;
+    }
+
     @Override
     public void handleSnapshotBroken(CompletedSnapshot snapshot) throws Exception {
         completedSnapshotHandleStore.remove(snapshot.getTableBucket(), snapshot.getSnapshotID());
@@ -82,4 +82,10 @@ public interface SnapshotContext {
      * log during recovering.
      */
     int maxFetchLogSizeInRecoverKv();
+
+    /**
+     * Get the size of the buffer to sort the key-value pairs bulk loaded into kv during recovering
+     * kv, or -1 if the log is applied to kv by write batches.
+     */
+    long bulkLoadBufferSizeInRecoverKv();
 }
@@ -0,0 +1,286 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.server.log;
+
+import org.apache.fluss.compression.ArrowCompressionFactory;
+import org.apache.fluss.compression.ArrowCompressionInfo;
+import org.apache.fluss.memory.MemorySegment;
+import org.apache.fluss.memory.UnmanagedPagedOutputView;
+import org.apache.fluss.metadata.LogFormat;
+import org.apache.fluss.predicate.Predicate;
+import org.apache.fluss.record.ChangeType;
+import org.apache.fluss.record.DefaultLogRecordBatch;
+import org.apache.fluss.record.FileLogInputStream.FileChannelLogRecordBatch;
+import org.apache.fluss.record.FileLogProjection;
+import org.apache.fluss.record.LogRecord;
+import org.apache.fluss.record.LogRecordBatch;
+import org.apache.fluss.record.MemoryLogRecordsArrowBuilder;
+import org.apache.fluss.record.bytesview.BytesView;
+import org.apache.fluss.record.bytesview.MultiBytesView;
+import org.apache.fluss.row.InternalRow;
+import org.apache.fluss.row.ProjectedRow;
+import org.apache.fluss.row.arrow.ArrowWriter;
+import org.apache.fluss.row.arrow.ArrowWriterPool;
+import org.apache.fluss.shaded.arrow.org.apache.arrow.memory.BufferAllocator;
+import org.apache.fluss.shaded.arrow.org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.fluss.types.RowType;
+import org.apache.fluss.utils.CloseableIterator;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.apache.fluss.record.LogRecordBatchFormat.LOG_MAGIC_VALUE_V2;
+import static org.apache.fluss.record.LogRecordBatchFormat.recordBatchHeaderSize;
+
+/**
+ * Evaluates the filter of a fetch on every row of the Arrow log record batches which pass the
+ * batch-level statistics filter, and rebuilds the matching rows into compacted batches.
+ *
+ * <p>The log offset of a record is derived from its position in the batch, so the matching rows are
+ * rebuilt into one batch per run of consecutive rows, starting at the offset of the first row of
+ * the run. Two runs are merged if sending the filtered rows between them costs less bytes than the
+ * header of another batch. This is fine as the filtering of the fetch is best-effort, readers
+ * evaluate the filter on the returned rows again.
+ */
+@NotThreadSafe
+final class ArrowRowFilter {
+
+    private static final int MIN_PAGE_SIZE = 4 * 1024;
+
+    private final PredicateSchemaResolver predicateResolver;
+    private final ArrowCompressionInfo compressionInfo;
+    private final RowFilterBudget budget;
+    private final ArrowWriterPool writerPool;
+    private final long tableId;
+    private final LogRecordBatch.ReadContext readContext;
+
+    ArrowRowFilter(
+            PredicateSchemaResolver predicateResolver,
+            LogRecordBatch.ReadContext filterReadContext,
+            ArrowCompressionInfo compressionInfo,
+            RowFilterBudget budget,
+            ArrowWriterPool writerPool,
+            long tableId) {
+        this.predicateResolver = predicateResolver;
+        this.readContext = new BatchSchemaReadContext(filterReadContext);
+        this.compressionInfo = compressionInfo;
+        this.budget = budget;
+        this.writerPool = writerPool;
+        this.tableId = tableId;
+    }
+
+    /**
+     * Filters the rows of the given batch.
+     *
+     * @param batch the batch which passed the batch-level filter
+     * @param startOffset the offset to fetch from, the rows before it are filtered out as well
+     * @param projection the column projection of the fetch, applied to the rebuilt batches
+     * @return the rebuilt batches, empty if no row of the batch matches, or null if the batch
+     *     should be returned as a whole, e.g. all the rows match or the budget is used up
+     */
+    @Nullable
+    BytesView filter(
+            FileChannelLogRecordBatch batch,
+            long startOffset,
+            @Nullable FileLogProjection projection)
+            throws Exception {
+        if (batch.getRecordCount() == 0 || budget.isExhausted()) {
+            return null;
+        }
+        Predicate predicate = predicateResolver.resolve(batch.schemaId());
+        if (predicate == null) {
+            return null;
+        }
+
+        long startNanos = System.nanoTime();
+        try (CloseableIterator<LogRecord> iterator = batch.records(readContext)) {
+            List<LogRecord> records = new ArrayList<>(batch.getRecordCount());
+            BitSet matches = new BitSet(batch.getRecordCount());
+            while (iterator.hasNext()) {
+                LogRecord record = iterator.next();
+                if (record.logOffset() >= startOffset && predicate.test(record.getRow())) {
+                    matches.set(records.size());
+                }
+                records.add(record);
+            }
+
+            if (matches.isEmpty()) {
+                return MultiBytesView.builder().build();
+            } else if (matches.cardinality() == records.size()) {
+                return null;
+            }
+            return rebuild(batch, records, matches, projection);
+        } finally {
+            budget.consume(System.nanoTime() - startNanos);
+        }
+    }
+
+    @Nullable
+    private BytesView rebuild(
+            FileChannelLogRecordBatch batch,
+            List<LogRecord> records,
+            BitSet matches,
+            @Nullable FileLogProjection projection)
+            throws Exception {
+        RowType rowType = readContext.getRowType(batch.schemaId());
+        ProjectedRow projectedRow = null;
+        if (projection != null) {
+            // the projection keeps the selected fields in the order of the schema
+            int[] selectedFields = projection.getSelectedFieldPositions().clone();
+            Arrays.sort(selectedFields);
+            rowType = rowType.project(selectedFields);
+            projectedRow = ProjectedRow.from(selectedFields);
+        }
+
+        ArrowWriter writer = newWriter(batch, rowType);
+        int batchOverhead = recordBatchHeaderSize(batch.magic()) + writer.getMetadataLength();
+        writer.close();
+        int avgRecordSize = Math.max(1, batch.sizeInBytes() / records.size());
+
+        MultiBytesView.Builder builder = MultiBytesView.builder();
+        int runStart = matches.nextSetBit(0);
+        int runEnd = runStart;
+        for (int i = matches.nextSetBit(runStart + 1); i >= 0; i = matches.nextSetBit(i + 1)) {
+            long gapBytes = (long) (i - runEnd - 1) * avgRecordSize;
+            if (gapBytes > batchOverhead) {
+                builder.addBytes(buildRun(batch, records, runStart, runEnd, rowType, projectedRow));
+                runStart = i;
+            }
+            runEnd = i;
+        }
+        builder.addBytes(buildRun(batch, records, runStart, runEnd, rowType, projectedRow));
+
+        MultiBytesView rebuilt = builder.build();
+        if (projection == null && rebuilt.getBytesLength() >= batch.sizeInBytes()) {
+            // the batches of the runs are larger than the batch itself
+            return null;
+        }
+        return rebuilt;
+    }
+
+    /** Builds the records from {@code start} to {@code end} (inclusive) into a new batch. */
+    private BytesView buildRun(
+            FileChannelLogRecordBatch batch,
+            List<LogRecord> records,
+            int start,
+            int end,
+            RowType rowType,
+            @Nullable ProjectedRow projectedRow)
+            throws Exception {
+        int recordCount = end - start + 1;
+        byte magic = batch.magic();
+        // the first page holds the batch header and the change types
+        int pageSize =
+                Math.max(
+                        MIN_PAGE_SIZE,
+                        recordBatchHeaderSize(magic)
+                                + recordCount * (batch.sizeInBytes() / records.size() + 1));
+        UnmanagedPagedOutputView outputView = new UnmanagedPagedOutputView(pageSize);
+        MemorySegment headerSegment = outputView.getCurrentSegment();
+
+        boolean appendOnly = records.get(start).getChangeType() == ChangeType.APPEND_ONLY;
+        MemoryLogRecordsArrowBuilder runBuilder =
+                MemoryLogRecordsArrowBuilder.builder(
+                        records.get(start).logOffset(),
+                        magic,
+                        batch.schemaId(),
+                        newWriter(batch, rowType),
+                        outputView,
+                        appendOnly);
+        try {
+            for (int i = start; i <= end; i++) {
+                LogRecord record = records.get(i);
+                InternalRow row =
+                        projectedRow == null
+                                ? record.getRow()
+                                : projectedRow.replaceRow(record.getRow());
+                runBuilder.append(record.getChangeType(), row);
+            }
+        } catch (Exception e) {
+            runBuilder.abort();
+            throw e;
+        }
+        runBuilder.close();
+        BytesView bytesView = runBuilder.build();
+
+        // the builder leaves the commit timestamp and leader epoch to the server, keep the ones of
+        // the original batch
+        DefaultLogRecordBatch header = new DefaultLogRecordBatch();
+        header.pointTo(headerSegment, 0);
+        header.setCommitTimestamp(batch.commitTimestamp());
+        if (magic >= LOG_MAGIC_VALUE_V2) {
+            header.setLeaderEpoch(batch.leaderEpoch());
+        }
+        return bytesView;
+    }
+
+    private ArrowWriter newWriter(FileChannelLogRecordBatch batch, RowType rowType) {
+        // the writer pool is shared by the buckets of a fetch, whose projection is per table
+        return writerPool.getOrCreateWriter(
+                tableId, batch.schemaId(), Integer.MAX_VALUE, rowType, compressionInfo);
+    }
+
+    /**
+     * Reads the batches in their own schema rather than the schema of the filter, as the rebuilt
+     * batches keep the schema id of the original batch.
+     */
+    private static final class BatchSchemaReadContext implements LogRecordBatch.ReadContext {
+
+        private final LogRecordBatch.ReadContext filterReadContext;
+
+        private BatchSchemaReadContext(LogRecordBatch.ReadContext filterReadContext) {
+            this.filterReadContext = filterReadContext;
+        }
+
+        @Override
+        public LogFormat getLogFormat() {
+            return filterReadContext.getLogFormat();
+        }
+
+        @Override
+        public RowType getRowType(int schemaId) {
+            return filterReadContext.getRowType(schemaId);
+        }
+
+        @Override
+        public VectorSchemaRoot getVectorSchemaRoot(int schemaId) {
+            return filterReadContext.getVectorSchemaRoot(schemaId);
+        }
+
+        @Override
+        public BufferAllocator getBufferAllocator() {
+            return filterReadContext.getBufferAllocator();
+        }
+
+        @Override
+        public ArrowCompressionFactory getCompressionFactory() {
+            return filterReadContext.getCompressionFactory();
+        }
+
+        @Nullable
+        @Override
+        public ProjectedRow getOutputProjectedRow(int schemaId) {
+            return null;
+        }
+    }
+}
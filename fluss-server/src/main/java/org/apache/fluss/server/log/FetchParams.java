@@ -22,6 +22,7 @@ import org.apache.fluss.compression.ArrowCompressionInfo;
 import org.apache.fluss.metadata.SchemaGetter;
 import org.apache.fluss.record.FileLogProjection;
 import org.apache.fluss.record.ProjectionPushdownCache;
+import org.apache.fluss.row.arrow.ArrowWriterPool;
 import org.apache.fluss.rpc.messages.FetchLogRequest;
 
 import javax.annotation.Nullable;
@@ -67,6 +68,10 @@ public final class FetchParams {
     @Nullable private final Map<Long, FilterInfo> tableFilterInfoMap;
     // the lazily initialized projection util to read and project file logs
     @Nullable private FileLogProjection fileLogProjection;
+    // the CPU budget to filter the rows of the fetched batches, null if rows are not filtered
+    @Nullable private RowFilterBudget rowFilterBudget;
+    // the writers to rebuild the filtered rows, null if rows are not filtered
+    @Nullable private ArrowWriterPool rowFilterWriterPool;
     private final int minFetchBytes;
     private final long maxWaitMs;
     // TODO: add more params like epoch etc.
@@ -143,6 +148,28 @@ public final class FetchParams {
         return tableFilterInfoMap.get(tableId);
     }
 
+    /**
+     * Enables filtering the rows of the fetched batches, the budget and the writer pool are shared
+     * by all the buckets of the fetch. The writer pool is owned by the caller, which closes it once
+     * the fetch is read. Passing nulls disables the row filtering.
+     */
+    public void setRowFilter(
+            @Nullable RowFilterBudget rowFilterBudget,
+            @Nullable ArrowWriterPool rowFilterWriterPool) {
+        this.rowFilterBudget = rowFilterBudget;
+        this.rowFilterWriterPool = rowFilterWriterPool;
+    }
+
+    @Nullable
+    public RowFilterBudget rowFilterBudget() {
+        return rowFilterBudget;
+    }
+
+    @Nullable
+    public ArrowWriterPool rowFilterWriterPool() {
+        return rowFilterWriterPool;
+    }
+
     /**
      * Marks that at least one message has been read. This turns off the {@link #minOneMessage}
      * flag.
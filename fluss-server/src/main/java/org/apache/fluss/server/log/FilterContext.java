@@ -17,9 +17,14 @@
 
 package org.apache.fluss.server.log;
 
+import org.apache.fluss.compression.ArrowCompressionInfo;
 import org.apache.fluss.metadata.SchemaGetter;
 import org.apache.fluss.predicate.Predicate;
 import org.apache.fluss.record.LogRecordReadContext;
+import org.apache.fluss.row.arrow.ArrowWriterPool;
+import org.apache.fluss.utils.IOUtils;
+
+import javax.annotation.Nullable;
 
 import static org.apache.fluss.utils.Preconditions.checkNotNull;
 
@@ -29,18 +34,44 @@ import static org.apache.fluss.utils.Preconditions.checkNotNull;
  * <p>All parameters are logically coupled: the predicate defines what to filter, the read context
  * provides batch statistics for filter evaluation, and the predicate resolver handles schema
  * evolution. The resolver is derived internally from the predicate, schema ID, and schema getter.
+ *
+ * <p>If a {@link RowFilterBudget} is given, the rows of the Arrow batches passing the batch-level
+ * filter are filtered as well, see {@link ArrowRowFilter}. The rows are rebuilt by the writers of
+ * the given {@link ArrowWriterPool}, which is owned by the caller and shared by the buckets of the
+ * fetch.
  */
-public final class FilterContext {
+public final class FilterContext implements AutoCloseable {
 
     private final Predicate recordBatchFilter;
     private final LogRecordReadContext readContext;
     private final PredicateSchemaResolver predicateResolver;
+    @Nullable private final ArrowRowFilter rowFilter;
 
     public FilterContext(
             Predicate recordBatchFilter,
             LogRecordReadContext readContext,
             int filterSchemaId,
             SchemaGetter schemaGetter) {
+        this(
+                recordBatchFilter,
+                readContext,
+                filterSchemaId,
+                schemaGetter,
+                null,
+                null,
+                -1L,
+                ArrowCompressionInfo.NO_COMPRESSION);
+    }
+
+    public FilterContext(
+            Predicate recordBatchFilter,
+            LogRecordReadContext readContext,
+            int filterSchemaId,
+            SchemaGetter schemaGetter,
+            @Nullable RowFilterBudget rowFilterBudget,
+            @Nullable ArrowWriterPool rowFilterWriterPool,
+            long tableId,
+            ArrowCompressionInfo compressionInfo) {
         this.recordBatchFilter = checkNotNull(recordBatchFilter, "recordBatchFilter");
         this.readContext = checkNotNull(readContext, "readContext");
         this.predicateResolver =
@@ -48,6 +79,16 @@ public final class FilterContext {
                         recordBatchFilter,
                         filterSchemaId,
                         checkNotNull(schemaGetter, "schemaGetter"));
+        this.rowFilter =
+                rowFilterBudget == null
+                        ? null
+                        : new ArrowRowFilter(
+                                predicateResolver,
+                                readContext,
+                                compressionInfo,
+                                rowFilterBudget,
+                                checkNotNull(rowFilterWriterPool, "rowFilterWriterPool"),
+                                tableId);
     }
 
     public Predicate getRecordBatchFilter() {
@@ -61,4 +102,14 @@ public final class FilterContext {
     public PredicateSchemaResolver getPredicateResolver() {
         return predicateResolver;
     }
+
+    @Nullable
+    ArrowRowFilter getRowFilter() {
+        return rowFilter;
+    }
+
+    @Override
+    public void close() {
+        IOUtils.closeQuietly(readContext);
+    }
 }
@@ -28,6 +28,7 @@ import org.apache.fluss.metadata.PhysicalTablePath;
 import org.apache.fluss.metadata.TableBucket;
 import org.apache.fluss.metadata.TableInfo;
 import org.apache.fluss.metadata.TablePath;
+import org.apache.fluss.server.DataDirs;
 import org.apache.fluss.server.TabletManagerBase;
 import org.apache.fluss.server.log.checkpoint.OffsetCheckpointFile;
 import org.apache.fluss.server.metrics.group.TabletServerMetricGroup;
@@ -35,6 +36,7 @@ import org.apache.fluss.server.zk.ZooKeeperClient;
 import org.apache.fluss.utils.FileUtils;
 import org.apache.fluss.utils.FlussPaths;
 import org.apache.fluss.utils.clock.Clock;
+import org.apache.fluss.utils.concurrent.ExecutorThreadFactory;
 import org.apache.fluss.utils.concurrent.Scheduler;
 import org.apache.fluss.utils.types.Tuple2;
 
@@ -46,15 +48,16 @@ import javax.annotation.concurrent.ThreadSafe;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -94,11 +97,14 @@ public final class LogManager extends TabletManagerBase {
 
     private final Map<TableBucket, LogTablet> currentLogs = new ConcurrentHashMap<>();
 
-    private volatile OffsetCheckpointFile recoveryPointCheckpoint;
+    /** The recovery point checkpoint file of each online data directory. */
+    private final Map<File, OffsetCheckpointFile> recoveryPointCheckpoints =
+            new ConcurrentHashMap<>();
+
     private boolean loadLogsCompletedFlag = false;
 
     private LogManager(
-            File dataDir,
+            DataDirs dataDirs,
             Configuration conf,
             ZooKeeperClient zkClient,
             int recoveryThreadsPerDataDir,
@@ -106,12 +112,11 @@ public final class LogManager extends TabletManagerBase {
             Clock clock,
             TabletServerMetricGroup serverMetricGroup)
             throws Exception {
-        super(TabletType.LOG, dataDir, conf, recoveryThreadsPerDataDir);
+        super(TabletType.LOG, dataDirs, conf, recoveryThreadsPerDataDir);
         this.zkClient = zkClient;
         this.scheduler = scheduler;
         this.clock = clock;
         this.serverMetricGroup = serverMetricGroup;
-        createAndValidateDataDir(dataDir);
 
         initializeCheckpointMaps();
     }
@@ -123,10 +128,8 @@ public final class LogManager extends TabletManagerBase {
             Clock clock,
             TabletServerMetricGroup serverMetricGroup)
             throws Exception {
-        String dataDirString = conf.getString(ConfigOptions.DATA_DIR);
-        File dataDir = new File(dataDirString).getAbsoluteFile();
         return new LogManager(
-                dataDir,
+                DataDirs.create(conf, clock),
                 conf,
                 zkClient,
                 conf.getInt(ConfigOptions.NETTY_SERVER_NUM_WORKER_THREADS),
@@ -141,73 +144,124 @@ public final class LogManager extends TabletManagerBase {
         // TODO add more scheduler, like log-flusher etc.
     }
 
-    public File getDataDir() {
-        return dataDir;
-    }
-
-    private void initializeCheckpointMaps() throws IOException {
-        recoveryPointCheckpoint =
-                new OffsetCheckpointFile(new File(dataDir, RECOVERY_POINT_CHECKPOINT_FILE));
+    private void initializeCheckpointMaps() {
+        for (File dataDir : dataDirs.getOnlineDirs()) {
+            try {
+                recoveryPointCheckpoints.put(
+                        dataDir,
+                        new OffsetCheckpointFile(
+                                new File(dataDir, RECOVERY_POINT_CHECKPOINT_FILE)));
+            } catch (IOException e) {
+                if (!dataDirs.handleIOError(dataDir, e)) {
+                    throw new LogStorageException(
+                            "Failed to create recovery point checkpoint file in directory "
+                                    + dataDir,
+                            e);
+                }
+            }
+        }
     }
 
-    /** Recover and load all logs in the given data directories. */
+    /**
+     * Recover and load all logs in the online data directories, the logs of each directory are
+     * loaded by the thread pool of the directory. A directory which fails to load its logs because
+     * it is not accessible anymore goes offline.
+     */
     private void loadLogs() {
-        LOG.info("Loading logs from dir {}", dataDir);
-
-        String dataDirAbsolutePath = dataDir.getAbsolutePath();
+        List<File> onlineDirs = dataDirs.getOnlineDirs();
+        ExecutorService pool =
+                Executors.newFixedThreadPool(
+                        onlineDirs.size(), new ExecutorThreadFactory("log-loading"));
         try {
-            boolean isCleanShutdown = false;
-            File cleanShutdownFile = new File(dataDir, CLEAN_SHUTDOWN_FILE);
-            if (cleanShutdownFile.exists()) {
-                // Cache the clean shutdown status marker and use that for rest of log loading
-                // workflow. Delete the CleanShutdownFile so that if tabletServer crashes while
-                // loading the log, it is considered hard shutdown during the next boot up.
-                Files.deleteIfExists(cleanShutdownFile.toPath());
-                isCleanShutdown = true;
-            }
-
-            Map<TableBucket, Long> recoveryPoints = new HashMap<>();
-            try {
-                recoveryPoints = recoveryPointCheckpoint.read();
-            } catch (Exception e) {
-                LOG.warn(
-                        "Error occurred while reading recovery-point-offset-checkpoint file of directory {}, "
-                                + "resetting the recovery checkpoint to 0",
-                        dataDirAbsolutePath,
-                        e);
+            long startTime = System.currentTimeMillis();
+            Map<File, Future<Integer>> jobsForDir = new LinkedHashMap<>();
+            for (File dataDir : onlineDirs) {
+                jobsForDir.put(dataDir, pool.submit(() -> loadLogs(dataDir)));
             }
 
-            List<File> tabletsToLoad = listTabletsToLoad();
-            if (tabletsToLoad.isEmpty()) {
-                LOG.info("No logs found to be loaded in {}", dataDirAbsolutePath);
-            } else if (isCleanShutdown) {
-                LOG.info("Skipping some recovery log process since clean shutdown file was found");
-            } else {
-                LOG.info("Recovering all local logs since no clean shutdown file was found");
+            int successLoadCount = 0;
+            for (Map.Entry<File, Future<Integer>> entry : jobsForDir.entrySet()) {
+                File dataDir = entry.getKey();
+                try {
+                    successLoadCount += entry.getValue().get();
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (!dataDirs.handleIOError(dataDir, cause)) {
+                        throw new FlussRuntimeException("Failed to recovery log", cause);
+                    }
+                    closeLogs(dataDir);
+                }
             }
 
-            final Map<TableBucket, Long> finalRecoveryPoints = recoveryPoints;
-            final boolean cleanShutdown = isCleanShutdown;
-            // set runnable job.
-            Runnable[] jobsForDir =
-                    createLogLoadingJobs(
-                            tabletsToLoad, cleanShutdown, finalRecoveryPoints, conf, clock);
-
-            long startTime = System.currentTimeMillis();
-
-            int successLoadCount =
-                    runInThreadPool(jobsForDir, "log-recovery-" + dataDirAbsolutePath);
-
             loadLogsCompletedFlag = true;
             LOG.info(
                     "Log loader complete. Total success loaded log count is {}, Take {} ms",
                     successLoadCount,
                     System.currentTimeMillis() - startTime);
-        } catch (Throwable e) {
-            throw new FlussRuntimeException("Failed to recovery log", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlussRuntimeException("Interrupted while recovering log", e);
+        } finally {
+            pool.shutdown();
         }
     }
 
+    /** Recover and load the logs in the given data directory, return the loaded log count. */
+    private int loadLogs(File dataDir) throws Exception {
+        LOG.info("Loading logs from dir {}", dataDir);
+
+        String dataDirAbsolutePath = dataDir.getAbsolutePath();
+        boolean isCleanShutdown = false;
+        File cleanShutdownFile = new File(dataDir, CLEAN_SHUTDOWN_FILE);
+        if (cleanShutdownFile.exists()) {
+            // Cache the clean shutdown status marker and use that for rest of log loading
+            // workflow. Delete the CleanShutdownFile so that if tabletServer crashes while
+            // loading the log, it is considered hard shutdown during the next boot up.
+            Files.deleteIfExists(cleanShutdownFile.toPath());
+            isCleanShutdown = true;
+        }
+
+        Map<TableBucket, Long> recoveryPoints = new HashMap<>();
+        try {
+            OffsetCheckpointFile recoveryPointCheckpoint = recoveryPointCheckpoints.get(dataDir);
+            if (recoveryPointCheckpoint != null) {
+                recoveryPoints = recoveryPointCheckpoint.read();
+            }
+        } catch (Exception e) {
+            LOG.warn(
+                    "Error occurred while reading recovery-point-offset-checkpoint file of directory {}, "
+                            + "resetting the recovery checkpoint to 0",
+                    dataDirAbsolutePath,
+                    e);
+        }
+
+        List<File> tabletsToLoad = listTabletsToLoad(dataDir);
+        if (tabletsToLoad.isEmpty()) {
+            LOG.info("No logs found to be loaded in {}", dataDirAbsolutePath);
+        } else if (isCleanShutdown) {
+            LOG.info("Skipping some recovery log process since clean shutdown file was found");
+        } else {
+            LOG.info("Recovering all local logs since no clean shutdown file was found");
+        }
+
+        final Map<TableBucket, Long> finalRecoveryPoints = recoveryPoints;
+        final boolean cleanShutdown = isCleanShutdown;
+        // set runnable job.
+        Runnable[] jobsForDir =
+                createLogLoadingJobs(
+                        tabletsToLoad, cleanShutdown, finalRecoveryPoints, conf, clock);
+
+        long startTime = System.currentTimeMillis();
+
+        int successLoadCount = runInThreadPool(jobsForDir, "log-recovery-" + dataDirAbsolutePath);
+        LOG.info(
+                "Loaded {} logs from dir {} in {} ms",
+                successLoadCount,
+                dataDirAbsolutePath,
+                System.currentTimeMillis() - startTime);
+        return successLoadCount;
+    }
+
     /**
      * Get or create log tablet for a given bucket of a table. If the log already exists, just
      * return a copy of the existing log. Otherwise, create a log for the given table and the given
@@ -226,6 +280,26 @@ public final class LogManager extends TabletManagerBase {
             int tieredLogLocalSegments,
             boolean isChangelog)
             throws Exception {
+        return getOrCreateLog(
+                tablePath, tableBucket, logFormat, tieredLogLocalSegments, isChangelog, true);
+    }
+
+    /**
+     * Get or create log tablet for a given bucket of a table, see {@link
+     * #getOrCreateLog(PhysicalTablePath, TableBucket, LogFormat, int, boolean)}.
+     *
+     * @param isNewBucket whether the bucket is known to have no data on this server, otherwise the
+     *     log is refused with a {@link org.apache.fluss.exception.StorageException} if it is not
+     *     found in the online data directories while some data directory is offline
+     */
+    public LogTablet getOrCreateLog(
+            PhysicalTablePath tablePath,
+            TableBucket tableBucket,
+            LogFormat logFormat,
+            int tieredLogLocalSegments,
+            boolean isChangelog,
+            boolean isNewBucket)
+            throws Exception {
         return inLock(
                 logCreationOrDeletionLock,
                 () -> {
@@ -233,7 +307,7 @@ public final class LogManager extends TabletManagerBase {
                         return currentLogs.get(tableBucket);
                     }
 
-                    File tabletDir = getOrCreateTabletDir(tablePath, tableBucket);
+                    File tabletDir = getOrCreateTabletDir(tablePath, tableBucket, isNewBucket);
 
                     LogTablet logTablet =
                             LogTablet.create(
@@ -371,43 +445,11 @@ public final class LogManager extends TabletManagerBase {
         return logTablet;
     }
 
-    private void createAndValidateDataDir(File dataDir) {
-        try {
-            inLock(
-                    logCreationOrDeletionLock,
-                    () -> {
-                        if (!dataDir.exists()) {
-                            LOG.info(
-                                    "Data directory {} not found, creating it.",
-                                    dataDir.getAbsolutePath());
-                            boolean created = dataDir.mkdirs();
-                            if (!created) {
-                                throw new IOException(
-                                        "Failed to create data directory "
-                                                + dataDir.getAbsolutePath());
-                            }
-                            Path parentPath =
-                                    dataDir.toPath().toAbsolutePath().normalize().getParent();
-                            FileUtils.flushDir(parentPath);
-                        }
-                        if (!dataDir.isDirectory() || !dataDir.canRead()) {
-                            throw new IOException(
-                                    dataDir.getAbsolutePath()
-                                            + " is not a readable data directory.");
-                        }
-                    });
-        } catch (IOException e) {
-            throw new FlussRuntimeException(
-                    "Failed to create or validate data directory " + dataDir.getAbsolutePath(), e);
-        }
-    }
-
     /** Close all the logs. */
     public void shutdown() {
         LOG.info("Shutting down LogManager.");
 
-        String dataDirAbsolutePath = dataDir.getAbsolutePath();
-        ExecutorService pool = createThreadPool("log-tablet-closing-" + dataDirAbsolutePath);
+        ExecutorService pool = createThreadPool("log-tablet-closing");
 
         List<LogTablet> logs = new ArrayList<>(currentLogs.values());
         List<Future<?>> jobsForTabletDir = new ArrayList<>();
@@ -444,10 +486,12 @@ public final class LogManager extends TabletManagerBase {
             // have been recovered at startup time.
             if (loadLogsCompletedFlag) {
                 LOG.debug("Writing clean shutdown marker.");
-                try {
-                    Files.createFile(new File(dataDir, CLEAN_SHUTDOWN_FILE).toPath());
-                } catch (IOException e) {
-                    LOG.warn("Failed to write clean shutdown marker.", e);
+                for (File dataDir : dataDirs.getOnlineDirs()) {
+                    try {
+                        Files.createFile(new File(dataDir, CLEAN_SHUTDOWN_FILE).toPath());
+                    } catch (IOException e) {
+                        LOG.warn("Failed to write clean shutdown marker in {}.", dataDir, e);
+                    }
                 }
             }
         } finally {
@@ -500,7 +544,9 @@ public final class LogManager extends TabletManagerBase {
                                     FlussPaths.parseTabletDir(tabletDir);
                             File kvTabletDir =
                                     FlussPaths.kvTabletDir(
-                                            dataDir, pathAndBucket.f0, pathAndBucket.f1);
+                                            dataDirs.getDataDir(tabletDir),
+                                            pathAndBucket.f0,
+                                            pathAndBucket.f1);
                             if (kvTabletDir.exists()) {
                                 LOG.info(
                                         "Also removing corresponding KV tablet directory: {}",
@@ -521,24 +567,76 @@ public final class LogManager extends TabletManagerBase {
         };
     }
 
+    /** Checkpoint the recovery offsets of the logs into the data directory of each log. */
     @VisibleForTesting
     void checkpointRecoveryOffsets() {
-        // Assuming TableBucket and LogTablet are actual types used in your application
-        if (recoveryPointCheckpoint != null) {
+        Map<File, Map<TableBucket, Long>> recoveryOffsetsPerDir = new HashMap<>();
+        for (File dataDir : recoveryPointCheckpoints.keySet()) {
+            recoveryOffsetsPerDir.put(dataDir, new HashMap<>());
+        }
+        for (Map.Entry<TableBucket, LogTablet> entry : currentLogs.entrySet()) {
+            Map<TableBucket, Long> recoveryOffsets =
+                    recoveryOffsetsPerDir.get(dataDirs.getDataDir(entry.getValue().getLogDir()));
+            if (recoveryOffsets != null) {
+                recoveryOffsets.put(entry.getKey(), entry.getValue().getRecoveryPoint());
+            }
+        }
+
+        for (Map.Entry<File, Map<TableBucket, Long>> entry : recoveryOffsetsPerDir.entrySet()) {
+            File dataDir = entry.getKey();
+            OffsetCheckpointFile recoveryPointCheckpoint = recoveryPointCheckpoints.get(dataDir);
+            if (recoveryPointCheckpoint == null) {
+                // the directory went offline concurrently
+                continue;
+            }
             try {
-                Map<TableBucket, Long> recoveryOffsets = new HashMap<>();
-                for (Map.Entry<TableBucket, LogTablet> entry : currentLogs.entrySet()) {
-                    recoveryOffsets.put(entry.getKey(), entry.getValue().getRecoveryPoint());
+                recoveryPointCheckpoint.write(entry.getValue());
+            } catch (Exception e) {
+                if (!dataDirs.handleIOError(dataDir, e)) {
+                    throw new LogStorageException(
+                            "Disk error while writing recovery offsets checkpoint in directory "
+                                    + dataDir
+                                    + ": "
+                                    + e.getMessage(),
+                            e);
                 }
-                recoveryPointCheckpoint.write(recoveryOffsets);
+            }
+        }
+    }
+
+    /**
+     * Close the logs in the given data directory which is offline, the logs are removed from the
+     * log manager without being deleted.
+     */
+    public void closeLogs(File dataDir) {
+        recoveryPointCheckpoints.remove(dataDir);
+        for (LogTablet logTablet : new ArrayList<>(currentLogs.values())) {
+            if (dataDirs.getDataDir(logTablet.getLogDir()).equals(dataDir)) {
+                closeLog(logTablet.getTableBucket());
+            }
+        }
+    }
+
+    /** Close the log of the given bucket without deleting it, e.g., its data directory failed. */
+    public void closeLog(TableBucket tableBucket) {
+        LogTablet logTablet =
+                inLock(logCreationOrDeletionLock, () -> currentLogs.remove(tableBucket));
+        if (logTablet != null) {
+            try {
+                logTablet.close();
             } catch (Exception e) {
-                throw new LogStorageException(
-                        "Disk error while writing recovery offsets checkpoint in directory "
-                                + dataDir
-                                + ": "
-                                + e.getMessage(),
-                        e);
+                LOG.warn("Failed to close the log of bucket {}.", tableBucket, e);
             }
         }
     }
+
+    @Override
+    protected File selectDataDir(PhysicalTablePath tablePath, TableBucket tableBucket) {
+        List<File> logDirs = new ArrayList<>(currentLogs.size());
+        for (LogTablet logTablet : currentLogs.values()) {
+            logDirs.add(logTablet.getLogDir());
+        }
+        Map<File, Integer> tabletsPerDataDir = countTabletsPerDataDir(logDirs);
+        return dataDirs.select(dataDir -> tabletsPerDataDir.getOrDefault(dataDir, 0));
+    }
 }
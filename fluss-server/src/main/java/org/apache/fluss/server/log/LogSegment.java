@@ -607,6 +607,7 @@ public final class LogSegment {
         Predicate recordBatchFilter = filterContext.getRecordBatchFilter();
         LogRecordBatch.ReadContext readContext = filterContext.getReadContext();
         PredicateSchemaResolver predicateResolver = filterContext.getPredicateResolver();
+        ArrowRowFilter rowFilter = filterContext.getRowFilter();
 
         if (maxSize < 0) {
             throw new IllegalArgumentException(
@@ -631,6 +632,7 @@ public final class LogSegment {
         FileChannelLogRecordBatch firstIncludedBatch = null;
         FileChannelLogRecordBatch lastIncludedBatch = null;
         FileChannelLogRecordBatch lastScannedBatch = null;
+        boolean lastIncludedRowFiltered = false;
         int adjustedMaxSize = maxSize;
         int filterEvalFailures = 0;
         boolean sizeBreak = false;
@@ -677,9 +679,48 @@ public final class LogSegment {
                 continue;
             }
 
+            // Filter the rows of the batch as long as the CPU budget of the fetch allows,
+            // null means the batch is returned as a whole.
+            BytesView rowFilteredBytesView = null;
+            if (rowFilter != null) {
+                try {
+                    rowFilteredBytesView = rowFilter.filter(batch, startOffset, projection);
+                } catch (Exception e) {
+                    filterEvalFailures++;
+                    if (filterEvalFailures <= 3) {
+                        LOG.warn(
+                                "Failed to filter the rows of batch at offset {} in segment {} ({}), "
+                                        + "including batch as safe fallback.",
+                                batch.baseLogOffset(),
+                                fileLogRecords,
+                                e.getClass().getSimpleName(),
+                                e);
+                    }
+                }
+            }
+
             int batchSize = batch.sizeInBytes();
 
-            if (projection == null) {
+            if (rowFilteredBytesView != null) {
+                // The matching rows are rebuilt into new batches, already projected
+                int filteredSize = rowFilteredBytesView.getBytesLength();
+                if (filteredSize > 0) {
+                    if (firstIncludedBatch == null) {
+                        firstIncludedBatch = batch;
+                        adjustedMaxSize = minOneMessage ? Math.max(maxSize, filteredSize) : maxSize;
+                    } else if (accumulatedSize + filteredSize > adjustedMaxSize) {
+                        sizeBreak = true;
+                        break;
+                    }
+                    if (builder == null) {
+                        builder = MultiBytesView.builder();
+                    }
+                    builder.addBytes(rowFilteredBytesView);
+                    accumulatedSize += filteredSize;
+                    lastIncludedBatch = batch;
+                    lastIncludedRowFiltered = true;
+                }
+            } else if (projection == null) {
                 // No projection: use original batch size for limit check
                 if (firstIncludedBatch == null) {
                     firstIncludedBatch = batch;
@@ -694,6 +735,7 @@ public final class LogSegment {
                 builder.addBytes(fileLogRecords.channel(), batch.position(), batchSize);
                 accumulatedSize += batchSize;
                 lastIncludedBatch = batch;
+                lastIncludedRowFiltered = false;
             } else {
                 // With projection: project first, then check size with projected size
                 BytesView projectedBytesView = projection.projectRecordBatch(batch);
@@ -713,6 +755,7 @@ public final class LogSegment {
                     builder.addBytes(projectedBytesView);
                     accumulatedSize += projectedSize;
                     lastIncludedBatch = batch;
+                    lastIncludedRowFiltered = false;
                 }
             }
         }
@@ -748,6 +791,10 @@ public final class LogSegment {
                 && lastIncludedBatch != null
                 && lastScannedBatch.nextLogOffset() > lastIncludedBatch.nextLogOffset()) {
             filteredEndOffset = lastScannedBatch.nextLogOffset();
+        } else if (lastIncludedRowFiltered) {
+            // The trailing rows of a row-filtered batch may be filtered out, so the returned
+            // batches may end before the included batch does.
+            filteredEndOffset = lastIncludedBatch.nextLogOffset();
         }
 
         return new FetchDataInfo(
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.server.log;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * The time budget of the row-level filtering of a fetch log request, shared by all the buckets of
+ * the fetch. Once the budget is used up, the remaining batches of the fetch are only filtered by
+ * their statistics.
+ */
+@NotThreadSafe
+public final class RowFilterBudget {
+
+    private long remainingNanos;
+
+    public RowFilterBudget(long budgetNanos) {
+        this.remainingNanos = budgetNanos;
+    }
+
+    /** Returns true if no more rows should be filtered in the fetch. */
+    public boolean isExhausted() {
+        return remainingNanos <= 0;
+    }
+
+    /** Charges the given time spent on filtering rows to the budget. */
+    public void consume(long nanos) {
+        remainingNanos -= nanos;
+    }
+}
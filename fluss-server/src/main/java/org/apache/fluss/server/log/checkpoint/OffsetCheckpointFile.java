@@ -27,6 +27,8 @@ import org.apache.commons.lang3.tuple.Pair;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -136,19 +138,31 @@ public final class OffsetCheckpointFile {
         }
     }
 
-    /** Loads checkpoint file on demand and caches the offsets for reuse. */
+    /**
+     * Loads checkpoint files on demand and caches the offsets for reuse. The checkpoint files are
+     * of different data directories, each bucket is only in the checkpoint file of the data
+     * directory it is placed on.
+     */
     public static class LazyOffsetCheckpoints {
-        private final OffsetCheckpointFile checkpoint;
+        private final Collection<OffsetCheckpointFile> checkpoints;
         private Map<TableBucket, Long> offsets;
 
         public LazyOffsetCheckpoints(OffsetCheckpointFile checkpoint) {
-            this.checkpoint = checkpoint;
+            this(Collections.singletonList(checkpoint));
+        }
+
+        public LazyOffsetCheckpoints(Collection<OffsetCheckpointFile> checkpoints) {
+            this.checkpoints = checkpoints;
             this.offsets = null;
         }
 
         private Map<TableBucket, Long> getOffsets() {
             if (offsets == null) {
-                offsets = checkpoint.read();
+                Map<TableBucket, Long> result = new HashMap<>();
+                for (OffsetCheckpointFile checkpoint : checkpoints) {
+                    result.putAll(checkpoint.read());
+                }
+                offsets = result;
             }
             return offsets;
         }
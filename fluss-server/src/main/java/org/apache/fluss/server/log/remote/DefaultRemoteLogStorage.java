@@ -26,10 +26,13 @@ import org.apache.fluss.fs.FsPath;
 import org.apache.fluss.metadata.PhysicalTablePath;
 import org.apache.fluss.metadata.TableBucket;
 import org.apache.fluss.remote.RemoteLogSegment;
+import org.apache.fluss.shaded.guava32.com.google.common.util.concurrent.RateLimiter;
 import org.apache.fluss.utils.CloseableRegistry;
 import org.apache.fluss.utils.ExceptionUtils;
+import org.apache.fluss.utils.ExecutorUtils;
 import org.apache.fluss.utils.FlussPaths;
 import org.apache.fluss.utils.IOUtils;
+import org.apache.fluss.utils.concurrent.ExecutorThreadFactory;
 import org.apache.fluss.utils.concurrent.FutureUtils;
 import org.apache.fluss.utils.function.ThrowingRunnable;
 
@@ -51,6 +54,8 @@ import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.apache.fluss.utils.FlussPaths.INDEX_FILE_SUFFIX;
 import static org.apache.fluss.utils.FlussPaths.TIME_INDEX_FILE_SUFFIX;
@@ -64,18 +69,28 @@ public class DefaultRemoteLogStorage implements RemoteLogStorage {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultRemoteLogStorage.class);
 
     private static final int READ_BUFFER_SIZE = 16 * 1024;
+    private static final String UPLOAD_THREAD_NAME = "remote-log-upload";
 
     private final FsPath remoteLogDir;
     private final FileSystem fileSystem;
-    private final ExecutorService ioExecutor;
+    // the uploads may wait for the rate limiter, so they don't run on the shared io executor
+    private final ExecutorService uploadExecutor;
     private final int writeBufferSize;
+    // shared by all the uploads of the server, null if the upload rate is unlimited
+    private final @Nullable RateLimiter uploadRateLimiter;
 
-    public DefaultRemoteLogStorage(Configuration conf, ExecutorService ioExecutor)
-            throws IOException {
+    public DefaultRemoteLogStorage(Configuration conf) throws IOException {
         this.remoteLogDir = FlussPaths.remoteLogDir(conf);
         this.fileSystem = remoteLogDir.getFileSystem();
         this.writeBufferSize = (int) conf.get(ConfigOptions.REMOTE_FS_WRITE_BUFFER_SIZE).getBytes();
-        this.ioExecutor = ioExecutor;
+        this.uploadExecutor =
+                Executors.newFixedThreadPool(
+                        conf.getInt(ConfigOptions.REMOTE_LOG_UPLOAD_THREAD_NUM),
+                        new ExecutorThreadFactory(UPLOAD_THREAD_NAME));
+        long uploadBytesPerSec =
+                conf.get(ConfigOptions.REMOTE_LOG_UPLOAD_RATE_LIMITER_BYTES_PER_SEC).getBytes();
+        this.uploadRateLimiter =
+                uploadBytesPerSec == Long.MAX_VALUE ? null : RateLimiter.create(uploadBytesPerSec);
     }
 
     @Override
@@ -97,30 +112,68 @@ public class DefaultRemoteLogStorage implements RemoteLogStorage {
     public void copyLogSegmentFiles(
             RemoteLogSegment remoteLogSegment, LogSegmentFiles logSegmentFiles)
             throws RemoteStorageException {
-        LOG.debug("copying log segment and indexes for remoteLogSegment: {}", remoteLogSegment);
         try {
-            List<CompletableFuture<Void>> futures =
-                    createUploadFutures(remoteLogSegment, logSegmentFiles);
-            FutureUtils.waitForAll(futures).get();
+            copyLogSegmentFilesAsync(remoteLogSegment, logSegmentFiles).get();
         } catch (ExecutionException e) {
-            Throwable throwable = ExceptionUtils.stripExecutionException(e);
-            throwable = ExceptionUtils.stripException(throwable, RuntimeException.class);
+            if (e.getCause() instanceof RemoteStorageException) {
+                throw (RemoteStorageException) e.getCause();
+            }
             throw new RemoteStorageException(
-                    "Failed to copy log segment and indexes to remote dir for path: "
+                    "Failed to copy log segment and indexes to remote for path: "
                             + remoteLogSegment,
-                    throwable);
+                    e.getCause());
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new RemoteStorageException(
                     "Interrupted while copying log segment and indexes to remote for path: "
                             + remoteLogSegment,
                     e);
+        }
+    }
+
+    /**
+     * Copy log segments to remote path, the segment file and its indexes are uploaded concurrently
+     * by the upload executor.
+     *
+     * <pre>
+     * {$remote.data.dir}/log/{db}/{tableName}_{tableId}/{bucketId}/{segment_uuid}/{remote_log_start_offset}.log
+     * {$remote.data.dir}/log/{db}/{tableName}_{tableId}/{bucketId}/{segment_uuid}/{remote_log_start_offset}.index
+     * {$remote.data.dir}/log/{db}/{tableName}_{tableId}/{bucketId}/{segment_uuid}/{remote_log_start_offset}.timeindex
+     * {$remote.data.dir}/log/{db}/{tableName}_{tableId}/{bucketId}/{segment_uuid}/{remote_log_end_offset}.writer_snapshot
+     * </pre>
+     */
+    @Override
+    public CompletableFuture<Void> copyLogSegmentFilesAsync(
+            RemoteLogSegment remoteLogSegment, LogSegmentFiles logSegmentFiles) {
+        LOG.debug("copying log segment and indexes for remoteLogSegment: {}", remoteLogSegment);
+        CompletableFuture<Void> copyFuture = new CompletableFuture<>();
+        try {
+            FutureUtils.waitForAll(createUploadFutures(remoteLogSegment, logSegmentFiles))
+                    .whenComplete(
+                            (ignored, throwable) -> {
+                                if (throwable == null) {
+                                    copyFuture.complete(null);
+                                } else {
+                                    Throwable cause =
+                                            ExceptionUtils.stripException(
+                                                    ExceptionUtils.stripCompletionException(
+                                                            throwable),
+                                                    RuntimeException.class);
+                                    copyFuture.completeExceptionally(
+                                            new RemoteStorageException(
+                                                    "Failed to copy log segment and indexes to remote dir for path: "
+                                                            + remoteLogSegment,
+                                                    cause));
+                                }
+                            });
         } catch (Exception e) {
-            throw new RemoteStorageException(
-                    "Failed to copy log segment and indexes to remote for path: "
-                            + remoteLogSegment,
-                    e);
+            copyFuture.completeExceptionally(
+                    new RemoteStorageException(
+                            "Failed to copy log segment and indexes to remote for path: "
+                                    + remoteLogSegment,
+                            e));
         }
+        return copyFuture;
     }
 
     /**
@@ -289,7 +342,7 @@ public class DefaultRemoteLogStorage implements RemoteLogStorage {
                                                     Files.newInputStream(localFile),
                                                     rlsPath,
                                                     localFile.getFileName().toString())),
-                            ioExecutor);
+                            uploadExecutor);
             list.add(voidCompletableFuture);
         }
         return list;
@@ -319,6 +372,9 @@ public class DefaultRemoteLogStorage implements RemoteLogStorage {
                 if (numBytes == -1) {
                     break;
                 }
+                if (uploadRateLimiter != null && numBytes > 0) {
+                    uploadRateLimiter.acquire(numBytes);
+                }
                 outputStream.write(buffer, 0, numBytes);
             }
 
@@ -341,6 +397,6 @@ public class DefaultRemoteLogStorage implements RemoteLogStorage {
 
     @Override
     public void close() throws IOException {
-        // do nothing
+        ExecutorUtils.gracefulShutdown(5, TimeUnit.SECONDS, uploadExecutor);
     }
 }
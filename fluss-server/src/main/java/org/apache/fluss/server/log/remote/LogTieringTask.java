@@ -17,7 +17,6 @@
 
 package org.apache.fluss.server.log.remote;
 
-import org.apache.fluss.exception.RemoteStorageException;
 import org.apache.fluss.exception.RetriableException;
 import org.apache.fluss.fs.FsPath;
 import org.apache.fluss.metadata.PhysicalTablePath;
@@ -42,6 +41,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.OptionalLong;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import static org.apache.fluss.server.utils.ServerRpcMessageUtils.makeCommitRemoteLogManifestRequest;
 
@@ -59,6 +60,7 @@ public class LogTieringTask implements Runnable {
     private final CoordinatorGateway coordinatorGateway;
     private final Clock clock;
     private final int maxUploadSegmentsPerTask;
+    private final int maxInflightUploadSegments;
 
     // The copied offset is empty initially for a new leader LogTieringTask, and needs to
     // be fetched inside the task's run() method.
@@ -72,7 +74,8 @@ public class LogTieringTask implements Runnable {
             RemoteLogStorage remoteLogStorage,
             CoordinatorGateway coordinatorGateway,
             Clock clock,
-            int maxUploadSegmentsPerTask) {
+            int maxUploadSegmentsPerTask,
+            int maxInflightUploadSegments) {
         this.replica = replica;
         this.remoteLog = remoteLog;
         this.physicalTablePath = replica.getPhysicalTablePath();
@@ -81,6 +84,7 @@ public class LogTieringTask implements Runnable {
         this.coordinatorGateway = coordinatorGateway;
         this.clock = clock;
         this.maxUploadSegmentsPerTask = maxUploadSegmentsPerTask;
+        this.maxInflightUploadSegments = maxInflightUploadSegments;
     }
 
     @Override
@@ -236,8 +240,12 @@ public class LogTieringTask implements Runnable {
      * Copy the given log segments to remote and add the successfully copied segment to the {@code
      * copiedSegments} parameter.
      *
-     * <p>If a segment copy fails (e.g., due to rate limiting or transient errors), the method stops
-     * copying further segments but retains all previously successful copies so they can still be
+     * <p>Up to {@code maxInflightUploadSegments} segments are uploaded concurrently by the remote
+     * log storage, the next segment starts uploading once the earliest one in flight is copied.
+     *
+     * <p>If a segment copy fails (e.g., due to rate limiting or transient errors), no more segments
+     * are started, the segments after it are not committed and the files of the ones in flight are
+     * deleted from remote, but all the segments copied before it are retained so they can still be
      * committed, avoiding wasted uploads.
      *
      * @return the end offset of the last segment successfully copied to remote, or -1 if no
@@ -249,16 +257,12 @@ public class LogTieringTask implements Runnable {
             List<RemoteLogSegment> copiedSegments,
             TableMetricGroup metricGroup)
             throws Exception {
-        long endOffset = -1;
+        List<String> logFileNames = new ArrayList<>(segments.size());
+        List<RemoteLogSegment> copyingSegments = new ArrayList<>(segments.size());
+        List<LogSegmentFiles> copyingSegmentFiles = new ArrayList<>(segments.size());
         for (EnrichedLogSegment enrichedSegment : segments) {
             LogSegment segment = enrichedSegment.logSegment;
             File logFile = segment.getFileLogRecords().file();
-            String logFileName = logFile.getName();
-            LOG.info(
-                    "Copying {} of table {} bucket {} to remote storage.",
-                    logFileName,
-                    physicalTablePath,
-                    tableBucket.getBucket());
             long segmentEndOffset = enrichedSegment.nextSegmentOffset;
 
             File writerIdSnapshotFile =
@@ -282,31 +286,72 @@ public class LogTieringTask implements Runnable {
                             .maxTimestamp(segment.maxTimestampSoFar())
                             .segmentSizeInBytes(sizeInBytes)
                             .build();
-            try {
-                remoteLogStorage.copyLogSegmentFiles(copyRemoteLogSegment, logSegmentFiles);
-            } catch (RemoteStorageException e) {
-                metricGroup.remoteLogCopyErrors().inc();
-                LOG.warn(
-                        "Failed to copy {} of table {} bucket {} to remote storage. "
-                                + "Stopping further segment copies. "
-                                + "{} segment(s) already copied successfully will be committed.",
-                        logFileName,
+            logFileNames.add(logFile.getName());
+            copyingSegments.add(copyRemoteLogSegment);
+            copyingSegmentFiles.add(logSegmentFiles);
+        }
+
+        long endOffset = -1;
+        List<CompletableFuture<Void>> copyFutures = new ArrayList<>(segments.size());
+        // the segments which must not be committed, as a previous segment failed to be copied
+        List<RemoteLogSegment> abortedSegments = new ArrayList<>();
+        for (int i = 0; i < copyingSegments.size(); i++) {
+            // start the next uploads unless a segment failed to be copied
+            while (abortedSegments.isEmpty()
+                    && copyFutures.size() < copyingSegments.size()
+                    && copyFutures.size() < i + maxInflightUploadSegments) {
+                int next = copyFutures.size();
+                LOG.info(
+                        "Copying {} of table {} bucket {} to remote storage.",
+                        logFileNames.get(next),
                         physicalTablePath,
-                        tableBucket.getBucket(),
-                        copiedSegments.size(),
-                        e);
+                        tableBucket.getBucket());
+                copyFutures.add(
+                        remoteLogStorage.copyLogSegmentFilesAsync(
+                                copyingSegments.get(next), copyingSegmentFiles.get(next)));
+            }
+            if (i >= copyFutures.size()) {
+                // the segment was never started as a previous segment failed to be copied
                 break;
             }
+            RemoteLogSegment copyRemoteLogSegment = copyingSegments.get(i);
+            try {
+                copyFutures.get(i).get();
+            } catch (ExecutionException e) {
+                metricGroup.remoteLogCopyErrors().inc();
+                if (abortedSegments.isEmpty()) {
+                    LOG.warn(
+                            "Failed to copy {} of table {} bucket {} to remote storage. "
+                                    + "Discarding further segment copies. "
+                                    + "{} segment(s) already copied successfully will be committed.",
+                            logFileNames.get(i),
+                            physicalTablePath,
+                            tableBucket.getBucket(),
+                            copiedSegments.size(),
+                            e.getCause());
+                }
+                abortedSegments.add(copyRemoteLogSegment);
+                continue;
+            }
+            if (!abortedSegments.isEmpty()) {
+                abortedSegments.add(copyRemoteLogSegment);
+                continue;
+            }
             LOG.info(
                     "Copied {} of table {} bucket {} to remote storage as remote log segment: {}.",
-                    logFileName,
+                    logFileNames.get(i),
                     physicalTablePath,
                     tableBucket,
                     copyRemoteLogSegment.remoteLogSegmentId());
             metricGroup.remoteLogCopyRequests().inc();
-            metricGroup.remoteLogCopyBytes().inc(sizeInBytes);
+            metricGroup.remoteLogCopyBytes().inc(copyRemoteLogSegment.segmentSizeInBytes());
             copiedSegments.add(copyRemoteLogSegment);
-            endOffset = segmentEndOffset;
+            endOffset = copyRemoteLogSegment.remoteLogEndOffset();
+        }
+
+        if (!abortedSegments.isEmpty()) {
+            // clean up the files of the aborted segments, which may be partially copied
+            deleteRemoteLogSegmentFiles(abortedSegments, metricGroup);
         }
         return endOffset;
     }
@@ -26,6 +26,7 @@ import org.apache.fluss.metadata.PhysicalTablePath;
 import org.apache.fluss.metadata.TableBucket;
 import org.apache.fluss.remote.RemoteLogSegment;
 import org.apache.fluss.rpc.gateway.CoordinatorGateway;
+import org.apache.fluss.server.DataDirs;
 import org.apache.fluss.server.log.LogTablet;
 import org.apache.fluss.server.replica.Replica;
 import org.apache.fluss.server.zk.ZooKeeperClient;
@@ -57,6 +58,8 @@ import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import static org.apache.fluss.utils.Preconditions.checkArgument;
+
 /**
  * The entry point for remote log management. The remote log manager is responsible for managing log
  * tiering from local log segments to remote log segments, expiring remote log segments, and
@@ -71,7 +74,9 @@ public class RemoteLogManager implements Closeable {
 
     private final long taskInterval;
     private final int maxUploadSegmentsPerTask;
+    private final int maxInflightUploadSegmentsPerTask;
     private final RemoteLogIndexCache remoteLogIndexCache;
+    private final @Nullable RemoteLogSegmentCache remoteLogSegmentCache;
     private final RemoteLogStorage remoteLogStorage;
     private final CoordinatorGateway coordinatorGateway;
     private final ScheduledExecutorService rlManagerScheduledThreadPool;
@@ -85,14 +90,13 @@ public class RemoteLogManager implements Closeable {
             Configuration conf,
             ZooKeeperClient zkClient,
             CoordinatorGateway coordinatorGateway,
-            Clock clock,
-            ExecutorService ioExecutor)
+            Clock clock)
             throws IOException {
         this(
                 conf,
                 zkClient,
                 coordinatorGateway,
-                new DefaultRemoteLogStorage(conf, ioExecutor),
+                new DefaultRemoteLogStorage(conf),
                 Executors.newScheduledThreadPool(
                         conf.getInt(ConfigOptions.REMOTE_LOG_MANAGER_THREAD_POOL_SIZE),
                         new ExecutorThreadFactory(RLM_SCHEDULED_THREAD_PREFIX)),
@@ -112,15 +116,34 @@ public class RemoteLogManager implements Closeable {
         this.zkClient = zkClient;
         this.coordinatorGateway = coordinatorGateway;
 
-        File dataDir = new File(conf.getString(ConfigOptions.DATA_DIR));
+        // the index cache is placed on the first data directory
+        File dataDir = DataDirs.resolve(conf).get(0);
         this.remoteLogIndexCache =
                 new RemoteLogIndexCache(
                         (int) conf.get(ConfigOptions.REMOTE_LOG_INDEX_FILE_CACHE_SIZE).getBytes(),
                         remoteLogStorage,
                         dataDir);
+        long segmentCacheSize = conf.get(ConfigOptions.REMOTE_LOG_SEGMENT_CACHE_SIZE).getBytes();
+        this.remoteLogSegmentCache =
+                segmentCacheSize > 0
+                        ? new RemoteLogSegmentCache(
+                                segmentCacheSize,
+                                remoteLogStorage,
+                                dataDir,
+                                conf,
+                                conf.getInt(
+                                        ConfigOptions.REMOTE_LOG_SEGMENT_CACHE_DOWNLOAD_THREAD_NUM))
+                        : null;
         this.taskInterval = conf.get(ConfigOptions.REMOTE_LOG_TASK_INTERVAL_DURATION).toMillis();
         this.maxUploadSegmentsPerTask =
                 conf.getInt(ConfigOptions.REMOTE_LOG_TASK_MAX_UPLOAD_SEGMENTS);
+        this.maxInflightUploadSegmentsPerTask =
+                conf.getInt(ConfigOptions.REMOTE_LOG_TASK_MAX_INFLIGHT_UPLOAD_SEGMENTS);
+        checkArgument(
+                maxInflightUploadSegmentsPerTask > 0,
+                "'%s' must be positive, but is %s.",
+                ConfigOptions.REMOTE_LOG_TASK_MAX_INFLIGHT_UPLOAD_SEGMENTS.key(),
+                maxInflightUploadSegmentsPerTask);
         this.rlManagerScheduledThreadPool = scheduledExecutor;
         this.clock = clock;
     }
@@ -231,6 +254,15 @@ public class RemoteLogManager implements Closeable {
         return remoteLogIndexCache.lookupPosition(remoteLogSegment, offset);
     }
 
+    /**
+     * Returns the cache to read remote log segments with the projection and filter of client
+     * fetches, or null if it is disabled.
+     */
+    @Nullable
+    public RemoteLogSegmentCache getRemoteLogSegmentCache() {
+        return remoteLogSegmentCache;
+    }
+
     /**
      * Get the offset of the given timestamp in the remote log segment. If not found, -1L will
      * return.
@@ -303,7 +335,8 @@ public class RemoteLogManager implements Closeable {
                                     remoteLogStorage,
                                     coordinatorGateway,
                                     clock,
-                                    maxUploadSegmentsPerTask);
+                                    maxUploadSegmentsPerTask,
+                                    maxInflightUploadSegmentsPerTask);
                     LOG.info(
                             "Created a new remote log task for table-bucket{}: {} and getting scheduled",
                             tableBucket,
@@ -333,6 +366,7 @@ public class RemoteLogManager implements Closeable {
         rlmTasks.values().forEach(TaskWithFuture::cancel);
         IOUtils.closeQuietly(remoteLogStorage, "RemoteLogStorageManager");
         IOUtils.closeQuietly(remoteLogIndexCache, "RemoteIndexCache");
+        IOUtils.closeQuietly(remoteLogSegmentCache, "RemoteLogSegmentCache");
 
         shutdownAndAwaitTermination(
                 rlManagerScheduledThreadPool, "RLMScheduledThreadPool", 10, TimeUnit.SECONDS);
@@ -0,0 +1,347 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.server.log.remote;
+
+import org.apache.fluss.annotation.VisibleForTesting;
+import org.apache.fluss.config.Configuration;
+import org.apache.fluss.metadata.LogFormat;
+import org.apache.fluss.record.BytesViewLogRecords;
+import org.apache.fluss.record.FileLogProjection;
+import org.apache.fluss.record.FileLogRecords;
+import org.apache.fluss.record.LogRecords;
+import org.apache.fluss.record.MemoryLogRecords;
+import org.apache.fluss.remote.RemoteLogSegment;
+import org.apache.fluss.server.log.FetchDataInfo;
+import org.apache.fluss.server.log.FilterContext;
+import org.apache.fluss.server.log.LogSegment;
+import org.apache.fluss.shaded.netty4.io.netty.buffer.ByteBuf;
+import org.apache.fluss.utils.ExecutorUtils;
+import org.apache.fluss.utils.FileUtils;
+import org.apache.fluss.utils.FlussPaths;
+import org.apache.fluss.utils.concurrent.ExecutorThreadFactory;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.fluss.utils.Preconditions.checkArgument;
+
+/**
+ * A cache of the log segments fetched from remote storage, which are stored in dir
+ * `$dataDir/remote-log-segment-cache/$segmentId`. It enables the tablet server to read the tiered
+ * log segments with the column projection and filter of a client fetch, like a local read, so that
+ * only the projected and filtered data is sent to the client.
+ *
+ * <p>The segments are downloaded asynchronously on a dedicated thread pool when they are read for
+ * the first time, and {@link #read} returns null until the download completes, so the fetch request
+ * threads never wait for remote storage. The queue of the pool is bounded, a download rejected by
+ * the full queue is triggered again by the next read of the segment. The weight of a segment in the
+ * cache is the size of its log file and offset index file on local disk. The records read from a
+ * cached segment are copied to heap, so an evicted segment can be deleted even if the fetch
+ * response is not sent yet.
+ *
+ * <p>The cache directory is cleared on startup and on close.
+ */
+@ThreadSafe
+public class RemoteLogSegmentCache implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RemoteLogSegmentCache.class);
+
+    public static final String DIR_NAME = "remote-log-segment-cache";
+    private static final String TMP_FILE_SUFFIX = ".tmp";
+    private static final String DOWNLOAD_THREAD_PREFIX = "remote-log-segment-cache-download";
+    // the max number of downloads waiting for a download thread
+    private static final int MAX_PENDING_DOWNLOADS = 16;
+
+    private final File cacheDir;
+    private final RemoteLogStorage remoteLogStorage;
+    private final Configuration logConf;
+    private final ExecutorService downloadExecutor;
+
+    /** The segments being downloaded, used to download each segment only once. */
+    private final Set<UUID> downloadingSegments = ConcurrentHashMap.newKeySet();
+
+    private final Cache<UUID, Entry> internalCache;
+
+    private volatile boolean closed = false;
+
+    public RemoteLogSegmentCache(
+            long maxSize,
+            RemoteLogStorage remoteLogStorage,
+            File dataDir,
+            Configuration logConf,
+            int downloadThreadNum)
+            throws IOException {
+        checkArgument(
+                downloadThreadNum > 0,
+                "The number of download threads must be positive, but is %s.",
+                downloadThreadNum);
+        this.remoteLogStorage = remoteLogStorage;
+        this.logConf = logConf;
+        this.downloadExecutor =
+                new ThreadPoolExecutor(
+                        downloadThreadNum,
+                        downloadThreadNum,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(MAX_PENDING_DOWNLOADS),
+                        new ExecutorThreadFactory(DOWNLOAD_THREAD_PREFIX));
+        this.cacheDir = new File(dataDir, DIR_NAME);
+        // the cached segments of the earlier run are not tracked anymore
+        FileUtils.deleteDirectoryQuietly(cacheDir);
+        Files.createDirectories(cacheDir.toPath());
+        this.internalCache =
+                Caffeine.newBuilder()
+                        .maximumWeight(maxSize)
+                        .weigher(
+                                (UUID key, Entry entry) ->
+                                        (int) Math.min(entry.weight(), Integer.MAX_VALUE))
+                        .evictionListener(
+                                (UUID key, Entry entry, RemovalCause cause) -> {
+                                    if (entry != null) {
+                                        entry.evict();
+                                    }
+                                })
+                        .build();
+    }
+
+    /**
+     * Reads a message set from the given remote log segment beginning with the first offset >=
+     * readOffset, applying the given projection and filter like {@link LogSegment#read}.
+     *
+     * @return the fetched data, or null if the segment is not cached yet, in which case the
+     *     download of the segment is triggered.
+     */
+    @Nullable
+    public FetchDataInfo read(
+            RemoteLogSegment remoteLogSegment,
+            LogFormat logFormat,
+            long readOffset,
+            int maxSize,
+            boolean minOneMessage,
+            @Nullable FileLogProjection projection,
+            @Nullable FilterContext filterContext)
+            throws IOException {
+        if (closed) {
+            return null;
+        }
+        UUID segmentId = remoteLogSegment.remoteLogSegmentId();
+        Entry entry = internalCache.getIfPresent(segmentId);
+        if (entry == null || !entry.tryRetain()) {
+            maybeDownload(remoteLogSegment, logFormat);
+            return null;
+        }
+
+        try {
+            LogSegment segment = entry.segment;
+            FetchDataInfo fetchDataInfo =
+                    segment.read(
+                            readOffset,
+                            maxSize,
+                            segment.getFileLogRecords().sizeInBytes(),
+                            minOneMessage,
+                            projection,
+                            filterContext);
+            if (fetchDataInfo == null) {
+                return null;
+            }
+            return new FetchDataInfo(
+                    fetchDataInfo.getFetchOffsetMetadata(),
+                    copyToHeap(fetchDataInfo.getRecords()),
+                    fetchDataInfo.getFilteredEndOffset());
+        } finally {
+            entry.release();
+        }
+    }
+
+    private void maybeDownload(RemoteLogSegment remoteLogSegment, LogFormat logFormat) {
+        UUID segmentId = remoteLogSegment.remoteLogSegmentId();
+        if (!downloadingSegments.add(segmentId)) {
+            return;
+        }
+        try {
+            downloadExecutor.execute(
+                    () -> {
+                        try {
+                            if (!closed) {
+                                internalCache.put(segmentId, download(remoteLogSegment, logFormat));
+                            }
+                        } catch (Throwable t) {
+                            LOG.warn(
+                                    "Failed to download remote log segment {} of table bucket {} "
+                                            + "to the local segment cache.",
+                                    segmentId,
+                                    remoteLogSegment.tableBucket(),
+                                    t);
+                        } finally {
+                            downloadingSegments.remove(segmentId);
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            downloadingSegments.remove(segmentId);
+        }
+    }
+
+    private Entry download(RemoteLogSegment remoteLogSegment, LogFormat logFormat)
+            throws Exception {
+        long startTime = System.currentTimeMillis();
+        long baseOffset = remoteLogSegment.remoteLogStartOffset();
+        File segmentDir = new File(cacheDir, remoteLogSegment.remoteLogSegmentId().toString());
+        Files.createDirectories(segmentDir.toPath());
+        try {
+            long logSize =
+                    copyToFile(
+                            remoteLogStorage.fetchLogData(remoteLogSegment),
+                            FlussPaths.logFile(segmentDir, baseOffset));
+            long offsetIndexSize =
+                    copyToFile(
+                            remoteLogStorage.fetchIndex(
+                                    remoteLogSegment, RemoteLogStorage.IndexType.OFFSET),
+                            FlussPaths.offsetIndexFile(segmentDir, baseOffset));
+            LogSegment segment =
+                    LogSegment.open(segmentDir, baseOffset, logConf, true, 0, logFormat);
+            LOG.info(
+                    "Downloaded remote log segment {} of table bucket {} to the local segment "
+                            + "cache, cost {} ms.",
+                    remoteLogSegment.remoteLogSegmentId(),
+                    remoteLogSegment.tableBucket(),
+                    System.currentTimeMillis() - startTime);
+            return new Entry(segment, segmentDir, logSize + offsetIndexSize);
+        } catch (Exception e) {
+            FileUtils.deleteDirectoryQuietly(segmentDir);
+            throw e;
+        }
+    }
+
+    /** Copies the stream to the given file and returns the number of bytes copied. */
+    private static long copyToFile(InputStream inputStream, File file) throws IOException {
+        File tmpFile = new File(file.getParentFile(), file.getName() + TMP_FILE_SUFFIX);
+        long size;
+        try (InputStream in = inputStream) {
+            size = Files.copy(in, tmpFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        return size;
+    }
+
+    private static LogRecords copyToHeap(LogRecords records) throws IOException {
+        if (records instanceof BytesViewLogRecords) {
+            ByteBuf byteBuf = ((BytesViewLogRecords) records).getBytesView().getByteBuf();
+            byte[] bytes = new byte[byteBuf.readableBytes()];
+            byteBuf.getBytes(byteBuf.readerIndex(), bytes);
+            return MemoryLogRecords.pointToBytes(bytes);
+        } else if (records instanceof FileLogRecords) {
+            ByteBuffer buffer = ByteBuffer.allocate(records.sizeInBytes());
+            ((FileLogRecords) records).readInto(buffer, 0);
+            return MemoryLogRecords.pointToByteBuffer(buffer);
+        } else {
+            return records;
+        }
+    }
+
+    /** Returns the total weight of the cached segments. */
+    @VisibleForTesting
+    long weightedSize() {
+        internalCache.cleanUp();
+        return internalCache.policy().eviction().get().weightedSize().getAsLong();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        ExecutorUtils.gracefulShutdown(5, TimeUnit.SECONDS, downloadExecutor);
+        internalCache.asMap().values().forEach(Entry::evict);
+        internalCache.invalidateAll();
+        FileUtils.deleteDirectoryQuietly(cacheDir);
+    }
+
+    /** A cached segment, which is deleted once it is evicted and not read anymore. */
+    private static final class Entry {
+
+        private final LogSegment segment;
+        private final File segmentDir;
+        private final long weight;
+
+        @GuardedBy("this")
+        private int refCount = 0;
+
+        @GuardedBy("this")
+        private boolean evicted = false;
+
+        private Entry(LogSegment segment, File segmentDir, long weight) {
+            this.segment = segment;
+            this.segmentDir = segmentDir;
+            this.weight = weight;
+        }
+
+        private long weight() {
+            return weight;
+        }
+
+        private synchronized boolean tryRetain() {
+            if (evicted) {
+                return false;
+            }
+            refCount++;
+            return true;
+        }
+
+        private synchronized void release() {
+            refCount--;
+            if (evicted && refCount == 0) {
+                cleanup();
+            }
+        }
+
+        private synchronized void evict() {
+            if (!evicted) {
+                evicted = true;
+                if (refCount == 0) {
+                    cleanup();
+                }
+            }
+        }
+
+        private void cleanup() {
+            segment.close();
+            FileUtils.deleteDirectoryQuietly(segmentDir);
+        }
+    }
+}
@@ -23,9 +23,11 @@ import org.apache.fluss.fs.FsPath;
 import org.apache.fluss.metadata.PhysicalTablePath;
 import org.apache.fluss.metadata.TableBucket;
 import org.apache.fluss.remote.RemoteLogSegment;
+import org.apache.fluss.utils.concurrent.FutureUtils;
 
 import java.io.Closeable;
 import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
 
 import static org.apache.fluss.utils.FlussPaths.INDEX_FILE_SUFFIX;
 import static org.apache.fluss.utils.FlussPaths.TIME_INDEX_FILE_SUFFIX;
@@ -93,6 +95,29 @@ public interface RemoteLogStorage extends Closeable {
     void copyLogSegmentFiles(RemoteLogSegment remoteLogSegment, LogSegmentFiles logSegmentFiles)
             throws RemoteStorageException;
 
+    /**
+     * Asynchronously copies the given {@link LogSegmentFiles} provided for the given {@link
+     * RemoteLogSegment}, see {@link #copyLogSegmentFiles(RemoteLogSegment, LogSegmentFiles)}. This
+     * allows the caller to upload several log segments at the same time.
+     *
+     * <p>The default implementation copies the files synchronously in the calling thread.
+     *
+     * @param remoteLogSegment the remote log segment.
+     * @param logSegmentFiles files to be copied to remote storage.
+     * @return a future completed when all the files are copied, or completed exceptionally with a
+     *     {@link RemoteStorageException} if there are any errors in storing the data of the
+     *     segment.
+     */
+    default CompletableFuture<Void> copyLogSegmentFilesAsync(
+            RemoteLogSegment remoteLogSegment, LogSegmentFiles logSegmentFiles) {
+        try {
+            copyLogSegmentFiles(remoteLogSegment, logSegmentFiles);
+            return CompletableFuture.completedFuture(null);
+        } catch (RemoteStorageException e) {
+            return FutureUtils.completedExceptionally(e);
+        }
+    }
+
     /**
      * Deletes the resources associated with the given {@link RemoteLogSegment}. Deletion is
      * considered as successful if this call returns successfully without any errors. It will throw
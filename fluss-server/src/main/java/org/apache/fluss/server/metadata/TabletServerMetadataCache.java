@@ -112,10 +112,33 @@ public class TabletServerMetadataCache implements ServerMetadataCache {
         return serverMetadataSnapshot.getTablePath(tableId);
     }
 
+    public OptionalLong getTableId(TablePath tablePath) {
+        return serverMetadataSnapshot.getTableId(tablePath);
+    }
+
+    /** Returns the paths of all the tables in the given database known by this server. */
+    public List<TablePath> getTablePaths(String databaseName) {
+        List<TablePath> tablePaths = new ArrayList<>();
+        for (TablePath tablePath : serverMetadataSnapshot.getTableIdByPath().keySet()) {
+            if (tablePath.getDatabaseName().equals(databaseName)) {
+                tablePaths.add(tablePath);
+            }
+        }
+        return tablePaths;
+    }
+
     public Optional<PhysicalTablePath> getPhysicalTablePath(long partitionId) {
         return serverMetadataSnapshot.getPhysicalTablePath(partitionId);
     }
 
+    /** Returns the cached metadata of the given bucket of a non-partitioned table. */
+    public Optional<BucketMetadata> getBucketMetadata(TableBucket tableBucket) {
+        return Optional.ofNullable(
+                serverMetadataSnapshot
+                        .getBucketMetadataForTable(tableBucket.getTableId())
+                        .get(tableBucket.getBucket()));
+    }
+
     public Optional<TableMetadata> getTableMetadata(TablePath tablePath) {
         // Only get data from cache, do not access ZK.
         ServerMetadataSnapshot snapshot = serverMetadataSnapshot;
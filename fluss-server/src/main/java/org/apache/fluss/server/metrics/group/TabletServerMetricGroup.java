@@ -22,8 +22,8 @@ import org.apache.fluss.metadata.TableBucket;
 import org.apache.fluss.metadata.TablePath;
 import org.apache.fluss.metrics.CharacterFilter;
 import org.apache.fluss.metrics.Counter;
-import org.apache.fluss.metrics.DescriptiveStatisticsHistogram;
 import org.apache.fluss.metrics.Histogram;
+import org.apache.fluss.metrics.LogLinearHistogram;
 import org.apache.fluss.metrics.MeterView;
 import org.apache.fluss.metrics.MetricNames;
 import org.apache.fluss.metrics.SimpleCounter;
@@ -39,7 +39,6 @@ import java.util.concurrent.ConcurrentHashMap;
 public class TabletServerMetricGroup extends AbstractMetricGroup {
 
     private static final String NAME = "tabletserver";
-    private static final int WINDOW_SIZE = 1024;
 
     private final Map<TablePath, TableMetricGroup> metricGroupByTable = new ConcurrentHashMap<>();
 
@@ -69,6 +68,8 @@ public class TabletServerMetricGroup extends AbstractMetricGroup {
     private final Histogram kvFlushLatencyHistogram;
     private final Counter kvTruncateAsDuplicatedCount;
     private final Counter kvTruncateAsErrorCount;
+    private final Counter kvRecoverRecords;
+    private final Counter kvRecoverBytes;
 
     // aggregated replica metrics
     private final Counter isrShrinks;
@@ -109,13 +110,13 @@ public class TabletServerMetricGroup extends AbstractMetricGroup {
         // about flush
         logFlushCount = new SimpleCounter();
         meter(MetricNames.LOG_FLUSH_RATE, new MeterView(logFlushCount));
-        logFlushLatencyHistogram = new DescriptiveStatisticsHistogram(WINDOW_SIZE);
+        logFlushLatencyHistogram = new LogLinearHistogram();
         histogram(MetricNames.LOG_FLUSH_LATENCY_MS, logFlushLatencyHistogram);
 
         // about pre-write buffer.
         kvFlushCount = new SimpleCounter();
         meter(MetricNames.KV_FLUSH_RATE, new MeterView(kvFlushCount));
-        kvFlushLatencyHistogram = new DescriptiveStatisticsHistogram(WINDOW_SIZE);
+        kvFlushLatencyHistogram = new LogLinearHistogram();
         histogram(MetricNames.KV_FLUSH_LATENCY_MS, kvFlushLatencyHistogram);
         kvTruncateAsDuplicatedCount = new SimpleCounter();
         meter(
@@ -126,6 +127,12 @@ public class TabletServerMetricGroup extends AbstractMetricGroup {
                 MetricNames.KV_PRE_WRITE_BUFFER_TRUNCATE_AS_ERROR_RATE,
                 new MeterView(kvTruncateAsErrorCount));
 
+        // about replaying log during recovering kv.
+        kvRecoverRecords = new SimpleCounter();
+        meter(MetricNames.KV_RECOVER_RECORDS_RATE, new MeterView(kvRecoverRecords));
+        kvRecoverBytes = new SimpleCounter();
+        meter(MetricNames.KV_RECOVER_BYTES_RATE, new MeterView(kvRecoverBytes));
+
         // replica metrics
         isrExpands = new SimpleCounter();
         meter(MetricNames.ISR_EXPANDS_RATE, new MeterView(isrExpands));
@@ -227,6 +234,14 @@ public class TabletServerMetricGroup extends AbstractMetricGroup {
         return kvTruncateAsErrorCount;
     }
 
+    public Counter kvRecoverRecords() {
+        return kvRecoverRecords;
+    }
+
+    public Counter kvRecoverBytes() {
+        return kvRecoverBytes;
+    }
+
     public Counter isrShrinks() {
         return isrShrinks;
     }
@@ -49,6 +49,7 @@ import org.apache.fluss.record.KvRecordBatch;
 import org.apache.fluss.record.LogRecordReadContext;
 import org.apache.fluss.record.LogRecords;
 import org.apache.fluss.record.MemoryLogRecords;
+import org.apache.fluss.remote.RemoteLogSegment;
 import org.apache.fluss.rpc.protocol.Errors;
 import org.apache.fluss.rpc.protocol.MergeMode;
 import org.apache.fluss.rpc.util.PredicateMessageUtils;
@@ -61,6 +62,7 @@ import org.apache.fluss.server.kv.KvTablet;
 import org.apache.fluss.server.kv.RemoteLogFetcher;
 import org.apache.fluss.server.kv.autoinc.AutoIncIDRange;
 import org.apache.fluss.server.kv.rocksdb.RocksDBKvBuilder;
+import org.apache.fluss.server.kv.scan.KvScanner;
 import org.apache.fluss.server.kv.snapshot.CompletedKvSnapshotCommitter;
 import org.apache.fluss.server.kv.snapshot.CompletedSnapshot;
 import org.apache.fluss.server.kv.snapshot.KvFileHandleAndLocalPath;
@@ -84,6 +86,7 @@ import org.apache.fluss.server.log.LogReadInfo;
 import org.apache.fluss.server.log.LogTablet;
 import org.apache.fluss.server.log.checkpoint.OffsetCheckpointFile;
 import org.apache.fluss.server.log.remote.RemoteLogManager;
+import org.apache.fluss.server.log.remote.RemoteLogSegmentCache;
 import org.apache.fluss.server.metadata.ServerMetadataCache;
 import org.apache.fluss.server.metadata.TabletServerMetadataCache;
 import org.apache.fluss.server.metrics.group.BucketMetricGroup;
@@ -160,6 +163,9 @@ public final class Replica {
 
     private final LogManager logManager;
     private final LogTablet logTablet;
+    /** The data directory the log and kv of the replica are placed on. */
+    private final File dataDir;
+
     private final long replicaMaxLagTime;
     /** A closeable registry to register all registered {@link Closeable}s. */
     private final CloseableRegistry closeableRegistry;
@@ -225,6 +231,7 @@ public final class Replica {
             IntSupplier minInSyncReplicasSupplier,
             int localTabletServerId,
             OffsetCheckpointFile.LazyOffsetCheckpoints lazyHighWatermarkCheckpoint,
+            boolean isNewBucket,
             DelayedOperationManager<DelayedWrite<?>> delayedWriteManager,
             DelayedOperationManager<DelayedFetchLog> delayedFetchLogManager,
             AdjustIsrManager adjustIsrManager,
@@ -233,6 +240,7 @@ public final class Replica {
             FatalErrorHandler fatalErrorHandler,
             BucketMetricGroup bucketMetricGroup,
             TableInfo tableInfo,
+            ArrowCompressionInfo arrowCompressionInfo,
             Clock clock,
             RemoteLogManager remoteLogManager)
             throws Exception {
@@ -258,13 +266,14 @@ public final class Replica {
         this.tableInfo = tableInfo;
         this.tableConfig = tableInfo.getTableConfig();
         this.logFormat = tableConfig.getLogFormat();
-        this.arrowCompressionInfo = tableConfig.getArrowCompressionInfo();
+        this.arrowCompressionInfo = arrowCompressionInfo;
         this.snapshotContext = snapshotContext;
         // create a closeable registry for the replica
         this.closeableRegistry = new CloseableRegistry();
 
-        this.logTablet = createLog(lazyHighWatermarkCheckpoint);
+        this.logTablet = createLog(lazyHighWatermarkCheckpoint, isNewBucket);
         this.logTablet.updateIsDataLakeEnabled(tableConfig.isDataLakeEnabled());
+        this.dataDir = logManager.getDataDirs().getDataDir(logTablet.getLogDir());
         this.clock = clock;
         this.remoteLogManager = remoteLogManager;
         registerMetrics();
@@ -369,7 +378,11 @@ public final class Replica {
     }
 
     public Path getTabletParentDir() {
-        return logManager.getTabletParentDir(physicalPath, tableBucket);
+        return logTablet.getLogDir().toPath().getParent();
+    }
+
+    public File getDataDir() {
+        return dataDir;
     }
 
     public @Nullable KvTablet getKvTablet() {
@@ -522,6 +535,29 @@ public final class Replica {
                 });
     }
 
+    /**
+     * Close the replica without deleting its kv and log, as the data directory of the replica is
+     * offline.
+     */
+    public void closeOffline() {
+        inWriteLock(
+                leaderIsrUpdateLock,
+                () -> {
+                    if (closeableRegistry.unregisterCloseable(closeableRegistryForKv)) {
+                        IOUtils.closeQuietly(closeableRegistryForKv);
+                    }
+                    if (kvTablet != null) {
+                        bucketMetricGroup.unregisterRocksDBStatistics();
+                        checkNotNull(kvManager);
+                        kvManager.closeKv(tableBucket);
+                        kvTablet = null;
+                    }
+                    logManager.closeLog(tableBucket);
+                    IOUtils.closeQuietly(schemaGetter::release);
+                    IOUtils.closeQuietly(closeableRegistry);
+                });
+    }
+
     public LogOffsetSnapshot fetchOffsetSnapshot(boolean fetchOnlyFromLeader) throws IOException {
         return inReadLock(
                 leaderIsrUpdateLock,
@@ -735,7 +771,7 @@ public final class Replica {
                 downloadKvSnapshots(completedSnapshot, tabletDir.toPath());
 
                 // as we have downloaded kv files into the tablet dir, now, we can load it
-                kvTablet = kvManager.loadKv(tabletDir, schemaGetter);
+                kvTablet = kvManager.loadKv(tabletDir, schemaGetter, arrowCompressionInfo);
 
                 checkNotNull(kvTablet, "kv tablet should not be null.");
                 restoreStartOffset = completedSnapshot.getLogOffset();
@@ -758,7 +794,8 @@ public final class Replica {
                                 tableConfig.getKvFormat(),
                                 schemaGetter,
                                 tableConfig,
-                                arrowCompressionInfo);
+                                arrowCompressionInfo,
+                                KvManager.getPrefixKeyLength(tableInfo));
 
                 // we don't support rowCount
                 rowCount = tableConfig.getChangelogImage() == ChangelogImage.WAL ? null : 0L;
@@ -844,11 +881,16 @@ public final class Replica {
         long start = clock.milliseconds();
         checkNotNull(kvTablet, "kv tablet should not be null.");
         try {
+            TabletServerMetricGroup serverMetrics =
+                    bucketMetricGroup.getTableMetricGroup().getServerMetricGroup();
             KvRecoverHelper.KvRecoverContext recoverContext =
                     new KvRecoverHelper.KvRecoverContext(
                             getTablePath(),
                             snapshotContext.getZooKeeperClient(),
-                            snapshotContext.maxFetchLogSizeInRecoverKv());
+                            snapshotContext.maxFetchLogSizeInRecoverKv(),
+                            snapshotContext.bulkLoadBufferSizeInRecoverKv(),
+                            serverMetrics.kvRecoverRecords(),
+                            serverMetrics.kvRecoverBytes());
 
             // Always create RemoteLogFetcher; the temp directory is lazily created only
             // when fetch() is actually called, so this is lightweight.
@@ -866,6 +908,7 @@ public final class Replica {
                                 recoverContext,
                                 tableConfig.getKvFormat(),
                                 tableConfig.getLogFormat(),
+                                arrowCompressionInfo,
                                 schemaGetter,
                                 remoteLogFetcher);
                 kvRecoverHelper.recover();
@@ -1003,10 +1046,11 @@ public final class Replica {
                         appendInfo = logTablet.appendAsLeader(memoryLogRecords);
                     } catch (IOException e) {
                         LOG.error("Error while appending records to {}", tableBucket, e);
-                        fatalErrorHandler.onFatalError(e);
+                        handleStorageError(e);
                         throw new LogStorageException(
                                 "Error while appending records to " + tableBucket, e);
                     }
+                    logManager.getDataDirs().recordWrite(dataDir, appendInfo.validBytes());
                     maybeIncrementLeaderHW(logTablet, clock.milliseconds());
 
                     return appendInfo;
@@ -1015,7 +1059,9 @@ public final class Replica {
 
     public LogAppendInfo appendRecordsToFollower(MemoryLogRecords memoryLogRecords)
             throws Exception {
-        return logTablet.appendAsFollower(memoryLogRecords);
+        LogAppendInfo appendInfo = logTablet.appendAsFollower(memoryLogRecords);
+        logManager.getDataDirs().recordWrite(dataDir, appendInfo.validBytes());
+        return appendInfo;
     }
 
     public LogAppendInfo putRecordsToLeader(
@@ -1043,16 +1089,30 @@ public final class Replica {
                         logAppendInfo = kv.putAsLeader(kvRecords, targetColumns, mergeMode);
                     } catch (IOException e) {
                         LOG.error("Error while putting records to {}", tableBucket, e);
-                        fatalErrorHandler.onFatalError(e);
+                        handleStorageError(e);
                         throw new KvStorageException(
                                 "Error while putting records to " + tableBucket, e);
                     }
+                    logManager
+                            .getDataDirs()
+                            .recordWrite(
+                                    dataDir, kvRecords.sizeInBytes() + logAppendInfo.validBytes());
                     // we may need to increment high watermark.
                     maybeIncrementLeaderHW(logTablet, clock.milliseconds());
                     return logAppendInfo;
                 });
     }
 
+    /**
+     * Takes the data directory of the replica offline if the I/O error is caused by the failure of
+     * the directory, or fails the server if the error can't be isolated to the directory.
+     */
+    private void handleStorageError(IOException e) {
+        if (!logManager.getDataDirs().handleIOError(dataDir, e)) {
+            fatalErrorHandler.onFatalError(e);
+        }
+    }
+
     public LogReadInfo fetchRecords(FetchParams fetchParams) throws IOException {
         if (fetchParams.projection() != null && logFormat != LogFormat.ARROW) {
             throw new InvalidColumnProjectionException(
@@ -1275,7 +1335,7 @@ public final class Replica {
                 });
     }
 
-    public List<byte[]> prefixLookup(byte[] prefixKey) {
+    public List<List<byte[]>> prefixLookups(List<byte[]> prefixKeys) {
         if (!isKvTable()) {
             throw new NonPrimaryKeyTableException(
                     "Try to do prefix lookup on a non primary key table: " + getTablePath());
@@ -1293,7 +1353,7 @@ public final class Replica {
                         }
                         checkNotNull(
                                 kvTablet, "KvTablet for the replica to get key shouldn't be null.");
-                        return kvTablet.prefixLookup(prefixKey);
+                        return kvTablet.prefixLookups(prefixKeys);
                     } catch (IOException e) {
                         String errorMsg =
                                 String.format(
@@ -1305,6 +1365,36 @@ public final class Replica {
                 });
     }
 
+    public KvScanner openKvScanner(@Nullable Long limit) {
+        if (!isKvTable()) {
+            throw new NonPrimaryKeyTableException(
+                    "Try to do kv scan on a non primary key table: " + getTablePath());
+        }
+
+        return inReadLock(
+                leaderIsrUpdateLock,
+                () -> {
+                    try {
+                        if (!isLeader()) {
+                            throw new NotLeaderOrFollowerException(
+                                    String.format(
+                                            "Leader not local for bucket %s on tabletServer %d",
+                                            tableBucket, localTabletServerId));
+                        }
+                        checkNotNull(
+                                kvTablet, "KvTablet for the replica to scan shouldn't be null.");
+                        return kvTablet.openScanner(limit);
+                    } catch (IOException e) {
+                        String errorMsg =
+                                String.format(
+                                        "Failed to open kv scanner for table bucket %s, the cause is: %s",
+                                        tableBucket, e.getMessage());
+                        LOG.error(errorMsg, e);
+                        throw new KvStorageException(errorMsg, e);
+                    }
+                });
+    }
+
     public DefaultValueRecordBatch limitKvScan(int limit) {
         if (!isKvTable()) {
             throw new NonPrimaryKeyTableException(
@@ -1539,15 +1629,47 @@ public final class Replica {
                             fetchParams.projection(),
                             filterContext);
         } finally {
-            // Close readContext eagerly — it is only used for statistics extraction during
-            // batch filtering and is NOT referenced by the returned FetchDataInfo records.
+            // Close filterContext eagerly — its readContext is only used for statistics extraction
+            // during batch filtering, and the batches rebuilt by row filtering are on the heap, so
+            // neither is referenced by the returned FetchDataInfo records.
             if (filterContext != null) {
-                IOUtils.closeQuietly(filterContext.getReadContext());
+                IOUtils.closeQuietly(filterContext);
             }
         }
         return new LogReadInfo(fetchDataInfo, initialHighWatermark, initialLogEndOffset);
     }
 
+    /**
+     * Reads the records of the given remote log segment through the local segment cache, applying
+     * the projection and filter of the fetch like {@link #fetchRecords}.
+     *
+     * @return the fetched data, or null if the segment is not cached yet.
+     */
+    @Nullable
+    public FetchDataInfo fetchRemoteRecords(
+            FetchParams fetchParams,
+            long readOffset,
+            RemoteLogSegment remoteLogSegment,
+            RemoteLogSegmentCache remoteLogSegmentCache)
+            throws IOException {
+        FilterContext filterContext = createFilterContext(fetchParams);
+        try {
+            return remoteLogSegmentCache.read(
+                    remoteLogSegment,
+                    logFormat,
+                    readOffset,
+                    fetchParams.maxFetchBytes(),
+                    fetchParams.minOneMessage(),
+                    fetchParams.projection(),
+                    filterContext);
+        } finally {
+            // the records read from the cache are copied to heap
+            if (filterContext != null) {
+                IOUtils.closeQuietly(filterContext);
+            }
+        }
+    }
+
     /**
      * Creates a {@link FilterContext} for batch filtering if a filter is configured for this table
      * and the log format supports it. Returns null if no filter is applicable.
@@ -1583,8 +1705,16 @@ public final class Replica {
             if (resolvedFilter != null) {
                 readContext =
                         LogRecordReadContext.createArrowReadContext(
-                                rowType, filterSchemaId, schemaGetter);
-                return new FilterContext(resolvedFilter, readContext, filterSchemaId, schemaGetter);
+                                rowType, filterSchemaId, schemaGetter, arrowCompressionInfo);
+                return new FilterContext(
+                        resolvedFilter,
+                        readContext,
+                        filterSchemaId,
+                        schemaGetter,
+                        fetchParams.rowFilterBudget(),
+                        fetchParams.rowFilterWriterPool(),
+                        tableBucket.getTableId(),
+                        getArrowCompressionInfo());
             }
             return null;
         } catch (Exception e) {
@@ -2035,7 +2165,8 @@ public final class Replica {
     }
 
     private LogTablet createLog(
-            OffsetCheckpointFile.LazyOffsetCheckpoints lazyHighWatermarkCheckpoint)
+            OffsetCheckpointFile.LazyOffsetCheckpoints lazyHighWatermarkCheckpoint,
+            boolean isNewBucket)
             throws Exception {
         LogTablet log =
                 logManager.getOrCreateLog(
@@ -2043,7 +2174,8 @@ public final class Replica {
                         tableBucket,
                         tableConfig.getLogFormat(),
                         tableConfig.getTieredLogLocalSegments(),
-                        isKvTable());
+                        isKvTable(),
+                        isNewBucket);
         // update high watermark.
         Optional<Long> watermarkOpt = lazyHighWatermarkCheckpoint.fetch(tableBucket);
         long watermark =
@@ -18,6 +18,7 @@
 package org.apache.fluss.server.replica;
 
 import org.apache.fluss.annotation.VisibleForTesting;
+import org.apache.fluss.compression.ArrowCompressionInfo;
 import org.apache.fluss.config.ConfigOptions;
 import org.apache.fluss.config.Configuration;
 import org.apache.fluss.config.TableConfig;
@@ -30,7 +31,9 @@ import org.apache.fluss.exception.InvalidRequiredAcksException;
 import org.apache.fluss.exception.LogOffsetOutOfRangeException;
 import org.apache.fluss.exception.LogStorageException;
 import org.apache.fluss.exception.NotLeaderOrFollowerException;
+import org.apache.fluss.exception.ScannerExpiredException;
 import org.apache.fluss.exception.StorageException;
+import org.apache.fluss.exception.UnknownScannerIdException;
 import org.apache.fluss.exception.UnknownTableOrBucketException;
 import org.apache.fluss.exception.UnsupportedVersionException;
 import org.apache.fluss.fs.FsPath;
@@ -42,12 +45,14 @@ import org.apache.fluss.metadata.TableInfo;
 import org.apache.fluss.metadata.TablePath;
 import org.apache.fluss.metrics.MetricNames;
 import org.apache.fluss.metrics.groups.MetricGroup;
+import org.apache.fluss.record.DefaultValueRecordBatch;
 import org.apache.fluss.record.KeyRecordBatch;
 import org.apache.fluss.record.KvRecordBatch;
 import org.apache.fluss.record.MemoryLogRecords;
 import org.apache.fluss.record.ProjectionPushdownCache;
 import org.apache.fluss.remote.RemoteLogFetchInfo;
 import org.apache.fluss.remote.RemoteLogSegment;
+import org.apache.fluss.row.arrow.ArrowWriterPool;
 import org.apache.fluss.rpc.RpcClient;
 import org.apache.fluss.rpc.entity.FetchLogResultForBucket;
 import org.apache.fluss.rpc.entity.LimitScanResultForBucket;
@@ -56,12 +61,14 @@ import org.apache.fluss.rpc.entity.LookupResultForBucket;
 import org.apache.fluss.rpc.entity.PrefixLookupResultForBucket;
 import org.apache.fluss.rpc.entity.ProduceLogResultForBucket;
 import org.apache.fluss.rpc.entity.PutKvResultForBucket;
+import org.apache.fluss.rpc.entity.ScanKvResultForBucket;
 import org.apache.fluss.rpc.entity.TableStatsResultForBucket;
 import org.apache.fluss.rpc.entity.WriteResultForBucket;
 import org.apache.fluss.rpc.gateway.CoordinatorGateway;
 import org.apache.fluss.rpc.messages.NotifyKvSnapshotOffsetResponse;
 import org.apache.fluss.rpc.messages.NotifyLakeTableOffsetResponse;
 import org.apache.fluss.rpc.messages.NotifyRemoteLogOffsetsResponse;
+import org.apache.fluss.rpc.messages.ReportOfflineReplicasRequest;
 import org.apache.fluss.rpc.protocol.ApiError;
 import org.apache.fluss.rpc.protocol.ApiKeys;
 import org.apache.fluss.rpc.protocol.Errors;
@@ -79,6 +86,9 @@ import org.apache.fluss.server.entity.StopReplicaResultForBucket;
 import org.apache.fluss.server.entity.UserContext;
 import org.apache.fluss.server.kv.KvManager;
 import org.apache.fluss.server.kv.KvSnapshotResource;
+import org.apache.fluss.server.kv.scan.KvScanner;
+import org.apache.fluss.server.kv.scan.ScannerContext;
+import org.apache.fluss.server.kv.scan.ScannerManager;
 import org.apache.fluss.server.kv.snapshot.CompletedKvSnapshotCommitter;
 import org.apache.fluss.server.kv.snapshot.DefaultSnapshotContext;
 import org.apache.fluss.server.log.FetchDataInfo;
@@ -89,8 +99,10 @@ import org.apache.fluss.server.log.LogManager;
 import org.apache.fluss.server.log.LogOffsetMetadata;
 import org.apache.fluss.server.log.LogReadInfo;
 import org.apache.fluss.server.log.LogTablet;
+import org.apache.fluss.server.log.RowFilterBudget;
 import org.apache.fluss.server.log.checkpoint.OffsetCheckpointFile;
 import org.apache.fluss.server.log.remote.RemoteLogManager;
+import org.apache.fluss.server.log.remote.RemoteLogSegmentCache;
 import org.apache.fluss.server.metadata.ClusterMetadata;
 import org.apache.fluss.server.metadata.TableMetadata;
 import org.apache.fluss.server.metadata.TabletServerMetadataCache;
@@ -106,8 +118,12 @@ import org.apache.fluss.server.replica.delay.DelayedWrite;
 import org.apache.fluss.server.replica.fetcher.InitialFetchStatus;
 import org.apache.fluss.server.replica.fetcher.ReplicaFetcherManager;
 import org.apache.fluss.server.utils.FatalErrorHandler;
+import org.apache.fluss.server.utils.ServerRpcMessageUtils;
 import org.apache.fluss.server.zk.ZooKeeperClient;
+import org.apache.fluss.server.zk.data.LeaderAndIsr;
 import org.apache.fluss.server.zk.data.lake.LakeTableSnapshot;
+import org.apache.fluss.shaded.arrow.org.apache.arrow.memory.BufferAllocator;
+import org.apache.fluss.shaded.arrow.org.apache.arrow.memory.BufferAllocatorUtil;
 import org.apache.fluss.utils.FileUtils;
 import org.apache.fluss.utils.FlussPaths;
 import org.apache.fluss.utils.clock.Clock;
@@ -123,6 +139,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -160,11 +177,21 @@ public class ReplicaManager implements ServerReconfigurable {
     private final ZooKeeperClient zkClient;
     protected final int serverId;
     private final AtomicBoolean highWatermarkCheckPointThreadStarted = new AtomicBoolean(false);
-    private final OffsetCheckpointFile highWatermarkCheckpoint;
+    /** The high watermark checkpoint file of each online data directory. */
+    private final Map<File, OffsetCheckpointFile> highWatermarkCheckpoints =
+            new ConcurrentHashMap<>();
 
     @GuardedBy("replicaStateChangeLock")
     private final Map<TableBucket, HostedReplica> allReplicas = new ConcurrentHashMap<>();
 
+    /**
+     * The arrow compression info of each table with online replicas on this server, which is shared
+     * by the replicas of the table and released once the last replica of the table is deleted or
+     * taken offline, e.g., the table is dropped.
+     */
+    @GuardedBy("replicaStateChangeLock")
+    private final Map<Long, SharedArrowCompressionInfo> arrowCompressionInfos = new HashMap<>();
+
     private final TabletServerMetadataCache metadataCache;
     private final ExecutorService ioExecutor;
     private final ProjectionPushdownCache projectionsCache = new ProjectionPushdownCache();
@@ -186,6 +213,7 @@ public class ReplicaManager implements ServerReconfigurable {
     private final ReplicaFetcherManager replicaFetcherManager;
     // The manager used to manager the replica alter, especially the isr expand and shrink.
     private final AdjustIsrManager adjustIsrManager;
+    private final CoordinatorGateway coordinatorGateway;
     private final FatalErrorHandler fatalErrorHandler;
 
     /** epoch of the coordinator that last changed the leader. */
@@ -209,6 +237,13 @@ public class ReplicaManager implements ServerReconfigurable {
 
     private final Clock clock;
 
+    // whether to filter the rows of the arrow batches fetched with a filter, and the CPU budget
+    private final boolean logFetchRowFilterEnabled;
+    private final Duration logFetchRowFilterCpuBudget;
+
+    // the registry of kv scanner sessions opened on this server.
+    private final ScannerManager scannerManager;
+
     public ReplicaManager(
             Configuration conf,
             Scheduler scheduler,
@@ -240,7 +275,7 @@ public class ReplicaManager implements ServerReconfigurable {
                 fatalErrorHandler,
                 serverMetricGroup,
                 userMetrics,
-                new RemoteLogManager(conf, zkClient, coordinatorGateway, clock, ioExecutor),
+                new RemoteLogManager(conf, zkClient, coordinatorGateway, clock),
                 clock,
                 ioExecutor);
     }
@@ -272,11 +307,12 @@ public class ReplicaManager implements ServerReconfigurable {
         this.serverId = serverId;
         this.metadataCache = metadataCache;
 
-        this.highWatermarkCheckpoint =
-                new OffsetCheckpointFile(
-                        new File(
-                                logManager.getDataDir().getAbsolutePath(),
-                                HIGH_WATERMARK_CHECKPOINT_FILE_NAME));
+        for (File dataDir : logManager.getDataDirs().getOnlineDirs()) {
+            highWatermarkCheckpoints.put(
+                    dataDir,
+                    new OffsetCheckpointFile(
+                            new File(dataDir, HIGH_WATERMARK_CHECKPOINT_FILE_NAME)));
+        }
         this.delayedWriteManager =
                 new DelayedOperationManager<>(
                         "delay write",
@@ -297,6 +333,7 @@ public class ReplicaManager implements ServerReconfigurable {
                         this,
                         (nodeId) -> metadataCache.getTabletServer(nodeId, internalListenerName));
         this.adjustIsrManager = new AdjustIsrManager(scheduler, coordinatorGateway, serverId);
+        this.coordinatorGateway = coordinatorGateway;
         this.fatalErrorHandler = fatalErrorHandler;
 
         // for kv snapshot
@@ -310,7 +347,18 @@ public class ReplicaManager implements ServerReconfigurable {
         this.clock = clock;
         this.ioExecutor = ioExecutor;
         this.minInSyncReplicas = conf.get(ConfigOptions.LOG_REPLICA_MIN_IN_SYNC_REPLICAS_NUMBER);
+        this.logFetchRowFilterEnabled = conf.get(ConfigOptions.LOG_FETCH_ROW_FILTER_ENABLED);
+        this.logFetchRowFilterCpuBudget = conf.get(ConfigOptions.LOG_FETCH_ROW_FILTER_CPU_BUDGET);
+        this.scannerManager = new ScannerManager(conf, clock);
         registerMetrics();
+        // the replicas are taken offline asynchronously, as the listener is called by the thread
+        // hitting the I/O error which may hold the lock of a replica
+        logManager
+                .getDataDirs()
+                .registerFailureListener(
+                        dataDir ->
+                                scheduler.scheduleOnce(
+                                        "data-dir-failure", () -> handleDataDirFailure(dataDir)));
     }
 
     public void startup() {
@@ -322,6 +370,14 @@ public class ReplicaManager implements ServerReconfigurable {
                 this::maybeShrinkIsr,
                 0L,
                 conf.get(ConfigOptions.LOG_REPLICA_MAX_LAG_TIME).toMillis() / 2);
+
+        // start up kv scanner expiration thread.
+        long scannerTtlMs = scannerManager.getScannerTtlMs();
+        scheduler.schedule(
+                "kv-scanner-expiration",
+                scannerManager::expireIdleScanners,
+                scannerTtlMs,
+                Math.max(scannerTtlMs / 2, 1));
     }
 
     public RemoteLogManager getRemoteLogManager() {
@@ -336,6 +392,11 @@ public class ReplicaManager implements ServerReconfigurable {
         return minInSyncReplicas;
     }
 
+    @VisibleForTesting
+    public ScannerManager getScannerManager() {
+        return scannerManager;
+    }
+
     @VisibleForTesting
     public int getCoordinatorEpoch() {
         return coordinatorEpoch;
@@ -380,6 +441,14 @@ public class ReplicaManager implements ServerReconfigurable {
                 MetricNames.REPLICA_LEADER_COUNT,
                 () -> onlineReplicas().filter(Replica::isLeader).count());
         serverMetricGroup.gauge(MetricNames.REPLICA_COUNT, allReplicas::size);
+        serverMetricGroup.gauge(
+                MetricNames.OFFLINE_REPLICA_COUNT,
+                () ->
+                        allReplicas.values().stream()
+                                .filter(r -> r instanceof OfflineReplica)
+                                .count());
+        serverMetricGroup.gauge(
+                MetricNames.OFFLINE_DATA_DIR_COUNT, logManager.getDataDirs()::getOfflineDirCount);
         serverMetricGroup.gauge(MetricNames.WRITE_ID_COUNT, this::writerIdCount);
         serverMetricGroup.gauge(MetricNames.DELAYED_WRITE_COUNT, delayedWriteManager::numDelayed);
         serverMetricGroup.gauge(
@@ -870,16 +939,13 @@ public class ReplicaManager implements ServerReconfigurable {
         Map<TableBucket, PrefixLookupResultForBucket> result = new HashMap<>();
         for (Map.Entry<TableBucket, List<byte[]>> entry : entriesPerBucket.entrySet()) {
             TableBucket tb = entry.getKey();
-            List<List<byte[]>> resultForBucket = new ArrayList<>();
             try {
                 Replica replica = getReplicaOrException(tb);
                 validateClientVersionForPkTable(apiVersion, replica.getTableInfo());
                 tableMetrics = replica.tableMetrics();
                 tableMetrics.totalPrefixLookupRequests().inc();
-                for (byte[] prefixKey : entry.getValue()) {
-                    List<byte[]> resultForPerKey = replica.prefixLookup(prefixKey);
-                    resultForBucket.add(resultForPerKey);
-                }
+                // all the prefixes of the bucket are looked up by one iterator of the kv
+                List<List<byte[]>> resultForBucket = replica.prefixLookups(entry.getValue());
                 result.put(tb, new PrefixLookupResultForBucket(tb, resultForBucket));
             } catch (Exception e) {
                 if (isUnexpectedException(e)) {
@@ -1372,6 +1438,88 @@ public class ReplicaManager implements ServerReconfigurable {
         responseCallback.accept(limitScanResultForBucket);
     }
 
+    /**
+     * Opens a new kv scanner session on the given bucket and reads the first chunk of it.
+     *
+     * @param limit the maximum number of records to scan, null if no limit
+     */
+    public void openKvScan(
+            TableBucket tableBucket,
+            @Nullable Long limit,
+            int batchSizeBytes,
+            Consumer<ScanKvResultForBucket> responseCallback) {
+        ScanKvResultForBucket result;
+        try {
+            Replica replica = getReplicaOrException(tableBucket);
+            ScannerContext context =
+                    scannerManager.createScanner(() -> replica.openKvScanner(limit));
+            result = readKvScan(context, batchSizeBytes, true);
+        } catch (Exception e) {
+            if (isUnexpectedException(e)) {
+                LOG.error("Error opening kv scan on replica {}", tableBucket, e);
+            }
+            result = new ScanKvResultForBucket(tableBucket, ApiError.fromThrowable(e));
+        }
+        responseCallback.accept(result);
+    }
+
+    /** Gets the bucket scanned by an existing kv scanner session. */
+    public TableBucket getKvScannerBucket(byte[] scannerId) {
+        return scannerManager.getScannerBucket(scannerId);
+    }
+
+    /**
+     * Reads the next chunk of an existing kv scanner session, or closes the session if {@code
+     * closeScanner} is true.
+     */
+    public void continueKvScan(
+            byte[] scannerId,
+            int callSeqId,
+            int batchSizeBytes,
+            boolean closeScanner,
+            Consumer<ScanKvResultForBucket> responseCallback) {
+        ScannerContext context = null;
+        TableBucket tableBucket = null;
+        ScanKvResultForBucket result;
+        try {
+            // the scanner may be unknown or expired, which is answered as an error of the scan
+            context = scannerManager.getScanner(scannerId, callSeqId);
+            tableBucket = context.getScanner().getTableBucket();
+            if (closeScanner) {
+                scannerManager.closeScanner(context);
+                result = new ScanKvResultForBucket(tableBucket, scannerId, null, false, null);
+            } else {
+                result = readKvScan(context, batchSizeBytes, false);
+            }
+        } catch (Exception e) {
+            if (isUnexpectedException(e)) {
+                LOG.error("Error reading kv scan on replica {}", tableBucket, e);
+            }
+            if (context != null) {
+                scannerManager.closeScanner(context);
+            }
+            result = new ScanKvResultForBucket(tableBucket, ApiError.fromThrowable(e));
+        }
+        responseCallback.accept(result);
+    }
+
+    private ScanKvResultForBucket readKvScan(
+            ScannerContext context, int batchSizeBytes, boolean firstBatch) throws IOException {
+        KvScanner scanner = context.getScanner();
+        DefaultValueRecordBatch values = scanner.nextBatch(batchSizeBytes);
+        boolean hasMoreResults = scanner.hasMoreRecords();
+        if (!hasMoreResults) {
+            // the scan is complete, release the snapshot eagerly
+            scannerManager.closeScanner(context);
+        }
+        return new ScanKvResultForBucket(
+                scanner.getTableBucket(),
+                context.getScannerId(),
+                values,
+                hasMoreResults,
+                firstBatch ? scanner.getLogOffset() : null);
+    }
+
     public Map<TableBucket, LogReadResult> readFromLog(
             FetchParams fetchParams,
             Map<TableBucket, FetchReqInfo> bucketFetchInfo,
@@ -1379,98 +1527,124 @@ public class ReplicaManager implements ServerReconfigurable {
         Map<TableBucket, LogReadResult> logReadResult = new HashMap<>();
         boolean isFromFollower = fetchParams.isFromFollower();
         int limitBytes = fetchParams.maxFetchBytes();
-        for (Map.Entry<TableBucket, FetchReqInfo> entry : bucketFetchInfo.entrySet()) {
-            TableBucket tb = entry.getKey();
-            TableMetricGroup tableMetrics = null;
-            Replica replica = null;
-            FetchReqInfo fetchReqInfo = entry.getValue();
-            long fetchOffset = fetchReqInfo.getFetchOffset();
-            int adjustedMaxBytes = Math.min(limitBytes, fetchReqInfo.getMaxBytes());
-            try {
-                replica = getReplicaOrException(tb);
-                tableMetrics = replica.tableMetrics();
-                tableMetrics.totalFetchLogRequests().inc();
-                LOG.trace(
-                        "Fetching log record for replica {}, offset {}",
-                        tb,
-                        fetchReqInfo.getFetchOffset());
-                // todo: change here to modified project fields.
-                if (fetchReqInfo.getProjectFields() != null
-                        && replica.getLogFormat() != LogFormat.ARROW) {
-                    throw new InvalidColumnProjectionException(
-                            String.format(
-                                    "Column projection is only supported for ARROW format, but the table %s is %s format.",
-                                    replica.getTablePath(), replica.getLogFormat()));
-                }
-
-                fetchParams.setCurrentFetch(
-                        tb.getTableId(),
-                        fetchOffset,
-                        adjustedMaxBytes,
-                        replica.getSchemaGetter(),
-                        replica.getArrowCompressionInfo(),
-                        fetchReqInfo.getProjectFields(),
-                        projectionsCache);
-                LogReadInfo readInfo = replica.fetchRecords(fetchParams);
-
-                // Once we read from a non-empty bucket, we stop ignoring request and bucket
-                // level size limits.
-                FetchDataInfo fetchedData = readInfo.getFetchedData();
-                int recordBatchSize = fetchedData.getRecords().sizeInBytes();
-                if (recordBatchSize > 0) {
-                    fetchParams.markReadOneMessage();
-                }
-                limitBytes = Math.max(0, limitBytes - recordBatchSize);
-                FetchLogResultForBucket fetchLogResult;
-                if (fetchedData.hasFilteredEndOffset()) {
-                    fetchLogResult =
-                            new FetchLogResultForBucket(
-                                    tb,
-                                    fetchedData.getRecords(),
-                                    readInfo.getHighWatermark(),
-                                    fetchedData.getFilteredEndOffset());
-                } else {
-                    fetchLogResult =
-                            new FetchLogResultForBucket(
-                                    tb, fetchedData.getRecords(), readInfo.getHighWatermark());
-                }
-                logReadResult.put(
-                        tb,
-                        new LogReadResult(fetchLogResult, fetchedData.getFetchOffsetMetadata()));
+        BufferAllocator rowFilterAllocator = null;
+        ArrowWriterPool rowFilterWriterPool = null;
+        if (logFetchRowFilterEnabled && !isFromFollower) {
+            // every read of the fetch, including the re-reads of a delayed fetch, gets a new
+            // budget,
+            // the writers to rebuild the filtered rows are shared by all the buckets of the read
+            rowFilterAllocator = BufferAllocatorUtil.createBufferAllocator(null);
+            rowFilterWriterPool = new ArrowWriterPool(rowFilterAllocator);
+            fetchParams.setRowFilter(
+                    new RowFilterBudget(logFetchRowFilterCpuBudget.toNanos()), rowFilterWriterPool);
+        }
+        try {
+            for (Map.Entry<TableBucket, FetchReqInfo> entry : bucketFetchInfo.entrySet()) {
+                TableBucket tb = entry.getKey();
+                TableMetricGroup tableMetrics = null;
+                Replica replica = null;
+                FetchReqInfo fetchReqInfo = entry.getValue();
+                long fetchOffset = fetchReqInfo.getFetchOffset();
+                int adjustedMaxBytes = Math.min(limitBytes, fetchReqInfo.getMaxBytes());
+                try {
+                    replica = getReplicaOrException(tb);
+                    tableMetrics = replica.tableMetrics();
+                    tableMetrics.totalFetchLogRequests().inc();
+                    LOG.trace(
+                            "Fetching log record for replica {}, offset {}",
+                            tb,
+                            fetchReqInfo.getFetchOffset());
+                    // todo: change here to modified project fields.
+                    if (fetchReqInfo.getProjectFields() != null
+                            && replica.getLogFormat() != LogFormat.ARROW) {
+                        throw new InvalidColumnProjectionException(
+                                String.format(
+                                        "Column projection is only supported for ARROW format, but the table %s is %s format.",
+                                        replica.getTablePath(), replica.getLogFormat()));
+                    }
 
-                // update metrics
-                if (isFromFollower) {
-                    serverMetricGroup.replicationBytesOut().inc(recordBatchSize);
-                } else {
-                    tableMetrics.incLogBytesOut(recordBatchSize);
-                    userMetrics.incBytesOut(userContext, replica.getTablePath(), recordBatchSize);
-                }
-            } catch (Exception e) {
-                if (isUnexpectedException(e)) {
-                    LOG.error("Error processing log fetch operation on replica {}", tb, e);
-                    // NOTE: Failed fetch requests metric is not incremented for known exceptions
-                    // since it is supposed to indicate un-expected failure of a server in
-                    // handling a fetch request
-                    if (tableMetrics != null) {
-                        tableMetrics.failedFetchLogRequests().inc();
+                    fetchParams.setCurrentFetch(
+                            tb.getTableId(),
+                            fetchOffset,
+                            adjustedMaxBytes,
+                            replica.getSchemaGetter(),
+                            replica.getArrowCompressionInfo(),
+                            fetchReqInfo.getProjectFields(),
+                            projectionsCache);
+                    LogReadInfo readInfo = replica.fetchRecords(fetchParams);
+
+                    // Once we read from a non-empty bucket, we stop ignoring request and bucket
+                    // level size limits.
+                    FetchDataInfo fetchedData = readInfo.getFetchedData();
+                    int recordBatchSize = fetchedData.getRecords().sizeInBytes();
+                    if (recordBatchSize > 0) {
+                        fetchParams.markReadOneMessage();
+                    }
+                    limitBytes = Math.max(0, limitBytes - recordBatchSize);
+                    FetchLogResultForBucket fetchLogResult;
+                    if (fetchedData.hasFilteredEndOffset()) {
+                        fetchLogResult =
+                                new FetchLogResultForBucket(
+                                        tb,
+                                        fetchedData.getRecords(),
+                                        readInfo.getHighWatermark(),
+                                        fetchedData.getFilteredEndOffset());
+                    } else {
+                        fetchLogResult =
+                                new FetchLogResultForBucket(
+                                        tb, fetchedData.getRecords(), readInfo.getHighWatermark());
+                    }
+                    logReadResult.put(
+                            tb,
+                            new LogReadResult(
+                                    fetchLogResult, fetchedData.getFetchOffsetMetadata()));
+
+                    // update metrics
+                    if (isFromFollower) {
+                        serverMetricGroup.replicationBytesOut().inc(recordBatchSize);
+                    } else {
+                        tableMetrics.incLogBytesOut(recordBatchSize);
+                        userMetrics.incBytesOut(
+                                userContext, replica.getTablePath(), recordBatchSize);
+                    }
+                } catch (Exception e) {
+                    if (isUnexpectedException(e)) {
+                        LOG.error("Error processing log fetch operation on replica {}", tb, e);
+                        // NOTE: Failed fetch requests metric is not incremented for known
+                        // exceptions
+                        // since it is supposed to indicate un-expected failure of a server in
+                        // handling a fetch request
+                        if (tableMetrics != null) {
+                            tableMetrics.failedFetchLogRequests().inc();
+                        }
                     }
-                }
 
-                FetchLogResultForBucket result;
-                if (replica != null && e instanceof LogOffsetOutOfRangeException) {
-                    result = handleFetchOutOfRangeException(replica, fetchOffset, e);
-                } else {
-                    result = new FetchLogResultForBucket(tb, ApiError.fromThrowable(e));
+                    FetchLogResultForBucket result;
+                    if (replica != null && e instanceof LogOffsetOutOfRangeException) {
+                        result =
+                                handleFetchOutOfRangeException(
+                                        replica, fetchParams, fetchOffset, e);
+                    } else {
+                        result = new FetchLogResultForBucket(tb, ApiError.fromThrowable(e));
+                    }
+                    logReadResult.put(
+                            tb,
+                            new LogReadResult(result, LogOffsetMetadata.UNKNOWN_OFFSET_METADATA));
                 }
-                logReadResult.put(
-                        tb, new LogReadResult(result, LogOffsetMetadata.UNKNOWN_OFFSET_METADATA));
+            }
+        } finally {
+            if (rowFilterWriterPool != null) {
+                // the filtered rows are rebuilt into heap buffers, which outlive the writers
+                fetchParams.setRowFilter(null, null);
+                rowFilterWriterPool.close();
+                rowFilterAllocator.close();
             }
         }
         return logReadResult;
     }
 
     private FetchLogResultForBucket handleFetchOutOfRangeException(
-            Replica replica, long fetchOffset, Exception e) {
+            Replica replica, FetchParams fetchParams, long fetchOffset, Exception e) {
         TableBucket tb = replica.getTableBucket();
         if (fetchOffset == FetchParams.FETCH_FROM_EARLIEST_OFFSET) {
             fetchOffset = replica.getLogStartOffset();
@@ -1488,6 +1662,15 @@ public class ReplicaManager implements ServerReconfigurable {
         // of RemoteLogSegment. For client fetcher, it will fetch the log from remote in client.
         // For follower, it can update its local metadata to adjust the next fetch offset.
         else if (canFetchFromRemoteLog(replica, fetchOffset)) {
+            FetchDataInfo remoteFetchedData =
+                    mayReadFromRemoteSegmentCache(replica, fetchParams, fetchOffset);
+            if (remoteFetchedData != null) {
+                return new FetchLogResultForBucket(
+                        tb,
+                        remoteFetchedData.getRecords(),
+                        replica.getLogHighWatermark(),
+                        remoteFetchedData.getFilteredEndOffset());
+            }
             RemoteLogFetchInfo remoteLogFetchInfo = fetchLogFromRemote(replica, fetchOffset);
             if (remoteLogFetchInfo != null) {
                 return new FetchLogResultForBucket(
@@ -1514,6 +1697,50 @@ public class ReplicaManager implements ServerReconfigurable {
         return replica.getLogTablet().canFetchFromRemoteLog(fetchOffset);
     }
 
+    /**
+     * Reads the remote log for the client fetches with projection or filter through the remote log
+     * segment cache, so that only the projected and filtered records are returned to the client.
+     * Returns null if the cache is disabled or the segment is not cached yet, the client reads the
+     * remote log segments by itself then.
+     */
+    private @Nullable FetchDataInfo mayReadFromRemoteSegmentCache(
+            Replica replica, FetchParams fetchParams, long fetchOffset) {
+        RemoteLogSegmentCache remoteLogSegmentCache = remoteLogManager.getRemoteLogSegmentCache();
+        TableBucket tb = replica.getTableBucket();
+        if (remoteLogSegmentCache == null
+                || fetchParams.isFromFollower()
+                || (fetchParams.projection() == null
+                        && fetchParams.getFilterInfo(tb.getTableId()) == null)) {
+            return null;
+        }
+
+        List<RemoteLogSegment> remoteLogSegmentList =
+                remoteLogManager.relevantRemoteLogSegments(tb, fetchOffset);
+        if (remoteLogSegmentList.isEmpty()) {
+            return null;
+        }
+        try {
+            FetchDataInfo fetchDataInfo =
+                    replica.fetchRemoteRecords(
+                            fetchParams,
+                            fetchOffset,
+                            remoteLogSegmentList.get(0),
+                            remoteLogSegmentCache);
+            if (fetchDataInfo != null && fetchDataInfo.getRecords().sizeInBytes() > 0) {
+                fetchParams.markReadOneMessage();
+            }
+            return fetchDataInfo;
+        } catch (Exception e) {
+            LOG.warn(
+                    "Failed to read remote log of bucket {} from offset {} through the segment "
+                            + "cache, fall back to let the client read the remote log.",
+                    tb,
+                    fetchOffset,
+                    e);
+            return null;
+        }
+    }
+
     private @Nullable RemoteLogFetchInfo fetchLogFromRemote(Replica replica, long fetchOffset) {
         List<RemoteLogSegment> remoteLogSegmentList =
                 remoteLogManager.relevantRemoteLogSegments(replica.getTableBucket(), fetchOffset);
@@ -1546,7 +1773,9 @@ public class ReplicaManager implements ServerReconfigurable {
     private boolean isUnexpectedException(Exception e) {
         return !(e instanceof UnknownTableOrBucketException
                 || e instanceof NotLeaderOrFollowerException
-                || e instanceof LogOffsetOutOfRangeException);
+                || e instanceof LogOffsetOutOfRangeException
+                || e instanceof UnknownScannerIdException
+                || e instanceof ScannerExpiredException);
     }
 
     /**
@@ -1564,25 +1793,118 @@ public class ReplicaManager implements ServerReconfigurable {
         }
     }
 
-    /** Flushes the high watermark value for all buckets to the high watermark checkpoint file. */
+    /**
+     * Flushes the high watermark value for all buckets to the high watermark checkpoint file of the
+     * data directory of each bucket.
+     */
     @VisibleForTesting
     void checkpointHighWatermarks() {
         List<Replica> onlineReplicasList = getOnlineReplicaList();
-        Map<TableBucket, Long> highWatermarks = new HashMap<>();
+        if (onlineReplicasList.isEmpty()) {
+            return;
+        }
+
+        Map<File, Map<TableBucket, Long>> highWatermarksPerDir = new HashMap<>();
+        for (File dataDir : highWatermarkCheckpoints.keySet()) {
+            highWatermarksPerDir.put(dataDir, new HashMap<>());
+        }
         for (Replica replica : onlineReplicasList) {
-            LogTablet logTablet = replica.getLogTablet();
-            highWatermarks.put(logTablet.getTableBucket(), logTablet.getHighWatermark());
+            Map<TableBucket, Long> highWatermarks = highWatermarksPerDir.get(replica.getDataDir());
+            if (highWatermarks != null) {
+                LogTablet logTablet = replica.getLogTablet();
+                highWatermarks.put(logTablet.getTableBucket(), logTablet.getHighWatermark());
+            }
         }
 
-        if (!highWatermarks.isEmpty()) {
+        for (Map.Entry<File, Map<TableBucket, Long>> entry : highWatermarksPerDir.entrySet()) {
+            File dataDir = entry.getKey();
+            OffsetCheckpointFile highWatermarkCheckpoint = highWatermarkCheckpoints.get(dataDir);
+            if (highWatermarkCheckpoint == null) {
+                // the directory went offline concurrently
+                continue;
+            }
             try {
-                highWatermarkCheckpoint.write(highWatermarks);
+                highWatermarkCheckpoint.write(entry.getValue());
             } catch (Exception e) {
-                throw new LogStorageException("Error while writing to high watermark file", e);
+                if (!logManager.getDataDirs().handleIOError(dataDir, e)) {
+                    throw new LogStorageException("Error while writing to high watermark file", e);
+                }
             }
         }
     }
 
+    /**
+     * Takes the replicas on the failed data directory offline. The replicas are closed without
+     * deleting their data, and the requests to them fail with a {@link StorageException} until the
+     * server is restarted. The offline replicas are reported to the coordinator server, which
+     * re-elects the leaders of the buckets on the other replicas.
+     */
+    @VisibleForTesting
+    void handleDataDirFailure(File dataDir) {
+        LOG.error("Taking the replicas on the failed data directory {} offline.", dataDir);
+        inLock(
+                replicaStateChangeLock,
+                () -> {
+                    highWatermarkCheckpoints.remove(dataDir);
+                    Map<TableBucket, Replica> offlineReplicas = new HashMap<>();
+                    for (Map.Entry<TableBucket, HostedReplica> entry : allReplicas.entrySet()) {
+                        if (entry.getValue() instanceof OnlineReplica) {
+                            Replica replica = ((OnlineReplica) entry.getValue()).getReplica();
+                            if (replica.getDataDir().equals(dataDir)) {
+                                offlineReplicas.put(entry.getKey(), replica);
+                            }
+                        }
+                    }
+
+                    replicaFetcherManager.removeFetcherForBuckets(offlineReplicas.keySet());
+                    for (Map.Entry<TableBucket, Replica> entry : offlineReplicas.entrySet()) {
+                        TableBucket tb = entry.getKey();
+                        Replica replica = entry.getValue();
+                        allReplicas.put(tb, new OfflineReplica());
+                        remoteLogManager.stopReplica(replica, false);
+                        replica.closeOffline();
+                        releaseArrowCompressionInfo(tb.getTableId());
+                        serverMetricGroup.removeTableBucketMetricGroup(
+                                replica.getPhysicalTablePath().getTablePath(), tb);
+                    }
+                    // close the tablets not hosted by a replica, e.g., not assigned yet
+                    kvManager.closeKvs(dataDir);
+                    logManager.closeLogs(dataDir);
+                    LOG.error(
+                            "Took {} replicas on the failed data directory {} offline: {}",
+                            offlineReplicas.size(),
+                            dataDir,
+                            offlineReplicas.keySet());
+                    reportOfflineReplicas(offlineReplicas.keySet());
+                });
+    }
+
+    private void reportOfflineReplicas(Set<TableBucket> offlineBuckets) {
+        if (offlineBuckets.isEmpty()) {
+            return;
+        }
+        ReportOfflineReplicasRequest request =
+                new ReportOfflineReplicasRequest()
+                        .setTabletServerId(serverId)
+                        .addAllOfflineBuckets(
+                                offlineBuckets.stream()
+                                        .map(ServerRpcMessageUtils::fromTableBucket)
+                                        .collect(Collectors.toList()));
+        // if the report fails, the coordinator server still learns the offline replicas from the
+        // errors of the next NotifyLeaderAndIsr request to this server, e.g., after a failover
+        coordinatorGateway
+                .reportOfflineReplicas(request)
+                .whenComplete(
+                        (response, e) -> {
+                            if (e != null) {
+                                LOG.warn(
+                                        "Failed to report the offline replicas {} to the coordinator server.",
+                                        offlineBuckets,
+                                        e);
+                            }
+                        });
+    }
+
     /**
      * A list over all non-offline replicas. This is a weakly consistent list. A replica made
      * offline after the iterator has been constructed could still be included in the list.
@@ -1841,6 +2163,7 @@ public class ReplicaManager implements ServerReconfigurable {
                     serverMetricGroup.removeTableBucketMetricGroup(
                             replicaToDelete.getPhysicalTablePath().getTablePath(), tb);
                     replicaToDelete.delete();
+                    releaseArrowCompressionInfo(tb.getTableId());
                     Path tabletParentDir = replicaToDelete.getTabletParentDir();
                     if (tb.getPartitionId() != null) {
                         deletedPartitionIds.put(tb.getPartitionId(), tabletParentDir);
@@ -1925,27 +2248,36 @@ public class ReplicaManager implements ServerReconfigurable {
                 BucketMetricGroup bucketMetricGroup =
                         serverMetricGroup.addTableBucketMetricGroup(
                                 physicalTablePath, tb, isKvTable);
-                Replica replica =
-                        new Replica(
-                                physicalTablePath,
-                                tb,
-                                logManager,
-                                isKvTable ? kvManager : null,
-                                conf.get(ConfigOptions.LOG_REPLICA_MAX_LAG_TIME).toMillis(),
-                                this::getMinInSyncReplicas,
-                                serverId,
-                                new OffsetCheckpointFile.LazyOffsetCheckpoints(
-                                        highWatermarkCheckpoint),
-                                delayedWriteManager,
-                                delayedFetchLogManager,
-                                adjustIsrManager,
-                                kvSnapshotContext,
-                                metadataCache,
-                                fatalErrorHandler,
-                                bucketMetricGroup,
-                                tableInfo,
-                                clock,
-                                remoteLogManager);
+                ArrowCompressionInfo arrowCompressionInfo = acquireArrowCompressionInfo(tableInfo);
+                Replica replica;
+                try {
+                    replica =
+                            new Replica(
+                                    physicalTablePath,
+                                    tb,
+                                    logManager,
+                                    isKvTable ? kvManager : null,
+                                    conf.get(ConfigOptions.LOG_REPLICA_MAX_LAG_TIME).toMillis(),
+                                    this::getMinInSyncReplicas,
+                                    serverId,
+                                    new OffsetCheckpointFile.LazyOffsetCheckpoints(
+                                            highWatermarkCheckpoints.values()),
+                                    isNewBucket(data),
+                                    delayedWriteManager,
+                                    delayedFetchLogManager,
+                                    adjustIsrManager,
+                                    kvSnapshotContext,
+                                    metadataCache,
+                                    fatalErrorHandler,
+                                    bucketMetricGroup,
+                                    tableInfo,
+                                    arrowCompressionInfo,
+                                    clock,
+                                    remoteLogManager);
+                } catch (Exception e) {
+                    releaseArrowCompressionInfo(tb.getTableId());
+                    throw e;
+                }
                 allReplicas.put(tb, new OnlineReplica(replica));
                 replicaOpt = Optional.of(replica);
             } else if (hostedReplica instanceof OnlineReplica) {
@@ -1960,6 +2292,47 @@ public class ReplicaManager implements ServerReconfigurable {
         return replicaOpt;
     }
 
+    @GuardedBy("replicaStateChangeLock")
+    private ArrowCompressionInfo acquireArrowCompressionInfo(TableInfo tableInfo) {
+        SharedArrowCompressionInfo shared =
+                arrowCompressionInfos.computeIfAbsent(
+                        tableInfo.getTableId(),
+                        k ->
+                                new SharedArrowCompressionInfo(
+                                        tableInfo.getTableConfig().getArrowCompressionInfo()));
+        shared.replicas++;
+        return shared.compressionInfo;
+    }
+
+    @GuardedBy("replicaStateChangeLock")
+    private void releaseArrowCompressionInfo(long tableId) {
+        SharedArrowCompressionInfo shared = arrowCompressionInfos.get(tableId);
+        if (shared != null && --shared.replicas == 0) {
+            arrowCompressionInfos.remove(tableId);
+            shared.compressionInfo.close();
+        }
+    }
+
+    @VisibleForTesting
+    @Nullable
+    ArrowCompressionInfo getArrowCompressionInfo(long tableId) {
+        return inLock(
+                replicaStateChangeLock,
+                () -> {
+                    SharedArrowCompressionInfo shared = arrowCompressionInfos.get(tableId);
+                    return shared == null ? null : shared.compressionInfo;
+                });
+    }
+
+    /**
+     * Whether the bucket is newly created, i.e. it has never changed its leader or replicas, so it
+     * can't have data on an offline data directory of this server.
+     */
+    private static boolean isNewBucket(NotifyLeaderAndIsrData data) {
+        return data.getLeaderEpoch() == LeaderAndIsr.INITIAL_LEADER_EPOCH
+                && data.getBucketEpoch() == LeaderAndIsr.INITIAL_BUCKET_EPOCH;
+    }
+
     public Replica getReplicaOrException(TableBucket tableBucket) {
         HostedReplica replica = getReplica(tableBucket);
         if (replica instanceof OnlineReplica) {
@@ -2032,12 +2405,23 @@ public class ReplicaManager implements ServerReconfigurable {
     /** This TabletServer hosts the {@link Replica}, but it is in an offline log directory. */
     public static final class OfflineReplica implements HostedReplica {}
 
+    /** The arrow compression info of a table and the number of its replicas sharing it. */
+    private static final class SharedArrowCompressionInfo {
+        private final ArrowCompressionInfo compressionInfo;
+        private int replicas;
+
+        private SharedArrowCompressionInfo(ArrowCompressionInfo compressionInfo) {
+            this.compressionInfo = compressionInfo;
+        }
+    }
+
     public void shutdown() throws InterruptedException {
         // Close the resources for snapshot kv
         kvSnapshotResource.close();
         replicaFetcherManager.shutdown();
         delayedWriteManager.shutdown();
         delayedFetchLogManager.shutdown();
+        scannerManager.close();
 
         // Checkpoint highWatermark.
         checkpointHighWatermarks();
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.server.tablet;
+
+import org.apache.fluss.exception.AuthorizationException;
+import org.apache.fluss.metadata.TablePath;
+import org.apache.fluss.rpc.gateway.CoordinatorGateway;
+import org.apache.fluss.rpc.netty.server.Session;
+import org.apache.fluss.security.acl.OperationType;
+import org.apache.fluss.server.metadata.TabletServerMetadataCache;
+import org.apache.fluss.server.replica.ReplicaManager;
+
+/**
+ * The services of a tablet server shared with the network protocol plugins other than the Fluss
+ * protocol, e.g., the Kafka protocol.
+ *
+ * <p>The {@link ReplicaManager} doesn't authorize the operations on the replicas, so the plugins
+ * authorize their requests with {@link #authorizeTable} before, like {@link TabletService} does for
+ * the requests of the Fluss protocol.
+ */
+public interface TabletServerContext {
+
+    /**
+     * Authorizes the operation on the table for the principal of the given session.
+     *
+     * @throws AuthorizationException if the principal has no permission for the operation
+     */
+    void authorizeTable(Session session, OperationType operationType, TablePath tablePath)
+            throws AuthorizationException;
+
+    ReplicaManager getReplicaManager();
+
+    TabletServerMetadataCache getMetadataCache();
+
+    /**
+     * Returns the gateway to the coordinator server, which the plugins use to create the tables
+     * they need, e.g., the table storing the offsets of the Kafka consumer groups.
+     */
+    CoordinatorGateway getCoordinatorGateway();
+}
@@ -19,6 +19,9 @@ package org.apache.fluss.server.tablet;
 
 import org.apache.fluss.cluster.ServerType;
 import org.apache.fluss.exception.AuthorizationException;
+import org.apache.fluss.exception.InvalidScanRequestException;
+import org.apache.fluss.exception.ScannerExpiredException;
+import org.apache.fluss.exception.UnknownScannerIdException;
 import org.apache.fluss.exception.UnknownTableOrBucketException;
 import org.apache.fluss.fs.FileSystem;
 import org.apache.fluss.metadata.TableBucket;
@@ -29,6 +32,8 @@ import org.apache.fluss.rpc.entity.FetchLogResultForBucket;
 import org.apache.fluss.rpc.entity.LookupResultForBucket;
 import org.apache.fluss.rpc.entity.PrefixLookupResultForBucket;
 import org.apache.fluss.rpc.entity.ResultForBucket;
+import org.apache.fluss.rpc.entity.ScanKvResultForBucket;
+import org.apache.fluss.rpc.gateway.CoordinatorGateway;
 import org.apache.fluss.rpc.gateway.TabletServerGateway;
 import org.apache.fluss.rpc.messages.FetchLogRequest;
 import org.apache.fluss.rpc.messages.FetchLogResponse;
@@ -52,6 +57,7 @@ import org.apache.fluss.rpc.messages.NotifyLeaderAndIsrRequest;
 import org.apache.fluss.rpc.messages.NotifyLeaderAndIsrResponse;
 import org.apache.fluss.rpc.messages.NotifyRemoteLogOffsetsRequest;
 import org.apache.fluss.rpc.messages.NotifyRemoteLogOffsetsResponse;
+import org.apache.fluss.rpc.messages.PbScanReqForBucket;
 import org.apache.fluss.rpc.messages.PrefixLookupRequest;
 import org.apache.fluss.rpc.messages.PrefixLookupResponse;
 import org.apache.fluss.rpc.messages.ProduceLogRequest;
@@ -64,6 +70,7 @@ import org.apache.fluss.rpc.messages.StopReplicaRequest;
 import org.apache.fluss.rpc.messages.StopReplicaResponse;
 import org.apache.fluss.rpc.messages.UpdateMetadataRequest;
 import org.apache.fluss.rpc.messages.UpdateMetadataResponse;
+import org.apache.fluss.rpc.netty.server.Session;
 import org.apache.fluss.rpc.protocol.ApiError;
 import org.apache.fluss.rpc.protocol.Errors;
 import org.apache.fluss.rpc.protocol.MergeMode;
@@ -126,17 +133,23 @@ import static org.apache.fluss.server.utils.ServerRpcMessageUtils.makeNotifyLead
 import static org.apache.fluss.server.utils.ServerRpcMessageUtils.makePrefixLookupResponse;
 import static org.apache.fluss.server.utils.ServerRpcMessageUtils.makeProduceLogResponse;
 import static org.apache.fluss.server.utils.ServerRpcMessageUtils.makePutKvResponse;
+import static org.apache.fluss.server.utils.ServerRpcMessageUtils.makeScanKvResponse;
 import static org.apache.fluss.server.utils.ServerRpcMessageUtils.makeStopReplicaResponse;
 import static org.apache.fluss.server.utils.ServerRpcMessageUtils.toLookupData;
 import static org.apache.fluss.server.utils.ServerRpcMessageUtils.toPrefixLookupData;
 
 /** An RPC Gateway service for tablet server. */
-public final class TabletService extends RpcServiceBase implements TabletServerGateway {
+public final class TabletService extends RpcServiceBase
+        implements TabletServerGateway, TabletServerContext {
+
+    /** The max bytes of a ScanKv response if the request doesn't specify it. */
+    private static final int DEFAULT_SCAN_KV_BATCH_SIZE_BYTES = 4 * 1024 * 1024;
 
     private final String serviceName;
     private final ReplicaManager replicaManager;
     private final TabletServerMetadataCache metadataCache;
     private final TabletServerMetadataProvider metadataFunctionProvider;
+    private final CoordinatorGateway coordinatorGateway;
 
     public TabletService(
             int serverId,
@@ -147,7 +160,8 @@ public final class TabletService extends RpcServiceBase implements TabletServerG
             MetadataManager metadataManager,
             @Nullable Authorizer authorizer,
             DynamicConfigManager dynamicConfigManager,
-            ExecutorService ioExecutor) {
+            ExecutorService ioExecutor,
+            CoordinatorGateway coordinatorGateway) {
         super(
                 remoteFileSystem,
                 ServerType.TABLET_SERVER,
@@ -161,6 +175,7 @@ public final class TabletService extends RpcServiceBase implements TabletServerG
         this.metadataCache = metadataCache;
         this.metadataFunctionProvider =
                 new TabletServerMetadataProvider(zkClient, metadataManager, metadataCache);
+        this.coordinatorGateway = coordinatorGateway;
     }
 
     @Override
@@ -171,6 +186,28 @@ public final class TabletService extends RpcServiceBase implements TabletServerG
     @Override
     public void shutdown() {}
 
+    @Override
+    public void authorizeTable(Session session, OperationType operationType, TablePath tablePath) {
+        if (authorizer != null) {
+            authorizer.authorize(session, operationType, Resource.table(tablePath));
+        }
+    }
+
+    @Override
+    public ReplicaManager getReplicaManager() {
+        return replicaManager;
+    }
+
+    @Override
+    public TabletServerMetadataCache getMetadataCache() {
+        return metadataCache;
+    }
+
+    @Override
+    public CoordinatorGateway getCoordinatorGateway() {
+        return coordinatorGateway;
+    }
+
     @Override
     public CompletableFuture<ProduceLogResponse> produceLog(ProduceLogRequest request) {
         authorizeTable(WRITE, request.getTableId());
@@ -435,7 +472,46 @@ public final class TabletService extends RpcServiceBase implements TabletServerG
 
     @Override
     public CompletableFuture<ScanKvResponse> scanKv(ScanKvRequest request) {
-        return null;
+        if (request.hasScannerId() == request.hasBucketScanReq()) {
+            throw new InvalidScanRequestException(
+                    "Exactly one of scanner_id and bucket_scan_req must be set in ScanKvRequest.");
+        }
+        int batchSizeBytes =
+                request.hasBatchSizeBytes()
+                        ? request.getBatchSizeBytes()
+                        : DEFAULT_SCAN_KV_BATCH_SIZE_BYTES;
+        CompletableFuture<ScanKvResponse> response = new CompletableFuture<>();
+        if (request.hasBucketScanReq()) {
+            PbScanReqForBucket scanReq = request.getBucketScanReq();
+            authorizeTable(READ, scanReq.getTableId());
+            replicaManager.openKvScan(
+                    new TableBucket(
+                            scanReq.getTableId(),
+                            scanReq.hasPartitionId() ? scanReq.getPartitionId() : null,
+                            scanReq.getBucketId()),
+                    scanReq.hasLimit() ? scanReq.getLimit() : null,
+                    batchSizeBytes,
+                    value -> response.complete(makeScanKvResponse(value)));
+        } else {
+            TableBucket scannerBucket;
+            try {
+                scannerBucket = replicaManager.getKvScannerBucket(request.getScannerId());
+            } catch (UnknownScannerIdException | ScannerExpiredException e) {
+                response.complete(
+                        makeScanKvResponse(
+                                new ScanKvResultForBucket(null, ApiError.fromThrowable(e))));
+                return response;
+            }
+            // the scanner must be read by the users allowed to read its table only
+            authorizeTable(READ, scannerBucket.getTableId());
+            replicaManager.continueKvScan(
+                    request.getScannerId(),
+                    request.getCallSeqId(),
+                    batchSizeBytes,
+                    request.hasCloseScanner() && request.isCloseScanner(),
+                    value -> response.complete(makeScanKvResponse(value)));
+        }
+        return response;
     }
 
     @Override
@@ -58,6 +58,7 @@ import org.apache.fluss.rpc.entity.LookupResultForBucket;
 import org.apache.fluss.rpc.entity.PrefixLookupResultForBucket;
 import org.apache.fluss.rpc.entity.ProduceLogResultForBucket;
 import org.apache.fluss.rpc.entity.PutKvResultForBucket;
+import org.apache.fluss.rpc.entity.ScanKvResultForBucket;
 import org.apache.fluss.rpc.entity.TableStatsResultForBucket;
 import org.apache.fluss.rpc.messages.AcquireKvSnapshotLeaseRequest;
 import org.apache.fluss.rpc.messages.AcquireKvSnapshotLeaseResponse;
@@ -163,6 +164,7 @@ import org.apache.fluss.rpc.messages.PutKvRequest;
 import org.apache.fluss.rpc.messages.PutKvResponse;
 import org.apache.fluss.rpc.messages.RebalanceResponse;
 import org.apache.fluss.rpc.messages.ReleaseKvSnapshotLeaseRequest;
+import org.apache.fluss.rpc.messages.ScanKvResponse;
 import org.apache.fluss.rpc.messages.StopReplicaRequest;
 import org.apache.fluss.rpc.messages.StopReplicaResponse;
 import org.apache.fluss.rpc.messages.UpdateMetadataRequest;
@@ -1155,6 +1157,30 @@ public class ServerRpcMessageUtils {
         return putKvResponse;
     }
 
+    public static ScanKvResponse makeScanKvResponse(ScanKvResultForBucket bucketResult) {
+        ScanKvResponse scanKvResponse = new ScanKvResponse();
+        if (bucketResult.failed()) {
+            scanKvResponse.setError(bucketResult.getErrorCode(), bucketResult.getErrorMessage());
+            return scanKvResponse;
+        }
+
+        scanKvResponse
+                .setScannerId(bucketResult.getScannerId())
+                .setHasMoreResults(bucketResult.hasMoreResults());
+        DefaultValueRecordBatch valueRecords = bucketResult.getValues();
+        if (valueRecords != null && valueRecords.getRecordCount() > 0) {
+            scanKvResponse.setRecords(
+                    valueRecords.getSegment(),
+                    valueRecords.getPosition(),
+                    valueRecords.sizeInBytes());
+        }
+        Long logOffset = bucketResult.getLogOffset();
+        if (logOffset != null) {
+            scanKvResponse.setLogOffset(logOffset);
+        }
+        return scanKvResponse;
+    }
+
     public static LimitScanResponse makeLimitScanResponse(LimitScanResultForBucket bucketResult) {
         LimitScanResponse limitScanResponse = new LimitScanResponse();
 
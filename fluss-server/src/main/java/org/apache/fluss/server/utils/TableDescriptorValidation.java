@@ -17,6 +17,8 @@
 
 package org.apache.fluss.server.utils;
 
+import org.apache.fluss.compression.ArrowCompressionInfo;
+import org.apache.fluss.compression.ArrowCompressionType;
 import org.apache.fluss.config.ConfigOption;
 import org.apache.fluss.config.ConfigOptions;
 import org.apache.fluss.config.Configuration;
@@ -309,6 +311,15 @@ public class TableDescriptorValidation {
                                 + ". Expected a value between 1 and 22.");
             }
         }
+        if (tableConf.get(ConfigOptions.TABLE_LOG_ARROW_COMPRESSION_TYPE)
+                == ArrowCompressionType.ZSTD_DICT) {
+            try {
+                // validates the dictionary is present and trained
+                ArrowCompressionInfo.fromConf(tableConf).close();
+            } catch (IllegalArgumentException e) {
+                throw new InvalidConfigException(e.getMessage());
+            }
+        }
     }
 
     private static void checkMergeEngine(
@@ -179,6 +179,8 @@ public class ZooKeeperClient implements AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(ZooKeeperClient.class);
     public static final int UNKNOWN_VERSION = -2;
     private static final int MAX_BATCH_SIZE = 1024;
+    // stays well below the default 1 MB jute.maxbuffer of a ZooKeeper request
+    private static final int MAX_BATCH_BYTES = 512 * 1024;
     private static final int DEFAULT_SCHEMA_ID = 1;
 
     private final CuratorFrameworkWithUnhandledErrorListener curatorFrameworkWrapper;
@@ -633,6 +635,124 @@ public class ZooKeeperClient implements AutoCloseable {
         }
     }
 
+    /**
+     * Updates the LeaderAndIsr of the given buckets in pipelined multi() transactions sent in
+     * background. Each transaction contains at most {@link #MAX_BATCH_SIZE} buckets and {@link
+     * #MAX_BATCH_BYTES} bytes of data, and at most {@link
+     * ConfigOptions#ZOOKEEPER_MAX_INFLIGHT_REQUESTS} transactions are in flight at the same time.
+     *
+     * <p>Different from {@link #batchUpdateLeaderAndIsr}, a failed bucket doesn't fail the other
+     * buckets: the buckets of a rejected transaction are retried in transactions of their own, and
+     * only the buckets which still fail are reported.
+     *
+     * @return the buckets failed to be updated with the cause, empty if all buckets are updated
+     */
+    public Map<TableBucket, Exception> batchUpdateLeaderAndIsrInBackground(
+            Map<TableBucket, LeaderAndIsr> leaderAndIsrList, int expectedZkVersion)
+            throws Exception {
+        List<Map<TableBucket, byte[]>> batches = new ArrayList<>();
+        Map<TableBucket, byte[]> batch = new HashMap<>();
+        int batchBytes = 0;
+        for (Map.Entry<TableBucket, LeaderAndIsr> entry : leaderAndIsrList.entrySet()) {
+            byte[] data = LeaderAndIsrZNode.encode(entry.getValue());
+            if (batch.size() == MAX_BATCH_SIZE
+                    || (!batch.isEmpty() && batchBytes + data.length > MAX_BATCH_BYTES)) {
+                batches.add(batch);
+                batch = new HashMap<>();
+                batchBytes = 0;
+            }
+            batch.put(entry.getKey(), data);
+            batchBytes += data.length;
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+
+        List<Map<TableBucket, byte[]>> retries = new ArrayList<>();
+        List<KeeperException.Code> results =
+                updateLeaderAndIsrInBackground(batches, expectedZkVersion);
+        for (int i = 0; i < batches.size(); i++) {
+            if (results.get(i) != KeeperException.Code.OK) {
+                LOG.warn(
+                        "Failed to batch update LeaderAndIsr of {} buckets in Zookeeper: {}. "
+                                + "Try one by one.",
+                        batches.get(i).size(),
+                        results.get(i));
+                batches.get(i)
+                        .forEach(
+                                (tableBucket, data) ->
+                                        retries.add(Collections.singletonMap(tableBucket, data)));
+            }
+        }
+
+        Map<TableBucket, Exception> failures = new HashMap<>();
+        results = updateLeaderAndIsrInBackground(retries, expectedZkVersion);
+        for (int i = 0; i < retries.size(); i++) {
+            if (results.get(i) != KeeperException.Code.OK) {
+                TableBucket tableBucket = retries.get(i).keySet().iterator().next();
+                failures.put(
+                        tableBucket,
+                        KeeperException.create(
+                                results.get(i), LeaderAndIsrZNode.path(tableBucket)));
+            }
+        }
+
+        leaderAndIsrList.forEach(
+                (tableBucket, leaderAndIsr) -> {
+                    if (!failures.containsKey(tableBucket)) {
+                        LOG.info(
+                                "Updated {} for bucket {} in Zookeeper.",
+                                leaderAndIsr,
+                                tableBucket);
+                    }
+                });
+        return failures;
+    }
+
+    /**
+     * Sends a multi() transaction for each of the given batches in background and waits for the
+     * result codes of all of them.
+     */
+    private List<KeeperException.Code> updateLeaderAndIsrInBackground(
+            List<Map<TableBucket, byte[]>> batches, int expectedZkVersion) throws Exception {
+        List<CompletableFuture<KeeperException.Code>> futures = new ArrayList<>(batches.size());
+        for (Map<TableBucket, byte[]> batch : batches) {
+            List<CuratorOp> ops = new ArrayList<>(batch.size());
+            for (Map.Entry<TableBucket, byte[]> entry : batch.entrySet()) {
+                ops.add(zkOp.updateOp(LeaderAndIsrZNode.path(entry.getKey()), entry.getValue()));
+            }
+            List<CuratorOp> wrapOps = wrapRequestsWithEpochCheck(ops, expectedZkVersion);
+
+            CompletableFuture<KeeperException.Code> future = new CompletableFuture<>();
+            inFlightRequests.acquire();
+            try {
+                zkClient.transaction()
+                        .inBackground(
+                                (client, event) -> {
+                                    inFlightRequests.release();
+                                    future.complete(
+                                            KeeperException.Code.get(event.getResultCode()));
+                                })
+                        .forOperations(wrapOps);
+            } catch (Exception e) {
+                inFlightRequests.release();
+                throw e;
+            }
+            futures.add(future);
+        }
+
+        List<KeeperException.Code> results = new ArrayList<>(futures.size());
+        try {
+            for (CompletableFuture<KeeperException.Code> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new Exception("Request handling was interrupted", e);
+        }
+        return results;
+    }
+
     protected void deleteLeaderAndIsr(TableBucket tableBucket) throws Exception {
         String path = LeaderAndIsrZNode.path(tableBucket);
         zkClient.delete().forPath(path);
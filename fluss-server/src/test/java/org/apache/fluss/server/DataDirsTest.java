@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.server;
+
+import org.apache.fluss.config.ConfigOptions;
+import org.apache.fluss.config.Configuration;
+import org.apache.fluss.exception.StorageException;
+import org.apache.fluss.utils.clock.ManualClock;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Test for {@link DataDirs}. */
+class DataDirsTest {
+
+    private @TempDir File tempDir;
+
+    @Test
+    void testResolve() {
+        Configuration conf = new Configuration();
+        conf.set(ConfigOptions.DATA_DIR, tempDir.getAbsolutePath() + "/data/../dir0");
+        assertThat(DataDirs.resolve(conf)).containsExactly(new File(tempDir, "dir0"));
+
+        // data.dirs takes precedence over data.dir
+        conf.set(
+                ConfigOptions.DATA_DIRS,
+                Arrays.asList(
+                        tempDir.getAbsolutePath() + "/dir1",
+                        tempDir.getAbsolutePath() + "/dir2",
+                        tempDir.getAbsolutePath() + "/dir1"));
+        assertThat(DataDirs.resolve(conf))
+                .containsExactly(new File(tempDir, "dir1"), new File(tempDir, "dir2"));
+    }
+
+    @Test
+    void testCreate() throws IOException {
+        File file = new File(tempDir, "file");
+        Files.createFile(file.toPath());
+        Configuration conf = new Configuration();
+        conf.set(
+                ConfigOptions.DATA_DIRS,
+                Arrays.asList(tempDir.getAbsolutePath() + "/dir1", file.getAbsolutePath()));
+        DataDirs dataDirs = DataDirs.create(conf, new ManualClock());
+        File dir1 = new File(tempDir, "dir1");
+        assertThat(dir1).isDirectory();
+        assertThat(dataDirs.getDirs()).containsExactly(dir1, file);
+        assertThat(dataDirs.getOnlineDirs()).containsExactly(dir1);
+        assertThat(dataDirs.getOfflineDirCount()).isEqualTo(1);
+
+        // the only data directory must be valid
+        Configuration singleDirConf = new Configuration();
+        singleDirConf.set(ConfigOptions.DATA_DIR, file.getAbsolutePath());
+        assertThatThrownBy(() -> DataDirs.create(singleDirConf, new ManualClock()))
+                .hasMessageContaining("Failed to create or validate data directory");
+    }
+
+    @Test
+    void testSelectBalancesTablets() {
+        List<File> dirs = createDirs(3);
+        DataDirs dataDirs = new DataDirs(dirs, Collections.emptySet(), new ManualClock());
+        Map<File, Integer> tabletCounts = new HashMap<>();
+        for (int i = 0; i < 9; i++) {
+            File selected = dataDirs.select(dir -> tabletCounts.getOrDefault(dir, 0));
+            tabletCounts.merge(selected, 1, Integer::sum);
+        }
+        assertThat(tabletCounts).containsOnlyKeys(dirs);
+        assertThat(tabletCounts.values()).containsOnly(3);
+    }
+
+    @Test
+    void testSelectAvoidsBusyDir() {
+        List<File> dirs = createDirs(2);
+        ManualClock clock = new ManualClock();
+        DataDirs dataDirs = new DataDirs(dirs, Collections.emptySet(), clock);
+        dataDirs.recordWrite(dirs.get(0), 100L * 1024 * 1024);
+        clock.advanceTime(1, TimeUnit.SECONDS);
+
+        // the first directory has fewer tablets but is written at a much higher rate
+        Map<File, Integer> tabletCounts = new HashMap<>();
+        tabletCounts.put(dirs.get(0), 1);
+        tabletCounts.put(dirs.get(1), 2);
+        assertThat(dataDirs.select(tabletCounts::get)).isEqualTo(dirs.get(1));
+    }
+
+    @Test
+    void testOfflineDir() {
+        List<File> dirs = createDirs(2);
+        DataDirs dataDirs = new DataDirs(dirs, Collections.emptySet(), new ManualClock());
+        List<File> failedDirs = new ArrayList<>();
+        dataDirs.registerFailureListener(failedDirs::add);
+
+        // the directory is still accessible
+        assertThat(dataDirs.handleIOError(dirs.get(0), new IOException("test"))).isFalse();
+        assertThat(dataDirs.isOnline(dirs.get(0))).isTrue();
+        assertThat(new File(dirs.get(0), DataDirs.PROBE_FILE)).doesNotExist();
+
+        dataDirs.markOffline(dirs.get(0), new IOException("test"));
+        dataDirs.markOffline(dirs.get(0), new IOException("test"));
+        assertThat(failedDirs).containsExactly(dirs.get(0));
+        assertThat(dataDirs.isOnline(dirs.get(0))).isFalse();
+        assertThat(dataDirs.getOnlineDirs()).containsExactly(dirs.get(1));
+        assertThat(dataDirs.getOfflineDirCount()).isEqualTo(1);
+        for (int i = 0; i < 3; i++) {
+            assertThat(dataDirs.select(dir -> 0)).isEqualTo(dirs.get(1));
+        }
+        assertThat(dataDirs.getDataDir(new File(dirs.get(0), "db/t-1/log-0")))
+                .isEqualTo(dirs.get(0));
+
+        dataDirs.markOffline(dirs.get(1), new IOException("test"));
+        assertThatThrownBy(() -> dataDirs.select(dir -> 0))
+                .isInstanceOf(StorageException.class)
+                .hasMessageContaining("No online data directory");
+    }
+
+    @Test
+    void testGetDataDir() {
+        File outer = new File(tempDir, "data");
+        File nested = new File(outer, "nested");
+        File sibling = new File(tempDir, "data-1");
+        DataDirs dataDirs =
+                new DataDirs(
+                        Arrays.asList(outer, nested, sibling),
+                        Collections.emptySet(),
+                        new ManualClock());
+        // the nearest data directory wins and the path components are compared
+        assertThat(dataDirs.getDataDir(new File(outer, "db/t-1/log-0"))).isEqualTo(outer);
+        assertThat(dataDirs.getDataDir(new File(nested, "db/t-1/log-0"))).isEqualTo(nested);
+        assertThat(dataDirs.getDataDir(new File(sibling, "db/t-1/log-0"))).isEqualTo(sibling);
+        assertThatThrownBy(() -> dataDirs.getDataDir(new File(tempDir, "other/db/t-1/log-0")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<File> createDirs(int num) {
+        List<File> dirs = new ArrayList<>(num);
+        for (int i = 0; i < num; i++) {
+            File dir = new File(tempDir, "dir" + i);
+            assertThat(dir.mkdirs()).isTrue();
+            dirs.add(dir);
+        }
+        return dirs;
+    }
+}
@@ -88,13 +88,18 @@ class LakeTableTieringManagerTest {
                         Tuple2.of(
                                 tableInfo2,
                                 manualClock.milliseconds() - Duration.ofMinutes(3).toMillis()));
+        long initTime = manualClock.milliseconds();
         tableTieringManager.initWithLakeTables(lakeTables);
         // table2 should be PENDING at once without async scheduling
-        assertRequestTable(tableId2, tablePath2, 1);
+        LakeTieringTableInfo table2 = assertRequestTable(tableId2, tablePath2, 1);
+        // the freshness deadline is the last tiered time plus the freshness
+        assertThat(table2.freshnessDeadline()).isEqualTo(initTime);
 
         // advance 3 min to trigger table1 to be tiered
         manualClock.advanceTime(Duration.ofMinutes(3));
-        assertRequestTable(tableId1, tablePath1, 1);
+        LakeTieringTableInfo table1 = assertRequestTable(tableId1, tablePath1, 1);
+        assertThat(table1.freshnessDeadline())
+                .isEqualTo(initTime + Duration.ofMinutes(3).toMillis());
     }
 
     @Test
@@ -448,12 +453,17 @@ class LakeTableTieringManagerTest {
                 System.currentTimeMillis());
     }
 
-    private void assertRequestTable(long tableId, TablePath tablePath, long tieredEpoch) {
+    private LakeTieringTableInfo assertRequestTable(
+            long tableId, TablePath tablePath, long tieredEpoch) {
         LakeTieringTableInfo table =
                 waitValue(
                         () -> Optional.ofNullable(tableTieringManager.requestTable()),
                         Duration.ofSeconds(10),
                         "Request tiering table timout");
-        assertThat(table).isEqualTo(new LakeTieringTableInfo(tableId, tablePath, tieredEpoch));
+        assertThat(table)
+                .isEqualTo(
+                        new LakeTieringTableInfo(
+                                tableId, tablePath, tieredEpoch, table.freshnessDeadline()));
+        return table;
     }
 }
@@ -100,6 +100,7 @@ import org.apache.fluss.rpc.messages.ListTablesRequest;
 import org.apache.fluss.rpc.messages.ListTablesResponse;
 import org.apache.fluss.rpc.messages.MetadataRequest;
 import org.apache.fluss.rpc.messages.MetadataResponse;
+import org.apache.fluss.rpc.messages.PbTableBucket;
 import org.apache.fluss.rpc.messages.PrepareLakeTableSnapshotRequest;
 import org.apache.fluss.rpc.messages.PrepareLakeTableSnapshotResponse;
 import org.apache.fluss.rpc.messages.RebalanceRequest;
@@ -110,6 +111,8 @@ import org.apache.fluss.rpc.messages.ReleaseKvSnapshotLeaseRequest;
 import org.apache.fluss.rpc.messages.ReleaseKvSnapshotLeaseResponse;
 import org.apache.fluss.rpc.messages.RemoveServerTagRequest;
 import org.apache.fluss.rpc.messages.RemoveServerTagResponse;
+import org.apache.fluss.rpc.messages.ReportOfflineReplicasRequest;
+import org.apache.fluss.rpc.messages.ReportOfflineReplicasResponse;
 import org.apache.fluss.rpc.messages.TableExistsRequest;
 import org.apache.fluss.rpc.messages.TableExistsResponse;
 import org.apache.fluss.rpc.protocol.ApiError;
@@ -134,6 +137,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import static org.apache.fluss.server.utils.ServerRpcMessageUtils.getAdjustIsrData;
 import static org.apache.fluss.server.utils.ServerRpcMessageUtils.getCommitRemoteLogManifestData;
 import static org.apache.fluss.server.utils.ServerRpcMessageUtils.makeAdjustIsrResponse;
+import static org.apache.fluss.server.utils.ServerRpcMessageUtils.toTableBucket;
 import static org.apache.fluss.utils.Preconditions.checkNotNull;
 
 /** A {@link CoordinatorGateway} for test purpose. */
@@ -142,6 +146,7 @@ public class TestCoordinatorGateway implements CoordinatorGateway {
     private final @Nullable ZooKeeperClient zkClient;
     public final AtomicBoolean commitRemoteLogManifestFail = new AtomicBoolean(false);
     public final Map<TableBucket, Integer> currentLeaderEpoch = new HashMap<>();
+    public final Set<TableBucket> reportedOfflineBuckets = new HashSet<>();
     private Set<Integer> shutdownTabletServers;
     private boolean networkIssueEnable = false;
 
@@ -415,6 +420,15 @@ public class TestCoordinatorGateway implements CoordinatorGateway {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public CompletableFuture<ReportOfflineReplicasResponse> reportOfflineReplicas(
+            ReportOfflineReplicasRequest request) {
+        for (PbTableBucket offlineBucket : request.getOfflineBucketsList()) {
+            reportedOfflineBuckets.add(toTableBucket(offlineBucket));
+        }
+        return CompletableFuture.completedFuture(new ReportOfflineReplicasResponse());
+    }
+
     @Override
     public CompletableFuture<AcquireKvSnapshotLeaseResponse> acquireKvSnapshotLease(
             AcquireKvSnapshotLeaseRequest request) {
@@ -359,7 +359,8 @@ final class KvManagerTest {
                 KvFormat.COMPACTED,
                 schemaGetter,
                 new TableConfig(new Configuration()),
-                DEFAULT_COMPRESSION);
+                DEFAULT_COMPRESSION,
+                null);
     }
 
     private byte[] valueOf(KvRecord kvRecord) {
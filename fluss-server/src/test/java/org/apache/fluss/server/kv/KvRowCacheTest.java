@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.server.kv;
+
+import org.apache.fluss.metadata.TableBucket;
+
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nonnull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link KvRowCache}. */
+class KvRowCacheTest {
+
+    private static final TableBucket BUCKET_0 = new TableBucket(150001L, 0);
+    private static final TableBucket BUCKET_1 = new TableBucket(150001L, 1);
+
+    private final Map<String, byte[]> kv = new HashMap<>();
+    private final List<List<byte[]>> kvMultiGetCalls = new ArrayList<>();
+
+    @Test
+    void testMultiGet() throws Exception {
+        KvRowCache rowCache = new KvRowCache(1024 * 1024);
+        kv.put("k1", bytes("v1"));
+
+        assertThat(multiGet(rowCache, BUCKET_0, "k1", "k2")).containsExactly("v1", null);
+        assertThat(kvMultiGetCalls).hasSize(1);
+
+        // both the existing and the missing keys are served from the cache
+        assertThat(multiGet(rowCache, BUCKET_0, "k1", "k2")).containsExactly("v1", null);
+        assertThat(kvMultiGetCalls).hasSize(1);
+
+        // only the missed keys are looked up from the kv
+        kv.put("k3", bytes("v3"));
+        assertThat(multiGet(rowCache, BUCKET_0, "k3", "k1", "k2"))
+                .containsExactly("v3", "v1", null);
+        assertThat(kvMultiGetCalls).hasSize(2);
+        assertThat(kvMultiGetCalls.get(1)).containsExactly(bytes("k3"));
+
+        // keys are cached per bucket
+        assertThat(multiGet(rowCache, BUCKET_1, "k1")).containsExactly("v1");
+        assertThat(kvMultiGetCalls).hasSize(3);
+    }
+
+    @Test
+    void testInvalidatingWriter() throws Exception {
+        KvRowCache rowCache = new KvRowCache(1024 * 1024);
+        kv.put("k1", bytes("v1"));
+        kv.put("k2", bytes("v2"));
+        multiGet(rowCache, BUCKET_0, "k1", "k2", "k3");
+        multiGet(rowCache, BUCKET_1, "k1");
+
+        KvBatchWriter writer = rowCache.invalidatingWriter(BUCKET_0, new MapKvBatchWriter());
+        writer.put(bytes("k1"), bytes("v1-new"));
+        writer.put(bytes("k3"), bytes("v3"));
+        writer.delete(bytes("k2"));
+
+        assertThat(rowCache.getIfPresent(BUCKET_0, bytes("k1"))).isNull();
+        assertThat(rowCache.getIfPresent(BUCKET_0, bytes("k2"))).isNull();
+        assertThat(rowCache.getIfPresent(BUCKET_0, bytes("k3"))).isNull();
+        // the keys of the other buckets are not invalidated
+        assertThat(rowCache.getIfPresent(BUCKET_1, bytes("k1"))).isEqualTo(bytes("v1"));
+
+        assertThat(multiGet(rowCache, BUCKET_0, "k1", "k2", "k3"))
+                .containsExactly("v1-new", null, "v3");
+    }
+
+    @Test
+    void testInvalidateAll() throws Exception {
+        KvRowCache rowCache = new KvRowCache(1024 * 1024);
+        kv.put("k1", bytes("v1"));
+        multiGet(rowCache, BUCKET_0, "k1");
+        multiGet(rowCache, BUCKET_1, "k1");
+
+        rowCache.invalidateAll(BUCKET_0);
+
+        assertThat(rowCache.getIfPresent(BUCKET_0, bytes("k1"))).isNull();
+        assertThat(rowCache.getIfPresent(BUCKET_1, bytes("k1"))).isEqualTo(bytes("v1"));
+    }
+
+    private List<String> multiGet(KvRowCache rowCache, TableBucket tableBucket, String... keys)
+            throws IOException {
+        List<byte[]> keyBytes =
+                Arrays.stream(keys).map(KvRowCacheTest::bytes).collect(Collectors.toList());
+        List<byte[]> values =
+                rowCache.multiGet(
+                        tableBucket,
+                        keyBytes,
+                        missedKeys -> {
+                            kvMultiGetCalls.add(missedKeys);
+                            List<byte[]> missedValues = new ArrayList<>();
+                            for (byte[] key : missedKeys) {
+                                missedValues.add(kv.get(new String(key)));
+                            }
+                            return missedValues;
+                        });
+        List<String> result = new ArrayList<>();
+        for (byte[] value : values) {
+            result.add(value == null ? null : new String(value));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes();
+    }
+
+    private class MapKvBatchWriter implements KvBatchWriter {
+
+        @Override
+        public void put(@Nonnull byte[] key, @Nonnull byte[] value) {
+            kv.put(new String(key), value);
+        }
+
+        @Override
+        public void delete(@Nonnull byte[] key) {
+            kv.remove(new String(key));
+        }
+
+        @Override
+        public void flush() {}
+
+        @Override
+        public void close() {}
+    }
+}
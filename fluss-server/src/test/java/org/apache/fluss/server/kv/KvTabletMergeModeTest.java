@@ -159,7 +159,9 @@ class KvTabletMergeModeTest {
                         schemaGetter,
                         tableConf.getChangelogImage(),
                         KvManager.getDefaultRateLimiter(),
-                        autoIncrementManager);
+                        autoIncrementManager,
+                        null,
+                        null);
     }
 
     @AfterEach
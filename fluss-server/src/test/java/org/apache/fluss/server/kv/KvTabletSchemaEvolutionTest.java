@@ -144,7 +144,9 @@ class KvTabletSchemaEvolutionTest {
                         schemaGetter,
                         tableConf.getChangelogImage(),
                         KvManager.getDefaultRateLimiter(),
-                        autoIncrementManager);
+                        autoIncrementManager,
+                        null,
+                        null);
     }
 
     @AfterEach
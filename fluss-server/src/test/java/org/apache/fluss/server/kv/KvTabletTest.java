@@ -88,6 +88,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -127,6 +128,7 @@ class KvTabletTest {
     private TestingSchemaGetter schemaGetter;
     private LogTablet logTablet;
     private KvTablet kvTablet;
+    private @Nullable KvRowCache rowCache;
     private ExecutorService executor;
 
     @BeforeEach
@@ -213,7 +215,9 @@ class KvTabletTest {
                 schemaGetter,
                 tableConf.getChangelogImage(),
                 KvManager.getDefaultRateLimiter(),
-                autoIncrementManager);
+                autoIncrementManager,
+                null,
+                rowCache);
     }
 
     @Test
@@ -1289,6 +1293,136 @@ class KvTabletTest {
         assertThat(kvTablet.getKvPreWriteBuffer().getMaxLSN()).isEqualTo(9);
     }
 
+    @Test
+    void testPutBatchWithFlushedAndRepeatedKeys() throws Exception {
+        initLogTabletAndKvTablet(DATA1_SCHEMA_PK, new HashMap<>());
+        List<KvRecord> kvData1 =
+                Arrays.asList(
+                        kvRecordFactory.ofRecord("k1".getBytes(), new Object[] {1, "v11"}),
+                        kvRecordFactory.ofRecord("k2".getBytes(), new Object[] {2, "v21"}));
+        kvTablet.putAsLeader(kvRecordBatchFactory.ofRecords(kvData1), null);
+        // flush to rocksdb, so that the old values of the next batch are fetched from rocksdb
+        kvTablet.flush(Long.MAX_VALUE, NOPErrorHandler.INSTANCE);
+        long endOffset = logTablet.localLogEndOffset();
+
+        // the records of the same key in a batch must see the changes of the former ones
+        List<KvRecord> kvData2 =
+                Arrays.asList(
+                        kvRecordFactory.ofRecord("k1".getBytes(), new Object[] {1, "v12"}),
+                        kvRecordFactory.ofRecord("k2".getBytes(), null),
+                        kvRecordFactory.ofRecord("k3".getBytes(), new Object[] {3, "v31"}),
+                        kvRecordFactory.ofRecord("k1".getBytes(), new Object[] {1, "v13"}),
+                        kvRecordFactory.ofRecord("k2".getBytes(), new Object[] {2, "v22"}),
+                        kvRecordFactory.ofRecord("k3".getBytes(), null));
+        kvTablet.putAsLeader(kvRecordBatchFactory.ofRecords(kvData2), null);
+
+        LogRecords actualLogRecords = readLogRecords(endOffset);
+        MemoryLogRecords expectedLogs =
+                logRecords(
+                        endOffset,
+                        Arrays.asList(
+                                ChangeType.UPDATE_BEFORE,
+                                ChangeType.UPDATE_AFTER,
+                                ChangeType.DELETE,
+                                ChangeType.INSERT,
+                                ChangeType.UPDATE_BEFORE,
+                                ChangeType.UPDATE_AFTER,
+                                ChangeType.INSERT,
+                                ChangeType.DELETE),
+                        Arrays.asList(
+                                new Object[] {1, "v11"},
+                                new Object[] {1, "v12"},
+                                new Object[] {2, "v21"},
+                                new Object[] {3, "v31"},
+                                new Object[] {1, "v12"},
+                                new Object[] {1, "v13"},
+                                new Object[] {2, "v22"},
+                                new Object[] {3, "v31"}));
+        checkEqual(actualLogRecords, Collections.singletonList(expectedLogs));
+    }
+
+    @Test
+    void testLookupWithRowCache() throws Exception {
+        rowCache = new KvRowCache(1024 * 1024);
+        initLogTabletAndKvTablet(DATA1_SCHEMA_PK, new HashMap<>());
+        TableBucket tableBucket = kvTablet.getTableBucket();
+        RowType rowType = DATA1_SCHEMA_PK.getRowType();
+        kvTablet.putAsLeader(
+                kvRecordBatchFactory.ofRecords(
+                        kvRecordFactory.ofRecord("k1".getBytes(), new Object[] {1, "v11"})),
+                null);
+        kvTablet.flush(Long.MAX_VALUE, NOPErrorHandler.INSTANCE);
+
+        List<byte[]> keys = Arrays.asList("k1".getBytes(), "k2".getBytes());
+        byte[] v11 = valueOf(compactedRow(rowType, new Object[] {1, "v11"})).get();
+        assertThat(kvTablet.multiGet(keys)).containsExactly(v11, null);
+        assertThat(rowCache.getIfPresent(tableBucket, "k1".getBytes())).isEqualTo(v11);
+
+        // the unflushed writes are not visible to lookups, so the cached rows are kept
+        kvTablet.putAsLeader(
+                kvRecordBatchFactory.ofRecords(
+                        kvRecordFactory.ofRecord("k1".getBytes(), new Object[] {1, "v12"}),
+                        kvRecordFactory.ofRecord("k2".getBytes(), new Object[] {2, "v21"})),
+                null);
+        assertThat(kvTablet.multiGet(keys)).containsExactly(v11, null);
+
+        // flushing the writes to rocksdb invalidates the cached rows
+        kvTablet.flush(Long.MAX_VALUE, NOPErrorHandler.INSTANCE);
+        assertThat(rowCache.getIfPresent(tableBucket, "k1".getBytes())).isNull();
+        assertThat(kvTablet.multiGet(keys))
+                .containsExactly(
+                        valueOf(compactedRow(rowType, new Object[] {1, "v12"})).get(),
+                        valueOf(compactedRow(rowType, new Object[] {2, "v21"})).get());
+
+        // closing the kv tablet drops the cached rows of the bucket
+        kvTablet.close();
+        assertThat(rowCache.getIfPresent(tableBucket, "k1".getBytes())).isNull();
+        assertThat(rowCache.getIfPresent(tableBucket, "k2".getBytes())).isNull();
+    }
+
+    @Test
+    void testLookupNotBlockedByWriter() throws Exception {
+        initLogTabletAndKvTablet(DATA1_SCHEMA_PK, new HashMap<>());
+        kvTablet.putAsLeader(
+                kvRecordBatchFactory.ofRecords(
+                        kvRecordFactory.ofRecord("k1".getBytes(), new Object[] {1, "v11"})),
+                null);
+        kvTablet.flush(Long.MAX_VALUE, NOPErrorHandler.INSTANCE);
+
+        // hold the kv lock in another thread, as a writer putting a large batch does
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(
+                    () ->
+                            kvTablet.getGuardedExecutor()
+                                    .execute(
+                                            () -> {
+                                                locked.countDown();
+                                                try {
+                                                    release.await();
+                                                } catch (InterruptedException e) {
+                                                    Thread.currentThread().interrupt();
+                                                }
+                                            }));
+            locked.await();
+
+            List<byte[]> values = kvTablet.multiGet(Collections.singletonList("k1".getBytes()));
+            assertThat(values.get(0))
+                    .isEqualTo(
+                            valueOf(
+                                            compactedRow(
+                                                    DATA1_SCHEMA_PK.getRowType(),
+                                                    new Object[] {1, "v11"}))
+                                    .get());
+            assertThat(kvTablet.limitScan(10)).hasSize(1);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
     @Test
     void testWalModeChangelogImageNoUpdateBefore() throws Exception {
         // WAL mode - no UPDATE_BEFORE. With default merge engine and full row update,
@@ -32,6 +32,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.apache.fluss.record.TestData.DATA1_TABLE_ID;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -223,6 +225,42 @@ class RemoteLogFetcherTest extends RemoteLogTestBase {
         assertThat(Files.exists(tempDir.getParent())).isFalse();
     }
 
+    @Test
+    void testFetchWithPrefetch() throws Exception {
+        TableBucket tb = new TableBucket(DATA1_TABLE_ID, 0);
+        makeLogTableAsLeader(tb, false);
+        Replica replica = replicaManager.getReplicaOrException(tb);
+        LogTablet logTablet = replica.getLogTablet();
+        addMultiSegmentsToLogTablet(logTablet, 5);
+
+        remoteLogTaskScheduler.triggerPeriodicScheduledTasks();
+
+        List<RemoteLogSegment> segments = remoteLogManager.relevantRemoteLogSegments(tb, 0L);
+        assertThat(segments).hasSizeGreaterThanOrEqualTo(2);
+        long remoteEndOffset = segments.get(segments.size() - 1).remoteLogEndOffset();
+
+        File logTabletDir = logTablet.getLogDir();
+        List<Long> expectedOffsets = new ArrayList<>();
+        try (RemoteLogFetcher fetcher = new RemoteLogFetcher(remoteLogManager, tb, logTabletDir)) {
+            for (LogRecordBatch batch : fetcher.fetch(0, remoteEndOffset)) {
+                expectedOffsets.add(batch.baseLogOffset());
+            }
+        }
+
+        // The next segment is downloaded in advance, which shouldn't change the fetched batches.
+        ExecutorService prefetchExecutor = Executors.newSingleThreadExecutor();
+        try (RemoteLogFetcher fetcher = new RemoteLogFetcher(remoteLogManager, tb, logTabletDir)) {
+            fetcher.setPrefetchExecutor(prefetchExecutor);
+            List<Long> offsets = new ArrayList<>();
+            for (LogRecordBatch batch : fetcher.fetch(0, remoteEndOffset)) {
+                offsets.add(batch.baseLogOffset());
+            }
+            assertThat(offsets).isEqualTo(expectedOffsets);
+        } finally {
+            prefetchExecutor.shutdownNow();
+        }
+    }
+
     @Test
     void testFetchMultipleSegmentsInOrder() throws Exception {
         TableBucket tb = new TableBucket(DATA1_TABLE_ID, 0);
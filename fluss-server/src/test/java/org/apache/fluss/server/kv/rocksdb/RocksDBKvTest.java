@@ -18,13 +18,19 @@
 package org.apache.fluss.server.kv.rocksdb;
 
 import org.apache.fluss.config.Configuration;
+import org.apache.fluss.server.kv.KvBatchWriter;
+import org.apache.fluss.server.kv.KvManager;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.rocksdb.FlushOptions;
 
 import java.io.File;
 import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -64,4 +70,99 @@ class RocksDBKvTest {
             assertThat(rocksDBKv.multiGet(Arrays.asList(key, key2))).containsExactly(null, val2);
         }
     }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testPrefixLookups(boolean withPrefixExtractor, @TempDir Path tempDir) throws Exception {
+        File instanceBasePath = tempDir.toFile();
+        RocksDBResourceContainer rocksDBResourceContainer =
+                new RocksDBResourceContainer(
+                        new Configuration(),
+                        instanceBasePath,
+                        false,
+                        KvManager.getDefaultRateLimiter(),
+                        withPrefixExtractor ? 2 : null);
+        RocksDBKvBuilder rocksDBKvBuilder =
+                new RocksDBKvBuilder(
+                        instanceBasePath,
+                        rocksDBResourceContainer,
+                        rocksDBResourceContainer.getColumnOptions());
+
+        try (RocksDBKv rocksDBKv = rocksDBKvBuilder.build()) {
+            rocksDBKv.put(new byte[] {1, 1, 1}, new byte[] {1});
+            rocksDBKv.put(new byte[] {1, 1, 2}, new byte[] {2});
+            rocksDBKv.put(new byte[] {1, 2, 1}, new byte[] {3});
+            rocksDBKv.put(new byte[] {2, 1, 1}, new byte[] {4});
+            // flush to have the prefixes looked up in both the sst files and the memtable
+            try (FlushOptions flushOptions = new FlushOptions().setWaitForFlush(true)) {
+                rocksDBKv.getDb().flush(flushOptions);
+            }
+            rocksDBKv.put(new byte[] {1, 1, 3}, new byte[] {5});
+
+            List<List<byte[]>> result =
+                    rocksDBKv.prefixLookups(
+                            Arrays.asList(
+                                    new byte[] {1, 1},
+                                    new byte[] {2, 1},
+                                    new byte[] {3, 1},
+                                    new byte[] {1, 2}));
+            assertThat(result).hasSize(4);
+            assertThat(result.get(0))
+                    .containsExactly(new byte[] {1}, new byte[] {2}, new byte[] {5});
+            assertThat(result.get(1)).containsExactly(new byte[] {4});
+            assertThat(result.get(2)).isEmpty();
+            assertThat(result.get(3)).containsExactly(new byte[] {3});
+
+            // a prefix shorter than the extracted prefix falls back to a total order seek
+            result = rocksDBKv.prefixLookups(Arrays.asList(new byte[] {1}, new byte[] {2, 1}));
+            assertThat(result.get(0)).hasSize(4);
+            assertThat(result.get(1)).containsExactly(new byte[] {4});
+
+            assertThat(rocksDBKv.limitScan(10)).hasSize(5);
+        }
+    }
+
+    @Test
+    void testSstBatchWriter(@TempDir Path tempDir) throws Exception {
+        File instanceBasePath = new File(tempDir.toFile(), "db");
+        RocksDBResourceContainer rocksDBResourceContainer =
+                new RocksDBResourceContainer(new Configuration(), instanceBasePath);
+        RocksDBKvBuilder rocksDBKvBuilder =
+                new RocksDBKvBuilder(
+                        instanceBasePath,
+                        rocksDBResourceContainer,
+                        rocksDBResourceContainer.getColumnOptions());
+
+        File sstDir = new File(tempDir.toFile(), "sst");
+        try (RocksDBKv rocksDBKv = rocksDBKvBuilder.build()) {
+            rocksDBKv.put(new byte[] {1}, new byte[] {1});
+            rocksDBKv.put(new byte[] {2}, new byte[] {2});
+
+            // a small buffer to write the records into several sst files, every buffered pair
+            // takes about 74 bytes with its overhead
+            try (KvBatchWriter writer = rocksDBKv.newSstBatchWriter(sstDir, 200)) {
+                writer.put(new byte[] {3}, new byte[] {3});
+                writer.put(new byte[] {1}, new byte[] {4});
+                writer.delete(new byte[] {2});
+                writer.put(new byte[] {3}, new byte[] {5});
+                writer.put(new byte[] {4}, new byte[] {6});
+                writer.delete(new byte[] {4});
+                writer.put(new byte[] {5}, new byte[] {7});
+                writer.delete(new byte[] {5});
+                writer.put(new byte[] {5}, new byte[] {8});
+            }
+            assertThat(sstDir).doesNotExist();
+
+            assertThat(
+                            rocksDBKv.multiGet(
+                                    Arrays.asList(
+                                            new byte[] {1},
+                                            new byte[] {2},
+                                            new byte[] {3},
+                                            new byte[] {4},
+                                            new byte[] {5})))
+                    .containsExactly(new byte[] {4}, null, new byte[] {5}, null, new byte[] {8});
+            assertThat(rocksDBKv.limitScan(10)).hasSize(3);
+        }
+    }
 }
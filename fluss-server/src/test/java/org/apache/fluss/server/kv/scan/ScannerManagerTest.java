@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.server.kv.scan;
+
+import org.apache.fluss.config.Configuration;
+import org.apache.fluss.exception.InvalidScanRequestException;
+import org.apache.fluss.exception.ScannerExpiredException;
+import org.apache.fluss.exception.TooManyScannersException;
+import org.apache.fluss.exception.UnknownScannerIdException;
+import org.apache.fluss.metadata.TableBucket;
+import org.apache.fluss.record.DefaultValueRecordBatch;
+import org.apache.fluss.server.kv.rocksdb.RocksDBKv;
+import org.apache.fluss.server.kv.rocksdb.RocksDBKvBuilder;
+import org.apache.fluss.server.kv.rocksdb.RocksDBResourceContainer;
+import org.apache.fluss.utils.clock.ManualClock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Test for {@link ScannerManager} and {@link KvScanner}. */
+class ScannerManagerTest {
+
+    private static final TableBucket TABLE_BUCKET = new TableBucket(1L, 0);
+    private static final long TTL_MS = 1000L;
+
+    private RocksDBKv rocksDBKv;
+    private ManualClock clock;
+    private ScannerManager scannerManager;
+
+    @BeforeEach
+    void beforeEach(@TempDir Path tempDir) throws Exception {
+        File instanceBasePath = tempDir.toFile();
+        RocksDBResourceContainer rocksDBResourceContainer =
+                new RocksDBResourceContainer(new Configuration(), instanceBasePath);
+        rocksDBKv =
+                new RocksDBKvBuilder(
+                                instanceBasePath,
+                                rocksDBResourceContainer,
+                                rocksDBResourceContainer.getColumnOptions())
+                        .build();
+        for (byte i = 0; i < 10; i++) {
+            rocksDBKv.put(new byte[] {i}, new byte[] {i, i, i, i});
+        }
+        clock = new ManualClock();
+        scannerManager = new ScannerManager(TTL_MS, 2, clock);
+    }
+
+    @AfterEach
+    void afterEach() throws Exception {
+        scannerManager.close();
+        rocksDBKv.close();
+    }
+
+    @Test
+    void testScanInChunksFromSnapshot() throws Exception {
+        ScannerContext context = scannerManager.createScanner(() -> newScanner(null));
+        KvScanner scanner = context.getScanner();
+        // writes after the scanner is opened are invisible to the scanner
+        rocksDBKv.put(new byte[] {100}, new byte[] {1});
+
+        int total = 0;
+        int callSeqId = 0;
+        while (scanner.hasMoreRecords()) {
+            DefaultValueRecordBatch batch = scanner.nextBatch(10);
+            // each value is 4 bytes, so a chunk stops at the third value
+            assertThat(batch.getRecordCount()).isLessThanOrEqualTo(3);
+            total += batch.getRecordCount();
+            scannerManager.getScanner(context.getScannerId(), ++callSeqId);
+        }
+        assertThat(total).isEqualTo(10);
+    }
+
+    @Test
+    void testScanWithLimit() throws Exception {
+        KvScanner scanner = scannerManager.createScanner(() -> newScanner(3L)).getScanner();
+        assertThat(scanner.nextBatch(Integer.MAX_VALUE).getRecordCount()).isEqualTo(3);
+        assertThat(scanner.hasMoreRecords()).isFalse();
+    }
+
+    @Test
+    void testMaxScanners() {
+        scannerManager.createScanner(() -> newScanner(null));
+        ScannerContext context = scannerManager.createScanner(() -> newScanner(null));
+        assertThatThrownBy(() -> scannerManager.createScanner(() -> newScanner(null)))
+                .isInstanceOf(TooManyScannersException.class);
+
+        scannerManager.closeScanner(context);
+        assertThat(context.getScanner().isClosed()).isTrue();
+        // a failed scanner factory releases its reserved slot
+        assertThatThrownBy(
+                        () ->
+                                scannerManager.createScanner(
+                                        () -> {
+                                            throw new IllegalStateException("failed to open");
+                                        }))
+                .isInstanceOf(IllegalStateException.class);
+        scannerManager.createScanner(() -> newScanner(null));
+        assertThat(scannerManager.getScannerCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testCallSeqIdValidation() {
+        ScannerContext context = scannerManager.createScanner(() -> newScanner(null));
+        byte[] scannerId = context.getScannerId();
+        scannerManager.getScanner(scannerId, 1);
+        assertThatThrownBy(() -> scannerManager.getScanner(scannerId, 1))
+                .isInstanceOf(InvalidScanRequestException.class);
+        assertThatThrownBy(() -> scannerManager.getScanner(scannerId, 3))
+                .isInstanceOf(InvalidScanRequestException.class);
+        assertThat(scannerManager.getScanner(scannerId, 2)).isSameAs(context);
+
+        assertThatThrownBy(() -> scannerManager.getScanner(new byte[] {1, 2, 3}, 1))
+                .isInstanceOf(UnknownScannerIdException.class);
+
+        // looking up the bucket of the scanner doesn't advance the call sequence id
+        assertThat(scannerManager.getScannerBucket(scannerId)).isEqualTo(TABLE_BUCKET);
+        assertThat(scannerManager.getScanner(scannerId, 3)).isSameAs(context);
+    }
+
+    @Test
+    void testExpireIdleScanners() {
+        ScannerContext idle = scannerManager.createScanner(() -> newScanner(null));
+        clock.advanceTime(TTL_MS / 2, TimeUnit.MILLISECONDS);
+        ScannerContext active = scannerManager.createScanner(() -> newScanner(null));
+        clock.advanceTime(TTL_MS / 2 + 1, TimeUnit.MILLISECONDS);
+        scannerManager.getScanner(active.getScannerId(), 1);
+
+        scannerManager.expireIdleScanners();
+        assertThat(scannerManager.getScannerCount()).isEqualTo(1);
+        assertThat(idle.getScanner().isClosed()).isTrue();
+        assertThat(active.getScanner().isClosed()).isFalse();
+        assertThatThrownBy(() -> scannerManager.getScanner(idle.getScannerId(), 1))
+                .isInstanceOf(ScannerExpiredException.class);
+
+        // scanners closed by the kv tablet are removed as well
+        active.getScanner().close();
+        scannerManager.expireIdleScanners();
+        assertThat(scannerManager.getScannerCount()).isEqualTo(0);
+    }
+
+    private KvScanner newScanner(Long limit) {
+        try {
+            return new KvScanner(
+                    TABLE_BUCKET, rocksDBKv.newSnapshotIterator(), 0L, limit, scanner -> {});
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
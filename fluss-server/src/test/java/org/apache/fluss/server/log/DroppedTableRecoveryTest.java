@@ -243,7 +243,8 @@ final class DroppedTableRecoveryTest extends LogTestBase {
                         KvFormat.COMPACTED,
                         new TestingSchemaGetter(new SchemaInfo(DATA1_SCHEMA_PK, 0)),
                         tableConfig,
-                        DEFAULT_COMPRESSION);
+                        DEFAULT_COMPRESSION,
+                        null);
         KvTablet kvTablet2 =
                 kvManager.getOrCreateKv(
                         PhysicalTablePath.of(tablePath),
@@ -252,7 +253,8 @@ final class DroppedTableRecoveryTest extends LogTestBase {
                         KvFormat.COMPACTED,
                         new TestingSchemaGetter(new SchemaInfo(DATA1_SCHEMA_PK, 0)),
                         tableConfig,
-                        DEFAULT_COMPRESSION);
+                        DEFAULT_COMPRESSION,
+                        null);
 
         // Get directories before shutdown
         String kvDir1 = kvTablet1.getKvTabletDir().getAbsolutePath();
@@ -321,7 +323,8 @@ final class DroppedTableRecoveryTest extends LogTestBase {
                         KvFormat.COMPACTED,
                         new TestingSchemaGetter(new SchemaInfo(DATA1_SCHEMA, 0)),
                         tableConfig,
-                        DEFAULT_COMPRESSION);
+                        DEFAULT_COMPRESSION,
+                        null);
 
         String kvDir = kvTablet.getKvTabletDir().getAbsolutePath();
         String logDir = log.getLogDir().getAbsolutePath();
@@ -18,6 +18,7 @@
 package org.apache.fluss.server.log;
 
 import org.apache.fluss.config.ConfigOptions;
+import org.apache.fluss.exception.StorageException;
 import org.apache.fluss.metadata.LogFormat;
 import org.apache.fluss.metadata.PhysicalTablePath;
 import org.apache.fluss.metadata.TableBucket;
@@ -46,6 +47,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import javax.annotation.Nullable;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -65,6 +67,7 @@ import static org.apache.fluss.server.log.LogManager.CLEAN_SHUTDOWN_FILE;
 import static org.apache.fluss.testutils.DataTestUtils.assertLogRecordsEquals;
 import static org.apache.fluss.testutils.DataTestUtils.genMemoryLogRecordsByObject;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Test for {@link LogManager}. */
 final class LogManagerTest extends LogTestBase {
@@ -300,6 +303,91 @@ final class LogManagerTest extends LogTestBase {
         assertThat(logManager.getLog(log1.getTableBucket()).isPresent()).isTrue();
     }
 
+    @Test
+    void testMultipleDataDirs() throws Exception {
+        logManager.shutdown();
+        File dir1 = new File(tempDir, "dir1");
+        File dir2 = new File(tempDir, "dir2");
+        conf.set(
+                ConfigOptions.DATA_DIRS,
+                Arrays.asList(dir1.getAbsolutePath(), dir2.getAbsolutePath()));
+        logManager = createLogManager();
+
+        initTableBuckets(null);
+        LogTablet log1 = getOrCreateLog(tablePath1, null, tableBucket1);
+        LogTablet log2 = getOrCreateLog(tablePath2, null, tableBucket2);
+        // the logs are spread across the data directories
+        assertThat(log1.getLogDir().toPath()).startsWith(dir1.toPath());
+        assertThat(log2.getLogDir().toPath()).startsWith(dir2.toPath());
+        log1.appendAsLeader(genMemoryLogRecordsByObject(DATA1));
+        log2.appendAsLeader(genMemoryLogRecordsByObject(DATA1));
+        log1.flush(false);
+        log2.flush(false);
+
+        // each data directory has its own recovery point checkpoint
+        logManager.checkpointRecoveryOffsets();
+        assertThat(
+                        new OffsetCheckpointFile(
+                                        new File(dir1, LogManager.RECOVERY_POINT_CHECKPOINT_FILE))
+                                .read())
+                .containsOnlyKeys(tableBucket1);
+        assertThat(
+                        new OffsetCheckpointFile(
+                                        new File(dir2, LogManager.RECOVERY_POINT_CHECKPOINT_FILE))
+                                .read())
+                .containsOnlyKeys(tableBucket2);
+
+        // the logs are loaded from their data directories after restart
+        logManager.shutdown();
+        assertThat(new File(dir1, CLEAN_SHUTDOWN_FILE)).exists();
+        assertThat(new File(dir2, CLEAN_SHUTDOWN_FILE)).exists();
+        logManager = createLogManager();
+        assertThat(logManager.getLog(tableBucket1)).isPresent();
+        assertThat(logManager.getLog(tableBucket2)).isPresent();
+        log1 = getOrCreateLog(tablePath1, null, tableBucket1);
+        assertThat(log1.getLogDir().toPath()).startsWith(dir1.toPath());
+        assertLogRecordsEquals(DATA1_ROW_TYPE, readLog(log1).getRecords(), DATA1);
+
+        // closing the logs of a data directory keeps the files on it
+        File logDir2 = logManager.getLog(tableBucket2).get().getLogDir();
+        logManager.closeLogs(dir2);
+        assertThat(logManager.getLog(tableBucket1)).isPresent();
+        assertThat(logManager.getLog(tableBucket2)).isNotPresent();
+        assertThat(logDir2).exists();
+
+        // a log not found while a data directory is offline may be on the offline directory
+        logManager.getDataDirs().markOffline(dir2, new IOException("test"));
+        PhysicalTablePath physicalTablePath2 = PhysicalTablePath.of(tablePath2);
+        assertThatThrownBy(
+                        () ->
+                                logManager.getOrCreateLog(
+                                        physicalTablePath2,
+                                        tableBucket2,
+                                        LogFormat.ARROW,
+                                        1,
+                                        false,
+                                        false))
+                .isInstanceOf(StorageException.class)
+                .hasMessageContaining("not found in the online data directories");
+        // unless the bucket is new
+        log2 =
+                logManager.getOrCreateLog(
+                        physicalTablePath2, tableBucket2, LogFormat.ARROW, 1, false, true);
+        assertThat(log2.getLogDir().toPath()).startsWith(dir1.toPath());
+    }
+
+    private LogManager createLogManager() throws Exception {
+        LogManager logManager =
+                LogManager.create(
+                        conf,
+                        zkClient,
+                        new FlussScheduler(1),
+                        SystemClock.getInstance(),
+                        TestingMetricGroups.TABLET_SERVER_METRICS);
+        logManager.startup();
+        return logManager;
+    }
+
     private LogTablet getOrCreateLog(
             TablePath tablePath, String partitionName, TableBucket tableBucket) throws Exception {
         return logManager.getOrCreateLog(
@@ -17,6 +17,7 @@
 
 package org.apache.fluss.server.log;
 
+import org.apache.fluss.compression.ArrowCompressionInfo;
 import org.apache.fluss.config.ConfigOptions;
 import org.apache.fluss.config.MemorySize;
 import org.apache.fluss.exception.LogSegmentOffsetOverflowException;
@@ -32,8 +33,13 @@ import org.apache.fluss.record.LogRecords;
 import org.apache.fluss.record.LogTestBase;
 import org.apache.fluss.record.MemoryLogRecords;
 import org.apache.fluss.record.ProjectionPushdownCache;
+import org.apache.fluss.row.arrow.ArrowWriterPool;
+import org.apache.fluss.shaded.arrow.org.apache.arrow.memory.BufferAllocator;
+import org.apache.fluss.shaded.arrow.org.apache.arrow.memory.BufferAllocatorUtil;
 import org.apache.fluss.utils.CloseableIterator;
 
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -66,6 +72,21 @@ final class LogSegmentTest extends LogTestBase {
 
     private @TempDir File tempDir;
 
+    private BufferAllocator allocator;
+    private ArrowWriterPool writerPool;
+
+    @BeforeEach
+    void setup() {
+        allocator = BufferAllocatorUtil.createBufferAllocator(null);
+        writerPool = new ArrowWriterPool(allocator);
+    }
+
+    @AfterEach
+    void teardown() {
+        writerPool.close();
+        allocator.close();
+    }
+
     static Stream<Arguments> offsetParameters() {
         return Stream.of(
                 Arguments.of(0L, -2147483648L),
@@ -1233,6 +1254,151 @@ final class LogSegmentTest extends LogTestBase {
         }
     }
 
+    @Test
+    void testReadWithRowFilterReturnsMatchingRows() throws Exception {
+        LogSegment segment = createSegment(40);
+
+        // values [1,2,7,8,3,4] at offsets 50..55 — only 7 and 8 pass filter "a > 5"
+        List<Object[]> batchData =
+                Arrays.asList(
+                        new Object[] {1, "a"},
+                        new Object[] {2, "b"},
+                        new Object[] {7, "c"},
+                        new Object[] {8, "d"},
+                        new Object[] {3, "e"},
+                        new Object[] {4, "f"});
+        MemoryLogRecords batch =
+                LogRecordBatchStatisticsTestUtils.createLogRecordsWithStatistics(
+                        batchData, DATA1_ROW_TYPE, 50, DEFAULT_SCHEMA_ID);
+        segment.append(55, -1L, -1L, batch);
+
+        PredicateBuilder builder = new PredicateBuilder(DATA1_ROW_TYPE);
+        Predicate filter = builder.greaterThan(0, 5);
+
+        try (FilterContext filterContext =
+                new FilterContext(
+                        filter,
+                        LogRecordReadContext.createArrowReadContext(
+                                DATA1_ROW_TYPE, DEFAULT_SCHEMA_ID, TEST_SCHEMA_GETTER),
+                        DEFAULT_SCHEMA_ID,
+                        TEST_SCHEMA_GETTER,
+                        new RowFilterBudget(Long.MAX_VALUE),
+                        writerPool,
+                        1L,
+                        ArrowCompressionInfo.NO_COMPRESSION)) {
+            FetchDataInfo read =
+                    segment.read(50, 1000, segment.getSizeInBytes(), true, null, filterContext);
+            assertThat(read).isNotNull();
+            assertThat(read.getRecords().sizeInBytes()).isLessThan(batch.sizeInBytes());
+
+            List<Long> offsets = new ArrayList<>();
+            List<Integer> values = new ArrayList<>();
+            for (LogRecordBatch b : read.getRecords().batches()) {
+                assertThat(b.isValid()).isTrue();
+                try (CloseableIterator<LogRecord> iter =
+                        b.records(filterContext.getReadContext())) {
+                    while (iter.hasNext()) {
+                        LogRecord record = iter.next();
+                        offsets.add(record.logOffset());
+                        values.add(record.getRow().getInt(0));
+                    }
+                }
+            }
+            assertThat(offsets).containsExactly(52L, 53L);
+            assertThat(values).containsExactly(7, 8);
+
+            // the trailing rows of the batch are filtered out, the client skips to the end of it
+            assertThat(read.hasFilteredEndOffset()).isTrue();
+            assertThat(read.getFilteredEndOffset()).isEqualTo(56);
+        }
+    }
+
+    @Test
+    void testReadWithRowFilterAndProjection() throws Exception {
+        LogSegment segment = createSegment(40);
+
+        // values [7,1,2,3,...] — only the first and the last row pass filter "a > 5", the rows
+        // between them are more than the header of another batch
+        List<Object[]> batchData = new ArrayList<>();
+        batchData.add(new Object[] {7, "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa"});
+        for (int i = 0; i < 20; i++) {
+            batchData.add(new Object[] {1, "bbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb"});
+        }
+        batchData.add(new Object[] {9, "cccccccccccccccccccccccccccccccccccccccc"});
+        MemoryLogRecords batch =
+                LogRecordBatchStatisticsTestUtils.createLogRecordsWithStatistics(
+                        batchData, DATA1_ROW_TYPE, 50, DEFAULT_SCHEMA_ID);
+        segment.append(71, -1L, -1L, batch);
+
+        PredicateBuilder builder = new PredicateBuilder(DATA1_ROW_TYPE);
+        Predicate filter = builder.greaterThan(0, 5);
+
+        FileLogProjection projection = new FileLogProjection(new ProjectionPushdownCache());
+        projection.setCurrentProjection(
+                1L, TEST_SCHEMA_GETTER, ArrowCompressionInfo.NO_COMPRESSION, new int[] {0});
+
+        try (FilterContext filterContext =
+                new FilterContext(
+                        filter,
+                        LogRecordReadContext.createArrowReadContext(
+                                DATA1_ROW_TYPE, DEFAULT_SCHEMA_ID, TEST_SCHEMA_GETTER),
+                        DEFAULT_SCHEMA_ID,
+                        TEST_SCHEMA_GETTER,
+                        new RowFilterBudget(Long.MAX_VALUE),
+                        writerPool,
+                        1L,
+                        ArrowCompressionInfo.NO_COMPRESSION)) {
+            FetchDataInfo read =
+                    segment.read(
+                            50, 1000, segment.getSizeInBytes(), true, projection, filterContext);
+            assertThat(read).isNotNull();
+
+            // one batch per matching row, keeping the offsets of the rows
+            List<Long> baseOffsets = new ArrayList<>();
+            for (LogRecordBatch b : read.getRecords().batches()) {
+                assertThat(b.isValid()).isTrue();
+                assertThat(b.getRecordCount()).isEqualTo(1);
+                baseOffsets.add(b.baseLogOffset());
+            }
+            assertThat(baseOffsets).containsExactly(50L, 71L);
+            assertThat(read.getFilteredEndOffset()).isEqualTo(72);
+        }
+    }
+
+    @Test
+    void testReadWithExhaustedRowFilterBudgetReturnsWholeBatch() throws Exception {
+        LogSegment segment = createSegment(40);
+
+        List<Object[]> batchData =
+                Arrays.asList(new Object[] {1, "a"}, new Object[] {7, "b"}, new Object[] {2, "c"});
+        MemoryLogRecords batch =
+                LogRecordBatchStatisticsTestUtils.createLogRecordsWithStatistics(
+                        batchData, DATA1_ROW_TYPE, 50, DEFAULT_SCHEMA_ID);
+        segment.append(52, -1L, -1L, batch);
+
+        PredicateBuilder builder = new PredicateBuilder(DATA1_ROW_TYPE);
+        Predicate filter = builder.greaterThan(0, 5);
+
+        try (FilterContext filterContext =
+                new FilterContext(
+                        filter,
+                        LogRecordReadContext.createArrowReadContext(
+                                DATA1_ROW_TYPE, DEFAULT_SCHEMA_ID, TEST_SCHEMA_GETTER),
+                        DEFAULT_SCHEMA_ID,
+                        TEST_SCHEMA_GETTER,
+                        new RowFilterBudget(0),
+                        writerPool,
+                        1L,
+                        ArrowCompressionInfo.NO_COMPRESSION)) {
+            FetchDataInfo read =
+                    segment.read(50, 1000, segment.getSizeInBytes(), true, null, filterContext);
+            assertThat(read).isNotNull();
+            // falls back to the batch-level filter
+            assertThat(read.getRecords().sizeInBytes()).isEqualTo(batch.sizeInBytes());
+            assertThat(read.hasFilteredEndOffset()).isFalse();
+        }
+    }
+
     private LogSegment createSegment(long baseOffset) throws IOException {
         return createSegment(baseOffset, 10);
     }
@@ -35,10 +35,10 @@ import org.junit.jupiter.params.provider.ValueSource;
 import java.io.File;
 import java.io.InputStream;
 import java.nio.file.StandardCopyOption;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -46,21 +46,16 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 /** Test for {@link DefaultRemoteLogStorage}. */
 class DefaultRemoteLogStorageTest extends RemoteLogTestBase {
     private DefaultRemoteLogStorage remoteLogStorageManager;
-    private ExecutorService ioExecutor;
 
     @BeforeEach
     public void setup() throws Exception {
         super.setup();
-        ioExecutor = Executors.newSingleThreadExecutor();
-        remoteLogStorageManager = new DefaultRemoteLogStorage(conf, ioExecutor);
+        remoteLogStorageManager = new DefaultRemoteLogStorage(conf);
     }
 
     @AfterEach
     public void teardown() throws Exception {
         remoteLogStorageManager.close();
-        if (ioExecutor != null) {
-            ioExecutor.shutdown();
-        }
     }
 
     @ParameterizedTest
@@ -84,6 +79,33 @@ class DefaultRemoteLogStorageTest extends RemoteLogTestBase {
         }
     }
 
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void testCopyLogSegmentFilesFailed(boolean partitionTable) throws Exception {
+        LogTablet logTablet = makeLogTabletAndAddSegments(partitionTable);
+        RemoteLogSegment remoteLogSegment = createRemoteLogSegmentList(logTablet).get(0);
+        // the local files don't exist
+        LogSegmentFiles logSegmentFiles =
+                new LogSegmentFiles(
+                        new File(tempDir, "00000000000000000000.log").toPath(),
+                        new File(tempDir, "00000000000000000000.index").toPath(),
+                        new File(tempDir, "00000000000000000000.timeindex").toPath(),
+                        null);
+
+        assertThat(
+                        remoteLogStorageManager.copyLogSegmentFilesAsync(
+                                remoteLogSegment, logSegmentFiles))
+                .failsWithin(Duration.ofMinutes(1))
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(RemoteStorageException.class);
+        assertThatThrownBy(
+                        () ->
+                                remoteLogStorageManager.copyLogSegmentFiles(
+                                        remoteLogSegment, logSegmentFiles))
+                .isInstanceOf(RemoteStorageException.class)
+                .hasMessageContaining("Failed to copy log segment and indexes to remote");
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     void testDeleteRemoteLogSegment(boolean partitionTable) throws Exception {
@@ -20,6 +20,8 @@ package org.apache.fluss.server.log.remote;
 import org.apache.fluss.config.ConfigOptions;
 import org.apache.fluss.fs.FsPath;
 import org.apache.fluss.metadata.TableBucket;
+import org.apache.fluss.record.LogRecordBatch;
+import org.apache.fluss.record.LogRecords;
 import org.apache.fluss.remote.RemoteLogFetchInfo;
 import org.apache.fluss.remote.RemoteLogSegment;
 import org.apache.fluss.rpc.entity.FetchLogResultForBucket;
@@ -34,12 +36,14 @@ import org.apache.fluss.server.replica.Replica;
 import org.apache.fluss.server.replica.ReplicaManager;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -54,6 +58,7 @@ import static org.apache.fluss.record.TestData.DATA1_TABLE_ID;
 import static org.apache.fluss.record.TestData.DATA1_TABLE_PATH;
 import static org.apache.fluss.record.TestData.DATA1_TABLE_PATH_PK;
 import static org.apache.fluss.server.zk.data.LeaderAndIsr.INITIAL_LEADER_EPOCH;
+import static org.apache.fluss.testutils.common.CommonTestUtils.retry;
 import static org.apache.fluss.utils.FlussPaths.remoteLogDir;
 import static org.apache.fluss.utils.FlussPaths.remoteLogTabletDir;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -145,6 +150,9 @@ class RemoteLogManagerTest extends RemoteLogTestBase {
         assertThat(remoteLog.allRemoteLogSegments())
                 .hasSize(4)
                 .allSatisfy(s -> assertThat(s.maxTimestamp()).isEqualTo(ts1));
+        assertThat(remoteLogStorage.maxInflightCopies.get())
+                .isLessThanOrEqualTo(
+                        conf.get(ConfigOptions.REMOTE_LOG_TASK_MAX_INFLIGHT_UPLOAD_SEGMENTS));
 
         // write 4 segments after 4 days
         manualClock.advanceTime(Duration.ofDays(4));
@@ -360,6 +368,55 @@ class RemoteLogManagerTest extends RemoteLogTestBase {
         assertThat(resultForBucket.fetchFromRemote()).isFalse();
     }
 
+    @Test
+    void testFetchProjectedRecordsFromRemoteSegmentCache() throws Exception {
+        TableBucket tb = makeTableBucket(false);
+        makeLogTableAsLeader(tb, false);
+        LogTablet logTablet = replicaManager.getReplicaOrException(tb).getLogTablet();
+        addMultiSegmentsToLogTablet(logTablet, 5);
+        remoteLogTaskScheduler.triggerPeriodicScheduledTasks();
+        logTablet.updateRemoteLogEndOffset(40L);
+        RemoteLogSegment firstSegment = remoteLogManager.relevantRemoteLogSegments(tb, 0L).get(0);
+        FetchReqInfo fetchReqInfo =
+                new FetchReqInfo(tb.getTableId(), 0L, 1024 * 1024, new int[] {0});
+
+        // 1. the segment is not cached yet, the client reads the remote log by itself.
+        FetchLogResultForBucket resultForBucket = fetchLog(tb, fetchReqInfo);
+        assertThat(resultForBucket.fetchFromRemote()).isTrue();
+
+        // 2. the projected records are read from the cached segment in server.
+        retry(
+                Duration.ofMinutes(1),
+                () -> assertThat(fetchLog(tb, fetchReqInfo).fetchFromRemote()).isFalse());
+        resultForBucket = fetchLog(tb, fetchReqInfo);
+        assertThat(resultForBucket.getError()).isEqualTo(ApiError.NONE);
+        assertThat(resultForBucket.getHighWatermark()).isEqualTo(50L);
+        LogRecords records = resultForBucket.records();
+        assertThat(records).isNotNull();
+        List<Long> baseOffsets = new ArrayList<>();
+        for (LogRecordBatch batch : records.batches()) {
+            baseOffsets.add(batch.baseLogOffset());
+        }
+        assertThat(baseOffsets).containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+        assertThat(records.sizeInBytes()).isLessThan(firstSegment.segmentSizeInBytes());
+
+        // 3. the fetches without projection and filter are still served by the client.
+        resultForBucket = fetchLog(tb, new FetchReqInfo(tb.getTableId(), 0L, 1024 * 1024));
+        assertThat(resultForBucket.fetchFromRemote()).isTrue();
+    }
+
+    private FetchLogResultForBucket fetchLog(TableBucket tb, FetchReqInfo fetchReqInfo)
+            throws Exception {
+        CompletableFuture<Map<TableBucket, FetchLogResultForBucket>> future =
+                new CompletableFuture<>();
+        replicaManager.fetchLogRecords(
+                new FetchParams(-1, Integer.MAX_VALUE),
+                Collections.singletonMap(tb, fetchReqInfo),
+                null,
+                future::complete);
+        return future.get().get(tb);
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     void testCleanupLocalSegments(boolean partitionTable) throws Exception {
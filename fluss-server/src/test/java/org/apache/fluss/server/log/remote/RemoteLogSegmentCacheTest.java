@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.fluss.server.log.remote;
+
+import org.apache.fluss.metadata.LogFormat;
+import org.apache.fluss.record.LogRecordBatch;
+import org.apache.fluss.record.LogRecords;
+import org.apache.fluss.remote.RemoteLogSegment;
+import org.apache.fluss.server.log.FetchDataInfo;
+import org.apache.fluss.server.log.LogSegment;
+import org.apache.fluss.server.log.LogTablet;
+import org.apache.fluss.utils.FlussPaths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.fluss.testutils.common.CommonTestUtils.retry;
+import static org.apache.fluss.testutils.common.CommonTestUtils.waitUntil;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link RemoteLogSegmentCache}. */
+class RemoteLogSegmentCacheTest extends RemoteLogTestBase {
+
+    private @TempDir File cacheDataDir;
+
+    @Test
+    void testReadRemoteLogSegment() throws Exception {
+        LogTablet logTablet = makeLogTabletAndAddSegments(false);
+        RemoteLogSegment remoteLogSegment = copyLogSegmentToRemote(logTablet, remoteLogStorage, 0);
+        LogSegment localSegment = logTablet.getSegments().get(0);
+        long readOffset = remoteLogSegment.remoteLogStartOffset() + 5;
+
+        try (RemoteLogSegmentCache cache =
+                new RemoteLogSegmentCache(1024 * 1024L, remoteLogStorage, cacheDataDir, conf, 1)) {
+            // the first read triggers the download of the segment
+            assertThat(read(cache, remoteLogSegment, readOffset)).isNull();
+            waitUntil(
+                    () -> read(cache, remoteLogSegment, readOffset) != null,
+                    Duration.ofMinutes(1),
+                    "Fail to wait for the remote log segment to be cached.");
+
+            FetchDataInfo fetchDataInfo = read(cache, remoteLogSegment, readOffset);
+            FetchDataInfo expected =
+                    localSegment.read(
+                            readOffset,
+                            Integer.MAX_VALUE,
+                            localSegment.getFileLogRecords().sizeInBytes(),
+                            true);
+            assertThat(fetchDataInfo.getRecords().sizeInBytes())
+                    .isEqualTo(expected.getRecords().sizeInBytes());
+            assertThat(baseOffsets(fetchDataInfo.getRecords()))
+                    .isEqualTo(baseOffsets(expected.getRecords()));
+            assertThat(fetchDataInfo.getFetchOffsetMetadata())
+                    .isEqualTo(expected.getFetchOffsetMetadata());
+
+            // the weight of the segment includes its offset index
+            File segmentDir =
+                    new File(
+                            new File(cacheDataDir, RemoteLogSegmentCache.DIR_NAME),
+                            remoteLogSegment.remoteLogSegmentId().toString());
+            long baseOffset = remoteLogSegment.remoteLogStartOffset();
+            long offsetIndexSize = FlussPaths.offsetIndexFile(segmentDir, baseOffset).length();
+            assertThat(offsetIndexSize).isPositive();
+            assertThat(cache.weightedSize())
+                    .isEqualTo(
+                            FlussPaths.logFile(segmentDir, baseOffset).length() + offsetIndexSize);
+        }
+        assertThat(new File(cacheDataDir, RemoteLogSegmentCache.DIR_NAME)).doesNotExist();
+    }
+
+    @Test
+    void testEvictRemoteLogSegment() throws Exception {
+        LogTablet logTablet = makeLogTabletAndAddSegments(false);
+        RemoteLogSegment segment0 = copyLogSegmentToRemote(logTablet, remoteLogStorage, 0);
+        RemoteLogSegment segment1 = copyLogSegmentToRemote(logTablet, remoteLogStorage, 1);
+        File cacheDir = new File(cacheDataDir, RemoteLogSegmentCache.DIR_NAME);
+
+        // the cache can only hold one segment
+        long maxSize = segment0.segmentSizeInBytes() + segment1.segmentSizeInBytes() - 1;
+        try (RemoteLogSegmentCache cache =
+                new RemoteLogSegmentCache(maxSize, remoteLogStorage, cacheDataDir, conf, 1)) {
+            long offset0 = segment0.remoteLogStartOffset();
+            read(cache, segment0, offset0);
+            waitUntil(
+                    () -> read(cache, segment0, offset0) != null,
+                    Duration.ofMinutes(1),
+                    "Fail to wait for the remote log segment to be cached.");
+            assertThat(new File(cacheDir, segment0.remoteLogSegmentId().toString())).exists();
+
+            long offset1 = segment1.remoteLogStartOffset();
+            read(cache, segment1, offset1);
+            waitUntil(
+                    () -> read(cache, segment1, offset1) != null,
+                    Duration.ofMinutes(1),
+                    "Fail to wait for the remote log segment to be cached.");
+            // the evicted segment is deleted from local disk
+            retry(
+                    Duration.ofMinutes(1),
+                    () ->
+                            assertThat(new File(cacheDir, segment0.remoteLogSegmentId().toString()))
+                                    .doesNotExist());
+            assertThat(new File(cacheDir, segment1.remoteLogSegmentId().toString())).exists();
+        }
+    }
+
+    private static FetchDataInfo read(
+            RemoteLogSegmentCache cache, RemoteLogSegment segment, long readOffset) {
+        try {
+            return cache.read(
+                    segment, LogFormat.ARROW, readOffset, Integer.MAX_VALUE, true, null, null);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static List<Long> baseOffsets(LogRecords records) {
+        List<Long> baseOffsets = new ArrayList<>();
+        for (LogRecordBatch batch : records.batches()) {
+            baseOffsets.add(batch.baseLogOffset());
+        }
+        return baseOffsets;
+    }
+}
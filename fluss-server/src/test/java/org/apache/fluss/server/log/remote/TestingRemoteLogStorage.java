@@ -21,9 +21,10 @@ import org.apache.fluss.config.Configuration;
 import org.apache.fluss.exception.RemoteStorageException;
 import org.apache.fluss.fs.FsPath;
 import org.apache.fluss.remote.RemoteLogSegment;
+import org.apache.fluss.utils.concurrent.FutureUtils;
 
 import java.io.IOException;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -36,30 +37,39 @@ public class TestingRemoteLogStorage extends DefaultRemoteLogStorage {
     public final AtomicBoolean writeManifestFail = new AtomicBoolean(false);
 
     /**
-     * When set to a non-negative value N, the first N calls to {@link #copyLogSegmentFiles} will
-     * succeed and the (N+1)th call will throw a {@link RemoteStorageException}. A negative value
-     * (default) disables this failure injection.
+     * When set to a non-negative value N, the first N calls to {@link #copyLogSegmentFilesAsync}
+     * will succeed and the following calls will fail with a {@link RemoteStorageException}. A
+     * negative value (default) disables this failure injection.
      */
     public final AtomicInteger copySegmentFailAfterNCopies = new AtomicInteger(-1);
 
+    /** The max number of segments being copied at the same time. */
+    public final AtomicInteger maxInflightCopies = new AtomicInteger(0);
+
     private final AtomicInteger copySegmentCount = new AtomicInteger(0);
+    private final AtomicInteger inflightCopies = new AtomicInteger(0);
 
-    public TestingRemoteLogStorage(Configuration conf, ExecutorService ioExecutor)
-            throws IOException {
-        super(conf, ioExecutor);
+    public TestingRemoteLogStorage(Configuration conf) throws IOException {
+        super(conf);
     }
 
     @Override
-    public void copyLogSegmentFiles(
-            RemoteLogSegment remoteLogSegment, LogSegmentFiles logSegmentFiles)
-            throws RemoteStorageException {
+    public CompletableFuture<Void> copyLogSegmentFilesAsync(
+            RemoteLogSegment remoteLogSegment, LogSegmentFiles logSegmentFiles) {
+        maxInflightCopies.accumulateAndGet(inflightCopies.incrementAndGet(), Math::max);
+        CompletableFuture<Void> copyFuture;
         int failAfter = copySegmentFailAfterNCopies.get();
-        if (failAfter >= 0 && copySegmentCount.get() >= failAfter) {
-            throw new RemoteStorageException(
-                    "Simulated copy failure after " + failAfter + " successful copies");
+        if (failAfter >= 0 && copySegmentCount.getAndIncrement() >= failAfter) {
+            copyFuture =
+                    FutureUtils.completedExceptionally(
+                            new RemoteStorageException(
+                                    "Simulated copy failure after "
+                                            + failAfter
+                                            + " successful copies"));
+        } else {
+            copyFuture = super.copyLogSegmentFilesAsync(remoteLogSegment, logSegmentFiles);
         }
-        super.copyLogSegmentFiles(remoteLogSegment, logSegmentFiles);
-        copySegmentCount.incrementAndGet();
+        return copyFuture.whenComplete((ignored, throwable) -> inflightCopies.decrementAndGet());
     }
 
     @Override
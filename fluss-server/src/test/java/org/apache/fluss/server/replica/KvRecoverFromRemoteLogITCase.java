@@ -38,8 +38,9 @@ import org.apache.fluss.server.zk.data.TableAssignment;
 import org.apache.fluss.utils.ExceptionUtils;
 import org.apache.fluss.utils.types.Tuple2;
 
-import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -78,6 +79,9 @@ import static org.assertj.core.api.Assertions.assertThat;
  *   <li>Promote follower to leader → new leader downloads S1 → recovers gap from remote log.
  *   <li>Verify all data via lookup.
  * </ol>
+ *
+ * <p>The test runs with and without bulk load enabled on the promoted follower, the former reads
+ * the remote and local log ahead and ingests the replayed log into the kv as sst files.
  */
 class KvRecoverFromRemoteLogITCase {
     @RegisterExtension
@@ -87,10 +91,11 @@ class KvRecoverFromRemoteLogITCase {
                     .setClusterConf(initConfig())
                     .build();
 
-    @Test
-    void testKvRecoverFromRemoteLogAfterLeaderTransfer() throws Exception {
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void testKvRecoverFromRemoteLogAfterLeaderTransfer(boolean bulkLoad) throws Exception {
         // Step 1: Create a PK table with 1 bucket and replication factor 3.
-        TablePath tablePath = TablePath.of("test_db", "test_kv_recover_from_remote");
+        TablePath tablePath = TablePath.of("test_db", "test_kv_recover_from_remote_" + bulkLoad);
         TableDescriptor tableDescriptor =
                 TableDescriptor.builder().schema(DATA1_SCHEMA_PK).distributedBy(1, "a").build();
 
@@ -183,7 +188,7 @@ class KvRecoverFromRemoteLogITCase {
         // The leader detects canFetchFromRemoteLog(0) == true and returns RemoteLogFetchInfo.
         // The follower calls processFetchResultFromRemoteStorage which sets
         // localLogStartOffset = remoteLogEndOffset (>> snapshotLogOffset).
-        FLUSS_CLUSTER_EXTENSION.startTabletServer(followerToPromote);
+        FLUSS_CLUSTER_EXTENSION.startTabletServer(followerToPromote, followerConfig(bulkLoad));
         FLUSS_CLUSTER_EXTENSION.waitUntilReplicaExpandToIsr(tableBucket, followerToPromote);
 
         // =====================================================================
@@ -299,6 +304,14 @@ class KvRecoverFromRemoteLogITCase {
         return conf;
     }
 
+    private static Configuration followerConfig(boolean bulkLoad) {
+        Configuration conf = new Configuration();
+        conf.set(ConfigOptions.KV_RECOVER_BULK_LOAD_ENABLED, bulkLoad);
+        // Small buffer to ingest the replayed log as several sst files.
+        conf.set(ConfigOptions.KV_RECOVER_BULK_LOAD_BUFFER_SIZE, MemorySize.parse("1kb"));
+        return conf;
+    }
+
     private CompletableFuture<?> putRecordBatch(
             TableBucket tableBucket, int leaderServer, KvRecordBatch kvRecordBatch) {
         PutKvRequest putKvRequest =
@@ -24,6 +24,7 @@ import org.apache.fluss.config.ConfigOptions;
 import org.apache.fluss.exception.InvalidCoordinatorException;
 import org.apache.fluss.exception.InvalidRequiredAcksException;
 import org.apache.fluss.exception.NotLeaderOrFollowerException;
+import org.apache.fluss.exception.StorageException;
 import org.apache.fluss.exception.UnknownTableOrBucketException;
 import org.apache.fluss.metadata.DataLakeFormat;
 import org.apache.fluss.metadata.KvFormat;
@@ -87,6 +88,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import javax.annotation.Nullable;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -1518,6 +1520,8 @@ class ReplicaManagerTest extends ReplicaTestBase {
         assertThat(future.get()).containsOnly(new NotifyLeaderAndIsrResultForBucket(tb));
         assertReplicaEpochEquals(
                 replicaManager.getReplicaOrException(tb), true, 1, INITIAL_BUCKET_EPOCH);
+        assertThat(replicaManager.getArrowCompressionInfo(DATA1_TABLE_ID))
+                .isSameAs(replicaManager.getReplicaOrException(tb).getArrowCompressionInfo());
 
         // stop replica.
         CompletableFuture<List<StopReplicaResultForBucket>> future1 = new CompletableFuture<>();
@@ -1529,6 +1533,8 @@ class ReplicaManagerTest extends ReplicaTestBase {
         assertThat(future1.get()).containsOnly(new StopReplicaResultForBucket(tb));
         ReplicaManager.HostedReplica hostedReplica = replicaManager.getReplica(tb);
         assertThat(hostedReplica).isInstanceOf(ReplicaManager.NoneReplica.class);
+        // the compression info of the table is released with its last replica
+        assertThat(replicaManager.getArrowCompressionInfo(DATA1_TABLE_ID)).isNull();
 
         // make tb as leader again.
         future = new CompletableFuture<>();
@@ -2044,7 +2050,14 @@ class ReplicaManagerTest extends ReplicaTestBase {
         assertThat(replicaManager.getReplicaOrException(tb).getTableBucket()).isEqualTo(tb);
 
         // 2. Test offline replica
-        // TODO: Add test for offline replica
+        File dataDir = replicaManager.getReplicaOrException(tb).getDataDir();
+        replicaManager.handleDataDirFailure(dataDir);
+        assertThat(replicaManager.getReplica(tb)).isInstanceOf(ReplicaManager.OfflineReplica.class);
+        assertThat(logManager.getLog(tb)).isNotPresent();
+        assertThatThrownBy(() -> replicaManager.getReplicaOrException(tb))
+                .isInstanceOf(StorageException.class)
+                .hasMessageContaining("is offline");
+        assertThat(testCoordinatorGateway.reportedOfflineBuckets).contains(tb);
 
         // 3. Test not leader or follower replica
         Set<ServerInfo> tsServerInfoList =
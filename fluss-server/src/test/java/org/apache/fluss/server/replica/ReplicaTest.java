@@ -748,6 +748,70 @@ final class ReplicaTest extends ReplicaTestBase {
         verifyGetKeyValues(kvTablet, expectedKeyValues);
     }
 
+    @Test
+    void testRestoreWithBulkLoad(@TempDir Path snapshotKvTabletDirPath) throws Exception {
+        TableBucket tableBucket = new TableBucket(DATA1_TABLE_ID_PK, 1);
+        TestSnapshotContext testKvSnapshotContext =
+                new TestSnapshotContext(snapshotKvTabletDirPath.toString());
+        // a small buffer to ingest many sst files, and the log is larger than the max fetch size
+        // of the recovery, so that the local log is prefetched in several chunks
+        testKvSnapshotContext.setBulkLoadBufferSizeInRecoverKv(256);
+        ManuallyTriggeredScheduledExecutorService scheduledExecutorService =
+                testKvSnapshotContext.scheduledExecutorService;
+        TestingCompletedKvSnapshotCommitter kvSnapshotStore =
+                testKvSnapshotContext.testKvSnapshotStore;
+
+        Replica kvReplica =
+                makeKvReplica(DATA1_PHYSICAL_TABLE_PATH_PK, tableBucket, testKvSnapshotContext);
+        makeKvReplicaAsLeader(kvReplica);
+        // each round updates a sliding range of keys and deletes the key before the range
+        int rounds = 20;
+        for (int round = 0; round < rounds; round++) {
+            List<Object[]> values = new ArrayList<>();
+            for (int key = round; key < round + 10; key++) {
+                values.add(new Object[] {key, "v" + round});
+            }
+            putRecordsToLeader(kvReplica, genKvRecordBatch(values.toArray(new Object[0][])));
+            if (round > 0) {
+                putRecordsToLeader(
+                        kvReplica,
+                        genKvRecordBatch(
+                                Collections.singletonList(
+                                        Tuple2.of(new Object[] {round - 1}, null))));
+            }
+        }
+        assertThat(kvReplica.getLogTablet().localLogEndOffset()).isGreaterThan(rounds * 10L);
+
+        // make a kv replica again, should restore from log by bulk load
+        makeKvReplicaAsFollower(kvReplica, 1);
+        makeKvReplicaAsLeader(kvReplica, 2);
+        List<Tuple2<byte[], byte[]>> expectedKeyValues = new ArrayList<>();
+        for (int key = 0; key < rounds - 1; key++) {
+            expectedKeyValues.add(Tuple2.of(keyOf(key), null));
+        }
+        for (int key = rounds - 1; key < rounds + 9; key++) {
+            expectedKeyValues.addAll(
+                    getKeyValuePairs(genKvRecords(new Object[] {key, "v" + (rounds - 1)})));
+        }
+        verifyGetKeyValues(kvReplica.getKvTablet(), expectedKeyValues);
+
+        // trigger a snapshot (task has been scheduled after becoming leader)
+        scheduledExecutorService.triggerAllNonPeriodicTasks();
+        kvSnapshotStore.waitUntilSnapshotComplete(tableBucket, 0);
+
+        // the ingested sst files should override the data restored from the snapshot
+        putRecordsToLeader(kvReplica, genKvRecordBatch(new Object[] {rounds, "updated"}));
+        putRecordsToLeader(
+                kvReplica,
+                genKvRecordBatch(
+                        Collections.singletonList(Tuple2.of(new Object[] {rounds - 1}, null))));
+        makeKvReplicaAsLeader(kvReplica, 3);
+        expectedKeyValues.set(rounds - 1, Tuple2.of(keyOf(rounds - 1), null));
+        expectedKeyValues.set(
+                rounds, getKeyValuePairs(genKvRecords(new Object[] {rounds, "updated"})).get(0));
+        verifyGetKeyValues(kvReplica.getKvTablet(), expectedKeyValues);
+    }
+
     @Test
     void testUpdateIsDataLakeEnabled() throws Exception {
         Replica logReplica =
@@ -883,6 +947,10 @@ final class ReplicaTest extends ReplicaTestBase {
         return putRecordsToLeader(replica, kvRecords, null);
     }
 
+    private static byte[] keyOf(int key) {
+        return getKeyValuePairs(genKvRecords(new Object[] {key, null})).get(0).f0;
+    }
+
     private void verifyGetKeyValues(
             KvTablet kvTablet, List<Tuple2<byte[], byte[]>> expectedKeyValues) throws IOException {
         List<byte[]> keys = new ArrayList<>();
@@ -491,6 +491,7 @@ public class ReplicaTestBase {
                                 new File(
                                         conf.getString(ConfigOptions.DATA_DIR),
                                         HIGH_WATERMARK_CHECKPOINT_FILE_NAME))),
+                true,
                 replicaManager.getDelayedWriteManager(),
                 replicaManager.getDelayedFetchLogManager(),
                 replicaManager.getAdjustIsrManager(),
@@ -499,12 +500,13 @@ public class ReplicaTestBase {
                 NOPErrorHandler.INSTANCE,
                 metricGroup,
                 DATA1_TABLE_INFO,
+                DATA1_TABLE_INFO.getTableConfig().getArrowCompressionInfo(),
                 manualClock,
                 remoteLogManager);
     }
 
     private void initRemoteLogEnv() throws Exception {
-        remoteLogStorage = new TestingRemoteLogStorage(conf, ioExecutor);
+        remoteLogStorage = new TestingRemoteLogStorage(conf);
         remoteLogTaskScheduler = new ManuallyTriggeredScheduledExecutorService();
         remoteLogManager =
                 new RemoteLogManager(
@@ -583,6 +585,9 @@ public class ReplicaTestBase {
         protected final TestingCompletedKvSnapshotCommitter testKvSnapshotStore;
         private final ExecutorService executorService;
 
+        /** The buffer size of bulk loading the log during recovering kv, disabled by default. */
+        private long bulkLoadBufferSizeInRecoverKv = -1L;
+
         public TestSnapshotContext(
                 String remoteKvTabletDir, TestingCompletedKvSnapshotCommitter testKvSnapshotStore)
                 throws Exception {
@@ -678,6 +683,15 @@ public class ReplicaTestBase {
             return 1024;
         }
 
+        @Override
+        public long bulkLoadBufferSizeInRecoverKv() {
+            return bulkLoadBufferSizeInRecoverKv;
+        }
+
+        public void setBulkLoadBufferSizeInRecoverKv(long bulkLoadBufferSizeInRecoverKv) {
+            this.bulkLoadBufferSizeInRecoverKv = bulkLoadBufferSizeInRecoverKv;
+        }
+
         private void unchecked(ThrowingRunnable<?> throwingRunnable) {
             ThrowingRunnable.unchecked(throwingRunnable).run();
         }
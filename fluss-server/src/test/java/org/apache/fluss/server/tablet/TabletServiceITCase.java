@@ -20,6 +20,7 @@ package org.apache.fluss.server.tablet;
 import org.apache.fluss.config.ConfigOptions;
 import org.apache.fluss.exception.FlussRuntimeException;
 import org.apache.fluss.exception.InvalidRequiredAcksException;
+import org.apache.fluss.exception.InvalidScanRequestException;
 import org.apache.fluss.metadata.KvFormat;
 import org.apache.fluss.metadata.LogFormat;
 import org.apache.fluss.metadata.PhysicalTablePath;
@@ -51,6 +52,8 @@ import org.apache.fluss.rpc.messages.PbPrefixLookupRespForBucket;
 import org.apache.fluss.rpc.messages.PbPutKvRespForBucket;
 import org.apache.fluss.rpc.messages.ProduceLogResponse;
 import org.apache.fluss.rpc.messages.PutKvResponse;
+import org.apache.fluss.rpc.messages.ScanKvRequest;
+import org.apache.fluss.rpc.messages.ScanKvResponse;
 import org.apache.fluss.rpc.protocol.Errors;
 import org.apache.fluss.server.entity.NotifyLeaderAndIsrData;
 import org.apache.fluss.server.entity.NotifyLeaderAndIsrResultForBucket;
@@ -710,6 +713,68 @@ public class TabletServiceITCase {
                 leaderGateWay.limitScan(newLimitScanRequest(tableId, 0, 3)).get(), builder.build());
     }
 
+    @Test
+    void testScanKv() throws Exception {
+        long tableId =
+                createTable(
+                        FLUSS_CLUSTER_EXTENSION, DATA1_TABLE_PATH_PK, DATA1_TABLE_DESCRIPTOR_PK);
+        TableBucket tb = new TableBucket(tableId, 0);
+        FLUSS_CLUSTER_EXTENSION.waitUntilAllReplicaReady(tb);
+        int leader = FLUSS_CLUSTER_EXTENSION.waitAndGetLeader(tb);
+        TabletServerGateway leaderGateWay =
+                FLUSS_CLUSTER_EXTENSION.newTabletServerClientForNode(leader);
+
+        // neither scanner_id nor bucket_scan_req is set
+        assertThatThrownBy(() -> leaderGateWay.scanKv(new ScanKvRequest()).get())
+                .rootCause()
+                .isInstanceOf(InvalidScanRequestException.class);
+
+        assertPutKvResponse(
+                leaderGateWay
+                        .putKv(
+                                newPutKvRequest(
+                                        tableId,
+                                        0,
+                                        -1,
+                                        genKvRecordBatch(DATA_1_WITH_KEY_AND_VALUE)))
+                        .get());
+
+        // scan with 1 byte per batch, so that each response contains exactly one record
+        ScanKvRequest openRequest = new ScanKvRequest().setCallSeqId(0).setBatchSizeBytes(1);
+        openRequest.setBucketScanReq().setTableId(tableId).setBucketId(0);
+        ScanKvResponse response = leaderGateWay.scanKv(openRequest).get();
+        assertThat(response.hasErrorCode()).isFalse();
+        assertThat(response.isHasMoreResults()).isTrue();
+        assertThat(response.getLogOffset()).isEqualTo(8L);
+        DefaultValueRecordBatch.Builder builder = DefaultValueRecordBatch.builder();
+        builder.append(DEFAULT_SCHEMA_ID, compactedRow(DATA1_ROW_TYPE, new Object[] {1, "a1"}));
+        assertThat(DefaultValueRecordBatch.pointToBytes(response.getRecords()))
+                .isEqualTo(builder.build());
+
+        byte[] scannerId = response.getScannerId();
+        response =
+                leaderGateWay
+                        .scanKv(
+                                new ScanKvRequest()
+                                        .setScannerId(scannerId)
+                                        .setCallSeqId(1)
+                                        .setBatchSizeBytes(1))
+                        .get();
+        assertThat(response.isHasMoreResults()).isFalse();
+        assertThat(response.hasLogOffset()).isFalse();
+        builder = DefaultValueRecordBatch.builder();
+        builder.append(DEFAULT_SCHEMA_ID, compactedRow(DATA1_ROW_TYPE, new Object[] {2, "b1"}));
+        assertThat(DefaultValueRecordBatch.pointToBytes(response.getRecords()))
+                .isEqualTo(builder.build());
+
+        // the scanner is closed once the scan is complete
+        response =
+                leaderGateWay
+                        .scanKv(new ScanKvRequest().setScannerId(scannerId).setCallSeqId(2))
+                        .get();
+        assertThat(response.getErrorCode()).isEqualTo(Errors.UNKNOWN_SCANNER_ID.code());
+    }
+
     @Test
     void testLimitScanLogTable() throws Exception {
         long logTableId =
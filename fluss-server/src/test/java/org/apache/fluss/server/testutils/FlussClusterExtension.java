@@ -312,7 +312,8 @@ public final class FlussClusterExtension
         startTabletServer(serverId, null);
     }
 
-    private void startTabletServer(int serverId, @Nullable Configuration overwriteConfig)
+    /** Start a new tablet server with the given configuration overwriting the cluster one. */
+    public void startTabletServer(int serverId, @Nullable Configuration overwriteConfig)
             throws Exception {
         String rackName;
         if (racks.length <= serverId) {
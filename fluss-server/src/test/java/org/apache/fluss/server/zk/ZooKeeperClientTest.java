@@ -327,6 +327,42 @@ class ZooKeeperClientTest {
         }
     }
 
+    @Test
+    void testBatchUpdateLeaderAndIsrInBackground() throws Exception {
+        // more buckets than a single transaction can hold
+        int totalCount = 1500;
+        Map<TableBucket, LeaderAndIsr> updateLeaderAndIsrList = new HashMap<>();
+        for (int i = 0; i < totalCount; i++) {
+            TableBucket tableBucket = new TableBucket(1, i);
+            LeaderAndIsr leaderAndIsr = new LeaderAndIsr(i, 10, Arrays.asList(i, i + 1), 0, 1000);
+            zookeeperClient.registerLeaderAndIsr(
+                    tableBucket, leaderAndIsr, zkEpoch.getCoordinatorEpochZkVersion());
+            updateLeaderAndIsrList.put(
+                    tableBucket, leaderAndIsr.newLeaderAndIsr(i + 1, leaderAndIsr.isr()));
+        }
+        // the LeaderAndIsr of this bucket is never registered, so only it fails
+        TableBucket unknownBucket = new TableBucket(2, 0);
+        updateLeaderAndIsrList.put(
+                unknownBucket, new LeaderAndIsr(1, 0, Collections.singletonList(1), 0, 0));
+
+        Map<TableBucket, Exception> failures =
+                zookeeperClient.batchUpdateLeaderAndIsrInBackground(
+                        updateLeaderAndIsrList, zkEpoch.getCoordinatorEpochZkVersion());
+        assertThat(failures).containsOnlyKeys(unknownBucket);
+        assertThat(failures.get(unknownBucket)).isInstanceOf(KeeperException.NoNodeException.class);
+        updateLeaderAndIsrList.remove(unknownBucket);
+        assertThat(zookeeperClient.getLeaderAndIsrs(updateLeaderAndIsrList.keySet()))
+                .isEqualTo(updateLeaderAndIsrList);
+
+        // all buckets fail with a stale coordinator epoch
+        failures =
+                zookeeperClient.batchUpdateLeaderAndIsrInBackground(
+                        updateLeaderAndIsrList, zkEpoch.getCoordinatorEpochZkVersion() + 1);
+        assertThat(failures).containsOnlyKeys(updateLeaderAndIsrList.keySet());
+        assertThat(failures.values())
+                .allMatch(e -> e instanceof KeeperException.BadVersionException);
+    }
+
     @Test
     void testTable() throws Exception {
         TablePath tablePath1 = TablePath.of("db", "tb1");